@@ -0,0 +1,228 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.oceanbase.jdbc.internal.com.read.dao.Results;
+import com.oceanbase.jdbc.internal.protocol.Protocol;
+import com.oceanbase.jdbc.internal.util.scheduler.SchedulerServiceProviderHolder;
+
+/**
+ * Asynchronous executions of a connection.
+ *
+ * <p>Executions are run in submission order on the shared bulk thread-pool (or on the submitting
+ * thread if the pool is saturated). All executions waiting when the connection lock is obtained
+ * are sent together with {@link Protocol#executePipelinedQueries}, so that a connection can have
+ * several independent queries in flight.
+ */
+final class AsyncExecutionQueue {
+
+    private final OceanBaseConnection   connection;
+    private final Queue<AsyncExecution> pending  = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean         draining = new AtomicBoolean();
+
+    AsyncExecutionQueue(OceanBaseConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Queue an execution.
+     *
+     * @param statement statement executing query
+     * @param sql query, already escaped
+     * @param results query results
+     * @return future completed with results once read
+     */
+    CompletableFuture<Results> submit(OceanBaseStatement statement, String sql, Results results) {
+        AsyncExecution execution = new AsyncExecution(statement, sql, results);
+        pending.add(execution);
+        if (draining.compareAndSet(false, true)) {
+            try {
+                SchedulerServiceProviderHolder.getBulkScheduler().execute(this::drain);
+            } catch (RejectedExecutionException r) {
+                drain();
+            }
+        }
+        return execution.future;
+    }
+
+    private void drain() {
+        do {
+            try {
+                List<AsyncExecution> group;
+                do {
+                    // group is taken once connection is available, to send all waiting queries
+                    connection.lock.lock();
+                    try {
+                        group = nextGroup();
+                        execute(group);
+                    } finally {
+                        connection.lock.unlock();
+                    }
+                    complete(group);
+                } while (!group.isEmpty());
+            } finally {
+                draining.set(false);
+            }
+            // an execution may have been queued after last poll, before flag was reset
+        } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Next executions sharing the same max rows, since changing it requires its own command.
+     *
+     * @return executions to send together
+     */
+    private List<AsyncExecution> nextGroup() {
+        List<AsyncExecution> group = new ArrayList<>();
+        AsyncExecution execution = pending.poll();
+        if (execution != null) {
+            int maxGroupSize = Math.max(1, connection.getProtocol().getOptions().useBatchMultiSendNumber);
+            group.add(execution);
+            AsyncExecution next;
+            while (group.size() < maxGroupSize && (next = pending.peek()) != null
+                   && next.statement.maxRows == execution.statement.maxRows) {
+                group.add(pending.poll());
+            }
+        }
+        return group;
+    }
+
+    private void execute(List<AsyncExecution> group) {
+        Protocol protocol = connection.getProtocol();
+        List<AsyncExecution> sent = new ArrayList<>(group.size());
+        List<Results> resultsList = new ArrayList<>(group.size());
+        List<String> queries = new ArrayList<>(group.size());
+
+        try {
+            for (AsyncExecution execution : group) {
+                try {
+                    execution.statement.executeQueryPrologue(false);
+                    sent.add(execution);
+                    resultsList.add(execution.results);
+                    queries.add(execution.sql);
+                } catch (SQLException e) {
+                    execution.error = execution.statement.executeExceptionEpilogue(e);
+                    execution.statement.executeEpilogue();
+                }
+            }
+            if (!sent.isEmpty()) {
+                SQLException[] errors;
+                try {
+                    errors = protocol.executePipelinedQueries(protocol.isMasterConnection(),
+                        resultsList, queries);
+                } catch (SQLException e) {
+                    errors = new SQLException[sent.size()];
+                    for (int i = 0; i < errors.length; i++) {
+                        errors[i] = e;
+                    }
+                }
+                for (int i = 0; i < sent.size(); i++) {
+                    AsyncExecution execution = sent.get(i);
+                    try {
+                        if (errors[i] == null) {
+                            execution.results.commandEnd();
+                            execution.statement.results = execution.results;
+                        } else {
+                            execution.error = execution.statement.executeExceptionEpilogue(errors[i]);
+                        }
+                    } finally {
+                        execution.statement.executeEpilogue();
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            for (AsyncExecution execution : group) {
+                if (execution.error == null) {
+                    execution.error = new SQLException("Asynchronous execution failed", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Complete futures, outside of connection lock since dependent actions may use connection.
+     *
+     * @param group executed group
+     */
+    private void complete(List<AsyncExecution> group) {
+        for (AsyncExecution execution : group) {
+            if (execution.error != null) {
+                execution.future.completeExceptionally(execution.error);
+            } else {
+                execution.future.complete(execution.results);
+            }
+        }
+    }
+
+    private static final class AsyncExecution {
+
+        private final OceanBaseStatement         statement;
+        private final String                     sql;
+        private final Results                    results;
+        private final CompletableFuture<Results> future = new CompletableFuture<>();
+        private SQLException                     error;
+
+        private AsyncExecution(OceanBaseStatement statement, String sql, Results results) {
+            this.statement = statement;
+            this.sql = sql;
+            this.results = results;
+        }
+    }
+}
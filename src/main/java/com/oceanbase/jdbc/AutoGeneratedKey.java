@@ -54,18 +54,19 @@ import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
 
 public class AutoGeneratedKey {
 
-    private Protocol      protocol;
-    private int           sqlKind = OceanBaseStatement.STMT_UNINITIALIZED;
-    private String        originalSql;
-    private String        simpleSql;
-    private String        newSql;
-    private String        tableName;
-    int[]                 columnIndexes;
-    String[]              columnNames;
-    ColumnDefinition[]    columns;
-    int[]                 returnTypes;
-
-    public AutoGeneratedKey(final String sql, final int[] columnIndexes, final Protocol protocol) throws SQLException {
+    private Protocol   protocol;
+    private int        sqlKind = OceanBaseStatement.STMT_UNINITIALIZED;
+    private String     originalSql;
+    private String     simpleSql;
+    private String     newSql;
+    private String     tableName;
+    int[]              columnIndexes;
+    String[]           columnNames;
+    ColumnDefinition[] columns;
+    int[]              returnTypes;
+
+    public AutoGeneratedKey(final String sql, final int[] columnIndexes, final Protocol protocol)
+                                                                                                 throws SQLException {
         if (sql == null) {
             throw new SQLException("SQL can't be null");
         }
@@ -80,7 +81,8 @@ public class AutoGeneratedKey {
         parseSql();
     }
 
-    public AutoGeneratedKey(final String sql, final String[] columnNames, final Protocol protocol) throws SQLException {
+    public AutoGeneratedKey(final String sql, final String[] columnNames, final Protocol protocol)
+                                                                                                  throws SQLException {
         if (sql == null) {
             throw new SQLException("SQL can't be null");
         }
@@ -138,7 +140,8 @@ public class AutoGeneratedKey {
     }
 
     public void getColumnDefinition() throws SQLException {
-        ServerPrepareResult serverPrepareResult = protocol.prepare("select * from " + getTableName(),
+        ServerPrepareResult serverPrepareResult = protocol.prepare("select * from "
+                                                                   + getTableName(),
             protocol.isMasterConnection());
         columns = serverPrepareResult.getColumns();
         protocol.releasePrepareStatement(serverPrepareResult);
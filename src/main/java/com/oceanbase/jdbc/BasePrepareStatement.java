@@ -254,7 +254,8 @@ public abstract class BasePrepareStatement extends OceanBaseStatement implements
                     length = Long.MAX_VALUE;
                 }
             } catch (IOException e) {
-                throw new SQLException("Can't calculate whether the reader contains an empty string \"\" or not");
+                throw new SQLException(
+                    "Can't calculate whether the reader contains an empty string \"\" or not");
             }
         }
 
@@ -550,8 +551,8 @@ public abstract class BasePrepareStatement extends OceanBaseStatement implements
         if (protocol.isOracleMode()) {
             Timestamp timestamp = new Timestamp(date.getTime());
             if (options.compatibleOjdbcVersion == 6) {
-                timestamp = Timestamp.valueOf(timestamp.toLocalDateTime()
-                        .withHour(0).withMinute(0).withSecond(0));
+                timestamp = Timestamp.valueOf(timestamp.toLocalDateTime().withHour(0).withMinute(0)
+                    .withSecond(0));
             }
             timestamp.setNanos(0);
             setParameter(
@@ -653,7 +654,8 @@ public abstract class BasePrepareStatement extends OceanBaseStatement implements
                 return;
             }
             TimeZone tz = cal != null ? cal.getTimeZone() : protocol.getTimeZone();
-            setParameter(parameterIndex, new TimestampParameter(timestamp, tz, useFractionalSeconds));
+            setParameter(parameterIndex,
+                new TimestampParameter(timestamp, tz, useFractionalSeconds));
         }
     }
 
@@ -908,9 +910,10 @@ public abstract class BasePrepareStatement extends OceanBaseStatement implements
         }
 
         if (this.connection.getProtocol().isOracleMode()) {
-            setParameter(parameterIndex, new OBNStringParameter(value, noBackslashEscapes,
-                this.connection.getProtocol().getOptions().getCharacterEncoding(),
-                this.protocol.getOptions().nCharacterEncoding));
+            setParameter(parameterIndex,
+                new OBNStringParameter(value, noBackslashEscapes, this.connection.getProtocol()
+                    .getOptions().getCharacterEncoding(),
+                    this.protocol.getOptions().nCharacterEncoding));
         } else {
             setParameter(parameterIndex, new StringParameter(value, noBackslashEscapes,
                 this.connection.getProtocol().getOptions().getCharacterEncoding()));
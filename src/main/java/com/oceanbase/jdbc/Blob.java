@@ -390,38 +390,43 @@ public class Blob extends Lob implements java.sql.Blob {
      * @param length  date length to be write.
      * @throws SQLException if database error occur
      */
-    public synchronized void updateBlobToServer(long writeAt, byte[] bytes, int offset, int length)
-                                                                                                   throws SQLException {
-        if (this.locator == null || this.locator.connection == null) {
-            throw new SQLException("Invalid operation on closed BLOB");
-        }
-
-        int writeAmount, writeOffset = (int) writeAt, localOffset = offset, lengthLeft = length;
-        try (java.sql.CallableStatement cstmt = this.locator.connection.prepareCall("{call DBMS_LOB.write( ?, ?, ?, ?)}")) {
-            ((OceanBaseStatement) cstmt).setInternal();
-            while (lengthLeft > 0) {
-                writeAmount = Math.min(lengthLeft, DBMS_LOB_MAX_AMOUNT);
-                byte[] writeBuffer = new byte[writeAmount];
-                System.arraycopy(bytes, localOffset, writeBuffer, 0, writeAmount);
-
-                ((BasePrepareStatement) cstmt).setLobLocator(1, this);
-                cstmt.setInt(2, writeAmount);
-                cstmt.setInt(3, writeOffset);
-                cstmt.setBytes(4, writeBuffer);
-                cstmt.registerOutParameter(1, Types.BLOB);
-                cstmt.execute();
-
-                writeOffset += writeAmount;
-                localOffset += writeAmount;
-                lengthLeft -= writeAmount;
+    public void updateBlobToServer(long writeAt, byte[] bytes, int offset, int length)
+                                                                                      throws SQLException {
+        lobLock.lock();
+        try {
+            if (this.locator == null || this.locator.connection == null) {
+                throw new SQLException("Invalid operation on closed BLOB");
             }
 
-            Blob r = (Blob) cstmt.getBlob(1);
-            if (r == null || r.getLocator() == null) {
-                throw new SQLException("Invalid operator on setBytes for BLOB");
-            } else {
-                copy(r);
+            int writeAmount, writeOffset = (int) writeAt, localOffset = offset, lengthLeft = length;
+            try (java.sql.CallableStatement cstmt = this.locator.connection.prepareCall("{call DBMS_LOB.write( ?, ?, ?, ?)}")) {
+                ((OceanBaseStatement) cstmt).setInternal();
+                while (lengthLeft > 0) {
+                    writeAmount = Math.min(lengthLeft, DBMS_LOB_MAX_AMOUNT);
+                    byte[] writeBuffer = new byte[writeAmount];
+                    System.arraycopy(bytes, localOffset, writeBuffer, 0, writeAmount);
+
+                    ((BasePrepareStatement) cstmt).setLobLocator(1, this);
+                    cstmt.setInt(2, writeAmount);
+                    cstmt.setInt(3, writeOffset);
+                    cstmt.setBytes(4, writeBuffer);
+                    cstmt.registerOutParameter(1, Types.BLOB);
+                    cstmt.execute();
+
+                    writeOffset += writeAmount;
+                    localOffset += writeAmount;
+                    lengthLeft -= writeAmount;
+                }
+
+                Blob r = (Blob) cstmt.getBlob(1);
+                if (r == null || r.getLocator() == null) {
+                    throw new SQLException("Invalid operator on setBytes for BLOB");
+                } else {
+                    copy(r);
+                }
             }
+        } finally {
+            lobLock.unlock();
         }
     }
 
@@ -433,26 +438,31 @@ public class Blob extends Lob implements java.sql.Blob {
      * @throws SQLException
      *              if database error occur
      */
-    public synchronized void trimBlobToServer(int len) throws SQLException {
-        if (this.locator == null || this.locator.connection == null) {
-            //            throw SQLError.createSQLException("Invalid operation on closed BLOB",
-            //                    SQLError.SQL_STATE_ILLEGAL_ARGUMENT, this.exceptionInterceptor);
-            throw new SQLException("Invalid operation on closed BLOB");
-        }
+    public void trimBlobToServer(int len) throws SQLException {
+        lobLock.lock();
+        try {
+            if (this.locator == null || this.locator.connection == null) {
+                //            throw SQLError.createSQLException("Invalid operation on closed BLOB",
+                //                    SQLError.SQL_STATE_ILLEGAL_ARGUMENT, this.exceptionInterceptor);
+                throw new SQLException("Invalid operation on closed BLOB");
+            }
 
-        try (java.sql.CallableStatement cstmt = this.locator.connection.prepareCall("{call DBMS_LOB.trim( ?, ?)}")) {
-            ((OceanBaseStatement) cstmt).setInternal();
-            ((BasePrepareStatement) cstmt).setLobLocator(1, this);
-            cstmt.setInt(2, len);
-            cstmt.registerOutParameter(1, Types.BLOB);
-            cstmt.execute();
+            try (java.sql.CallableStatement cstmt = this.locator.connection.prepareCall("{call DBMS_LOB.trim( ?, ?)}")) {
+                ((OceanBaseStatement) cstmt).setInternal();
+                ((BasePrepareStatement) cstmt).setLobLocator(1, this);
+                cstmt.setInt(2, len);
+                cstmt.registerOutParameter(1, Types.BLOB);
+                cstmt.execute();
 
-            Blob r = (Blob) cstmt.getBlob(1);
-            if (r == null || r.getLocator() == null) {
-                throw new SQLException("Invalid operator on trim() for BLOB");
-            } else {
-                copy(r);
+                Blob r = (Blob) cstmt.getBlob(1);
+                if (r == null || r.getLocator() == null) {
+                    throw new SQLException("Invalid operator on trim() for BLOB");
+                } else {
+                    copy(r);
+                }
             }
+        } finally {
+            lobLock.unlock();
         }
     }
 
@@ -475,41 +485,66 @@ public class Blob extends Lob implements java.sql.Blob {
      *                 amount is greater, in bytes or characters, than the capacity of buffer.
      * NO_DATA_FOUND: End of the LOB is reached, and there are no more bytes or characters to read from the LOB: amount has a value of 0.
      */
-    protected synchronized void readFromServer() throws SQLException {
+    protected void readFromServer() throws SQLException {
         if (this.locator == null || this.locator.connection == null) {
-            throw new SQLException("Invalid operation on closed CLOB");
+            throw new SQLException("Invalid operation on closed BLOB");
         }
-        clearData();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (LobPrefetchInputStream stream = streamFromServer()) {
+            stream.transferTo(out);
+        } catch (IOException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException(e);
+        }
+        lobLock.lock();
+        try {
+            clearData();
+            data = out.toByteArray();
+            length = data.length;
+        } finally {
+            lobLock.unlock();
+        }
+    }
 
-        int offset = 1;
-        try (java.sql.CallableStatement cstmt = this.locator.connection.getLobConn().prepareCall("{call DBMS_LOB.READ( ?, ?, ?, ?)}")) {
-            ((OceanBaseStatement) cstmt).setInternal();
-            while (true) {
+    /**
+     * Read a chunk of out-row LOB by DBMS_LOB.READ, see {@link #readFromServer()}.
+     *
+     * @param offset offset in bytes, starting at 1
+     * @param amount number of bytes to read, at most DBMS_LOB_MAX_AMOUNT
+     * @return read bytes with the amount read, null when end of the LOB is reached
+     * @throws SQLException if database READ procedure exceptions occur
+     */
+    protected LobPrefetchInputStream.LobChunk readChunkFromServer(long offset, int amount)
+                                                                                 throws SQLException {
+        lobLock.lock();
+        try {
+            if (this.locator == null || this.locator.connection == null) {
+                throw new SQLException("Invalid operation on closed BLOB");
+            }
+            try (java.sql.CallableStatement cstmt = this.locator.connection.getLobConn().prepareCall("{call DBMS_LOB.READ( ?, ?, ?, ?)}")) {
+                ((OceanBaseStatement) cstmt).setInternal();
                 cstmt.setBlob(1, this);
-                cstmt.setInt(2, DBMS_LOB_MAX_AMOUNT);
-                cstmt.setInt(3, offset);
+                cstmt.setInt(2, amount);
+                cstmt.setLong(3, offset);
                 cstmt.registerOutParameter(2, Types.INTEGER);
                 cstmt.registerOutParameter(4, Types.VARCHAR);
                 cstmt.execute();
-
-                int amount = cstmt.getInt(2);
-                offset += amount;
-
-                byte[] outRaw = cstmt.getBytes(4);
-                if (data == null || data.length == 0) {
-                    data = outRaw;
-                } else {
-                    byte[] newData = new byte[data.length + outRaw.length];
-                    System.arraycopy(data, 0, newData, 0, data.length);
-                    System.arraycopy(outRaw, 0, newData, data.length, outRaw.length);
-                    data = newData;
+                return new LobPrefetchInputStream.LobChunk(cstmt.getBytes(4), cstmt.getInt(2));
+            } catch (SQLException ex) {
+                if (ex.getMessage() != null && ex.getMessage().contains("no data found")) {
+                    return null;
                 }
-            }
-        } catch (SQLException ex) {
-            if (!ex.getMessage().contains("no data found")) {
                 throw ex;
             }
+        } finally {
+            lobLock.unlock();
         }
-        length = data.length;
+    }
+
+    private LobPrefetchInputStream streamFromServer() {
+        return new LobPrefetchInputStream(this::readChunkFromServer, 1, -1, DBMS_LOB_MAX_AMOUNT,
+            DBMS_LOB_MAX_AMOUNT);
     }
 }
@@ -11,81 +11,18 @@ import java.util.List;
 
 public class BlobFromLocator extends Blob {
 
-    private final String blobColName;
-    private final String tableName;
+    private static final int    MAX_CHUNK_SIZE = 16 * 1024 * 1024;
 
-    private OceanBaseConnection connection;
-
-    private List<String> primaryKeys;
-
-    private List<String> primaryValues;
-
-    private Options options;
+    private final String        blobColName;
+    private final String        tableName;
 
-    class BlobFromLocatorInputStream extends InputStream {
-
-        private int currPos;
-
-        private final long length;
-
-        BlobFromLocatorInputStream() throws SQLException {
-            this.length = length();
-        }
-
-        @Override
-        public int read() throws IOException {
-            if (currPos + 1 > length) {
-                return -1;
-            }
-            try {
-                byte[] bytes = getBytes(currPos + 1, 1);
-                if (bytes == null) {
-                    return -1;
-                }
-                return bytes[0];
-            } catch (SQLException e) {
-                throw new IOException(e.toString());
-            }
-        }
-
-        @Override
-        public int read(byte[] b) throws IOException {
-            if (this.currPos + 1 > this.length) {
-                return -1;
-            }
+    private OceanBaseConnection connection;
 
-            try {
-                byte[] bytes = getBytes(currPos + 1, b.length);
-                if (bytes == null) {
-                    return -1;
-                }
-                System.arraycopy(bytes, 0, b, 0, bytes.length);
-                this.currPos += bytes.length;
-                return bytes.length;
-            } catch (SQLException e) {
-                throw new IOException(e.toString());
-            }
-        }
+    private List<String>        primaryKeys;
 
-        @Override
-        public synchronized int read(byte[] b, int off, int len) throws IOException {
-            if (this.currPos + 1 > this.length) {
-                return -1;
-            }
+    private List<String>        primaryValues;
 
-            try {
-                byte[] bytes = getBytes(currPos + 1, len);
-                if (bytes == null) {
-                    return -1;
-                }
-                System.arraycopy(bytes, 0, b, off, bytes.length);
-                this.currPos += bytes.length;
-                return bytes.length;
-            } catch (SQLException e) {
-                throw new IOException(e.toString());
-            }
-        }
-    }
+    private Options             options;
 
     BlobFromLocator(JDBC4ResultSet resultSet, int columnIndex, Connection connection, Options options) throws SQLException {
         this.connection = (OceanBaseConnection) connection;
@@ -125,7 +62,14 @@ public class BlobFromLocator extends Blob {
 
     @Override
     public InputStream getBinaryStream() throws SQLException {
-        return new BufferedInputStream(new BlobFromLocatorInputStream(), this.options.locatorFetchBufferSize);
+        // each chunk is a SUBSTRING query on this connection, so it is read on the calling thread.
+        // A chunk is returned in a single row, that must stay under max_allowed_packet
+        int maxChunkSize = (int) Math.min(MAX_CHUNK_SIZE,
+            (long) this.connection.getProtocol().getWriter().getMaxAllowedPacket() - 1024);
+        int chunkSize = Math.max(1, Math.min(this.options.locatorFetchBufferSize, maxChunkSize));
+        return new LobPrefetchInputStream(
+            (position, amount) -> LobPrefetchInputStream.LobChunk.of(getBytes(position, amount)), 1,
+            length(), chunkSize, maxChunkSize);
     }
 
     @Override
@@ -156,7 +100,8 @@ public class BlobFromLocator extends Blob {
             }
             rs = ps.executeQuery();
             if (!rs.next()) {
-                throw ExceptionFactory.INSTANCE.create("BLOB data not found! Did primary keys change?");
+                throw ExceptionFactory.INSTANCE
+                    .create("BLOB data not found! Did primary keys change?");
             }
             byte[] bytes = rs.getBytes(1);
             rs.close();
@@ -181,7 +126,8 @@ public class BlobFromLocator extends Blob {
             }
             rs = ps.executeQuery();
             if (!rs.next()) {
-                throw ExceptionFactory.INSTANCE.create("BLOB data not found! Did primary keys change?");
+                throw ExceptionFactory.INSTANCE
+                    .create("BLOB data not found! Did primary keys change?");
             }
             long res = rs.getLong(1);
             rs.close();
@@ -213,7 +159,8 @@ public class BlobFromLocator extends Blob {
             rs = ps.executeQuery();
 
             if (!rs.next()) {
-                throw ExceptionFactory.INSTANCE.create("BLOB data not found! Did primary keys change?");
+                throw ExceptionFactory.INSTANCE
+                    .create("BLOB data not found! Did primary keys change?");
             }
             long res = rs.getLong(1);
             rs.close();
@@ -255,10 +202,10 @@ public class BlobFromLocator extends Blob {
 
             int executeUpdate = ps.executeUpdate();
             if (executeUpdate != 1) {
-                throw ExceptionFactory.INSTANCE.create("BLOB data not found! Did primary keys change?");
+                throw ExceptionFactory.INSTANCE
+                    .create("BLOB data not found! Did primary keys change?");
             }
-        }
-        finally {
+        } finally {
             if (ps != null) {
                 ps.close();
             }
@@ -275,14 +222,14 @@ public class BlobFromLocator extends Blob {
         try {
             ps = this.connection.prepareStatement(truncateSql);
             for (int i = 0; i < primaryValues.size(); i++) {
-                ps.setString(i + 1 , primaryValues.get(i));
+                ps.setString(i + 1, primaryValues.get(i));
             }
             int executeUpdate = ps.executeUpdate();
             if (executeUpdate != 1) {
-                throw ExceptionFactory.INSTANCE.create("BLOB data not found! Did primary keys change?");
+                throw ExceptionFactory.INSTANCE
+                    .create("BLOB data not found! Did primary keys change?");
             }
-        }
-        finally {
+        } finally {
             if (ps != null) {
                 ps.close();
             }
@@ -383,5 +330,4 @@ public class BlobFromLocator extends Blob {
         return sqlBuilder.toString();
     }
 
-
 }
@@ -79,7 +79,8 @@ class CallParameter {
     }
 
     public CallParameter(String name, int index, boolean isInput, boolean isOutput, int sqlType,
-                         String typeName, int precision, int scale, int outputSqlType, int inOutModifier) {
+                         String typeName, int precision, int scale, int outputSqlType,
+                         int inOutModifier) {
         this.name = name;
         this.index = index;
         this.isInput = isInput;
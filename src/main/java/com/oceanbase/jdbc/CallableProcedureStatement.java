@@ -84,6 +84,7 @@ public abstract class CallableProcedureStatement extends ServerSidePreparedState
     protected boolean                   hasInOutParameters;
     private boolean                     firstMapName = true;
     protected boolean                   resetSpecialParamIndex;
+
     //    private boolean                     isParameterIndexUsed;
     //    private boolean                     isParameterNameUsed;
 
@@ -722,7 +723,7 @@ public abstract class CallableProcedureStatement extends ServerSidePreparedState
 
         if (protocol.isOracleMode()) {
             CallParameter placeHolderParameter = parameterMetadata
-                    .getPlaceholderParam(parameterIndex - 1);
+                .getPlaceholderParam(parameterIndex - 1);
             if (null != placeHolderParameter) {
                 placeHolderParameter.setOutputSqlType(sqlType);
                 placeHolderParameter.setTypeName(typeName);
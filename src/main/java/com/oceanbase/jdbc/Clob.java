@@ -237,9 +237,10 @@ public class Clob extends Lob implements java.sql.Clob {
             }
             return null;
         }
-        // out-row of lob locator v2, needs to be read from server by procedure DBMS_LOB.READ
-        if (this.length == 0 && !isEmptyLob()) {
-            if (locator != null && locator instanceof ObLobLocatorV2) {
+        // out-row of lob locator v2, read eagerly from server by procedure DBMS_LOB.READ: the reader
+        // may be bound as a parameter on the same connection, which must not be used while sending it
+        if (this.length == 0 && !isEmptyLob() && this.charData == null) {
+            if (locator instanceof ObLobLocatorV2) {
                 readFromServer();
             }
         }
@@ -337,7 +338,7 @@ public class Clob extends Lob implements java.sql.Clob {
     }
 
     public long position(java.sql.Clob searchStr, long start) throws SQLException {
-        return position(((Clob)searchStr).getString(), start);
+        return position(((Clob) searchStr).getString(), start);
     }
 
     /**
@@ -348,11 +349,11 @@ public class Clob extends Lob implements java.sql.Clob {
      */
     private int utf8Position(int charPosition) {
         int pos = offset;
-        int byteValue ;
+        int byteValue;
         for (int i = 0; i < charPosition; i++) {
             if (this.isOracleMode && pos >= data.length) {
                 byteValue = 0x20;
-            }else {
+            } else {
                 byteValue = data[pos] & 0xff;
             }
             if (byteValue < 0x80) {
@@ -597,37 +598,42 @@ public class Clob extends Lob implements java.sql.Clob {
      * @param length  date length to be write.
      * @throws SQLException if database error occur
      */
-    private synchronized void updateClobToServer(long writeAt, String str, int length)
-                                                                                      throws SQLException,
-                                                                                      UnsupportedEncodingException {
-        if (this.locator == null || this.locator.connection == null) {
-            throw new SQLException("Invalid operation on closed CLOB");
-        }
-
-        int writeAmount, writeOffset = (int) writeAt, localOffset = 0, lengthLeft = length;
-        try (CallableStatement cstmt = this.locator.connection.prepareCall("{call DBMS_LOB.write( ?, ?, ?, ?)}")) {
-            ((OceanBaseStatement) cstmt).setInternal();
-            while (lengthLeft > 0) {
-                writeAmount = Math.min(lengthLeft, DBMS_LOB_MAX_AMOUNT);
-
-                cstmt.setClob(1, this);
-                cstmt.setInt(2, writeAmount);
-                cstmt.setInt(3, writeOffset);
-                cstmt.setString(4, str.substring(localOffset, localOffset + writeAmount));
-                cstmt.registerOutParameter(1, Types.CLOB);
-                cstmt.execute();
-
-                writeOffset += writeAmount;
-                localOffset += writeAmount;
-                lengthLeft -= writeAmount;
+    private void updateClobToServer(long writeAt, String str, int length)
+                                                                         throws SQLException,
+                                                                         UnsupportedEncodingException {
+        lobLock.lock();
+        try {
+            if (this.locator == null || this.locator.connection == null) {
+                throw new SQLException("Invalid operation on closed CLOB");
             }
 
-            Clob r = (Clob) cstmt.getClob(1);
-            if (r == null || r.getLocator() == null) {
-                throw new SQLException("Invalid operation on closed CLOB");
-            } else {
-                copy(r);
+            int writeAmount, writeOffset = (int) writeAt, localOffset = 0, lengthLeft = length;
+            try (CallableStatement cstmt = this.locator.connection.prepareCall("{call DBMS_LOB.write( ?, ?, ?, ?)}")) {
+                ((OceanBaseStatement) cstmt).setInternal();
+                while (lengthLeft > 0) {
+                    writeAmount = Math.min(lengthLeft, DBMS_LOB_MAX_AMOUNT);
+
+                    cstmt.setClob(1, this);
+                    cstmt.setInt(2, writeAmount);
+                    cstmt.setInt(3, writeOffset);
+                    cstmt.setString(4, str.substring(localOffset, localOffset + writeAmount));
+                    cstmt.registerOutParameter(1, Types.CLOB);
+                    cstmt.execute();
+
+                    writeOffset += writeAmount;
+                    localOffset += writeAmount;
+                    lengthLeft -= writeAmount;
+                }
+
+                Clob r = (Clob) cstmt.getClob(1);
+                if (r == null || r.getLocator() == null) {
+                    throw new SQLException("Invalid operation on closed CLOB");
+                } else {
+                    copy(r);
+                }
             }
+        } finally {
+            lobLock.unlock();
         }
     }
 
@@ -638,25 +644,30 @@ public class Clob extends Lob implements java.sql.Clob {
      * @param len truncate data from len
      * @throws SQLException if database error occur
      */
-    private synchronized void trimClobToServer(int len) throws SQLException {
-        if (this.locator == null || this.locator.connection == null) {
-            throw new SQLException("Invalid operation on closed CLOB");
-        }
-        clearData();
+    private void trimClobToServer(int len) throws SQLException {
+        lobLock.lock();
+        try {
+            if (this.locator == null || this.locator.connection == null) {
+                throw new SQLException("Invalid operation on closed CLOB");
+            }
+            clearData();
 
-        try (java.sql.CallableStatement cstmt = this.locator.connection.prepareCall("{call DBMS_LOB.trim( ?, ?)}")) {
-            ((OceanBaseStatement) cstmt).setInternal();
-            cstmt.setClob(1, this);
-            cstmt.setInt(2, len);
-            cstmt.registerOutParameter(1, Types.CLOB);
-            cstmt.execute();
+            try (java.sql.CallableStatement cstmt = this.locator.connection.prepareCall("{call DBMS_LOB.trim( ?, ?)}")) {
+                ((OceanBaseStatement) cstmt).setInternal();
+                cstmt.setClob(1, this);
+                cstmt.setInt(2, len);
+                cstmt.registerOutParameter(1, Types.CLOB);
+                cstmt.execute();
 
-            Clob r = (Clob) cstmt.getClob(1);
-            if (r == null || r.getLocator() == null) {
-                throw new SQLException("Invalid operation on closed CLOB");
-            } else {
-                copy(r);
+                Clob r = (Clob) cstmt.getClob(1);
+                if (r == null || r.getLocator() == null) {
+                    throw new SQLException("Invalid operation on closed CLOB");
+                } else {
+                    copy(r);
+                }
             }
+        } finally {
+            lobLock.unlock();
         }
     }
 
@@ -680,48 +691,80 @@ public class Clob extends Lob implements java.sql.Clob {
      *                 amount is greater, in bytes or characters, than the capacity of buffer.
      * NO_DATA_FOUND: End of the LOB is reached, and there are no more bytes or characters to read from the LOB: amount has a value of 0.
      */
-    protected synchronized void readFromServer() throws SQLException {
+    protected void readFromServer() throws SQLException {
         if (this.locator == null || this.locator.connection == null) {
             throw new SQLException("Invalid operation on closed CLOB");
         }
+        StringBuilder sb = new StringBuilder();
+        char[] buf = new char[DBMS_LOB_MAX_AMOUNT];
+        try (Reader reader = new InputStreamReader(streamFromServer(), this.encoding)) {
+            int len;
+            while ((len = reader.read(buf)) != -1) {
+                sb.append(buf, 0, len);
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new SQLException("Unsupported character encoding " + this.encoding);
+        } catch (IOException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException(e);
+        }
+        lobLock.lock();
+        try {
+            charData = charData == null ? sb.toString() : charData + sb;
+            length = charData.length();
+        } finally {
+            lobLock.unlock();
+        }
+    }
 
-        int offset = 1;
-        try (java.sql.CallableStatement cstmt = this.locator.connection.getLobConn().prepareCall("{call DBMS_LOB.READ( ?, ?, ?, ?)}")) {
-            ((OceanBaseStatement) cstmt).setInternal();
-            while (true) {
+    /**
+     * Read a chunk of out-row LOB by DBMS_LOB.READ, see {@link #readFromServer()}.
+     *
+     * @param offset offset in characters, starting at 1
+     * @param amount number of characters to read, at most DBMS_LOB_MAX_AMOUNT
+     * @return read characters, encoded with LOB encoding, with the number of characters read, null
+     *         when end of the LOB is reached
+     * @throws SQLException if database READ procedure exceptions occur
+     */
+    protected LobPrefetchInputStream.LobChunk readChunkFromServer(long offset, int amount)
+                                                                                 throws SQLException {
+        lobLock.lock();
+        try {
+            if (this.locator == null || this.locator.connection == null) {
+                throw new SQLException("Invalid operation on closed CLOB");
+            }
+            try (java.sql.CallableStatement cstmt = this.locator.connection.getLobConn().prepareCall("{call DBMS_LOB.READ( ?, ?, ?, ?)}")) {
+                ((OceanBaseStatement) cstmt).setInternal();
                 cstmt.setClob(1, this);
-                cstmt.setInt(2, DBMS_LOB_MAX_AMOUNT);
-                cstmt.setInt(3, offset);
+                cstmt.setInt(2, amount);
+                cstmt.setLong(3, offset);
                 cstmt.registerOutParameter(2, Types.INTEGER);
                 cstmt.registerOutParameter(4, Types.VARCHAR);
                 cstmt.execute();
 
-                int amount = cstmt.getInt(2);
-                offset += amount;
-
-                try {
-                    if (amount <= Clob.maxLength) {
-                        byte[] bytes = cstmt.getBytes(4);
-                        String str = new String(bytes, this.encoding);
-                        if (charData == null) {
-                            charData = str;
-                        } else {
-                            charData += str;
-                        }
-                    } else {
-                        throw new SQLException("Exceed max length of Clob for support "
-                                               + Clob.maxLength + " current " + amount);
-                    }
-                } catch (UnsupportedEncodingException e) {
-                    throw new SQLException("Unsupported character encoding " + this.encoding);
+                // multibyte characters may be read by less than requested amount
+                int read = cstmt.getInt(2);
+                if (read > Clob.maxLength) {
+                    throw new SQLException("Exceed max length of Clob for support "
+                                           + Clob.maxLength + " current " + read);
+                }
+                return new LobPrefetchInputStream.LobChunk(cstmt.getBytes(4), read);
+            } catch (SQLException ex) {
+                if (ex.getMessage() != null && ex.getMessage().contains("no data found")) {
+                    return null;
                 }
-            }
-        } catch (SQLException ex) {
-            if (!ex.getMessage().contains("no data found")) {
                 throw ex;
             }
+        } finally {
+            lobLock.unlock();
         }
-        length = charData.length();
+    }
+
+    private LobPrefetchInputStream streamFromServer() {
+        return new LobPrefetchInputStream(this::readChunkFromServer, 1, -1, DBMS_LOB_MAX_AMOUNT,
+            DBMS_LOB_MAX_AMOUNT);
     }
 
     /**
@@ -737,18 +780,23 @@ public class Clob extends Lob implements java.sql.Clob {
      *
      * @throws SQLException if database error occur
      */
-    private synchronized void getLengthFromServer() throws SQLException {
-        if (this.locator == null || this.locator.connection == null) {
-            throw new SQLException("Invalid operation on closed CLOB");
-        }
+    private void getLengthFromServer() throws SQLException {
+        lobLock.lock();
+        try {
+            if (this.locator == null || this.locator.connection == null) {
+                throw new SQLException("Invalid operation on closed CLOB");
+            }
 
-        try (java.sql.CallableStatement cstmt = this.locator.connection.getLobConn().prepareCall("{? = call DBMS_LOB.GETLENGTH( ?)}")) {
-            ((OceanBaseStatement) cstmt).setInternal();
-            cstmt.setClob(2, this);
-            cstmt.registerOutParameter(1, Types.INTEGER);
-            cstmt.execute();
+            try (java.sql.CallableStatement cstmt = this.locator.connection.getLobConn().prepareCall("{? = call DBMS_LOB.GETLENGTH( ?)}")) {
+                ((OceanBaseStatement) cstmt).setInternal();
+                cstmt.setClob(2, this);
+                cstmt.registerOutParameter(1, Types.INTEGER);
+                cstmt.execute();
 
-            lengthFromServer = cstmt.getInt(1);
+                lengthFromServer = cstmt.getInt(1);
+            }
+        } finally {
+            lobLock.unlock();
         }
     }
 }
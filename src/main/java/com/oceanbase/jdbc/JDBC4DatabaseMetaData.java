@@ -102,8 +102,11 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
                                                                         "\\s*(IN\\s+|OUT\\s+|INOUT\\s+)?(\"[\\w\\d\\S]+\")\\s+(UNSIGNED\\s+)?(\\w+)\\s*(\\([\\d,]+\\))?\\s*",
                                                                         Pattern.CASE_INSENSITIVE);
 
-    private static final Pattern      SQL_WILDCARD_PATTERN      = Pattern.compile("^%|^_|[^/]%|[^/]_",  Pattern.CASE_INSENSITIVE);
-    private static final Pattern      SQL_ESCAPE_PATTERN        = Pattern.compile("/",  Pattern.CASE_INSENSITIVE);
+    private static final Pattern      SQL_WILDCARD_PATTERN      = Pattern.compile(
+                                                                    "^%|^_|[^/]%|[^/]_",
+                                                                    Pattern.CASE_INSENSITIVE);
+    private static final Pattern      SQL_ESCAPE_PATTERN        = Pattern.compile("/",
+                                                                    Pattern.CASE_INSENSITIVE);
 
     String[]                          exportKeysColumnNames     = { "PKTABLE_CAT", "PKTABLE_SCHEM",
             "PKTABLE_NAME", "PKCOLUMN_NAME", "FKTABLE_CAT", "FKTABLE_SCHEM", "FKTABLE_NAME",
@@ -1238,8 +1241,10 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
 
         String tableNamePatternWithNoBacktick = tableNamePattern;
         if (tableNamePatternWithNoBacktick != null && tableNamePatternWithNoBacktick.length() > 2
-                && tableNamePatternWithNoBacktick.startsWith("`") && tableNamePatternWithNoBacktick.endsWith("`")) {
-            tableNamePatternWithNoBacktick = tableNamePatternWithNoBacktick.substring(1, tableNamePatternWithNoBacktick.length() - 1);
+            && tableNamePatternWithNoBacktick.startsWith("`")
+            && tableNamePatternWithNoBacktick.endsWith("`")) {
+            tableNamePatternWithNoBacktick = tableNamePatternWithNoBacktick.substring(1,
+                tableNamePatternWithNoBacktick.length() - 1);
         }
         Options options = urlParser.getOptions();
         String sql = "SELECT TABLE_SCHEMA TABLE_CAT, NULL TABLE_SCHEM, TABLE_NAME, COLUMN_NAME,"
@@ -2899,7 +2904,8 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
                                          String procedureNamePattern, String columnNamePattern)
                                                                                                throws SQLException {
         if (this.protocol.isOracleMode()) {
-            return getProcedureColumnsForOracle(catalog, schemaPattern, procedureNamePattern, columnNamePattern);
+            return getProcedureColumnsForOracle(catalog, schemaPattern, procedureNamePattern,
+                columnNamePattern);
         }
 
         if (procedureNamePattern != null && procedureNamePattern.contains("`")) {
@@ -2921,7 +2927,8 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
                         + 2
                         + " NULLABLE,NULL REMARKS,NULL COLUMN_DEF,0 SQL_DATA_TYPE,0 SQL_DATETIME_SUB,CHARACTER_OCTET_LENGTH CHAR_OCTET_LENGTH ,ORDINAL_POSITION, '' IS_NULLABLE, SPECIFIC_NAME  FROM INFORMATION_SCHEMA.PARAMETERS");
             boolean firstCondition = this.catalogCond(true, sb, "SPECIFIC_SCHEMA", catalog);
-            firstCondition = this.patternCond(firstCondition, sb, "SPECIFIC_NAME", procedureNamePattern);
+            firstCondition = this.patternCond(firstCondition, sb, "SPECIFIC_NAME",
+                procedureNamePattern);
             this.patternCond(firstCondition, sb, "PARAMETER_NAME", columnNamePattern);
             sb.append(" ORDER BY SPECIFIC_SCHEMA, SPECIFIC_NAME, ORDINAL_POSITION");
 
@@ -2939,36 +2946,45 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
                         "ORDINAL_POSITION", "IS_NULLABLE", "SPECIFIC_NAME" };
                 ColumnType[] columnTypes = { ColumnType.VARCHAR, ColumnType.VARCHAR,
                         ColumnType.VARCHAR, ColumnType.VARCHAR, ColumnType.NUMBER,
-                        ColumnType.SMALLINT, ColumnType.VARCHAR,
-                        ColumnType.INTEGER, ColumnType.INTEGER, ColumnType.SMALLINT,
-                        ColumnType.SMALLINT, ColumnType.SMALLINT, ColumnType.VARCHAR,
-                        ColumnType.VARCHAR,
+                        ColumnType.SMALLINT, ColumnType.VARCHAR, ColumnType.INTEGER,
+                        ColumnType.INTEGER, ColumnType.SMALLINT, ColumnType.SMALLINT,
+                        ColumnType.SMALLINT, ColumnType.VARCHAR, ColumnType.VARCHAR,
                         ColumnType.INTEGER, ColumnType.INTEGER, ColumnType.INTEGER,
                         ColumnType.INTEGER, ColumnType.VARCHAR, ColumnType.VARCHAR };
 
-                return getProcAndFuncs(catalog, procedureNamePattern, true,
-                    false, columnNames, columnTypes, false, columnNamePattern, schemaPattern);
+                return getProcAndFuncs(catalog, procedureNamePattern, true, false, columnNames,
+                    columnTypes, false, columnNamePattern, schemaPattern);
             } catch (SQLException throwables) {
                 throw throwables;
             }
         }
     }
 
-    private boolean catalogCond(boolean firstCondition, StringBuilder sb, String columnName, String catalog) {
+    private boolean catalogCond(boolean firstCondition, StringBuilder sb, String columnName,
+                                String catalog) {
         if (catalog == null) {
             return firstCondition;
         } else if (catalog.isEmpty()) {
-            sb.append(firstCondition ? " WHERE " : " AND ").append(columnName).append(" = database()");
+            sb.append(firstCondition ? " WHERE " : " AND ").append(columnName)
+                .append(" = database()");
             return false;
         } else {
-            sb.append(firstCondition ? " WHERE " : " AND ").append(columnName).append("=").append(this.escapeQuote(catalog));
+            sb.append(firstCondition ? " WHERE " : " AND ").append(columnName).append("=")
+                .append(this.escapeQuote(catalog));
             return false;
         }
     }
 
-    private boolean patternCond(boolean firstCondition, StringBuilder sb, String columnName, String tableName) {
+    private boolean patternCond(boolean firstCondition, StringBuilder sb, String columnName,
+                                String tableName) {
         if (tableName != null && !"%".equals(tableName)) {
-            sb.append(firstCondition ? " WHERE " : " AND ").append(columnName).append(tableName.indexOf(37) == -1 && tableName.indexOf(95) == -1 ? "=" : " LIKE ").append("'").append(escapeString(tableName, (this.connection.getProtocol().getServerStatus() & 512) != 0)).append("'");
+            sb.append(firstCondition ? " WHERE " : " AND ")
+                .append(columnName)
+                .append(tableName.indexOf(37) == -1 && tableName.indexOf(95) == -1 ? "=" : " LIKE ")
+                .append("'")
+                .append(
+                    escapeString(tableName,
+                        (this.connection.getProtocol().getServerStatus() & 512) != 0)).append("'");
             return false;
         } else {
             return firstCondition;
@@ -2976,13 +2992,14 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
     }
 
     public static String escapeString(String value, boolean noBackslashEscapes) {
-        return noBackslashEscapes ? value.replace("'", "''") : value.replace("\\", "\\\\").replace("'", "\\'").replace("\u0000", "\\0").replace("\"", "\\\"");
+        return noBackslashEscapes ? value.replace("'", "''") : value.replace("\\", "\\\\")
+            .replace("'", "\\'").replace("\u0000", "\\0").replace("\"", "\\\"");
     }
 
     ResultSet getProcAndFuncs(String catalog, String procedureNamePattern, boolean isProcedure,
                               boolean isFunction, String[] columnNames, ColumnType[] columnTypes,
-                              boolean forGetFunctionColumns, String columnPattern, String schemaPattern)
-                                                                                  throws SQLException {
+                              boolean forGetFunctionColumns, String columnPattern,
+                              String schemaPattern) throws SQLException {
 
         String db = catalog;
 
@@ -3617,7 +3634,8 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
                                         String functionNamePattern, String columnNamePattern)
                                                                                              throws SQLException {
         if (this.protocol.isOracleMode()) {
-            return super.getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern);
+            return super.getFunctionColumns(catalog, schemaPattern, functionNamePattern,
+                columnNamePattern);
         }
 
         if (functionNamePattern != null && functionNamePattern.contains("`")) {
@@ -3633,9 +3651,12 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
                         + 2
                         + " NULLABLE,NULL REMARKS,CHARACTER_OCTET_LENGTH CHAR_OCTET_LENGTH ,ORDINAL_POSITION, '' IS_NULLABLE, SPECIFIC_NAME  FROM INFORMATION_SCHEMA.PARAMETERS");
             boolean firstCondition = this.catalogCond(true, sb, "SPECIFIC_SCHEMA", catalog);
-            firstCondition = this.patternCond(firstCondition, sb, "SPECIFIC_NAME", functionNamePattern);
-            firstCondition = this.patternCond(firstCondition, sb, "PARAMETER_NAME", columnNamePattern);
-            sb.append(firstCondition ? " WHERE " : " AND ").append(" ROUTINE_TYPE='FUNCTION' ORDER BY FUNCTION_CAT, SPECIFIC_NAME, ORDINAL_POSITION");
+            firstCondition = this.patternCond(firstCondition, sb, "SPECIFIC_NAME",
+                functionNamePattern);
+            firstCondition = this.patternCond(firstCondition, sb, "PARAMETER_NAME",
+                columnNamePattern);
+            sb.append(firstCondition ? " WHERE " : " AND ").append(
+                " ROUTINE_TYPE='FUNCTION' ORDER BY FUNCTION_CAT, SPECIFIC_NAME, ORDINAL_POSITION");
             return this.executeQuery(sb.toString());
         }
 
@@ -4839,27 +4860,35 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
         return false;
     }
 
-    private ResultSet getProcedureColumnsForOracle(String catalog, String schemaPattern, String procedureNamePattern, String columnNamePattern) throws SQLException {
-        if ("".equals(catalog) && (schemaPattern == null || !haveWildcardsInSql(schemaPattern)) && procedureNamePattern != null && !haveWildcardsInSql(procedureNamePattern)) {
+    private ResultSet getProcedureColumnsForOracle(String catalog, String schemaPattern,
+                                                   String procedureNamePattern,
+                                                   String columnNamePattern) throws SQLException {
+        if ("".equals(catalog) && (schemaPattern == null || !haveWildcardsInSql(schemaPattern))
+            && procedureNamePattern != null && !haveWildcardsInSql(procedureNamePattern)) {
             if (schemaPattern != null) {
                 schemaPattern = stripSqlEscapes(schemaPattern);
             }
             procedureNamePattern = stripSqlEscapes(procedureNamePattern);
-            return getOraPLColumnsWithNoWildcardsAndUnPakaged(schemaPattern, procedureNamePattern, columnNamePattern);
+            return getOraPLColumnsWithNoWildcardsAndUnPakaged(schemaPattern, procedureNamePattern,
+                columnNamePattern);
         }
 
-        if (catalog == null || catalog.isEmpty() || haveWildcardsInSql(catalog) || schemaPattern != null && haveWildcardsInSql(schemaPattern)) {
-            return getOraPLColumnsWithWildcards(catalog, schemaPattern, procedureNamePattern, columnNamePattern);
+        if (catalog == null || catalog.isEmpty() || haveWildcardsInSql(catalog)
+            || schemaPattern != null && haveWildcardsInSql(schemaPattern)) {
+            return getOraPLColumnsWithWildcards(catalog, schemaPattern, procedureNamePattern,
+                columnNamePattern);
         }
 
         catalog = stripSqlEscapes(catalog);
         if (schemaPattern != null) {
             schemaPattern = stripSqlEscapes(schemaPattern);
         }
-        return getOraPLColumnsWithNoWildcardsAndPakaged(catalog, schemaPattern, procedureNamePattern, columnNamePattern);
+        return getOraPLColumnsWithNoWildcardsAndPakaged(catalog, schemaPattern,
+            procedureNamePattern, columnNamePattern);
     }
 
-    private ResultSet getOraPLColumnsWithWildcards(String catalog, String schemaPattern, String procedureNamePattern,
+    private ResultSet getOraPLColumnsWithWildcards(String catalog, String schemaPattern,
+                                                   String procedureNamePattern,
                                                    String columnNamePattern) throws SQLException {
         if (schemaPattern == null) {
             schemaPattern = "%";
@@ -4899,7 +4928,8 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
         ps.setString(2, procedureNamePattern);
         if (catalog == null || catalog.isEmpty()) {
             ps.setString(3, columnNamePattern);
-        } else {;
+        } else {
+            ;
             ps.setString(3, catalog);
             ps.setString(4, columnNamePattern);
         }
@@ -4907,8 +4937,11 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
         return ps.executeQuery();
     }
 
-    private ResultSet getOraPLColumnsWithNoWildcardsAndPakaged(String catalog, String schemaPattern, String procedureNamePattern,
-                                                               String columnNamePattern) throws SQLException {
+    private ResultSet getOraPLColumnsWithNoWildcardsAndPakaged(String catalog,
+                                                               String schemaPattern,
+                                                               String procedureNamePattern,
+                                                               String columnNamePattern)
+                                                                                        throws SQLException {
         if ("".equals(columnNamePattern)) {
             throw new SQLException("Invalid name or pattern");
         }
@@ -4945,8 +4978,10 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
         }
     }
 
-    private ResultSet getOraPLColumnsWithNoWildcardsAndUnPakaged(String schemaPattern, String procedureNamePattern,
-                                                                 String columnNamePattern) throws SQLException {
+    private ResultSet getOraPLColumnsWithNoWildcardsAndUnPakaged(String schemaPattern,
+                                                                 String procedureNamePattern,
+                                                                 String columnNamePattern)
+                                                                                          throws SQLException {
         if ("".equals(columnNamePattern)) {
             throw new SQLException("Invalid name or pattern");
         }
@@ -4988,46 +5023,43 @@ public class JDBC4DatabaseMetaData extends OceanBaseOracleDatabaseMetadata {
      * @param columnNamePattern
      * @return
      */
-    private String buildProcedureColumnsSql(boolean hasWildcards, boolean packaged, String columnNamePattern){
+    private String buildProcedureColumnsSql(boolean hasWildcards, boolean packaged,
+                                            String columnNamePattern) {
         String actualSql = "";
         String orderSql = " ORDER BY procedure_schem, procedure_name, overload, sequence ";
         String sqlForOjdbc6 = String.format(OB_ORA_GET_PROCEDURE_COL_INFO_V6,
-                this.protocol.getOptions().mapDateToTimestamp ? "93 " : "91 ");
+            this.protocol.getOptions().mapDateToTimestamp ? "93 " : "91 ");
         String sqlForOjdbc8 = String.format(OB_ORA_GET_PROCEDURE_COL_INFO_V8,
-                this.protocol.getOptions().mapDateToTimestamp ? "93 " : "91 ");
+            this.protocol.getOptions().mapDateToTimestamp ? "93 " : "91 ");
 
         actualSql = sqlForOjdbc6;
         if (this.protocol.getOptions().compatibleOjdbcVersion == 8) {
-            actualSql =sqlForOjdbc8;
+            actualSql = sqlForOjdbc8;
         }
 
         if (hasWildcards) {
             if (this.protocol.getOptions().compatibleOjdbcVersion == 6) {
                 actualSql += " WHERE owner LIKE ? ESCAPE '/' AND object_name LIKE ? ESCAPE '/' AND data_level = 0 ";
-            }else {
-                actualSql += ", all_procedures proc  WHERE arg.owner LIKE ? ESCAPE '/'  " +
-                        " AND arg.object_name LIKE ? ESCAPE '/' AND arg.data_level = 0  " +
-                        " AND arg.owner = proc.owner  " +
-                        " AND arg.object_id = proc.object_id  " +
-                        " AND arg.subprogram_id = proc.subprogram_id  ";
+            } else {
+                actualSql += ", all_procedures proc  WHERE arg.owner LIKE ? ESCAPE '/'  "
+                             + " AND arg.object_name LIKE ? ESCAPE '/' AND arg.data_level = 0  "
+                             + " AND arg.owner = proc.owner  "
+                             + " AND arg.object_id = proc.object_id  "
+                             + " AND arg.subprogram_id = proc.subprogram_id  ";
             }
         } else {
             if (packaged) {
-                actualSql += " WHERE owner = ? \n" +
-                        "  AND object_name LIKE ? ESCAPE '/' \n" +
-                        " AND data_level = 0\n" +
-                        " AND package_name = ? " ;
+                actualSql += " WHERE owner = ? \n" + "  AND object_name LIKE ? ESCAPE '/' \n"
+                             + " AND data_level = 0\n" + " AND package_name = ? ";
             } else {
-                actualSql += " WHERE owner = ? \n" +
-                        "  AND object_name = ?\n" +
-                        " AND data_level = 0\n" +
-                        " AND package_name is null" ;
+                actualSql += " WHERE owner = ? \n" + "  AND object_name = ?\n"
+                             + " AND data_level = 0\n" + " AND package_name is null";
             }
 
             if (this.protocol.getOptions().compatibleOjdbcVersion == 6) {
                 actualSql += "  AND argument_name LIKE ? ESCAPE '/' \n";
             }
-            if (this.protocol.getOptions().compatibleOjdbcVersion == 8){
+            if (this.protocol.getOptions().compatibleOjdbcVersion == 8) {
                 if (columnNamePattern != null && !columnNamePattern.equals("%")) {
                     actualSql += "  AND argument_name LIKE ? ESCAPE '/' \n";
                 } else {
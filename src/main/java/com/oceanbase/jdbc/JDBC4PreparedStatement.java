@@ -67,6 +67,7 @@ import com.oceanbase.jdbc.internal.io.output.PacketOutputStream;
 import com.oceanbase.jdbc.internal.io.output.StandardPacketOutputStream;
 import com.oceanbase.jdbc.internal.logging.Logger;
 import com.oceanbase.jdbc.internal.logging.LoggerFactory;
+import com.oceanbase.jdbc.internal.util.ClientPrepareResultCache;
 import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.internal.util.dao.ClientPrepareResult;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
@@ -119,6 +120,12 @@ public class JDBC4PreparedStatement extends BasePrepareStatement {
       if(!options.useServerPrepStmts && this.protocol.isOracleMode() && options.supportNameBinding) {
           actualSql = Utils.trimSQLString(originalSql,protocol.noBackslashEscapes(),protocol.isOracleMode(),true);
       }
+    }
+    if (options.useClientPrepareResultCache && actualSql.length() <= options.prepStmtCacheSqlLimit) {
+      prepareResult = ClientPrepareResultCache.getShared(options.clientPrepareResultCacheSize)
+          .get(actualSql, protocol.noBackslashEscapes(), protocol.isOracleMode(), protocol.getEncoding(),
+              options.rewriteBatchedStatements, options.useMetrics);
+    } else if (options.rewriteBatchedStatements) {
       prepareResult = ClientPrepareResult.rewritableParts(actualSql, protocol.noBackslashEscapes(), protocol.isOracleMode(),protocol.getEncoding());
     } else {
       prepareResult = ClientPrepareResult.parameterParts(actualSql, protocol.noBackslashEscapes(), protocol.isOracleMode(),protocol.getEncoding());
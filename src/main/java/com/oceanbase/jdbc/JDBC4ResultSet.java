@@ -78,6 +78,7 @@ import com.oceanbase.jdbc.internal.com.read.dao.ColumnLabelIndexer;
 import com.oceanbase.jdbc.internal.com.read.dao.Results;
 import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
 import com.oceanbase.jdbc.internal.com.read.resultset.RefCursor;
+import com.oceanbase.jdbc.internal.com.read.resultset.RowChunkStore;
 import com.oceanbase.jdbc.internal.com.read.resultset.SelectResultSet;
 import com.oceanbase.jdbc.internal.com.read.resultset.UpdatableColumnDefinition;
 import com.oceanbase.jdbc.internal.com.read.resultset.rowprotocol.BinaryRowProtocol;
@@ -129,6 +130,11 @@ public class JDBC4ResultSet implements ResultSetImpl {
     protected ColumnLabelIndexer            columnLabelIndexer;
     public RowProtocol                      row;
     protected byte[][]                      data;
+    /**
+     * rows of a complete read-only result set when option useRowChunkStorage is set, data[][] is
+     * then unused until rows have to be modified.
+     */
+    protected RowChunkStore                 rowStore;
     /**
      * dataSize can be -1, 0, 1, ..., n.
      * -1: client hasn't got result from server, whether the result set is empty remains unknown.
@@ -236,6 +242,10 @@ public class JDBC4ResultSet implements ResultSetImpl {
         } else {
             rsClass = ResultSetClass.COMPLETE;
             this.data = new byte[10][];
+            if (options.useRowChunkStorage
+                && resultSetConcurType == ResultSet.CONCUR_READ_ONLY) {
+                rowStore = new RowChunkStore(fetchSize);
+            }
             fetchAllResults();
         }
 
@@ -250,7 +260,10 @@ public class JDBC4ResultSet implements ResultSetImpl {
         this.options = protocol.getOptions();
         this.noBackslashEscapes = protocol.noBackslashEscapes();
         this.columnsInformation = columnDefinition;
-        this.columnLabelIndexer = new ColumnLabelIndexer(columnsInformation);
+        ColumnLabelIndexer cachedIndexer = results.getServerPrepareResult() == null ? null
+            : results.getServerPrepareResult().getColumnLabelIndexer(columnDefinition);
+        this.columnLabelIndexer = cachedIndexer != null ? cachedIndexer : new ColumnLabelIndexer(
+            columnsInformation);
         if (statement != null && statement.addRowid) {
             this.columnIndexOffset = 1;
         }
@@ -335,6 +348,7 @@ public class JDBC4ResultSet implements ResultSetImpl {
         this.eofDeprecated = opt.eofDeprecated;
         this.isPsOutParameter = opt.isPsOutParameter;
         this.data = opt.data;
+        this.rowStore = opt.rowStore;
         this.rsClass = opt.rsClass;
         return true;
     }
@@ -574,6 +588,11 @@ public class JDBC4ResultSet implements ResultSetImpl {
             dataSize = 0;
         }
 
+        if (rowStore != null) {
+            addStoredValue();
+            return;
+        }
+
         // read only one row once
         byte[] buf = getNextRow();
         if (statement == null || statement.getMaxRows() <= 0
@@ -591,6 +610,74 @@ public class JDBC4ResultSet implements ResultSetImpl {
         }
     }
 
+    /**
+     * Add a row that has already been read from socket after current rows.
+     *
+     * @param buf row packet
+     */
+    protected void addRow(byte[] buf) {
+        if (dataSize == -1) {
+            dataSize = 0;
+        }
+        if (statement == null || statement.getMaxRows() <= 0
+            || endIndexInEntireResult < statement.getMaxRows()) {
+            if (rowStore != null) {
+                rowStore.add(buf, 0, buf.length);
+                dataSize++;
+            } else {
+                if (dataSize + 1 >= data.length) {
+                    growDataArray();
+                }
+                data[dataSize++] = buf;
+            }
+            processedRows++;
+            endIndexInEntireResult++;
+        } else {
+            isLastRowSent = true;
+        }
+    }
+
+    /**
+     * Read next row in chunk storage. Row packet is read in the reusable buffer, then copied at the
+     * end of current chunk.
+     *
+     * @throws IOException  if socket exception occur
+     * @throws SQLException if server return an unexpected error
+     */
+    private void addStoredValue() throws IOException, SQLException {
+        Buffer buffer = this.reader.getPacket(true);
+        if (isEndOfRows(buffer.buf, buffer.limit)) {
+            return;
+        }
+        isEof = false;
+        if (statement == null || statement.getMaxRows() <= 0
+            || endIndexInEntireResult < statement.getMaxRows()) {
+            rowStore.add(buffer.buf, 0, buffer.limit);
+            dataSize++;
+            processedRows++;
+            endIndexInEntireResult++;
+        } else {
+            isLastRowSent = true;
+        }
+    }
+
+    /**
+     * Copy rows of chunk storage to data[][], for operations that need to modify rows.
+     */
+    private void materializeRows() {
+        if (rowStore == null) {
+            return;
+        }
+        byte[][] rows = new byte[Math.max(10, dataSize + 1)][];
+        for (int i = 0; i < dataSize; i++) {
+            rows[i] = rowStore.copyRow(i);
+        }
+        data = rows;
+        rowStore.clear();
+        rowStore = null;
+        lastRowPointer = -1;
+    }
+
     protected void updateStartIndexInEntireResult() {
         if (dataSize > 0) {
             startIndexInEntireResult = endIndexInEntireResult - dataSize + 1;
@@ -609,13 +696,30 @@ public class JDBC4ResultSet implements ResultSetImpl {
      */
     protected byte[] getNextRow() throws IOException, SQLException {
         byte[] buf = this.reader.getPacketArray(false);
+        if (isEndOfRows(buf, buf.length)) {
+            return null;
+        }
 
+        // is a result-set row, save it
+        isEof = false;
+        return buf;
+    }
+
+    /**
+     * Check if packet is an error or an end of rows packet, and handle it.
+     *
+     * @param buf packet array
+     * @param length packet length
+     * @return true if end of rows is reached
+     * @throws SQLException if packet is an error packet
+     */
+    private boolean isEndOfRows(byte[] buf, int length) throws SQLException {
         // is error Packet
         if (buf[0] == Packet.ERROR) {
             protocol.removeActiveStreamingResult();
             protocol.removeHasMoreResults();
             protocol.setHasWarnings(false);
-            ErrorPacket errorPacket = new ErrorPacket(new Buffer(buf));
+            ErrorPacket errorPacket = new ErrorPacket(new Buffer(buf, length));
             isEof = true;
             throw ExceptionFactory.INSTANCE.create(errorPacket.getMessage(),
                 errorPacket.getSqlState(), errorPacket.getErrorCode());
@@ -623,7 +727,7 @@ public class JDBC4ResultSet implements ResultSetImpl {
 
         // is end of stream
         if (buf[0] == Packet.EOF
-            && ((eofDeprecated && buf.length < 0xffffff) || (!eofDeprecated && buf.length < 8))) {
+            && ((eofDeprecated && length < 0xffffff) || (!eofDeprecated && length < 8))) {
             int serverStatus;
             int warnings;
 
@@ -660,12 +764,9 @@ public class JDBC4ResultSet implements ResultSetImpl {
             }
             isLastRowSent = (serverStatus & ServerStatus.LAST_ROW_SENT) != 0;
             isEof = true;
-            return null;
+            return true;
         }
-
-        // is a result-set row, save it
-        isEof = false;
-        return buf;
+        return false;
     }
 
     /**
@@ -674,6 +775,9 @@ public class JDBC4ResultSet implements ResultSetImpl {
      * @return row's raw bytes
      */
     public byte[] getCurrentRowData() {
+        if (rowStore != null) {
+            return rowStore.copyRow(rowPointer);
+        }
         return data[rowPointer];
     }
 
@@ -684,11 +788,13 @@ public class JDBC4ResultSet implements ResultSetImpl {
      * @param rawData new row's raw data.
      */
     protected void updateRowData(byte[] rawData) {
+        materializeRows();
         data[rowPointer] = rawData;
         row.resetRow(data[rowPointer]);
     }
 
     private void updateRowDataOneColumn(byte[] newColumn) {
+        materializeRows();
         byte[] newDataRow = new byte[data[rowPointer].length - row.length + newColumn.length];
 
         System.arraycopy(data[rowPointer], 0, newDataRow, 0, row.pos);
@@ -707,6 +813,7 @@ public class JDBC4ResultSet implements ResultSetImpl {
      * @throws SQLException if previous() fail.
      */
     protected void deleteCurrentRowData() throws SQLException {
+        materializeRows();
         // move data
         System.arraycopy(data, rowPointer + 1, data, rowPointer, dataSize - 1 - rowPointer);
         data[dataSize - 1] = null;
@@ -716,6 +823,7 @@ public class JDBC4ResultSet implements ResultSetImpl {
     }
 
     public void addRowData(byte[] rawData) {
+        materializeRows();
         if (dataSize + 1 >= data.length) {
             growDataArray();
         }
@@ -731,6 +839,7 @@ public class JDBC4ResultSet implements ResultSetImpl {
         if (dataSize == -1) {
             dataSize = 0;
         }
+        materializeRows();
 
         for (byte[] buf : rowData) {
             if (null != buf) {
@@ -791,6 +900,9 @@ public class JDBC4ResultSet implements ResultSetImpl {
         for (int i = 0; i < data.length; i++) {
             data[i] = null;
         }
+        if (rowStore != null) {
+            rowStore.clear();
+        }
 
         if (statement != null) {
             statement.checkCloseOnCompletion(this);
@@ -844,6 +956,9 @@ public class JDBC4ResultSet implements ResultSetImpl {
 
             // keep garbage easy
             Arrays.fill(data, null);
+            if (rowStore != null) {
+                rowStore.clear();
+            }
 
             if (statement != null) {
                 try {
@@ -895,7 +1010,12 @@ public class JDBC4ResultSet implements ResultSetImpl {
         }
 
         if (lastRowPointer != rowPointer || isModified) {
-            row.resetRow(data[rowPointer]);
+            if (rowStore != null) {
+                row.resetRow(rowStore.chunk(rowPointer), rowStore.offset(rowPointer),
+                    rowStore.length(rowPointer));
+            } else {
+                row.resetRow(data[rowPointer]);
+            }
             lastRowPointer = rowPointer;
         }
         row.setPosition(position - 1, this);
@@ -3191,6 +3311,7 @@ public class JDBC4ResultSet implements ResultSetImpl {
                 }
 
                 if (find) {
+                    materializeRows();
                     if (!Arrays.equals(data[rowPointer],
                         ((JDBC4ResultSet) refetchRs).getCurrentRowData())) {
                         data[rowPointer] = Arrays.copyOf(
@@ -547,8 +547,8 @@ public class JDBC4ServerCallableStatement extends CallableProcedureStatement imp
         }
     }
 
-    public boolean inCallableStatementCache(OceanBaseConnection connection){
-        String database ;
+    public boolean inCallableStatementCache(OceanBaseConnection connection) {
+        String database;
         String querySetToServer = this.originalSql;
         Matcher matcher = CALLABLE_STATEMENT_PATTERN.matcher(querySetToServer);
         if (matcher.matches()) {
@@ -568,7 +568,8 @@ public class JDBC4ServerCallableStatement extends CallableProcedureStatement imp
             database = connection.getProtocol().getDatabase();
         }
         if (database != null && options.cacheCallableStmts) {
-            CallableStatementCacheKey cacheKey = new CallableStatementCacheKey(database, querySetToServer);
+            CallableStatementCacheKey cacheKey = new CallableStatementCacheKey(database,
+                querySetToServer);
             return connection.getCallableStatementCache().containsKey(cacheKey);
         }
         return false;
@@ -589,7 +590,8 @@ public class JDBC4ServerCallableStatement extends CallableProcedureStatement imp
                 databaseOfStmt = protocol.getDatabase();
             }
             if (databaseOfStmt != null) {
-                CallableStatementCacheKey cacheKey = new CallableStatementCacheKey(databaseOfStmt, originalSql);
+                CallableStatementCacheKey cacheKey = new CallableStatementCacheKey(databaseOfStmt,
+                    originalSql);
                 this.connection.getCallableStatementCache().put(cacheKey, this);
             }
         }
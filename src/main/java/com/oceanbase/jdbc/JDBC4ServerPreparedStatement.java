@@ -52,18 +52,21 @@ package com.oceanbase.jdbc;
 
 import static com.oceanbase.jdbc.OceanBaseConnection.CALLABLE_STATEMENT_PATTERN;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.sql.*;
 import java.util.*;
 import java.util.regex.Matcher;
+import java.util.zip.Checksum;
 
 import com.oceanbase.jdbc.internal.ColumnType;
 import com.oceanbase.jdbc.internal.com.Packet;
 import com.oceanbase.jdbc.internal.com.read.dao.Results;
 import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
 import com.oceanbase.jdbc.internal.com.read.resultset.SelectResultSet;
+import com.oceanbase.jdbc.internal.com.send.ComStmtExecute;
 import com.oceanbase.jdbc.internal.com.send.parameters.NullParameter;
 import com.oceanbase.jdbc.internal.com.send.parameters.OBStructParameter;
 import com.oceanbase.jdbc.internal.com.send.parameters.ParameterHolder;
@@ -73,7 +76,7 @@ import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.internal.util.dao.ClientPrepareResult;
 import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
-import com.oceanbase.jdbc.util.OceanBaseCRC32C;
+import com.oceanbase.jdbc.util.CRC32CProvider;
 
 public class JDBC4ServerPreparedStatement extends BasePrepareStatement implements Cloneable {
 
@@ -81,7 +84,7 @@ public class JDBC4ServerPreparedStatement extends BasePrepareStatement implement
 
   private   boolean                         released;
   protected boolean                         isObFunction;
-  private   OceanBaseCRC32C                 crc32C = new OceanBaseCRC32C();
+  private   Checksum                        crc32C = CRC32CProvider.newInstance();
   // parameter
   protected Map<Integer, ParameterHolder>   currentParameterHolder;
   protected List<ParameterHolder[]>         parametersList = new ArrayList<>();
@@ -695,9 +698,53 @@ public class JDBC4ServerPreparedStatement extends BasePrepareStatement implement
         throw queryException;
       }
     }
+    if (results.getCmdInformation() != null) {
+      results.getCmdInformation().addArrayBindingSize(queryParameterSize);
+    }
     return  exception;
   }
 
+  /**
+   * Execute one row of a batch on its own.
+   *
+   * @param parameterHolder row parameters
+   * @param parameterCount parameters number
+   * @return Return sqlException  continueBatchOnError=true.
+   * @throws SQLException Throw sqlException if  continueBatchOnError=false.
+   */
+  private SQLException executeBatchRow(ParameterHolder[] parameterHolder, int parameterCount) throws SQLException {
+    try {
+      if (queryTimeout > 0) {
+        protocol.stopIfInterrupted();
+      }
+      if (serverPrepareResult != null) {
+        serverPrepareResult.resetParameterTypeHeader();
+      }
+      if (protocol.supportStmtPrepareExecute()) {
+        serverPrepareResult = protocol.executePreparedQuery(parameterCount, parameterHolder, serverPrepareResult, results);
+      } else {
+        protocol.executePreparedQuery(mustExecuteOnMaster, serverPrepareResult, results, parameterHolder);
+      }
+    } catch (SQLException queryException) {
+      if (options.continueBatchOnError) {
+        return queryException;
+      }
+      throw queryException;
+    }
+    return null;
+  }
+
+  /**
+   * Array binding sends a whole batch in a few COM_STMT_EXECUTE. Oracle mode only permits it
+   * within a transaction, MySQL mode requires a server that accepts it.
+   *
+   * @return true if executeBatch must rely on array binding
+   */
+  private boolean useArrayBindingBatch() throws SQLException {
+    return options.useServerPrepStmts && options.useArrayBinding && protocol.supportArrayBinding()
+           && (!protocol.isOracleMode() || !protocol.getAutocommit());
+  }
+
   private void executeBatchInternal(int queryParameterSize) throws SQLException {
     OceanBaseConnection currentConn = this.connection;
     if (protocol != null) {
@@ -818,7 +865,7 @@ public class JDBC4ServerPreparedStatement extends BasePrepareStatement implement
 
         if (protocol.supportStmtPrepareExecute()) {
           //According to the protocol definition, if using arrayBinding iterationCount > 1.
-          if(options.useServerPrepStmts && !this.protocol.getAutocommit() && protocol.isOracleMode() && options.useArrayBinding && !options.rewriteBatchedStatements) {
+          if (protocol.isOracleMode() && useArrayBindingBatch() && !options.rewriteBatchedStatements) {
             executeBatchByArrayBinding = true;
             iterationCount = 2;
           } else {
@@ -835,7 +882,7 @@ public class JDBC4ServerPreparedStatement extends BasePrepareStatement implement
         }
 
         // if multi send capacity
-        if (options.useBatchMultiSend || options.useBulkStmts) {
+        if ((options.useBatchMultiSend || options.useBulkStmts) && !useArrayBindingBatch()) {
           serverPrepareResult = protocol.executeBatchServer(serverPrepareResult, results, actualSql, parametersList, hasLongData);
           if (results.getBatchSucceed()) {
             if (resultSetMetaData == null) {
@@ -879,7 +926,7 @@ public class JDBC4ServerPreparedStatement extends BasePrepareStatement implement
             }
           }
         } else {
-          if(options.useServerPrepStmts && !this.protocol.getAutocommit() && protocol.isOracleMode() && options.useArrayBinding) {
+          if (useArrayBindingBatch()) {
             if(protocol.supportStmtPrepareExecute()) {
                 executeBatchByArrayBinding = true;
                 iterationCount = 2;
@@ -887,58 +934,46 @@ public class JDBC4ServerPreparedStatement extends BasePrepareStatement implement
             } else {
                 executeBatchByArrayBinding = false;
             }
-            ParameterHolder[] curParameterHolder;
-            ParameterHolder[] preParameterHolder = null;
+            // without piece data, rows with streams are executed on their own
+            boolean isolateLongData = !(options.usePieceData && protocol.isOracleMode());
+            int maxPacketSize = protocol.getWriter().getMaxAllowedPacket();
             int startIndex = 0;
-            int endIndex   = 0;
-            for (int counter = 0; counter < queryParameterSize; counter++) {
-              curParameterHolder = parametersList.get(counter);
-              endIndex = counter;
-              if(counter != 0) {
-                for(int i= 0; i < curParameterHolder.length;i++) {
-                  if ((curParameterHolder[i].getColumnType().getType() !=  preParameterHolder[i].getColumnType().getType())) {
-                    exceptionRet = executeArrayBinding(startIndex, endIndex, endIndex - startIndex);
-                      if (exceptionRet != null) {
-                        exception = exceptionRet;
-                      }
-                    // any type different send a arrray Binding packet (except the long data).
-                    startIndex = counter;
-                    break;
+            while (startIndex < queryParameterSize) {
+              int endIndex;
+              try {
+                endIndex = ComStmtExecute.arrayBindingEnd(parametersList, startIndex, queryParameterSize,
+                    parameterCountReal, options.maxBatchTotalParamsNum, maxPacketSize, isolateLongData);
+              } catch (IOException e) {
+                throw exceptionFactory.raiseStatementError(connection, this).create(e.getMessage(), "HY000", e);
+              }
+              if (isolateLongData && endIndex - startIndex == 1 && hasLongData(parametersList.get(startIndex))) {
+                if (executeBatchByArrayBinding) {
+                  // single row is not executed by array binding
+                  protocol.setIterationCount(1);
+                }
+                try {
+                  exceptionRet = executeBatchRow(parametersList.get(startIndex), parameterCountReal);
+                } finally {
+                  if (executeBatchByArrayBinding) {
+                    protocol.setIterationCount(iterationCount);
                   }
                 }
-              }
-              preParameterHolder = curParameterHolder;
-            }
-            endIndex ++ ;
-            if(startIndex != endIndex) {
-              exceptionRet = executeArrayBinding(startIndex,endIndex,endIndex-startIndex);
-                if(exceptionRet != null) {
-                  exception = exceptionRet;
+                if (results.getCmdInformation() != null) {
+                  results.getCmdInformation().addArrayBindingSize(1);
                 }
+              } else {
+                exceptionRet = executeArrayBinding(startIndex, endIndex, endIndex - startIndex);
+              }
+              if (exceptionRet != null && exception == null) {
+                exception = exceptionRet;
+              }
+              startIndex = endIndex;
             }
           } else {
             for (int counter = 0; counter < queryParameterSize; counter++) {
-              ParameterHolder[] parameterHolder = parametersList.get(counter);
-              try {
-                if (queryTimeout > 0) {
-                  protocol.stopIfInterrupted();
-                }
-                if (serverPrepareResult != null) {
-                  serverPrepareResult.resetParameterTypeHeader();
-                }
-                if (protocol.supportStmtPrepareExecute()) {
-                  serverPrepareResult = protocol.executePreparedQuery(parameterCountReal, parameterHolder, serverPrepareResult, results);
-                } else {
-                  protocol.executePreparedQuery(mustExecuteOnMaster, serverPrepareResult, results, parameterHolder);
-                }
-              } catch (SQLException queryException) {
-                if (options.continueBatchOnError) {
-                  if (exception == null) {
-                    exception = queryException;
-                  }
-                } else {
-                  throw queryException;
-                }
+              exceptionRet = executeBatchRow(parametersList.get(counter), parameterCountReal);
+              if (exceptionRet != null && exception == null) {
+                exception = exceptionRet;
               }
             }
           }
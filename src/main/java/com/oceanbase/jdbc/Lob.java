@@ -46,13 +46,14 @@ import java.io.*;
 import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.oceanbase.jdbc.internal.com.read.Buffer;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 
 class ObLobLocator {
 
-    protected byte[]                       binaryData;  // binary to data to send
+    protected byte[]                       binaryData; // binary to data to send
     protected long                         payloadSize; // for ObLobLocatorV1, it's payload_offset_;
                                                         // for ObLobLocatorV2, it's payload_offset_ or byte_size_.
     protected volatile OceanBaseConnection connection;
@@ -78,31 +79,32 @@ class ObLobLocatorV1 extends ObLobLocator {
      *      data_(payload):	    61 62 63 #will be store to Blob/Clob object
      */
 
-    protected long                         magicCode;                 // uint32_t magic_code_;
-    protected long                         version;                   // uint32_t version_;
-    protected long                         snapshotVersion;           // int64_t  snapshot_version_;
-    protected byte[]                       tableId;                   // uint64_t table_id_;
-    protected long                         columnId;                  // uint32_t column_id_;
-    protected int                          flags;                     // uint16_t flags_;
-    protected int                          option;                    // uint16_t option_;
-    protected long                         payloadOffset;             // uint32_t payload_offset_;
-//    protected long                         payloadSize;               // uint32_t payload_size_;
-    protected byte[]                       rowId;                     // row_id length == payloadOffset
+    protected long    magicCode;                 // uint32_t magic_code_;
+    protected long    version;                   // uint32_t version_;
+    protected long    snapshotVersion;           // int64_t  snapshot_version_;
+    protected byte[]  tableId;                   // uint64_t table_id_;
+    protected long    columnId;                  // uint32_t column_id_;
+    protected int     flags;                     // uint16_t flags_;
+    protected int     option;                    // uint16_t option_;
+    protected long    payloadOffset;             // uint32_t payload_offset_;
+                                                  //    protected long                         payloadSize;               // uint32_t payload_size_;
+    protected byte[]  rowId;                     // row_id length == payloadOffset
 
-    public static int                      OB_LOG_LOCATOR_HEADER = 40;
+    public static int OB_LOG_LOCATOR_HEADER = 40;
 
-    public ObLobLocatorV1() {}
+    public ObLobLocatorV1() {
+    }
 
 }
 
 // 8 bytes
 class ObMemLobCommon {
 
-    protected long magic;       // uint32_t. Consistent with V1
+    protected long magic;  // uint32_t. Consistent with V1
     // type, flags, version correspond to the old version in V1
-    protected byte version;     // uint32_t: 8 bits. When version is 1, parse according to V1
-    protected byte type;        // uint32_t: 4 bits. Persistent/TmpFull/TmpDelta
-    protected int  flags;       // uint32_t: 20 bits
+    protected byte version; // uint32_t: 8 bits. When version is 1, parse according to V1
+    protected byte type;   // uint32_t: 4 bits. Persistent/TmpFull/TmpDelta
+    protected int  flags;  // uint32_t: 20 bits
 
     ObMemLobCommon(long magicCode, long version) {
         this.magic = magicCode;
@@ -124,13 +126,13 @@ class ObMemLobCommon {
     }
 
     public static class Flag {
-        public static final int readOnly = 1;
+        public static final int readOnly     = 1;
         public static final int hasInRowData = 1 << 1;
-        public static final int isOpen   = 1 << 2;      // only persistent lob could be open
-        public static final int isSimple  = 1 << 3;     // It is used when there is only ObMemLobCommon.
-                                                        // When it is 0, it includes at least ObLobCommon (Disk), but it does not mean that there must be extern.
-                                                        // is_simple is only used to optimize some scenarios of mysql.
-        public static final int hasExtern = 1 << 4;
+        public static final int isOpen       = 1 << 2; // only persistent lob could be open
+        public static final int isSimple     = 1 << 3; // It is used when there is only ObMemLobCommon.
+                                                       // When it is 0, it includes at least ObLobCommon (Disk), but it does not mean that there must be extern.
+                                                       // is_simple is only used to optimize some scenarios of mysql.
+        public static final int hasExtern    = 1 << 4;
         // reserve 15 bits
     }
 
@@ -139,7 +141,7 @@ class ObMemLobCommon {
 // 4 bytes
 class ObLobCommon {
 
-    protected int flags;       // uint32_t: 24 bits
+    protected int flags; // uint32_t: 24 bits
 
     ObLobCommon(int flags) {
         this.flags = flags;
@@ -154,39 +156,43 @@ class ObLobCommon {
     }
 
     public static class Flag {
-        public static final int isInit = 1;
+        public static final int isInit  = 1;
         public static final int isEmpty = 1 << 1;
-        public static final int inRow   = 1 << 2;      // only persistent lob could be open
+        public static final int inRow   = 1 << 2; // only persistent lob could be open
     }
 
 }
 
 class ObLobLocatorV2 extends ObLobLocator {
 
-    public static int MEM_LOB_COMMON_LENGTH = 8;
-    public static int LOB_COMMON = 4;
+    public static int MEM_LOB_COMMON_LENGTH        = 8;
+    public static int LOB_COMMON                   = 4;
     public static int MEM_LOB_EXTERN_HEADER_LENGTH = 32;
 
-    ObMemLobCommon common;
+    ObMemLobCommon    common;
 
-    public ObLobLocatorV2() {}
+    public ObLobLocatorV2() {
+    }
 
 }
 
 public abstract class Lob implements Serializable {
 
-    protected static int DBMS_LOB_MAX_AMOUNT = 32767;
-
-    protected byte[]               data                 = null;
-    protected transient int        offset;
-    protected transient int        length;
-    protected ObLobLocator         locator              = null;
-    protected String               encoding             = null;
-    protected String               charData             = null;
-    protected int                  lengthFromServer     = -1;
-    protected ExceptionInterceptor exceptionInterceptor = null;
-    protected boolean              isOracleMode;
-    protected boolean              isClosed;
+    protected static int              DBMS_LOB_MAX_AMOUNT  = 32767;
+
+    protected byte[]                  data                 = null;
+    protected transient int           offset;
+    protected transient int           length;
+    protected ObLobLocator            locator              = null;
+    protected String                  encoding             = null;
+    protected String                  charData             = null;
+    protected int                     lengthFromServer     = -1;
+    protected ExceptionInterceptor    exceptionInterceptor = null;
+    protected boolean                 isOracleMode;
+    protected boolean                 isClosed;
+    // lock rather than monitor: it is held during server round trips
+    protected transient ReentrantLock lobLock              = new ReentrantLock();
+
     public Lob() {
         data = new byte[0];
         offset = 0;
@@ -242,7 +248,8 @@ public abstract class Lob implements Serializable {
         length = 0;
     }
 
-    public void buildObLobLocatorV1(boolean isBinary, Buffer buffer, long magicCode, long version, OceanBaseConnection conn) throws SQLException {
+    public void buildObLobLocatorV1(boolean isBinary, Buffer buffer, long magicCode, long version,
+                                    OceanBaseConnection conn) throws SQLException {
         ObLobLocatorV1 locator = new ObLobLocatorV1();
         locator.binaryData = buffer.getByteBuffer();
 
@@ -266,7 +273,8 @@ public abstract class Lob implements Serializable {
         this.locator = locator;
     }
 
-    public void buildObLobLocatorV2(boolean isBinary, Buffer buffer, long magicCode, long version, OceanBaseConnection conn) throws SQLException {
+    public void buildObLobLocatorV2(boolean isBinary, Buffer buffer, long magicCode, long version,
+                                    OceanBaseConnection conn) throws SQLException {
         ObLobLocatorV2 locator = new ObLobLocatorV2();
         ObMemLobCommon common = new ObMemLobCommon(magicCode, version);
 
@@ -337,7 +345,8 @@ public abstract class Lob implements Serializable {
         this.locator = locator;
     }
 
-    private void readInRowLobData(boolean isBinary, Buffer buffer, long lobLength) throws SQLException {
+    private void readInRowLobData(boolean isBinary, Buffer buffer, long lobLength)
+                                                                                  throws SQLException {
         if (isBinary) {
             data = buffer.readBytes((int) lobLength);
             length = data.length;
@@ -347,7 +356,8 @@ public abstract class Lob implements Serializable {
                     charData = new String(buffer.readBytes((int) lobLength), this.encoding);
                     length = charData.length();
                 } else {
-                    throw new SQLException("Exceed max length of Clob for support " + Clob.maxLength + " current " + lobLength);
+                    throw new SQLException("Exceed max length of Clob for support "
+                                           + Clob.maxLength + " current " + lobLength);
                 }
             } catch (UnsupportedEncodingException e) {
                 throw new SQLException("Unsupported character encoding " + this.encoding);
@@ -489,7 +499,7 @@ public abstract class Lob implements Serializable {
         }
         if (pos < 1) {
             throw ExceptionFactory.INSTANCE.create(String.format(
-                    "Out of range (position should be > 0, but is %s)", pos));
+                "Out of range (position should be > 0, but is %s)", pos));
         }
 
         // out-row of lob locator v2, needs to be read from server by procedure DBMS_LOB.READ
@@ -516,10 +526,16 @@ public abstract class Lob implements Serializable {
         offset = in.readInt();
         length = in.readInt();
         in.defaultReadObject();
+        lobLock = new ReentrantLock();
     }
 
-    public synchronized ObLobLocator getLocator() {
-        return this.locator;
+    public ObLobLocator getLocator() {
+        lobLock.lock();
+        try {
+            return this.locator;
+        } finally {
+            lobLock.unlock();
+        }
     }
 
     abstract protected void readFromServer() throws SQLException;
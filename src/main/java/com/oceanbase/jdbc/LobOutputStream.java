@@ -94,8 +94,8 @@ public class LobOutputStream extends OutputStream {
             lob.length = pos + realLen;
         }
         System.arraycopy(buf, off, lob.data, pos, realLen);
-        lob.charData = new String(lob.data, 0 , lob.length,
-                Charset.forName(lob.encoding == null ? "UTF-8" : lob.encoding));
+        lob.charData = new String(lob.data, 0, lob.length,
+            Charset.forName(lob.encoding == null ? "UTF-8" : lob.encoding));
         pos += realLen;
     }
 
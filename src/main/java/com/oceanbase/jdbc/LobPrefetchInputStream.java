@@ -0,0 +1,374 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Stream of a LOB read from server by chunks.
+ *
+ * <p>Chunks are read on the calling thread by default : a reader querying the connection of the
+ * caller must not run while the caller uses it. Only a reader using a dedicated connection may be
+ * given an executor, the next chunk then being requested when a chunk is received, so that the
+ * server round trip overlaps consumption of the current chunk. Chunk size starts at the minimum
+ * size, and is then adapted to measured throughput so that each request takes about {@link
+ * #TARGET_FETCH_NANOS}.
+ *
+ * <p>{@link #transferTo(OutputStream)} and {@link #transferTo(WritableByteChannel)} write chunks
+ * directly, without copy to an intermediate buffer.
+ */
+public class LobPrefetchInputStream extends InputStream {
+
+    /** Time a chunk request should take : long enough to amortize round trip. */
+    static final long TARGET_FETCH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /** Read a chunk of LOB. */
+    public interface ChunkReader {
+
+        /**
+         * Read a chunk.
+         *
+         * @param position position of first byte (or character for CLOB) to read, starting at 1
+         * @param amount number of bytes (or characters for CLOB) to read
+         * @return chunk read, null when end of LOB is reached
+         * @throws SQLException if any error occur
+         */
+        LobChunk read(long position, int amount) throws SQLException;
+    }
+
+    /**
+     * Data of a chunk, with the amount actually read: server may return fewer characters of a
+     * multibyte CLOB than requested, and next chunk must start right after them.
+     */
+    public static final class LobChunk {
+
+        private final byte[] data;
+        private final int    amount;
+
+        /**
+         * Constructor.
+         *
+         * @param data chunk data
+         * @param amount number of bytes (or characters for CLOB) read
+         */
+        public LobChunk(byte[] data, int amount) {
+            this.data = data;
+            this.amount = amount;
+        }
+
+        /**
+         * Chunk of a binary LOB, in which amount is the data length.
+         *
+         * @param data chunk data, may be null
+         * @return chunk, null when data is null
+         */
+        public static LobChunk of(byte[] data) {
+            return data == null ? null : new LobChunk(data, data.length);
+        }
+    }
+
+    private final ChunkReader        reader;
+    private final Executor           executor;
+    private final long               timeoutMillis;
+    private final long               end;
+    private final int                minChunkSize;
+    private final int                maxChunkSize;
+    private int                      chunkSize;
+    private long                     position;
+    private byte[]                   current;
+    private int                      currentPos;
+    private CompletableFuture<Chunk> prefetch;
+    private boolean                  eof;
+    private boolean                  closed;
+
+    /**
+     * Constructor of a stream reading chunks on the calling thread.
+     *
+     * @param reader chunk reader
+     * @param position position of first byte (or character) to read, starting at 1
+     * @param length number of bytes (or characters) to read, -1 to read until end of LOB
+     * @param minChunkSize initial and minimum chunk size
+     * @param maxChunkSize maximum chunk size
+     */
+    public LobPrefetchInputStream(ChunkReader reader, long position, long length, int minChunkSize,
+                                  int maxChunkSize) {
+        this(reader, position, length, minChunkSize, maxChunkSize, null, 0);
+    }
+
+    /**
+     * Constructor of a stream prefetching next chunk with executor. Reader must not use a
+     * connection the caller may use meanwhile.
+     *
+     * @param reader chunk reader
+     * @param position position of first byte (or character) to read, starting at 1
+     * @param length number of bytes (or characters) to read, -1 to read until end of LOB
+     * @param minChunkSize initial and minimum chunk size
+     * @param maxChunkSize maximum chunk size
+     * @param executor executor reading next chunk, null to read on the calling thread
+     * @param timeoutMillis maximum time waiting for a prefetched chunk
+     */
+    public LobPrefetchInputStream(ChunkReader reader, long position, long length, int minChunkSize,
+                                  int maxChunkSize, Executor executor, long timeoutMillis) {
+        this.reader = reader;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.position = position;
+        this.end = length < 0 ? -1 : position + length;
+        this.minChunkSize = Math.max(1, minChunkSize);
+        this.maxChunkSize = Math.max(this.minChunkSize, maxChunkSize);
+        this.chunkSize = this.minChunkSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextChunk()) {
+            return -1;
+        }
+        return current[currentPos++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextChunk()) {
+            return -1;
+        }
+        int read = Math.min(len, current.length - currentPos);
+        System.arraycopy(current, currentPos, b, off, read);
+        currentPos += read;
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return current == null ? 0 : current.length - currentPos;
+    }
+
+    /**
+     * Write remaining data to output stream.
+     *
+     * @param out output stream
+     * @return number of bytes written
+     * @throws IOException if any error occur
+     */
+    public long transferTo(OutputStream out) throws IOException {
+        long transferred = 0;
+        while (nextChunk()) {
+            int remaining = current.length - currentPos;
+            out.write(current, currentPos, remaining);
+            currentPos = current.length;
+            transferred += remaining;
+        }
+        return transferred;
+    }
+
+    /**
+     * Write remaining data to channel, like a {@link java.nio.channels.FileChannel}.
+     *
+     * @param channel channel
+     * @return number of bytes written
+     * @throws IOException if any error occur
+     */
+    public long transferTo(WritableByteChannel channel) throws IOException {
+        long transferred = 0;
+        while (nextChunk()) {
+            ByteBuffer buffer = ByteBuffer.wrap(current, currentPos, current.length - currentPos);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            transferred += current.length - currentPos;
+            currentPos = current.length;
+        }
+        return transferred;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        current = null;
+        if (prefetch != null) {
+            // result is discarded, request will end by itself
+            prefetch.cancel(false);
+            prefetch = null;
+        }
+    }
+
+    int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Ensure current chunk has data to read, waiting for next chunk if needed.
+     *
+     * @return true if data is available, false at end of LOB
+     * @throws IOException if stream is closed or chunk cannot be read
+     */
+    private boolean nextChunk() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (current == null || currentPos >= current.length) {
+            if (eof) {
+                return false;
+            }
+            CompletableFuture<Chunk> pending = prefetch != null ? prefetch : request(false);
+            prefetch = null;
+            Chunk chunk = pending == null ? null : await(pending);
+            if (chunk == null || chunk.data == null || chunk.data.length == 0 || chunk.amount <= 0) {
+                eof = true;
+                current = null;
+                return false;
+            }
+            adaptChunkSize(chunk);
+            current = chunk.data;
+            currentPos = 0;
+            position += chunk.amount;
+            prefetch = executor != null ? request(true) : null;
+        }
+        return true;
+    }
+
+    /**
+     * Request next chunk. Only one request is pending at a time, and position is advanced by the
+     * amount actually read when it is received.
+     *
+     * @param async request using executor
+     * @return future chunk, null if all data has been requested
+     */
+    private CompletableFuture<Chunk> request(boolean async) {
+        if (end >= 0 && position >= end) {
+            return null;
+        }
+        final long pos = position;
+        final int amount = end >= 0 ? (int) Math.min(chunkSize, end - position) : chunkSize;
+
+        CompletableFuture<Chunk> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                long start = System.nanoTime();
+                LobChunk lobChunk = reader.read(pos, amount);
+                future.complete(lobChunk == null ? null : new Chunk(lobChunk.data,
+                    lobChunk.amount, System.nanoTime() - start));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        if (async) {
+            try {
+                executor.execute(task);
+                return future;
+            } catch (RejectedExecutionException r) {
+                // no thread available : read when needed
+            }
+        }
+        task.run();
+        return future;
+    }
+
+    private Chunk await(CompletableFuture<Chunk> future) throws IOException {
+        try {
+            return future.isDone() ? future.get() : future.get(timeoutMillis,
+                TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new IOException("Timeout after " + timeoutMillis + "ms reading LOB chunk");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted reading LOB");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Size next chunks so a request takes about {@link #TARGET_FETCH_NANOS}, changing size by no more
+     * than a factor 2 at a time.
+     *
+     * @param chunk received chunk
+     */
+    private void adaptChunkSize(Chunk chunk) {
+        double bytesByNano = (double) chunk.data.length / Math.max(1, chunk.elapsedNanos);
+        long ideal = (long) (bytesByNano * TARGET_FETCH_NANOS);
+        long size = Math.max(chunkSize / 2, Math.min((long) chunkSize * 2, ideal));
+        chunkSize = (int) Math.max(minChunkSize, Math.min(maxChunkSize, size));
+    }
+
+    private static final class Chunk {
+
+        private final byte[] data;
+        private final int    amount;
+        private final long   elapsedNanos;
+
+        private Chunk(byte[] data, int amount, long elapsedNanos) {
+            this.data = data;
+            this.amount = amount;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
@@ -53,6 +53,7 @@ package com.oceanbase.jdbc;
 import java.net.SocketException;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
@@ -86,23 +87,39 @@ public class OceanBaseConnection implements ConnectionImpl {
      * documented in JDK have the form: {[?=]call[(arg1,..,,argn)]}
      */
     public static final Pattern      CALLABLE_STATEMENT_PATTERN          = Pattern
-                                                                             .compile("^(\\s*\\{)?\\s*" +                                                       // Match start character "{"
-                                                                                         "(" +                                                                  // begin of match group 2
-                                                                                         "(\\?\\s*=)?(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*" +              // match the character like "？=", and commnet
-                                                                                         "call(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*" +                     // match the keyword call， and comment
-                                                                                         "((((`[^`]+`)|([^`\\}\\(]+))\\.)?((`[^`]+`)|([^`\\}\\(]+)))\\s*" +     // match the databaseName and procedureName， like database.procedure
-                                                                                         "(\\(.*\\))?(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*(#.*)?" +        // match the procedureParams，and comment begin of （
-                                                                                         ")\\s*" +                                                              // end of match group 2
-                                                                                         "(\\}\\s*)?$"                                                          // Match start character "}"
-                                                                                     ,Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
-
-    public static final Pattern      ACTUAL_SQL_FUNC_PATTERN          = Pattern
-                                                                            .compile("BEGIN\\s*" +                                                              // match start with BEGIN
-                                                                                         "(\\?:=)?(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*" +                 // match ?:= & comment
-                                                                                         "((((`[^`]+`)|([^`\\}\\(]+))\\.)?((`[^`]+`)|([^`\\}\\(]+)))\\s*" +     // match the databaseName and procedureName， like database.procedure
-                                                                                         "(\\(.*\\))?(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*(#.*)?" +        // match the procedureParams，and comment begin of （
-                                                                                         "\\s*;END;"                                                            // match end with ;END;
-                                                                                     ,Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+                                                                             .compile(
+                                                                                 "^(\\s*\\{)?\\s*"
+                                                                                         + // Match start character "{"
+                                                                                         "("
+                                                                                         + // begin of match group 2
+                                                                                         "(\\?\\s*=)?(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*"
+                                                                                         + // match the character like "？=", and commnet
+                                                                                         "call(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*"
+                                                                                         + // match the keyword call， and comment
+                                                                                         "((((`[^`]+`)|([^`\\}\\(]+))\\.)?((`[^`]+`)|([^`\\}\\(]+)))\\s*"
+                                                                                         + // match the databaseName and procedureName， like database.procedure
+                                                                                         "(\\(.*\\))?(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*(#.*)?"
+                                                                                         + // match the procedureParams，and comment begin of （
+                                                                                         ")\\s*" + // end of match group 2
+                                                                                         "(\\}\\s*)?$" // Match start character "}"
+                                                                                 ,
+                                                                                 Pattern.CASE_INSENSITIVE
+                                                                                         | Pattern.DOTALL);
+
+    public static final Pattern      ACTUAL_SQL_FUNC_PATTERN             = Pattern
+                                                                             .compile(
+                                                                                 "BEGIN\\s*"
+                                                                                         + // match start with BEGIN
+                                                                                         "(\\?:=)?(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*"
+                                                                                         + // match ?:= & comment
+                                                                                         "((((`[^`]+`)|([^`\\}\\(]+))\\.)?((`[^`]+`)|([^`\\}\\(]+)))\\s*"
+                                                                                         + // match the databaseName and procedureName， like database.procedure
+                                                                                         "(\\(.*\\))?(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*(#.*)?"
+                                                                                         + // match the procedureParams，and comment begin of （
+                                                                                         "\\s*;END;" // match end with ;END;
+                                                                                 ,
+                                                                                 Pattern.CASE_INSENSITIVE
+                                                                                         | Pattern.DOTALL);
     /**
      * Check that query can be executed with PREPARE.
      */
@@ -135,6 +152,8 @@ public class OceanBaseConnection implements ConnectionImpl {
     private int                      stateFlag                           = 0;
     private int                      defaultTransactionIsolation         = 0;
     private ExceptionFactory         exceptionFactory;
+    private AsyncExecutionQueue      asyncExecutionQueue                 = new AsyncExecutionQueue(
+                                                                             this);
 
     private boolean                  warningsCleared;
 
@@ -421,6 +440,52 @@ public class OceanBaseConnection implements ConnectionImpl {
         return protocol;
     }
 
+    AsyncExecutionQueue getAsyncExecutionQueue() {
+        return asyncExecutionQueue;
+    }
+
+    /**
+     * Executes a select query asynchronously on a new statement, closed with its result set.
+     * Asynchronous executions of a connection are executed in submission order, and queries waiting
+     * for the connection are pipelined.
+     *
+     * @param sql the query to send to the server
+     * @return future completed with the result set
+     * @throws SQLException if connection is closed
+     */
+    public CompletableFuture<ResultSet> executeQueryAsync(String sql) throws SQLException {
+        OceanBaseStatement statement = (OceanBaseStatement) createStatement();
+        statement.closeOnCompletion();
+        return statement.executeQueryAsync(sql).whenComplete((resultSet, error) -> {
+            try {
+                // statement is closed with result set only if query returned one
+                if (error != null || ((JDBC4ResultSet) resultSet).getStatement() != statement) {
+                    statement.close();
+                }
+            } catch (SQLException e) {
+                // eat
+            }
+        });
+    }
+
+    /**
+     * Executes an update asynchronously on a new statement, closed once executed.
+     *
+     * @param sql the update query
+     * @return future completed with the update count
+     * @throws SQLException if connection is closed
+     */
+    public CompletableFuture<Integer> executeUpdateAsync(String sql) throws SQLException {
+        OceanBaseStatement statement = (OceanBaseStatement) createStatement();
+        return statement.executeUpdateAsync(sql).whenComplete((count, error) -> {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                // eat
+            }
+        });
+    }
+
     /**
      * creates a new statement.
      *
@@ -502,7 +567,9 @@ public class OceanBaseConnection implements ConnectionImpl {
         return clientPrepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
     }
 
-    public ClientSidePreparedStatement clientPrepareStatement(final String sql, int autoGeneratedKeys) throws SQLException {
+    public ClientSidePreparedStatement clientPrepareStatement(final String sql,
+                                                              int autoGeneratedKeys)
+                                                                                    throws SQLException {
         return new ClientSidePreparedStatement(this, sql, ResultSet.TYPE_FORWARD_ONLY,
             ResultSet.CONCUR_READ_ONLY, autoGeneratedKeys, exceptionFactory);
     }
@@ -671,8 +738,12 @@ public class OceanBaseConnection implements ConnectionImpl {
         try {
             ((JDBC4ServerPreparedStatement) ps).registerReturnAutoGeneratedKey(autoKey);
         } catch (ClassCastException e) {
-            if (e.getMessage().contains("com.oceanbase.jdbc.ClientSidePreparedStatement cannot be cast to com.oceanbase.jdbc.JDBC4ServerPreparedStatement")) {
-                throw new SQLException("Add JDBC URL option \"useOraclePrepareExecute=true\" to create a default PreparedStatement object capable of returning the auto-generated keys designated by the given array");
+            if (e
+                .getMessage()
+                .contains(
+                    "com.oceanbase.jdbc.ClientSidePreparedStatement cannot be cast to com.oceanbase.jdbc.JDBC4ServerPreparedStatement")) {
+                throw new SQLException(
+                    "Add JDBC URL option \"useOraclePrepareExecute=true\" to create a default PreparedStatement object capable of returning the auto-generated keys designated by the given array");
             }
         }
         return ps;
@@ -726,8 +797,12 @@ public class OceanBaseConnection implements ConnectionImpl {
         try {
             ((JDBC4ServerPreparedStatement) ps).registerReturnAutoGeneratedKey(autoKey);
         } catch (ClassCastException e) {
-            if (e.getMessage().contains("com.oceanbase.jdbc.ClientSidePreparedStatement cannot be cast to com.oceanbase.jdbc.JDBC4ServerPreparedStatement")) {
-                throw new SQLException("Add JDBC URL option \"useOraclePrepareExecute=true\" to create a default PreparedStatement object capable of returning the auto-generated keys designated by the given array");
+            if (e
+                .getMessage()
+                .contains(
+                    "com.oceanbase.jdbc.ClientSidePreparedStatement cannot be cast to com.oceanbase.jdbc.JDBC4ServerPreparedStatement")) {
+                throw new SQLException(
+                    "Add JDBC URL option \"useOraclePrepareExecute=true\" to create a default PreparedStatement object capable of returning the auto-generated keys designated by the given array");
             }
         }
 
@@ -774,7 +849,9 @@ public class OceanBaseConnection implements ConnectionImpl {
                 sqlQuery = getCachedSql(sqlQuery);
             }
             // Oracle mode don't determine sql string, so that anonymous blocks can be executed through PS . Maybe ORACLE_PREPARABLE_STATEMENT_PATTERN  should be added (todo).
-            if (options.useServerPrepStmts && (this.protocol.isOracleMode() || PREPARABLE_STATEMENT_PATTERN_MYSQL.matcher(sqlQuery).find())) {
+            if (options.useServerPrepStmts
+                && (this.protocol.isOracleMode() || PREPARABLE_STATEMENT_PATTERN_MYSQL.matcher(
+                    sqlQuery).find())) {
                 // prepare isn't delayed -> if prepare fail, fallback to client preparedStatement?
                 checkConnection();
                 try {
@@ -972,14 +1049,16 @@ public class OceanBaseConnection implements ConnectionImpl {
             } else {
                 String actualQuery;
                 if (databaseAndProcedure.startsWith("?")) {
-                    if (database.startsWith("?")){
+                    if (database.startsWith("?")) {
                         database = correctDatabaseAndProcedureName(database);
-                    } else if (procedureName.startsWith("?")){
+                    } else if (procedureName.startsWith("?")) {
                         procedureName = correctDatabaseAndProcedureName(procedureName);
                     }
-                    actualQuery = "BEGIN " + databaseAndProcedure + ((arguments == null) ? "()" : arguments) + ";END;";
+                    actualQuery = "BEGIN " + databaseAndProcedure
+                                  + ((arguments == null) ? "()" : arguments) + ";END;";
                 } else {
-                    actualQuery = "BEGIN ?:=" + databaseAndProcedure + ((arguments == null) ? "()" : arguments) + ";END;";
+                    actualQuery = "BEGIN ?:=" + databaseAndProcedure
+                                  + ((arguments == null) ? "()" : arguments) + ";END;";
                 }
                 return new OceanBaseProcedureStatement(true, actualQuery,
                     (OceanBaseConnection) this, procedureName, database, arguments, resultSetType,
@@ -1213,7 +1292,8 @@ public class OceanBaseConnection implements ConnectionImpl {
             logger.debug("conn={}({}) - set read-only to value {} {}",
                 protocol.getServerThreadId(), protocol.isMasterConnection() ? "M" : "S", readOnly);
             if (protocol.isOracleMode() && options.oracleChangeReadOnlyToRepeatableRead) {
-                setTransactionIsolation(readOnly ? TRANSACTION_REPEATABLE_READ : TRANSACTION_READ_COMMITTED);
+                setTransactionIsolation(readOnly ? TRANSACTION_REPEATABLE_READ
+                    : TRANSACTION_READ_COMMITTED);
             } else {
                 stateFlag |= ConnectionState.STATE_READ_ONLY;
                 protocol.setReadonly(readOnly);
@@ -1957,17 +2037,16 @@ public class OceanBaseConnection implements ConnectionImpl {
         boolean fetchTypeFromRemote = true;
         ComplexDataType attrType = null;
         if (getCacheComplexData()) {
-            synchronized (this.complexDataCache) {
-                attrType = (ComplexDataType) this.complexDataCache.get(typeName.toUpperCase());
-                if (null != attrType && attrType.isValid()) {
-                    fetchTypeFromRemote = false;
-                } else if (null == attrType
-                           && ComplexDataType.isBaseDataType(ComplexDataType
-                               .getObComplexType(typeName))) {
-                    fetchTypeFromRemote = false;
-                    attrType = new ComplexDataType(typeName, this.getOracleSchemaInternal(),
-                        ComplexDataType.getObComplexType(typeName));
-                }
+            attrType = getComplexDataTypeFromCache(typeName);
+            if (null != attrType && attrType.isValid()) {
+                fetchTypeFromRemote = false;
+            } else if (null == attrType
+                       && ComplexDataType
+                           .isBaseDataType(ComplexDataType.getObComplexType(typeName))) {
+                fetchTypeFromRemote = false;
+                // schema query is done outside of cache monitor
+                attrType = new ComplexDataType(typeName, this.getOracleSchemaInternal(),
+                    ComplexDataType.getObComplexType(typeName));
             }
         }
         if (fetchTypeFromRemote) {
@@ -1993,15 +2072,15 @@ public class OceanBaseConnection implements ConnectionImpl {
     }
 
     public void recacheComplexDataType(ComplexDataType type) {
-        synchronized (this.protocol) { // todo don't know
-            synchronized (this.complexDataCache) {
-                this.complexDataCache.put(type.getTypeName().toUpperCase(), type);
-            }
+        synchronized (this.complexDataCache) {
+            this.complexDataCache.put(type.getTypeName().toUpperCase(), type);
         }
     }
 
-    public ComplexDataType getComplexDataType(String typeName, ColumnDefinition columnDefinition) throws SQLException {
-        if (typeName.isEmpty() && columnDefinition.getElemSqlType() != -1 && columnDefinition.getElemSqlType() != ColumnType.COMPLEX.getType()) {
+    public ComplexDataType getComplexDataType(String typeName, ColumnDefinition columnDefinition)
+                                                                                                 throws SQLException {
+        if (typeName.isEmpty() && columnDefinition.getElemSqlType() != -1
+            && columnDefinition.getElemSqlType() != ColumnType.COMPLEX.getType()) {
             return getAnonymousArrayComplexType(columnDefinition);
         }
         ComplexDataType type = null;
@@ -2013,14 +2092,18 @@ public class OceanBaseConnection implements ConnectionImpl {
         return type;
     }
 
-    public ComplexDataType getAnonymousArrayComplexType(ColumnDefinition columnDefinition){
+    public ComplexDataType getAnonymousArrayComplexType(ColumnDefinition columnDefinition) {
         // array
-        ComplexDataType complexDataType = new ComplexDataType("anonymousArray", columnDefinition.getDatabase(),  ComplexDataType.TYPE_COLLECTION);
+        ComplexDataType complexDataType = new ComplexDataType("anonymousArray",
+            columnDefinition.getDatabase(), ComplexDataType.TYPE_COLLECTION);
 
         // base date type
         int elemSqlType = columnDefinition.getElemSqlType();
-        ColumnType columnType = ColumnType.convertProtocolTypeToColumnType(elemSqlType, columnDefinition.getCharsetNumber(), protocol.isOracleMode(), options);
-        ComplexDataType attrComplexType = new ComplexDataType(ComplexDataType.getTypeNameByColumnType(columnType), "",  ComplexDataType.convertColumnTypeToComplexDataType(columnType));
+        ColumnType columnType = ColumnType.convertProtocolTypeToColumnType(elemSqlType,
+            columnDefinition.getCharsetNumber(), protocol.isOracleMode(), options);
+        ComplexDataType attrComplexType = new ComplexDataType(
+            ComplexDataType.getTypeNameByColumnType(columnType), "",
+            ComplexDataType.convertColumnTypeToComplexDataType(columnType));
         attrComplexType.setValid(true);
 
         complexDataType.setAttrCount(1);
@@ -2050,8 +2133,8 @@ public class OceanBaseConnection implements ConnectionImpl {
         ResultSet rs = null;
         try {
             conn = this.getComplexConnection(); // NOPMD
-            ps = conn.prepareStatement(complexTypeSql,
-                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+            ps = conn.prepareStatement(complexTypeSql, ResultSet.TYPE_SCROLL_INSENSITIVE,
+                ResultSet.CONCUR_READ_ONLY);
 
             ps.setString(1, typeName.toUpperCase());
             ps.setString(2, typeName.toUpperCase());
@@ -2076,7 +2159,8 @@ public class OceanBaseConnection implements ConnectionImpl {
                 ps.setString(2, typeName.toUpperCase());
                 rs = ps.executeQuery(); // NOPMD
                 if (!rs.next()) {
-                    HashMap<String, String> nameResolveMap = getPLSchemaByNameResolve(typeName, conn);
+                    HashMap<String, String> nameResolveMap = getPLSchemaByNameResolve(typeName,
+                        conn);
                     String schema = nameResolveMap.get("schema");
                     if (schema != null && !schema.isEmpty()) {
                         rs.close();
@@ -2153,7 +2237,7 @@ public class OceanBaseConnection implements ConnectionImpl {
 
         } catch (SQLException e) {
             throw e;
-        }finally {
+        } finally {
             if (rs != null) {
                 rs.close();
             }
@@ -2161,7 +2245,8 @@ public class OceanBaseConnection implements ConnectionImpl {
                 ps.close();
             }
             if (conn != null) {
-                conn.close();;
+                conn.close();
+                ;
             }
         }
         return getComplexDataTypeFromCache(synonymOriginName);
@@ -2214,7 +2299,8 @@ public class OceanBaseConnection implements ConnectionImpl {
             }
         } catch (Exception e) {
             throw new SQLException(
-                "The receiver is not a wrapper and does not implement the interface " + iface.getName());
+                "The receiver is not a wrapper and does not implement the interface "
+                        + iface.getName());
         }
     }
 
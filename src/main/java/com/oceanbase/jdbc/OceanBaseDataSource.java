@@ -399,11 +399,13 @@ public class OceanBaseDataSource implements DataSource, XADataSource {
                 return iface.cast(this);
             } else {
                 throw new SQLException(
-                    "The receiver is not a wrapper and does not implement the interface " + iface.getName());
+                    "The receiver is not a wrapper and does not implement the interface "
+                            + iface.getName());
             }
         } catch (Exception e) {
             throw new SQLException(
-                "The receiver is not a wrapper and does not implement the interface " + iface.getName());
+                "The receiver is not a wrapper and does not implement the interface "
+                        + iface.getName());
         }
     }
 
@@ -623,7 +623,7 @@ public abstract class OceanBaseOracleDatabaseMetadata implements DatabaseMetaDat
     @Override
     public ResultSet getFunctionColumns(String catalog, String schemaPattern,
                                         String functionNamePattern, String columnNamePattern)
-            throws SQLException {
+                                                                                             throws SQLException {
         if (schemaPattern == null) {
             schemaPattern = "%";
         } else if (schemaPattern.isEmpty()) {
@@ -663,7 +663,8 @@ public abstract class OceanBaseOracleDatabaseMetadata implements DatabaseMetaDat
         ps.setString(2, functionNamePattern);
         if (catalog == null || catalog.isEmpty()) {
             ps.setString(3, columnNamePattern);
-        } else {;
+        } else {
+            ;
             ps.setString(3, catalog);
             ps.setString(4, columnNamePattern);
         }
@@ -675,10 +676,10 @@ public abstract class OceanBaseOracleDatabaseMetadata implements DatabaseMetaDat
         Options options = this.connection.getProtocol().getOptions();
         if (options.compatibleOjdbcVersion == 8) {
             return String.format(OB_ORA_GET_FUNCTION_COL_INFO_V8,
-                    options.mapDateToTimestamp ? "93 " : "91 ");
-        }
-        return String.format(OB_ORA_GET_FUNCTION_COL_INFO_V6,
                 options.mapDateToTimestamp ? "93 " : "91 ");
+        }
+        return String.format(OB_ORA_GET_FUNCTION_COL_INFO_V6, options.mapDateToTimestamp ? "93 "
+            : "91 ");
 
     }
 }
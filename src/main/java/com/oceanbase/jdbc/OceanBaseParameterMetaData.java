@@ -62,14 +62,15 @@ import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 public class OceanBaseParameterMetaData implements ParameterMetaData {
 
     private final ColumnDefinition[] parametersInformation;
-    private int parameterCount;
-    private boolean returnSimpleMetadata;
+    private int                      parameterCount;
+    private boolean                  returnSimpleMetadata;
 
     public OceanBaseParameterMetaData(ColumnDefinition[] parametersInformation) {
         this.parametersInformation = parametersInformation;
     }
 
-    public OceanBaseParameterMetaData(ColumnDefinition[] parametersInformation, int parameterCount, boolean returnSimpleMetadata) {
+    public OceanBaseParameterMetaData(ColumnDefinition[] parametersInformation, int parameterCount,
+                                      boolean returnSimpleMetadata) {
         this.parametersInformation = parametersInformation;
         this.parameterCount = parameterCount;
         this.returnSimpleMetadata = returnSimpleMetadata;
@@ -116,6 +117,7 @@ public class OceanBaseParameterMetaData implements ParameterMetaData {
         }
         return getParameterInformation(param).isSigned();
     }
+
     @Override
     public int getPrecision(int param) throws SQLException {
         if (returnSimpleMetadata) {
@@ -125,6 +127,7 @@ public class OceanBaseParameterMetaData implements ParameterMetaData {
         long length = getParameterInformation(param).getLength();
         return (length > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) length;
     }
+
     @Override
     public int getScale(int param) throws SQLException {
         if (returnSimpleMetadata) {
@@ -154,7 +157,7 @@ public class OceanBaseParameterMetaData implements ParameterMetaData {
         //todo oracle mode temporarily maintain the original state , further research is needed
         if (getParameterInformation(param).isOracleMode()) {
             throw ExceptionFactory.INSTANCE
-                    .notSupported("Getting parameter type metadata are not supported");
+                .notSupported("Getting parameter type metadata are not supported");
         }
         return getParameterInformation(param).getColumnType().getType();
     }
@@ -192,7 +195,8 @@ public class OceanBaseParameterMetaData implements ParameterMetaData {
             }
         } catch (Exception e) {
             throw new SQLException(
-                "The receiver is not a wrapper and does not implement the interface " + iface.getName());
+                "The receiver is not a wrapper and does not implement the interface "
+                        + iface.getName());
         }
     }
 
@@ -202,12 +206,12 @@ public class OceanBaseParameterMetaData implements ParameterMetaData {
 
     public void checkBounds(int paramNumber) throws SQLException {
         if (paramNumber < 1) {
-            throw new SQLException(
-                    "Parameter index of '" + paramNumber + "' is invalid.");
+            throw new SQLException("Parameter index of '" + paramNumber + "' is invalid.");
         }
         if (paramNumber > this.parameterCount) {
-            throw new SQLException(
-                    "Parameter index of '" + paramNumber + "' is greater than number of parameters, which is '" + this.parameterCount + "'.");
+            throw new SQLException("Parameter index of '" + paramNumber
+                                   + "' is greater than number of parameters, which is '"
+                                   + this.parameterCount + "'.");
         }
     }
 }
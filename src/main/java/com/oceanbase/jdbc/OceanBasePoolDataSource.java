@@ -57,6 +57,7 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
 import javax.sql.*;
@@ -73,15 +74,16 @@ public class OceanBasePoolDataSource extends OceanBaseDataSource implements
                                                                 XADataSource, Closeable,
                                                                 AutoCloseable {
 
-    private UrlParser poolUrlParser;
-    private Pool      pool;
-    private String    poolName;
-    private Integer   maxPoolSize;
-    private Integer   minPoolSize;
-    private Integer   maxIdleTime;
-    private Boolean   staticGlobal;
-    private Integer   poolValidMinDelay;
-    private Boolean   enablePool;
+    private UrlParser           poolUrlParser;
+    private Pool                pool;
+    private String              poolName;
+    private Integer             maxPoolSize;
+    private Integer             minPoolSize;
+    private Integer             maxIdleTime;
+    private Boolean             staticGlobal;
+    private Integer             poolValidMinDelay;
+    private Boolean             enablePool;
+    private final ReentrantLock poolInitLock = new ReentrantLock();
 
     /**
      * Constructor.
@@ -352,11 +354,13 @@ public class OceanBasePoolDataSource extends OceanBaseDataSource implements
                 return iface.cast(this);
             } else {
                 throw new SQLException(
-                    "The receiver is not a wrapper and does not implement the interface " + iface.getName());
+                    "The receiver is not a wrapper and does not implement the interface "
+                            + iface.getName());
             }
         } catch (Exception e) {
             throw new SQLException(
-                "The receiver is not a wrapper and does not implement the interface " + iface.getName());
+                "The receiver is not a wrapper and does not implement the interface "
+                        + iface.getName());
         }
     }
 
@@ -582,9 +586,14 @@ public class OceanBasePoolDataSource extends OceanBaseDataSource implements
      *
      * @throws SQLException if connection string has error
      */
-    private synchronized void initializePool() throws SQLException {
-        if (pool == null) {
-            pool = Pools.retrievePool(poolUrlParser);
+    private void initializePool() throws SQLException {
+        poolInitLock.lock();
+        try {
+            if (pool == null) {
+                pool = Pools.retrievePool(poolUrlParser);
+            }
+        } finally {
+            poolInitLock.unlock();
         }
     }
 
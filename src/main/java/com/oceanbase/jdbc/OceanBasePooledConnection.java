@@ -66,6 +66,8 @@ public class OceanBasePooledConnection implements PooledConnection {
     private final List<ConnectionEventListener> connectionEventListeners;
     private final List<StatementEventListener>  statementEventListeners;
     private final AtomicLong                    lastUsed;
+    private final AtomicLong                    lastValidated;
+    private final long                          creationTime;
 
     /**
      * Constructor.
@@ -78,6 +80,8 @@ public class OceanBasePooledConnection implements PooledConnection {
     statementEventListeners = new CopyOnWriteArrayList<>();
     connectionEventListeners = new CopyOnWriteArrayList<>();
     lastUsed = new AtomicLong(System.nanoTime());
+    lastValidated = new AtomicLong(System.nanoTime());
+    creationTime = System.nanoTime();
   }
 
     /**
@@ -247,4 +251,27 @@ public class OceanBasePooledConnection implements PooledConnection {
     public void lastUsedToNow() {
         lastUsed.set(System.nanoTime());
     }
+
+    /**
+     * Indicate last time this pool connection has been validated while idle.
+     *
+     * @return last validation time (nano).
+     */
+    public AtomicLong getLastValidated() {
+        return lastValidated;
+    }
+
+    /** Set last idle validation to now. */
+    public void lastValidatedToNow() {
+        lastValidated.set(System.nanoTime());
+    }
+
+    /**
+     * Indicate when the physical connection has been created.
+     *
+     * @return creation time (nano).
+     */
+    public long getCreationTime() {
+        return creationTime;
+    }
 }
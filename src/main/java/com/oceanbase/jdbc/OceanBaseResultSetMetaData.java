@@ -401,7 +401,7 @@ public class OceanBaseResultSetMetaData implements ResultSetMetaData {
                     if (options.useNewResultSetMetaData) {
                         return getColumnTypeWithNewResultSet(ci);
                     }
-                    if (ci.getLength() <= 255 ){
+                    if (ci.getLength() <= 255) {
                         return Types.VARBINARY;
                     }
                     return Types.LONGVARBINARY;
@@ -460,7 +460,7 @@ public class OceanBaseResultSetMetaData implements ResultSetMetaData {
                         }
                         return Types.LONGVARCHAR;
                     }
-                    if (ci.getLength() <= 255){
+                    if (ci.getLength() <= 255) {
                         return Types.VARBINARY;
                     }
                     return Types.LONGVARBINARY;
@@ -580,7 +580,8 @@ public class OceanBaseResultSetMetaData implements ResultSetMetaData {
             }
         } catch (Exception e) {
             throw new SQLException(
-                "The receiver is not a wrapper and does not implement the interface " + iface.getName());
+                "The receiver is not a wrapper and does not implement the interface "
+                        + iface.getName());
         }
     }
 
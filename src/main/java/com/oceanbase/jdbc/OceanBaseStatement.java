@@ -57,6 +57,7 @@ import java.nio.charset.Charset;
 import java.sql.*;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -73,6 +74,7 @@ import com.oceanbase.jdbc.internal.protocol.Protocol;
 import com.oceanbase.jdbc.internal.util.ResourceStatus;
 import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
+import com.oceanbase.jdbc.internal.util.scheduler.HashedWheelTimer;
 import com.oceanbase.jdbc.internal.util.scheduler.SchedulerServiceProviderHolder;
 import com.oceanbase.jdbc.util.Options;
 
@@ -133,6 +135,8 @@ public class OceanBaseStatement implements Statement, Cloneable {
   protected int queryTimeout;
   private Future<?> timerTaskFuture;
   private ScheduledExecutorService timeoutScheduler;
+  private HashedWheelTimer timeoutTimer;
+  private volatile CompletableFuture<Results> asyncExecution;
   private boolean isTimeout;
   protected final boolean canUseServerTimeout;
 
@@ -229,24 +233,28 @@ public class OceanBaseStatement implements Statement, Cloneable {
   // Part of query prolog - setup timeout timer
   protected void setTimerTask(boolean isBatch) {
     assert (timerTaskFuture == null);
-    if (timeoutScheduler == null) {
-      timeoutScheduler = SchedulerServiceProviderHolder.getTimeoutScheduler();
+    if (timeoutTimer == null && timeoutScheduler == null) {
+      timeoutTimer = SchedulerServiceProviderHolder.getTimeoutTimer();
+      if (timeoutTimer == null) {
+        timeoutScheduler = SchedulerServiceProviderHolder.getTimeoutScheduler();
+      }
     }
+    Runnable timeoutTask =
+        () -> {
+          try {
+            isTimeout = true;
+            if (!isBatch) {
+              protocol.cancelCurrentQuery();
+            }
+            protocol.interrupt();
+          } catch (Throwable e) {
+            // eat
+          }
+        };
     timerTaskFuture =
-        timeoutScheduler.schedule(
-            () -> {
-              try {
-                isTimeout = true;
-                if (!isBatch) {
-                  protocol.cancelCurrentQuery();
-                }
-                protocol.interrupt();
-              } catch (Throwable e) {
-                // eat
-              }
-            },
-            queryTimeout,
-            TimeUnit.SECONDS);
+        timeoutTimer != null
+            ? timeoutTimer.newTimeout(timeoutTask, queryTimeout, TimeUnit.SECONDS)
+            : timeoutScheduler.schedule(timeoutTask, queryTimeout, TimeUnit.SECONDS);
   }
 
   /**
@@ -966,6 +974,95 @@ public class OceanBaseStatement implements Statement, Cloneable {
     return executeLargeUpdate(sql, Statement.RETURN_GENERATED_KEYS);
   }
 
+  /**
+   * Executes a query asynchronously. Asynchronous executions of a connection are executed in
+   * submission order, and queries waiting for the connection are pipelined. Results are always
+   * read completely, whatever the fetch size. A statement can only have one asynchronous execution
+   * pending at a time.
+   *
+   * @param sql any SQL statement
+   * @return future completed with <code>true</code> if the first result is a <code>ResultSet
+   *     </code>, like {@link #execute(String)}
+   */
+  public CompletableFuture<Boolean> executeAsync(String sql) {
+    return submitAsync(sql).thenApply(res -> res.getResultSet() != null);
+  }
+
+  /**
+   * Executes a select query asynchronously, see {@link #executeAsync(String)}.
+   *
+   * @param sql the query to send to the server
+   * @return future completed with the result set
+   */
+  public CompletableFuture<ResultSet> executeQueryAsync(String sql) {
+    return submitAsync(sql)
+        .thenApply(
+            res -> {
+              // DML returning rs
+              if (res.getResultSet() != null || res.isReturning()) {
+                return res.getResultSet();
+              }
+              return SelectResultSet.createEmptyResultSet();
+            });
+  }
+
+  /**
+   * Executes an update asynchronously, see {@link #executeAsync(String)}.
+   *
+   * @param sql the update query.
+   * @return future completed with the update count
+   */
+  public CompletableFuture<Integer> executeUpdateAsync(String sql) {
+    return submitAsync(sql)
+        .thenApply(
+            res -> {
+              if (res.getResultSet() != null) {
+                return (protocol.isOracleMode() || res.isReturning())
+                    ? (int) res.getResultSet().getProcessedRows()
+                    : 0;
+              }
+              return res.getCmdInformation() == null ? -1 : res.getCmdInformation().getUpdateCount();
+            });
+  }
+
+  private CompletableFuture<Results> submitAsync(String sql) {
+    CompletableFuture<Results> future;
+    try {
+      if (isClosed()) {
+        throw exceptionFactory
+            .raiseStatementError(connection, this)
+            .create("execute() is called on closed statement");
+      }
+      if (asyncExecution != null && !asyncExecution.isDone()) {
+        throw exceptionFactory
+            .raiseStatementError(connection, this)
+            .create("Statement has a pending asynchronous execution");
+      }
+      Results asyncResults =
+          new Results(
+              this,
+              0,
+              false,
+              1,
+              false,
+              resultSetScrollType,
+              resultSetConcurrency,
+              Statement.NO_GENERATED_KEYS,
+              protocol.getAutoIncrementIncrement(),
+              sql,
+              null);
+      future =
+          connection
+              .getAsyncExecutionQueue()
+              .submit(this, getTimeoutSql(nativeSql(sql, protocol)), asyncResults);
+    } catch (SQLException exception) {
+      future = new CompletableFuture<>();
+      future.completeExceptionally(exception);
+    }
+    asyncExecution = future;
+    return future;
+  }
+
   /**
    * Releases this <code>Statement</code> object's database and JDBC resources immediately instead
    * of waiting for this to happen when it is automatically closed. It is generally good practice to
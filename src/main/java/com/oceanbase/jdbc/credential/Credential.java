@@ -87,7 +87,7 @@ public class Credential {
         try {
             username = username.trim();
             int len = username.length();
-            int[] user_pos = {0, len};
+            int[] user_pos = { 0, len };
             int[] proxy_user_pos = new int[2];
             int left_info_pos = len;
             char lastChar = 0;
@@ -108,12 +108,12 @@ public class Credential {
 
                 // When user does not start with quotation marks, use the first "[" as the dividing point between user and proxy user, like xx["u2[yy]"]
                 if (!hasQuota && currentChar == '[' && proxy_user_pos[0] == 0) {
-                    user_pos[1] = i ;
+                    user_pos[1] = i;
                     proxy_user_pos[0] = i + 1;
                 }
 
                 if (currentChar == ']' && proxy_user_pos[0] != 0) {
-                    proxy_user_pos[1] = i ;
+                    proxy_user_pos[1] = i;
                     left_info_pos = i;
                 }
 
@@ -121,7 +121,8 @@ public class Credential {
             }
 
             if (proxy_user_pos[0] != 0 && proxy_user_pos[1] >= proxy_user_pos[0]) {
-                this.user = username.substring(user_pos[0], user_pos[1]) + username.substring(Math.min(left_info_pos + 1, len));
+                this.user = username.substring(user_pos[0], user_pos[1])
+                            + username.substring(Math.min(left_info_pos + 1, len));
                 this.proxyUser = username.substring(proxy_user_pos[0], proxy_user_pos[1]);
             } else {
                 this.user = originUsername;
@@ -70,38 +70,52 @@ public enum ColumnType {
     TINYINT(1, Types.TINYINT, "Types.TINYINT", Integer.class.getName(), ColumnType.BOTH_TYPE), // DONE Types.SMALLINT  -> Types.TINYINT
     SMALLINT(2, Types.SMALLINT, "Types.SMALLINT", Integer.class.getName(), ColumnType.BOTH_TYPE),
     INTEGER(3, Types.INTEGER, "Types.INTEGER", Integer.class.getName(), ColumnType.MYSQL_TYPE),
-    NUMBER(3, Types.INTEGER, "Types.INTEGER", com.oceanbase.jdbc.extend.datatype.NUMBER.class.getName(), ColumnType.ORACLE_TYPE),
+    NUMBER(3, Types.INTEGER, "Types.INTEGER", com.oceanbase.jdbc.extend.datatype.NUMBER.class
+        .getName(), ColumnType.ORACLE_TYPE),
     BIGINT(8, Types.BIGINT, "Types.BIGINT", Long.class.getName(), ColumnType.BOTH_TYPE),
     FLOAT(4, Types.REAL, "Types.REAL", Float.class.getName(), ColumnType.MYSQL_TYPE),
-    BINARY_FLOAT(4, Types.FLOAT, "Types.FLOAT", java.lang.Float.class.getName(), ColumnType.ORACLE_TYPE), // todo: 256
+    BINARY_FLOAT(4, Types.FLOAT, "Types.FLOAT", java.lang.Float.class.getName(),
+                 ColumnType.ORACLE_TYPE), // todo: 256
     DOUBLE(5, Types.DOUBLE, "Types.DOUBLE", Double.class.getName(), ColumnType.MYSQL_TYPE),
-    BINARY_DOUBLE(5, Types.DOUBLE, "Types.DOUBLE", java.lang.Double.class.getName(), ColumnType.ORACLE_TYPE), // todo: 257
-    TIMESTAMP(7, Types.TIMESTAMP, "Types.TIMESTAMP", Timestamp.class.getName(), ColumnType.MYSQL_TYPE),
+    BINARY_DOUBLE(5, Types.DOUBLE, "Types.DOUBLE", java.lang.Double.class.getName(),
+                  ColumnType.ORACLE_TYPE), // todo: 257
+    TIMESTAMP(7, Types.TIMESTAMP, "Types.TIMESTAMP", Timestamp.class.getName(),
+              ColumnType.MYSQL_TYPE),
     DATE(10, Types.DATE, "Types.DATE", Date.class.getName(), ColumnType.MYSQL_TYPE),
     TIME(11, Types.TIME, "Types.TIME", Time.class.getName(), ColumnType.MYSQL_TYPE),
-    DATETIME(12, Types.TIMESTAMP, "Types.TIMESTAMP", Timestamp.class.getName(), ColumnType.BOTH_TYPE),
+    DATETIME(12, Types.TIMESTAMP, "Types.TIMESTAMP", Timestamp.class.getName(),
+             ColumnType.BOTH_TYPE),
     YEAR(13, Types.DATE, "Types.SMALLINT", Short.class.getName(), ColumnType.MYSQL_TYPE), // DONE Types.SMALLINT -> Types.DATE
     COMPLEX(160, Types.OTHER, "Types.OTHER", ComplexData.class.getName(), ColumnType.ORACLE_TYPE),
     TIMESTAMP_TZ(200, -101, "Types.TIMESTAMP", TIMESTAMPTZ.class.getName(), ColumnType.ORACLE_TYPE), // Types.TIMESTAMP -> -101
-    TIMESTAMP_LTZ(201, -102, "Types.TIMESTAMP", TIMESTAMPLTZ.class.getName(), ColumnType.ORACLE_TYPE), // Types.TIMESTAMP -> -102
-    TIMESTAMP_NANO(202, Types.TIMESTAMP, "Types.TIMESTAMP", Timestamp.class.getName(), ColumnType.ORACLE_TYPE),
-    INTERVALYM(204, Types.OTHER, "Types.OTHER", java.lang.String.class.getName(), ColumnType.ORACLE_TYPE),
-    INTERVALDS(205, Types.OTHER, "Types.OTHER", java.lang.String.class.getName(), ColumnType.ORACLE_TYPE),
-    NUMBER_FLOAT(206, Types.DOUBLE, "Types.FLOAT", java.lang.Double.class.getName(), ColumnType.ORACLE_TYPE),
+    TIMESTAMP_LTZ(201, -102, "Types.TIMESTAMP", TIMESTAMPLTZ.class.getName(),
+                  ColumnType.ORACLE_TYPE), // Types.TIMESTAMP -> -102
+    TIMESTAMP_NANO(202, Types.TIMESTAMP, "Types.TIMESTAMP", Timestamp.class.getName(),
+                   ColumnType.ORACLE_TYPE),
+    INTERVALYM(204, Types.OTHER, "Types.OTHER", java.lang.String.class.getName(),
+               ColumnType.ORACLE_TYPE),
+    INTERVALDS(205, Types.OTHER, "Types.OTHER", java.lang.String.class.getName(),
+               ColumnType.ORACLE_TYPE),
+    NUMBER_FLOAT(206, Types.DOUBLE, "Types.FLOAT", java.lang.Double.class.getName(),
+                 ColumnType.ORACLE_TYPE),
     ROWID(209, Types.ROWID, "Types.ROWID", java.lang.String.class.getName(), ColumnType.ORACLE_TYPE), //
     JSON(245, Types.VARCHAR, "Types.VARCHAR", String.class.getName(), ColumnType.MYSQL_TYPE), // DONE VARCHAR -> CHAR
     DECIMAL(246, Types.DECIMAL, "Types.DECIMAL", BigDecimal.class.getName(), ColumnType.MYSQL_TYPE),
-    OBDECIMAL(246, Types.DECIMAL, "Types.DECIMAL", BigDecimal.class.getName(), ColumnType.ORACLE_TYPE),
+    OBDECIMAL(246, Types.DECIMAL, "Types.DECIMAL", BigDecimal.class.getName(),
+              ColumnType.ORACLE_TYPE),
     TINYBLOB(249, Types.VARBINARY, "Types.VARBINARY", "[B", ColumnType.MYSQL_TYPE),
     MEDIUMBLOB(250, Types.VARBINARY, "Types.VARBINARY", "[B", ColumnType.MYSQL_TYPE), // DONE VARBINARY -> LONGVARBINARY
     LONGBLOB(251, Types.LONGVARBINARY, "Types.LONGVARBINARY", "[B", ColumnType.MYSQL_TYPE), //Types.CHAR -> Types.DECIMAL
     BLOB(252, Types.LONGVARBINARY, "Types.LONGVARBINARY", "[B", ColumnType.MYSQL_TYPE),
     GEOMETRY(255, Types.CHAR, "Types.VARBINARY", "[B", ColumnType.MYSQL_TYPE), // DONE VARCHAR -> CHAR
     VARCHAR(15, Types.VARCHAR, "Types.VARCHAR", String.class.getName(), ColumnType.BOTH_TYPE),
-    NVARCHAR2(207, Types.VARCHAR, "Types.NVARCHAR2", java.lang.String.class.getName(), ColumnType.ORACLE_TYPE),
+    NVARCHAR2(207, Types.VARCHAR, "Types.NVARCHAR2", java.lang.String.class.getName(),
+              ColumnType.ORACLE_TYPE),
     NCHAR(208, Types.NCHAR, "Types.NCHAR", java.lang.String.class.getName(), ColumnType.ORACLE_TYPE),
-    ORA_BLOB(210, Types.BLOB, "Types.LONGVARBINARY", "com.oceanbase.jdbc.Blob", ColumnType.ORACLE_TYPE), // ObLobType
-    ORA_CLOB(211, Types.CLOB, "Types.LONGVARBINARY", "com.oceanbase.jdbc.Clob", ColumnType.ORACLE_TYPE), // ObLobType
+    ORA_BLOB(210, Types.BLOB, "Types.LONGVARBINARY", "com.oceanbase.jdbc.Blob",
+             ColumnType.ORACLE_TYPE), // ObLobType
+    ORA_CLOB(211, Types.CLOB, "Types.LONGVARBINARY", "com.oceanbase.jdbc.Clob",
+             ColumnType.ORACLE_TYPE), // ObLobType
     VARSTRING(253, Types.VARCHAR, "Types.VARCHAR", String.class.getName(), ColumnType.MYSQL_TYPE),
     VARCHAR2(253, Types.VARCHAR, "Types.VARCHAR", String.class.getName(), ColumnType.ORACLE_TYPE),
     STRING(254, Types.CHAR, "Types.CHAR", String.class.getName(), ColumnType.BOTH_TYPE), // DONE VARCHAR -> CHAR
@@ -339,9 +353,10 @@ public enum ColumnType {
             columnType = BLOB;
         }
 
-        if (charsetNumber != 63 && typeValue >= 249 && typeValue <= 252
-                && (!isOracleMode && null != options &&
-                (options.compatibleMysqlVersion == 5 || (options.compatibleMysqlVersion==8 && !options.useNewResultSetMetaData)))) {
+        if (charsetNumber != 63
+            && typeValue >= 249
+            && typeValue <= 252
+            && (!isOracleMode && null != options && (options.compatibleMysqlVersion == 5 || (options.compatibleMysqlVersion == 8 && !options.useNewResultSetMetaData)))) {
             // MariaDB Text dataType
             return ColumnType.VARCHAR;
         }
@@ -379,7 +394,8 @@ public enum ColumnType {
         switch (type) {
             case TINYINT:
                 if (options.useNewResultSetMetaData) {
-                    return getColumnTypeNameWithNewResutlSet(type, len, signed, binary, isOracelMode, options);
+                    return getColumnTypeNameWithNewResutlSet(type, len, signed, binary,
+                        isOracelMode, options);
                 }
             case SMALLINT:
             case MEDIUMINT:
@@ -407,7 +423,8 @@ public enum ColumnType {
                 indicates the number of bytes in the value.
                  */
                 if (options.useNewResultSetMetaData) {
-                    return getColumnTypeNameWithNewResutlSet(type, len, signed, binary, isOracelMode, options);
+                    return getColumnTypeNameWithNewResutlSet(type, len, signed, binary,
+                        isOracelMode, options);
                 }
                 if (binary) {
                     l -= 2;
@@ -460,8 +477,9 @@ public enum ColumnType {
         }
     }
 
-    public static String getColumnTypeNameWithNewResutlSet(ColumnType type, long len, boolean signed,
-                                                    boolean binary, boolean isOracelMode, Options options) {
+    public static String getColumnTypeNameWithNewResutlSet(ColumnType type, long len,
+                                                           boolean signed, boolean binary,
+                                                           boolean isOracelMode, Options options) {
         long l = len;
         switch (type) {
             case TINYINT:
@@ -557,8 +575,8 @@ public enum ColumnType {
         return type.getClassName();
     }
 
-    public static String getClassNameWithNewResultSet(ColumnType type, int len, boolean signed, boolean binary,
-                                      Options options) {
+    public static String getClassNameWithNewResultSet(ColumnType type, int len, boolean signed,
+                                                      boolean binary, Options options) {
         switch (type) {
             case BIT:
                 return Boolean.class.getName();
@@ -619,7 +637,7 @@ public enum ColumnType {
     }
 
     public static long getPrecisionBYTypeNameForMysql8(String typeName) {
-        switch (typeName){
+        switch (typeName) {
             case "BIT":
                 return 1L;
             case "DECIMAL":
@@ -205,7 +205,8 @@ public class Buffer {
      */
     public long readLong4BytesV1() {
         return ((long) buf[this.position++] & 0xff) | (((long) buf[this.position++] & 0xff) << 8)
-               | ((long) (buf[this.position++] & 0xff) << 16) | ((long) (buf[this.position++] & 0xff) << 24);
+               | ((long) (buf[this.position++] & 0xff) << 16)
+               | ((long) (buf[this.position++] & 0xff) << 24);
     }
 
     /**
@@ -222,9 +223,12 @@ public class Buffer {
 
     public long readLongV1() {
         return (buf[this.position++] & 0xff) | ((long) (buf[this.position++] & 0xff) << 8)
-               | ((long) (buf[this.position++] & 0xff) << 16) | ((long) (buf[this.position++] & 0xff) << 24)
-               | ((long) (buf[this.position++] & 0xff) << 32) | ((long) (buf[this.position++] & 0xff) << 40)
-               | ((long) (buf[this.position++] & 0xff) << 48) | ((long) (buf[this.position++] & 0xff) << 56);
+               | ((long) (buf[this.position++] & 0xff) << 16)
+               | ((long) (buf[this.position++] & 0xff) << 24)
+               | ((long) (buf[this.position++] & 0xff) << 32)
+               | ((long) (buf[this.position++] & 0xff) << 40)
+               | ((long) (buf[this.position++] & 0xff) << 48)
+               | ((long) (buf[this.position++] & 0xff) << 56);
     }
 
     /**
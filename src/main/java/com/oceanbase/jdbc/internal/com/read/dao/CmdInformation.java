@@ -98,4 +98,6 @@ public interface CmdInformation {
     void setArrayBinding(boolean arrayBinding);
 
     boolean getArrayBinding();
+
+    void addArrayBindingSize(int rows);
 }
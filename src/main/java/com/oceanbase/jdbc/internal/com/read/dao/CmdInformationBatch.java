@@ -71,6 +71,7 @@ public class CmdInformationBatch implements CmdInformation {
   private boolean rewritten;
   private String serverInfo;
   private boolean arrayBinding;
+  private final Queue<Integer> arrayBindingSizes = new ConcurrentLinkedQueue<>();
 
   /**
    * CmdInformationBatch is similar to CmdInformationMultiple, but knowing it's for batch, doesn't
@@ -103,6 +104,7 @@ public class CmdInformationBatch implements CmdInformation {
     insertIdNumber = 0;
     hasException = false;
     rewritten = false;
+    arrayBindingSizes.clear();
   }
 
   public void addResultSetStat() {
@@ -128,6 +130,14 @@ public class CmdInformationBatch implements CmdInformation {
 
   @Override
   public int[] getUpdateCounts() {
+    if (arrayBinding && arrayBindingSizes.size() == updateCounts.size()) {
+      long[] counts = getArrayBindingUpdateCounts();
+      int[] ret = new int[counts.length];
+      for (int i = 0; i < counts.length; i++) {
+        ret[i] = (int) counts[i];
+      }
+      return ret;
+    }
     if (rewritten || arrayBinding) {
       int[] ret = new int[expectedSize];
       int resultValue;
@@ -180,6 +190,9 @@ public class CmdInformationBatch implements CmdInformation {
 
   @Override
   public long[] getLargeUpdateCounts() {
+    if (arrayBinding && arrayBindingSizes.size() == updateCounts.size()) {
+      return getArrayBindingUpdateCounts();
+    }
     if (rewritten) {
       long[] ret = new long[expectedSize];
       long resultValue;
@@ -313,4 +326,51 @@ public class CmdInformationBatch implements CmdInformation {
     return arrayBinding;
   }
 
+  /**
+   * Register the number of rows sent by the array binding packet (or by the single execution)
+   * whose result is the next to be read.
+   *
+   * @param rows rows number
+   */
+  @Override
+  public void addArrayBindingSize(int rows) {
+    arrayBindingSizes.add(rows);
+  }
+
+  /**
+   * Spread each array binding result over the rows it covers. Server only returns the total
+   * affected rows of a packet, so a row count is exact only when every row of the packet affected
+   * one row, or none did.
+   *
+   * @return update count of every row of the batch
+   */
+  private long[] getArrayBindingUpdateCounts() {
+    long[] ret = new long[expectedSize];
+    Iterator<Integer> sizes = arrayBindingSizes.iterator();
+    Iterator<Long> counts = updateCounts.iterator();
+    int pos = 0;
+    while (sizes.hasNext() && counts.hasNext() && pos < ret.length) {
+      int rows = sizes.next();
+      long count = counts.next();
+      long value;
+      if (count == Statement.EXECUTE_FAILED) {
+        value = Statement.EXECUTE_FAILED;
+      } else if (count < 0) {
+        value = Statement.SUCCESS_NO_INFO;
+      } else if (rows == 1 || count == 0) {
+        value = count;
+      } else if (count == rows) {
+        value = 1;
+      } else {
+        value = Statement.SUCCESS_NO_INFO;
+      }
+      int next = Math.min(ret.length, pos + rows);
+      Arrays.fill(ret, pos, next, value);
+      pos = next;
+    }
+    // in case of Exception
+    Arrays.fill(ret, pos, ret.length, Statement.EXECUTE_FAILED);
+    return ret;
+  }
+
 }
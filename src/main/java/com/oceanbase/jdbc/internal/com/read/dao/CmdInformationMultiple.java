@@ -286,4 +286,9 @@ public class CmdInformationMultiple implements CmdInformation {
         return arrayBinding;
     }
 
+    @Override
+    public void addArrayBindingSize(int rows) {
+
+    }
+
 }
@@ -210,4 +210,9 @@ public class CmdInformationSingle implements CmdInformation {
     public boolean getArrayBinding() {
         return false;
     }
+
+    @Override
+    public void addArrayBindingSize(int rows) {
+
+    }
 }
@@ -60,9 +60,10 @@ import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 
 public class ColumnLabelIndexer {
 
-    private final ColumnDefinition[] columnInfo;
-    private Map<String, Integer>     originalMap;
-    private Map<String, Integer>     aliasMap;
+    private final ColumnDefinition[]      columnInfo;
+    // indexer can be shared by result-sets of the same prepared statement
+    private volatile Map<String, Integer> originalMap;
+    private volatile Map<String, Integer> aliasMap;
 
     public ColumnLabelIndexer(ColumnDefinition[] columnDefinitions) {
         this.columnInfo = columnDefinitions;
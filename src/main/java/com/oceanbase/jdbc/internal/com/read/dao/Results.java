@@ -65,12 +65,14 @@ import com.oceanbase.jdbc.internal.logging.Logger;
 import com.oceanbase.jdbc.internal.logging.LoggerFactory;
 import com.oceanbase.jdbc.internal.protocol.Protocol;
 import com.oceanbase.jdbc.internal.util.Utils;
+import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 
 public class Results {
 
     private int                    statementId  = 0;
     private OceanBaseStatement     statement;
+    private ServerPrepareResult    serverPrepareResult;
     private String                 sql;
     private ParameterHolder[]      parameters;
 
@@ -81,9 +83,9 @@ public class Results {
     private SelectResultSet        callableResultSet;
     private Deque<SelectResultSet> executionResults;
 
-    private boolean                toCursorFetch;       // cursor exists
-    private boolean                toPrepareExecute;    // use ComStmtPrepareExecute
-    private boolean                internalResult;      // returning into, array binding error, pl out parameter
+    private boolean                toCursorFetch;                                             // cursor exists
+    private boolean                toPrepareExecute;                                          // use ComStmtPrepareExecute
+    private boolean                internalResult;                                            // returning into, array binding error, pl out parameter
     private boolean                returning;
     private boolean                batch;
     private int                    expectedSize;
@@ -95,7 +97,7 @@ public class Results {
     private boolean                rewritten;
     private CmdInformation         cmdInformation;
     private boolean                batchSucceed = false;
-    protected static final Logger  lockLogger = LoggerFactory.getLogger("JDBC-COST-LOGGER");
+    protected static final Logger  lockLogger   = LoggerFactory.getLogger("JDBC-COST-LOGGER");
 
     public boolean isExecuteBatchStmt() {
         return executeBatchStmt;
@@ -197,7 +199,8 @@ public class Results {
             } else if (moreResultAvailable) {
                 cmdInformation = new CmdInformationMultiple(expectedSize, autoIncrement);
             } else {
-                cmdInformation = new CmdInformationSingle(insertId, updateCount, autoIncrement, serverInfo);
+                cmdInformation = new CmdInformationSingle(insertId, updateCount, autoIncrement,
+                    serverInfo);
                 return;
             }
         }
@@ -205,8 +208,8 @@ public class Results {
             .addSuccessStat(
                 updateCount,
                 insertId,
-                containOnDuplicateKey(statement.getActualSql(), statement.getConnection().getProtocol()),
-                serverInfo);
+                containOnDuplicateKey(statement.getActualSql(), statement.getConnection()
+                    .getProtocol()), serverInfo);
     }
 
     /**
@@ -464,6 +467,19 @@ public class Results {
         return statement;
     }
 
+    public ServerPrepareResult getServerPrepareResult() {
+        return serverPrepareResult;
+    }
+
+    /**
+     * Set the server prepared statement executed, whose result-set metadata can be reused.
+     *
+     * @param serverPrepareResult server prepare result
+     */
+    public void setServerPrepareResult(ServerPrepareResult serverPrepareResult) {
+        this.serverPrepareResult = serverPrepareResult;
+    }
+
     public boolean isBatch() {
         return batch;
     }
@@ -198,7 +198,8 @@ public class ColumnDefinition {
         length = buffer.readLong4BytesV1();
         sqltype = buffer.readByte() & 0xff;
         longColFlag = buffer.readShort();
-        type = ColumnType.convertProtocolTypeToColumnType(sqltype, charsetNumber, OracleMode, options);
+        type = ColumnType.convertProtocolTypeToColumnType(sqltype, charsetNumber, OracleMode,
+            options);
 
         decimals = (byte) (buffer.readByte() & 0xff);
         precision = (byte) (buffer.readByte() & 0xff);
@@ -324,6 +325,27 @@ public class ColumnDefinition {
         return new ColumnDefinition(new Buffer(arr), isOracleMode, encoding, options);
     }
 
+    /**
+     * Indicate if a column definition packet is identical to the one this column has been built from.
+     *
+     * @param packet column definition packet
+     * @return true if packets have same content
+     */
+    public boolean isSameDefinition(Buffer packet) {
+        int length = packet.limit - packet.position;
+        if (buffer.limit != length) {
+            return false;
+        }
+        byte[] cached = buffer.buf;
+        byte[] current = packet.buf;
+        for (int i = 0, j = packet.position; i < length; i++, j++) {
+            if (cached[i] != current[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private int adjustStartForFieldLength(int nameStart, int nameLength) {
         if (nameLength < 251) {
             return nameStart;
@@ -398,7 +420,7 @@ public class ColumnDefinition {
             case Types.REAL:
             case Types.DOUBLE:
             case Types.NUMERIC:
-                if ( options.useNewResultSetMetaData) {
+                if (options.useNewResultSetMetaData) {
                     return getPrecisionWithNewResultSet();
                 }
                 if (decimals > 0) {
@@ -523,13 +545,14 @@ public class ColumnDefinition {
                     case MEDIUMINT:
                     case INTEGER:
                     case BIGINT:
-                        String typeName = ColumnType.getColumnTypeName(type, length, isSigned(), isBinary(), isOracleMode, options);
+                        String typeName = ColumnType.getColumnTypeName(type, length, isSigned(),
+                            isBinary(), isOracleMode, options);
                         return (int) ColumnType.getPrecisionBYTypeNameForMysql8(typeName);
                     case DECIMAL:
                         long colength = length;
-                        colength --;
+                        colength--;
                         if (decimals > 0) {
-                            colength --;
+                            colength--;
                         }
                         return (int) colength;
                     default:
@@ -542,15 +565,16 @@ public class ColumnDefinition {
             }
             int vtype = type.getSqlType();
             if (vtype == Types.VARCHAR || vtype == Types.CHAR || vtype == Types.NVARCHAR
-                    || vtype == Types.NCHAR || vtype == Types.CLOB) {
+                || vtype == Types.NCHAR || vtype == Types.CLOB) {
                 int maxWidth = maxCharlen[charsetNumber & 0xff];
                 if (maxWidth == 0) {
                     maxWidth = 1;
                 }
 
-                return length > Integer.MAX_VALUE ? Integer.MAX_VALUE / maxWidth : (int) length / maxWidth;
+                return length > Integer.MAX_VALUE ? Integer.MAX_VALUE / maxWidth : (int) length
+                                                                                   / maxWidth;
             }
-            if (vtype == Types.LONGVARBINARY && length == (1L << 32) -1) {
+            if (vtype == Types.LONGVARBINARY && length == (1L << 32) - 1) {
                 return Integer.MAX_VALUE;
             }
         }
@@ -563,7 +587,7 @@ public class ColumnDefinition {
             int columnPrecision = precision;
             int columnDecimals = decimals;
             if (columnPrecision != 0 && columnDecimals == -127) {
-                columnPrecision = (int)((double)columnPrecision / 3.32193D);
+                columnPrecision = (int) ((double) columnPrecision / 3.32193D);
                 columnDecimals = 1;
             } else {
                 if (columnPrecision == 0) {
@@ -591,7 +615,7 @@ public class ColumnDefinition {
                         int columnPrecision = precision;
                         int columnDecimals = decimals;
                         if (columnPrecision != 0 && columnDecimals == -127) {
-                            columnPrecision = (int)((double)columnPrecision / 3.32193D);
+                            columnPrecision = (int) ((double) columnPrecision / 3.32193D);
                             columnDecimals = 1;
                         } else {
                             if (columnPrecision == 0) {
@@ -618,7 +642,7 @@ public class ColumnDefinition {
             case Types.FLOAT:
             case Types.REAL:
             case Types.DOUBLE:
-                if ( options.useNewResultSetMetaData ) {
+                if (options.useNewResultSetMetaData) {
                     return getDecimalsWithNewResultSet();
                 }
             case Types.BIT:
@@ -633,7 +657,7 @@ public class ColumnDefinition {
             case -101:
             case -102:
             case Types.OTHER:
-                if ( isOracleMode && options.useNewResultSetMetaData ) {
+                if (isOracleMode && options.useNewResultSetMetaData) {
                     return getDecimalsWithNewResultSet();
                 }
         }
@@ -668,7 +692,7 @@ public class ColumnDefinition {
         return 0;
     }
 
-    public int getPrimitiveDecimals(){
+    public int getPrimitiveDecimals() {
         return decimals;
     }
 
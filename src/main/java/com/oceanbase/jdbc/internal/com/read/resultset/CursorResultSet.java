@@ -46,6 +46,9 @@ package com.oceanbase.jdbc.internal.com.read.resultset;
 import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.oceanbase.jdbc.ServerSidePreparedStatement;
 import com.oceanbase.jdbc.internal.com.Packet;
@@ -56,24 +59,33 @@ import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 
 public class CursorResultSet extends Cursor {
 
-    private int       statementId;
+    private int          statementId;
     /**
      * When COM_STMT_PREPARE_EXECUTE protocol is supported
      * and URL option "useCursorOffset" which controls OB_Oracle_Fetch protocol are activated,
      * a scrollable cursor can be used on server side.
      */
-    protected boolean isServerSide;
+    protected boolean    isServerSide;
 
-    private int       currentIndexInEntireResult;
+    private int          currentIndexInEntireResult;
     /**
      * Mark the absolute position in entire result for the target row,
      * which is going to be fetched next time.
      */
-    private int       fetchIndexInEntireResult;
+    private int          fetchIndexInEntireResult;
     /**
      * Mark the absolute position of the last row in entire result.
      */
-    private int       lastRowIndexInEntireResult;
+    private int          lastRowIndexInEntireResult;
+    /**
+     * When URL option "useCursorFetchPrefetch" is activated on a forward-only cursor, next
+     * COM_STMT_FETCH is sent as soon as a batch has been read, so that the server sends next rows
+     * while current batch is consumed.
+     */
+    private boolean      prefetch;
+    private boolean      fetchInFlight;
+    private List<byte[]> prefetchedRows;
+    private SQLException prefetchError;
 
     public CursorResultSet(ColumnDefinition[] columnsInformation, Results results,
                            Protocol protocol, boolean callableResult, boolean eofDeprecated,
@@ -101,6 +113,13 @@ public class CursorResultSet extends Cursor {
                 isServerSide = true;
             }
         }
+
+        prefetch = options.useCursorFetchPrefetch && !isServerSide
+                   && resultSetScrollType == ResultSet.TYPE_FORWARD_ONLY
+                   && !(this instanceof RefCursor);
+        if (prefetch && dataSize > 0) {
+            sendPrefetch();
+        }
     }
 
     private void setLastRowIndex() {
@@ -116,6 +135,11 @@ public class CursorResultSet extends Cursor {
         this.lock.lock();
         try {
             lockLogger.debug("CursorResultSet.cursorFetch locked");
+            if (prefetch && usePrefetchedRows()) {
+                sendPrefetch();
+                return true;
+            }
+
             if (isLastRowSent || statement != null && statement.getMaxRows() > 0
                 && endIndexInEntireResult >= statement.getMaxRows()) {
                 isLastRowSent = true;
@@ -126,9 +150,12 @@ public class CursorResultSet extends Cursor {
                 this.getFetchSize());
 
             getCursorFetchData(fetchSize);
+            if (prefetch) {
+                sendPrefetch();
+            }
             return true;
         } catch (SQLException e) {
-            if ("ORA-01002: fetch out of sequence".equals(e.getMessage())) {
+            if (isFetchOutOfSequence(e)) {
                 isLastRowSent = true;
             }
             throw e;
@@ -141,6 +168,124 @@ public class CursorResultSet extends Cursor {
         }
     }
 
+    private static boolean isFetchOutOfSequence(SQLException e) {
+        return "ORA-01002: fetch out of sequence".equals(e.getMessage());
+    }
+
+    /**
+     * Send next COM_STMT_FETCH without waiting for its response, if there are remaining rows.
+     * Statement lock is not taken, so that the protocol lock is always the last one acquired.
+     *
+     * @throws SQLException if any error occurs
+     */
+    private void sendPrefetch() throws SQLException {
+        if (isLastRowSent || statement == null || statement.getMaxRows() > 0
+            && endIndexInEntireResult >= statement.getMaxRows()) {
+            return;
+        }
+        ReentrantLock protocolLock = protocol.getLock();
+        protocolLock.lock();
+        try {
+            protocol.sendCursorFetch(this.statementId, this.getFetchSize());
+            fetchInFlight = true;
+            protocol.setPendingCursorFetch(this);
+        } finally {
+            protocolLock.unlock();
+        }
+    }
+
+    /**
+     * Read the response of the COM_STMT_FETCH sent in advance, because connection is needed for
+     * another command or because rows are needed. Protocol lock must be held: the response is only
+     * kept, rows being added to this result-set by {@link #usePrefetchedRows()} under its own lock.
+     * An error is kept the same way, to be thrown when rows are needed, and "fetch out of sequence"
+     * only marks the end of the cursor.
+     */
+    public void readPrefetchedRows() {
+        if (!fetchInFlight) {
+            return;
+        }
+        fetchInFlight = false;
+        protocol.setPendingCursorFetch(null);
+        List<byte[]> rows = new ArrayList<>();
+        try {
+            protocol.readCursorFetchResponse(statement.getResults());
+            statement.getResults().commandEnd();
+            byte[] buf;
+            while ((buf = getNextRow()) != null) {
+                rows.add(buf);
+            }
+            prefetchedRows = rows;
+        } catch (SQLException e) {
+            if (isFetchOutOfSequence(e)) {
+                isLastRowSent = true;
+                prefetchedRows = rows;
+            } else {
+                prefetchError = e;
+            }
+        } catch (IOException e) {
+            prefetchError = handleIoException(e);
+        }
+    }
+
+    /**
+     * Replace current batch by the rows of the COM_STMT_FETCH sent in advance, if any.
+     *
+     * @return true if a prefetched response has been used
+     * @throws SQLException the error returned by the prefetched COM_STMT_FETCH
+     */
+    private boolean usePrefetchedRows() throws SQLException {
+        ReentrantLock protocolLock = protocol.getLock();
+        protocolLock.lock();
+        try {
+            readPrefetchedRows();
+        } finally {
+            protocolLock.unlock();
+        }
+        if (prefetchError != null) {
+            SQLException e = prefetchError;
+            prefetchError = null;
+            throw e;
+        }
+        if (prefetchedRows == null) {
+            return false;
+        }
+        List<byte[]> rows = prefetchedRows;
+        prefetchedRows = null;
+        if (protocol.isOracleMode()) {
+            processedRows = 0;
+        }
+        if (dataSize > 0) {
+            discardedRows += dataSize;
+            resetState();
+        }
+        for (byte[] buf : rows) {
+            addRow(buf);
+        }
+        updateStartIndexInEntireResult();
+        return true;
+    }
+
+    @Override
+    public void realClose(boolean calledExplicitly) throws SQLException {
+        try {
+            if (fetchInFlight) {
+                // response must be read to keep connection in a clean state
+                ReentrantLock protocolLock = protocol.getLock();
+                protocolLock.lock();
+                try {
+                    readPrefetchedRows();
+                } finally {
+                    protocolLock.unlock();
+                }
+            }
+            prefetchedRows = null;
+            prefetchError = null;
+        } finally {
+            super.realClose(calledExplicitly);
+        }
+    }
+
     private boolean cursorFetchForOracle(byte offsetType, int offset) throws SQLException {
         if (protocol != null) {
             protocol.startCallInterface();
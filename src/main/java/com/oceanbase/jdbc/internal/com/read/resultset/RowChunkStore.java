@@ -0,0 +1,174 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.read.resultset;
+
+import java.util.Arrays;
+
+/**
+ * Row storage of a fully-buffered result-set, when option useRowChunkStorage is set.
+ *
+ * <p>Rows are copied back to back into large chunk arrays, and each row is only referenced by its
+ * chunk index, offset and length. This avoids an array per row, and growing the row index only
+ * copies three int arrays instead of array references to each row.
+ *
+ * <p>Chunks are never reused once the store is cleared: values like Blob or Clob can keep a
+ * reference on the chunk they were read from after the result-set is closed.
+ */
+public class RowChunkStore {
+
+    public static final int CHUNK_SIZE = 1 << 20;
+
+    private byte[][]        chunks     = new byte[4][];
+    private int             chunkCount;
+    private byte[]          current;
+    private int             currentIndex;
+    private int             currentPos;
+
+    private int[]           rowChunks;
+    private int[]           rowOffsets;
+    private int[]           rowLengths;
+    private int             rowCount;
+
+    /**
+     * Constructor.
+     *
+     * @param initialRows initial row index capacity
+     */
+    public RowChunkStore(int initialRows) {
+        int capacity = Math.max(10, initialRows);
+        rowChunks = new int[capacity];
+        rowOffsets = new int[capacity];
+        rowLengths = new int[capacity];
+    }
+
+    /**
+     * Append a row.
+     *
+     * @param src array containing row data
+     * @param offset row data offset in src
+     * @param length row data length
+     */
+    public void add(byte[] src, int offset, int length) {
+        if (rowCount == rowChunks.length) {
+            growRowIndex();
+        }
+
+        if (length > CHUNK_SIZE / 2) {
+            // big rows get their own array, current chunk stays open for next rows
+            byte[] own = new byte[length];
+            System.arraycopy(src, offset, own, 0, length);
+            rowChunks[rowCount] = addChunk(own);
+            rowOffsets[rowCount] = 0;
+        } else {
+            if (current == null || CHUNK_SIZE - currentPos < length) {
+                current = new byte[CHUNK_SIZE];
+                currentIndex = addChunk(current);
+                currentPos = 0;
+            }
+            System.arraycopy(src, offset, current, currentPos, length);
+            rowChunks[rowCount] = currentIndex;
+            rowOffsets[rowCount] = currentPos;
+            currentPos += length;
+        }
+        rowLengths[rowCount++] = length;
+    }
+
+    private int addChunk(byte[] chunk) {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        chunks[chunkCount] = chunk;
+        return chunkCount++;
+    }
+
+    private void growRowIndex() {
+        int newCapacity = rowChunks.length + (rowChunks.length >> 1);
+        rowChunks = Arrays.copyOf(rowChunks, newCapacity);
+        rowOffsets = Arrays.copyOf(rowOffsets, newCapacity);
+        rowLengths = Arrays.copyOf(rowLengths, newCapacity);
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    public byte[] chunk(int row) {
+        return chunks[rowChunks[row]];
+    }
+
+    public int offset(int row) {
+        return rowOffsets[row];
+    }
+
+    public int length(int row) {
+        return rowLengths[row];
+    }
+
+    /**
+     * Copy a row in its own array.
+     *
+     * @param row row index
+     * @return row data
+     */
+    public byte[] copyRow(int row) {
+        int offset = rowOffsets[row];
+        return Arrays.copyOfRange(chunks[rowChunks[row]], offset, offset + rowLengths[row]);
+    }
+
+    /** Remove all rows. */
+    public void clear() {
+        Arrays.fill(chunks, 0, chunkCount, null);
+        chunkCount = 0;
+        current = null;
+        currentPos = 0;
+        rowCount = 0;
+    }
+}
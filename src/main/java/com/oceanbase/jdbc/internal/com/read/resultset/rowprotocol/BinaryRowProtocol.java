@@ -77,6 +77,7 @@ import com.oceanbase.jdbc.extend.datatype.*;
 import com.oceanbase.jdbc.internal.ColumnType;
 import com.oceanbase.jdbc.internal.com.read.Buffer;
 import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.util.DecimalCodec;
 import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 import com.oceanbase.jdbc.util.Options;
@@ -85,6 +86,14 @@ public class BinaryRowProtocol extends RowProtocol {
 
     private final ColumnDefinition[] columnDefinition;
     private final int                columnInformationLength;
+    // value width of fixed-length columns, 0 for length-encoded values
+    private final int[]              columnWidths;
+    // COMPLEX and CURSOR values length are only known once parsed, row must then be read from head
+    private final boolean            hasComplexColumn;
+    // current row offset table: value position and length of the first parsedColumns columns
+    private final int[]              valuePos;
+    private final int[]              valueLength;
+    private int                      parsedColumns;
 
     /**
      * Constructor.
@@ -99,6 +108,47 @@ public class BinaryRowProtocol extends RowProtocol {
         super(maxFieldSize, options);
         this.columnDefinition = columnDefinition;
         this.columnInformationLength = columnInformationLength;
+
+        this.columnWidths = new int[columnDefinition.length];
+        boolean complex = false;
+        for (int i = 0; i < columnDefinition.length; i++) {
+            switch (columnDefinition[i].getColumnType()) {
+                case BIGINT:
+                case DOUBLE:
+                case BINARY_DOUBLE:
+                    columnWidths[i] = 8;
+                    break;
+                case INTEGER:
+                case MEDIUMINT:
+                case FLOAT:
+                case NUMBER:
+                case BINARY_FLOAT:
+                    columnWidths[i] = 4;
+                    break;
+                case SMALLINT:
+                case YEAR:
+                    columnWidths[i] = 2;
+                    break;
+                case TINYINT:
+                    columnWidths[i] = 1;
+                    break;
+                case COMPLEX:
+                case CURSOR:
+                    complex = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        this.hasComplexColumn = complex;
+        this.valuePos = new int[columnDefinition.length];
+        this.valueLength = new int[columnDefinition.length];
+    }
+
+    @Override
+    public void resetRow(byte[] buf, int offset, int length) {
+        super.resetRow(buf, offset, length);
+        parsedColumns = 0;
     }
 
     /**
@@ -111,219 +161,264 @@ public class BinaryRowProtocol extends RowProtocol {
     public void setPosition(int newIndex, JDBC4ResultSet resultSet) throws SQLException {
 
         // check NULL-Bitmap that indicate if field is null
-        if ((buf[1 + (newIndex + 2) / 8] & (1 << ((newIndex + 2) % 8))) != 0) {
+        if ((buf[rowOffset + 1 + (newIndex + 2) / 8] & (1 << ((newIndex + 2) % 8))) != 0) {
             this.lastValueNull = BIT_LAST_FIELD_NULL;
             return;
         }
-        boolean readFromHead = false;
-        for (int i = 0; i < columnDefinition.length; i++) {
-            switch (columnDefinition[i].getColumnType()) {
-                case COMPLEX:
-                case CURSOR:
-                    readFromHead = true;
-                    break;
-                default:
-                    break;
-            }
+        if (hasComplexColumn) {
+            setPositionFromHead(newIndex, resultSet);
+            return;
         }
 
-        // if not must parse data until reading the desired field
-        int internalPos = 0;
-        boolean doRead = true;
-        if (readFromHead) {
-            index = 0;
-            internalPos = 1 + (columnInformationLength + 9) / 8;
-        } else {
-            if (index != newIndex) {
-                internalPos = this.pos;
-                if (index == -1 || index > newIndex) {
-                    // if there wasn't previous non-null read field, or if last field was after searched index,
-                    // position is set on first field position.
-                    index = 0;
-                    internalPos = 1 + (columnInformationLength + 9) / 8; // 0x00 header + NULL-Bitmap length
-                } else {
-                    // start at previous non-null field position if was before searched index
-                    index++;
-                    internalPos += length;
+        if (newIndex >= parsedColumns) {
+            parseUntil(newIndex);
+        }
+        this.pos = valuePos[newIndex];
+        this.length = valueLength[newIndex];
+        this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+    }
+
+    /**
+     * Fill offset table of current row until asked index, starting after the last parsed column.
+     *
+     * @param newIndex index (0 is first).
+     */
+    private void parseUntil(int newIndex) {
+        int internalPos = parsedColumns == 0 ? rowOffset + 1 + (columnInformationLength + 9) / 8 // 0x00 header + NULL-Bitmap length
+        : valuePos[parsedColumns - 1] + valueLength[parsedColumns - 1];
+
+        for (int i = parsedColumns; i <= newIndex; i++) {
+            int valueLen = columnWidths[i];
+            if ((buf[rowOffset + 1 + (i + 2) / 8] & (1 << ((i + 2) % 8))) != 0) {
+                // null value, nothing is sent
+                valueLen = 0;
+            } else if (valueLen == 0) {
+                // field with variable length
+                int typeOrLength = this.buf[internalPos++] & 0xff;
+                switch (typeOrLength) {
+                    case 251:
+                        // null value are set in NULL-Bitmap, not send with a null length indicator.
+                        if (i == newIndex) {
+                            throw new IllegalStateException(
+                                "null data is encoded in binary protocol but NULL-Bitmap is not set");
+                        }
+                        break;
+
+                    case 252:
+                        // length is encoded on 3 bytes (0xfc header + 2 bytes indicating length)
+                        valueLen = 0xffff & ((buf[internalPos++] & 0xff) + ((buf[internalPos++] & 0xff) << 8));
+                        break;
+
+                    case 253:
+                        // length is encoded on 4 bytes (0xfd header + 3 bytes indicating length)
+                        valueLen = 0xffffff & ((buf[internalPos++] & 0xff)
+                                               + ((buf[internalPos++] & 0xff) << 8) + ((buf[internalPos++] & 0xff) << 16));
+                        break;
+
+                    case 254:
+                        // length is encoded on 9 bytes (0xfe header + 8 bytes indicating length)
+                        valueLen = (int) ((buf[internalPos++] & 0xff)
+                                          + ((long) (buf[internalPos++] & 0xff) << 8)
+                                          + ((long) (buf[internalPos++] & 0xff) << 16)
+                                          + ((long) (buf[internalPos++] & 0xff) << 24)
+                                          + ((long) (buf[internalPos++] & 0xff) << 32)
+                                          + ((long) (buf[internalPos++] & 0xff) << 40)
+                                          + ((long) (buf[internalPos++] & 0xff) << 48) + ((long) (buf[internalPos++] & 0xff) << 56));
+                        break;
+
+                    default:
+                        // length is encoded on 1 bytes (is then less than 251)
+                        valueLen = typeOrLength;
+                        break;
                 }
-                doRead = true;
-            } else {
-                doRead = false;
             }
+            valuePos[i] = internalPos;
+            valueLength[i] = valueLen;
+            internalPos += valueLen;
         }
-        if (doRead) {
-            for (; index <= newIndex; index++) {
-                if ((buf[1 + (index + 2) / 8] & (1 << ((index + 2) % 8))) == 0) {
-                    if (index != newIndex) {
-                        // skip bytes
-                        switch (columnDefinition[index].getColumnType()) {
-                            case BIGINT:
-                            case DOUBLE:
-                            case BINARY_DOUBLE:
-                                internalPos += 8;
-                                break;
-
-                            case INTEGER:
-                            case MEDIUMINT:
-                            case FLOAT:
-                            case NUMBER:
-                            case BINARY_FLOAT:
-                                internalPos += 4;
-                                break;
-
-                            case SMALLINT:
-                            case YEAR:
-                                internalPos += 2;
-                                break;
-
-                            case TINYINT:
-                                internalPos += 1;
-                                break;
-                            // add
-                            case COMPLEX:
-                                if (complexEndPos == null) {
-                                    if (resultSet.complexEndPos[index] == 0) {
-                                        resultSet.getComplex(index +  1);
-                                    }
-                                    this.complexEndPos = resultSet.complexEndPos;
-                                }
-                                internalPos = this.complexEndPos[index];
-                                break;
-                            case CURSOR:
-                                internalPos = this.complexEndPos[index];
-                                break;
-
-                            default:
-                                int type = this.buf[internalPos++] & 0xff;
-                                switch (type) {
-                                    case 251:
-                                        break;
-
-                                    case 252:
-                                        internalPos += 2 + (0xffff & (((buf[internalPos] & 0xff) + ((buf[internalPos + 1] & 0xff) << 8))));
-                                        break;
-
-                                    case 253:
-                                        internalPos += 3 + (0xffffff & ((buf[internalPos] & 0xff)
-                                                                        + ((buf[internalPos + 1] & 0xff) << 8) + ((buf[internalPos + 2] & 0xff) << 16)));
-                                        break;
-
-                                    case 254:
-                                        internalPos += 8 + ((buf[internalPos] & 0xff)
-                                                            + ((long) (buf[internalPos + 1] & 0xff) << 8)
-                                                            + ((long) (buf[internalPos + 2] & 0xff) << 16)
-                                                            + ((long) (buf[internalPos + 3] & 0xff) << 24)
-                                                            + ((long) (buf[internalPos + 4] & 0xff) << 32)
-                                                            + ((long) (buf[internalPos + 5] & 0xff) << 40)
-                                                            + ((long) (buf[internalPos + 6] & 0xff) << 48) + ((long) (buf[internalPos + 7] & 0xff) << 56));
-                                        break;
-
-                                    default:
-                                        internalPos += type;
-                                        break;
-                                }
-                                break;
-                        }
-                    } else {
-                        // read asked field position and length
-                        switch (columnDefinition[index].getColumnType()) {
-                            case BIGINT:
-                            case DOUBLE:
-                                this.pos = internalPos;
-                                length = 8;
-                                this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                return;
-
-                            case INTEGER:
-                            case MEDIUMINT:
-                            case FLOAT:
-                            case NUMBER:
-                                this.pos = internalPos;
-                                length = 4;
-                                this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                return;
-
-                            case SMALLINT:
-                            case YEAR:
-                                this.pos = internalPos;
-                                length = 2;
-                                this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                return;
-
-                            case TINYINT:
-                                this.pos = internalPos;
-                                length = 1;
-                                this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                return;
-                            case COMPLEX:
-                                this.pos = internalPos;
-                                this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                return;
-                            case CURSOR:
-                                this.pos = internalPos;
-                                if (this.buf != null && this.buf.length >= this.pos) {
-                                    this.length = this.buf[this.pos];
-                                }
-                                this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                return;
-                            case BINARY_FLOAT:
-                                this.pos = internalPos;
-                                length = 4;
-                                this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                return;
-                            case BINARY_DOUBLE:
-                                this.pos = internalPos;
-                                length = 8;
-                                this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                return;
-
-                            default:
-                                // field with variable length
-                                int typeOrLength = this.buf[internalPos++] & 0xff;
-                                switch (typeOrLength) {
-                                    case 251:
-                                        // null length field
-                                        // must never occur
-                                        // null value are set in NULL-Bitmap, not send with a null length indicator.
-                                        throw new IllegalStateException(
-                                            "null data is encoded in binary protocol but NULL-Bitmap is not set");
-
-                                    case 252:
-                                        // length is encoded on 3 bytes (0xfc header + 2 bytes indicating length)
-                                        length = 0xffff & ((buf[internalPos++] & 0xff) + ((buf[internalPos++] & 0xff) << 8));
-                                        this.pos = internalPos;
-                                        this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                        return;
-                                    case 253:
-                                        // length is encoded on 4 bytes (0xfd header + 3 bytes indicating length)
-                                        length = 0xffffff & ((buf[internalPos++] & 0xff)
-                                                             + ((buf[internalPos++] & 0xff) << 8) + ((buf[internalPos++] & 0xff) << 16));
-                                        //                                        length = buf[internalPos++] & 0xff;
-                                        this.pos = internalPos;
-                                        this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                        return;
-
-                                    case 254:
-                                        // length is encoded on 9 bytes (0xfe header + 8 bytes indicating length)
-                                        length = (int) ((buf[internalPos++] & 0xff)
-                                                        + ((long) (buf[internalPos++] & 0xff) << 8)
-                                                        + ((long) (buf[internalPos++] & 0xff) << 16)
-                                                        + ((long) (buf[internalPos++] & 0xff) << 24)
-                                                        + ((long) (buf[internalPos++] & 0xff) << 32)
-                                                        + ((long) (buf[internalPos++] & 0xff) << 40)
-                                                        + ((long) (buf[internalPos++] & 0xff) << 48) + ((long) (buf[internalPos++] & 0xff) << 56));
-                                        this.pos = internalPos;
-                                        this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                        return;
-
-                                    default:
-                                        // length is encoded on 1 bytes (is then less than 251)
-                                        length = typeOrLength;
-                                        this.pos = internalPos;
-                                        this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
-                                        return;
+        parsedColumns = newIndex + 1;
+    }
+
+    /**
+     * Set length and pos indicator to asked index, reading row from the first field. Used when
+     * result-set has COMPLEX or CURSOR columns, whose length is only known once value is parsed.
+     *
+     * @param newIndex index (0 is first).
+     */
+    private void setPositionFromHead(int newIndex, JDBC4ResultSet resultSet) throws SQLException {
+        index = 0;
+        int internalPos = rowOffset + 1 + (columnInformationLength + 9) / 8;
+        for (; index <= newIndex; index++) {
+            if ((buf[rowOffset + 1 + (index + 2) / 8] & (1 << ((index + 2) % 8))) == 0) {
+                if (index != newIndex) {
+                    // skip bytes
+                    switch (columnDefinition[index].getColumnType()) {
+                        case BIGINT:
+                        case DOUBLE:
+                        case BINARY_DOUBLE:
+                            internalPos += 8;
+                            break;
+
+                        case INTEGER:
+                        case MEDIUMINT:
+                        case FLOAT:
+                        case NUMBER:
+                        case BINARY_FLOAT:
+                            internalPos += 4;
+                            break;
+
+                        case SMALLINT:
+                        case YEAR:
+                            internalPos += 2;
+                            break;
+
+                        case TINYINT:
+                            internalPos += 1;
+                            break;
+                        // add
+                        case COMPLEX:
+                            if (complexEndPos == null) {
+                                if (resultSet.complexEndPos[index] == 0) {
+                                    resultSet.getComplex(index + 1);
                                 }
-                        }
+                                this.complexEndPos = resultSet.complexEndPos;
+                            }
+                            internalPos = this.complexEndPos[index];
+                            break;
+                        case CURSOR:
+                            internalPos = this.complexEndPos[index];
+                            break;
+
+                        default:
+                            int type = this.buf[internalPos++] & 0xff;
+                            switch (type) {
+                                case 251:
+                                    break;
+
+                                case 252:
+                                    internalPos += 2 + (0xffff & (((buf[internalPos] & 0xff) + ((buf[internalPos + 1] & 0xff) << 8))));
+                                    break;
+
+                                case 253:
+                                    internalPos += 3 + (0xffffff & ((buf[internalPos] & 0xff)
+                                                                    + ((buf[internalPos + 1] & 0xff) << 8) + ((buf[internalPos + 2] & 0xff) << 16)));
+                                    break;
+
+                                case 254:
+                                    internalPos += 8 + ((buf[internalPos] & 0xff)
+                                                        + ((long) (buf[internalPos + 1] & 0xff) << 8)
+                                                        + ((long) (buf[internalPos + 2] & 0xff) << 16)
+                                                        + ((long) (buf[internalPos + 3] & 0xff) << 24)
+                                                        + ((long) (buf[internalPos + 4] & 0xff) << 32)
+                                                        + ((long) (buf[internalPos + 5] & 0xff) << 40)
+                                                        + ((long) (buf[internalPos + 6] & 0xff) << 48) + ((long) (buf[internalPos + 7] & 0xff) << 56));
+                                    break;
+
+                                default:
+                                    internalPos += type;
+                                    break;
+                            }
+                            break;
+                    }
+                } else {
+                    // read asked field position and length
+                    switch (columnDefinition[index].getColumnType()) {
+                        case BIGINT:
+                        case DOUBLE:
+                            this.pos = internalPos;
+                            length = 8;
+                            this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                            return;
+
+                        case INTEGER:
+                        case MEDIUMINT:
+                        case FLOAT:
+                        case NUMBER:
+                            this.pos = internalPos;
+                            length = 4;
+                            this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                            return;
+
+                        case SMALLINT:
+                        case YEAR:
+                            this.pos = internalPos;
+                            length = 2;
+                            this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                            return;
+
+                        case TINYINT:
+                            this.pos = internalPos;
+                            length = 1;
+                            this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                            return;
+                        case COMPLEX:
+                            this.pos = internalPos;
+                            this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                            return;
+                        case CURSOR:
+                            this.pos = internalPos;
+                            if (this.buf != null && rowEnd >= this.pos) {
+                                this.length = this.buf[this.pos];
+                            }
+                            this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                            return;
+                        case BINARY_FLOAT:
+                            this.pos = internalPos;
+                            length = 4;
+                            this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                            return;
+                        case BINARY_DOUBLE:
+                            this.pos = internalPos;
+                            length = 8;
+                            this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                            return;
+
+                        default:
+                            // field with variable length
+                            int typeOrLength = this.buf[internalPos++] & 0xff;
+                            switch (typeOrLength) {
+                                case 251:
+                                    // null length field
+                                    // must never occur
+                                    // null value are set in NULL-Bitmap, not send with a null length indicator.
+                                    throw new IllegalStateException(
+                                        "null data is encoded in binary protocol but NULL-Bitmap is not set");
+
+                                case 252:
+                                    // length is encoded on 3 bytes (0xfc header + 2 bytes indicating length)
+                                    length = 0xffff & ((buf[internalPos++] & 0xff) + ((buf[internalPos++] & 0xff) << 8));
+                                    this.pos = internalPos;
+                                    this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                                    return;
+                                case 253:
+                                    // length is encoded on 4 bytes (0xfd header + 3 bytes indicating length)
+                                    length = 0xffffff & ((buf[internalPos++] & 0xff)
+                                                         + ((buf[internalPos++] & 0xff) << 8) + ((buf[internalPos++] & 0xff) << 16));
+                                    //                                        length = buf[internalPos++] & 0xff;
+                                    this.pos = internalPos;
+                                    this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                                    return;
+
+                                case 254:
+                                    // length is encoded on 9 bytes (0xfe header + 8 bytes indicating length)
+                                    length = (int) ((buf[internalPos++] & 0xff)
+                                                    + ((long) (buf[internalPos++] & 0xff) << 8)
+                                                    + ((long) (buf[internalPos++] & 0xff) << 16)
+                                                    + ((long) (buf[internalPos++] & 0xff) << 24)
+                                                    + ((long) (buf[internalPos++] & 0xff) << 32)
+                                                    + ((long) (buf[internalPos++] & 0xff) << 40)
+                                                    + ((long) (buf[internalPos++] & 0xff) << 48) + ((long) (buf[internalPos++] & 0xff) << 56));
+                                    this.pos = internalPos;
+                                    this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                                    return;
+
+                                default:
+                                    // length is encoded on 1 bytes (is then less than 251)
+                                    length = typeOrLength;
+                                    this.pos = internalPos;
+                                    this.lastValueNull = BIT_LAST_FIELD_NOT_NULL;
+                                    return;
+                            }
                     }
                 }
             }
@@ -401,7 +496,8 @@ public class BinaryRowProtocol extends RowProtocol {
                         return "0000-00-00";
                     }
                     if (options.zeroDateTimeBehavior.equalsIgnoreCase(ZERO_DATETIME_EXCEPTION)) {
-                        throw new SQLException("Value '0000-00-00' can not be represented as java.sql.Date");
+                        throw new SQLException(
+                            "Value '0000-00-00' can not be represented as java.sql.Date");
                     }
                 }
                 if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
@@ -438,7 +534,8 @@ public class BinaryRowProtocol extends RowProtocol {
                     && options.compatibleMysqlVersion == 8) {
                     return "0000-00-00 00:00:00";
                 }
-                if (columnInfo.getColumnType() == ColumnType.DATETIME && !options.mapDateToTimestamp && getProtocol().isOracleMode()) {
+                if (columnInfo.getColumnType() == ColumnType.DATETIME
+                    && !options.mapDateToTimestamp && getProtocol().isOracleMode()) {
                     Date dateInter = getInternalDate(columnInfo, cal, TimeZone.getDefault());
                     return (dateInter == null) ? null : dateInter.toString();
                 }
@@ -468,7 +565,8 @@ public class BinaryRowProtocol extends RowProtocol {
                         String datetime = timeSplit[0];
                         StringBuilder millisecond = new StringBuilder(timeSplit[1]);
                         if (!millisecond.toString().matches("0+")) {
-                            for (int i = millisecond.length(); i < columnInfo.getPrimitiveDecimals(); i++) {
+                            for (int i = millisecond.length(); i < columnInfo
+                                .getPrimitiveDecimals(); i++) {
                                 millisecond.append(0);
                             }
                             datetime = datetime + "." + millisecond;
@@ -510,7 +608,7 @@ public class BinaryRowProtocol extends RowProtocol {
             case ORA_CLOB:
                 if (options.supportLobLocator) {
                     String encoding = this.options.getCharacterEncoding();
-                    byte[] data = new byte[buf.length];
+                    byte[] data = new byte[length];
                     System.arraycopy(buf, pos, data, 0, length);
                     Clob c = new com.oceanbase.jdbc.Clob(true, data, encoding, null);
                     return c.toString();
@@ -750,8 +848,7 @@ public class BinaryRowProtocol extends RowProtocol {
                 double doubleVal = Double.parseDouble(stringVal);
                 // check
                 if (!getProtocol().isOracleMode() && options.jdbcCompliantTruncation) {
-                    rangeCheck(Long.class, Long.MIN_VALUE, Long.MAX_VALUE, doubleVal,
-                        columnInfo);
+                    rangeCheck(Long.class, Long.MIN_VALUE, Long.MAX_VALUE, doubleVal, columnInfo);
                 }
                 return (long) doubleVal;
             } catch (NumberFormatException e) {
@@ -982,10 +1079,10 @@ public class BinaryRowProtocol extends RowProtocol {
                     BigDecimal decimal = new BigDecimal(String.valueOf(BigInteger.valueOf(value)));
                     return setScaleOrHandleException(decimal, columnInfo.getDecimals());
                 } else {
-                    BigDecimal decimal = new BigDecimal(String.valueOf(new BigInteger(1, new byte[]{
-                            (byte) (value >> 56), (byte) (value >> 48), (byte) (value >> 40),
-                            (byte) (value >> 32), (byte) (value >> 24), (byte) (value >> 16),
-                            (byte) (value >> 8), (byte) value})));
+                    BigDecimal decimal = new BigDecimal(String.valueOf(new BigInteger(1,
+                        new byte[] { (byte) (value >> 56), (byte) (value >> 48),
+                                (byte) (value >> 40), (byte) (value >> 32), (byte) (value >> 24),
+                                (byte) (value >> 16), (byte) (value >> 8), (byte) value })));
                     return setScaleOrHandleException(decimal, columnInfo.getDecimals());
                 }
             case FLOAT:
@@ -1011,6 +1108,10 @@ public class BinaryRowProtocol extends RowProtocol {
             case OLDDECIMAL:
             case OBDECIMAL:
             case NUMBER_FLOAT:
+                BigDecimal decoded = DecimalCodec.decode(buf, pos, length);
+                if (decoded != null) {
+                    return decoded;
+                }
                 String strValue = new String(buf, pos, length,
                     getCurrentEncoding(columnInfo.getColumnType())).trim();
                 try {
@@ -1042,8 +1143,10 @@ public class BinaryRowProtocol extends RowProtocol {
                 return null;
             }
             if (getProtocol().isOracleMode()) {
-                if (columnInfo.getColumnType() == ColumnType.INTERVALYM || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
-                    throw new SQLException("Invalid column type, getDate not implemented for this type.");
+                if (columnInfo.getColumnType() == ColumnType.INTERVALYM
+                    || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
+                    throw new SQLException(
+                        "Invalid column type, getDate not implemented for this type.");
                 }
             }
             switch (columnInfo.getColumnType()) {
@@ -1087,7 +1190,8 @@ public class BinaryRowProtocol extends RowProtocol {
                         }
                         return Date.valueOf(rawValue.trim());
                     } catch (IllegalArgumentException illegalArgumentException) {
-                        throw new SQLException("bad format, " + illegalArgumentException.getMessage());
+                        throw new SQLException("bad format, "
+                                               + illegalArgumentException.getMessage());
                     } catch (Exception e) {
                         throw ExceptionFactory.INSTANCE.create("Could not get object as Date : "
                                                                + e.getMessage(), "S1009", e);
@@ -1095,10 +1199,12 @@ public class BinaryRowProtocol extends RowProtocol {
                 default:
                     if (length == 0) {
                         if (options.zeroDateTimeBehavior.equalsIgnoreCase(ZERO_DATETIME_EXCEPTION)) {
-                            if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
+                            if (!getProtocol().isOracleMode()
+                                && options.compatibleMysqlVersion == 8) {
                                 throw new SQLException("Zero date value prohibited");
                             }
-                            throw new SQLException("Value '0000-00-00' can not be represented as java.sql.Date");
+                            throw new SQLException(
+                                "Value '0000-00-00' can not be represented as java.sql.Date");
                         }
                         lastValueNull |= BIT_LAST_FIELD_NULL;
                         return null;
@@ -1134,10 +1240,12 @@ public class BinaryRowProtocol extends RowProtocol {
                     }
 
                     Calendar calendar = getCalendarInstance(null);
-                    if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8 && !useCalLenientFlag) {
+                    if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8
+                        && !useCalLenientFlag) {
                         calendar.setLenient(false);
                     }
-                    if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8 && year == 0) {
+                    if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8
+                        && year == 0) {
                         yearIsZero = true;
                     } else {
                         yearIsZero = false;
@@ -1190,8 +1298,10 @@ public class BinaryRowProtocol extends RowProtocol {
             return null;
         }
         if (getProtocol().isOracleMode()) {
-            if (columnInfo.getColumnType() == ColumnType.INTERVALYM || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
-                throw new SQLException("Invalid column type, getTime not implemented for this type.");
+            if (columnInfo.getColumnType() == ColumnType.INTERVALYM
+                || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
+                throw new SQLException(
+                    "Invalid column type, getTime not implemented for this type.");
             }
         }
         switch (columnInfo.getColumnType()) {
@@ -1230,12 +1340,12 @@ public class BinaryRowProtocol extends RowProtocol {
             case NVARCHAR2:
                 if (getProtocol().isOracleMode()) {
                     String raw = new String(buf, pos, length,
-                            getCurrentEncoding(columnInfo.getColumnType()));
+                        getCurrentEncoding(columnInfo.getColumnType()));
                     try {
                         return Time.valueOf(raw.trim());
                     } catch (IllegalArgumentException e) {
                         throw new SQLException("Time format \"" + raw
-                                + "\" incorrect, must be HH:mm:ss");
+                                               + "\" incorrect, must be HH:mm:ss");
                     }
                 }
             default:
@@ -1269,7 +1379,8 @@ public class BinaryRowProtocol extends RowProtocol {
                 if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
                     hour = day * 24 + hour;
                     if (hour < 0 || hour >= 24) {
-                        throw new SQLException("The value '" + hour + ":" + minutes +":"+ seconds + "' is an invalid TIME value.");
+                        throw new SQLException("The value '" + hour + ":" + minutes + ":" + seconds
+                                               + "' is an invalid TIME value.");
                     }
                 }
                 calendar.set(1970, Calendar.JANUARY, ((negate ? -1 : 1) * day) + 1, (negate ? -1
@@ -1304,10 +1415,12 @@ public class BinaryRowProtocol extends RowProtocol {
             }
 
             if (this.getProtocol().isOracleMode()) {
-                if (columnInfo.getColumnType() == ColumnType.INTERVALYM || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
-                    throw new SQLException("Invalid column type, getTimestamp not implemented for this type.");
+                if (columnInfo.getColumnType() == ColumnType.INTERVALYM
+                    || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
+                    throw new SQLException(
+                        "Invalid column type, getTimestamp not implemented for this type.");
                 }
-                Calendar cal ;
+                Calendar cal;
                 TIMESTAMP timestamp = null;
                 switch (columnInfo.getColumnType()) {
                     case TIMESTAMP_TZ:
@@ -1333,7 +1446,8 @@ public class BinaryRowProtocol extends RowProtocol {
                     case NCHAR:
                     case STRING:
                         try {
-                            return Timestamp.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType())).trim());
+                            return Timestamp.valueOf(new String(buf, pos, length,
+                                getCurrentEncoding(columnInfo.getColumnType())).trim());
                         } catch (Exception e) {
                             throw new SQLException("bad format, " + e.getMessage());
                         }
@@ -1353,7 +1467,8 @@ public class BinaryRowProtocol extends RowProtocol {
                 case TIME:
                     boolean negate = false;
                     if (length == 0) {
-                       return buildTimestmap(year, 1, 1, hour, minutes, seconds, nanos, userCalendar, timeZone);
+                        return buildTimestmap(year, 1, 1, hour, minutes, seconds, nanos,
+                            userCalendar, timeZone);
                     }
                     if (length > 0) {
                         negate = (buf[pos] & 0xff) == 0x01;
@@ -1377,12 +1492,13 @@ public class BinaryRowProtocol extends RowProtocol {
                     if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
                         hour = day * 24 + hour;
                         if (hour < 0 || hour >= 24) {
-                            throw new SQLException("The value '" + hour + ":" + minutes +":"+ seconds + "' is an invalid TIME value.");
+                            throw new SQLException("The value '" + hour + ":" + minutes + ":"
+                                                   + seconds + "' is an invalid TIME value.");
                         }
                     }
                     if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 5) {
                         day = 1;
-                    }else {
+                    } else {
                         day = ((negate ? -1 : 1) * day) + 1;
                     }
                     hour = (negate ? -1 : 1) * hour;
@@ -1429,7 +1545,8 @@ public class BinaryRowProtocol extends RowProtocol {
                             year += 1900;
                         }
                     }
-                    return buildTimestmap(year, 1, 1, hour, minutes, seconds, nanos, userCalendar, timeZone);
+                    return buildTimestmap(year, 1, 1, hour, minutes, seconds, nanos, userCalendar,
+                        timeZone);
                 default:
                     if (length > 0) {
                         year = ((buf[pos] & 0xff) | (buf[pos + 1] & 0xff) << 8);
@@ -1442,8 +1559,9 @@ public class BinaryRowProtocol extends RowProtocol {
                             seconds = buf[pos + 6];
 
                             if (length > 7) {
-                                microseconds = ((buf[pos + 7] & 0xff) + ((buf[pos + 8] & 0xff) << 8)
-                                        + ((buf[pos + 9] & 0xff) << 16) + ((buf[pos + 10] & 0xff) << 24));
+                                microseconds = ((buf[pos + 7] & 0xff)
+                                                + ((buf[pos + 8] & 0xff) << 8)
+                                                + ((buf[pos + 9] & 0xff) << 16) + ((buf[pos + 10] & 0xff) << 24));
                                 nanos = microseconds * 1000;
                             }
                         }
@@ -1456,7 +1574,7 @@ public class BinaryRowProtocol extends RowProtocol {
                         throw new SQLException("Zero date value prohibited");
                     }
                     throw new SQLException(
-                            "Value '0000-00-00' can not be represented as java.sql.Timestamp");
+                        "Value '0000-00-00' can not be represented as java.sql.Timestamp");
                 }
                 if (options.zeroDateTimeBehavior.equalsIgnoreCase(ZERO_DATETIME_CONVERT_TO_NULL)) {
                     return null;
@@ -1476,7 +1594,8 @@ public class BinaryRowProtocol extends RowProtocol {
                 yearIsZero = false;
             }
             synchronized (calendar) {
-                if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8 && !useCalLenientFlag) {
+                if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8
+                    && !useCalLenientFlag) {
                     calendar.setLenient(false);
                 }
                 calendar.clear();
@@ -1557,14 +1676,16 @@ public class BinaryRowProtocol extends RowProtocol {
             case TIMESTAMP:
             case TIMESTAMP_NANO:
             case DATETIME:
-                if (columnInfo.getColumnType() == ColumnType.DATETIME && !this.options.mapDateToTimestamp && getProtocol().isOracleMode()) {
+                if (columnInfo.getColumnType() == ColumnType.DATETIME
+                    && !this.options.mapDateToTimestamp && getProtocol().isOracleMode()) {
                     return getInternalDate(columnInfo, null, timeZone);
                 }
                 if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
                     useCalLenientFlag = true;
                 }
                 Timestamp timestamp = getInternalTimestamp(columnInfo, null, timeZone);
-                if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8 && columnInfo.getColumnType() == ColumnType.DATETIME) {
+                if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8
+                    && columnInfo.getColumnType() == ColumnType.DATETIME) {
                     LocalDateTime localDateTime = timestamp.toLocalDateTime();
                     if (yearIsZero) {
                         yearIsZero = false;
@@ -1757,7 +1878,7 @@ public class BinaryRowProtocol extends RowProtocol {
                     break;
                 case NUMBER_FLOAT:
                     BigDecimal numDecimal = new BigDecimal(new String(buf, pos, length,
-                            getCurrentEncoding(columnInfo.getColumnType())).trim());
+                        getCurrentEncoding(columnInfo.getColumnType())).trim());
                     value = numDecimal.longValue();
                     break;
                 default:
@@ -2684,7 +2805,7 @@ public class BinaryRowProtocol extends RowProtocol {
                                                 Connection connection) throws SQLException {
 
         ComplexData value = new ComplexData(complexDataType);
-        if (buf.length <= pos) {
+        if (rowEnd <= pos) {
             throw new SQLException("cursor is not open"); //Pretend the cursor is closed
         }
 
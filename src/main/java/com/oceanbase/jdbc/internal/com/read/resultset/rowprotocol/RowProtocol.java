@@ -126,6 +126,9 @@ public abstract class RowProtocol {
   public byte[] buf;
   public int pos;
   public int length;
+  // row bounds in buf, when row is a view on a bigger array
+  protected int rowOffset;
+  protected int rowEnd;
   protected int index;
   public int[] complexEndPos;
 
@@ -139,9 +142,23 @@ public abstract class RowProtocol {
   }
 
   public void resetRow(byte[] buf) {
+    resetRow(buf, 0, buf == null ? 0 : buf.length);
+  }
+
+  /**
+   * Set current row as a view on an array that may contain other rows.
+   *
+   * @param buf array containing row
+   * @param offset row offset in array
+   * @param length row length
+   */
+  public void resetRow(byte[] buf, int offset, int length) {
     this.buf = buf;
+    this.rowOffset = offset;
+    this.rowEnd = offset + length;
     index = -1;
   }
+
   Charset getCurrentEncoding(ColumnType columnType) {
     switch (columnType) {
       case NVARCHAR2:
@@ -1153,21 +1170,24 @@ public abstract class RowProtocol {
           int hour = Integer.parseInt(rawPart[0]);
           int minutes = Integer.parseInt(rawPart[1]);
           int seconds = Integer.parseInt(rawPart[2].substring(0, 2));
-          Calendar calendar = getCalendarInstance(cal);
-          if (options.useLegacyDatetimeCode) {
-              calendar.setLenient(true);
-          }
-          calendar.clear();
-          calendar.set(1970, Calendar.JANUARY, 1, (negate ? -1 : 1) * hour, minutes, seconds);
-          int nanoseconds = extractNanos(raw);
-          calendar.set(Calendar.MILLISECOND, nanoseconds / 1000000);
-          return new Time(calendar.getTimeInMillis());
+          return buildTime(hour, minutes, seconds, extractNanos(raw), negate, cal);
       } else {
           throw new SQLException(
                   raw + " cannot be parse as time. time must have \"99:99:99\" format");
       }
   }
 
+  Time buildTime(int hour, int minutes, int seconds, int nanos, boolean negate, Calendar cal) {
+      Calendar calendar = getCalendarInstance(cal);
+      if (options.useLegacyDatetimeCode) {
+          calendar.setLenient(true);
+      }
+      calendar.clear();
+      calendar.set(1970, Calendar.JANUARY, 1, (negate ? -1 : 1) * hour, minutes, seconds);
+      calendar.set(Calendar.MILLISECOND, nanos / 1000000);
+      return new Time(calendar.getTimeInMillis());
+  }
+
   public Date getDateFromString(String raw,Calendar cal,ColumnDefinition columnInfo) throws SQLException {
       if(raw == null) {
           return  null;
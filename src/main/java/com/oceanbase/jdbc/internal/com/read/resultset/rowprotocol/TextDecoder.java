@@ -0,0 +1,299 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.read.resultset.rowprotocol;
+
+/**
+ * Allocation-free decoding of text protocol values, reading ASCII characters directly from the
+ * row buffer.
+ *
+ * <p>Only the common layouts are decoded. Any other input, including values in an encoding that is
+ * not ASCII compatible, is reported as not decoded so that caller uses the String based parsing.
+ */
+final class TextDecoder {
+
+    /** Powers of ten exactly representable as double. */
+    private static final double[] POW10        = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    /** Powers of ten exactly representable as float. */
+    private static final float[]  POW10F       = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f,
+            1e7f, 1e8f, 1e9f, 1e10f            };
+
+    private static final int[]    NANOS_FACTOR = { 0, 100_000_000, 10_000_000, 1_000_000, 100_000,
+            10_000, 1_000, 100, 10, 1          };
+
+    private TextDecoder() {
+    }
+
+    /**
+     * Decode a double, when it can be computed exactly : at most 15 significant digits and a
+     * decimal exponent of at most 22 (Clinger fast path). Result is then identical to
+     * Double.parseDouble.
+     *
+     * @param buf buffer
+     * @param pos value position
+     * @param length value length
+     * @return value, or NaN if not decoded
+     */
+    static double parseDouble(byte[] buf, int pos, int length) {
+        return parse(buf, pos, length, 15, 22, false);
+    }
+
+    /**
+     * Decode a float, when it can be computed exactly : at most 7 significant digits and a
+     * decimal exponent of at most 10. Result is then identical to Float.parseFloat.
+     *
+     * @param buf buffer
+     * @param pos value position
+     * @param length value length
+     * @return value, or NaN if not decoded
+     */
+    static float parseFloat(byte[] buf, int pos, int length) {
+        return (float) parse(buf, pos, length, 7, 10, true);
+    }
+
+    private static double parse(byte[] buf, int pos, int length, int maxDigits, int maxPow,
+                                boolean asFloat) {
+        int end = pos + length;
+        int i = pos;
+        boolean negative = false;
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean hasDigit = false;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            byte b = buf[i];
+            if (b >= '0' && b <= '9') {
+                hasDigit = true;
+                if (mantissa != 0 || b != '0') {
+                    if (++significantDigits > maxDigits) {
+                        return Double.NaN;
+                    }
+                    mantissa = mantissa * 10 + (b - '0');
+                }
+                if (fraction) {
+                    exponent--;
+                }
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (!hasDigit) {
+            return Double.NaN;
+        }
+
+        if (i < end) {
+            if (buf[i] != 'e' && buf[i] != 'E') {
+                return Double.NaN;
+            }
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+                negativeExponent = buf[i] == '-';
+                i++;
+            }
+            if (i == end || end - i > 3) {
+                return Double.NaN;
+            }
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                byte b = buf[i];
+                if (b < '0' || b > '9') {
+                    return Double.NaN;
+                }
+                explicitExponent = explicitExponent * 10 + (b - '0');
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (exponent < -maxPow || exponent > maxPow) {
+            return Double.NaN;
+        }
+        double value;
+        if (asFloat) {
+            float m = (float) mantissa;
+            value = exponent >= 0 ? m * POW10F[exponent] : m / POW10F[-exponent];
+        } else {
+            double m = (double) mantissa;
+            value = exponent >= 0 ? m * POW10[exponent] : m / POW10[-exponent];
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Decode "YYYY-MM-DD" or "YYYY-MM-DD hh:mm:ss[.f]" with 1 to 9 fractional digits.
+     *
+     * @param buf buffer
+     * @param pos value position
+     * @param length value length
+     * @param parts array receiving year, month, day, hour, minutes, seconds and nanoseconds
+     * @return true if decoded
+     */
+    static boolean parseDateTime(byte[] buf, int pos, int length, int[] parts) {
+        if (length != 10 && (length < 19 || length == 20 || length > 29)) {
+            return false;
+        }
+        if (buf[pos + 4] != '-' || buf[pos + 7] != '-') {
+            return false;
+        }
+        int year = digits(buf, pos, 4);
+        int month = digits(buf, pos + 5, 2);
+        int day = digits(buf, pos + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return false;
+        }
+        parts[0] = year;
+        parts[1] = month;
+        parts[2] = day;
+        if (length == 10) {
+            parts[3] = 0;
+            parts[4] = 0;
+            parts[5] = 0;
+            parts[6] = 0;
+            return true;
+        }
+        return buf[pos + 10] == ' ' && parseTime(buf, pos + 11, length - 11, parts);
+    }
+
+    /**
+     * Decode "hh:mm:ss[.f]" with 1 to 9 fractional digits.
+     *
+     * @param buf buffer
+     * @param pos value position
+     * @param length value length
+     * @param parts array receiving hour, minutes, seconds and nanoseconds at index 3 to 6
+     * @return true if decoded
+     */
+    static boolean parseTime(byte[] buf, int pos, int length, int[] parts) {
+        if (length != 8 && (length < 10 || length > 18)) {
+            return false;
+        }
+        if (buf[pos + 2] != ':' || buf[pos + 5] != ':') {
+            return false;
+        }
+        int hour = digits(buf, pos, 2);
+        int minutes = digits(buf, pos + 3, 2);
+        int seconds = digits(buf, pos + 6, 2);
+        int nanos = 0;
+        if (length > 8) {
+            if (buf[pos + 8] != '.') {
+                return false;
+            }
+            nanos = nanos(buf, pos + 9, length - 9);
+        }
+        if (hour < 0 || minutes < 0 || seconds < 0 || nanos < 0) {
+            return false;
+        }
+        parts[3] = hour;
+        parts[4] = minutes;
+        parts[5] = seconds;
+        parts[6] = nanos;
+        return true;
+    }
+
+    /**
+     * Decode a fractional second part.
+     *
+     * @param buf buffer
+     * @param pos position of first digit
+     * @param length number of digits, 1 to 9
+     * @return nanoseconds, or -1 if not decoded
+     */
+    static int nanos(byte[] buf, int pos, int length) {
+        if (length < 1 || length > 9) {
+            return -1;
+        }
+        int value = digits(buf, pos, length);
+        return value < 0 ? -1 : value * NANOS_FACTOR[length];
+    }
+
+    /**
+     * Check that a value only contains '0' characters.
+     *
+     * @param value value
+     * @param from first index
+     * @return true if value has at least one character from index, all being '0'
+     */
+    static boolean isZeros(String value, int from) {
+        if (from >= value.length()) {
+            return false;
+        }
+        for (int i = from; i < value.length(); i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(byte[] buf, int pos, int length) {
+        int value = 0;
+        for (int i = pos; i < pos + length; i++) {
+            byte b = buf[i];
+            if (b < '0' || b > '9') {
+                return -1;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+}
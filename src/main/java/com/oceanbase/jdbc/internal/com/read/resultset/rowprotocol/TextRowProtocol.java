@@ -69,6 +69,7 @@ import com.oceanbase.jdbc.JDBC4ResultSet;
 import com.oceanbase.jdbc.extend.datatype.*;
 import com.oceanbase.jdbc.internal.ColumnType;
 import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.util.DecimalCodec;
 import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 import com.oceanbase.jdbc.util.Options;
@@ -77,6 +78,12 @@ import static com.oceanbase.jdbc.util.Options.ZERO_DATETIME_EXCEPTION;
 
 public class TextRowProtocol extends RowProtocol {
 
+    private static final Pattern ORACLE_TIME_PATTERN = Pattern
+                                                         .compile("^(?:(\\d{4}-\\d{2}-\\d{2})\\s)?\\d{2}:\\d{2}:\\d{2}$");
+
+    /** year, month, day, hour, minutes, seconds and nanoseconds of last decoded temporal value. */
+    private final int[]          temporalParts       = new int[7];
+
     /**
      * Constructor.
      *
@@ -95,7 +102,7 @@ public class TextRowProtocol extends RowProtocol {
     public void setPosition(int newIndex, JDBC4ResultSet resultSet) throws SQLException {
         if (index != newIndex) {
             if (index == -1 || index > newIndex) {
-                pos = 0;
+                pos = rowOffset;
                 index = 0;
             } else {
                 index++;
@@ -198,9 +205,7 @@ public class TextRowProtocol extends RowProtocol {
                             .toString();
                     }
                 }
-                Float f = Float.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo
-                    .getColumnType())));
-                return Float.toString(f);
+                return Float.toString(decodeFloat(columnInfo));
             case BINARY_DOUBLE:
                 if (getProtocol().isOracleMode()) {
                     Double d = getNanAndInfForOracle(columnInfo);
@@ -208,9 +213,7 @@ public class TextRowProtocol extends RowProtocol {
                         return Double.toString(d);
                     }
                 }
-                Double d = Double.valueOf(new String(buf, pos, length,
-                    getCurrentEncoding(columnInfo.getColumnType())));
-                return Double.toString(d);
+                return Double.toString(decodeDouble(columnInfo));
 
             case TIME:
                 return getInternalTimeString(columnInfo);
@@ -248,14 +251,16 @@ public class TextRowProtocol extends RowProtocol {
                 }
                 return dateStr;
             case YEAR:
-                String tempYear = new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType()));
-                if ("0000".equals(tempYear) && options.compatibleMysqlVersion == 5 && options.yearIsDateType) {
+                String tempYear = new String(buf, pos, length,
+                    getCurrentEncoding(columnInfo.getColumnType()));
+                if ("0000".equals(tempYear) && options.compatibleMysqlVersion == 5
+                    && options.yearIsDateType) {
                     return "0001-01-01";
                 }
                 if (options.yearIsDateType) {
                     Date date1 = getInternalDate(columnInfo, cal, TimeZone.getDefault());
                     return (date1 == null) ? null : date1.toString();
-                } else if(options.compatibleMysqlVersion == 8){
+                } else if (options.compatibleMysqlVersion == 8) {
                     if ("0000".equals(tempYear)) {
                         return "0";
                     }
@@ -264,7 +269,8 @@ public class TextRowProtocol extends RowProtocol {
             case TIMESTAMP:
             case TIMESTAMP_NANO:
             case DATETIME:
-                if (columnInfo.getColumnType() == ColumnType.DATETIME && !options.mapDateToTimestamp && getProtocol().isOracleMode()) {
+                if (columnInfo.getColumnType() == ColumnType.DATETIME
+                    && !options.mapDateToTimestamp && getProtocol().isOracleMode()) {
                     Date dateInter = getInternalDate(columnInfo, cal, TimeZone.getDefault());
                     return (dateInter == null) ? null : dateInter.toString();
                 }
@@ -277,7 +283,7 @@ public class TextRowProtocol extends RowProtocol {
                     timestamp = getInternalTimestamp(columnInfo, cal, TimeZone.getDefault());
                 } catch (SQLException sqlex) {
                     if (sqlex.getMessage().equals("Zero date value prohibited")
-                            && !getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
+                        && !getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
                         return "0000-00-00 00:00:00";
                     }
                     throw sqlex;
@@ -306,14 +312,16 @@ public class TextRowProtocol extends RowProtocol {
                     return str;
                 } else if (options.compatibleMysqlVersion == 8) {
                     if (columnInfo.getLength() >= 19) {
-                        String[] timeSplit = timestamp.toString().split("\\.");
-                        String datetime = timeSplit[0];
-                        StringBuilder millisecond = new StringBuilder(timeSplit[1]);
-                        if (!millisecond.toString().matches("0+")) {
-                            for (int i = millisecond.length(); i < columnInfo.getPrimitiveDecimals(); i++) {
-                                millisecond.append(0);
+                        String timestampStr = timestamp.toString();
+                        int dotIndex = timestampStr.indexOf('.');
+                        String datetime = timestampStr.substring(0, dotIndex);
+                        if (!TextDecoder.isZeros(timestampStr, dotIndex + 1)) {
+                            StringBuilder sb = new StringBuilder(timestampStr);
+                            for (int i = timestampStr.length() - dotIndex - 1; i < columnInfo
+                                .getPrimitiveDecimals(); i++) {
+                                sb.append('0');
                             }
-                            datetime = datetime + "." + millisecond;
+                            datetime = sb.toString();
                         }
                         if (yearIsZero) {
                             yearIsZero = false;
@@ -413,10 +421,9 @@ public class TextRowProtocol extends RowProtocol {
         try {
             switch (columnInfo.getColumnType()) {
                 case FLOAT:
-                    Float floatValue = Float.valueOf(new String(buf, pos, length,
-                        getCurrentEncoding(columnInfo.getColumnType())));
+                    float floatValue = decodeFloat(columnInfo);
                     // check
-                    if (floatValue.compareTo((float) Long.MAX_VALUE) >= 1) {
+                    if (Float.compare(floatValue, (float) Long.MAX_VALUE) >= 1) {
                         throw new SQLException("Out of range value for column '"
                                                + columnInfo.getName()
                                                + "' : value "
@@ -424,7 +431,7 @@ public class TextRowProtocol extends RowProtocol {
                                                    getCurrentEncoding(columnInfo.getColumnType()))
                                                + " is not in Long range", "22003", 1264);
                     }
-                    return floatValue.longValue();
+                    return (long) floatValue;
                 case NUMBER_FLOAT:
                     BigDecimal bigDecimal = getInternalBigDecimal(columnInfo);
                     rangeCheck(Long.class, Long.MIN_VALUE, Long.MAX_VALUE, bigDecimal, columnInfo);
@@ -434,10 +441,9 @@ public class TextRowProtocol extends RowProtocol {
                     double internalDouble = getInternalDouble(columnInfo);
                     return (long) internalDouble;
                 case DOUBLE:
-                    Double doubleValue = Double.valueOf(new String(buf, pos, length,
-                        getCurrentEncoding(columnInfo.getColumnType())));
+                    double doubleValue = decodeDouble(columnInfo);
                     // check
-                    if (doubleValue.compareTo((double) Long.MAX_VALUE) >= 1) {
+                    if (Double.compare(doubleValue, (double) Long.MAX_VALUE) >= 1) {
                         throw new SQLException("Out of range value for column '"
                                                + columnInfo.getName()
                                                + "' : value "
@@ -445,7 +451,7 @@ public class TextRowProtocol extends RowProtocol {
                                                    getCurrentEncoding(columnInfo.getColumnType()))
                                                + " is not in Long range", "22003", 1264);
                     }
-                    return doubleValue.longValue();
+                    return (long) doubleValue;
                 case BIT:
                     return parseBit();
                 case TINYINT:
@@ -555,13 +561,18 @@ public class TextRowProtocol extends RowProtocol {
             case NUMBER_FLOAT:
             case BINARY_FLOAT:
                 try {
+                    float f = TextDecoder.parseFloat(buf, pos, length);
+                    if (!Float.isNaN(f)) {
+                        return f;
+                    }
                     if (getProtocol().isOracleMode()) {
                         Double d = getNanAndInfForOracle(columnInfo);
                         if (d != null) {
                             return d.floatValue();
                         }
                     }
-                    return Float.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType())));
+                    return Float.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo
+                        .getColumnType())));
                     // check
                 } catch (NumberFormatException nfe) {
                     SQLException sqlException = new SQLException(
@@ -622,13 +633,18 @@ public class TextRowProtocol extends RowProtocol {
             case BIGINT:
             case BINARY_DOUBLE:
                 try {
+                    double value = TextDecoder.parseDouble(buf, pos, length);
+                    if (!Double.isNaN(value)) {
+                        return value;
+                    }
                     if (getProtocol().isOracleMode()) {
                         Double d = getNanAndInfForOracle(columnInfo);
                         if (d != null) {
                             return d;
                         }
                     }
-                    return Double.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType())));
+                    return Double.valueOf(new String(buf, pos, length,
+                        getCurrentEncoding(columnInfo.getColumnType())));
                 } catch (NumberFormatException nfe) {
                     SQLException sqlException = new SQLException(
                         "Incorrect format \""
@@ -647,9 +663,14 @@ public class TextRowProtocol extends RowProtocol {
                         return d;
                     }
                 }
-                return (double) Float.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType())));
+                return (double) decodeFloat(columnInfo);
             case OBDECIMAL:
             case NUMBER_FLOAT:
+                double decimalValue = TextDecoder.parseDouble(buf, pos, length);
+                // BigDecimal has no negative zero
+                if (!Double.isNaN(decimalValue) && decimalValue != 0) {
+                    return decimalValue;
+                }
                 String value = new String(buf, pos, length,
                     getCurrentEncoding(columnInfo.getColumnType()));
                 BigDecimal bigDecimal = new BigDecimal(value);
@@ -695,6 +716,10 @@ public class TextRowProtocol extends RowProtocol {
             default:
                 break;
         }
+        BigDecimal decoded = DecimalCodec.decode(buf, pos, length);
+        if (decoded != null) {
+            return decoded;
+        }
         String value = new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType()))
             .trim();
         try {
@@ -723,8 +748,10 @@ public class TextRowProtocol extends RowProtocol {
             }
 
             if (getProtocol().isOracleMode()) {
-                if (columnInfo.getColumnType() == ColumnType.INTERVALYM || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
-                    throw new SQLException("Invalid column type, getDate not implemented for this type.");
+                if (columnInfo.getColumnType() == ColumnType.INTERVALYM
+                    || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
+                    throw new SQLException(
+                        "Invalid column type, getDate not implemented for this type.");
                 }
             }
 
@@ -748,18 +775,23 @@ public class TextRowProtocol extends RowProtocol {
                     }
 
                     if (datePart[0] == 0 && datePart[1] == 0 && datePart[2] == 0) {
-                        if (options.zeroDateTimeBehavior.equalsIgnoreCase(ZERO_DATETIME_EXCEPTION) ) {
-                            if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
+                        if (options.zeroDateTimeBehavior.equalsIgnoreCase(ZERO_DATETIME_EXCEPTION)) {
+                            if (!getProtocol().isOracleMode()
+                                && options.compatibleMysqlVersion == 8) {
                                 throw new SQLException("Zero date value prohibited");
                             }
-                            throw new SQLException("Value '" + new String(buf, pos, length,
-                                    getCurrentEncoding(columnInfo.getColumnType())) + "' can not be represented as java.sql.Date");
+                            throw new SQLException("Value '"
+                                                   + new String(buf, pos, length,
+                                                       getCurrentEncoding(columnInfo
+                                                           .getColumnType()))
+                                                   + "' can not be represented as java.sql.Date");
                         }
                         lastValueNull |= BIT_LAST_ZERO_DATE;
                         return null;
                     }
 
-                    if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8 && datePart[0] == 0) {
+                    if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8
+                        && datePart[0] == 0) {
                         if (!useCalLenientFlag) {
                             throw new SQLException("ILLEGAL YEAR");
                         } else {
@@ -867,7 +899,8 @@ public class TextRowProtocol extends RowProtocol {
                             getCurrentEncoding(columnInfo.getColumnType())), cal, columnInfo);
                     }
                     try {
-                        String s = new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType()));
+                        String s = new String(buf, pos, length,
+                            getCurrentEncoding(columnInfo.getColumnType()));
                         if (getProtocol().isOracleMode()) {
                             return Date.valueOf(s.trim());
                         }
@@ -886,7 +919,7 @@ public class TextRowProtocol extends RowProtocol {
             throw sqlException; // don't re-wrap
         } catch (IllegalArgumentException e) {
             throw new SQLException("bad format, " + e.getMessage());
-        }catch (Exception e) {
+        } catch (Exception e) {
             SQLException sqlException = new SQLException("Bad format for DATE "
                                                          + new String(buf, pos, length,
                                                              getCurrentEncoding(columnInfo
@@ -913,8 +946,10 @@ public class TextRowProtocol extends RowProtocol {
             }
 
             if (getProtocol().isOracleMode()) {
-                if (columnInfo.getColumnType() == ColumnType.INTERVALYM || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
-                    throw new SQLException("Invalid column type, getTime not implemented for this type.");
+                if (columnInfo.getColumnType() == ColumnType.INTERVALYM
+                    || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
+                    throw new SQLException(
+                        "Invalid column type, getTime not implemented for this type.");
                 }
             }
 
@@ -933,7 +968,7 @@ public class TextRowProtocol extends RowProtocol {
                 return (timestamp == null) ? null : new Time(timestamp.getTime());
 
             } else if (columnInfo.getColumnType() == ColumnType.DATE
-                    || (columnInfo.getColumnType() == ColumnType.YEAR && options.compatibleMysqlVersion == 8)) {
+                       || (columnInfo.getColumnType() == ColumnType.YEAR && options.compatibleMysqlVersion == 8)) {
                 if (length != 0) {
                     handleZeroDateException(columnInfo, Time.class);
                     Calendar calendar = getCalendarInstance(cal);
@@ -949,18 +984,19 @@ public class TextRowProtocol extends RowProtocol {
                 }
                 throw new SQLException("Cannot read Time using a Types.DATE field");
             } else {
+                if (!getProtocol().isOracleMode()
+                    && TextDecoder.parseTime(buf, pos, length, temporalParts)) {
+                    return buildTime(temporalParts[3], temporalParts[4], temporalParts[5],
+                        temporalParts[6], false, cal);
+                }
                 String raw = new String(buf, pos, length,
                     getCurrentEncoding(columnInfo.getColumnType())).trim();
                 if (!getProtocol().isOracleMode()) {
                     return getTimeFromString(raw, cal);
                 }
-                Pattern pattern = Pattern.compile(
-                        "^(?:(\\d{4}-\\d{2}-\\d{2})\\s)?\\d{2}:\\d{2}:\\d{2}$");
-
-                if (!options.useLegacyDatetimeCode
-                        && !pattern.matcher(raw).find()) {
+                if (!options.useLegacyDatetimeCode && !ORACLE_TIME_PATTERN.matcher(raw).find()) {
                     throw new SQLException("Time format \"" + raw
-                            + "\" incorrect, must be HH:mm:ss");
+                                           + "\" incorrect, must be HH:mm:ss");
                 }
                 boolean negate = raw.startsWith("-");
                 if (negate) {
@@ -977,13 +1013,13 @@ public class TextRowProtocol extends RowProtocol {
                     }
                     calendar.clear();
                     calendar.set(1970, Calendar.JANUARY, 1, (negate ? -1 : 1) * hour, minutes,
-                            seconds);
+                        seconds);
                     int nanoseconds = extractNanos(raw);
                     calendar.set(Calendar.MILLISECOND, nanoseconds / 1000000);
                     return new Time(calendar.getTimeInMillis());
                 } else {
                     throw new SQLException(
-                            raw + " cannot be parse as time. time must have \"99:99:99\" format");
+                        raw + " cannot be parse as time. time must have \"99:99:99\" format");
                 }
             }
         } catch (SQLException e) {
@@ -1022,8 +1058,10 @@ public class TextRowProtocol extends RowProtocol {
             return null;
         }
         if (this.getProtocol().isOracleMode()) {
-            if (columnInfo.getColumnType() == ColumnType.INTERVALYM || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
-                throw new SQLException("Invalid column type, getTimestamp not implemented for this type.");
+            if (columnInfo.getColumnType() == ColumnType.INTERVALYM
+                || columnInfo.getColumnType() == ColumnType.INTERVALDS) {
+                throw new SQLException(
+                    "Invalid column type, getTimestamp not implemented for this type.");
             }
 
             Calendar cal;
@@ -1032,22 +1070,23 @@ public class TextRowProtocol extends RowProtocol {
                 case TIMESTAMP_TZ:
                     cal = getCalendarInstanceWithTimezone(userCalendar, timeZone);
                     TIMESTAMPTZ oracleTimestampZ = getInternalTIMESTAMPTZ(columnInfo, userCalendar,
-                            timeZone);
+                        timeZone);
                     timestamp = TIMESTAMPTZ.toTIMESTAMP(getProtocol(), oracleTimestampZ.toBytes());
                     return timestamp.timestampValue(cal);
                 case TIMESTAMP_LTZ:
                     cal = getCalendarInstanceWithTimezone(userCalendar, timeZone);
                     TIMESTAMPLTZ oracleTimestampLTZ = getInternalTIMESTAMPLTZ(columnInfo,
-                            userCalendar, timeZone);
+                        userCalendar, timeZone);
                     timestamp = TIMESTAMPLTZ.toTIMESTAMP(getProtocol(),
-                            oracleTimestampLTZ.getBytes());
+                        oracleTimestampLTZ.getBytes());
                     return timestamp.timestampValue(cal);
                 case VARCHAR2:
                 case NVARCHAR2:
                 case NCHAR:
                 case STRING:
                     try {
-                        return Timestamp.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType())).trim());
+                        return Timestamp.valueOf(new String(buf, pos, length,
+                            getCurrentEncoding(columnInfo.getColumnType())).trim());
                     } catch (Exception e) {
                         throw new SQLException("bad format, " + e.getMessage());
                     }
@@ -1065,16 +1104,21 @@ public class TextRowProtocol extends RowProtocol {
                 if (options.obDateTypeOptimization) {
                     return getTimestampFromBytes(columnInfo, userCalendar, timeZone);
                 }
+                int[] parts = temporalParts;
+                // zero dates are left to the String parsing, that applies zeroDateTimeBehavior
+                if (TextDecoder.parseDateTime(buf, pos, length, parts)
+                    && (parts[0] | parts[1] | parts[2]) != 0) {
+                    return buildTimestmap(parts[0], parts[1], parts[2], parts[3], parts[4],
+                        parts[5], parts[6], userCalendar, timeZone);
+                }
                 String rawValue = new String(buf, pos, length,
                     getCurrentEncoding(columnInfo.getColumnType()));
                 return getTimestampFromString(columnInfo, rawValue, userCalendar, timeZone);
             case TIME:
                 // time does not go after millisecond
-                rawValue = new String(buf, pos, length,
-                    getCurrentEncoding(columnInfo.getColumnType()));
                 Timestamp tt = new Timestamp(getInternalTime(columnInfo, userCalendar,
                     TimeZone.getDefault()).getTime());
-                tt.setNanos(extractNanos(rawValue));
+                tt.setNanos(extractTimeNanos(columnInfo));
                 return tt;
 
             case TIMESTAMP_NANO:
@@ -1168,14 +1212,16 @@ public class TextRowProtocol extends RowProtocol {
             case TIMESTAMP:
             case TIMESTAMP_NANO:
             case DATETIME:
-                if (columnInfo.getColumnType() == ColumnType.DATETIME && !this.options.mapDateToTimestamp && getProtocol().isOracleMode()) {
+                if (columnInfo.getColumnType() == ColumnType.DATETIME
+                    && !this.options.mapDateToTimestamp && getProtocol().isOracleMode()) {
                     return getInternalDate(columnInfo, null, timeZone);
                 }
                 if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
                     useCalLenientFlag = true;
                 }
                 Timestamp timestamp = getInternalTimestamp(columnInfo, null, timeZone);
-                if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8 && columnInfo.getColumnType() == ColumnType.DATETIME) {
+                if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8
+                    && columnInfo.getColumnType() == ColumnType.DATETIME) {
                     LocalDateTime localDateTime = timestamp.toLocalDateTime();
                     if (yearIsZero) {
                         yearIsZero = false;
@@ -1231,7 +1277,8 @@ public class TextRowProtocol extends RowProtocol {
                         return d.floatValue();
                     }
                 }
-                return Float.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType())));
+                return Float.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo
+                    .getColumnType())));
             case BINARY_DOUBLE:
                 if (getProtocol().isOracleMode()) {
                     Double d = getNanAndInfForOracle(columnInfo);
@@ -1239,7 +1286,8 @@ public class TextRowProtocol extends RowProtocol {
                         return d;
                     }
                 }
-                return Double.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType())));
+                return Double.valueOf(new String(buf, pos, length, getCurrentEncoding(columnInfo
+                    .getColumnType())));
             case NVARCHAR2:
             case NCHAR:
                 return getInternalString(columnInfo, null, timeZone);
@@ -1323,7 +1371,7 @@ public class TextRowProtocol extends RowProtocol {
             case BINARY_FLOAT:
             case BINARY_DOUBLE:
                 double internalDouble = getInternalDouble(columnInfo);
-                return (byte)((int)internalDouble);
+                return (byte) ((int) internalDouble);
             default:
                 break;
         }
@@ -1351,7 +1399,7 @@ public class TextRowProtocol extends RowProtocol {
             case BINARY_FLOAT:
             case BINARY_DOUBLE:
                 double internalDouble = getInternalDouble(columnInfo);
-                return (short)((int)internalDouble);
+                return (short) ((int) internalDouble);
             default:
                 break;
         }
@@ -1382,8 +1430,8 @@ public class TextRowProtocol extends RowProtocol {
             String[] split = rawValue.split("\\.");
             newRawvalue = split[0];
         }
-        if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 5 &&
-                newRawvalue.length() != 5 && newRawvalue.length() != 8) {
+        if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 5
+            && newRawvalue.length() != 5 && newRawvalue.length() != 8) {
             throw new SQLException("Time format \"" + rawValue + "\" incorrect, must be HH:mm:ss");
         }
 
@@ -1571,22 +1619,22 @@ public class TextRowProtocol extends RowProtocol {
             }
         } else if (!this.getProtocol().isOracleMode()) {
             String raw = new String(buf, pos, length,
-                    getCurrentEncoding(columnInfo.getColumnType()));
+                getCurrentEncoding(columnInfo.getColumnType()));
             return OffsetTime.parse(raw, DateTimeFormatter.ISO_OFFSET_TIME);
         }
 
         if (options.useLegacyDatetimeCode) {
             // system timezone is not an offset
             throw new SQLException(
-                    "Cannot return an OffsetTime for a TIME field when default timezone is '"
-                            + zoneId
-                            + "' (only possible for time-zone offset from Greenwich/UTC, such as +02:00)");
+                "Cannot return an OffsetTime for a TIME field when default timezone is '"
+                        + zoneId
+                        + "' (only possible for time-zone offset from Greenwich/UTC, such as +02:00)");
         }
 
         // server timezone is not an offset
         throw new SQLException(
-                "Cannot return an OffsetTime for a TIME field when server timezone '" + zoneId
-                        + "' (only possible for time-zone offset from Greenwich/UTC, such as +02:00)");
+            "Cannot return an OffsetTime for a TIME field when server timezone '" + zoneId
+                    + "' (only possible for time-zone offset from Greenwich/UTC, such as +02:00)");
     }
 
     public OffsetDateTime getInternalOffsetDateTime(ColumnDefinition columnInfo, TimeZone timeZone)
@@ -1789,15 +1837,49 @@ public class TextRowProtocol extends RowProtocol {
         return new INTERVALYM(b);
     }
 
+    private int extractTimeNanos(ColumnDefinition columnInfo) throws SQLException {
+        int end = pos + length;
+        for (int i = pos; i < end; i++) {
+            if (buf[i] == '.') {
+                int nanos = TextDecoder.nanos(buf, i + 1, end - i - 1);
+                if (nanos >= 0) {
+                    return nanos;
+                }
+                break;
+            }
+        }
+        return extractNanos(new String(buf, pos, length,
+            getCurrentEncoding(columnInfo.getColumnType())));
+    }
+
+    private float decodeFloat(ColumnDefinition columnInfo) {
+        float value = TextDecoder.parseFloat(buf, pos, length);
+        if (Float.isNaN(value)) {
+            value = Float.parseFloat(new String(buf, pos, length, getCurrentEncoding(columnInfo
+                .getColumnType())));
+        }
+        return value;
+    }
+
+    private double decodeDouble(ColumnDefinition columnInfo) {
+        double value = TextDecoder.parseDouble(buf, pos, length);
+        if (Double.isNaN(value)) {
+            value = Double.parseDouble(new String(buf, pos, length, getCurrentEncoding(columnInfo
+                .getColumnType())));
+        }
+        return value;
+    }
+
     private Double getNanAndInfForOracle(ColumnDefinition columnInfo) {
-        String doubleStr = new String(buf, pos, length, getCurrentEncoding(columnInfo.getColumnType()));
-        if (doubleStr.toUpperCase(Locale.ROOT).startsWith("NAN")) {
+        String doubleStr = new String(buf, pos, length,
+            getCurrentEncoding(columnInfo.getColumnType())).toUpperCase(Locale.ROOT);
+        if (doubleStr.startsWith("NAN")) {
             return Double.NaN;
         }
-        if (doubleStr.toUpperCase(Locale.ROOT).startsWith("INF")) {
+        if (doubleStr.startsWith("INF")) {
             return Double.POSITIVE_INFINITY;
         }
-        if (doubleStr.toUpperCase(Locale.ROOT).startsWith("-INF")) {
+        if (doubleStr.startsWith("-INF")) {
             return Double.NEGATIVE_INFINITY;
         }
         return null;
@@ -1806,10 +1888,10 @@ public class TextRowProtocol extends RowProtocol {
     private boolean isZeroDateOrTime(ColumnDefinition columnInfo) throws SQLException {
         int[] datePart = new int[] { 0, 0, 0 };
         if (columnInfo.getColumnType() == ColumnType.TIMESTAMP
-                || columnInfo.getColumnType() == ColumnType.TIMESTAMP_NANO
-                || columnInfo.getColumnType() == ColumnType.DATETIME
-                || columnInfo.getColumnType() == ColumnType.TIMESTAMP_TZ
-                || columnInfo.getColumnType() == ColumnType.TIMESTAMP_LTZ) {
+            || columnInfo.getColumnType() == ColumnType.TIMESTAMP_NANO
+            || columnInfo.getColumnType() == ColumnType.DATETIME
+            || columnInfo.getColumnType() == ColumnType.TIMESTAMP_TZ
+            || columnInfo.getColumnType() == ColumnType.TIMESTAMP_LTZ) {
             datePart = new int[] { 0, 0, 0, 0, 0, 0 };
         }
         int partIdx = 0;
@@ -1821,9 +1903,8 @@ public class TextRowProtocol extends RowProtocol {
             }
             if ((b < '0' || b > '9') && columnInfo.getColumnType() == ColumnType.DATE) {
                 throw new SQLException("cannot parse data in date string '"
-                        + new String(buf, pos, length,
-                        getCurrentEncoding(columnInfo
-                                .getColumnType())) + "'");
+                                       + new String(buf, pos, length,
+                                           getCurrentEncoding(columnInfo.getColumnType())) + "'");
             }
             datePart[partIdx] = datePart[partIdx] * 10 + b - 48;
         }
@@ -1835,15 +1916,18 @@ public class TextRowProtocol extends RowProtocol {
         return true;
     }
 
-    private void handleZeroDateException(ColumnDefinition columnInfo, Class clazz) throws SQLException {
+    private void handleZeroDateException(ColumnDefinition columnInfo, Class clazz)
+                                                                                  throws SQLException {
         boolean zeroDateOrTime = isZeroDateOrTime(columnInfo);
         if (zeroDateOrTime) {
             if (options.zeroDateTimeBehavior.equalsIgnoreCase(ZERO_DATETIME_EXCEPTION)) {
                 if (!getProtocol().isOracleMode() && options.compatibleMysqlVersion == 8) {
                     throw new SQLException("Zero date value prohibited");
                 }
-                throw new SQLException("Value '" + new String(buf, pos, length,
-                        getCurrentEncoding(columnInfo.getColumnType())) + "' can not be represented as " + clazz.getName());
+                throw new SQLException("Value '"
+                                       + new String(buf, pos, length,
+                                           getCurrentEncoding(columnInfo.getColumnType()))
+                                       + "' can not be represented as " + clazz.getName());
             }
         }
     }
@@ -73,7 +73,8 @@ public class ComQuery {
     public static void sendSubCmd(final PacketOutputStream out,
                                   final ClientPrepareResult clientPrepareResult,
                                   ParameterHolder[] parameters, int queryTimeout)
-            throws IOException, SQLException {
+                                                                                 throws IOException,
+                                                                                 SQLException {
         out.startPacket(0);
         out.write(Packet.COM_QUERY);
         if (queryTimeout > 0) {
@@ -118,7 +119,8 @@ public class ComQuery {
     public static int sendRewriteCmd(final PacketOutputStream pos, final List<byte[]> queryParts,
                                      int currentIndex, int paramCount,
                                      List<ParameterHolder[]> parameterList, boolean rewriteValues)
-            throws IOException, SQLException {
+                                                                                                  throws IOException,
+                                                                                                  SQLException {
         pos.startPacket(0);
         pos.write(Packet.COM_QUERY);
         int index = currentIndex;
@@ -370,7 +372,9 @@ public class ComQuery {
      * @throws IOException
      * @throws SQLException
      */
-    public static void addParenthesesArroundValue(PacketOutputStream pos, ParameterHolder parameter) throws IOException, SQLException {
+    public static void addParenthesesArroundValue(PacketOutputStream pos, ParameterHolder parameter)
+                                                                                                    throws IOException,
+                                                                                                    SQLException {
         if (pos.isOracleMode() && pos.isEncloseParamInParentheses()) {
             pos.write(" ".getBytes(pos.getCharset()));
         }
@@ -87,45 +87,46 @@ public class ComStmtExecute {
                             ColumnType[] parameterTypeHeader, byte cursorFlag, Protocol protocol)
                                                                                                  throws IOException,
                                                                                                  SQLException {
+        send(pos, statementId, parameters, parameterCount, parameterTypeHeader, cursorFlag,
+            protocol, null);
+    }
+
+    /**
+     * Send a prepare statement binary stream, reusing encoding state of previous executions.
+     *
+     * @param pos database socket
+     * @param statementId prepareResult object received after preparation.
+     * @param parameters parameters
+     * @param parameterCount parameters number
+     * @param parameterTypeHeader parameters header
+     * @param cursorFlag cursor flag
+     * @param protocol current protocol
+     * @param template encoding state of the prepared statement, may be null
+     * @throws IOException if a connection error occur
+     */
+    public static void send(final PacketOutputStream pos, final int statementId,
+                            final ParameterHolder[] parameters, final int parameterCount,
+                            ColumnType[] parameterTypeHeader, byte cursorFlag, Protocol protocol,
+                            ExecuteTemplate template) throws IOException, SQLException {
+        if (template == null || template.getParameterCount() != parameterCount) {
+            template = new ExecuteTemplate(parameterCount);
+        }
         pos.startPacket(0);
 
-        pos.write(Packet.COM_STMT_EXECUTE);
-        pos.writeInt(statementId);
-        pos.write(cursorFlag);
-        if (protocol.versionGreaterOrEqual(4, 1, 2)) {
-            if (protocol.isOracleMode() && protocol.getOptions().useServerPsStmtChecksum) {
-                pos.writeInt((int) protocol.getChecksum());
-            } else {
-                pos.writeInt(1);
-            }
-        } else {
-            pos.writeInt(1); //Iteration pos
+        int iteration = 1; //Iteration pos
+        if (protocol.versionGreaterOrEqual(4, 1, 2) && protocol.isOracleMode()
+            && protocol.getOptions().useServerPsStmtChecksum) {
+            iteration = (int) protocol.getChecksum();
         }
+        pos.write(template.header(statementId, cursorFlag, iteration), 0, 10);
+
         // create null bitmap
         if (parameterCount > 0) {
-            int nullCount = (parameterCount + 7) / 8;
-
-            byte[] nullBitsBuffer = new byte[nullCount];
-            for (int i = 0; i < parameterCount; i++) {
-                if (parameters[i].isNullData()) {
-                    nullBitsBuffer[i / 8] |= (1 << (i % 8));
-                }
-            }
-            pos.write(nullBitsBuffer, 0, nullCount);
-
             // check if parameters type (using setXXX) have change since previous request,
             // and resend new header type if so
-            boolean mustSendHeaderType = false;
-            if (parameterTypeHeader != null && parameterTypeHeader[0] == null) {
-                mustSendHeaderType = true;
-            } else {
-                for (int i = 0; i < parameterCount; i++) {
-                    if (!parameterTypeHeader[i].equals(parameters[i].getColumnType())) {
-                        mustSendHeaderType = true;
-                        break;
-                    }
-                }
-            }
+            boolean mustSendHeaderType = template.prepare(parameters, parameterTypeHeader);
+            byte[] nullBitsBuffer = template.getNullBits();
+            pos.write(nullBitsBuffer, 0, nullBitsBuffer.length);
 
             if (mustSendHeaderType) {
                 pos.write((byte) 0x01);
@@ -154,7 +155,7 @@ public class ComStmtExecute {
 
         for (int i = 0; i < parameterCount; i++) {
             ParameterHolder holder = parameters[i];
-            if (!holder.isNullData() && !holder.isLongData()) {
+            if (!template.isNull(i) && !holder.isLongData()) {
                 holder.writeBinary(pos);
             }
         }
@@ -223,6 +224,84 @@ public class ComStmtExecute {
         }
     }
 
+    /**
+     * Find where the array binding packet starting at <code>start</code> must end. A packet only
+     * groups rows whose parameter types match its first row, holds at most
+     * <code>maxTotalParams</code> values and is kept under <code>maxPacketSize</code> bytes,
+     * estimated from the parameters' approximate lengths. Long data is sent apart, so it counts
+     * for nothing unless <code>isolateLongData</code> is set, in which case such a row is returned
+     * as a packet on its own so that the caller can execute it individually.
+     *
+     * @param queryParameters batch parameters
+     * @param start index of the first row of the packet
+     * @param end index after the last row of the batch
+     * @param parameterCount parameters number
+     * @param maxTotalParams maximum number of values in a packet, 0 for no limit
+     * @param maxPacketSize maximum packet size, 0 for no limit
+     * @param isolateLongData whether rows with long data must be executed on their own
+     * @return index after the last row of the packet, always greater than <code>start</code>
+     * @throws IOException if a parameter length cannot be evaluated
+     */
+    public static int arrayBindingEnd(final List<ParameterHolder[]> queryParameters,
+                                      final int start, final int end, final int parameterCount,
+                                      final int maxTotalParams, final int maxPacketSize,
+                                      final boolean isolateLongData) throws IOException {
+        ParameterHolder[] first = queryParameters.get(start);
+        if (isolateLongData && hasLongData(first, parameterCount)) {
+            return start + 1;
+        }
+        int maxRows = Integer.MAX_VALUE;
+        if (maxTotalParams > 0 && parameterCount > 0) {
+            maxRows = Math.max(1, maxTotalParams / parameterCount);
+        }
+        // command, statement id, flags, iteration count, null bitmap, COMPLEX type headers and
+        // the element count of every column
+        long size = 10 + (parameterCount + 7) / 8 + 1 + 15L * parameterCount;
+        int index = start;
+        while (index < end && index - start < maxRows) {
+            ParameterHolder[] parameters = queryParameters.get(index);
+            if (index > start) {
+                if (isolateLongData && hasLongData(parameters, parameterCount)) {
+                    break;
+                }
+                boolean sameTypes = true;
+                for (int i = 0; i < parameterCount; i++) {
+                    if (parameters[i].getColumnType().getType() != first[i].getColumnType()
+                        .getType()) {
+                        sameTypes = false;
+                        break;
+                    }
+                }
+                if (!sameTypes) {
+                    break;
+                }
+            }
+            // one null bit per value, and at worst a 9 bytes length encoding
+            long rowSize = (parameterCount + 7) / 8;
+            for (int i = 0; i < parameterCount; i++) {
+                ParameterHolder holder = parameters[i];
+                if (!holder.isLongData() && !holder.isNullData()) {
+                    rowSize += 9 + Math.max(0, holder.getApproximateTextProtocolLength());
+                }
+            }
+            if (maxPacketSize > 0 && index > start && size + rowSize > maxPacketSize) {
+                break;
+            }
+            size += rowSize;
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean hasLongData(ParameterHolder[] parameters, int parameterCount) {
+        for (int i = 0; i < parameterCount; i++) {
+            if (parameters[i].isLongData()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static void sendArrayBinding(final PacketOutputStream pos, final int statementId,
                                         final List<ParameterHolder[]> queryParameters,
                                         final int queryParamtersSize, final int parameterCount,
@@ -113,7 +113,8 @@ public class ComStmtPrepare {
                 if (numParams > 0) {
                     for (int i = 0; i < numParams; i++) {
                         params[i] = new ColumnDefinition(reader.getPacket(false),
-                                protocol.isOracleMode(), protocol.getOptions().getCharacterEncoding(), protocol.getOptions());
+                            protocol.isOracleMode(), protocol.getOptions().getCharacterEncoding(),
+                            protocol.getOptions());
                     }
 
                     if (numColumns > 0) {
@@ -122,7 +123,8 @@ public class ComStmtPrepare {
                         }
                         for (int i = 0; i < numColumns; i++) {
                             columns[i] = new ColumnDefinition(reader.getPacket(false),
-                                    protocol.isOracleMode(), protocol.getOptions().getCharacterEncoding(), protocol.getOptions());
+                                protocol.isOracleMode(), protocol.getOptions()
+                                    .getCharacterEncoding(), protocol.getOptions());
                         }
                     }
                     if (!eofDeprecated) {
@@ -132,7 +134,8 @@ public class ComStmtPrepare {
                     if (numColumns > 0) {
                         for (int i = 0; i < numColumns; i++) {
                             columns[i] = new ColumnDefinition(reader.getPacket(false),
-                                    protocol.isOracleMode(), protocol.getOptions().getCharacterEncoding(), protocol.getOptions());
+                                protocol.isOracleMode(), protocol.getOptions()
+                                    .getCharacterEncoding(), protocol.getOptions());
                         }
                         if (!eofDeprecated) {
                             protocol.readEofPacket();
@@ -146,18 +149,20 @@ public class ComStmtPrepare {
                 }
 
                 ServerPrepareResult serverPrepareResult = new ServerPrepareResult(sql, statementId,
-                        columns, params, protocol);
-                if (protocol.getOptions().cachePrepStmts && protocol.getOptions().useServerPrepStmts
-                        && sql != null && sql.length() < protocol.getOptions().prepStmtCacheSqlLimit) {
+                    columns, params, protocol);
+                if (protocol.getOptions().cachePrepStmts
+                    && protocol.getOptions().useServerPrepStmts && sql != null
+                    && sql.length() < protocol.getOptions().prepStmtCacheSqlLimit) {
                     String key = protocol.getDatabase() + "-" + sql;
                     ServerPrepareResult cachedServerPrepareResult = protocol.addPrepareInCache(key,
-                            serverPrepareResult);
+                        serverPrepareResult);
                     return cachedServerPrepareResult != null ? cachedServerPrepareResult
-                            : serverPrepareResult;
+                        : serverPrepareResult;
                 }
                 return serverPrepareResult;
             } else {
-                throw new SQLException("Unexpected packet returned by server, first byte " + firstByte);
+                throw new SQLException("Unexpected packet returned by server, first byte "
+                                       + firstByte);
             }
         } finally {
             reader.endReceiveResponse(sql);
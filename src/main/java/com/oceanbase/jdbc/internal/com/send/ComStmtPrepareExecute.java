@@ -103,7 +103,8 @@ public class ComStmtPrepareExecute {
         pos.write(cursorFlag); // No acket.ARRAY_BINDIN required with prepareExecute
         pos.writeInt(protocol.getIterationCount());
         ParameterHolder lengthEncodedString = new OBVarcharParameter(results.getStatement()
-            .getActualSql(), protocol.noBackslashEscapes(), protocol.getOptions().getCharacterEncoding());
+            .getActualSql(), protocol.noBackslashEscapes(), protocol.getOptions()
+            .getCharacterEncoding());
         lengthEncodedString.writeBinary(pos);
         pos.writeInt(parameterCount);
 
@@ -205,7 +206,7 @@ public class ComStmtPrepareExecute {
                     if (numParams > 0) {
                         for (int i = 0; i < numParams; i++) {
                             params[i] = new ColumnDefinition(reader.getPacket(false), true,
-                                    protocol.getOptions().getCharacterEncoding(), protocol.getOptions());
+                                protocol.getOptions().getCharacterEncoding(), protocol.getOptions());
                         }
                         if (!eofDeprecated) {
                             protocol.skipEofPacket();
@@ -216,12 +217,13 @@ public class ComStmtPrepareExecute {
                     ColumnDefinition[] columns = new ColumnDefinition[numColumns];
                     if (hasResultSet == 1) {
                         if ((extendFlag & RETURNING_RESULT_SET_WITHOUT_FIELD) != 0
-                                || (extendFlag & ARRAY_BINDING_FIELD) != 0
-                                || (extendFlag & PL_OUT_PARAMETER) != 0) {
+                            || (extendFlag & ARRAY_BINDING_FIELD) != 0
+                            || (extendFlag & PL_OUT_PARAMETER) != 0) {
                             results.setInternalResult(true);
                         }
                         results.setToPrepareExecute(true);
-                        results.setReturning((extendFlag & RETURNING_RESULT_SET_WITHOUT_FIELD) != 0);
+                        results
+                            .setReturning((extendFlag & RETURNING_RESULT_SET_WITHOUT_FIELD) != 0);
 
                         protocol.readResultSet(columns, results);
 
@@ -249,20 +251,23 @@ public class ComStmtPrepareExecute {
 
                     if (serverPrepareResult == null) {
                         String sql = results.getSql();
-                        serverPrepareResult = new ServerPrepareResult(sql, statementId,
-                                columns, params, protocol);
+                        serverPrepareResult = new ServerPrepareResult(sql, statementId, columns,
+                            params, protocol);
                         serverPrepareResult.setReturnByPrepareExecute(true);
-                        if (results.getStatement() != null && results.getStatement() instanceof JDBC4ServerCallableStatement) {
-                            JDBC4ServerCallableStatement callableStatement = (JDBC4ServerCallableStatement) results.getStatement();
+                        if (results.getStatement() != null
+                            && results.getStatement() instanceof JDBC4ServerCallableStatement) {
+                            JDBC4ServerCallableStatement callableStatement = (JDBC4ServerCallableStatement) results
+                                .getStatement();
                             callableStatement.addCallableStatementCacheIfNeed(serverPrepareResult);
                         }
-                        if (protocol.getOptions().cachePrepStmts && protocol.getOptions().useServerPrepStmts
-                                && sql != null && sql.length() < protocol.getOptions().prepStmtCacheSqlLimit) {
+                        if (protocol.getOptions().cachePrepStmts
+                            && protocol.getOptions().useServerPrepStmts && sql != null
+                            && sql.length() < protocol.getOptions().prepStmtCacheSqlLimit) {
                             String key = protocol.getDatabase() + "-" + sql;
-                            ServerPrepareResult cachedServerPrepareResult = protocol.addPrepareInCache(key,
-                                    serverPrepareResult);
+                            ServerPrepareResult cachedServerPrepareResult = protocol
+                                .addPrepareInCache(key, serverPrepareResult);
                             return cachedServerPrepareResult != null ? cachedServerPrepareResult
-                                    : serverPrepareResult;
+                                : serverPrepareResult;
                         }
                     } else {
                         serverPrepareResult.setStatementId(statementId);
@@ -319,7 +324,8 @@ public class ComStmtPrepareExecute {
         pos.write(cursorFlag);
         pos.writeInt(protocol.getIterationCount());
         ParameterHolder lengthEncodedString = new OBVarcharParameter(results.getStatement()
-            .getActualSql(), protocol.noBackslashEscapes(), protocol.getOptions().getCharacterEncoding());
+            .getActualSql(), protocol.noBackslashEscapes(), protocol.getOptions()
+            .getCharacterEncoding());
         lengthEncodedString.writeBinary(pos);
         pos.writeInt(parameterCount);
         if (parameterCount > 0) {
@@ -0,0 +1,150 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.send;
+
+import java.util.Arrays;
+
+import com.oceanbase.jdbc.internal.ColumnType;
+import com.oceanbase.jdbc.internal.com.Packet;
+import com.oceanbase.jdbc.internal.com.send.parameters.ParameterHolder;
+
+/**
+ * Reusable COM_STMT_EXECUTE encoding state of a server prepared statement : command header bytes
+ * are only re-encoded when statement id, cursor flag or iteration change, and the null bitmap
+ * buffer is reused between executions.
+ *
+ * <p>Not thread safe : executions of a prepared statement are serialized by the connection lock.
+ */
+public class ExecuteTemplate {
+
+    private static final int HEADER_LENGTH = 10;
+
+    private final int        parameterCount;
+    private final byte[]     header        = new byte[HEADER_LENGTH];
+    private final byte[]     nullBits;
+    private boolean          headerEncoded;
+
+    /**
+     * Constructor.
+     *
+     * @param parameterCount number of parameters of the prepared statement
+     */
+    public ExecuteTemplate(int parameterCount) {
+        this.parameterCount = parameterCount;
+        this.nullBits = new byte[(parameterCount + 7) / 8];
+    }
+
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Command header : command byte, statement id, cursor flag and iteration count.
+     *
+     * @param statementId statement id
+     * @param cursorFlag cursor flag
+     * @param iteration iteration count, or checksum
+     * @return header bytes
+     */
+    byte[] header(int statementId, byte cursorFlag, int iteration) {
+        if (!headerEncoded || readInt(1) != statementId || header[5] != cursorFlag
+            || readInt(6) != iteration) {
+            header[0] = Packet.COM_STMT_EXECUTE;
+            writeInt(1, statementId);
+            header[5] = cursorFlag;
+            writeInt(6, iteration);
+            headerEncoded = true;
+        }
+        return header;
+    }
+
+    /**
+     * Compute null bitmap of parameters, and check if parameter types differ from last sent types.
+     *
+     * @param parameters parameters
+     * @param parameterTypeHeader last sent types
+     * @return true if parameter types must be sent
+     */
+    boolean prepare(ParameterHolder[] parameters, ColumnType[] parameterTypeHeader) {
+        Arrays.fill(nullBits, (byte) 0);
+        boolean mustSendHeaderType = parameterTypeHeader[0] == null;
+        for (int i = 0; i < parameterCount; i++) {
+            ParameterHolder parameter = parameters[i];
+            if (parameter.isNullData()) {
+                nullBits[i >> 3] |= (byte) (1 << (i & 7));
+            }
+            if (!mustSendHeaderType && parameterTypeHeader[i] != parameter.getColumnType()) {
+                mustSendHeaderType = true;
+            }
+        }
+        return mustSendHeaderType;
+    }
+
+    byte[] getNullBits() {
+        return nullBits;
+    }
+
+    boolean isNull(int index) {
+        return (nullBits[index >> 3] & (1 << (index & 7))) != 0;
+    }
+
+    private int readInt(int offset) {
+        return (header[offset] & 0xff) + ((header[offset + 1] & 0xff) << 8)
+               + ((header[offset + 2] & 0xff) << 16) + ((header[offset + 3] & 0xff) << 24);
+    }
+
+    private void writeInt(int offset, int value) {
+        header[offset] = (byte) value;
+        header[offset + 1] = (byte) (value >> 8);
+        header[offset + 2] = (byte) (value >> 16);
+        header[offset + 3] = (byte) (value >> 24);
+    }
+}
@@ -71,22 +71,22 @@ import com.oceanbase.jdbc.util.Options;
 /** See https://mariadb.com/kb/en/library/connection/#client-handshake-response for reference. */
 public class SendHandshakeResponsePacket {
 
-    private static final Supplier<String> pidRequest         = PidFactory.getInstance();
-    private static final String           _MYSQL_CLIENT_TYPE = "__mysql_client_type";
-    private static final String           CLIENT_TYPE        = "__ob_jdbc_client";
-    private static final String           _CLIENT_NAME       = "__ob_client_name";
-    private static final String           _CLIENT_VERSION    = "__ob_client_version";
-    private static final String           _SERVER_HOST       = "__server_host";
-    private static final String           _CLIENT_IP         = "__client_ip";
-    private static final String           _OS                = "__os";
-    private static final String           _PID               = "__pid";
-    private static final String           _THREAD            = "__thread";
-    private static final String           _JAVA_VENDOR       = "__java_vendor";
-    private static final String           _JAVA_VERSION      = "__java_version";
-    private static final String           _PROXY_CAPABILITY  = "__proxy_capability_flag";
-    private static final String           _CLIENT_CAPABILITY = "__ob_client_attribute_capability_flag";
-    private static final String           _CLIENT_PROXY_USER = "__ob_client_proxy_user_name";
-    public static final String            OB_CAPABILITY_FLAG = "ob_capability_flag";                   // tell which features ob supports
+    private static final Supplier<String> pidRequest                = PidFactory.getInstance();
+    private static final String           _MYSQL_CLIENT_TYPE        = "__mysql_client_type";
+    private static final String           CLIENT_TYPE               = "__ob_jdbc_client";
+    private static final String           _CLIENT_NAME              = "__ob_client_name";
+    private static final String           _CLIENT_VERSION           = "__ob_client_version";
+    private static final String           _SERVER_HOST              = "__server_host";
+    private static final String           _CLIENT_IP                = "__client_ip";
+    private static final String           _OS                       = "__os";
+    private static final String           _PID                      = "__pid";
+    private static final String           _THREAD                   = "__thread";
+    private static final String           _JAVA_VENDOR              = "__java_vendor";
+    private static final String           _JAVA_VERSION             = "__java_version";
+    private static final String           _PROXY_CAPABILITY         = "__proxy_capability_flag";
+    private static final String           _CLIENT_CAPABILITY        = "__ob_client_attribute_capability_flag";
+    private static final String           _CLIENT_PROXY_USER        = "__ob_client_proxy_user_name";
+    public static final String            OB_CAPABILITY_FLAG        = "ob_capability_flag";                   // tell which features ob supports
     public static final String            OB_CLIENT_CAPABILITY_FLAG = "__ob_client_capability_flag";
 
     /**
@@ -184,8 +184,9 @@ public class SendHandshakeResponsePacket {
             pos.write((byte) 0);
         }
 
-        if ((serverCapabilities & OceanBaseCapabilityFlag.CLIENT_CONNECT_ATTRS) != 0 ) {
-            writeConnectAttributes(pos, options.connectionAttributes, host, options, clientIp, options.sendConnectionAttributes, credential.getProxyUser());
+        if ((serverCapabilities & OceanBaseCapabilityFlag.CLIENT_CONNECT_ATTRS) != 0) {
+            writeConnectAttributes(pos, options.connectionAttributes, host, options, clientIp,
+                options.sendConnectionAttributes, credential.getProxyUser());
         }
 
         pos.flush();
@@ -277,7 +278,8 @@ public class SendHandshakeResponsePacket {
         }
 
         if ((serverCapabilities & OceanBaseCapabilityFlag.CLIENT_CONNECT_ATTRS) != 0) {
-            writeConnectAttributes(pos, options.connectionAttributes, host, options, clientIp,  options.sendConnectionAttributes, credential.getProxyUser());
+            writeConnectAttributes(pos, options.connectionAttributes, host, options, clientIp,
+                options.sendConnectionAttributes, credential.getProxyUser());
         }
 
         pos.flush();
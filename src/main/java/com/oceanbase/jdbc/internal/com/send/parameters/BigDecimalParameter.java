@@ -55,6 +55,7 @@ import java.math.BigDecimal;
 
 import com.oceanbase.jdbc.internal.ColumnType;
 import com.oceanbase.jdbc.internal.io.output.PacketOutputStream;
+import com.oceanbase.jdbc.internal.util.DecimalCodec;
 
 public class BigDecimalParameter implements Cloneable, ParameterHolder {
 
@@ -65,11 +66,11 @@ public class BigDecimalParameter implements Cloneable, ParameterHolder {
     }
 
     public void writeTo(PacketOutputStream pos) throws IOException {
-        pos.write(bigDecimal.toPlainString().getBytes());
+        pos.write(DecimalCodec.encode(bigDecimal));
     }
 
     public int getApproximateTextProtocolLength() {
-        return bigDecimal.toPlainString().getBytes().length;
+        return DecimalCodec.length(bigDecimal);
     }
 
     /**
@@ -79,8 +80,8 @@ public class BigDecimalParameter implements Cloneable, ParameterHolder {
      * @throws IOException if socket error occur
      */
     public void writeBinary(PacketOutputStream pos) throws IOException {
-        String value = bigDecimal.toPlainString();
-        pos.writeFieldLength(value.length());
+        byte[] value = DecimalCodec.encode(bigDecimal);
+        pos.writeFieldLength(value.length);
         pos.write(value);
     }
 
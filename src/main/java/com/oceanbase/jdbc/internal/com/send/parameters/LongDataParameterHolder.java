@@ -54,7 +54,8 @@ public interface LongDataParameterHolder extends ParameterHolder {
     public static final int BLOB_STREAM_READ_BUF_SIZE = 8192; // Transplant this one from objdbc 1.x
 
     public boolean writePieceData(final PacketOutputStream pos, boolean first, Options options)
-            throws IOException, SQLException;
+                                                                                               throws IOException,
+                                                                                               SQLException;
 
     public boolean writeLongData(final PacketOutputStream pos, Options options, int statementId,
                                  short paramIndex) throws IOException, SQLException;
@@ -87,7 +87,7 @@ public class OBNStringParameter implements Cloneable, ParameterHolder {
             }
             String unicodeStr = unicodeBuilder.toString();
             pos.writeBytesEscapedQuote(unicodeStr.getBytes(charset),
-                    unicodeStr.getBytes(charset).length, noBackslashEscapes);
+                unicodeStr.getBytes(charset).length, noBackslashEscapes);
         }
         pos.write(QUOTE);
     }
@@ -45,6 +45,7 @@ package com.oceanbase.jdbc.internal.com.send.parameters;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 
 import com.oceanbase.jdbc.Clob;
@@ -55,12 +56,13 @@ import com.oceanbase.jdbc.util.Options;
 
 public class OBReaderParameter implements Cloneable, LongDataParameterHolder {
 
-    private final Clob    clob;
-    private final boolean hasLobLocator;
-    private final byte[]  lobLocatorBinary;
-    private Reader        reader;
-    private long          length;
-    private final boolean noBackslashEscapes;
+    private final Clob      clob;
+    private final boolean   hasLobLocator;
+    private final byte[]    lobLocatorBinary;
+    private Reader          reader;
+    private long            length;
+    private final boolean   noBackslashEscapes;
+    private PieceDataReader pieceDataReader;
 
     /**
      * Constructor.
@@ -176,39 +178,21 @@ public class OBReaderParameter implements Cloneable, LongDataParameterHolder {
                                                                                             SQLException {
         if (first) {
             setReader();
+            pieceDataReader = PieceDataReader.ofReader(reader, length,
+                Charset.forName(options.getCharacterEncoding()), options.pieceLength);
         }
-        int pieceLen = options.pieceLength;
-        byte piece;
-        char[] buffer = new char[pieceLen];
-        int len = reader.read(buffer);
-        boolean ret = false;
-        if (len < 0) {
+        PieceDataReader.Piece piece = pieceDataReader.next();
+        if (piece.isLast()) {
             writer.write(Packet.OCI_LAST_PIECE);
-            writer.write(0);
-            writer.writeLong(0);
-            writer.flush();
-            return false;
-        }
-        byte[] data = new String(buffer, 0, len).getBytes(options.getCharacterEncoding());
-        if (first && reader.ready()) {
-            piece = Packet.OCI_FIRST_PIECE;
-            ret = true;
-        } else if (first && !reader.ready()) {
-            piece = Packet.OCI_LAST_PIECE;
-            ret = false;
-        } else if (!first && reader.ready()) {
-            piece = Packet.OCI_NEXT_PIECE;
-            ret = true;
+            pieceDataReader = null;
         } else {
-            piece = Packet.OCI_LAST_PIECE;
-            ret = false;
+            writer.write(first ? Packet.OCI_FIRST_PIECE : Packet.OCI_NEXT_PIECE);
         }
-        writer.write(piece);
         writer.write(0);
-        writer.writeLong(data.length);
-        writer.write(data);
+        writer.writeLong(piece.getLength());
+        writer.write(piece.getData(), 0, piece.getLength());
         writer.flush();
-        return ret;
+        return !piece.isLast();
     }
 
     /**
@@ -51,17 +51,17 @@ import com.oceanbase.jdbc.Blob;
 import com.oceanbase.jdbc.internal.ColumnType;
 import com.oceanbase.jdbc.internal.com.Packet;
 import com.oceanbase.jdbc.internal.io.output.PacketOutputStream;
-import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.util.Options;
 
 public class OBStreamParameter implements Cloneable, LongDataParameterHolder {
 
-    private final Blob    blob;
-    private final boolean hasLobLocator;
-    private final byte[]  lobLocatorBinary;
-    private InputStream   is;
-    private long          length;
-    private final boolean noBackslashEscapes;
+    private final Blob      blob;
+    private final boolean   hasLobLocator;
+    private final byte[]    lobLocatorBinary;
+    private InputStream     is;
+    private long            length;
+    private final boolean   noBackslashEscapes;
+    private PieceDataReader pieceDataReader;
 
     /**
      * Constructor.
@@ -188,43 +188,20 @@ public class OBStreamParameter implements Cloneable, LongDataParameterHolder {
                                                                                             throws IOException {
         if (first) {
             setInputStream();
+            pieceDataReader = PieceDataReader.ofHexStream(is, length, options.pieceLength);
         }
-        int pieceLen = options.pieceLength;
-        byte piece;
-        byte[] buffer = new byte[pieceLen];
-        int len = is.read(buffer);
-        boolean ret = false;
-        if (len < 0) {
+        PieceDataReader.Piece piece = pieceDataReader.next();
+        if (piece.isLast()) {
             writer.write(Packet.OCI_LAST_PIECE);
-            writer.write(0);
-            writer.writeLong(0);
-            writer.flush();
-            return false;
-        }
-        byte[] data = new byte[len];
-
-        System.arraycopy(buffer, 0, data, 0, len);
-        data = Utils.toHexString(data).getBytes();
-        int lastLen = is.available();
-        if (first && lastLen != 0) {
-            piece = Packet.OCI_FIRST_PIECE;
-            ret = true;
-        } else if (first && lastLen == 0) {
-            piece = Packet.OCI_LAST_PIECE;
-            ret = false;
-        } else if (!first && lastLen != 0) {
-            piece = Packet.OCI_NEXT_PIECE;
-            ret = true;
+            pieceDataReader = null;
         } else {
-            piece = Packet.OCI_LAST_PIECE;
-            ret = false;
+            writer.write(first ? Packet.OCI_FIRST_PIECE : Packet.OCI_NEXT_PIECE);
         }
-        writer.write(piece);
         writer.write(0);
-        writer.writeLong(data.length);
-        writer.write(data);
+        writer.writeLong(piece.getLength());
+        writer.write(piece.getData(), 0, piece.getLength());
         writer.flush();
-        return ret;
+        return !piece.isLast();
     }
 
     /**
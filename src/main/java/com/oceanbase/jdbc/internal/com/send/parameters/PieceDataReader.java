@@ -0,0 +1,211 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.send.parameters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Source of COM_STMT_SEND_PIECE_DATA pieces for a stream or reader parameter.
+ *
+ * <p>Pieces are encoded into one reusable buffer, so memory use is constant whatever the size of
+ * the parameter. Source is read on the calling thread, one piece at a time : it may be a LOB stream
+ * of the same connection, or a stream that caller expects to be read on its own thread.
+ */
+public final class PieceDataReader {
+
+    private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes();
+
+    /** Encoded piece, valid until next call to {@link #next()}. */
+    public static final class Piece {
+
+        private final byte[] data;
+        private int          length;
+        private boolean      last;
+
+        private Piece(int capacity) {
+            this.data = new byte[capacity];
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public boolean isLast() {
+            return last;
+        }
+    }
+
+    /** Encode next piece of source in piece buffer. */
+    private interface PieceEncoder {
+        void encode(Piece piece) throws IOException;
+    }
+
+    private final PieceEncoder encoder;
+    private final Piece        piece;
+
+    private PieceDataReader(PieceEncoder encoder, int capacity) {
+        this.encoder = encoder;
+        this.piece = new Piece(capacity);
+    }
+
+    /**
+     * Pieces of stream, hexadecimal encoded.
+     *
+     * @param is stream
+     * @param length maximum number of bytes to read, Long.MAX_VALUE to read whole stream
+     * @param pieceLength number of source bytes by piece
+     * @return piece reader
+     */
+    public static PieceDataReader ofHexStream(InputStream is, long length, int pieceLength) {
+        final byte[] raw = new byte[pieceLength];
+        final long[] remaining = { length };
+        PieceEncoder encoder = piece -> {
+            int len = 0;
+            while (len < raw.length && remaining[0] > 0) {
+                int read = is.read(raw, len, (int) Math.min(raw.length - len, remaining[0]));
+                if (read < 0) {
+                    remaining[0] = 0;
+                    break;
+                }
+                len += read;
+                remaining[0] -= read;
+            }
+            byte[] data = piece.data;
+            for (int i = 0; i < len; i++) {
+                data[2 * i] = HEX_DIGITS[(raw[i] & 0xF0) >>> 4];
+                data[2 * i + 1] = HEX_DIGITS[raw[i] & 0x0F];
+            }
+            piece.length = 2 * len;
+            // a full piece can be followed by an empty last one
+            piece.last = len < raw.length || remaining[0] == 0;
+        };
+        return new PieceDataReader(encoder, 2 * pieceLength);
+    }
+
+    /**
+     * Pieces of reader, encoded with charset. Characters are encoded by piece, a surrogate pair
+     * split between two pieces being kept for the next one.
+     *
+     * @param reader reader
+     * @param length maximum number of characters to read, Long.MAX_VALUE to read whole reader
+     * @param charset charset
+     * @param pieceLength number of source characters by piece
+     * @return piece reader
+     */
+    public static PieceDataReader ofReader(Reader reader, long length, Charset charset,
+                                           int pieceLength) {
+        final CharsetEncoder charsetEncoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final CharBuffer chars = CharBuffer.allocate(Math.max(2, pieceLength));
+        final long[] remaining = { length };
+        int capacity = (int) Math.ceil(chars.capacity() * (double) charsetEncoder.maxBytesPerChar());
+        PieceEncoder encoder = piece -> {
+            // chars is in write mode, possibly containing a pending high surrogate
+            boolean eof = remaining[0] <= 0;
+            while (chars.hasRemaining() && !eof) {
+                int read = reader.read(chars.array(), chars.position(),
+                    (int) Math.min(chars.remaining(), remaining[0]));
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    chars.position(chars.position() + read);
+                    remaining[0] -= read;
+                    eof = remaining[0] <= 0;
+                }
+            }
+            chars.flip();
+            ByteBuffer out = ByteBuffer.wrap(piece.data);
+            CoderResult result = charsetEncoder.encode(chars, out, eof);
+            if (eof && !result.isError()) {
+                result = charsetEncoder.flush(out);
+            }
+            if (result.isError()) {
+                try {
+                    result.throwException();
+                } catch (CharacterCodingException e) {
+                    throw new IOException("Error encoding character data", e);
+                }
+            }
+            chars.compact();
+            piece.length = out.position();
+            piece.last = eof;
+            if (eof) {
+                charsetEncoder.reset();
+            }
+        };
+        return new PieceDataReader(encoder, capacity);
+    }
+
+    /**
+     * Read and encode next piece.
+     *
+     * @return next piece
+     * @throws IOException if source cannot be read
+     */
+    public Piece next() throws IOException {
+        encoder.encode(piece);
+        return piece;
+    }
+}
@@ -52,6 +52,7 @@ package com.oceanbase.jdbc.internal.com.send.parameters;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 
 import com.oceanbase.jdbc.Clob;
@@ -184,39 +185,29 @@ public class ReaderParameter implements Cloneable, LongDataParameterHolder {
     public boolean writeLongData(PacketOutputStream writer, Options options, int statementId,
                                  short paramIndex) throws IOException, SQLException {
         setReader();
-        char[] buffer = new char[BLOB_STREAM_READ_BUF_SIZE];
-        int len;
-        int totoalReadLen = 0;
+        PieceDataReader pieceDataReader = PieceDataReader.ofReader(reader, length,
+            Charset.forName(options.getCharacterEncoding()), BLOB_STREAM_READ_BUF_SIZE);
+        PieceDataReader.Piece piece;
         int currentPacketLen = 0;
-        int lastReadLen = 0;
-        boolean isEmpty = true;
         int sizeToSend = options.blobSendChunkSize;
         writer.startPacket(0);
         writer.write(Packet.COM_STMT_SEND_LONG_DATA);
         writer.writeInt(statementId);
         writer.writeShort(paramIndex);
-        while ((len = reader.read(buffer)) != -1) {
-            isEmpty = false;
-            byte[] data = new String(buffer, 0, len).getBytes(options.getCharacterEncoding());
-            writer.write(data, 0, data.length);
-            totoalReadLen += len;
-            currentPacketLen += len;
-            if (currentPacketLen >= sizeToSend) {
+        do {
+            piece = pieceDataReader.next();
+            writer.write(piece.getData(), 0, piece.getLength());
+            currentPacketLen += piece.getLength();
+            if (currentPacketLen >= sizeToSend && !piece.isLast()) {
                 currentPacketLen = 0;
-                lastReadLen = totoalReadLen;
                 writer.flush();
                 writer.startPacket(0);
                 writer.write(Packet.COM_STMT_SEND_LONG_DATA);
                 writer.writeInt(statementId);
                 writer.writeShort(paramIndex);
             }
-        }
-        if (lastReadLen != totoalReadLen) {
-            writer.flush();
-        }
-        if (isEmpty) {
-            writer.flush();
-        }
+        } while (!piece.isLast());
+        writer.flush();
         return true;
     }
 }
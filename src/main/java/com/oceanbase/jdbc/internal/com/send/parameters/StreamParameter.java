@@ -203,9 +203,7 @@ public class StreamParameter implements Cloneable, LongDataParameterHolder {
         writer.writeShort(paramIndex);
         while ((len = is.read(buffer)) != -1) {
             isEmpty = false;
-            byte[] data = new byte[len];
-            System.arraycopy(buffer, 0, data, 0, len);
-            writer.write(data, 0, data.length);
+            writer.write(buffer, 0, len);
             totoalReadLen += len;
             currentPacketLen += len;
             if (currentPacketLen >= sizeToSend) {
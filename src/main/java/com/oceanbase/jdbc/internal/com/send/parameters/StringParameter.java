@@ -194,7 +194,7 @@ public class StringParameter implements Cloneable, ParameterHolder {
         }
     }
 
-    public String getFullString(){
+    public String getFullString() {
         String tmp = stringValue;
         if (needEscape(stringValue, stringValue.length())) {
             tmp = escapedString(stringValue, stringValue.length());
@@ -0,0 +1,2042 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.failover;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.oceanbase.jdbc.*;
+import com.oceanbase.jdbc.internal.com.read.Buffer;
+import com.oceanbase.jdbc.internal.com.read.dao.Results;
+import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.com.read.resultset.CursorResultSet;
+import com.oceanbase.jdbc.internal.com.send.parameters.ParameterHolder;
+import com.oceanbase.jdbc.internal.io.input.PacketInputStream;
+import com.oceanbase.jdbc.internal.io.output.PacketOutputStream;
+import com.oceanbase.jdbc.internal.logging.Logger;
+import com.oceanbase.jdbc.internal.logging.LoggerFactory;
+import com.oceanbase.jdbc.internal.protocol.Protocol;
+import com.oceanbase.jdbc.internal.protocol.TimeTrace;
+import com.oceanbase.jdbc.internal.util.PrepareStatementCache;
+import com.oceanbase.jdbc.internal.util.dao.ClientPrepareResult;
+import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
+import com.oceanbase.jdbc.util.Options;
+
+/**
+ * Protocol of multi-host connections. Calls are delegated to the current protocol of the failover
+ * listener, errors are handled by {@link FailoverProxy}.
+ *
+ * <p>Contrary to a dynamic proxy, a call has no reflection or argument array cost : the called
+ * method and its arguments are only resolved when an error has to be handled.
+ */
+public class FailoverProtocol implements Protocol {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailoverProtocol.class);
+
+    private final FailoverProxy proxy;
+    private final Listener      listener;
+
+    /**
+     * Constructor.
+     *
+     * @param proxy failover handler, with an initialized listener
+     */
+    public FailoverProtocol(FailoverProxy proxy) {
+        this.proxy = proxy;
+        this.listener = proxy.getListener();
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) {
+        try {
+            return Protocol.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static SQLException asSqlException(Throwable throwable) {
+        if (throwable instanceof SQLException) {
+            return (SQLException) throwable;
+        }
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        throw new UndeclaredThrowableException(throwable);
+    }
+
+    /**
+     * Execute call through failover handler, when listener has no current protocol.
+     *
+     * @param method called method
+     * @param args method arguments
+     * @return method result
+     * @throws SQLException if call failed
+     */
+    private Object invoke(Method method, Object[] args) throws SQLException {
+        try {
+            return proxy.invoke(this, method, args);
+        } catch (Throwable t) {
+            throw asSqlException(t);
+        }
+    }
+
+    private Object invokeUnchecked(Method method, Object[] args) {
+        try {
+            return invoke(method, args);
+        } catch (SQLException e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Handle an error of current protocol, relaunching the call if possible.
+     *
+     * @param exception protocol error
+     * @param method called method
+     * @param args method arguments
+     * @param isClosed was connection closed before the call
+     * @return method result if relaunched
+     * @throws SQLException if error cannot be recovered
+     */
+    private Object recover(SQLException exception, Method method, Object[] args, boolean isClosed)
+                                                                                                  throws SQLException {
+        try {
+            return proxy.handleException(exception, method, args, isClosed, false);
+        } catch (Throwable t) {
+            throw asSqlException(t);
+        }
+    }
+
+    /**
+     * Launch failover if error is a connection error.
+     *
+     * @param exception protocol error
+     * @param method called method
+     * @param args method arguments
+     * @param protocol protocol that failed
+     * @param wasClosed was connection closed before the call
+     * @return method result if relaunched
+     * @throws SQLException if error is not a connection error, or failover failed
+     */
+    private Object failover(SQLException exception, Method method, Object[] args,
+                            Protocol protocol, boolean wasClosed) throws SQLException {
+        if (!proxy.hasToHandleFailover(exception)) {
+            throw exception;
+        }
+        try {
+            return proxy.handleFailOver(exception, method, args, protocol, wasClosed);
+        } catch (Throwable t) {
+            throw asSqlException(t);
+        }
+    }
+
+    private void rePrepareOnSlaveIfNeeded(boolean mustBeOnMaster,
+                                          ServerPrepareResult serverPrepareResult) {
+        if (!mustBeOnMaster && serverPrepareResult.getUnProxiedProtocol().isMasterConnection()
+            && !listener.hasHostFail()) {
+            // PrepareStatement was to be executed on slave, but since a failover was running on
+            // master connection. Slave connection is up again, so has to be re-prepared on slave
+            try {
+                logger.trace("re-prepare query \"{}\" on slave (was "
+                             + "temporary on master since failover)", serverPrepareResult.getSql());
+                listener.rePrepareOnSlave(serverPrepareResult, false);
+            } catch (SQLException q) {
+                // error during re-prepare, will do executed on master.
+            }
+        }
+    }
+
+    @Override
+    public ServerPrepareResult prepare(String sql, boolean executeOnMaster) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (ServerPrepareResult) invoke(method("prepare", String.class, boolean.class),
+                new Object[] { sql, executeOnMaster });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.prepare(sql, executeOnMaster);
+        } catch (SQLException e) {
+            return (ServerPrepareResult) recover(e, method("prepare", String.class, boolean.class),
+                new Object[] { sql, executeOnMaster }, isClosed);
+        }
+    }
+
+    @Override
+    public boolean getAutocommit() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invoke(method("getAutocommit"), null);
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.getAutocommit();
+        } catch (SQLException e) {
+            return (Boolean) recover(e, method("getAutocommit"), null, isClosed);
+        }
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("setAutoCommit", boolean.class), new Object[] { autoCommit });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            recover(e, method("setAutoCommit", boolean.class), new Object[] { autoCommit },
+                isClosed);
+        }
+    }
+
+    @Override
+    public boolean noBackslashEscapes() {
+        return listener.noBackslashEscapes();
+    }
+
+    @Override
+    public void connect() throws SQLException, IOException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("connect"), null);
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.connect();
+        } catch (SQLException e) {
+            recover(e, method("connect"), null, isClosed);
+        }
+    }
+
+    @Override
+    public UrlParser getUrlParser() {
+        return listener.getUrlParser();
+    }
+
+    @Override
+    public boolean inTransaction() {
+        return listener.inTransaction();
+    }
+
+    @Override
+    public boolean isOracleMode() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("isOracleMode"), null);
+        }
+        return protocol.isOracleMode();
+    }
+
+    @Override
+    public boolean isTZTablesImported() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("isTZTablesImported"), null);
+        }
+        return protocol.isTZTablesImported();
+    }
+
+    @Override
+    public FailoverProxy getProxy() {
+        return proxy;
+    }
+
+    @Override
+    public void setProxy(FailoverProxy proxy) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setProxy", FailoverProxy.class), new Object[] { proxy });
+            return;
+        }
+        protocol.setProxy(proxy);
+    }
+
+    @Override
+    public Options getOptions() {
+        return listener.getUrlParser().getOptions();
+    }
+
+    @Override
+    public boolean hasMoreResults() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("hasMoreResults"), null);
+        }
+        return protocol.hasMoreResults();
+    }
+
+    @Override
+    public void close() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("close"), null);
+            return;
+        }
+        protocol.close();
+    }
+
+    @Override
+    public void abort() {
+        listener.preAbort();
+    }
+
+    @Override
+    public void reset() throws SQLException {
+        listener.reset();
+    }
+
+    @Override
+    public void closeExplicit() {
+        listener.preClose();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return listener.isClosed();
+    }
+
+    @Override
+    public void resetDatabase() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("resetDatabase"), null);
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.resetDatabase();
+        } catch (SQLException e) {
+            recover(e, method("resetDatabase"), null, isClosed);
+        }
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return listener.getCatalog();
+    }
+
+    @Override
+    public void setCatalog(String database) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("setCatalog", String.class), new Object[] { database });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.setCatalog(database);
+        } catch (SQLException e) {
+            recover(e, method("setCatalog", String.class), new Object[] { database }, isClosed);
+        }
+    }
+
+    @Override
+    public String getServerVersion() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getServerVersion"), null);
+        }
+        return protocol.getServerVersion();
+    }
+
+    @Override
+    public void setObServerVersion(String version) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setObServerVersion", String.class), new Object[] { version });
+            return;
+        }
+        protocol.setObServerVersion(version);
+    }
+
+    @Override
+    public String getObServerVersion() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getObServerVersion"), null);
+        }
+        return protocol.getObServerVersion();
+    }
+
+    @Override
+    public boolean haveInformationSchemaParameters() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("haveInformationSchemaParameters"), null);
+        }
+        return protocol.haveInformationSchemaParameters();
+    }
+
+    @Override
+    public boolean supportStmtPrepareExecute() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("supportStmtPrepareExecute"), null);
+        }
+        return protocol.supportStmtPrepareExecute();
+    }
+
+    @Override
+    public boolean supportFetchWithOffset() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("supportFetchWithOffset"), null);
+        }
+        return protocol.supportFetchWithOffset();
+    }
+
+    @Override
+    public boolean supportArrayBinding() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("supportArrayBinding"), null);
+        }
+        return protocol.supportArrayBinding();
+    }
+
+    @Override
+    public void setFullLinkTraceModule(String module, String action) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setFullLinkTraceModule", String.class, String.class),
+                new Object[] { module, action });
+            return;
+        }
+        protocol.setFullLinkTraceModule(module, action);
+    }
+
+    @Override
+    public String getFullLinkTraceModule() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getFullLinkTraceModule"), null);
+        }
+        return protocol.getFullLinkTraceModule();
+    }
+
+    @Override
+    public void setFullLinkTraceAction(String action) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setFullLinkTraceAction", String.class), new Object[] { action });
+            return;
+        }
+        protocol.setFullLinkTraceAction(action);
+    }
+
+    @Override
+    public String getFullLinkTraceAction() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getFullLinkTraceAction"), null);
+        }
+        return protocol.getFullLinkTraceAction();
+    }
+
+    @Override
+    public void setFullLinkTraceClientInfo(String clientInfo) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setFullLinkTraceClientInfo", String.class),
+                new Object[] { clientInfo });
+            return;
+        }
+        protocol.setFullLinkTraceClientInfo(clientInfo);
+    }
+
+    @Override
+    public String getFullLinkTraceClientInfo() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getFullLinkTraceClientInfo"), null);
+        }
+        return protocol.getFullLinkTraceClientInfo();
+    }
+
+    @Override
+    public void setFullLinkTraceIdentifier(String clientIdentifier) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setFullLinkTraceIdentifier", String.class),
+                new Object[] { clientIdentifier });
+            return;
+        }
+        protocol.setFullLinkTraceIdentifier(clientIdentifier);
+    }
+
+    @Override
+    public String getFullLinkTraceIdentifier() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getFullLinkTraceIdentifier"), null);
+        }
+        return protocol.getFullLinkTraceIdentifier();
+    }
+
+    @Override
+    public byte getFullLinkTraceLevel() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Byte) invokeUnchecked(method("getFullLinkTraceLevel"), null);
+        }
+        return protocol.getFullLinkTraceLevel();
+    }
+
+    @Override
+    public double getFullLinkTraceSamplePercentage() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Double) invokeUnchecked(method("getFullLinkTraceSamplePercentage"), null);
+        }
+        return protocol.getFullLinkTraceSamplePercentage();
+    }
+
+    @Override
+    public byte getFullLinkTraceRecordPolicy() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Byte) invokeUnchecked(method("getFullLinkTraceRecordPolicy"), null);
+        }
+        return protocol.getFullLinkTraceRecordPolicy();
+    }
+
+    @Override
+    public double getFullLinkTracePrintSamplePercentage() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Double) invokeUnchecked(method("getFullLinkTracePrintSamplePercentage"), null);
+        }
+        return protocol.getFullLinkTracePrintSamplePercentage();
+    }
+
+    @Override
+    public long getFullLinkTraceSlowQueryThreshold() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Long) invokeUnchecked(method("getFullLinkTraceSlowQueryThreshold"), null);
+        }
+        return protocol.getFullLinkTraceSlowQueryThreshold();
+    }
+
+    @Override
+    public boolean isConnected() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("isConnected"), null);
+        }
+        return protocol.isConnected();
+    }
+
+    @Override
+    public boolean getReadonly() throws SQLException {
+        return listener.isReadOnly();
+    }
+
+    @Override
+    public void setReadonly(boolean readOnly) throws SQLException {
+        listener.switchReadOnlyConnection(readOnly);
+    }
+
+    @Override
+    public boolean isMasterConnection() {
+        return listener.isMasterConnection();
+    }
+
+    @Override
+    public boolean mustBeMasterConnection() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("mustBeMasterConnection"), null);
+        }
+        return protocol.mustBeMasterConnection();
+    }
+
+    @Override
+    public HostAddress getHostAddress() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (HostAddress) invokeUnchecked(method("getHostAddress"), null);
+        }
+        return protocol.getHostAddress();
+    }
+
+    @Override
+    public void setHostAddress(HostAddress hostAddress) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setHostAddress", HostAddress.class),
+                new Object[] { hostAddress });
+            return;
+        }
+        protocol.setHostAddress(hostAddress);
+    }
+
+    @Override
+    public String getHost() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getHost"), null);
+        }
+        return protocol.getHost();
+    }
+
+    @Override
+    public int getPort() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Integer) invokeUnchecked(method("getPort"), null);
+        }
+        return protocol.getPort();
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("rollback"), null);
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.rollback();
+        } catch (SQLException e) {
+            recover(e, method("rollback"), null, isClosed);
+        }
+    }
+
+    @Override
+    public String getDatabase() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getDatabase"), null);
+        }
+        return protocol.getDatabase();
+    }
+
+    @Override
+    public String getUsername() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getUsername"), null);
+        }
+        return protocol.getUsername();
+    }
+
+    @Override
+    public void setUsername(String username) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setUsername", String.class), new Object[] { username });
+            return;
+        }
+        protocol.setUsername(username);
+    }
+
+    @Override
+    public boolean ping() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invoke(method("ping"), null);
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.ping();
+        } catch (SQLException e) {
+            return (Boolean) recover(e, method("ping"), null, isClosed);
+        }
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return listener.isValid(timeout);
+    }
+
+    @Override
+    public void executeQuery(String sql) throws SQLException {
+        boolean isClosed = listener.isClosed();
+        try {
+            listener.preExecute();
+        } catch (SQLException e) {
+            // handle failover only if connection error
+            // normal error can be thrown upon reconnection if there was a transaction in progress.
+            if (proxy.hasToHandleFailover(e)) {
+                failover(e, method("executeQuery", String.class), new Object[] { sql },
+                    listener.getCurrentProtocol(), isClosed);
+                return;
+            }
+        }
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("executeQuery", String.class), new Object[] { sql });
+            return;
+        }
+        isClosed = listener.isClosed();
+        try {
+            protocol.executeQuery(sql);
+        } catch (SQLException e) {
+            recover(e, method("executeQuery", String.class), new Object[] { sql }, isClosed);
+        }
+    }
+
+    @Override
+    public void executeQuery(boolean mustExecuteOnMaster, Results results, String sql)
+                                                                                      throws SQLException {
+        boolean isClosed = listener.isClosed();
+        try {
+            listener.preExecute();
+        } catch (SQLException e) {
+            // handle failover only if connection error
+            // normal error can be thrown upon reconnection if there was a transaction in progress.
+            if (proxy.hasToHandleFailover(e)) {
+                failover(e, method("executeQuery", boolean.class, Results.class, String.class),
+                    new Object[] { mustExecuteOnMaster, results, sql },
+                    listener.getCurrentProtocol(), isClosed);
+                return;
+            }
+        }
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("executeQuery", boolean.class, Results.class, String.class),
+                new Object[] { mustExecuteOnMaster, results, sql });
+            return;
+        }
+        isClosed = listener.isClosed();
+        try {
+            protocol.executeQuery(mustExecuteOnMaster, results, sql);
+        } catch (SQLException e) {
+            recover(e, method("executeQuery", boolean.class, Results.class, String.class),
+                new Object[] { mustExecuteOnMaster, results, sql }, isClosed);
+        }
+    }
+
+    @Override
+    public void executeQuery(boolean mustExecuteOnMaster, Results results, String sql,
+                             Charset charset) throws SQLException {
+        boolean isClosed = listener.isClosed();
+        try {
+            listener.preExecute();
+        } catch (SQLException e) {
+            // handle failover only if connection error
+            // normal error can be thrown upon reconnection if there was a transaction in progress.
+            if (proxy.hasToHandleFailover(e)) {
+                failover(
+                    e,
+                    method("executeQuery", boolean.class, Results.class, String.class,
+                        Charset.class),
+                    new Object[] { mustExecuteOnMaster, results, sql, charset },
+                    listener.getCurrentProtocol(), isClosed);
+                return;
+            }
+        }
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(
+                method("executeQuery", boolean.class, Results.class, String.class, Charset.class),
+                new Object[] { mustExecuteOnMaster, results, sql, charset });
+            return;
+        }
+        isClosed = listener.isClosed();
+        try {
+            protocol.executeQuery(mustExecuteOnMaster, results, sql, charset);
+        } catch (SQLException e) {
+            recover(e,
+                method("executeQuery", boolean.class, Results.class, String.class, Charset.class),
+                new Object[] { mustExecuteOnMaster, results, sql, charset }, isClosed);
+        }
+    }
+
+    @Override
+    public SQLException[] executePipelinedQueries(boolean mustExecuteOnMaster,
+                                                  List<Results> resultsList, List<String> queries)
+                                                                                                  throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (SQLException[]) invoke(
+                method("executePipelinedQueries", boolean.class, List.class, List.class),
+                new Object[] { mustExecuteOnMaster, resultsList, queries });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.executePipelinedQueries(mustExecuteOnMaster, resultsList, queries);
+        } catch (SQLException e) {
+            return (SQLException[]) recover(e,
+                method("executePipelinedQueries", boolean.class, List.class, List.class),
+                new Object[] { mustExecuteOnMaster, resultsList, queries }, isClosed);
+        }
+    }
+
+    @Override
+    public void executeQuery(boolean mustExecuteOnMaster, Results results,
+                             ClientPrepareResult clientPrepareResult, ParameterHolder[] parameters)
+                                                                                                   throws SQLException {
+        boolean isClosed = listener.isClosed();
+        try {
+            listener.preExecute();
+        } catch (SQLException e) {
+            // handle failover only if connection error
+            // normal error can be thrown upon reconnection if there was a transaction in progress.
+            if (proxy.hasToHandleFailover(e)) {
+                failover(
+                    e,
+                    method("executeQuery", boolean.class, Results.class, ClientPrepareResult.class,
+                        ParameterHolder[].class), new Object[] { mustExecuteOnMaster, results,
+                            clientPrepareResult, parameters }, listener.getCurrentProtocol(),
+                    isClosed);
+                return;
+            }
+        }
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(
+                method("executeQuery", boolean.class, Results.class, ClientPrepareResult.class,
+                    ParameterHolder[].class), new Object[] { mustExecuteOnMaster, results,
+                        clientPrepareResult, parameters });
+            return;
+        }
+        isClosed = listener.isClosed();
+        try {
+            protocol.executeQuery(mustExecuteOnMaster, results, clientPrepareResult, parameters);
+        } catch (SQLException e) {
+            recover(
+                e,
+                method("executeQuery", boolean.class, Results.class, ClientPrepareResult.class,
+                    ParameterHolder[].class), new Object[] { mustExecuteOnMaster, results,
+                        clientPrepareResult, parameters }, isClosed);
+        }
+    }
+
+    @Override
+    public void executeQuery(boolean mustExecuteOnMaster, Results results,
+                             ClientPrepareResult clientPrepareResult, ParameterHolder[] parameters,
+                             int timeout) throws SQLException {
+        boolean isClosed = listener.isClosed();
+        try {
+            listener.preExecute();
+        } catch (SQLException e) {
+            // handle failover only if connection error
+            // normal error can be thrown upon reconnection if there was a transaction in progress.
+            if (proxy.hasToHandleFailover(e)) {
+                failover(
+                    e,
+                    method("executeQuery", boolean.class, Results.class, ClientPrepareResult.class,
+                        ParameterHolder[].class, int.class), new Object[] { mustExecuteOnMaster,
+                            results, clientPrepareResult, parameters, timeout },
+                    listener.getCurrentProtocol(), isClosed);
+                return;
+            }
+        }
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(
+                method("executeQuery", boolean.class, Results.class, ClientPrepareResult.class,
+                    ParameterHolder[].class, int.class), new Object[] { mustExecuteOnMaster,
+                        results, clientPrepareResult, parameters, timeout });
+            return;
+        }
+        isClosed = listener.isClosed();
+        try {
+            protocol.executeQuery(mustExecuteOnMaster, results, clientPrepareResult, parameters,
+                timeout);
+        } catch (SQLException e) {
+            recover(
+                e,
+                method("executeQuery", boolean.class, Results.class, ClientPrepareResult.class,
+                    ParameterHolder[].class, int.class), new Object[] { mustExecuteOnMaster,
+                        results, clientPrepareResult, parameters, timeout }, isClosed);
+        }
+    }
+
+    @Override
+    public void executePreparedQuery(boolean mustExecuteOnMaster,
+                                     ServerPrepareResult serverPrepareResult, Results results,
+                                     ParameterHolder[] parameters) throws SQLException {
+        if (serverPrepareResult != null) {
+            rePrepareOnSlaveIfNeeded(mustExecuteOnMaster, serverPrepareResult);
+            boolean wasClosed = listener.isClosed();
+            Protocol protocol = serverPrepareResult.getUnProxiedProtocol();
+            try {
+                protocol.executePreparedQuery(mustExecuteOnMaster, serverPrepareResult, results,
+                    parameters);
+            } catch (SQLException e) {
+                failover(
+                    e,
+                    method("executePreparedQuery", boolean.class, ServerPrepareResult.class,
+                        Results.class, ParameterHolder[].class), new Object[] {
+                            mustExecuteOnMaster, serverPrepareResult, results, parameters },
+                    protocol, wasClosed);
+            }
+            return;
+        }
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(
+                method("executePreparedQuery", boolean.class, ServerPrepareResult.class,
+                    Results.class, ParameterHolder[].class), new Object[] { mustExecuteOnMaster,
+                        serverPrepareResult, results, parameters });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.executePreparedQuery(mustExecuteOnMaster, serverPrepareResult, results,
+                parameters);
+        } catch (SQLException e) {
+            recover(
+                e,
+                method("executePreparedQuery", boolean.class, ServerPrepareResult.class,
+                    Results.class, ParameterHolder[].class), new Object[] { mustExecuteOnMaster,
+                        serverPrepareResult, results, parameters }, isClosed);
+        }
+    }
+
+    @Override
+    public ServerPrepareResult executePreparedQuery(int parameterCount,
+                                                    ParameterHolder[] parameters,
+                                                    ServerPrepareResult serverPrepareResult,
+                                                    Results results) throws SQLException {
+        if (serverPrepareResult != null) {
+            rePrepareOnSlaveIfNeeded(false, serverPrepareResult);
+            boolean wasClosed = listener.isClosed();
+            Protocol protocol = serverPrepareResult.getUnProxiedProtocol();
+            try {
+                return protocol.executePreparedQuery(parameterCount, parameters,
+                    serverPrepareResult, results);
+            } catch (SQLException e) {
+                return (ServerPrepareResult) failover(
+                    e,
+                    method("executePreparedQuery", int.class, ParameterHolder[].class,
+                        ServerPrepareResult.class, Results.class), new Object[] { parameterCount,
+                            parameters, serverPrepareResult, results }, protocol, wasClosed);
+            }
+        }
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (ServerPrepareResult) invoke(
+                method("executePreparedQuery", int.class, ParameterHolder[].class,
+                    ServerPrepareResult.class, Results.class), new Object[] { parameterCount,
+                        parameters, serverPrepareResult, results });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.executePreparedQuery(parameterCount, parameters, serverPrepareResult,
+                results);
+        } catch (SQLException e) {
+            return (ServerPrepareResult) recover(
+                e,
+                method("executePreparedQuery", int.class, ParameterHolder[].class,
+                    ServerPrepareResult.class, Results.class), new Object[] { parameterCount,
+                        parameters, serverPrepareResult, results }, isClosed);
+        }
+    }
+
+    @Override
+    public ServerPrepareResult executeBatchServer(ServerPrepareResult serverPrepareResult,
+                                                  Results results, String sql,
+                                                  List<ParameterHolder[]> parameterList,
+                                                  boolean hasLongData) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (ServerPrepareResult) invoke(
+                method("executeBatchServer", ServerPrepareResult.class, Results.class,
+                    String.class, List.class, boolean.class), new Object[] { serverPrepareResult,
+                        results, sql, parameterList, hasLongData });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.executeBatchServer(serverPrepareResult, results, sql, parameterList,
+                hasLongData);
+        } catch (SQLException e) {
+            return (ServerPrepareResult) recover(
+                e,
+                method("executeBatchServer", ServerPrepareResult.class, Results.class,
+                    String.class, List.class, boolean.class), new Object[] { serverPrepareResult,
+                        results, sql, parameterList, hasLongData }, isClosed);
+        }
+    }
+
+    @Override
+    public boolean executeBatchClient(boolean mustExecuteOnMaster, Results results,
+                                      ClientPrepareResult prepareResult,
+                                      List<ParameterHolder[]> parametersList, boolean hasLongData)
+                                                                                                  throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invoke(
+                method("executeBatchClient", boolean.class, Results.class,
+                    ClientPrepareResult.class, List.class, boolean.class), new Object[] {
+                        mustExecuteOnMaster, results, prepareResult, parametersList, hasLongData });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.executeBatchClient(mustExecuteOnMaster, results, prepareResult,
+                parametersList, hasLongData);
+        } catch (SQLException e) {
+            return (Boolean) recover(
+                e,
+                method("executeBatchClient", boolean.class, Results.class,
+                    ClientPrepareResult.class, List.class, boolean.class), new Object[] {
+                        mustExecuteOnMaster, results, prepareResult, parametersList, hasLongData },
+                isClosed);
+        }
+    }
+
+    @Override
+    public void executeBatchStmt(boolean mustExecuteOnMaster, Results results, List<String> queries)
+                                                                                                    throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("executeBatchStmt", boolean.class, Results.class, List.class),
+                new Object[] { mustExecuteOnMaster, results, queries });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.executeBatchStmt(mustExecuteOnMaster, results, queries);
+        } catch (SQLException e) {
+            recover(e, method("executeBatchStmt", boolean.class, Results.class, List.class),
+                new Object[] { mustExecuteOnMaster, results, queries }, isClosed);
+        }
+    }
+
+    @Override
+    public void getResult(Results results) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("getResult", Results.class), new Object[] { results });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.getResult(results);
+        } catch (SQLException e) {
+            recover(e, method("getResult", Results.class), new Object[] { results }, isClosed);
+        }
+    }
+
+    @Override
+    public void cancelCurrentQuery() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("cancelCurrentQuery"), null);
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.cancelCurrentQuery();
+        } catch (SQLException e) {
+            recover(e, method("cancelCurrentQuery"), null, isClosed);
+        }
+    }
+
+    @Override
+    public void interrupt() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("interrupt"), null);
+            return;
+        }
+        protocol.interrupt();
+    }
+
+    @Override
+    public void skip() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("skip"), null);
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.skip();
+        } catch (SQLException e) {
+            recover(e, method("skip"), null, isClosed);
+        }
+    }
+
+    @Override
+    public boolean checkIfMaster() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invoke(method("checkIfMaster"), null);
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.checkIfMaster();
+        } catch (SQLException e) {
+            return (Boolean) recover(e, method("checkIfMaster"), null, isClosed);
+        }
+    }
+
+    @Override
+    public boolean hasWarnings() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("hasWarnings"), null);
+        }
+        return protocol.hasWarnings();
+    }
+
+    @Override
+    public long getMaxRows() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Long) invokeUnchecked(method("getMaxRows"), null);
+        }
+        return protocol.getMaxRows();
+    }
+
+    @Override
+    public void setMaxRows(long max) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("setMaxRows", long.class), new Object[] { max });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.setMaxRows(max);
+        } catch (SQLException e) {
+            recover(e, method("setMaxRows", long.class), new Object[] { max }, isClosed);
+        }
+    }
+
+    @Override
+    public int getMajorServerVersion() {
+        return listener.getMajorServerVersion();
+    }
+
+    @Override
+    public int getMinorServerVersion() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Integer) invokeUnchecked(method("getMinorServerVersion"), null);
+        }
+        return protocol.getMinorServerVersion();
+    }
+
+    @Override
+    public void parseVersion(String serverVersion) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("parseVersion", String.class), new Object[] { serverVersion });
+            return;
+        }
+        protocol.parseVersion(serverVersion);
+    }
+
+    @Override
+    public boolean versionGreaterOrEqual(int major, int minor, int patch) {
+        return listener.versionGreaterOrEqual(major, minor, patch);
+    }
+
+    @Override
+    public void setLocalInfileInputStream(InputStream inputStream) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setLocalInfileInputStream", InputStream.class),
+                new Object[] { inputStream });
+            return;
+        }
+        protocol.setLocalInfileInputStream(inputStream);
+    }
+
+    @Override
+    public int getTimeout() {
+        try {
+            return listener.getTimeout();
+        } catch (SocketException e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    @Override
+    public void setTimeout(int timeout) throws SocketException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setTimeout", int.class), new Object[] { timeout });
+            return;
+        }
+        protocol.setTimeout(timeout);
+    }
+
+    @Override
+    public boolean getPinGlobalTxToPhysicalConnection() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("getPinGlobalTxToPhysicalConnection"), null);
+        }
+        return protocol.getPinGlobalTxToPhysicalConnection();
+    }
+
+    @Override
+    public long getServerThreadId() {
+        return listener.getServerThreadId();
+    }
+
+    @Override
+    public Socket getSocket() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Socket) invokeUnchecked(method("getSocket"), null);
+        }
+        return protocol.getSocket();
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("setTransactionIsolation", int.class), new Object[] { level });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.setTransactionIsolation(level);
+        } catch (SQLException e) {
+            recover(e, method("setTransactionIsolation", int.class), new Object[] { level },
+                isClosed);
+        }
+    }
+
+    @Override
+    public int getTransactionIsolationLevel() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Integer) invokeUnchecked(method("getTransactionIsolationLevel"), null);
+        }
+        return protocol.getTransactionIsolationLevel();
+    }
+
+    @Override
+    public boolean isExplicitClosed() {
+        return listener.isExplicitClosed();
+    }
+
+    @Override
+    public void connectWithoutProxy() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("connectWithoutProxy"), null);
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.connectWithoutProxy();
+        } catch (SQLException e) {
+            recover(e, method("connectWithoutProxy"), null, isClosed);
+        }
+    }
+
+    @Override
+    public boolean shouldReconnectWithoutProxy() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("shouldReconnectWithoutProxy"), null);
+        }
+        return protocol.shouldReconnectWithoutProxy();
+    }
+
+    @Override
+    public void setHostFailedWithoutProxy() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setHostFailedWithoutProxy"), null);
+            return;
+        }
+        protocol.setHostFailedWithoutProxy();
+    }
+
+    @Override
+    public void releasePrepareStatement(ServerPrepareResult serverPrepareResult)
+                                                                                throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("releasePrepareStatement", ServerPrepareResult.class),
+                new Object[] { serverPrepareResult });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.releasePrepareStatement(serverPrepareResult);
+        } catch (SQLException e) {
+            recover(e, method("releasePrepareStatement", ServerPrepareResult.class),
+                new Object[] { serverPrepareResult }, isClosed);
+        }
+    }
+
+    @Override
+    public boolean forceReleasePrepareStatement(int statementId) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invoke(method("forceReleasePrepareStatement", int.class),
+                new Object[] { statementId });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.forceReleasePrepareStatement(statementId);
+        } catch (SQLException e) {
+            return (Boolean) recover(e, method("forceReleasePrepareStatement", int.class),
+                new Object[] { statementId }, isClosed);
+        }
+    }
+
+    @Override
+    public PrepareStatementCache prepareStatementCache() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (PrepareStatementCache) invokeUnchecked(method("prepareStatementCache"), null);
+        }
+        return protocol.prepareStatementCache();
+    }
+
+    @Override
+    public TimeZone getTimeZone() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (TimeZone) invokeUnchecked(method("getTimeZone"), null);
+        }
+        return protocol.getTimeZone();
+    }
+
+    @Override
+    public void prolog(long maxRows, boolean hasProxy, OceanBaseConnection connection,
+                       OceanBaseStatement statement) throws SQLException {
+        listener.prolog(maxRows, connection, statement);
+    }
+
+    @Override
+    public void prologProxy(ServerPrepareResult serverPrepareResult, long maxRows,
+                            boolean hasProxy, OceanBaseConnection connection,
+                            OceanBaseStatement statement) throws SQLException {
+        if (serverPrepareResult == null) {
+            return;
+        }
+        boolean wasClosed = listener.isClosed();
+        Protocol protocol = serverPrepareResult.getUnProxiedProtocol();
+        try {
+            protocol.prologProxy(serverPrepareResult, maxRows, hasProxy, connection, statement);
+        } catch (SQLException e) {
+            failover(
+                e,
+                method("prologProxy", ServerPrepareResult.class, long.class, boolean.class,
+                    OceanBaseConnection.class, OceanBaseStatement.class), new Object[] {
+                        serverPrepareResult, maxRows, hasProxy, connection, statement }, protocol,
+                wasClosed);
+        }
+    }
+
+    @Override
+    public Results getActiveStreamingResult() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Results) invokeUnchecked(method("getActiveStreamingResult"), null);
+        }
+        return protocol.getActiveStreamingResult();
+    }
+
+    @Override
+    public void setActiveStreamingResult(Results mariaSelectResultSet) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setActiveStreamingResult", Results.class),
+                new Object[] { mariaSelectResultSet });
+            return;
+        }
+        protocol.setActiveStreamingResult(mariaSelectResultSet);
+    }
+
+    @Override
+    public ReentrantLock getLock() {
+        return proxy.lock;
+    }
+
+    @Override
+    public void setServerStatus(short serverStatus) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setServerStatus", short.class), new Object[] { serverStatus });
+            return;
+        }
+        protocol.setServerStatus(serverStatus);
+    }
+
+    @Override
+    public void removeHasMoreResults() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("removeHasMoreResults"), null);
+            return;
+        }
+        protocol.removeHasMoreResults();
+    }
+
+    @Override
+    public void setHasWarnings(boolean hasWarnings) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setHasWarnings", boolean.class), new Object[] { hasWarnings });
+            return;
+        }
+        protocol.setHasWarnings(hasWarnings);
+    }
+
+    @Override
+    public ServerPrepareResult addPrepareInCache(String key, ServerPrepareResult serverPrepareResult) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (ServerPrepareResult) invokeUnchecked(
+                method("addPrepareInCache", String.class, ServerPrepareResult.class), new Object[] {
+                        key, serverPrepareResult });
+        }
+        return protocol.addPrepareInCache(key, serverPrepareResult);
+    }
+
+    @Override
+    public void readOkPacket(Buffer buffer, Results results) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("readOkPacket", Buffer.class, Results.class), new Object[] {
+                    buffer, results });
+            return;
+        }
+        protocol.readOkPacket(buffer, results);
+    }
+
+    @Override
+    public void readEofPacket() throws SQLException, IOException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("readEofPacket"), null);
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.readEofPacket();
+        } catch (SQLException e) {
+            recover(e, method("readEofPacket"), null, isClosed);
+        }
+    }
+
+    @Override
+    public void skipEofPacket() throws SQLException, IOException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("skipEofPacket"), null);
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.skipEofPacket();
+        } catch (SQLException e) {
+            recover(e, method("skipEofPacket"), null, isClosed);
+        }
+    }
+
+    @Override
+    public SQLException readErrorPacket(Buffer buffer, Results results) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (SQLException) invokeUnchecked(
+                method("readErrorPacket", Buffer.class, Results.class), new Object[] { buffer,
+                        results });
+        }
+        return protocol.readErrorPacket(buffer, results);
+    }
+
+    @Override
+    public void readResultSet(ColumnDefinition[] ci, Results results) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("readResultSet", ColumnDefinition[].class, Results.class), new Object[] {
+                    ci, results });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.readResultSet(ci, results);
+        } catch (SQLException e) {
+            recover(e, method("readResultSet", ColumnDefinition[].class, Results.class),
+                new Object[] { ci, results }, isClosed);
+        }
+    }
+
+    @Override
+    public void changeSocketTcpNoDelay(boolean setTcpNoDelay) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("changeSocketTcpNoDelay", boolean.class),
+                new Object[] { setTcpNoDelay });
+            return;
+        }
+        protocol.changeSocketTcpNoDelay(setTcpNoDelay);
+    }
+
+    @Override
+    public void changeSocketSoTimeout(int setSoTimeout) throws SocketException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("changeSocketSoTimeout", int.class),
+                new Object[] { setSoTimeout });
+            return;
+        }
+        protocol.changeSocketSoTimeout(setSoTimeout);
+    }
+
+    @Override
+    public void removeActiveStreamingResult() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("removeActiveStreamingResult"), null);
+            return;
+        }
+        protocol.removeActiveStreamingResult();
+    }
+
+    @Override
+    public void resetStateAfterFailover(long maxRows, int transactionIsolationLevel,
+                                        String database, boolean autocommit) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(
+                method("resetStateAfterFailover", long.class, int.class, String.class,
+                    boolean.class), new Object[] { maxRows, transactionIsolationLevel, database,
+                        autocommit });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.resetStateAfterFailover(maxRows, transactionIsolationLevel, database,
+                autocommit);
+        } catch (SQLException e) {
+            recover(
+                e,
+                method("resetStateAfterFailover", long.class, int.class, String.class,
+                    boolean.class), new Object[] { maxRows, transactionIsolationLevel, database,
+                        autocommit }, isClosed);
+        }
+    }
+
+    @Override
+    public void setActiveFutureTask(FutureTask<?> activeFutureTask) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setActiveFutureTask", FutureTask.class),
+                new Object[] { activeFutureTask });
+            return;
+        }
+        protocol.setActiveFutureTask(activeFutureTask);
+    }
+
+    @Override
+    public boolean isServerMariaDb() {
+        return listener.isServerMariaDb();
+    }
+
+    @Override
+    public SQLException handleIoException(Exception initialException) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (SQLException) invokeUnchecked(method("handleIoException", Exception.class),
+                new Object[] { initialException });
+        }
+        return protocol.handleIoException(initialException);
+    }
+
+    @Override
+    public PacketInputStream getReader() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (PacketInputStream) invokeUnchecked(method("getReader"), null);
+        }
+        return protocol.getReader();
+    }
+
+    @Override
+    public boolean isEofDeprecated() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("isEofDeprecated"), null);
+        }
+        return protocol.isEofDeprecated();
+    }
+
+    @Override
+    public int getAutoIncrementIncrement() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Integer) invoke(method("getAutoIncrementIncrement"), null);
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.getAutoIncrementIncrement();
+        } catch (SQLException e) {
+            return (Integer) recover(e, method("getAutoIncrementIncrement"), null, isClosed);
+        }
+    }
+
+    @Override
+    public boolean sessionStateAware() {
+        return listener.sessionStateAware();
+    }
+
+    @Override
+    public String getTraces() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getTraces"), null);
+        }
+        return protocol.getTraces();
+    }
+
+    @Override
+    public boolean isInterrupted() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("isInterrupted"), null);
+        }
+        return protocol.isInterrupted();
+    }
+
+    @Override
+    public void stopIfInterrupted() throws SQLTimeoutException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("stopIfInterrupted"), null);
+            return;
+        }
+        protocol.stopIfInterrupted();
+    }
+
+    @Override
+    public void setChecksum(long checksum) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setChecksum", long.class), new Object[] { checksum });
+            return;
+        }
+        protocol.setChecksum(checksum);
+    }
+
+    @Override
+    public void resetChecksum() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("resetChecksum"), null);
+            return;
+        }
+        protocol.resetChecksum();
+    }
+
+    @Override
+    public long getChecksum() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Long) invokeUnchecked(method("getChecksum"), null);
+        }
+        return protocol.getChecksum();
+    }
+
+    @Override
+    public void setIterationCount(int iterationCount) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setIterationCount", int.class), new Object[] { iterationCount });
+            return;
+        }
+        protocol.setIterationCount(iterationCount);
+    }
+
+    @Override
+    public int getIterationCount() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Integer) invokeUnchecked(method("getIterationCount"), null);
+        }
+        return protocol.getIterationCount();
+    }
+
+    @Override
+    public void setExecuteMode(int executeMode) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setExecuteMode", int.class), new Object[] { executeMode });
+            return;
+        }
+        protocol.setExecuteMode(executeMode);
+    }
+
+    @Override
+    public int getExecuteMode() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Integer) invokeUnchecked(method("getExecuteMode"), null);
+        }
+        return protocol.getExecuteMode();
+    }
+
+    @Override
+    public void setComStmtPrepareExecuteField(int iterationCount, int executeMode, long checksum) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(
+                method("setComStmtPrepareExecuteField", int.class, int.class, long.class),
+                new Object[] { iterationCount, executeMode, checksum });
+            return;
+        }
+        protocol.setComStmtPrepareExecuteField(iterationCount, executeMode, checksum);
+    }
+
+    @Override
+    public ColumnDefinition[] fetchRowViaCursor(int cursorId, int fetchSize, Results results)
+                                                                                             throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (ColumnDefinition[]) invoke(
+                method("fetchRowViaCursor", int.class, int.class, Results.class), new Object[] {
+                        cursorId, fetchSize, results });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.fetchRowViaCursor(cursorId, fetchSize, results);
+        } catch (SQLException e) {
+            return (ColumnDefinition[]) recover(e,
+                method("fetchRowViaCursor", int.class, int.class, Results.class), new Object[] {
+                        cursorId, fetchSize, results }, isClosed);
+        }
+    }
+
+    @Override
+    public ColumnDefinition[] fetchRowViaCursorForOracle(int cursorId, int numRows,
+                                                         byte offsetType, int offset,
+                                                         Results results) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (ColumnDefinition[]) invoke(
+                method("fetchRowViaCursorForOracle", int.class, int.class, byte.class, int.class,
+                    Results.class), new Object[] { cursorId, numRows, offsetType, offset, results });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.fetchRowViaCursorForOracle(cursorId, numRows, offsetType, offset,
+                results);
+        } catch (SQLException e) {
+            return (ColumnDefinition[]) recover(
+                e,
+                method("fetchRowViaCursorForOracle", int.class, int.class, byte.class, int.class,
+                    Results.class),
+                new Object[] { cursorId, numRows, offsetType, offset, results }, isClosed);
+        }
+    }
+
+    @Override
+    public void sendCursorFetch(int cursorId, int fetchSize) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("sendCursorFetch", int.class, int.class), new Object[] { cursorId,
+                    fetchSize });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.sendCursorFetch(cursorId, fetchSize);
+        } catch (SQLException e) {
+            recover(e, method("sendCursorFetch", int.class, int.class), new Object[] { cursorId,
+                    fetchSize }, isClosed);
+        }
+    }
+
+    @Override
+    public ColumnDefinition[] readCursorFetchResponse(Results results) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (ColumnDefinition[]) invoke(method("readCursorFetchResponse", Results.class),
+                new Object[] { results });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.readCursorFetchResponse(results);
+        } catch (SQLException e) {
+            return (ColumnDefinition[]) recover(e,
+                method("readCursorFetchResponse", Results.class), new Object[] { results },
+                isClosed);
+        }
+    }
+
+    @Override
+    public void setPendingCursorFetch(CursorResultSet cursorResultSet) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setPendingCursorFetch", CursorResultSet.class),
+                new Object[] { cursorResultSet });
+            return;
+        }
+        protocol.setPendingCursorFetch(cursorResultSet);
+    }
+
+    @Override
+    public long getLastPacketCostTime() throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Long) invoke(method("getLastPacketCostTime"), null);
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.getLastPacketCostTime();
+        } catch (SQLException e) {
+            return (Long) recover(e, method("getLastPacketCostTime"), null, isClosed);
+        }
+    }
+
+    @Override
+    public void setNetworkStatisticsFlag(boolean flag) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("setNetworkStatisticsFlag", boolean.class),
+                new Object[] { flag });
+            return;
+        }
+        protocol.setNetworkStatisticsFlag(flag);
+    }
+
+    @Override
+    public boolean getNetworkStatisticsFlag() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Boolean) invokeUnchecked(method("getNetworkStatisticsFlag"), null);
+        }
+        return protocol.getNetworkStatisticsFlag();
+    }
+
+    @Override
+    public long getLastPacketResponseTimestamp() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Long) invokeUnchecked(method("getLastPacketResponseTimestamp"), null);
+        }
+        return protocol.getLastPacketResponseTimestamp();
+    }
+
+    @Override
+    public long getLastPacketSendTimestamp() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Long) invokeUnchecked(method("getLastPacketSendTimestamp"), null);
+        }
+        return protocol.getLastPacketSendTimestamp();
+    }
+
+    @Override
+    public void clearNetworkStatistics() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("clearNetworkStatistics"), null);
+            return;
+        }
+        protocol.clearNetworkStatistics();
+    }
+
+    @Override
+    public void changeUser(String user, String pwd) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(method("changeUser", String.class, String.class), new Object[] { user, pwd });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.changeUser(user, pwd);
+        } catch (SQLException e) {
+            recover(e, method("changeUser", String.class, String.class),
+                new Object[] { user, pwd }, isClosed);
+        }
+    }
+
+    @Override
+    public String getEncoding() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (String) invokeUnchecked(method("getEncoding"), null);
+        }
+        return protocol.getEncoding();
+    }
+
+    @Override
+    public void executePreparedQueryArrayBinding(boolean mustExecuteOnMaster,
+                                                 ServerPrepareResult serverPrepareResult,
+                                                 Results results,
+                                                 List<ParameterHolder[]> queryParameters,
+                                                 int queryParameterSize) throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invoke(
+                method("executePreparedQueryArrayBinding", boolean.class,
+                    ServerPrepareResult.class, Results.class, List.class, int.class), new Object[] {
+                        mustExecuteOnMaster, serverPrepareResult, results, queryParameters,
+                        queryParameterSize });
+            return;
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            protocol.executePreparedQueryArrayBinding(mustExecuteOnMaster, serverPrepareResult,
+                results, queryParameters, queryParameterSize);
+        } catch (SQLException e) {
+            recover(
+                e,
+                method("executePreparedQueryArrayBinding", boolean.class,
+                    ServerPrepareResult.class, Results.class, List.class, int.class), new Object[] {
+                        mustExecuteOnMaster, serverPrepareResult, results, queryParameters,
+                        queryParameterSize }, isClosed);
+        }
+    }
+
+    @Override
+    public ServerPrepareResult executePreparedQueryArrayBinding(int parameterCount,
+                                                                boolean mustExecuteOnMaster,
+                                                                ServerPrepareResult serverPrepareResult,
+                                                                Results results,
+                                                                List<ParameterHolder[]> queryParameters,
+                                                                int queryParameterSize)
+                                                                                       throws SQLException {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (ServerPrepareResult) invoke(
+                method("executePreparedQueryArrayBinding", int.class, boolean.class,
+                    ServerPrepareResult.class, Results.class, List.class, int.class), new Object[] {
+                        parameterCount, mustExecuteOnMaster, serverPrepareResult, results,
+                        queryParameters, queryParameterSize });
+        }
+        boolean isClosed = listener.isClosed();
+        try {
+            return protocol.executePreparedQueryArrayBinding(parameterCount, mustExecuteOnMaster,
+                serverPrepareResult, results, queryParameters, queryParameterSize);
+        } catch (SQLException e) {
+            return (ServerPrepareResult) recover(
+                e,
+                method("executePreparedQueryArrayBinding", int.class, boolean.class,
+                    ServerPrepareResult.class, Results.class, List.class, int.class), new Object[] {
+                        parameterCount, mustExecuteOnMaster, serverPrepareResult, results,
+                        queryParameters, queryParameterSize }, isClosed);
+        }
+    }
+
+    @Override
+    public PacketOutputStream getWriter() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (PacketOutputStream) invokeUnchecked(method("getWriter"), null);
+        }
+        return protocol.getWriter();
+    }
+
+    @Override
+    public HostAddress getCurrentHost() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (HostAddress) invokeUnchecked(method("getCurrentHost"), null);
+        }
+        return protocol.getCurrentHost();
+    }
+
+    @Override
+    public TimeTrace getTimeTrace() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (TimeTrace) invokeUnchecked(method("getTimeTrace"), null);
+        }
+        return protocol.getTimeTrace();
+    }
+
+    @Override
+    public void startCallInterface() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("startCallInterface"), null);
+            return;
+        }
+        protocol.startCallInterface();
+    }
+
+    @Override
+    public void endCallInterface(String message) {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            invokeUnchecked(method("endCallInterface", String.class), new Object[] { message });
+            return;
+        }
+        protocol.endCallInterface(message);
+    }
+
+    @Override
+    public int getServerStatus() {
+        Protocol protocol = listener.getCurrentProtocol();
+        if (protocol == null) {
+            return (Integer) invokeUnchecked(method("getServerStatus"), null);
+        }
+        return protocol.getServerStatus();
+    }
+}
@@ -68,41 +68,42 @@ import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 
 public class FailoverProxy implements InvocationHandler {
 
-    private static final String METHOD_IS_EXPLICIT_CLOSED         = "isExplicitClosed";
-    private static final String METHOD_GET_OPTIONS                = "getOptions";
-    private static final String METHOD_GET_URLPARSER              = "getUrlParser";
-    private static final String METHOD_GET_PROXY                  = "getProxy";
-    private static final String METHOD_EXECUTE_QUERY              = "executeQuery";
-    private static final String METHOD_SET_READ_ONLY              = "setReadonly";
-    private static final String METHOD_GET_READ_ONLY              = "getReadonly";
-    private static final String METHOD_IS_MASTER_CONNECTION       = "isMasterConnection";
-    private static final String METHOD_VERSION_GREATER_OR_EQUAL   = "versionGreaterOrEqual";
-    private static final String METHOD_SESSION_STATE_AWARE        = "sessionStateAware";
-    private static final String METHOD_CLOSED_EXPLICIT            = "closeExplicit";
-    private static final String METHOD_ABORT                      = "abort";
-    private static final String METHOD_IS_CLOSED                  = "isClosed";
-    private static final String METHOD_EXECUTE_PREPARED_QUERY     = "executePreparedQuery";
-    private static final String METHOD_COM_MULTI_PREPARE_EXECUTES = "prepareAndExecutesComMulti";
-    private static final String METHOD_PROLOG_PROXY               = "prologProxy";
-    private static final String METHOD_RESET                      = "reset";
-    private static final String METHOD_IS_VALID                   = "isValid";
-    private static final String METHOD_GET_LOCK                   = "getLock";
-    private static final String METHOD_GET_NO_BACKSLASH           = "noBackslashEscapes";
-    private static final String METHOD_GET_SERVER_THREAD_ID       = "getServerThreadId";
-    private static final String METHOD_PROLOG                     = "prolog";
-    private static final String METHOD_GET_CATALOG                = "getCatalog";
-    private static final String METHOD_GET_TIMEOUT                = "getTimeout";
-    private static final String METHOD_GET_MAJOR_VERSION          = "getMajorServerVersion";
-    private static final String METHOD_IN_TRANSACTION             = "inTransaction";
-    private static final String METHOD_IS_MARIADB                 = "isServerMariaDb";
+    private static final String   METHOD_IS_EXPLICIT_CLOSED         = "isExplicitClosed";
+    private static final String   METHOD_GET_OPTIONS                = "getOptions";
+    private static final String   METHOD_GET_URLPARSER              = "getUrlParser";
+    private static final String   METHOD_GET_PROXY                  = "getProxy";
+    private static final String   METHOD_EXECUTE_QUERY              = "executeQuery";
+    private static final String   METHOD_SET_READ_ONLY              = "setReadonly";
+    private static final String   METHOD_GET_READ_ONLY              = "getReadonly";
+    private static final String   METHOD_IS_MASTER_CONNECTION       = "isMasterConnection";
+    private static final String   METHOD_VERSION_GREATER_OR_EQUAL   = "versionGreaterOrEqual";
+    private static final String   METHOD_SESSION_STATE_AWARE        = "sessionStateAware";
+    private static final String   METHOD_CLOSED_EXPLICIT            = "closeExplicit";
+    private static final String   METHOD_ABORT                      = "abort";
+    private static final String   METHOD_IS_CLOSED                  = "isClosed";
+    private static final String   METHOD_EXECUTE_PREPARED_QUERY     = "executePreparedQuery";
+    private static final String   METHOD_COM_MULTI_PREPARE_EXECUTES = "prepareAndExecutesComMulti";
+    private static final String   METHOD_PROLOG_PROXY               = "prologProxy";
+    private static final String   METHOD_RESET                      = "reset";
+    private static final String   METHOD_IS_VALID                   = "isValid";
+    private static final String   METHOD_GET_LOCK                   = "getLock";
+    private static final String   METHOD_GET_NO_BACKSLASH           = "noBackslashEscapes";
+    private static final String   METHOD_GET_SERVER_THREAD_ID       = "getServerThreadId";
+    private static final String   METHOD_PROLOG                     = "prolog";
+    private static final String   METHOD_GET_CATALOG                = "getCatalog";
+    private static final String   METHOD_GET_TIMEOUT                = "getTimeout";
+    private static final String   METHOD_GET_MAJOR_VERSION          = "getMajorServerVersion";
+    private static final String   METHOD_IN_TRANSACTION             = "inTransaction";
+    private static final String   METHOD_IS_MARIADB                 = "isServerMariaDb";
 
-    private static final Logger logger                            = LoggerFactory
-                                                                      .getLogger(FailoverProxy.class);
-    public final ReentrantLock  lock;
-    public final LruTraceCache  traceCache;
+    private static final Logger   logger                            = LoggerFactory
+                                                                        .getLogger(FailoverProxy.class);
+    public final ReentrantLock    lock;
+    public final LruTraceCache    traceCache;
 
-    private final Listener      listener;
-    protected static final Logger lockLogger = LoggerFactory.getLogger("JDBC-COST-LOGGER");
+    private final Listener        listener;
+    protected static final Logger lockLogger                        = LoggerFactory
+                                                                        .getLogger("JDBC-COST-LOGGER");
 
     /**
      * Proxy constructor.
@@ -303,67 +304,82 @@ public class FailoverProxy implements InvocationHandler {
         } catch (InvocationTargetException e) {
             if (e.getTargetException() != null) {
                 if (e.getTargetException() instanceof SQLException) {
+                    return handleException((SQLException) e.getTargetException(), method, args,
+                        isClosed, isSecondExecution);
+                }
+                throw e.getTargetException();
+            }
+            throw e;
+        }
+    }
 
-                    SQLException queryException = (SQLException) e.getTargetException();
-                    Protocol protocol = listener.getCurrentProtocol();
-
-                    queryException = addHostInformationToException(queryException, protocol);
-
-                    // check that failover is due to kill command
-                    boolean killCmd = queryException != null
-                                      && queryException.getSQLState() != null
-                                      && queryException.getSQLState().equals("70100")
-                                      && 1927 == queryException.getErrorCode();
+    /**
+     * Handle an error thrown by current protocol : failover if this is a connection error, or
+     * reconnect and relaunch the command if master has been demoted to read-only.
+     *
+     * @param exception error thrown by the protocol
+     * @param method the called method
+     * @param args the arguments of the method
+     * @param isClosed was connection closed before the call
+     * @param isSecondExecution is the call already a relaunch
+     * @return the object return from the method if relaunched
+     * @throws Throwable the error if not handled by failover
+     */
+    Object handleException(SQLException exception, Method method, Object[] args, boolean isClosed,
+                           boolean isSecondExecution) throws Throwable {
+        Protocol protocol = listener.getCurrentProtocol();
+        SQLException queryException = addHostInformationToException(exception, protocol);
 
-                    if (killCmd) {
-                        handleFailOver(queryException, method, args, protocol, isClosed);
-                        return null;
-                    }
+        // check that failover is due to kill command
+        boolean killCmd = queryException != null && queryException.getSQLState() != null
+                          && queryException.getSQLState().equals("70100")
+                          && 1927 == queryException.getErrorCode();
 
-                    if (hasToHandleFailover(queryException)) {
-                        return handleFailOver(queryException, method, args, protocol, isClosed);
-                    }
+        if (killCmd) {
+            handleFailOver(queryException, method, args, protocol, isClosed);
+            return null;
+        }
 
-                    // error is "The MariaDB server is running with the %s option so it cannot execute this
-                    // statement"
-                    // checking that server was master has not been demote to slave without resetting
-                    // connections
-                    if (queryException.getErrorCode() == 1290 && !isSecondExecution
-                        && protocol != null && protocol.isMasterConnection()
-                        && !protocol.checkIfMaster()) {
+        if (hasToHandleFailover(queryException)) {
+            return handleFailOver(queryException, method, args, protocol, isClosed);
+        }
 
-                        boolean inTransaction = protocol.inTransaction();
-                        boolean isReconnected;
+        // error is "The MariaDB server is running with the %s option so it cannot execute this
+        // statement"
+        // checking that server was master has not been demote to slave without resetting
+        // connections
+        if (queryException.getErrorCode() == 1290 && !isSecondExecution && protocol != null
+            && protocol.isMasterConnection() && !protocol.checkIfMaster()) {
 
-                        // connection state has changed, master connection is now read-only
-                        // reconnect to master, to re-execute command if wasn't in a transaction since
-                        // we are sure has not been executed.
+            boolean inTransaction = protocol.inTransaction();
+            boolean isReconnected;
 
-                        // reconnection
-                        lock.lock();
-                        try {
-                            lockLogger.debug("FailoverProxy.executeInvocation locked");
-                            protocol.close();
-                            isReconnected = listener.primaryFail(null, null, false, isClosed).isReconnected;
-                        } finally {
-                            lock.unlock();
-                            lockLogger.debug("FailoverProxy.executeInvocation unlocked");
-                        }
+            // connection state has changed, master connection is now read-only
+            // reconnect to master, to re-execute command if wasn't in a transaction since
+            // we are sure has not been executed.
 
-                        // relaunch command
-                        if (isReconnected && !inTransaction) {
-                            return executeInvocation(method, args, true);
-                        }
+            // reconnection
+            lock.lock();
+            try {
+                lockLogger.debug("FailoverProxy.executeInvocation locked");
+                protocol.close();
+                isReconnected = listener.primaryFail(null, null, false, isClosed).isReconnected;
+            } finally {
+                lock.unlock();
+                lockLogger.debug("FailoverProxy.executeInvocation unlocked");
+            }
 
-                        // throw exception if not reconnected, or was in a transaction
-                        return handleFailOver(queryException, method, args,
-                            listener.getCurrentProtocol(), isClosed);
-                    }
-                }
-                throw e.getTargetException();
+            // relaunch command
+            if (isReconnected && !inTransaction) {
+                return executeInvocation(method, args, true);
             }
-            throw e;
+
+            // throw exception if not reconnected, or was in a transaction
+            return handleFailOver(queryException, method, args, listener.getCurrentProtocol(),
+                isClosed);
         }
+
+        throw exception;
     }
 
     /**
@@ -375,8 +391,8 @@ public class FailoverProxy implements InvocationHandler {
      * @return the object return from the method
      * @throws Throwable throwable
      */
-    private Object handleFailOver(SQLException qe, Method method, Object[] args, Protocol protocol,
-                                  boolean isClosed) throws Throwable {
+    Object handleFailOver(SQLException qe, Method method, Object[] args, Protocol protocol,
+                          boolean isClosed) throws Throwable {
         HostAddress failHostAddress = null;
         boolean failIsMaster = true;
         if (protocol != null) {
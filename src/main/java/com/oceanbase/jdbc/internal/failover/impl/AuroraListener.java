@@ -457,11 +457,13 @@ public class AuroraListener extends MastersSlavesListener {
                 } catch (SQLException ee) {
                     proxy.lock.lock();
                     try {
-                        lockLogger.debug("AuroraListener.checkMasterStatus !isMasterHostFail locked");
+                        lockLogger
+                            .debug("AuroraListener.checkMasterStatus !isMasterHostFail locked");
                         masterProtocol.close();
                     } finally {
                         proxy.lock.unlock();
-                        lockLogger.debug("AuroraListener.checkMasterStatus !isMasterHostFail unlocked");
+                        lockLogger
+                            .debug("AuroraListener.checkMasterStatus !isMasterHostFail unlocked");
                     }
                     if (setMasterHostFail()) {
                         addToBlacklist(masterProtocol.getHostAddress());
@@ -487,11 +489,13 @@ public class AuroraListener extends MastersSlavesListener {
                 } catch (Exception ee) {
                     proxy.lock.lock();
                     try {
-                        lockLogger.debug("AuroraListener.checkMasterStatus isMasterHostFail locked");
+                        lockLogger
+                            .debug("AuroraListener.checkMasterStatus isMasterHostFail locked");
                         secondaryProtocol.close();
                     } finally {
                         proxy.lock.unlock();
-                        lockLogger.debug("AuroraListener.checkMasterStatus isMasterHostFail unlocked");
+                        lockLogger
+                            .debug("AuroraListener.checkMasterStatus isMasterHostFail unlocked");
                     }
                     if (setSecondaryHostFail()) {
                         addToBlacklist(this.secondaryProtocol.getHostAddress());
@@ -120,8 +120,7 @@ public class LoadBalanceDriver {
         loadBalanceInfo.setBalanceStrategy(balanceStrategy);
     }
 
-    public void buildHostListBalanceStrategies()
-                                                                                         throws SQLException {
+    public void buildHostListBalanceStrategies() throws SQLException {
         checker = new BalanceStrategyChecker();
         for (LoadBalanceAddressList loadBalanceAddressList : loadBalanceInfo.groups) {
             String name = loadBalanceAddressList.getBalanceStrategyConfigs().get(Consts.NAME);
@@ -131,7 +130,7 @@ public class LoadBalanceDriver {
             }
             BalanceStrategy hostListBalanceStrategy;
             if (loadBalanceInfo.getBalanceStrategy() != null && name.equals(Consts.DEFAULT)) {
-                hostListBalanceStrategy = loadBalanceInfo.getBalanceStrategy() ;
+                hostListBalanceStrategy = loadBalanceInfo.getBalanceStrategy();
             } else {
                 switch (name.toUpperCase()) {
                     case Consts.SERVERAFFINITY:
@@ -321,11 +321,13 @@ public class MastersFailoverListener extends AbstractMastersListener {
         if (isExplicitClosed()) {
             proxy.lock.lock();
             try {
-                lockLogger.debug("MastersFailoverListener.foundActiveMaster isExplicitClosed locked");
+                lockLogger
+                    .debug("MastersFailoverListener.foundActiveMaster isExplicitClosed locked");
                 protocol.close();
             } finally {
                 proxy.lock.unlock();
-                lockLogger.debug("MastersFailoverListener.foundActiveMaster isExplicitClosed unlocked");
+                lockLogger
+                    .debug("MastersFailoverListener.foundActiveMaster isExplicitClosed unlocked");
             }
             return;
         }
@@ -339,7 +341,8 @@ public class MastersFailoverListener extends AbstractMastersListener {
             currentProtocol = protocol;
         } finally {
             proxy.lock.unlock();
-            lockLogger.debug("MastersFailoverListener.foundActiveMaster !isExplicitClosed unlocked");
+            lockLogger
+                .debug("MastersFailoverListener.foundActiveMaster !isExplicitClosed unlocked");
         }
 
         resetMasterFailoverData();
@@ -94,7 +94,8 @@ public class MastersSlavesListener extends AbstractMastersSlavesListener {
     protected Protocol                            masterProtocol;
     protected Protocol                            secondaryProtocol;
     protected List<HostAddress>                   hostAddresses;
-    protected static final Logger lockLogger = LoggerFactory.getLogger("JDBC-COST-LOGGER");
+    protected static final Logger                 lockLogger    = LoggerFactory
+                                                                    .getLogger("JDBC-COST-LOGGER");
 
     /**
      * Initialisation.
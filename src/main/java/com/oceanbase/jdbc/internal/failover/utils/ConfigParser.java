@@ -79,6 +79,7 @@ public class ConfigParser {
     // LoadBalanceInfo represents the configuration information of the current net_service_name
     static ConcurrentHashMap<String, LoadBalanceInfo> loadBalanceInfos = new ConcurrentHashMap<>();
     static ConcurrentHashMap<String, Long>            ocpAccessTimes = new ConcurrentHashMap<>();
+    static ConcurrentHashMap<String, ReentrantLock>   ocpAppLocks    = new ConcurrentHashMap<>();
     protected static final Logger lockLogger = LoggerFactory.getLogger("JDBC-COST-LOGGER");
 
     // TNS file on disk, or extend description in URL
@@ -369,7 +370,10 @@ public class ConfigParser {
             }
             logger.debug("Key : (hashCode={}, toString={}) --> Value : (hashCode={}, toString={})", targetApp.hashCode(), targetApp, ocpAccessTimes.get(targetApp).hashCode(), ocpAccessTimes.get(targetApp));
 
-            synchronized (targetApp) {
+            // per application lock, held while OCP is accessed over HTTP
+            ReentrantLock appLock = ocpAppLocks.computeIfAbsent(ocpApi.appName, k -> new ReentrantLock());
+            appLock.lock();
+            try {
                 logger.debug("synchronized begin {}", ocpApi.appName);
                 if (System.currentTimeMillis() - ocpAccessTimes.get(ocpApi.appName) < options.ocpAccessInterval * 60 * 1000) {
                     logger.debug("synchronized return {}", ocpApi.appName);
@@ -409,6 +413,8 @@ public class ConfigParser {
                 }
 
                 logger.debug("synchronized end {}", ocpApi.appName);
+            } finally {
+                appLock.unlock();
             }
         } catch (Exception e) {
             logger.warn("OCP API isn't available, " + ocpUrl);
@@ -0,0 +1,157 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.io;
+
+/**
+ * Per-connection pool of receive buffers, organized in power-of-two size classes.
+ *
+ * <p>Packets that are only used until the next read (see {@code getPacket(true)}) and temporary
+ * chunks used to gather packets bigger than 16M borrow their array here instead of allocating a
+ * new one each time. The pool only keeps up to {@code maxRetainedBytes} bytes, arrays released
+ * above that limit are left to the garbage collector.
+ */
+public class PacketBufferPool {
+
+    private static final int MIN_CLASS_SHIFT = 11;                                                                // 2K
+    private static final int MAX_CLASS_SHIFT = 24;                                                                // 16M
+    private static final int SLOTS_PER_CLASS = 4;
+
+    private final byte[][][] classes         = new byte[MAX_CLASS_SHIFT - MIN_CLASS_SHIFT + 1][SLOTS_PER_CLASS][];
+    private final int[]      classSizes      = new int[MAX_CLASS_SHIFT - MIN_CLASS_SHIFT + 1];
+    private final long       maxRetainedBytes;
+    private long             retainedBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param maxRetainedBytes maximum number of bytes kept in pool
+     */
+    public PacketBufferPool(long maxRetainedBytes) {
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    /**
+     * Size of the arrays of the class that can hold the length.
+     *
+     * @param length needed length
+     * @return size class array length, or -1 if length is too big to be pooled
+     */
+    public static int classLength(int length) {
+        int index = classIndex(length);
+        return index < 0 ? -1 : 1 << (index + MIN_CLASS_SHIFT);
+    }
+
+    private static int classIndex(int length) {
+        if (length > 1 << MAX_CLASS_SHIFT) {
+            return -1;
+        }
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(length, 1 << MIN_CLASS_SHIFT) - 1);
+        return shift - MIN_CLASS_SHIFT;
+    }
+
+    /**
+     * Borrow an array of at least <code>length</code> bytes. Array content is not cleared.
+     *
+     * @param length minimum length
+     * @return array
+     */
+    public synchronized byte[] borrow(int length) {
+        int index = classIndex(length);
+        if (index < 0) {
+            return new byte[length];
+        }
+        if (classSizes[index] > 0) {
+            byte[][] slots = classes[index];
+            int slot = --classSizes[index];
+            byte[] array = slots[slot];
+            slots[slot] = null;
+            retainedBytes -= array.length;
+            return array;
+        }
+        return new byte[1 << (index + MIN_CLASS_SHIFT)];
+    }
+
+    /**
+     * Give back an array previously borrowed. Arrays that do not correspond to a size class are
+     * ignored.
+     *
+     * @param array array to release
+     */
+    public synchronized void release(byte[] array) {
+        if (array == null) {
+            return;
+        }
+        int index = classIndex(array.length);
+        if (index < 0 || array.length != 1 << (index + MIN_CLASS_SHIFT)) {
+            return;
+        }
+        if (classSizes[index] >= SLOTS_PER_CLASS || retainedBytes + array.length > maxRetainedBytes) {
+            return;
+        }
+        classes[index][classSizes[index]++] = array;
+        retainedBytes += array.length;
+    }
+
+    /** Drop all retained arrays. */
+    public synchronized void clear() {
+        for (int i = 0; i < classes.length; i++) {
+            for (int j = 0; j < SLOTS_PER_CLASS; j++) {
+                classes[i][j] = null;
+            }
+            classSizes[i] = 0;
+        }
+        retainedBytes = 0;
+    }
+
+    public synchronized long getRetainedBytes() {
+        return retainedBytes;
+    }
+}
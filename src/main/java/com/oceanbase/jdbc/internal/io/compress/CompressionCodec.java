@@ -0,0 +1,119 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.io.compress;
+
+import java.io.IOException;
+
+/**
+ * Algorithm used to compress and decompress packets of the compressed protocol. One instance is
+ * created by connection and reused for all packets. Compression and decompression can be done
+ * concurrently by the writer and the reader of the connection.
+ *
+ * <p>Custom implementations can be set with option "compressionCodec", and must have a public
+ * constructor without parameters.
+ */
+public interface CompressionCodec {
+
+    /**
+     * Capability flag that server must advertise for this algorithm to be used, in addition to
+     * CLIENT_COMPRESS. 0 for the standard zlib algorithm.
+     *
+     * @return capability flag
+     */
+    long getCapability();
+
+    /**
+     * Set compression level, from option "compressionLevel". -1 is the algorithm default level.
+     *
+     * @param level compression level
+     */
+    void setCompressionLevel(int level);
+
+    /** Start compressing a new packet. */
+    void start();
+
+    /**
+     * Add data to the current packet.
+     *
+     * @param src data
+     * @param off offset
+     * @param len length
+     */
+    void write(byte[] src, int off, int len);
+
+    /**
+     * End the current packet. Compressed data is then available in getBuffer(), from offset 0.
+     *
+     * @return compressed length
+     */
+    int finish();
+
+    /**
+     * Buffer containing compressed data of the last finished packet.
+     *
+     * @return buffer
+     */
+    byte[] getBuffer();
+
+    /**
+     * Decompress a packet.
+     *
+     * @param src compressed data
+     * @param srcLen compressed length
+     * @param dst destination array
+     * @param dstLen expected decompressed length
+     * @throws IOException if data is corrupted or doesn't have the expected length
+     */
+    void decompress(byte[] src, int srcLen, byte[] dst, int dstLen) throws IOException;
+
+    /** Release resources. */
+    void close();
+}
@@ -0,0 +1,155 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.io.compress;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Standard zlib algorithm of the compressed protocol, reusing the same Deflater / Inflater for all
+ * packets of the connection.
+ */
+public class ZlibCompressionCodec implements CompressionCodec {
+
+    private static final int INITIAL_BUFFER_LENGTH = 8192;
+    private static final int MAX_RETAINED_LENGTH   = 1024 * 1024;
+
+    private final Deflater   deflater              = new Deflater();
+    private final Inflater   inflater              = new Inflater();
+    private byte[]           buffer                = new byte[INITIAL_BUFFER_LENGTH];
+    private int              bufferPos;
+    private boolean          closed;
+
+    @Override
+    public long getCapability() {
+        return 0;
+    }
+
+    @Override
+    public void setCompressionLevel(int level) {
+        deflater.setLevel(Math.max(Deflater.DEFAULT_COMPRESSION,
+            Math.min(level, Deflater.BEST_COMPRESSION)));
+    }
+
+    @Override
+    public void start() {
+        deflater.reset();
+        bufferPos = 0;
+        if (buffer.length > MAX_RETAINED_LENGTH) {
+            // don't keep memory of a huge packet
+            buffer = new byte[INITIAL_BUFFER_LENGTH];
+        }
+    }
+
+    @Override
+    public void write(byte[] src, int off, int len) {
+        deflater.setInput(src, off, len);
+        while (!deflater.needsInput()) {
+            deflate();
+        }
+    }
+
+    @Override
+    public int finish() {
+        deflater.finish();
+        while (!deflater.finished()) {
+            deflate();
+        }
+        return bufferPos;
+    }
+
+    private void deflate() {
+        if (bufferPos == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        bufferPos += deflater.deflate(buffer, bufferPos, buffer.length - bufferPos);
+    }
+
+    @Override
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public void decompress(byte[] src, int srcLen, byte[] dst, int dstLen) throws IOException {
+        inflater.reset();
+        inflater.setInput(src, 0, srcLen);
+        int actualUncompressBytes = 0;
+        try {
+            while (actualUncompressBytes < dstLen && !inflater.finished()) {
+                int count = inflater.inflate(dst, actualUncompressBytes, dstLen
+                                                                         - actualUncompressBytes);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                actualUncompressBytes += count;
+            }
+        } catch (DataFormatException dfe) {
+            throw new IOException(dfe);
+        }
+        if (actualUncompressBytes != dstLen) {
+            throw new IOException("Invalid exception length after decompression "
+                                  + actualUncompressBytes + ",expected " + dstLen);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            deflater.end();
+            inflater.end();
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.io.InputStream;
 
 import com.oceanbase.jdbc.internal.com.read.Buffer;
 import com.oceanbase.jdbc.internal.io.LruTraceCache;
+import com.oceanbase.jdbc.internal.io.PacketBufferPool;
 import com.oceanbase.jdbc.internal.protocol.TimeTrace;
+import com.oceanbase.jdbc.internal.util.metrics.CommandTimer;
 
 public abstract class AbstractPacketInputStream implements PacketInputStream {
 
@@ -23,6 +25,8 @@ public abstract class AbstractPacketInputStream implements PacketInputStream {
 
     protected final byte[]     reusableArray           = new byte[REUSABLE_BUFFER_LENGTH];
     protected TimeTrace        timeTrace;
+    protected CommandTimer     commandTimer;
+    protected PacketBufferPool bufferPool;
 
     @Override
     public abstract Buffer getPacket(boolean reUsable) throws IOException;
@@ -46,6 +50,14 @@ public abstract class AbstractPacketInputStream implements PacketInputStream {
     @Override
     public void close() throws IOException {
         inputStream.close();
+        if (bufferPool != null) {
+            bufferPool.clear();
+        }
+    }
+
+    @Override
+    public PacketBufferPool getBufferPool() {
+        return bufferPool;
     }
 
     /**
@@ -63,6 +75,10 @@ public abstract class AbstractPacketInputStream implements PacketInputStream {
         this.traceCache = traceCache;
     }
 
+    public void setCommandTimer(CommandTimer commandTimer) {
+        this.commandTimer = commandTimer;
+    }
+
     @Override
     public void enableNetworkStatistics(boolean flag) {
         timestampAfterRead = 0; // clear
@@ -86,6 +102,9 @@ public abstract class AbstractPacketInputStream implements PacketInputStream {
     }
 
     public void endReceiveResponse(String sql) {
+        if (commandTimer != null) {
+            commandTimer.endReceive();
+        }
         if (timeTrace != null) {
             String protocol = null;
             if (this instanceof Ob20PacketInputStream) {
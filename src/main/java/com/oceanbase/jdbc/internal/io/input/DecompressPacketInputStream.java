@@ -54,11 +54,11 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
 
 import com.oceanbase.jdbc.internal.com.read.Buffer;
 import com.oceanbase.jdbc.internal.io.TraceObject;
+import com.oceanbase.jdbc.internal.io.compress.CompressionCodec;
+import com.oceanbase.jdbc.internal.io.compress.ZlibCompressionCodec;
 import com.oceanbase.jdbc.internal.logging.Logger;
 import com.oceanbase.jdbc.internal.logging.LoggerFactory;
 import com.oceanbase.jdbc.internal.protocol.TimeTrace;
@@ -67,22 +67,41 @@ import com.oceanbase.jdbc.util.Options;
 
 public class DecompressPacketInputStream extends AbstractPacketInputStream {
 
-    private static final Logger logger    = LoggerFactory
-                                              .getLogger(DecompressPacketInputStream.class);
+    private static final Logger    logger                         = LoggerFactory
+                                                                      .getLogger(DecompressPacketInputStream.class);
 
-    private final byte[]        header    = new byte[7];
+    private static final int       MAX_RETAINED_COMPRESSED_LENGTH = 1024 * 1024;
+
+    private final byte[]           header                         = new byte[7];
+    private final CompressionCodec codec;
     // compress packet can contain multiple standard packet
-    private byte[]              cacheData = new byte[0];
-    private int                 cachePos;
-    private int                 cacheEnd;
-    private int                 compressPacketSeq;
+    private byte[]                 cacheData                      = new byte[0];
+    private int                    cachePos;
+    private int                    cacheEnd;
+    private int                    compressPacketSeq;
+    private byte[]                 compressedBuffer               = new byte[0];
 
     public DecompressPacketInputStream(InputStream in, long threadId, Options options,
                                        TimeTrace timeTrace) {
+        this(in, threadId, options, timeTrace, new ZlibCompressionCodec());
+    }
+
+    public DecompressPacketInputStream(InputStream in, long threadId, Options options,
+                                       TimeTrace timeTrace, CompressionCodec codec) {
         inputStream = in;
         maxQuerySizeToLog = options.maxQuerySizeToLog;
         this.threadId = threadId;
         this.timeTrace = timeTrace;
+        this.codec = codec;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            codec.close();
+        }
     }
 
     @Override
@@ -107,6 +126,7 @@ public class DecompressPacketInputStream extends AbstractPacketInputStream {
         // loop until having the whole packet
         boolean first = true;
         do {
+            long start = commandTimer != null ? commandTimer.beforeRead() : 0;
             // Read 7 byte header
             readBlocking(header, 7);
             if (first) {
@@ -130,6 +150,9 @@ public class DecompressPacketInputStream extends AbstractPacketInputStream {
             }
 
             readCompressBlocking(rawBytes, compressedLength, decompressedLength);
+            if (commandTimer != null) {
+                commandTimer.afterRead(start, compressedLength + 7);
+            }
 
             if (traceCache != null) {
                 int length = decompressedLength != 0 ? decompressedLength : compressedLength;
@@ -180,23 +203,17 @@ public class DecompressPacketInputStream extends AbstractPacketInputStream {
                                                                                                throws IOException {
         if (decompressedLength != 0) {
 
-            byte[] compressedBuffer = new byte[compressedLength];
-            // Read compress content
-            readBlocking(compressedBuffer, compressedLength);
-
-            Inflater inflater = new Inflater();
-            inflater.setInput(compressedBuffer);
-            try {
-                int actualUncompressBytes = inflater.inflate(arr);
-                if (actualUncompressBytes != decompressedLength) {
-                    throw new IOException("Invalid exception length after decompression "
-                                          + actualUncompressBytes + ",expected "
-                                          + decompressedLength);
+            // reuse compressed buffer, unless for huge packets
+            byte[] compressed = compressedBuffer;
+            if (compressed.length < compressedLength) {
+                compressed = new byte[compressedLength];
+                if (compressedLength <= MAX_RETAINED_COMPRESSED_LENGTH) {
+                    compressedBuffer = compressed;
                 }
-            } catch (DataFormatException dfe) {
-                throw new IOException(dfe);
             }
-            inflater.end();
+            // Read compress content
+            readBlocking(compressed, compressedLength);
+            codec.decompress(compressed, compressedLength, arr, decompressedLength);
 
         } else {
             // Read standard content
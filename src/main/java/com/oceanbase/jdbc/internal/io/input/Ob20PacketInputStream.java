@@ -54,6 +54,7 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.zip.Checksum;
 
 import com.oceanbase.jdbc.internal.com.read.Buffer;
 import com.oceanbase.jdbc.internal.io.TraceObject;
@@ -62,8 +63,8 @@ import com.oceanbase.jdbc.internal.logging.LoggerFactory;
 import com.oceanbase.jdbc.internal.protocol.TimeTrace;
 import com.oceanbase.jdbc.internal.protocol.flt.OceanBaseProtocolV20;
 import com.oceanbase.jdbc.internal.util.Utils;
+import com.oceanbase.jdbc.util.CRC32CProvider;
 import com.oceanbase.jdbc.util.OceanBaseCRC16;
-import com.oceanbase.jdbc.util.OceanBaseCRC32C;
 import com.oceanbase.jdbc.util.Options;
 
 public class Ob20PacketInputStream extends StandardPacketInputStream {
@@ -71,7 +72,7 @@ public class Ob20PacketInputStream extends StandardPacketInputStream {
     private static final Logger logger      = LoggerFactory.getLogger(Ob20PacketInputStream.class);
 
     OceanBaseProtocolV20        ob20;
-    private OceanBaseCRC32C     crc32       = new OceanBaseCRC32C();
+    private Checksum            crc32       = CRC32CProvider.newInstance();
     private boolean             isTailRead  = true;
     private byte[]              headerBytes = new byte[OceanBaseProtocolV20.TOTAL_HEADER_LENGTH];
     private byte[]              tailBytes   = new byte[OceanBaseProtocolV20.OB20_TAIL_LENGTH];
@@ -54,7 +54,9 @@ import java.io.IOException;
 
 import com.oceanbase.jdbc.internal.com.read.Buffer;
 import com.oceanbase.jdbc.internal.io.LruTraceCache;
+import com.oceanbase.jdbc.internal.io.PacketBufferPool;
 import com.oceanbase.jdbc.internal.logging.Logger;
+import com.oceanbase.jdbc.internal.util.metrics.CommandTimer;
 
 public interface PacketInputStream {
 
@@ -72,6 +74,8 @@ public interface PacketInputStream {
 
     void setTraceCache(LruTraceCache traceCache);
 
+    void setCommandTimer(CommandTimer commandTimer);
+
     void enableNetworkStatistics(boolean flag);
 
     long getTimestampAfterRead();
@@ -83,4 +87,11 @@ public interface PacketInputStream {
     void endReceiveResponse(String sql);
 
     Logger getLogger();
+
+    /**
+     * Receive buffer pool of this connection.
+     *
+     * @return pool, or null if option useReceiveBufferPool is not set
+     */
+    PacketBufferPool getBufferPool();
 }
@@ -53,17 +53,22 @@ package com.oceanbase.jdbc.internal.io.input;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Permit to buffer socket data, reading not only asked bytes, but available number of bytes when
  * possible.
+ *
+ * <p>Guarded by a {@link ReentrantLock} rather than a monitor, so a virtual thread blocked on socket
+ * read does not pin its carrier thread.
  */
 public class ReadAheadBufferedStream extends FilterInputStream {
 
-    private static final int BUF_SIZE = 16384;
-    private volatile byte[]  buf;
-    private int              end;
-    private int              pos;
+    private static final int    BUF_SIZE = 16384;
+    private final ReentrantLock lock     = new ReentrantLock();
+    private volatile byte[]     buf;
+    private int                 end;
+    private int                 pos;
 
     public ReadAheadBufferedStream(InputStream in) {
         super(in);
@@ -76,14 +81,19 @@ public class ReadAheadBufferedStream extends FilterInputStream {
      * @return byte value
      * @throws IOException if socket reading error.
      */
-    public synchronized int read() throws IOException {
-        if (pos >= end) {
-            fillBuffer(1);
+    public int read() throws IOException {
+        lock.lock();
+        try {
             if (pos >= end) {
-                return -1;
+                fillBuffer(1);
+                if (pos >= end) {
+                    return -1;
+                }
             }
+            return buf[pos++] & 0xff;
+        } finally {
+            lock.unlock();
         }
-        return buf[pos++] & 0xff;
     }
 
     /**
@@ -95,12 +105,22 @@ public class ReadAheadBufferedStream extends FilterInputStream {
      * @return number of added bytes
      * @throws IOException if exception during socket reading
      */
-    public synchronized int read(byte[] externalBuf, int off, int len) throws IOException {
+    public int read(byte[] externalBuf, int off, int len) throws IOException {
 
         if (len == 0) {
             return 0;
         }
 
+        lock.lock();
+        try {
+            return readLocked(externalBuf, off, len);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int readLocked(byte[] externalBuf, int off, int len) throws IOException {
+
         int totalReads = 0;
         while (true) {
 
@@ -149,15 +169,15 @@ public class ReadAheadBufferedStream extends FilterInputStream {
         pos = 0;
     }
 
-    public synchronized long skip(long n) throws IOException {
+    public long skip(long n) throws IOException {
         throw new IOException("Skip from socket not implemented");
     }
 
-    public synchronized int available() throws IOException {
+    public int available() throws IOException {
         throw new IOException("available from socket not implemented");
     }
 
-    public synchronized void reset() throws IOException {
+    public void reset() throws IOException {
         throw new IOException("reset from socket not implemented");
     }
 
@@ -54,11 +54,15 @@ import java.io.BufferedInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import com.oceanbase.jdbc.internal.ColumnType;
 import com.oceanbase.jdbc.internal.com.read.Buffer;
+import com.oceanbase.jdbc.internal.io.PacketBufferPool;
 import com.oceanbase.jdbc.internal.io.TraceObject;
+import com.oceanbase.jdbc.internal.io.socket.SocketChannelInputStream;
 import com.oceanbase.jdbc.internal.logging.Logger;
 import com.oceanbase.jdbc.internal.logging.LoggerFactory;
 import com.oceanbase.jdbc.internal.protocol.TimeTrace;
@@ -72,6 +76,8 @@ public class StandardPacketInputStream extends AbstractPacketInputStream {
 
     protected byte[]            mysqlHeader = new byte[4];
     protected int               lastPacketLength;
+    // pooled array currently backing the last reusable packet
+    private byte[]              leasedArray;
 
     /**
      * Constructor of standard socket MySQL packet stream reader.
@@ -82,17 +88,28 @@ public class StandardPacketInputStream extends AbstractPacketInputStream {
      */
     public StandardPacketInputStream(InputStream in, long threadId, Options options,
                                      TimeTrace timeTrace) {
-        inputStream = options.useReadAheadInput ? new ReadAheadBufferedStream(in)
-            : new BufferedInputStream(in, 16384);
+        if (in instanceof SocketChannelInputStream) {
+            // already buffered
+            inputStream = in;
+        } else {
+            inputStream = options.useReadAheadInput ? new ReadAheadBufferedStream(in)
+                : new BufferedInputStream(in, 16384);
+        }
         this.maxQuerySizeToLog = options.maxQuerySizeToLog;
         this.threadId = threadId;
         this.timeTrace = timeTrace;
+        if (options.useReceiveBufferPool) {
+            this.bufferPool = new PacketBufferPool(options.receiveBufferPoolSize);
+        }
     }
 
     public StandardPacketInputStream(long threadId, Options options, TimeTrace timeTrace) {
         this.maxQuerySizeToLog = options.maxQuerySizeToLog;
         this.threadId = threadId;
         this.timeTrace = timeTrace;
+        if (options.useReceiveBufferPool) {
+            this.bufferPool = new PacketBufferPool(options.receiveBufferPoolSize);
+        }
     }
 
     @Override
@@ -109,6 +126,7 @@ public class StandardPacketInputStream extends AbstractPacketInputStream {
      * @throws IOException if socket exception occur.
      */
     public byte[] getPacketArray(boolean reUsable) throws IOException {
+        long start = commandTimer != null ? commandTimer.beforeRead() : 0;
         // Read 4 byte mysqlHeader
         readMysqlStream(mysqlHeader, 0, 4);
         if (enableNetworkStatistics) {
@@ -122,9 +140,22 @@ public class StandardPacketInputStream extends AbstractPacketInputStream {
             lastPacketLength, mysqlSeqNo);
 
         // prepare array
+        // a reusable packet is only valid until the next reusable read, so the array leased for
+        // the previous one can go back to the pool now
+        if (reUsable && leasedArray != null) {
+            bufferPool.release(leasedArray);
+            leasedArray = null;
+        }
+
         byte[] mysqlBody;
         if (reUsable && lastPacketLength < REUSABLE_BUFFER_LENGTH) {
             mysqlBody = reusableArray;
+        } else if (reUsable && bufferPool != null && lastPacketLength < MAX_PACKET_SIZE) {
+            mysqlBody = bufferPool.borrow(lastPacketLength);
+            leasedArray = mysqlBody;
+        } else if (bufferPool != null && lastPacketLength == MAX_PACKET_SIZE) {
+            // first chunk of a big packet, only needed until the whole packet is assembled
+            mysqlBody = bufferPool.borrow(lastPacketLength);
         } else {
             mysqlBody = new byte[lastPacketLength];
         }
@@ -135,25 +166,54 @@ public class StandardPacketInputStream extends AbstractPacketInputStream {
 
         // In case content length is big, content will be separate in many 16Mb packets
         if (lastPacketLength == MAX_PACKET_SIZE) {
-            int packetLength;
-            do {
-                readMysqlStream(mysqlHeader, 0, 4);
-                packetLength = (mysqlHeader[0] & 0xff) + ((mysqlHeader[1] & 0xff) << 8)
-                               + ((mysqlHeader[2] & 0xff) << 16);
-                mysqlSeqNo = mysqlHeader[3] & 0xff;
-
-                int currentBufferLength = mysqlBody.length;
-                byte[] newRawBytes = new byte[currentBufferLength + packetLength];
-                System.arraycopy(mysqlBody, 0, newRawBytes, 0, currentBufferLength);
-                mysqlBody = newRawBytes;
-
-                readMysqlStream(mysqlBody, currentBufferLength, packetLength);
-                lastPacketLength += packetLength;
-
-                doTrace(currentBufferLength, packetLength, mysqlBody);
-            } while (packetLength == MAX_PACKET_SIZE);
+            mysqlBody = readContinuationPackets(mysqlBody);
         }
 
+        if (commandTimer != null) {
+            commandTimer.afterRead(start, lastPacketLength + 4);
+        }
+        return mysqlBody;
+    }
+
+    /**
+     * Read the following 16Mb packets of a big packet. Each chunk is read in its own array and the
+     * whole packet is assembled once at the end, so every byte is copied a single time whatever the
+     * number of chunks.
+     *
+     * @param firstChunk first 16Mb of packet
+     * @return complete packet
+     * @throws IOException if socket exception occur.
+     */
+    private byte[] readContinuationPackets(byte[] firstChunk) throws IOException {
+        List<byte[]> chunks = new ArrayList<>();
+        chunks.add(firstChunk);
+        int packetLength;
+        do {
+            readMysqlStream(mysqlHeader, 0, 4);
+            packetLength = (mysqlHeader[0] & 0xff) + ((mysqlHeader[1] & 0xff) << 8)
+                           + ((mysqlHeader[2] & 0xff) << 16);
+            mysqlSeqNo = mysqlHeader[3] & 0xff;
+
+            byte[] chunk = bufferPool != null ? bufferPool.borrow(packetLength)
+                : new byte[packetLength];
+            readMysqlStream(chunk, 0, packetLength);
+            doTrace(0, packetLength, chunk);
+
+            chunks.add(chunk);
+            lastPacketLength += packetLength;
+        } while (packetLength == MAX_PACKET_SIZE);
+
+        // all chunks are 16Mb long, except the last one
+        byte[] mysqlBody = new byte[lastPacketLength];
+        int pos = 0;
+        for (byte[] chunk : chunks) {
+            int length = Math.min(MAX_PACKET_SIZE, lastPacketLength - pos);
+            System.arraycopy(chunk, 0, mysqlBody, pos, length);
+            pos += length;
+            if (bufferPool != null) {
+                bufferPool.release(chunk);
+            }
+        }
         return mysqlBody;
     }
 
@@ -64,6 +64,7 @@ import com.oceanbase.jdbc.internal.io.LruTraceCache;
 import com.oceanbase.jdbc.internal.protocol.TimeTrace;
 import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.internal.util.exceptions.MaxAllowedPacketException;
+import com.oceanbase.jdbc.internal.util.metrics.CommandTimer;
 
 public abstract class AbstractPacketOutputStream extends FilterOutputStream implements
                                                                            PacketOutputStream {
@@ -98,6 +99,8 @@ public abstract class AbstractPacketOutputStream extends FilterOutputStream impl
     private TimeZone          tm                         = null;
     protected Charset         charset                    = null;
     private TimeTrace         timeTrace;
+    private CommandTimer      commandTimer;
+    private boolean           commandPending;
     private boolean           encloseParamInParentheses;
     private boolean           isOracleMode;
     protected List<byte[]>    sendPacketBufList;
@@ -110,7 +113,8 @@ public abstract class AbstractPacketOutputStream extends FilterOutputStream impl
      * @param threadId thread id
      */
     public AbstractPacketOutputStream(OutputStream out, int maxQuerySizeToLog, long threadId,
-                                      String encoding, TimeTrace timeTrace, boolean encloseParamInParentheses) {
+                                      String encoding, TimeTrace timeTrace,
+                                      boolean encloseParamInParentheses) {
         super(out);
         buf = new byte[SMALL_BUFFER_SIZE];
         this.maxQuerySizeToLog = maxQuerySizeToLog;
@@ -517,6 +521,10 @@ public abstract class AbstractPacketOutputStream extends FilterOutputStream impl
             }
         }
         buf[pos++] = (byte) value;
+        if (commandPending) {
+            commandPending = false;
+            commandTimer.command(value);
+        }
     }
 
     public void write(byte[] arr) throws IOException {
@@ -1148,16 +1156,36 @@ public abstract class AbstractPacketOutputStream extends FilterOutputStream impl
         pos = val;
     }
 
-    public void startSendRequest() {
+    /**
+     * Packet start.
+     *
+     * @param seqNo packet sequence, 0 for a new command
+     */
+    public void startSendRequest(int seqNo) {
         if (timeTrace != null) {
             timeTrace.startSendRequest();
         }
+        if (commandTimer != null && seqNo == 0) {
+            commandTimer.startSend();
+            commandPending = true;
+        }
     }
 
     public void endSendRequest() {
         if (timeTrace != null) {
             timeTrace.endSendRequest();
         }
+        if (commandTimer != null) {
+            commandTimer.endSend(cmdLength);
+        }
+    }
+
+    public void setCommandTimer(CommandTimer commandTimer) {
+        this.commandTimer = commandTimer;
+    }
+
+    public CommandTimer getCommandTimer() {
+        return commandTimer;
     }
 
     public boolean isEncloseParamInParentheses() {
@@ -53,6 +53,7 @@ package com.oceanbase.jdbc.internal.io.output;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Arrays;
+import java.util.zip.Checksum;
 
 import com.oceanbase.jdbc.internal.com.read.Buffer;
 import com.oceanbase.jdbc.internal.io.TraceObject;
@@ -62,8 +63,8 @@ import com.oceanbase.jdbc.internal.protocol.TimeTrace;
 import com.oceanbase.jdbc.internal.protocol.flt.OceanBaseProtocolV20;
 import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.internal.util.exceptions.MaxAllowedPacketException;
+import com.oceanbase.jdbc.util.CRC32CProvider;
 import com.oceanbase.jdbc.util.OceanBaseCRC16;
-import com.oceanbase.jdbc.util.OceanBaseCRC32C;
 import com.oceanbase.jdbc.util.Options;
 
 public class Ob20PacketOutputStream extends AbstractPacketOutputStream {
@@ -76,16 +77,19 @@ public class Ob20PacketOutputStream extends AbstractPacketOutputStream {
                                                       - OceanBaseProtocolV20.OB20_HEADER_LENGTH
                                                       - OceanBaseProtocolV20.OB20_TAIL_LENGTH;
     private static final int     PROTO20_SPLIT_LEN  = MAX_PAYLOAD_LENGTH;
+    private static final int     MAX_REUSED_LENGTH  = 1024 * 1024;
 
     private OceanBaseProtocolV20 ob20;
-    private OceanBaseCRC32C      crc32              = new OceanBaseCRC32C();
+    private Checksum             crc32              = CRC32CProvider.newInstance();
     private boolean              enableOb20Checksum;
     byte[]                       outBytes;
     private int                  totalPacketLength;
+    private byte[]               packetBuffer       = new byte[0];
 
     public Ob20PacketOutputStream(OutputStream out, long threadId, Options options,
                                   OceanBaseProtocolV20 ob20, TimeTrace timeTrace) {
-        super(out, options.maxQuerySizeToLog, threadId, options.getCharacterEncoding(), timeTrace, options.encloseParamInParentheses);
+        super(out, options.maxQuerySizeToLog, threadId, options.getCharacterEncoding(), timeTrace,
+            options.encloseParamInParentheses);
         maxPacketLength = MAX_PACKET_LENGTH;
         this.ob20 = ob20;
         this.enableOb20Checksum = options.enableOb20Checksum;
@@ -102,7 +106,7 @@ public class Ob20PacketOutputStream extends AbstractPacketOutputStream {
         mysqlSeqNo = 0;
         pos = 0;
         cmdLength = 0;
-        startSendRequest();
+        startSendRequest(compressSeqNo);
     }
 
     @Override
@@ -116,9 +120,8 @@ public class Ob20PacketOutputStream extends AbstractPacketOutputStream {
             int extraPayloadLength = 0;
             int basicPayloadLength = OceanBaseProtocolV20.MYSQL_PACKET_HEADER + pos;
             int totalPayloadLength = basicPayloadLength;
-            byte[] totalPayload;
 
-            // prepare whole payload
+            // whole payload is extra info and mysql packet header, followed by buf content
             if (ob20.isExtraInfoExist()) {
                 ob20.setExtraInfoLength();
                 extraPayloadLength = (int) (OceanBaseProtocolV20.OB20_EXTRA_LENGTH + ob20.extraInfo.extraLength);
@@ -128,16 +131,14 @@ public class Ob20PacketOutputStream extends AbstractPacketOutputStream {
                 if (extraPayloadLength > PROTO20_SPLIT_LEN) {
                     throw new IOException("Extra info is larger than PROTO20_SPLIT_LEN");
                 }
-
-                totalPayload = new byte[totalPayloadLength];
-                Buffer tmpBuf = new Buffer(totalPayload);
+            }
+            byte[] payloadPrefix = new byte[extraPayloadLength
+                                            + OceanBaseProtocolV20.MYSQL_PACKET_HEADER];
+            Buffer tmpBuf = new Buffer(payloadPrefix);
+            if (ob20.isExtraInfoExist()) {
                 fillOb20ExtraInfo(tmpBuf);
-                fillOb20BasicInfo(tmpBuf);
-            } else {
-                totalPayload = new byte[totalPayloadLength];
-                Buffer tmpBuf = new Buffer(totalPayload);
-                fillOb20BasicInfo(tmpBuf);
             }
+            fillOb20BasicInfo(tmpBuf);
 
             // fields won't change in several ob20 packets which belongs to one request
             ob20.header.connectionId = threadId;
@@ -178,16 +179,16 @@ public class Ob20PacketOutputStream extends AbstractPacketOutputStream {
                 // write into output stream
                 totalPacketLength = OceanBaseProtocolV20.COMPRESS_HEADER_LENGTH
                                     + ob20.header.compressLength;
-                outBytes = new byte[totalPacketLength];
+                outBytes = packetBuffer(totalPacketLength);
                 Buffer outBuffer = new Buffer(outBytes);
 
                 writeOb20Header(outBuffer);
 
-                outBuffer.writeBytes(totalPayload, totalPayloadPos, uncompressSize);
+                crc32.reset();
+                writePayload(outBuffer, payloadPrefix, totalPayloadPos, uncompressSize);
                 totalPayloadPos += uncompressSize;
 
-                writeOb20TailChecksum(outBuffer, totalPayload, totalPayloadPos - uncompressSize,
-                    uncompressSize);
+                writeOb20TailChecksum(outBuffer);
 
                 logger.debug("prepare to send: {}", headerToString());
                 out.write(outBytes, 0, totalPacketLength);
@@ -230,7 +231,7 @@ public class Ob20PacketOutputStream extends AbstractPacketOutputStream {
 
         totalPacketLength = OceanBaseProtocolV20.COMPRESS_HEADER_LENGTH
                             + ob20.header.compressLength;
-        outBytes = new byte[totalPacketLength];
+        outBytes = packetBuffer(totalPacketLength);
         Buffer outBuffer = new Buffer(outBytes);
 
         writeOb20Header(outBuffer);
@@ -241,9 +242,10 @@ public class Ob20PacketOutputStream extends AbstractPacketOutputStream {
         totalPayload[1] = (byte) 0x00;
         totalPayload[2] = (byte) 0x00;
         totalPayload[3] = (byte) mysqlSeqNo++; // mysql packet seq
-        outBuffer.writeBytes(totalPayload, 0, OceanBaseProtocolV20.MYSQL_PACKET_HEADER);
+        crc32.reset();
+        writePayloadPart(outBuffer, totalPayload, 0, OceanBaseProtocolV20.MYSQL_PACKET_HEADER);
 
-        writeOb20TailChecksum(outBuffer, totalPayload, 0, OceanBaseProtocolV20.MYSQL_PACKET_HEADER);
+        writeOb20TailChecksum(outBuffer);
 
         logger.debug("prepare to send: {}", headerToString());
         out.write(outBytes, 0, totalPacketLength);
@@ -295,14 +297,58 @@ public class Ob20PacketOutputStream extends AbstractPacketOutputStream {
         outBuffer.writeLongInt(pos);
         outBuffer.writeByte((byte) mysqlSeqNo++);
         checkMaxAllowedLength(pos);
-        outBuffer.writeBytes(buf, 0, pos);
         cmdLength += pos;
     }
 
-    private void writeOb20TailChecksum(Buffer outBuffer, byte[] payload, int pos, int len) {
+    /**
+     * Get array for next ob20 packet, reusing the same array unless for huge packets.
+     *
+     * @param length packet length
+     * @return array
+     */
+    private byte[] packetBuffer(int length) {
+        if (packetBuffer.length >= length) {
+            return packetBuffer;
+        }
+        byte[] arr = new byte[length];
+        if (length <= MAX_REUSED_LENGTH) {
+            packetBuffer = arr;
+        }
+        return arr;
+    }
+
+    /**
+     * Write part of the payload in packet, payload being the prefix (extra info and mysql packet
+     * header) followed by buf content. Tail checksum is updated with the written bytes.
+     *
+     * @param outBuffer packet
+     * @param prefix payload prefix
+     * @param from position in payload
+     * @param len length to write
+     */
+    private void writePayload(Buffer outBuffer, byte[] prefix, int from, int len) {
+        int remaining = len;
+        int payloadPos = from;
+        if (payloadPos < prefix.length) {
+            int prefixLength = Math.min(remaining, prefix.length - payloadPos);
+            writePayloadPart(outBuffer, prefix, payloadPos, prefixLength);
+            payloadPos += prefixLength;
+            remaining -= prefixLength;
+        }
+        if (remaining > 0) {
+            writePayloadPart(outBuffer, buf, payloadPos - prefix.length, remaining);
+        }
+    }
+
+    private void writePayloadPart(Buffer outBuffer, byte[] src, int off, int len) {
+        outBuffer.writeBytes(src, off, len);
+        if (enableOb20Checksum) {
+            crc32.update(src, off, len);
+        }
+    }
+
+    private void writeOb20TailChecksum(Buffer outBuffer) {
         if (enableOb20Checksum) {
-            crc32.reset();
-            crc32.update(payload, pos, len);
             ob20.tailChecksum = crc32.getValue();
         } else {
             ob20.tailChecksum = 0;
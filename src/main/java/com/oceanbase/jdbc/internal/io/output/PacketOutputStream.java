@@ -59,6 +59,7 @@ import java.util.TimeZone;
 
 import com.oceanbase.jdbc.internal.io.LruTraceCache;
 import com.oceanbase.jdbc.internal.util.exceptions.MaxAllowedPacketException;
+import com.oceanbase.jdbc.internal.util.metrics.CommandTimer;
 
 @SuppressWarnings("RedundantThrows")
 public interface PacketOutputStream {
@@ -134,6 +135,10 @@ public interface PacketOutputStream {
 
     void setTraceCache(LruTraceCache traceCache);
 
+    void setCommandTimer(CommandTimer commandTimer);
+
+    CommandTimer getCommandTimer();
+
     void mark() throws MaxAllowedPacketException;
 
     boolean isMarked();
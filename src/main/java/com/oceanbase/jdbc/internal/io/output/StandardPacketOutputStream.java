@@ -56,6 +56,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 
 import com.oceanbase.jdbc.internal.io.TraceObject;
+import com.oceanbase.jdbc.internal.io.socket.SocketChannelOutputStream;
 import com.oceanbase.jdbc.internal.logging.Logger;
 import com.oceanbase.jdbc.internal.logging.LoggerFactory;
 import com.oceanbase.jdbc.internal.protocol.TimeTrace;
@@ -72,7 +73,8 @@ public class StandardPacketOutputStream extends AbstractPacketOutputStream {
 
     public StandardPacketOutputStream(OutputStream out, long threadId, Options options,
                                       TimeTrace timeTrace) {
-        super(out, options.maxQuerySizeToLog, threadId, options.getCharacterEncoding(), timeTrace, options.encloseParamInParentheses);
+        super(out, options.maxQuerySizeToLog, threadId, options.getCharacterEncoding(), timeTrace,
+            options.encloseParamInParentheses);
         maxPacketLength = MAX_PACKET_LENGTH;
     }
 
@@ -81,7 +83,7 @@ public class StandardPacketOutputStream extends AbstractPacketOutputStream {
         mysqlSeqNo = seqNo;
         pos = 4;
         cmdLength = 0;
-        startSendRequest();
+        startSendRequest(seqNo);
     }
 
     @Override
@@ -134,12 +136,18 @@ public class StandardPacketOutputStream extends AbstractPacketOutputStream {
                 sendPacketBufList.add(bytes);
             } else {
                 if(sendPacketBufList != null && !sendPacketBufList.isEmpty()) {
-                    for (byte[] bytes : sendPacketBufList) {
-                        out.write(bytes);
+                    if (out instanceof SocketChannelOutputStream) {
+                        ((SocketChannelOutputStream) out).write(sendPacketBufList, buf, pos);
+                    } else {
+                        for (byte[] bytes : sendPacketBufList) {
+                            out.write(bytes);
+                        }
+                        out.write(buf, 0, pos);
                     }
                     sendPacketBufList.clear();
+                } else {
+                    out.write(buf, 0, pos);
                 }
-                out.write(buf, 0, pos);
             }
 
             doTrace(pos);
@@ -0,0 +1,133 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.io.socket;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.Selector;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wait for a non-blocking channel to be ready for one operation. Selector is created on first wait,
+ * and closing wakes up a waiting thread.
+ */
+final class ChannelSelector {
+
+    private final SelectableChannel channel;
+    private final int               ops;
+    private volatile Selector       selector;
+    private volatile boolean        closed;
+
+    ChannelSelector(SelectableChannel channel, int ops) {
+        this.channel = channel;
+        this.ops = ops;
+    }
+
+    /**
+     * Wait until channel is ready.
+     *
+     * @param timeoutMillis maximum wait time, 0 meaning no limit
+     * @param timeoutMessage message of exception thrown on timeout
+     * @throws IOException if timeout is reached, thread is interrupted, or selector is closed
+     */
+    void await(int timeoutMillis, String timeoutMessage) throws IOException {
+        Selector current = selector;
+        if (current == null) {
+            current = Selector.open();
+            channel.register(current, ops);
+            selector = current;
+            // close() may have missed this selector
+            if (closed) {
+                current.close();
+                throw new SocketException("Socket closed");
+            }
+        }
+
+        long deadline = timeoutMillis > 0 ? System.nanoTime()
+                                            + TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : 0;
+        try {
+            while (true) {
+                long wait = 0;
+                if (timeoutMillis > 0) {
+                    wait = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (wait <= 0) {
+                        throw new SocketTimeoutException(timeoutMessage);
+                    }
+                }
+                if (current.select(wait) > 0) {
+                    current.selectedKeys().clear();
+                    return;
+                }
+                if (closed) {
+                    throw new SocketException("Socket closed");
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Interrupted while waiting for socket");
+                }
+            }
+        } catch (ClosedSelectorException cse) {
+            throw new SocketException("Socket closed");
+        }
+    }
+
+    /** Close selector, waking up waiting thread if any. */
+    void close() throws IOException {
+        closed = true;
+        Selector current = selector;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.io.socket;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+/**
+ * Output stream writing to a non-blocking socket channel through a direct buffer. Data is always
+ * sent before write returns, like a socket stream, so no flush is needed.
+ *
+ * <p>Writing heap buffers directly to a channel would make the JDK cache a temporary direct buffer
+ * as big as the biggest packet for each thread. This stream copies data to its own fixed-size
+ * direct buffer instead.
+ */
+public class SocketChannelOutputStream extends OutputStream {
+
+    private static final int      BUF_SIZE = 65536;
+
+    private final SocketChannel   channel;
+    private final ChannelSelector writeSelector;
+    private final ByteBuffer      buffer;
+
+    /**
+     * Constructor.
+     *
+     * @param channel non-blocking connected channel
+     */
+    public SocketChannelOutputStream(SocketChannel channel) {
+        this.channel = channel;
+        this.writeSelector = new ChannelSelector(channel, SelectionKey.OP_WRITE);
+        this.buffer = ByteBuffer.allocateDirect(BUF_SIZE);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        buffer.put((byte) b);
+        drain();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        append(b, off, len);
+        drain();
+    }
+
+    /**
+     * Gather write: packets are copied one after the other in direct buffer, and sent together,
+     * instead of one socket write by packet.
+     *
+     * @param packets complete packets
+     * @param last last packet array
+     * @param lastLength last packet length
+     * @throws IOException if socket error occur
+     */
+    public void write(List<byte[]> packets, byte[] last, int lastLength) throws IOException {
+        for (byte[] packet : packets) {
+            append(packet, 0, packet.length);
+        }
+        append(last, 0, lastLength);
+        drain();
+    }
+
+    private void append(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            int length = Math.min(len, buffer.remaining());
+            buffer.put(b, off, length);
+            off += length;
+            len -= length;
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.write(buffer) == 0) {
+                    writeSelector.await(0, "Write timed out");
+                }
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeSelector.close();
+        } finally {
+            channel.close();
+        }
+    }
+}
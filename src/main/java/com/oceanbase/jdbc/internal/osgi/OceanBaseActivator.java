@@ -63,6 +63,7 @@ import org.osgi.service.jdbc.DataSourceFactory;
 import com.oceanbase.jdbc.Driver;
 import com.oceanbase.jdbc.OceanBaseDatabaseMetaData;
 import com.oceanbase.jdbc.internal.util.constant.Version;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics;
 import com.oceanbase.jdbc.internal.util.scheduler.SchedulerServiceProviderHolder;
 
 /** The MariaDbActivator registers the JDBC Service with the OSGi-Framework. */
@@ -91,6 +92,7 @@ public class OceanBaseActivator implements BundleActivator {
         try {
             DriverManager.getDriver("jdbc:oceanbase:");
             SchedulerServiceProviderHolder.close();
+            DriverMetrics.getInstance().stopExporters();
         } catch (SQLException sqle) {
             // eat "No suitable driver"
         }
@@ -60,6 +60,7 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
@@ -92,6 +93,8 @@ import com.oceanbase.jdbc.internal.com.send.SendSslConnectionRequestPacket;
 import com.oceanbase.jdbc.internal.com.send.authentication.OldPasswordPlugin;
 import com.oceanbase.jdbc.internal.failover.FailoverProxy;
 import com.oceanbase.jdbc.internal.io.LruTraceCache;
+import com.oceanbase.jdbc.internal.io.compress.CompressionCodec;
+import com.oceanbase.jdbc.internal.io.compress.CompressionCodecFactory;
 import com.oceanbase.jdbc.internal.io.input.DecompressPacketInputStream;
 import com.oceanbase.jdbc.internal.io.input.Ob20PacketInputStream;
 import com.oceanbase.jdbc.internal.io.input.PacketInputStream;
@@ -101,14 +104,19 @@ import com.oceanbase.jdbc.internal.io.output.Ob20PacketOutputStream;
 import com.oceanbase.jdbc.internal.io.output.PacketOutputStream;
 import com.oceanbase.jdbc.internal.io.output.StandardPacketOutputStream;
 import com.oceanbase.jdbc.internal.io.socket.OBProxyVCSocket;
+import com.oceanbase.jdbc.internal.io.socket.SocketChannelInputStream;
+import com.oceanbase.jdbc.internal.io.socket.SocketChannelOutputStream;
 import com.oceanbase.jdbc.internal.logging.Logger;
 import com.oceanbase.jdbc.internal.logging.LoggerFactory;
 import com.oceanbase.jdbc.internal.protocol.flt.FullLinkTrace;
 import com.oceanbase.jdbc.internal.protocol.flt.OceanBaseProtocolV20;
+import com.oceanbase.jdbc.internal.util.PrepareStatementCache;
 import com.oceanbase.jdbc.internal.util.ServerPrepareStatementCache;
 import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.internal.util.constant.*;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
+import com.oceanbase.jdbc.internal.util.metrics.CommandTimer;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics;
 import com.oceanbase.jdbc.internal.util.pool.GlobalStateInfo;
 import com.oceanbase.jdbc.tls.TlsSocketPlugin;
 import com.oceanbase.jdbc.tls.TlsSocketPluginLoader;
@@ -116,80 +124,83 @@ import com.oceanbase.jdbc.util.Options;
 
 public abstract class AbstractConnectProtocol implements Protocol {
 
-    protected static final Logger lockLogger = LoggerFactory.getLogger("JDBC-COST-LOGGER");
-
-    private static final String           SESSION_QUERY                = ("SELECT @@max_allowed_packet,"
-                                                                          + "@@system_time_zone,"
-                                                                          + "@@time_zone,"
-                                                                          + "@@auto_increment_increment,"
-                                                                          + "@@tx_isolation AS tx_isolation,"
-                                                                          + "@@session.tx_read_only AS tx_read_only");
-    private static final String           SESSION_QUERY_ORACLE         = ("SELECT @@max_allowed_packet,"
-                                                                          + "@@system_time_zone,"
-                                                                          + "@@time_zone,"
-                                                                          + "@@auto_increment_increment,"
-                                                                          + "@@tx_isolation AS tx_isolation,"
-                                                                          + "@@session.tx_read_only AS tx_read_only "
-                                                                          + "from dual");
-    private static final String           OB_VERSION_ORACLE_MODE       = ("select @@version_comment, @@version, ob_version() from dual where rownum <= 1");
-    private static final String           OB_VERSION_MYSQL_MODE        = ("select @@version_comment, @@version, ob_version() limit 1");
-    private static final String           IS_MASTER_QUERY              = "select @@innodb_read_only";
-    protected static final String         CHECK_GALERA_STATE_QUERY     = "show status like 'wsrep_local_state'";
-    private static final String           ALTER_SESSION_TIMEZONE_QUERY = "ALTER SESSION SET TIME_ZONE='";
-    private static final Logger           logger                       = LoggerFactory
-                                                                           .getLogger(AbstractConnectProtocol.class);
-    protected final ReentrantLock         lock;
-    protected final UrlParser             urlParser;
-    protected final Options               options;
-    protected final LruTraceCache         traceCache;
-    protected String                      username;
-    private final GlobalStateInfo         globalInfo;
-    public boolean                        hasWarnings;
-    public Results                        activeStreamingResult        = null;
-    public short                          serverStatus;
-    protected int                         autoIncrementIncrement;
-    protected Socket                      socket;
-    protected PacketOutputStream          writer;
-    protected boolean                     readOnly;
-    protected PacketInputStream           reader;
-    protected FailoverProxy               proxy;
-    protected volatile boolean            connected;
-    protected boolean                     explicitClosed;
-    protected String                      database;
-    protected long                        serverThreadId;
-    protected ServerPrepareStatementCache serverPrepareStatementCache;
-    protected boolean                     eofDeprecated;
-    protected long                        serverCapabilities;
-    protected int                         socketTimeout;
-    protected ExceptionFactory            exceptionFactory;
-    protected final List<String>          galeraAllowedStates;
-    private HostAddress                   currentHost;
-    private boolean                       hostFailed;
-    private boolean                       serverMariaDb;
-    protected String                      serverVersion;
-    private int                           majorVersion;
-    private int                           minorVersion;
-    private int                           patchVersion;
-    private String                        obServerVersion;
-    private TimeZone                      timeZone;
-    private TimeZone                      serverTimeZone;
-    private boolean                       isOracleMode; // is server in oracle mode
-    private boolean                       importedTimeZoneTables; // is server time zone imported
-    public boolean                        autoCommit;
-    public int                            transactionIsolationLevel;
-    protected byte[]                      seed;
-    long                                  clientCapabilities;
-    String                                authenticationPluginType;
-    byte                                  exchangeCharset;
-    String                                host;
-
-    protected boolean                     useOceanBaseProtocolV20;
-    protected boolean                     enableFullLinkTrace;
-    protected boolean                     useNewExtraInfo;
-    protected boolean                     useNewResultSetMetaData;
-    OceanBaseProtocolV20                  ob20;
-    FullLinkTrace                         fullLinkTrace;
-    TimeTrace                             timeTrace;
+    protected static final Logger   lockLogger                   = LoggerFactory
+                                                                     .getLogger("JDBC-COST-LOGGER");
+
+    private static final String     SESSION_QUERY                = ("SELECT @@max_allowed_packet,"
+                                                                    + "@@system_time_zone,"
+                                                                    + "@@time_zone,"
+                                                                    + "@@auto_increment_increment,"
+                                                                    + "@@tx_isolation AS tx_isolation,"
+                                                                    + "@@session.tx_read_only AS tx_read_only");
+    private static final String     SESSION_QUERY_ORACLE         = ("SELECT @@max_allowed_packet,"
+                                                                    + "@@system_time_zone,"
+                                                                    + "@@time_zone,"
+                                                                    + "@@auto_increment_increment,"
+                                                                    + "@@tx_isolation AS tx_isolation,"
+                                                                    + "@@session.tx_read_only AS tx_read_only "
+                                                                    + "from dual");
+    private static final String     OB_VERSION_ORACLE_MODE       = ("select @@version_comment, @@version, ob_version() from dual where rownum <= 1");
+    private static final String     OB_VERSION_MYSQL_MODE        = ("select @@version_comment, @@version, ob_version() limit 1");
+    private static final String     IS_MASTER_QUERY              = "select @@innodb_read_only";
+    protected static final String   CHECK_GALERA_STATE_QUERY     = "show status like 'wsrep_local_state'";
+    private static final String     ALTER_SESSION_TIMEZONE_QUERY = "ALTER SESSION SET TIME_ZONE='";
+    private static final Logger     logger                       = LoggerFactory
+                                                                     .getLogger(AbstractConnectProtocol.class);
+    protected final ReentrantLock   lock;
+    protected final UrlParser       urlParser;
+    protected final Options         options;
+    protected final LruTraceCache   traceCache;
+    protected String                username;
+    private final GlobalStateInfo   globalInfo;
+    public boolean                  hasWarnings;
+    public Results                  activeStreamingResult        = null;
+    public short                    serverStatus;
+    protected int                   autoIncrementIncrement;
+    protected Socket                socket;
+    protected PacketOutputStream    writer;
+    protected boolean               readOnly;
+    protected PacketInputStream     reader;
+    protected FailoverProxy         proxy;
+    protected CompressionCodec      compressionCodec;
+    protected volatile boolean      connected;
+    protected boolean               explicitClosed;
+    protected String                database;
+    protected long                  serverThreadId;
+    protected PrepareStatementCache serverPrepareStatementCache;
+    protected boolean               eofDeprecated;
+    protected long                  serverCapabilities;
+    protected int                   socketTimeout;
+    protected ExceptionFactory      exceptionFactory;
+    protected final List<String>    galeraAllowedStates;
+    private HostAddress             currentHost;
+    private boolean                 hostFailed;
+    private boolean                 serverMariaDb;
+    protected String                serverVersion;
+    private int                     majorVersion;
+    private int                     minorVersion;
+    private int                     patchVersion;
+    private String                  obServerVersion;
+    private TimeZone                timeZone;
+    private TimeZone                serverTimeZone;
+    private boolean                 isOracleMode;                                                                                                    // is server in oracle mode
+    private boolean                 importedTimeZoneTables;                                                                                          // is server time zone imported
+    public boolean                  autoCommit;
+    public int                      transactionIsolationLevel;
+    protected byte[]                seed;
+    long                            clientCapabilities;
+    String                          authenticationPluginType;
+    byte                            exchangeCharset;
+    String                          host;
+
+    protected boolean               useOceanBaseProtocolV20;
+    protected boolean               enableFullLinkTrace;
+    protected boolean               useNewExtraInfo;
+    protected boolean               useNewResultSetMetaData;
+    OceanBaseProtocolV20            ob20;
+    FullLinkTrace                   fullLinkTrace;
+    TimeTrace                       timeTrace;
+    private CommandTimer            commandTimer;
 
     /**
      * Get a protocol instance.
@@ -211,7 +222,7 @@ public abstract class AbstractConnectProtocol implements Protocol {
         this.globalInfo = globalInfo;
         if (options.cachePrepStmts && options.useServerPrepStmts) {
             serverPrepareStatementCache = ServerPrepareStatementCache.newInstance(
-                options.prepStmtCacheSize, this);
+                options.prepStmtCacheSize, this, options.useTinyLfuPrepStmtCache);
         }
         galeraAllowedStates = urlParser.getOptions().galeraAllowedState == null ? Collections
             .emptyList() : Arrays.asList(urlParser.getOptions().galeraAllowedState.split(","));
@@ -578,6 +589,10 @@ public abstract class AbstractConnectProtocol implements Protocol {
             byte exchangeCharset = decideLanguage(greetingPacket.getServerLanguage() & 0xFF);
             long clientCapabilities = initializeClientCapabilities(options, serverCapabilities,
                 database);
+            if (options.useCompression) {
+                compressionCodec = CompressionCodecFactory.create(options, serverCapabilities);
+                clientCapabilities |= compressionCodec.getCapability();
+            }
             exceptionFactory = ExceptionFactory.of(serverThreadId, options);
 
             sslWrapper(host, socket, options, greetingPacket.getServerCapabilities(),
@@ -722,7 +737,7 @@ public abstract class AbstractConnectProtocol implements Protocol {
         // send Client Handshake Response
         String clientIp = this.socket.getLocalAddress().getHostAddress();
         if ((serverCapabilities & OceanBaseCapabilityFlag.CLIENT_LOCAL_FILES) != 0) {
-            clientCapabilities |=  (OceanBaseCapabilityFlag.CLIENT_LOCAL_FILES);
+            clientCapabilities |= (OceanBaseCapabilityFlag.CLIENT_LOCAL_FILES);
         }
         SendHandshakeResponsePacket.send(writer, credential, host, database, clientCapabilities,
             serverCapabilities, exchangeCharset, (byte) (Boolean.TRUE.equals(options.useSsl) ? 0x02
@@ -799,9 +814,10 @@ public abstract class AbstractConnectProtocol implements Protocol {
                                     .getErrorCode());
                     }
                     if (this.options.useProxyUser && errorPacket.getErrorCode() == 1235) {
-                        throw exceptionFactory.create(errorPacket.getMessage() +
-                                        ", please remove \"&useProxyUser=true\" from your URL.",
-                                errorPacket.getSqlState(), errorPacket.getErrorCode());
+                        throw exceptionFactory.create(
+                            errorPacket.getMessage()
+                                    + ", please remove \"&useProxyUser=true\" from your URL.",
+                            errorPacket.getSqlState(), errorPacket.getErrorCode());
                     }
                     throw exceptionFactory.create(errorPacket.getMessage(),
                         errorPacket.getSqlState(), errorPacket.getErrorCode());
@@ -829,7 +845,8 @@ public abstract class AbstractConnectProtocol implements Protocol {
                     }
                     if (sessionStateAware()) {
                         buffer.skipLengthEncodedBytes(); // human readable status information
-                        if (buffer.remaining() > 0 && (serverStatus & ServerStatus.SERVER_SESSION_STATE_CHANGED) != 0) {
+                        if (buffer.remaining() > 0
+                            && (serverStatus & ServerStatus.SERVER_SESSION_STATE_CHANGED) != 0) {
                             // session state changes
                             int totalLength = (int) buffer.getLengthEncodedNumeric();
                             int readLength = 0;
@@ -874,7 +891,8 @@ public abstract class AbstractConnectProtocol implements Protocol {
                                         // TODO: process nls_format
 
                                         // process ob_capability_flag
-                                        if (name.equals(SendHandshakeResponsePacket.OB_CAPABILITY_FLAG)) {
+                                        if (name
+                                            .equals(SendHandshakeResponsePacket.OB_CAPABILITY_FLAG)) {
                                             useOceanBaseProtocolV20 = ((Long.parseLong(value) & OceanBaseCapabilityFlag.OB_CAP_OB_PROTOCOL_V2) != 0);
                                             enableFullLinkTrace = useOceanBaseProtocolV20
                                                                   && ((Long.parseLong(value) & OceanBaseCapabilityFlag.OB_CAP_FULL_LINK_TRACE) != 0); // full link trace require for OB2.0 protocol
@@ -882,7 +900,8 @@ public abstract class AbstractConnectProtocol implements Protocol {
                                         }
 
                                         // process __ob_client_capability_flag
-                                        if (name.equals(SendHandshakeResponsePacket.OB_CLIENT_CAPABILITY_FLAG)) {
+                                        if (name
+                                            .equals(SendHandshakeResponsePacket.OB_CLIENT_CAPABILITY_FLAG)) {
                                             useNewResultSetMetaData = ((Long.parseLong(value) & OceanBaseCapabilityFlag.OB_CAP_USE_NEW_RESULTSET_METADATA) != 0);
                                         }
                                         break;
@@ -907,6 +926,10 @@ public abstract class AbstractConnectProtocol implements Protocol {
 
     private void compressionHandler(Options options) throws IOException {
         if (useOceanBaseProtocolV20) {
+            if (compressionCodec != null) {
+                compressionCodec.close();
+                compressionCodec = null;
+            }
             ob20 = new OceanBaseProtocolV20(useNewExtraInfo);
             writer = new Ob20PacketOutputStream(writer.getOutputStream(), serverThreadId, options,
                 ob20, timeTrace);
@@ -920,10 +943,10 @@ public abstract class AbstractConnectProtocol implements Protocol {
             }
         } else if (options.useCompression) {
             writer = new CompressPacketOutputStream(writer.getOutputStream(), serverThreadId,
-                options, timeTrace);
+                options, timeTrace, compressionCodec);
             reader = new DecompressPacketInputStream(
                 ((StandardPacketInputStream) reader).getInputStream(), serverThreadId, options,
-                timeTrace);
+                timeTrace, compressionCodec);
 
             if (options.enablePacketDebug) {
                 writer.setTraceCache(traceCache);
@@ -931,19 +954,37 @@ public abstract class AbstractConnectProtocol implements Protocol {
             }
         }
         writer.setOracleMode(isOracleMode);
+        writer.setCommandTimer(commandTimer);
+        reader.setCommandTimer(commandTimer);
     }
 
     private void assignStream(Socket socket, Options options) throws SQLException {
         try {
-            writer = new StandardPacketOutputStream(socket.getOutputStream(), serverThreadId,
-                options, timeTrace);
-            reader = new StandardPacketInputStream(socket.getInputStream(), serverThreadId,
-                options, timeTrace);
+            SocketChannel channel = socket.getChannel();
+            if (channel != null && options.useNioSocket) {
+                channel.configureBlocking(false);
+                writer = new StandardPacketOutputStream(new SocketChannelOutputStream(channel),
+                    serverThreadId, options, timeTrace);
+                reader = new StandardPacketInputStream(new SocketChannelInputStream(channel),
+                    serverThreadId, options, timeTrace);
+            } else {
+                writer = new StandardPacketOutputStream(socket.getOutputStream(), serverThreadId,
+                    options, timeTrace);
+                reader = new StandardPacketInputStream(socket.getInputStream(), serverThreadId,
+                    options, timeTrace);
+            }
 
             if (options.enablePacketDebug) {
                 writer.setTraceCache(traceCache);
                 reader.setTraceCache(traceCache);
             }
+
+            if (options.useMetrics) {
+                DriverMetrics.getInstance().initialize(options);
+                commandTimer = new CommandTimer(DriverMetrics.getInstance());
+                writer.setCommandTimer(commandTimer);
+                reader.setCommandTimer(commandTimer);
+            }
         } catch (IOException ioe) {
             destroySocket();
             throw ExceptionFactory.INSTANCE.create("Socket error: " + ioe.getMessage(), "08000",
@@ -1229,14 +1270,15 @@ public abstract class AbstractConnectProtocol implements Protocol {
 
     private void sendAlterSessionTimezone() throws IOException, SQLException {
         this.importedTimeZoneTables = getServerTZTablesImported();
-        String zoneId = this.importedTimeZoneTables ? TimeZone.getDefault().getID()
-            : TimeZone.getDefault().toZoneId().getRules().getStandardOffset(Instant.now()).getId();
+        String zoneId = this.importedTimeZoneTables ? TimeZone.getDefault().getID() : TimeZone
+            .getDefault().toZoneId().getRules().getStandardOffset(Instant.now()).getId();
         // when importedTimeZoneTables is
         //   false: the TIME_ZONE cannot be set to any values that start with "GMT"
         //   true: only GMT, GMT+0, GMT-0, GMT0 can be accepted
-        if (zoneId.startsWith("GMT") && (!this.importedTimeZoneTables
-                || !zoneId.equalsIgnoreCase("GMT")|| !zoneId.equalsIgnoreCase("GMT+0")
-                || !zoneId.equalsIgnoreCase("GMT-0") || !zoneId.equalsIgnoreCase("GMT0"))) {
+        if (zoneId.startsWith("GMT")
+            && (!this.importedTimeZoneTables || !zoneId.equalsIgnoreCase("GMT")
+                || !zoneId.equalsIgnoreCase("GMT+0") || !zoneId.equalsIgnoreCase("GMT-0") || !zoneId
+                    .equalsIgnoreCase("GMT0"))) {
             zoneId = zoneId.substring("GMT".length());
         }
 
@@ -1785,6 +1827,11 @@ public abstract class AbstractConnectProtocol implements Protocol {
                && Version.compare(obServerVersion, "2.2.5") >= 0;
     }
 
+    /* Is OCI_ARRAY_BINDING accepted ? MySQL mode needs OceanBase 4.0 */
+    public boolean supportArrayBinding() {
+        return isOracleMode || Version.compare(obServerVersion, "4.0") >= 0;
+    }
+
     public void setFullLinkTraceModule(String module, String action) {
         if (!enableFullLinkTrace) {
             throw new UnsupportedOperationException("FullLinkTrace is not enabled.");
@@ -2081,7 +2128,7 @@ public abstract class AbstractConnectProtocol implements Protocol {
         return (serverStatus & ServerStatus.MORE_RESULTS_EXISTS) != 0;
     }
 
-    public ServerPrepareStatementCache prepareStatementCache() {
+    public PrepareStatementCache prepareStatementCache() {
         return serverPrepareStatementCache;
     }
 
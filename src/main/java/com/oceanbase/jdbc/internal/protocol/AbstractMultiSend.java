@@ -52,7 +52,9 @@ package com.oceanbase.jdbc.internal.protocol;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
 import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
@@ -63,6 +65,7 @@ import com.oceanbase.jdbc.internal.ColumnType;
 import com.oceanbase.jdbc.internal.com.read.dao.Results;
 import com.oceanbase.jdbc.internal.com.send.ComStmtPrepare;
 import com.oceanbase.jdbc.internal.com.send.ComStmtPrepareExecute;
+import com.oceanbase.jdbc.internal.com.send.ExecuteTemplate;
 import com.oceanbase.jdbc.internal.com.send.parameters.ParameterHolder;
 import com.oceanbase.jdbc.internal.io.output.PacketOutputStream;
 import com.oceanbase.jdbc.internal.util.BulkStatus;
@@ -70,16 +73,25 @@ import com.oceanbase.jdbc.internal.util.SqlStates;
 import com.oceanbase.jdbc.internal.util.dao.ClientPrepareResult;
 import com.oceanbase.jdbc.internal.util.dao.PrepareResult;
 import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
+import com.oceanbase.jdbc.internal.util.metrics.CommandTimer;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics;
+import com.oceanbase.jdbc.util.Options;
 
 public abstract class AbstractMultiSend {
 
+    /** Receive buffer assumed for pipelining when tcpRcvBuf is not set. */
+    private static final int         DEFAULT_RECEIVE_BUFFER  = 64 * 1024;
+    /** Estimated size of a command result without result-set (OK or error packet). */
+    private static final int         ESTIMATED_RESULT_LENGTH = 256;
+
     private final Protocol           protocol;
     private final PacketOutputStream writer;
     private final Results            results;
     private final boolean            binaryProtocol;
     private final boolean            readPrepareStmtResult;
-    protected int                    statementId = -1;
+    protected int                    statementId             = -1;
     protected ColumnType[]           parameterTypeHeader;
+    protected ExecuteTemplate        executeTemplate;
     private List<ParameterHolder[]>  parametersList;
     private PrepareResult            prepareResult;
     private List<String>             queries;
@@ -189,6 +201,7 @@ public abstract class AbstractMultiSend {
         if (binaryProtocol) {
             if (readPrepareStmtResult) {
                 parameterTypeHeader = new ColumnType[paramCount];
+                executeTemplate = new ExecuteTemplate(paramCount);
                 if (prepareResult == null && protocol.getOptions().cachePrepStmts
                     && protocol.getOptions().useServerPrepStmts) {
                     String key = protocol.getDatabase() + "-" + sql;
@@ -198,6 +211,10 @@ public abstract class AbstractMultiSend {
                         // in cache but been de-allocated
                         prepareResult = null;
                     }
+                    if (protocol.getOptions().useMetrics) {
+                        DriverMetrics.getInstance().recordCache(DriverMetrics.Cache.SERVER_PREPARE,
+                            prepareResult != null);
+                    }
                 }
                 statementId = (prepareResult == null) ? -1 : ((ServerPrepareResult) prepareResult)
                     .getStatementId();
@@ -205,7 +222,152 @@ public abstract class AbstractMultiSend {
                 statementId = ((ServerPrepareResult) prepareResult).getStatementId();
             }
         }
-        return executeBatchStandard(paramCount);
+        // responses are read after several commands are sent, they cannot be timed by command
+        CommandTimer commandTimer = writer != null ? writer.getCommandTimer() : null;
+        if (commandTimer != null) {
+            commandTimer.startPipeline();
+        }
+        try {
+            if (protocol.getOptions().useBatchPipelining) {
+                return executeBatchPipelined(paramCount);
+            }
+            return executeBatchStandard(paramCount);
+        } finally {
+            if (commandTimer != null) {
+                commandTimer.endPipeline();
+            }
+        }
+    }
+
+    /**
+     * Execute Bulk execution from current thread : commands are pipelined, and results are read as
+     * soon as the number of unread results could fill the socket receive buffer. Server never
+     * blocks writing results, so it never stops reading commands, and sending can't lock.
+     *
+     * @param estimatedParameterCount parameter counter
+     * @return prepare result
+     * @throws SQLException if any error occur
+     */
+    private PrepareResult executeBatchPipelined(int estimatedParameterCount) throws SQLException {
+        int totalExecutionNumber = getTotalExecutionNumber();
+        int maxPendingResults = getMaxPendingResults(protocol);
+        BulkStatus status = new BulkStatus();
+        SQLException exception = null;
+        int paramCount = estimatedParameterCount;
+        int readCounter = 0;
+
+        try {
+            protocol.changeSocketTcpNoDelay(false); // enable NAGLE algorithm temporary.
+
+            if (!protocol.supportStmtPrepareExecute() && readPrepareStmtResult
+                && prepareResult == null) {
+                ComStmtPrepare.send(writer, sql);
+                prepareResult = ComStmtPrepare.read(protocol.getReader(),
+                    protocol.isEofDeprecated(), protocol, sql);
+                statementId = ((ServerPrepareResult) prepareResult).getStatementId();
+                paramCount = getParamCount();
+            }
+
+            sendLoop: while (status.sendCmdCounter < totalExecutionNumber
+                             && !protocol.isInterrupted()) {
+                sendCmd(writer, results, parametersList, queries, paramCount, status, prepareResult);
+                status.sendSubCmdCounter++;
+                status.sendCmdCounter++;
+
+                while (status.sendCmdCounter - readCounter >= maxPendingResults) {
+                    SQLException qex = readPipelinedResult(readCounter++, paramCount);
+                    if (qex != null && exception == null) {
+                        exception = qex;
+                        if ((readPrepareStmtResult && prepareResult == null)
+                            || !protocol.getOptions().continueBatchOnError) {
+                            break sendLoop;
+                        }
+                    }
+                }
+            }
+            status.sendEnded = true;
+            protocol.changeSocketTcpNoDelay(protocol.getOptions().tcpNoDelay);
+
+            // results of all commands already sent must be read, even when stopping on error
+            while (readCounter < status.sendCmdCounter) {
+                SQLException qex = readPipelinedResult(readCounter++, paramCount);
+                if (qex != null && exception == null) {
+                    exception = qex;
+                }
+            }
+
+            if (protocol.isInterrupted()) {
+                throw new SQLTimeoutException("Timeout during batch execution");
+            }
+            if (exception != null) {
+                throw exception;
+            }
+            return prepareResult;
+
+        } catch (IOException e) {
+            status.sendEnded = true;
+            throw protocol.handleIoException(e);
+        }
+    }
+
+    /**
+     * Maximum number of unread results on a connection. OceanBase 2.0 protocol matches every
+     * response with the request id of the last command, so only one command can be in flight.
+     *
+     * @param protocol current protocol
+     * @return maximum number of command sent without reading result
+     */
+    static int getMaxPendingResults(Protocol protocol) {
+        if (protocol instanceof AbstractConnectProtocol
+            && ((AbstractConnectProtocol) protocol).useOceanBaseProtocolV20) {
+            return 1;
+        }
+        return getMaxPendingResults(protocol.getOptions());
+    }
+
+    /**
+     * Maximum number of unread results : results must fit in socket receive buffer.
+     *
+     * @param options connection options
+     * @return maximum number of command sent without reading result
+     */
+    static int getMaxPendingResults(Options options) {
+        Integer receiveBuffer = options.tcpRcvBuf;
+        int bufferedResults = (receiveBuffer == null ? DEFAULT_RECEIVE_BUFFER : receiveBuffer)
+                              / ESTIMATED_RESULT_LENGTH;
+        return Math.max(1, Math.min(options.useBatchMultiSendNumber, bufferedResults));
+    }
+
+    /**
+     * Read the result of a pipelined command.
+     *
+     * @param counter index of the command in batch
+     * @param paramCount number of parameters
+     * @return command error if any
+     * @throws SQLException if connection error occur
+     * @throws IOException if socket error occur
+     */
+    private SQLException readPipelinedResult(int counter, int paramCount) throws SQLException,
+                                                                         IOException {
+        try {
+            if (protocol.supportStmtPrepareExecute()) {
+                prepareResult = ComStmtPrepareExecute.read(protocol, protocol.getReader(),
+                    (ServerPrepareResult) prepareResult, results);
+            } else {
+                protocol.getResult(results);
+            }
+            return null;
+        } catch (SQLException qex) {
+            if (qex instanceof SQLNonTransientConnectionException
+                || qex instanceof SQLTransientConnectionException) {
+                throw qex;
+            }
+            if (binaryProtocol && prepareResult == null) {
+                return qex;
+            }
+            return handleResultException(qex, results, parametersList, queries, counter, 0,
+                paramCount, prepareResult);
+        }
     }
 
     /**
@@ -100,6 +100,8 @@ import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 import com.oceanbase.jdbc.internal.util.exceptions.MaxAllowedPacketException;
 import com.oceanbase.jdbc.internal.util.exceptions.OceanBaseSqlException;
+import com.oceanbase.jdbc.internal.util.metrics.CommandTimer;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics;
 import com.oceanbase.jdbc.internal.util.pool.GlobalStateInfo;
 import com.oceanbase.jdbc.internal.util.scheduler.SchedulerServiceProviderHolder;
 
@@ -112,6 +114,7 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
   private InputStream localInfileInputStream;
   private long maxRows; //returned by a statement
   private FutureTask activeFutureTask = null;
+  private CursorResultSet pendingCursorFetch = null;
   private boolean interrupted;
   private long checksum = 1;
   private int iterationCount;
@@ -268,7 +271,11 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
       // search in cache first
       if (options.cachePrepStmts && options.useServerPrepStmts) {
         ServerPrepareResult pr = serverPrepareStatementCache.get(database + "-" + sql);
-        if (pr != null && pr.incrementShareCounter()) {
+        boolean hit = pr != null && pr.incrementShareCounter();
+        if (options.useMetrics) {
+          DriverMetrics.getInstance().recordCache(DriverMetrics.Cache.SERVER_PREPARE, hit);
+        }
+        if (hit) {
           return pr;
         }
       }
@@ -365,6 +372,73 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
     }
   }
 
+  /**
+   * Execute independent text queries, sending them back to back before reading their results in
+   * the same order. Unread results are bounded so that they fit in socket receive buffer, so the
+   * server never stops reading commands. OceanBase 2.0 protocol checks that each response matches
+   * the last request id, so queries are then sent one at a time.
+   *
+   * @param mustExecuteOnMaster was intended to be launched on master connection
+   * @param resultsList         results, one for each query
+   * @param queries             queries to execute
+   * @return query errors, by query index, null when query succeed
+   * @throws SQLException if connection error occur
+   */
+  @Override
+  public SQLException[] executePipelinedQueries(boolean mustExecuteOnMaster, List<Results> resultsList,
+      List<String> queries) throws SQLException {
+    cmdPrologue();
+    SQLException[] errors = new SQLException[queries.size()];
+    int maxPending = AbstractMultiSend.getMaxPendingResults(this);
+    int sendCounter = 0;
+    int readCounter = 0;
+    UUID spanId = null;
+    CommandTimer commandTimer = writer.getCommandTimer();
+
+    lock.lock();
+    try {
+      lockLogger.debug("AbstractQueryProtocol.executePipelinedQueries locked");
+      spanId = ob20BeginTraceAndSpan("execute pipelined queries");
+      if (commandTimer != null) {
+        commandTimer.startPipeline();
+      }
+
+      while (readCounter < queries.size()) {
+        if (sendCounter < queries.size() && sendCounter - readCounter < maxPending) {
+          writer.startPacket(0);
+          writer.write(Packet.COM_QUERY);
+          writer.write(queries.get(sendCounter++).getBytes(options.getCharacterEncoding()));
+          writer.flush();
+          continue;
+        }
+        String sql = queries.get(readCounter);
+        try {
+          getResult(resultsList.get(readCounter));
+        } catch (SQLException sqlException) {
+          if ("70100".equals(sqlException.getSQLState()) && 1927 == sqlException.getErrorCode()) {
+            throw handleIoException(sqlException);
+          }
+          if (sqlException instanceof SQLNonTransientConnectionException
+              || sqlException instanceof SQLTransientConnectionException) {
+            throw exceptionWithQuery(sql, sqlException, explicitClosed);
+          }
+          errors[readCounter] = exceptionWithQuery(sql, sqlException, explicitClosed);
+        }
+        readCounter++;
+      }
+      return errors;
+    } catch (IOException e) {
+      throw handleIoException(e);
+    } finally {
+      if (commandTimer != null) {
+        commandTimer.endPipeline();
+      }
+      ob20EndSpanAndTrace(spanId);
+      lock.unlock();
+      lockLogger.debug("AbstractQueryProtocol.executePipelinedQueries unlocked");
+    }
+  }
+
   /**
    * Execute a unique clientPrepareQuery.
    *
@@ -539,8 +613,10 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
         cursorFlag = Packet.CURSOR_TYPE_NO_CURSOR;
       }
 
+      results.setServerPrepareResult(serverPrepareResult);
       ComStmtExecute.send(writer, serverPrepareResult.getStatementId(), parameters, parameterCount,
-              serverPrepareResult.getParameterTypeHeader(), cursorFlag, this);
+              serverPrepareResult.getParameterTypeHeader(), cursorFlag, this,
+              serverPrepareResult.getExecuteTemplate());
       getResult(results);
       results.setToCursorFetch(false);
     } catch (SQLException qex) {
@@ -617,7 +693,11 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
       // search serverPrepareResult in cache
       if (serverPrepareResult == null && options.useServerPrepStmts && options.cachePrepStmts) {
         ServerPrepareResult prepareResult = this.prepareStatementCache().get(this.getDatabase() + "-" + results.getStatement().getActualSql());
-        if (prepareResult != null && prepareResult.incrementShareCounter()) {
+        boolean hit = prepareResult != null && prepareResult.incrementShareCounter();
+        if (options.useMetrics) {
+          DriverMetrics.getInstance().recordCache(DriverMetrics.Cache.SERVER_PREPARE, hit);
+        }
+        if (hit) {
           serverPrepareResult = prepareResult;
           serverPrepareResult.resetParameterTypeHeader();
           results.setStatementId(serverPrepareResult.getStatementId());
@@ -644,6 +724,7 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
         cursorFlag = Packet.CURSOR_TYPE_NO_CURSOR;
       }
 
+      results.setServerPrepareResult(serverPrepareResult);
       ComStmtPrepareExecute.send(writer, results, parameterCount, parameters,
           (serverPrepareResult != null && serverPrepareResult.isReturnByPrepareExecute()) ? serverPrepareResult.getParameterTypeHeader() : null, cursorFlag, this, serverPrepareResult);
 
@@ -931,7 +1012,7 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
   }
 
   private void initializeBatchReader() {
-    if (options.useBatchMultiSend) {
+    if (options.useBatchMultiSend && !options.useBatchPipelining) {
       readScheduler = SchedulerServiceProviderHolder.getBulkScheduler();
     }
   }
@@ -1357,7 +1438,7 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
           ComStmtPrepareExecute.send(writer, results, paramCount, parameters, tempServerPrepareResult != null ? tempServerPrepareResult.getParameterTypeHeader() : null, Packet.CURSOR_TYPE_NO_CURSOR, getProtocol(), tempServerPrepareResult);
         } else {
           ComStmtExecute.send(writer, statementId, parameters, paramCount, parameterTypeHeader,
-              Packet.CURSOR_TYPE_NO_CURSOR, getProtocol());
+              Packet.CURSOR_TYPE_NO_CURSOR, getProtocol(), executeTemplate);
         }
       }
 
@@ -1420,6 +1501,66 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
     }
   }
 
+  /**
+   * Send a COM_STMT_FETCH without reading response. Response must be read with
+   * readCursorFetchResponse before any other command, so the cursor result-set that sent it must be
+   * registered with setPendingCursorFetch while the protocol lock is still held.
+   *
+   * @param cursorId cursor id
+   * @param fetchSize number of rows to fetch
+   * @throws SQLException if any error occurs
+   */
+  public void sendCursorFetch(int cursorId, int fetchSize) throws SQLException {
+    cmdPrologue();
+    UUID spanId = null;
+
+    lock.lock();
+    try {
+      lockLogger.debug("AbstractQueryProtocol.sendCursorFetch locked");
+      spanId = ob20BeginTraceAndSpan("prefetch row");
+
+      writer.startPacket(0);
+      writer.write(Packet.COM_STMT_FETCH);
+      writer.writeInt(cursorId);
+      writer.writeInt(fetchSize);
+      writer.flush();
+    } catch (IOException e) {
+      throw exceptionWithQuery(
+          " sendCursorFetch failed.", handleIoException(e), explicitClosed);
+    } finally {
+      ob20EndSpanAndTrace(spanId);
+      lock.unlock();
+      lockLogger.debug("AbstractQueryProtocol.sendCursorFetch unlocked");
+    }
+  }
+
+  /**
+   * Read the response header of a COM_STMT_FETCH sent by sendCursorFetch. Rows are then read by the
+   * cursor result-set.
+   *
+   * @param results results
+   * @return column information in oracle mode, null otherwise
+   * @throws SQLException if any error occurs
+   */
+  public ColumnDefinition[] readCursorFetchResponse(Results results) throws SQLException {
+    lock.lock();
+    try {
+      lockLogger.debug("AbstractQueryProtocol.readCursorFetchResponse locked");
+      if (this.isOracleMode()) {
+        return getResultWithoutValue(results);
+      } else {
+        return null;
+      }
+    } finally {
+      lock.unlock();
+      lockLogger.debug("AbstractQueryProtocol.readCursorFetchResponse unlocked");
+    }
+  }
+
+  public void setPendingCursorFetch(CursorResultSet cursorResultSet) {
+    this.pendingCursorFetch = cursorResultSet;
+  }
+
   public ColumnDefinition[] fetchRowViaCursorForOracle(int cursorId, int numRows, byte offsetType, int offset, Results results) throws SQLException {
     cmdPrologue();
     UUID spanId = null;
@@ -1479,12 +1620,27 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
       lockLogger.debug("AbstractQueryProtocol.executePreparedQueryArrayBinding locked");
       spanId = ob20BeginTraceAndSpan("execute prepared query by array binding");
 
-      int paramCount = serverPrepareResult.getParameters().length;// send binary data in a separate stream without send piece
-      for (int j = 0; j < queryParameterSize; j++) {
-        ParameterHolder[] parameters = queryParameters.get(j);
-        for (int i = 0; i < paramCount; i++) {
-          if (parameters[i].isLongData()) {
-            throw new SQLException("Not supported send long data on ob oracle");
+      int paramCount = serverPrepareResult.getParameters().length;
+      // long data is sent beforehand by pieces, array binding then flags it as null
+      for (int i = 0; i < paramCount; i++) {
+        for (int j = 0; j < queryParameterSize; j++) {
+          ParameterHolder holder = queryParameters.get(j)[i];
+          if (!holder.isLongData()) {
+            continue;
+          }
+          if (!options.usePieceData || !isOracleMode()) {
+            throw new SQLException("Not supported send long data by array binding. Recommended URL options: usePieceData=true");
+          }
+          boolean continueWrite = true;
+          boolean first = true;
+          while (continueWrite) {
+            writer.startPacket(0);
+            writer.write(Packet.COM_STMT_SEND_PIECE_DATA);
+            writer.writeInt(serverPrepareResult.getStatementId());
+            writer.writeShort((short) i);
+            continueWrite = ((LongDataParameterHolder) holder).writePieceData(writer, first, options);
+            first = false;
+            getResult(new Results());
           }
         }
       }
@@ -1744,6 +1900,8 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
     UUID spanId = null;
     try {
       lockLogger.debug("AbstractQueryProtocol.forceReleasePrepareStatement locked");
+      // COM_STMT_CLOSE has no response, but a fetch response still on the way must be read first
+      readPendingCursorFetch();
       spanId = ob20BeginTraceAndSpan("close prepared statement");
 
       checkClose();
@@ -2483,9 +2641,7 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
   public void readResultSet(ColumnDefinition[] ci, Results results) throws SQLException {
     try {
       // read columns information's
-      for (int i = 0; i < ci.length; i++) {
-        ci[i] = new ColumnDefinition(reader.getPacket(false), isOracleMode(), options.getCharacterEncoding(), options);
-      }
+      readColumnDefinitions(ci, results);
 
       boolean callableResult = false;
       boolean isPsOutParamter = false;
@@ -2540,6 +2696,50 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
     }
   }
 
+  /**
+   * Read result-set column definitions. When executing a server prepared statement whose columns are
+   * cached, packets are compared to the cached definitions, and identical ones are reused without
+   * allocation.
+   *
+   * @param ci      column definitions to fill
+   * @param results result object
+   * @throws IOException if socket error occur
+   */
+  private void readColumnDefinitions(ColumnDefinition[] ci, Results results) throws IOException {
+    ServerPrepareResult serverPrepareResult = results.getServerPrepareResult();
+    if (!options.cacheResultSetMetadata || serverPrepareResult == null
+        || results.getExecutionResults() != null) {
+      for (int i = 0; i < ci.length; i++) {
+        ci[i] = new ColumnDefinition(reader.getPacket(false), isOracleMode(), options.getCharacterEncoding(), options);
+      }
+      return;
+    }
+
+    ColumnDefinition[] cached = serverPrepareResult.getCachedResultSetColumns();
+    boolean identical = cached != null && cached.length == ci.length;
+    for (int i = 0; i < ci.length; i++) {
+      if (identical) {
+        Buffer packet = reader.getPacket(true);
+        if (cached[i].isSameDefinition(packet)) {
+          ci[i] = cached[i];
+          continue;
+        }
+        // metadata changed, reusable packet must be copied
+        identical = false;
+        packet = new Buffer(Arrays.copyOfRange(packet.buf, packet.position, packet.limit));
+        ci[i] = new ColumnDefinition(packet, isOracleMode(), options.getCharacterEncoding(), options);
+      } else {
+        ci[i] = new ColumnDefinition(reader.getPacket(false), isOracleMode(), options.getCharacterEncoding(), options);
+      }
+    }
+    if (options.useMetrics) {
+      DriverMetrics.getInstance().recordCache(DriverMetrics.Cache.RESULT_SET_METADATA, identical);
+    }
+    if (!identical) {
+      serverPrepareResult.cacheResultSetColumns(ci);
+    }
+  }
+
   public void prologProxy(
       ServerPrepareResult serverPrepareResult,
       long maxRows,
@@ -2589,7 +2789,30 @@ public class AbstractQueryProtocol extends AbstractConnectProtocol implements Pr
     return serverPrepareStatementCache.put(key, serverPrepareResult);
   }
 
+  /**
+   * Read the response of a cursor fetch sent in advance, if any, so that a new command can be sent.
+   * Only the protocol lock is taken: rows and error are kept by the cursor result-set until it needs
+   * them.
+   */
+  private void readPendingCursorFetch() {
+    if (pendingCursorFetch == null) {
+      return;
+    }
+    lock.lock();
+    try {
+      CursorResultSet cursorResultSet = pendingCursorFetch;
+      pendingCursorFetch = null;
+      if (cursorResultSet != null) {
+        cursorResultSet.readPrefetchedRows();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
   private void cmdPrologue() throws SQLException {
+    readPendingCursorFetch();
+
     // load active result if any so buffer are clean for next query
     if (activeStreamingResult != null) {
       if (!options.clobberStreamingResults) {
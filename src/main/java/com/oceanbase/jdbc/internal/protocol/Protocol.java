@@ -66,11 +66,12 @@ import com.oceanbase.jdbc.*;
 import com.oceanbase.jdbc.internal.com.read.Buffer;
 import com.oceanbase.jdbc.internal.com.read.dao.Results;
 import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.com.read.resultset.CursorResultSet;
 import com.oceanbase.jdbc.internal.com.send.parameters.ParameterHolder;
 import com.oceanbase.jdbc.internal.failover.FailoverProxy;
 import com.oceanbase.jdbc.internal.io.input.PacketInputStream;
 import com.oceanbase.jdbc.internal.io.output.PacketOutputStream;
-import com.oceanbase.jdbc.internal.util.ServerPrepareStatementCache;
+import com.oceanbase.jdbc.internal.util.PrepareStatementCache;
 import com.oceanbase.jdbc.internal.util.dao.ClientPrepareResult;
 import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
 import com.oceanbase.jdbc.util.Options;
@@ -131,6 +132,8 @@ public interface Protocol {
 
     boolean supportFetchWithOffset();
 
+    boolean supportArrayBinding();
+
     void setFullLinkTraceModule(String module, String action);
 
     String getFullLinkTraceModule();
@@ -196,6 +199,9 @@ public interface Protocol {
     void executeQuery(boolean mustExecuteOnMaster, Results results, final String sql,
                       Charset charset) throws SQLException;
 
+    SQLException[] executePipelinedQueries(boolean mustExecuteOnMaster, List<Results> resultsList,
+                                           List<String> queries) throws SQLException;
+
     void executeQuery(boolean mustExecuteOnMaster, Results results,
                       final ClientPrepareResult clientPrepareResult, ParameterHolder[] parameters)
                                                                                                   throws SQLException;
@@ -276,7 +282,7 @@ public interface Protocol {
 
     boolean forceReleasePrepareStatement(int statementId) throws SQLException;
 
-    ServerPrepareStatementCache prepareStatementCache();
+    PrepareStatementCache prepareStatementCache();
 
     TimeZone getTimeZone();
 
@@ -320,7 +326,7 @@ public interface Protocol {
     void resetStateAfterFailover(long maxRows, int transactionIsolationLevel, String database,
                                  boolean autocommit) throws SQLException;
 
-    void setActiveFutureTask(FutureTask activeFutureTask);
+    void setActiveFutureTask(FutureTask<?> activeFutureTask);
 
     boolean isServerMariaDb();
 
@@ -362,6 +368,12 @@ public interface Protocol {
     ColumnDefinition[] fetchRowViaCursorForOracle(int cursorId, int numRows, byte offsetType,
                                                   int offset, Results results) throws SQLException;
 
+    void sendCursorFetch(int cursorId, int fetchSize) throws SQLException;
+
+    ColumnDefinition[] readCursorFetchResponse(Results results) throws SQLException;
+
+    void setPendingCursorFetch(CursorResultSet cursorResultSet);
+
     long getLastPacketCostTime() throws SQLException;
 
     void setNetworkStatisticsFlag(boolean flag);
@@ -86,7 +86,8 @@ public class TimeTrace {
                 return;
             }
 
-            logger.info("[connectionId={}] {}: CallInterface costs {}us.", serverThreadId, interfaceName, timeUs);
+            logger.info("[connectionId={}] {}: CallInterface costs {}us.", serverThreadId,
+                interfaceName, timeUs);
         } catch (Exception e) {
             try {
                 logger.warn("endCallInterface failed.", e);
@@ -141,7 +142,8 @@ public class TimeTrace {
             endReceiveResponse = System.nanoTime();
             long timeUs1 = getSendRequestElapsedTimeUs();
             long timeUs2 = getReceiveResponseElapsedTimeUs();
-            if (logTraceTimeMs > 0 && logTraceTimeMs > (timeUs1 / 1000) && logTraceTimeMs > (timeUs2 / 1000)) {
+            if (logTraceTimeMs > 0 && logTraceTimeMs > (timeUs1 / 1000)
+                && logTraceTimeMs > (timeUs2 / 1000)) {
                 return;
             }
 
@@ -150,8 +152,10 @@ public class TimeTrace {
             } else if (sql.length() > 100) {
                 sql = sql.substring(0, 100) + "...";
             }
-            logger.info("[connectionId={}] {}: SendRequest costs {}us, ReceiveResponse costs {}us. {}", serverThreadId, protocol,
-                    getSendRequestElapsedTimeUs(), getReceiveResponseElapsedTimeUs(), sql);
+            logger.info(
+                "[connectionId={}] {}: SendRequest costs {}us, ReceiveResponse costs {}us. {}",
+                serverThreadId, protocol, getSendRequestElapsedTimeUs(),
+                getReceiveResponseElapsedTimeUs(), sql);
         } catch (Exception e) {
             try {
                 logger.warn("endReceiveResponse failed.", e);
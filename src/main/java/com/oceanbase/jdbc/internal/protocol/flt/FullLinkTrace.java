@@ -68,13 +68,13 @@ import com.oceanbase.jdbc.internal.com.read.Buffer;
  */
 public class FullLinkTrace {
 
-    private static final int  TYPE_LENGTH              = 2;
-    private static final int  LEN_LENGTH               = 4;
-    private static final int  TYPE_LEN_LENGTH          = TYPE_LENGTH + LEN_LENGTH;
-    private static final int  FLT_SIZE                 = 4;
-    private static final int  DBL_SIZE                 = 8;
-    private static final int  MAX_DRIVER_LOG_SIZE      = 1024;
-    private static final int  MAX_SHOW_TRACE_SPAN_SIZE = 1 << 31 - 1;
+    private static final int TYPE_LENGTH              = 2;
+    private static final int LEN_LENGTH               = 4;
+    private static final int TYPE_LEN_LENGTH          = TYPE_LENGTH + LEN_LENGTH;
+    private static final int FLT_SIZE                 = 4;
+    private static final int DBL_SIZE                 = 8;
+    private static final int MAX_DRIVER_LOG_SIZE      = 1024;
+    private static final int MAX_SHOW_TRACE_SPAN_SIZE = 1 << 31 - 1;
 
     /**
      * 0~999      belong to ob client
@@ -254,7 +254,7 @@ public class FullLinkTrace {
         double       samplePercentage;
         RecordPolicy recordPolicy;
         double       printSamplePercentage;
-        long         slowQueryThresholdMs;   // receive in microseconds
+        long         slowQueryThresholdMs; // receive in microseconds
         boolean      showTraceEnabled;
 
         private ControlInfo() {
@@ -265,12 +265,12 @@ public class FullLinkTrace {
             int localize = 0;
 
             localize += TYPE_LEN_LENGTH;
-            localize += getStoreInt1Size();   // level
+            localize += getStoreInt1Size(); // level
             localize += getStoreDoubleSize(); // samplePercentage
-            localize += getStoreInt1Size();   // recordPolicy
+            localize += getStoreInt1Size(); // recordPolicy
             localize += getStoreDoubleSize(); // printSamplePercentage
-            localize += getStoreInt8Size();   // slowQueryThresholdMs
-            localize += getStoreInt1Size();   // showTraceEnabled
+            localize += getStoreInt8Size(); // slowQueryThresholdMs
+            localize += getStoreInt1Size(); // showTraceEnabled
 
             return localize;
         }
@@ -756,7 +756,7 @@ public class FullLinkTrace {
             StringBuilder sb = new StringBuilder();
             sb.append(spanStr);
 
-            if (endTimestamp == 0 && ! tagList.isEmpty()) {
+            if (endTimestamp == 0 && !tagList.isEmpty()) {
                 sb.append(",\"tags\":[");
 
                 boolean firstOne = true;
@@ -923,8 +923,8 @@ public class FullLinkTrace {
             span.endTimestamp = System.currentTimeMillis();
 
             if ((traceInfo.controlInfo.recordPolicy == RecordPolicy.RP_ONLY_SLOW_QUERY || traceInfo.controlInfo.recordPolicy == RecordPolicy.RP_SAMPLE_AND_SLOW_QUERY)
-                    && traceInfo.controlInfo.slowQueryThresholdMs > 0
-                    && ((span.endNano - span.startNano) / 1000 >= traceInfo.controlInfo.slowQueryThresholdMs)) {
+                && traceInfo.controlInfo.slowQueryThresholdMs > 0
+                && ((span.endNano - span.startNano) / 1000 >= traceInfo.controlInfo.slowQueryThresholdMs)) {
                 // if a slow query is found, send log to server for print
                 slowQueryFound = true;
             }
@@ -999,8 +999,8 @@ public class FullLinkTrace {
                 traceInfo.driverLog.serialize(buf);
                 traceInfo.driverLog.reset();
                 if (buf.getPosition() != driverLogSize) {
-                    throw new IOException("Unexpected end position in EXTRA INFO: actual = " + buf.getPosition()
-                            + ", expected = " + driverLogSize);
+                    throw new IOException("Unexpected end position in EXTRA INFO: actual = "
+                                          + buf.getPosition() + ", expected = " + driverLogSize);
                 }
             }
             // serialize app info
@@ -1008,8 +1008,9 @@ public class FullLinkTrace {
                 traceInfo.appInfo.serialize(buf);
                 traceInfo.appInfo.reset();
                 if (buf.getPosition() != driverLogSize + appInfoSize) {
-                    throw new IOException("Unexpected end position in EXTRA INFO: actual = " + buf.getPosition()
-                            + ", expected = " + (driverLogSize + appInfoSize));
+                    throw new IOException("Unexpected end position in EXTRA INFO: actual = "
+                                          + buf.getPosition() + ", expected = "
+                                          + (driverLogSize + appInfoSize));
                 }
             }
             // serialize span info
@@ -1017,8 +1018,9 @@ public class FullLinkTrace {
                 traceInfo.spanInfo.serialize(buf);
                 traceInfo.spanInfo.reset();
                 if (buf.getPosition() != driverLogSize + appInfoSize + spanInfoSize) {
-                    throw new IOException("Unexpected end position in EXTRA INFO: actual = " + buf.getPosition()
-                            + ", expected = " + (driverLogSize + appInfoSize + spanInfoSize));
+                    throw new IOException("Unexpected end position in EXTRA INFO: actual = "
+                                          + buf.getPosition() + ", expected = "
+                                          + (driverLogSize + appInfoSize + spanInfoSize));
                 }
             }
             // serialize show trace span
@@ -1026,8 +1028,8 @@ public class FullLinkTrace {
                 traceInfo.showTraceSpan.serialize(buf);
                 traceInfo.showTraceSpan.reset();
                 if (buf.getPosition() != totalSize) {
-                    throw new IOException("Unexpected end position in EXTRA_INFO: actual = " + buf.getPosition()
-                            + ", expected = " + totalSize);
+                    throw new IOException("Unexpected end position in EXTRA_INFO: actual = "
+                                          + buf.getPosition() + ", expected = " + totalSize);
                 }
             }
 
@@ -1043,7 +1045,7 @@ public class FullLinkTrace {
             } else {
                 // use ByteStream(NewExtraInfo)
                 ob20.setExtraInfo(OceanBaseProtocolV20.ExtraInfoKey.FULL_TRC,
-                        Arrays.copyOfRange(traceInfo.valueData, 0, totalSize));
+                    Arrays.copyOfRange(traceInfo.valueData, 0, totalSize));
             }
         }
     }
@@ -1052,11 +1054,13 @@ public class FullLinkTrace {
         String log = "{\"trace_id\":\"" + toStringUUID(traceId) + "\"," + spanJson + "}";
 
         if (log.length() > MAX_DRIVER_LOG_SIZE - logBufOffset) {
-            throw new IOException("The length of DRIVER_LOG exceeds the buffer: need " + log.length()
-                    + " bytes, but remain " + (MAX_DRIVER_LOG_SIZE - logBufOffset) + " bytes.");
+            throw new IOException("The length of DRIVER_LOG exceeds the buffer: need "
+                                  + log.length() + " bytes, but remain "
+                                  + (MAX_DRIVER_LOG_SIZE - logBufOffset) + " bytes.");
         }
 
-        System.arraycopy(log.getBytes(StandardCharsets.UTF_8), 0, logBuf, logBufOffset, log.length());
+        System.arraycopy(log.getBytes(StandardCharsets.UTF_8), 0, logBuf, logBufOffset,
+            log.length());
         logBufOffset += log.length();
         return log;
     }
@@ -1067,11 +1071,13 @@ public class FullLinkTrace {
         }
 
         if (log.length() > MAX_DRIVER_LOG_SIZE - showTraceBufOffset) {
-            throw new IOException("The length of SHOW_TRACE_SPAN exceeds the buffer: need " + log.length()
-                    + " bytes, but remain " + (MAX_DRIVER_LOG_SIZE - showTraceBufOffset) + " bytes.");
+            throw new IOException("The length of SHOW_TRACE_SPAN exceeds the buffer: need "
+                                  + log.length() + " bytes, but remain "
+                                  + (MAX_DRIVER_LOG_SIZE - showTraceBufOffset) + " bytes.");
         }
 
-        System.arraycopy(log.getBytes(StandardCharsets.UTF_8), 0, showTraceBuf, showTraceBufOffset, log.length());
+        System.arraycopy(log.getBytes(StandardCharsets.UTF_8), 0, showTraceBuf, showTraceBufOffset,
+            log.length());
         showTraceBufOffset += log.length();
     }
 
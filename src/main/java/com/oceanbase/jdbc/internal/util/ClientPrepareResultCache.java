@@ -0,0 +1,236 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oceanbase.jdbc.internal.util.dao.ClientPrepareResult;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics;
+
+/**
+ * Driver-wide cache of client side parsing results. ClientPrepareResult are immutable once built,
+ * so the same instance can be used by any statement of any connection that prepares the same SQL
+ * with the same lexing context (escape mode, oracle mode, encoding and rewrite mode).
+ *
+ * <p>Cache is bounded: when the number of entries exceeds the maximum size, the oldest inserted
+ * entries are removed first.
+ */
+public class ClientPrepareResultCache {
+
+    private static volatile ClientPrepareResultCache           shared;
+
+    private final ConcurrentHashMap<Key, ClientPrepareResult>  cache          = new ConcurrentHashMap<>();
+    private final Queue<Key>                                   insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger                                size           = new AtomicInteger();
+    private final AtomicLong                                   hits           = new AtomicLong();
+    private final AtomicLong                                   misses         = new AtomicLong();
+    private volatile int                                       maxSize;
+
+    public ClientPrepareResultCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the cache shared by all connections. If already created with a smaller size, its bound is
+     * raised to the requested size.
+     *
+     * @param maxSize maximum number of entries requested by connection options
+     * @return shared cache
+     */
+    public static ClientPrepareResultCache getShared(int maxSize) {
+        ClientPrepareResultCache current = shared;
+        if (current == null) {
+            synchronized (ClientPrepareResultCache.class) {
+                current = shared;
+                if (current == null) {
+                    current = new ClientPrepareResultCache(maxSize);
+                    shared = current;
+                    return current;
+                }
+            }
+        }
+        if (current.maxSize < maxSize) {
+            current.maxSize = maxSize;
+        }
+        return current;
+    }
+
+    /**
+     * Get parsing result of query, parsing it if not already in cache.
+     *
+     * @param sql query
+     * @param noBackslashEscapes escape mode
+     * @param isOracleMode oracle mode
+     * @param encoding connection encoding
+     * @param rewritable true to parse with ClientPrepareResult.rewritableParts, false for
+     *     ClientPrepareResult.parameterParts
+     * @param recordMetrics true to record hit or miss in driver metrics (option useMetrics)
+     * @return parsing result
+     */
+    public ClientPrepareResult get(String sql, boolean noBackslashEscapes, boolean isOracleMode,
+                                   String encoding, boolean rewritable, boolean recordMetrics) {
+        Key key = new Key(sql, noBackslashEscapes, isOracleMode, encoding, rewritable);
+        ClientPrepareResult result = cache.get(key);
+        if (result != null) {
+            hits.incrementAndGet();
+            if (recordMetrics) {
+                DriverMetrics.getInstance().recordCacheHit(DriverMetrics.Cache.CLIENT_PREPARE);
+            }
+            return result;
+        }
+        misses.incrementAndGet();
+        if (recordMetrics) {
+            DriverMetrics.getInstance().recordCacheMiss(DriverMetrics.Cache.CLIENT_PREPARE);
+        }
+        result = rewritable ? ClientPrepareResult.rewritableParts(sql, noBackslashEscapes,
+            isOracleMode, encoding) : ClientPrepareResult.parameterParts(sql, noBackslashEscapes,
+            isOracleMode, encoding);
+
+        ClientPrepareResult existing = cache.putIfAbsent(key, result);
+        if (existing != null) {
+            return existing;
+        }
+        insertionOrder.add(key);
+        if (size.incrementAndGet() > maxSize) {
+            evict();
+        }
+        return result;
+    }
+
+    private void evict() {
+        while (size.get() > maxSize) {
+            Key eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (cache.remove(eldest) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /** Remove all entries and reset counters. */
+    public void clear() {
+        Key key;
+        while ((key = insertionOrder.poll()) != null) {
+            if (cache.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private static final class Key {
+
+        private final String  sql;
+        private final boolean noBackslashEscapes;
+        private final boolean oracleMode;
+        private final String  encoding;
+        private final boolean rewritable;
+        private final int     hash;
+
+        Key(String sql, boolean noBackslashEscapes, boolean oracleMode, String encoding,
+            boolean rewritable) {
+            this.sql = sql;
+            this.noBackslashEscapes = noBackslashEscapes;
+            this.oracleMode = oracleMode;
+            this.encoding = encoding;
+            this.rewritable = rewritable;
+            int result = sql.hashCode();
+            result = 31 * result + (encoding == null ? 0 : encoding.hashCode());
+            result = 31 * result + (noBackslashEscapes ? 1 : 0);
+            result = 31 * result + (oracleMode ? 1 : 0);
+            result = 31 * result + (rewritable ? 1 : 0);
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash && noBackslashEscapes == key.noBackslashEscapes
+                   && oracleMode == key.oracleMode && rewritable == key.rewritable
+                   && sql.equals(key.sql)
+                   && (encoding == null ? key.encoding == null : encoding.equals(key.encoding));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
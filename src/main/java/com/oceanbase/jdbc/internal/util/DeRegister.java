@@ -52,6 +52,7 @@ package com.oceanbase.jdbc.internal.util;
 
 import java.sql.DriverAction;
 
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics;
 import com.oceanbase.jdbc.internal.util.scheduler.SchedulerServiceProviderHolder;
 
 public class DeRegister implements DriverAction {
@@ -59,5 +60,6 @@ public class DeRegister implements DriverAction {
     @Override
     public void deregister() {
         SchedulerServiceProviderHolder.close();
+        DriverMetrics.getInstance().stopExporters();
     }
 }
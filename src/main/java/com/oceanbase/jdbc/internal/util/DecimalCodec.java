@@ -0,0 +1,167 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Conversion between BigDecimal and the plain decimal text sent and received on the wire for
+ * DECIMAL and NUMBER values, working on unscaled value and scale.
+ *
+ * <p>Values with more than 18 digits, or with a negative scale, use BigDecimal's own text
+ * conversion.
+ */
+public final class DecimalCodec {
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private DecimalCodec() {
+    }
+
+    private static boolean isCompact(BigDecimal value) {
+        return value.scale() >= 0 && value.precision() <= MAX_LONG_DIGITS;
+    }
+
+    /**
+     * Length of the value's plain text representation, as {@link BigDecimal#toPlainString()}.
+     *
+     * @param value value
+     * @return length in bytes
+     */
+    public static int length(BigDecimal value) {
+        if (!isCompact(value)) {
+            return value.toPlainString().length();
+        }
+        int scale = value.scale();
+        int digits = value.precision();
+        int length = value.signum() < 0 ? 1 : 0;
+        if (scale == 0) {
+            return length + digits;
+        }
+        return length + (digits > scale ? digits + 1 : scale + 2);
+    }
+
+    /**
+     * Encode value as ASCII plain text, as {@link BigDecimal#toPlainString()}.
+     *
+     * @param value value
+     * @return encoded value
+     */
+    public static byte[] encode(BigDecimal value) {
+        if (!isCompact(value)) {
+            return value.toPlainString().getBytes(StandardCharsets.US_ASCII);
+        }
+        long unscaled = value.unscaledValue().longValue();
+        int scale = value.scale();
+        byte[] bytes = new byte[length(value)];
+        long remaining = Math.abs(unscaled);
+        int index = bytes.length - 1;
+        if (scale > 0) {
+            for (int i = 0; i < scale; i++) {
+                bytes[index--] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            bytes[index--] = '.';
+        }
+        do {
+            bytes[index--] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (unscaled < 0) {
+            bytes[0] = '-';
+        }
+        return bytes;
+    }
+
+    /**
+     * Decode plain decimal text "[+-]digits[.digits]".
+     *
+     * @param buf buffer
+     * @param pos value position
+     * @param length value length
+     * @return value, or null if value has another format or more than 18 significant digits
+     */
+    public static BigDecimal decode(byte[] buf, int pos, int length) {
+        int end = pos + length;
+        int i = pos;
+        boolean negative = false;
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        boolean hasDigit = false;
+        int scale = -1;
+        for (; i < end; i++) {
+            byte b = buf[i];
+            if (b >= '0' && b <= '9') {
+                hasDigit = true;
+                if ((unscaled != 0 || b != '0') && ++digits > MAX_LONG_DIGITS) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + (b - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return null;
+            }
+        }
+        if (!hasDigit) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale < 0 ? 0 : scale);
+    }
+}
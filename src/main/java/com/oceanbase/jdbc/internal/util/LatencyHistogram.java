@@ -0,0 +1,210 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations, with microsecond resolution. Buckets are log-linear, like HDR
+ * histograms : each power of two is split in 8 buckets, so that a bucket bound is never more than
+ * 12.5% away from the recorded value, up to about 4.7 hours. Recording is lock-free and cheap
+ * enough to be done on each operation.
+ */
+public class LatencyHistogram {
+
+    private static final int    SUB_BUCKET_BITS = 3;
+    private static final int    SUB_BUCKETS     = 1 << SUB_BUCKET_BITS;
+    /** Highest power of two tracked with precision, greater values are in the last bucket. */
+    private static final int    MAX_MAGNITUDE   = 34;
+
+    /** Bucket upper bounds, in microseconds. Last bucket is unbounded. */
+    private static final long[] BOUNDS_MICROS   = new long[(MAX_MAGNITUDE - SUB_BUCKET_BITS + 2)
+                                                           * SUB_BUCKETS + 1];
+
+    static {
+        for (int i = 0; i < BOUNDS_MICROS.length - 1; i++) {
+            if (i < SUB_BUCKETS) {
+                BOUNDS_MICROS[i] = i;
+            } else {
+                int shift = i / SUB_BUCKETS - 1;
+                BOUNDS_MICROS[i] = ((SUB_BUCKETS + i % SUB_BUCKETS + 1L) << shift) - 1;
+            }
+        }
+        BOUNDS_MICROS[BOUNDS_MICROS.length - 1] = Long.MAX_VALUE;
+    }
+
+    private final LongAdder[]     counts     = new LongAdder[BOUNDS_MICROS.length];
+    private final LongAdder       totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos   = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Bucket of a duration.
+     *
+     * @param micros duration in microseconds
+     * @return bucket index
+     */
+    static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return micros < 0 ? 0 : (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BOUNDS_MICROS.length - 1;
+        }
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos duration in nanoseconds
+     */
+    public void record(long nanos) {
+        counts[bucket(TimeUnit.NANOSECONDS.toMicros(nanos))].increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Number of recorded durations by bucket, see {@link #getBoundsMicros()}.
+     *
+     * @return count by bucket
+     */
+    public long[] getCounts() {
+        long[] result = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            result[i] = counts[i].sum();
+        }
+        return result;
+    }
+
+    /**
+     * Bucket upper bounds (inclusive) in microseconds, last one being Long.MAX_VALUE.
+     *
+     * @return bucket bounds
+     */
+    public long[] getBoundsMicros() {
+        return BOUNDS_MICROS.clone();
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder adder : counts) {
+            count += adder.sum();
+        }
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Duration under which a percentage of recorded durations are.
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return duration in microseconds, 0 if nothing is recorded
+     */
+    public long getPercentileMicros(double percentile) {
+        return percentileMicros(getCounts(), TimeUnit.NANOSECONDS.toMicros(getMaxNanos()),
+            percentile);
+    }
+
+    /**
+     * Duration under which a percentage of durations of a histogram are : upper bound of the
+     * bucket containing this rank, limited to maximum recorded duration.
+     *
+     * @param counts count by bucket, as returned by {@link #getCounts()}
+     * @param maxMicros maximum recorded duration in microseconds
+     * @param percentile percentile, between 0 and 100
+     * @return duration in microseconds, 0 if counts are empty
+     */
+    public static long percentileMicros(long[] counts, long maxMicros, double percentile) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, percentile) / 100));
+        long cumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulated += counts[i];
+            if (cumulated >= rank) {
+                return Math.min(BOUNDS_MICROS[i], maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    /** Reset all counters. */
+    public void reset() {
+        for (LongAdder adder : counts) {
+            adder.reset();
+        }
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
@@ -53,14 +53,19 @@ package com.oceanbase.jdbc.internal.util;
 import java.sql.SQLException;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.oceanbase.jdbc.internal.protocol.Protocol;
 import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
 
-public final class ServerPrepareStatementCache extends LinkedHashMap<String, ServerPrepareResult> {
+public final class ServerPrepareStatementCache extends LinkedHashMap<String, ServerPrepareResult>
+                                                                                                 implements
+                                                                                                 PrepareStatementCache {
 
-    private final int      maxSize;
-    private final Protocol protocol;
+    private final int           maxSize;
+    private final Protocol      protocol;
+    // not a monitor: eviction sends COM_STMT_CLOSE while the lock is held
+    private final ReentrantLock lock = new ReentrantLock();
 
     private ServerPrepareStatementCache(int size, Protocol protocol) {
         super(size, .75f, true);
@@ -68,7 +73,18 @@ public final class ServerPrepareStatementCache extends LinkedHashMap<String, Ser
         this.protocol = protocol;
     }
 
-    public static ServerPrepareStatementCache newInstance(int size, Protocol protocol) {
+    /**
+     * Create the prepare statement cache of a connection.
+     *
+     * @param size maximum number of cached statements
+     * @param protocol connection protocol, used to deallocate evicted statements
+     * @param tinyLfu use frequency based admission instead of LRU
+     * @return cache
+     */
+    public static PrepareStatementCache newInstance(int size, Protocol protocol, boolean tinyLfu) {
+        if (tinyLfu) {
+            return new TinyLfuPrepareStatementCache(size, protocol);
+        }
         return new ServerPrepareStatementCache(size, protocol);
     }
 
@@ -106,18 +122,26 @@ public final class ServerPrepareStatementCache extends LinkedHashMap<String, Ser
      * @return the previous value associated with key if not been deallocate, or null if there was no
      *     mapping for key.
      */
-    public synchronized ServerPrepareResult put(String key, ServerPrepareResult result) {
-        ServerPrepareResult cachedServerPrepareResult = super.get(key);
-        // if there is already some cached data (and not been deallocate), return existing cached data
-        if (cachedServerPrepareResult != null && cachedServerPrepareResult.incrementShareCounter()) {
-            if (cachedServerPrepareResult.isReturnByPrepareExecute() || !result.isReturnByPrepareExecute()) {
-                return cachedServerPrepareResult;
+    @Override
+    public ServerPrepareResult put(String key, ServerPrepareResult result) {
+        lock.lock();
+        try {
+            ServerPrepareResult cachedServerPrepareResult = super.get(key);
+            // if there is already some cached data (and not been deallocate), return existing cached data
+            if (cachedServerPrepareResult != null
+                && cachedServerPrepareResult.incrementShareCounter()) {
+                if (cachedServerPrepareResult.isReturnByPrepareExecute()
+                    || !result.isReturnByPrepareExecute()) {
+                    return cachedServerPrepareResult;
+                }
             }
+            // if no cache data, or been deallocate, or same ps-id from prepare-execute command, put new result in cache
+            result.setAddToCache();
+            super.put(key, result);
+            return null;
+        } finally {
+            lock.unlock();
         }
-        // if no cache data, or been deallocate, or same ps-id from prepare-execute command, put new result in cache
-        result.setAddToCache();
-        super.put(key, result);
-        return null;
     }
 
     @Override
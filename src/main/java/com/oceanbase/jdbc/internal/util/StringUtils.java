@@ -49,9 +49,9 @@ import java.sql.SQLException;
 
 public class StringUtils {
 
-    private static final int BYTE_RANGE = (1 + Byte.MAX_VALUE) - Byte.MIN_VALUE;
-    private static byte[] allBytes = new byte[BYTE_RANGE];
-    private static byte[] unknownCharsMap = new byte[65536];
+    private static final int BYTE_RANGE      = (1 + Byte.MAX_VALUE) - Byte.MIN_VALUE;
+    private static byte[]    allBytes        = new byte[BYTE_RANGE];
+    private static byte[]    unknownCharsMap = new byte[65536];
 
     static {
         for (int i = Byte.MIN_VALUE; i <= Byte.MAX_VALUE; i++) {
@@ -0,0 +1,436 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.oceanbase.jdbc.internal.protocol.Protocol;
+import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
+
+/**
+ * Server prepare statement cache using W-TinyLFU policy.
+ *
+ * <p>New entries go in a small LRU admission window (1% of size). Entries leaving the window are
+ * candidates to the main segmented LRU (probation / protected segments) and are only admitted if
+ * their estimated access frequency is higher than the probation victim. Frequencies are estimated
+ * with a 4-bit count-min sketch, halved periodically so that old popularity fades. This keeps
+ * frequently executed statements resident when many one-off queries are prepared.
+ *
+ * <p>Lookups are lock-free: accesses are recorded in a lossy buffer and replayed on the policy
+ * when the policy lock is free. Evicted statements are deallocated on server after the policy lock
+ * has been released.
+ */
+public final class TinyLfuPrepareStatementCache implements PrepareStatementCache {
+
+    private static final int                      WINDOW            = 0;
+    private static final int                      PROBATION         = 1;
+    private static final int                      PROTECTED         = 2;
+    private static final int                      READ_BUFFER_MAX   = 128;
+    private static final int                      READ_BUFFER_DRAIN = 32;
+
+    private final ConcurrentHashMap<String, Node> data              = new ConcurrentHashMap<>();
+    private final Queue<Node>                     readBuffer        = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger                   readBufferSize    = new AtomicInteger();
+    private final ReentrantLock                   policyLock        = new ReentrantLock();
+    private final FrequencySketch                 sketch;
+    private final Protocol                        protocol;
+    private final int                             maxSize;
+    private final int                             maxWindow;
+    private final int                             maxProtected;
+
+    // policy state, guarded by policyLock
+    private final Node[]                          heads             = new Node[3];
+    private final Node[]                          tails             = new Node[3];
+    private final int[]                           sizes             = new int[3];
+
+    public TinyLfuPrepareStatementCache(int size, Protocol protocol) {
+        this.maxSize = Math.max(1, size);
+        this.maxWindow = Math.max(1, maxSize / 100);
+        this.maxProtected = (maxSize - maxWindow) * 4 / 5;
+        this.sketch = new FrequencySketch(maxSize);
+        this.protocol = protocol;
+    }
+
+    @Override
+    public ServerPrepareResult get(Object key) {
+        Node node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (readBufferSize.get() < READ_BUFFER_MAX) {
+            readBufferSize.incrementAndGet();
+            readBuffer.add(node);
+        }
+        if (readBufferSize.get() >= READ_BUFFER_DRAIN && policyLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                policyLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    @Override
+    public ServerPrepareResult put(String key, ServerPrepareResult result) {
+        List<Node> evicted;
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            Node cached = data.get(key);
+            // if there is already some cached data (and not been deallocate), return existing cached data
+            if (cached != null && cached.value.incrementShareCounter()) {
+                if (cached.value.isReturnByPrepareExecute() || !result.isReturnByPrepareExecute()) {
+                    onAccess(cached);
+                    return cached.value;
+                }
+            }
+            // if no cache data, or been deallocate, or same ps-id from prepare-execute command, put new result in cache
+            result.setAddToCache();
+            Node node = new Node(key, result);
+            data.put(key, node);
+            if (cached != null) {
+                unlink(cached);
+            }
+            sketch.increment(key);
+            link(WINDOW, node);
+            evicted = evict();
+        } finally {
+            policyLock.unlock();
+        }
+        deallocate(evicted);
+        return null;
+    }
+
+    @Override
+    public ServerPrepareResult remove(Object key) {
+        Node node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        policyLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            policyLock.unlock();
+        }
+        return node.value;
+    }
+
+    @Override
+    public void clear() {
+        policyLock.lock();
+        try {
+            data.clear();
+            readBuffer.clear();
+            readBufferSize.set(0);
+            for (int i = 0; i < 3; i++) {
+                heads[i] = null;
+                tails[i] = null;
+                sizes[i] = 0;
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Indicate if key is in the protected segment, i.e. has been accessed again after its admission.
+     *
+     * @param key key
+     * @return true if in protected segment
+     */
+    public boolean isProtected(String key) {
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            Node node = data.get(key);
+            return node != null && node.queue == PROTECTED;
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void drainReadBuffer() {
+        Node node;
+        while ((node = readBuffer.poll()) != null) {
+            readBufferSize.decrementAndGet();
+            onAccess(node);
+        }
+    }
+
+    private void onAccess(Node node) {
+        sketch.increment(node.key);
+        if (!node.linked) {
+            // removed since access was recorded
+            return;
+        }
+        switch (node.queue) {
+            case WINDOW:
+                unlink(node);
+                link(WINDOW, node);
+                break;
+
+            case PROBATION:
+                unlink(node);
+                link(PROTECTED, node);
+                while (sizes[PROTECTED] > maxProtected) {
+                    Node demoted = heads[PROTECTED];
+                    unlink(demoted);
+                    link(PROBATION, demoted);
+                }
+                break;
+
+            default:
+                unlink(node);
+                link(PROTECTED, node);
+                break;
+        }
+    }
+
+    /**
+     * Move entries exceeding window size to main space, and evict from main space until cache size
+     * is respected.
+     *
+     * @return evicted entries, to be deallocated once policy lock is released.
+     */
+    private List<Node> evict() {
+        List<Node> evicted = null;
+        while (sizes[WINDOW] > maxWindow) {
+            Node candidate = heads[WINDOW];
+            unlink(candidate);
+            link(PROBATION, candidate);
+
+            if (sizes[WINDOW] + sizes[PROBATION] + sizes[PROTECTED] > maxSize) {
+                Node victim = heads[PROBATION];
+                if (victim == candidate && candidate.next != null) {
+                    victim = candidate.next;
+                }
+                if (victim == candidate) {
+                    victim = heads[PROTECTED] != null ? heads[PROTECTED] : candidate;
+                }
+                Node removed = (victim != candidate
+                                && sketch.frequency(candidate.key) <= sketch.frequency(victim.key))
+                        ? candidate : victim;
+                unlink(removed);
+                data.remove(removed.key, removed);
+                if (evicted == null) {
+                    evicted = new ArrayList<>();
+                }
+                evicted.add(removed);
+            }
+        }
+        return evicted;
+    }
+
+    private void deallocate(List<Node> evicted) {
+        if (evicted == null) {
+            return;
+        }
+        for (Node node : evicted) {
+            ServerPrepareResult serverPrepareResult = node.value;
+            serverPrepareResult.setRemoveFromCache();
+            if (serverPrepareResult.canBeDeallocate()) {
+                try {
+                    protocol.forceReleasePrepareStatement(serverPrepareResult.getStatementId());
+                } catch (SQLException e) {
+                    // eat exception
+                }
+            }
+        }
+    }
+
+    private void link(int queue, Node node) {
+        node.queue = queue;
+        node.linked = true;
+        node.next = null;
+        node.prev = tails[queue];
+        if (tails[queue] == null) {
+            heads[queue] = node;
+        } else {
+            tails[queue].next = node;
+        }
+        tails[queue] = node;
+        sizes[queue]++;
+    }
+
+    private void unlink(Node node) {
+        if (!node.linked) {
+            return;
+        }
+        int queue = node.queue;
+        if (node.prev == null) {
+            heads[queue] = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tails[queue] = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        sizes[queue]--;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("ServerPrepareStatementCache.map[");
+        for (Map.Entry<String, Node> entry : data.entrySet()) {
+            stringBuilder.append("\n").append(entry.getKey()).append("-")
+                .append(entry.getValue().value.getShareCounter());
+        }
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    private static final class Node {
+
+        private final String              key;
+        private final ServerPrepareResult value;
+        private int                       queue;
+        private boolean                   linked;
+        private Node                      prev;
+        private Node                      next;
+
+        Node(String key, ServerPrepareResult value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Count-min sketch of depth 4 with 4-bit counters, 16 counters per long. Counters are halved
+     * each time the number of increments reaches 10 times the cache size.
+     */
+    static final class FrequencySketch {
+
+        private static final long[] SEEDS      = { 0x97cb3127L, 0xbe9d2f91L, 0xc1bb5a2bL,
+                0x9e3779b9L                    };
+        private static final long   RESET_MASK = 0x7777777777777777L;
+
+        private final long[]        table;
+        private final int           tableMask;
+        private final int           sampleSize;
+        private int                 additions;
+
+        FrequencySketch(int maxSize) {
+            int length = Integer.highestOneBit(Math.max(2, maxSize) - 1) << 1;
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = 10 * Math.max(1, maxSize);
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int shift = counterShift(hash, i);
+                if (((table[index] >>> shift) & 0xfL) < 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                int count = (int) ((table[indexOf(hash, i)] >>> counterShift(hash, i)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int depth) {
+            long h = (hash + SEEDS[depth]) * SEEDS[depth];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        private int counterShift(int hash, int depth) {
+            // each depth uses its own 4 counters of the 16 available in the long
+            return (((hash >>> (depth << 3)) & 3) + (depth << 2)) << 2;
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
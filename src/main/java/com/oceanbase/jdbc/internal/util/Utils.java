@@ -55,6 +55,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Proxy;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.channels.SocketChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
@@ -70,6 +71,7 @@ import com.oceanbase.jdbc.OceanBaseStatement;
 import com.oceanbase.jdbc.TnsDaemon;
 import com.oceanbase.jdbc.UrlParser;
 import com.oceanbase.jdbc.internal.com.send.parameters.ParameterHolder;
+import com.oceanbase.jdbc.internal.failover.FailoverProtocol;
 import com.oceanbase.jdbc.internal.failover.FailoverProxy;
 import com.oceanbase.jdbc.internal.failover.impl.AuroraListener;
 import com.oceanbase.jdbc.internal.failover.impl.MastersFailoverListener;
@@ -79,9 +81,7 @@ import com.oceanbase.jdbc.internal.io.LruTraceCache;
 import com.oceanbase.jdbc.internal.io.socket.SocketHandlerFunction;
 import com.oceanbase.jdbc.internal.io.socket.SocketUtility;
 import com.oceanbase.jdbc.internal.logging.ProtocolLoggingProxy;
-import com.oceanbase.jdbc.internal.protocol.AuroraProtocol;
 import com.oceanbase.jdbc.internal.protocol.MasterProtocol;
-import com.oceanbase.jdbc.internal.protocol.MastersSlavesProtocol;
 import com.oceanbase.jdbc.internal.protocol.Protocol;
 import com.oceanbase.jdbc.internal.util.pool.GlobalStateInfo;
 import com.oceanbase.jdbc.util.ConfigurableSocketFactory;
@@ -194,6 +194,10 @@ public class Utils {
             exp);
       }
     }
+    if (options.useNioSocket && !Boolean.TRUE.equals(options.useSsl)) {
+      // socket adaptor of the channel, switched to non-blocking mode once connected
+      return SocketChannel.open().socket();
+    }
     socketFactory = SocketFactory.getDefault();
     return socketFactory.createSocket();
   }
@@ -1437,31 +1441,22 @@ public class Utils {
       case AURORA:
         return getProxyLoggingIfNeeded(
             urlParser,
-            (Protocol)
-                Proxy.newProxyInstance(
-                    AuroraProtocol.class.getClassLoader(),
-                    new Class[]{Protocol.class},
-                    new FailoverProxy(
-                        new AuroraListener(urlParser, globalInfo), lock, traceCache)));
+            new FailoverProtocol(
+                new FailoverProxy(
+                    new AuroraListener(urlParser, globalInfo), lock, traceCache)));
       case REPLICATION:
         return getProxyLoggingIfNeeded(
             urlParser,
-            (Protocol)
-                Proxy.newProxyInstance(
-                    MastersSlavesProtocol.class.getClassLoader(),
-                    new Class[]{Protocol.class},
-                    new FailoverProxy(
-                        new MastersSlavesListener(urlParser, globalInfo), lock, traceCache)));
+            new FailoverProtocol(
+                new FailoverProxy(
+                    new MastersSlavesListener(urlParser, globalInfo), lock, traceCache)));
       case LOADBALANCE:
       case SEQUENTIAL:
         return getProxyLoggingIfNeeded(
             urlParser,
-            (Protocol)
-                Proxy.newProxyInstance(
-                    MasterProtocol.class.getClassLoader(),
-                    new Class[]{Protocol.class},
-                    new FailoverProxy(
-                        new MastersFailoverListener(urlParser, globalInfo), lock, traceCache)));
+            new FailoverProtocol(
+                new FailoverProxy(
+                    new MastersFailoverListener(urlParser, globalInfo), lock, traceCache)));
       default:
         protocol =
             getProxyLoggingIfNeeded(
@@ -325,14 +325,16 @@ public class ClientPrepareResult implements PrepareResult {
 
             switch (car) {
                 case '*':
-                    if (state == LexState.Normal && lastChar == '/' && i > lastCommentEndStarPos + 2) {
+                    if (state == LexState.Normal && lastChar == '/'
+                        && i > lastCommentEndStarPos + 2) {
                         state = LexState.SlashStarComment;
                         lastCommentBeginSlashPos = i - 1;
                     }
                     break;
 
                 case '/':
-                    if (state == LexState.SlashStarComment && lastChar == '*' && i > lastCommentBeginSlashPos + 2) {
+                    if (state == LexState.SlashStarComment && lastChar == '*'
+                        && i > lastCommentBeginSlashPos + 2) {
                         state = LexState.Normal;
                         lastCommentEndStarPos = i - 1;
                     }
@@ -403,7 +405,7 @@ public class ClientPrepareResult implements PrepareResult {
                     }
                     break;
             }
-            i ++ ;
+            i++;
             lastChar = car;
         }
         return state != LexState.EOLComment && !endingSemicolon;
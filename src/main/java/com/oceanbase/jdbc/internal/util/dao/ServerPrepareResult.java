@@ -53,22 +53,26 @@ package com.oceanbase.jdbc.internal.util.dao;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.oceanbase.jdbc.internal.ColumnType;
+import com.oceanbase.jdbc.internal.com.read.dao.ColumnLabelIndexer;
 import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.com.send.ExecuteTemplate;
 import com.oceanbase.jdbc.internal.protocol.Protocol;
 
 public class ServerPrepareResult implements PrepareResult {
 
-    private final String             sql;
-    private int                      statementId;
-    private final ColumnDefinition[] columns;
-    private final ColumnDefinition[] parameters;
-    private ColumnType[]             parameterTypeHeader;
-    private final AtomicBoolean      inCache      = new AtomicBoolean();
-    private Protocol                 unProxiedProtocol;
+    private final String               sql;
+    private int                        statementId;
+    private final ColumnDefinition[]   columns;
+    private final ColumnDefinition[]   parameters;
+    private ColumnType[]               parameterTypeHeader;
+    private final AtomicBoolean        inCache      = new AtomicBoolean();
+    private Protocol                   unProxiedProtocol;
     // share indicator
-    private volatile int             shareCounter = 1;
-    private volatile boolean         isBeingDeallocate;
-    private volatile boolean         returnByPrepareExecute;
+    private volatile int               shareCounter = 1;
+    private volatile boolean           isBeingDeallocate;
+    private volatile boolean           returnByPrepareExecute;
+    private volatile ResultSetMetadata resultSetMetadata;
+    private ExecuteTemplate            executeTemplate;
 
     /**
      * PrepareStatement Result object.
@@ -91,6 +95,7 @@ public class ServerPrepareResult implements PrepareResult {
 
     public void resetParameterTypeHeader() {
         this.parameterTypeHeader = new ColumnType[parameters.length];
+        this.executeTemplate = null;
     }
 
     /**
@@ -103,6 +108,7 @@ public class ServerPrepareResult implements PrepareResult {
         this.statementId = statementId;
         this.unProxiedProtocol = unProxiedProtocol;
         this.parameterTypeHeader = new ColumnType[parameters.length];
+        this.executeTemplate = null;
         this.shareCounter = 1;
         this.isBeingDeallocate = false;
     }
@@ -178,6 +184,45 @@ public class ServerPrepareResult implements PrepareResult {
         return columns;
     }
 
+    /**
+     * Result-set columns of the last execution, if cached.
+     *
+     * @return cached columns or null
+     */
+    public ColumnDefinition[] getCachedResultSetColumns() {
+        ResultSetMetadata metadata = resultSetMetadata;
+        return metadata == null ? null : metadata.columns;
+    }
+
+    /**
+     * Cache result-set columns of an execution, to be reused by next executions if the server send
+     * identical column definitions.
+     *
+     * @param columns result-set columns
+     */
+    public void cacheResultSetColumns(ColumnDefinition[] columns) {
+        resultSetMetadata = new ResultSetMetadata(columns.clone());
+    }
+
+    /**
+     * Get the cached column label index, if result-set columns are the cached ones.
+     *
+     * @param columns result-set columns
+     * @return cached column label index or null
+     */
+    public ColumnLabelIndexer getColumnLabelIndexer(ColumnDefinition[] columns) {
+        ResultSetMetadata metadata = resultSetMetadata;
+        if (metadata == null || metadata.columns.length != columns.length) {
+            return null;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (metadata.columns[i] != columns[i]) {
+                return null;
+            }
+        }
+        return metadata.columnLabelIndexer;
+    }
+
     public ColumnDefinition[] getParameters() {
         return parameters;
     }
@@ -194,6 +239,18 @@ public class ServerPrepareResult implements PrepareResult {
         return parameterTypeHeader;
     }
 
+    /**
+     * Get COM_STMT_EXECUTE encoding state, reused between executions.
+     *
+     * @return execute template
+     */
+    public ExecuteTemplate getExecuteTemplate() {
+        if (executeTemplate == null) {
+            executeTemplate = new ExecuteTemplate(parameters.length);
+        }
+        return executeTemplate;
+    }
+
     public boolean isReturnByPrepareExecute() {
         return returnByPrepareExecute;
     }
@@ -202,4 +259,14 @@ public class ServerPrepareResult implements PrepareResult {
         this.returnByPrepareExecute = returnByPrepareExecute;
     }
 
+    private static final class ResultSetMetadata {
+
+        private final ColumnDefinition[] columns;
+        private final ColumnLabelIndexer columnLabelIndexer;
+
+        private ResultSetMetadata(ColumnDefinition[] columns) {
+            this.columns = columns;
+            this.columnLabelIndexer = new ColumnLabelIndexer(columns);
+        }
+    }
 }
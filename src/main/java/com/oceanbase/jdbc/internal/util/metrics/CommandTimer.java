@@ -0,0 +1,211 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util.metrics;
+
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics.Command;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics.Phase;
+
+/**
+ * Phase timing of the commands of a connection, fed by its packet streams.
+ *
+ * <p>Not thread-safe : packet streams of a connection are only used under the connection lock.
+ * Bytes are accumulated locally and only added to driver metrics once by command, to avoid
+ * touching shared counters for each packet.
+ *
+ * <p>Phases are timed for one command at a time. Pipelined commands (batches, possibly read by
+ * AsyncMultiRead on another thread, and pipelined queries) are excluded between {@link
+ * #startPipeline()} and {@link #endPipeline()} : only their bytes are recorded.
+ */
+public final class CommandTimer {
+
+    private static final int    IDLE      = 0;
+    private static final int    SENDING   = 1;
+    private static final int    WAITING   = 2;
+    private static final int    RECEIVING = 3;
+
+    private final DriverMetrics metrics;
+    private volatile boolean    pipelined;
+    private int                 state     = IDLE;
+    private Command             command   = Command.OTHER;
+    private long                sendStart;
+    private long                sendEnd;
+    private long                firstPacket;
+    private long                lastPacket;
+    private long                receiveNanos;
+    private long                bytesSent;
+    private long                bytesReceived;
+
+    public CommandTimer(DriverMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /** A new command packet is started. */
+    public void startSend() {
+        if (pipelined) {
+            return;
+        }
+        if (state == RECEIVING) {
+            // response end was not signaled, last packet is the best estimate
+            finish(lastPacket);
+        }
+        flushBytes();
+        state = SENDING;
+        command = Command.OTHER;
+        sendStart = System.nanoTime();
+    }
+
+    /**
+     * First byte of the command packet.
+     *
+     * @param commandByte command byte
+     */
+    public void command(int commandByte) {
+        command = Command.of(commandByte);
+    }
+
+    /**
+     * Packets have been flushed to socket.
+     *
+     * @param bytes number of bytes sent
+     */
+    public void endSend(long bytes) {
+        if (pipelined) {
+            metrics.addBytesSent(bytes);
+            return;
+        }
+        bytesSent += bytes;
+        if (state == SENDING) {
+            sendEnd = System.nanoTime();
+            metrics.recordLatency(command, Phase.SEND, sendEnd - sendStart);
+            state = WAITING;
+        }
+    }
+
+    /**
+     * Time before reading a packet, only needed when receiving the following packets of a
+     * response.
+     *
+     * @return current time, or 0 if not needed
+     */
+    public long beforeRead() {
+        return !pipelined && state == RECEIVING ? System.nanoTime() : 0;
+    }
+
+    /**
+     * A packet has been read.
+     *
+     * @param start value of {@link #beforeRead()}
+     * @param bytes packet size
+     */
+    public void afterRead(long start, int bytes) {
+        if (pipelined) {
+            metrics.addBytesReceived(bytes);
+            return;
+        }
+        bytesReceived += bytes;
+        if (state == WAITING) {
+            firstPacket = lastPacket = System.nanoTime();
+            metrics.recordLatency(command, Phase.SERVER_WAIT, firstPacket - sendEnd);
+            receiveNanos = 0;
+            state = RECEIVING;
+        } else if (state == RECEIVING) {
+            lastPacket = System.nanoTime();
+            receiveNanos += lastPacket - start;
+        }
+    }
+
+    /** Response has been completely read and decoded. */
+    public void endReceive() {
+        if (pipelined) {
+            return;
+        }
+        if (state == RECEIVING) {
+            finish(System.nanoTime());
+        }
+        flushBytes();
+    }
+
+    /**
+     * Commands will be sent before reading previous responses : responses cannot be matched with
+     * commands, and may be read on another thread. Bytes are directly added to driver metrics.
+     */
+    public void startPipeline() {
+        if (state == RECEIVING) {
+            finish(lastPacket);
+        }
+        flushBytes();
+        state = IDLE;
+        pipelined = true;
+    }
+
+    /** All responses of pipelined commands have been read. */
+    public void endPipeline() {
+        pipelined = false;
+        state = IDLE;
+    }
+
+    private void finish(long end) {
+        metrics.recordLatency(command, Phase.RECEIVE, receiveNanos);
+        metrics.recordLatency(command, Phase.DECODE, Math.max(0, end - firstPacket - receiveNanos));
+        state = IDLE;
+    }
+
+    private void flushBytes() {
+        if (bytesSent > 0) {
+            metrics.addBytesSent(bytesSent);
+            bytesSent = 0;
+        }
+        if (bytesReceived > 0) {
+            metrics.addBytesReceived(bytesReceived);
+            bytesReceived = 0;
+        }
+    }
+}
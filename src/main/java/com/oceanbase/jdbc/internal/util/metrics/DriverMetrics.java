@@ -0,0 +1,364 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.oceanbase.jdbc.internal.com.Packet;
+import com.oceanbase.jdbc.internal.logging.Logger;
+import com.oceanbase.jdbc.internal.logging.LoggerFactory;
+import com.oceanbase.jdbc.internal.util.LatencyHistogram;
+import com.oceanbase.jdbc.internal.util.scheduler.OceanBaseThreadFactory;
+import com.oceanbase.jdbc.metrics.MetricsExporter;
+import com.oceanbase.jdbc.metrics.MetricsExporterLoader;
+import com.oceanbase.jdbc.metrics.MetricsSnapshot;
+import com.oceanbase.jdbc.util.Options;
+
+/**
+ * Driver-wide metrics registry : latency by command and phase, bytes exchanged, cache hits and
+ * pool waits. All recording methods are lock-free, and can be called from any connection thread.
+ */
+public final class DriverMetrics implements DriverMetricsMBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverMetrics.class);
+
+    /** Command type, from the first byte of the command packet. */
+    public enum Command {
+        QUERY, PREPARE, EXECUTE, PREPARE_EXECUTE, FETCH, SEND_DATA, OTHER;
+
+        public static Command of(int commandByte) {
+            switch ((byte) commandByte) {
+                case Packet.COM_QUERY:
+                    return QUERY;
+                case Packet.COM_STMT_PREPARE:
+                    return PREPARE;
+                case Packet.COM_STMT_EXECUTE:
+                case Packet.COM_STMT_BULK_EXECUTE:
+                    return EXECUTE;
+                case Packet.COM_STMT_PREPARE_EXECUTE:
+                    return PREPARE_EXECUTE;
+                case Packet.COM_STMT_FETCH:
+                    return FETCH;
+                case Packet.COM_STMT_SEND_LONG_DATA:
+                case Packet.COM_STMT_SEND_PIECE_DATA:
+                    return SEND_DATA;
+                default:
+                    return OTHER;
+            }
+        }
+    }
+
+    /**
+     * Phase of a command.
+     *
+     * <ul>
+     *   <li>SEND : from packet start to socket flush, including parameter encoding
+     *   <li>SERVER_WAIT : from flush to first response packet
+     *   <li>RECEIVE : time blocked reading the following response packets
+     *   <li>DECODE : remaining response time, spent parsing packets into results
+     * </ul>
+     */
+    public enum Phase {
+        SEND, SERVER_WAIT, RECEIVE, DECODE
+    }
+
+    public enum Cache {
+        SERVER_PREPARE, CLIENT_PREPARE, RESULT_SET_METADATA
+    }
+
+    private static final int                    PHASES        = Phase.values().length;
+    private static final DriverMetrics          INSTANCE      = new DriverMetrics();
+
+    private final LatencyHistogram[]            latencies     = new LatencyHistogram[Command
+                                                                  .values().length * PHASES];
+    private final Map<String, LatencyHistogram> byName        = new LinkedHashMap<>();
+    private final LatencyHistogram              poolWait      = new LatencyHistogram();
+    private final LongAdder                     bytesSent     = new LongAdder();
+    private final LongAdder                     bytesReceived = new LongAdder();
+    private final LongAdder[]                   cacheHits     = new LongAdder[Cache.values().length];
+    private final LongAdder[]                   cacheMisses   = new LongAdder[Cache.values().length];
+    private final Map<String, Future<?>>        exporters     = new ConcurrentHashMap<>();
+    private ScheduledThreadPoolExecutor         exportScheduler;
+    private volatile boolean                    jmxRegistered;
+
+    DriverMetrics() {
+        for (Command command : Command.values()) {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = new LatencyHistogram();
+                latencies[command.ordinal() * PHASES + phase.ordinal()] = histogram;
+                byName.put(lowerCase(command) + "." + lowerCase(phase), histogram);
+            }
+        }
+        byName.put("pool.wait", poolWait);
+        for (int i = 0; i < cacheHits.length; i++) {
+            cacheHits[i] = new LongAdder();
+            cacheMisses[i] = new LongAdder();
+        }
+    }
+
+    public static DriverMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    private static String lowerCase(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Register MBean and start exporters of connection options, if not already done.
+     *
+     * @param options connection options
+     * @throws SQLException if an exporter type is not found
+     */
+    public void initialize(Options options) throws SQLException {
+        if (options.registerJmxMetrics && !jmxRegistered) {
+            registerJmx();
+        }
+        if (options.metricsExporters != null) {
+            for (String type : options.metricsExporters.split(",")) {
+                type = type.trim();
+                if (!type.isEmpty() && !exporters.containsKey(type)) {
+                    startExporter(type, MetricsExporterLoader.get(type),
+                        options.metricsExportInterval);
+                }
+            }
+        }
+    }
+
+    private synchronized void registerJmx() {
+        if (jmxRegistered) {
+            return;
+        }
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("com.oceanbase.jdbc:type=Metrics");
+            if (!mbs.isRegistered(name)) {
+                mbs.registerMBean(this, name);
+            }
+        } catch (Exception ex) {
+            logger.error("error registering metrics MBean", ex);
+        }
+        jmxRegistered = true;
+    }
+
+    synchronized void startExporter(String type, MetricsExporter exporter, int intervalSeconds) {
+        if (exporters.containsKey(type)) {
+            return;
+        }
+        if (exportScheduler == null) {
+            // own thread : a slow exporter must not delay tasks of shared driver schedulers
+            exportScheduler = new ScheduledThreadPoolExecutor(1, new OceanBaseThreadFactory(
+                "OceanBase-metrics"));
+            exportScheduler.setRemoveOnCancelPolicy(true);
+        }
+        Runnable task = () -> {
+            try {
+                exporter.export(snapshot());
+            } catch (Throwable t) {
+                logger.warn("metrics exporter '" + type + "' failed", t);
+            }
+        };
+        exporters.put(type, exportScheduler.scheduleAtFixedRate(task, intervalSeconds,
+            intervalSeconds, TimeUnit.SECONDS));
+    }
+
+    /** Stop exporters and their thread, when driver is deregistered. */
+    public synchronized void stopExporters() {
+        for (Future<?> future : exporters.values()) {
+            future.cancel(false);
+        }
+        exporters.clear();
+        if (exportScheduler != null) {
+            exportScheduler.shutdownNow();
+            exportScheduler = null;
+        }
+    }
+
+    public LatencyHistogram getLatency(Command command, Phase phase) {
+        return latencies[command.ordinal() * PHASES + phase.ordinal()];
+    }
+
+    public void recordLatency(Command command, Phase phase, long nanos) {
+        latencies[command.ordinal() * PHASES + phase.ordinal()].record(nanos);
+    }
+
+    public void recordPoolWait(long nanos) {
+        poolWait.record(nanos);
+    }
+
+    public void addBytesSent(long bytes) {
+        bytesSent.add(bytes);
+    }
+
+    public void addBytesReceived(long bytes) {
+        bytesReceived.add(bytes);
+    }
+
+    public void recordCacheHit(Cache cache) {
+        cacheHits[cache.ordinal()].increment();
+    }
+
+    public void recordCacheMiss(Cache cache) {
+        cacheMisses[cache.ordinal()].increment();
+    }
+
+    public void recordCache(Cache cache, boolean hit) {
+        (hit ? cacheHits : cacheMisses)[cache.ordinal()].increment();
+    }
+
+    /**
+     * Copy current metrics.
+     *
+     * @return snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, MetricsSnapshot.Histogram> histograms = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : byName.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            long[] counts = histogram.getCounts();
+            for (long count : counts) {
+                if (count > 0) {
+                    histograms.put(entry.getKey(), new MetricsSnapshot.Histogram(counts,
+                        histogram.getTotalNanos(), histogram.getMaxNanos()));
+                    break;
+                }
+            }
+        }
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("bytes.sent", bytesSent.sum());
+        counters.put("bytes.received", bytesReceived.sum());
+        for (Cache cache : Cache.values()) {
+            counters.put("cache." + lowerCase(cache) + ".hits", cacheHits[cache.ordinal()].sum());
+            counters.put("cache." + lowerCase(cache) + ".misses",
+                cacheMisses[cache.ordinal()].sum());
+        }
+        return new MetricsSnapshot(System.currentTimeMillis(), poolWait.getBoundsMicros(),
+            histograms, counters);
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    @Override
+    public String[] getLatencyNames() {
+        return snapshot().getLatencies().keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public long[] getLatencyBoundsMicros() {
+        return poolWait.getBoundsMicros();
+    }
+
+    @Override
+    public long[] getLatencyHistogram(String name) {
+        LatencyHistogram histogram = byName.get(name);
+        return histogram == null ? null : histogram.getCounts();
+    }
+
+    @Override
+    public long getLatencyPercentileMicros(String name, double percentile) {
+        LatencyHistogram histogram = byName.get(name);
+        return histogram == null ? -1 : histogram.getPercentileMicros(percentile);
+    }
+
+    @Override
+    public long getCacheHits(String cache) {
+        Cache value = cacheOf(cache);
+        return value == null ? -1 : cacheHits[value.ordinal()].sum();
+    }
+
+    @Override
+    public long getCacheMisses(String cache) {
+        Cache value = cacheOf(cache);
+        return value == null ? -1 : cacheMisses[value.ordinal()].sum();
+    }
+
+    private static Cache cacheOf(String name) {
+        for (Cache cache : Cache.values()) {
+            if (lowerCase(cache).equals(name)) {
+                return cache;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : byName.values()) {
+            histogram.reset();
+        }
+        bytesSent.reset();
+        bytesReceived.reset();
+        for (int i = 0; i < cacheHits.length; i++) {
+            cacheHits[i].reset();
+            cacheMisses[i].reset();
+        }
+    }
+}
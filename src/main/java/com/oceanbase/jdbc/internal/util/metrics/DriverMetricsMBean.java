@@ -0,0 +1,107 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util.metrics;
+
+public interface DriverMetricsMBean {
+
+    long getBytesSent();
+
+    long getBytesReceived();
+
+    /**
+     * Names of latency histograms with recorded durations, like "query.server_wait".
+     *
+     * @return histogram names
+     */
+    String[] getLatencyNames();
+
+    /**
+     * Upper bounds of latency histogram buckets, in microseconds.
+     *
+     * @return bucket bounds
+     */
+    long[] getLatencyBoundsMicros();
+
+    /**
+     * Number of durations by bucket of a latency histogram.
+     *
+     * @param name histogram name
+     * @return count by bucket, or null if name is unknown
+     */
+    long[] getLatencyHistogram(String name);
+
+    /**
+     * Duration under which a percentage of durations of a latency histogram are.
+     *
+     * @param name histogram name
+     * @param percentile percentile, between 0 and 100
+     * @return duration in microseconds, or -1 if name is unknown
+     */
+    long getLatencyPercentileMicros(String name, double percentile);
+
+    /**
+     * Number of cache hits.
+     *
+     * @param cache cache name : server_prepare, client_prepare or result_set_metadata
+     * @return hit count, or -1 if cache is unknown
+     */
+    long getCacheHits(String cache);
+
+    /**
+     * Number of cache misses.
+     *
+     * @param cache cache name : server_prepare, client_prepare or result_set_metadata
+     * @return miss count, or -1 if cache is unknown
+     */
+    long getCacheMisses(String cache);
+
+    void reset();
+}
@@ -0,0 +1,306 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util.pool;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free container of pool connections.
+ *
+ * <p>Each item has a state changed by compare-and-set, so borrowing never takes a lock:
+ *
+ * <ul>
+ *   <li>a thread first looks at the items it has released itself, most recent first, to get the
+ *       connection it has just used (thread affinity);
+ *   <li>then scans all items for an idle one;
+ *   <li>then waits on a fair hand-off queue, where released or newly added items are given directly
+ *       to waiting threads, in arrival order.
+ * </ul>
+ *
+ * @param <T> item type
+ */
+public class ConnectionBag<T> {
+
+    static final int                                         STATE_NOT_IN_USE    = 0;
+    static final int                                         STATE_IN_USE        = 1;
+    static final int                                         STATE_RESERVED      = 2;
+    static final int                                         STATE_REMOVED       = -1;
+
+    private static final int                                 MAX_THREAD_ITEMS    = 16;
+    private static final long                                HAND_OFF_PARK_NANOS = 10_000;
+
+    private final CopyOnWriteArrayList<Item<T>>              sharedList          = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<T, Item<T>>              items               = new ConcurrentHashMap<>();
+    private final ThreadLocal<List<WeakReference<Item<T>>>> threadItems         = new ThreadLocal<>();
+    private final SynchronousQueue<Item<T>>                  handOffQueue        = new SynchronousQueue<>(
+                                                                                     true);
+    private final AtomicInteger                              waiters             = new AtomicInteger();
+
+    /**
+     * Borrow an idle item.
+     *
+     * @param timeout maximum time to wait for an item, 0 to not wait
+     * @param timeUnit timeout unit
+     * @return an item now in use, or null if none became available in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T borrow(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        // items recently released by current thread
+        List<WeakReference<Item<T>>> released = threadItems.get();
+        if (released != null) {
+            for (int i = released.size() - 1; i >= 0; i--) {
+                Item<T> item = released.remove(i).get();
+                if (item != null && item.compareAndSet(STATE_NOT_IN_USE, STATE_IN_USE)) {
+                    return item.value;
+                }
+            }
+        }
+
+        // registered as waiter before scanning, so an item released meanwhile is handed off
+        waiters.incrementAndGet();
+        try {
+            for (Item<T> item : sharedList) {
+                if (item.compareAndSet(STATE_NOT_IN_USE, STATE_IN_USE)) {
+                    return item.value;
+                }
+            }
+
+            long remaining = timeUnit.toNanos(timeout);
+            while (remaining > 0) {
+                long start = System.nanoTime();
+                Item<T> item = handOffQueue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (item == null) {
+                    return null;
+                }
+                if (item.compareAndSet(STATE_NOT_IN_USE, STATE_IN_USE)) {
+                    return item.value;
+                }
+                remaining -= System.nanoTime() - start;
+            }
+            return null;
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Return a borrowed item to the bag.
+     *
+     * @param value item
+     */
+    public void requite(T value) {
+        Item<T> item = items.get(value);
+        if (item == null || !item.compareAndSet(STATE_IN_USE, STATE_NOT_IN_USE)) {
+            return;
+        }
+        handOff(item);
+
+        List<WeakReference<Item<T>>> released = threadItems.get();
+        if (released == null) {
+            released = new ArrayList<>(MAX_THREAD_ITEMS);
+            threadItems.set(released);
+        }
+        if (released.size() < MAX_THREAD_ITEMS) {
+            released.add(new WeakReference<>(item));
+        }
+    }
+
+    /**
+     * Add a new idle item.
+     *
+     * @param value item
+     */
+    public void add(T value) {
+        Item<T> item = new Item<>(value);
+        items.put(value, item);
+        sharedList.add(item);
+        handOff(item);
+    }
+
+    /**
+     * Give an idle item to a waiting thread, if any, until it has been taken.
+     *
+     * @param item idle item
+     */
+    private void handOff(Item<T> item) {
+        for (int i = 0; waiters.get() > 0; i++) {
+            if (item.get() != STATE_NOT_IN_USE || handOffQueue.offer(item)) {
+                return;
+            }
+            if ((i & 0xff) == 0xff) {
+                LockSupport.parkNanos(HAND_OFF_PARK_NANOS);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Reserve an idle item, so that it can't be borrowed, for validation or removal.
+     *
+     * @param value item
+     * @return true if item was idle and is now reserved
+     */
+    public boolean reserve(T value) {
+        Item<T> item = items.get(value);
+        return item != null && item.compareAndSet(STATE_NOT_IN_USE, STATE_RESERVED);
+    }
+
+    /**
+     * Make a reserved item idle again.
+     *
+     * @param value item
+     */
+    public void unreserve(T value) {
+        Item<T> item = items.get(value);
+        if (item != null && item.compareAndSet(STATE_RESERVED, STATE_NOT_IN_USE)) {
+            handOff(item);
+        }
+    }
+
+    /**
+     * Remove an item, whatever its state.
+     *
+     * @param value item
+     * @return true if item was in bag
+     */
+    public boolean remove(T value) {
+        Item<T> item = items.remove(value);
+        if (item == null) {
+            return false;
+        }
+        item.set(STATE_REMOVED);
+        sharedList.remove(item);
+        return true;
+    }
+
+    /**
+     * Remove an item only if idle or reserved.
+     *
+     * @param value item
+     * @return true if item has been removed
+     */
+    public boolean removeIdle(T value) {
+        Item<T> item = items.get(value);
+        if (item != null
+            && (item.compareAndSet(STATE_NOT_IN_USE, STATE_REMOVED) || item.compareAndSet(
+                STATE_RESERVED, STATE_REMOVED))) {
+            items.remove(value);
+            sharedList.remove(item);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Indicate if item is currently borrowed.
+     *
+     * @param value item
+     * @return true if borrowed
+     */
+    public boolean isBorrowed(T value) {
+        Item<T> item = items.get(value);
+        return item != null && item.get() == STATE_IN_USE;
+    }
+
+    /**
+     * Snapshot of idle items.
+     *
+     * @return idle items
+     */
+    public List<T> idleValues() {
+        List<T> idle = new ArrayList<>();
+        for (Item<T> item : sharedList) {
+            if (item.get() == STATE_NOT_IN_USE) {
+                idle.add(item.value);
+            }
+        }
+        return idle;
+    }
+
+    public int idleCount() {
+        int count = 0;
+        for (Item<T> item : sharedList) {
+            if (item.get() == STATE_NOT_IN_USE) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return sharedList.size();
+    }
+
+    public int getWaitingThreads() {
+        return waiters.get();
+    }
+
+    private static final class Item<T> extends AtomicInteger {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T value;
+
+        private Item(T value) {
+            super(STATE_NOT_IN_USE);
+            this.value = value;
+        }
+    }
+}
@@ -56,11 +56,10 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
@@ -73,6 +72,8 @@ import com.oceanbase.jdbc.UrlParser;
 import com.oceanbase.jdbc.internal.logging.Logger;
 import com.oceanbase.jdbc.internal.logging.LoggerFactory;
 import com.oceanbase.jdbc.internal.protocol.Protocol;
+import com.oceanbase.jdbc.internal.util.LatencyHistogram;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics;
 import com.oceanbase.jdbc.internal.util.Utils;
 import com.oceanbase.jdbc.internal.util.exceptions.ExceptionFactory;
 import com.oceanbase.jdbc.internal.util.scheduler.OceanBaseThreadFactory;
@@ -80,31 +81,36 @@ import com.oceanbase.jdbc.util.Options;
 
 public class Pool implements AutoCloseable, PoolMBean {
 
-    private static final Logger                                  logger               = LoggerFactory
-                                                                                          .getLogger(Pool.class);
+    private static final Logger                            logger               = LoggerFactory
+                                                                                    .getLogger(Pool.class);
 
-    private static final int                                     POOL_STATE_OK        = 0;
-    private static final int                                     POOL_STATE_CLOSING   = 1;
+    private static final int                               POOL_STATE_OK        = 0;
+    private static final int                               POOL_STATE_CLOSING   = 1;
 
-    private final AtomicInteger                                  poolState            = new AtomicInteger();
+    private final AtomicInteger                            poolState            = new AtomicInteger();
 
-    private final UrlParser                                      urlParser;
-    private final Options                                        options;
-    private final AtomicInteger                                  pendingRequestNumber = new AtomicInteger();
-    private final AtomicInteger                                  totalConnection      = new AtomicInteger();
+    private final UrlParser                                urlParser;
+    private final ProtocolFactory                          protocolFactory;
+    private final Options                                  options;
+    private final AtomicInteger                            pendingRequestNumber = new AtomicInteger();
+    private final AtomicInteger                            totalConnection      = new AtomicInteger();
 
-    private final LinkedBlockingDeque<OceanBasePooledConnection> idleConnections;
-    private final ThreadPoolExecutor                             connectionAppender;
-    private final BlockingQueue<Runnable>                        connectionAppenderQueue;
+    private final ConnectionBag<OceanBasePooledConnection> connections;
+    private final LatencyHistogram                         waitTimeHistogram    = new LatencyHistogram();
+    private final ThreadPoolExecutor                       connectionAppender;
+    private final BlockingQueue<Runnable>                  connectionAppenderQueue;
 
-    private final String                                         poolTag;
-    private final ScheduledThreadPoolExecutor                    poolExecutor;
-    private final ScheduledFuture                                scheduledFuture;
-    private GlobalStateInfo                                      globalInfo;
+    private final String                                   poolTag;
+    private final ScheduledThreadPoolExecutor              poolExecutor;
+    private final ScheduledFuture                          scheduledFuture;
+    private final ScheduledFuture<?>                       validationFuture;
+    private final long                                     maxLifetimeNanos;
+    private final ReentrantLock                            closeLock            = new ReentrantLock();
+    private GlobalStateInfo                                globalInfo;
 
-    private int                                                  maxIdleTime;
-    private long                                                 timeToConnectNanos;
-    private long                                                 connectionTime       = 0;
+    private int                                            maxIdleTime;
+    private long                                           timeToConnectNanos;
+    private long                                           connectionTime       = 0;
 
     /**
      * Create pool from configuration.
@@ -114,33 +120,62 @@ public class Pool implements AutoCloseable, PoolMBean {
      * @param poolExecutor pools common executor
      */
     public Pool(UrlParser urlParser, int poolIndex, ScheduledThreadPoolExecutor poolExecutor) {
+        this(urlParser, poolIndex, poolExecutor, Utils::retrieveProxy);
+    }
+
+    /**
+     * Create pool from configuration, with physical connections created by protocolFactory.
+     *
+     * @param urlParser configuration parser
+     * @param poolIndex pool index to permit distinction of thread name
+     * @param poolExecutor pools common executor
+     * @param protocolFactory creates the protocol of new connections
+     */
+    Pool(UrlParser urlParser, int poolIndex, ScheduledThreadPoolExecutor poolExecutor,
+         ProtocolFactory protocolFactory) {
 
     this.urlParser = urlParser;
+    this.protocolFactory = protocolFactory;
     options = urlParser.getOptions();
     this.maxIdleTime = options.maxIdleTime;
     poolTag = generatePoolTag(poolIndex);
 
-    // one thread to add new connection to pool.
-    connectionAppenderQueue = new ArrayBlockingQueue<>(options.maxPoolSize);
+    this.maxLifetimeNanos = TimeUnit.SECONDS.toNanos(options.poolMaxLifetime);
+
+    // one thread to add new connection to pool, or 'poolRefillThreads' when pre-filling.
+    int appenderThreads = options.poolPrefill ? options.poolRefillThreads : 1;
+    // room for one validation and one creation request per connection
+    connectionAppenderQueue = new ArrayBlockingQueue<>(2 * options.maxPoolSize);
     connectionAppender =
         new ThreadPoolExecutor(
-            1,
-            1,
+            appenderThreads,
+            appenderThreads,
             10,
             TimeUnit.SECONDS,
             connectionAppenderQueue,
             new OceanBaseThreadFactory(poolTag + "-appender"));
     connectionAppender.allowCoreThreadTimeOut(true);
     // create workers, since driver only interact with queue after that (i.e. not using .execute() )
-    connectionAppender.prestartCoreThread();
+    startAppenderWorkers();
 
-    idleConnections = new LinkedBlockingDeque<>();
+    connections = new ConnectionBag<>();
 
     int scheduleDelay = Math.min(30, maxIdleTime / 2);
+    if (options.poolMaxLifetime > 0) {
+      scheduleDelay = Math.max(1, Math.min(scheduleDelay, options.poolMaxLifetime / 2));
+    }
     this.poolExecutor = poolExecutor;
     scheduledFuture =
         poolExecutor.scheduleAtFixedRate(
             this::removeIdleTimeoutConnection, scheduleDelay, scheduleDelay, TimeUnit.SECONDS);
+    if (options.poolBackgroundValidation) {
+      long validationDelay = Math.max(1000, options.poolValidMinDelay);
+      validationFuture =
+          poolExecutor.scheduleWithFixedDelay(
+              this::validateIdleConnections, validationDelay, validationDelay, TimeUnit.MILLISECONDS);
+    } else {
+      validationFuture = null;
+    }
 
     if (options.registerJmxPool) {
       try {
@@ -151,15 +186,87 @@ public class Pool implements AutoCloseable, PoolMBean {
     }
 
     // create minimal connection in pool
-    try {
-      for (int i = 0; i < options.minPoolSize; i++) {
-        addConnection();
+    if (options.poolPrefill) {
+      prefill();
+    } else {
+      try {
+        for (int i = 0; i < options.minPoolSize; i++) {
+          addConnection();
+        }
+      } catch (SQLException sqle) {
+        logger.error("error initializing pool connection", sqle);
       }
-    } catch (SQLException sqle) {
-      logger.error("error initializing pool connection", sqle);
     }
   }
 
+    private void startAppenderWorkers() {
+        if (options.poolPrefill) {
+            connectionAppender.prestartAllCoreThreads();
+        } else {
+            connectionAppender.prestartCoreThread();
+        }
+    }
+
+    /**
+     * Create minimal connections in parallel using appender threads, waiting up to connectTimeout
+     * for them to be established.
+     */
+    private void prefill() {
+        List<FutureTask<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < options.minPoolSize; i++) {
+            FutureTask<Void> task = new FutureTask<>(() -> {
+                if (totalConnection.get() < options.minPoolSize) {
+                    addConnection();
+                }
+                return null;
+            });
+            if (connectionAppenderQueue.offer(task)) {
+                tasks.add(task);
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.connectTimeout);
+        for (FutureTask<Void> task : tasks) {
+            try {
+                task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException executionException) {
+                logger.error("error initializing pool connection", executionException.getCause());
+            } catch (TimeoutException timeoutException) {
+                logger.debug("pool {} initialization continues in background (total:{})", poolTag,
+                    totalConnection.get());
+                return;
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** Ask appender threads to create connections until minPoolSize is reached. */
+    private void refillToMinimum() {
+        for (int i = totalConnection.get(); i < options.minPoolSize; i++) {
+            addConnectionRequest();
+        }
+    }
+
+    /**
+     * Lifetime of a connection, shortened by up to 10% depending on seed, so connections created
+     * together are not all retired at the same time.
+     *
+     * @param maxLifetimeNanos maximum lifetime
+     * @param seed per-connection seed
+     * @return connection lifetime in nanoseconds
+     */
+    static long staggeredLifetime(long maxLifetimeNanos, int seed) {
+        return (long) (maxLifetimeNanos * (1 - 0.1 * ((seed & 0xffff) / 65536.0)));
+    }
+
+    private boolean isExpired(OceanBasePooledConnection item) {
+        return maxLifetimeNanos > 0
+               && System.nanoTime() - item.getCreationTime() > staggeredLifetime(maxLifetimeNanos,
+                   System.identityHashCode(item));
+    }
+
     /**
      * Add new connection if needed. Only one thread create new connection, so new connection request
      * will wait to newly created connection or for a released connection.
@@ -167,8 +274,8 @@ public class Pool implements AutoCloseable, PoolMBean {
     private void addConnectionRequest() {
     if (totalConnection.get() < options.maxPoolSize && poolState.get() == POOL_STATE_OK) {
 
-      // ensure to have one worker if was timeout
-      connectionAppender.prestartCoreThread();
+      // ensure to have workers if was timeout
+      startAppenderWorkers();
       connectionAppenderQueue.offer(
           () -> {
             if ((totalConnection.get() < options.minPoolSize || pendingRequestNumber.get() > 0)
@@ -189,13 +296,7 @@ public class Pool implements AutoCloseable, PoolMBean {
      */
     private void removeIdleTimeoutConnection() {
 
-        // descending iterator since first from queue are the first to be used
-        Iterator<OceanBasePooledConnection> iterator = idleConnections.descendingIterator();
-
-        OceanBasePooledConnection item;
-
-        while (iterator.hasNext()) {
-            item = iterator.next();
+        for (OceanBasePooledConnection item : connections.idleValues()) {
 
             long idleTime = System.nanoTime() - item.getLastUsed().get();
             boolean timedOut = idleTime > TimeUnit.SECONDS.toNanos(maxIdleTime);
@@ -218,20 +319,93 @@ public class Pool implements AutoCloseable, PoolMBean {
                 shouldBeReleased = true;
             }
 
-            if (shouldBeReleased && idleConnections.remove(item)) {
+            boolean expired = isExpired(item);
+
+            if ((shouldBeReleased || expired) && connections.removeIdle(item)) {
 
                 totalConnection.decrementAndGet();
                 silentCloseConnection(item);
                 addConnectionRequest();
                 if (logger.isDebugEnabled()) {
-                    logger
-                        .debug(
-                            "pool {} connection removed due to inactivity (total:{}, active:{}, pending:{})",
-                            poolTag, totalConnection.get(), getActiveConnections(),
-                            pendingRequestNumber.get());
+                    logger.debug(
+                        "pool {} connection removed due to {} (total:{}, active:{}, pending:{})",
+                        poolTag, shouldBeReleased ? "inactivity" : "max lifetime",
+                        totalConnection.get(), getActiveConnections(), pendingRequestNumber.get());
                 }
             }
         }
+
+        if (options.poolPrefill) {
+            refillToMinimum();
+        }
+    }
+
+    /**
+     * Validate connections that have been idle for more than poolValidMinDelay since last used or
+     * validated. Connections are reserved during validation, so borrowers skip them, and borrowing
+     * never validates.
+     */
+    private void validateIdleConnections() {
+        validateIdleConnections(TimeUnit.MILLISECONDS.toNanos(options.poolValidMinDelay));
+    }
+
+    /**
+     * Validate all idle connections after a connection error, since it may indicate a lost host.
+     * Every idle connection is reserved at once by the calling thread, so none can be borrowed until
+     * validated, and validations run in parallel on the 'poolRefillThreads' appender threads, which
+     * then replace failing connections.
+     */
+    private void scheduleValidationSweep() {
+        if (poolState.get() == POOL_STATE_OK) {
+            validateIdleConnections(0);
+        }
+    }
+
+    /**
+     * Reserve idle connections needing validation, and hand them to appender threads: the pools
+     * common scheduler must never block on a network round-trip. A connection that cannot be
+     * queued is made idle again, to be validated on a next pass.
+     *
+     * @param minDelay minimum time since last use or validation, in nanoseconds
+     */
+    private void validateIdleConnections(long minDelay) {
+        for (OceanBasePooledConnection item : connections.idleValues()) {
+            long now = System.nanoTime();
+            if (now - item.getLastUsed().get() <= minDelay
+                || now - item.getLastValidated().get() <= minDelay || !connections.reserve(item)) {
+                continue;
+            }
+
+            startAppenderWorkers();
+            if (!connectionAppenderQueue.offer(() -> validateConnection(item))) {
+                connections.unreserve(item);
+            }
+        }
+    }
+
+    private void validateConnection(OceanBasePooledConnection item) {
+        boolean valid;
+        try {
+            valid = item.getConnection().isValid(10); // 10 seconds timeout
+        } catch (SQLException sqle) {
+            valid = false;
+        }
+
+        if (valid) {
+            item.lastValidatedToNow();
+            connections.unreserve(item);
+        } else if (connections.removeIdle(item)) {
+            totalConnection.decrementAndGet();
+            silentAbortConnection(item);
+            addConnectionRequest();
+            if (logger.isDebugEnabled()) {
+                logger
+                    .debug(
+                        "pool {} connection removed from pool due to failed background validation (total:{}, active:{}, pending:{})",
+                        poolTag, totalConnection.get(), getActiveConnections(),
+                        pendingRequestNumber.get());
+            }
+        }
     }
 
     /**
@@ -242,7 +416,7 @@ public class Pool implements AutoCloseable, PoolMBean {
     private void addConnection() throws SQLException {
 
         // create new connection
-        Protocol protocol = Utils.retrieveProxy(urlParser, globalInfo);
+        Protocol protocol = protocolFactory.create(urlParser, globalInfo);
         OceanBaseConnection connection = new OceanBaseConnection(protocol);
         OceanBasePooledConnection pooledConnection = createPoolConnection(connection);
 
@@ -260,7 +434,7 @@ public class Pool implements AutoCloseable, PoolMBean {
 
         if (poolState.get() == POOL_STATE_OK
             && totalConnection.incrementAndGet() <= options.maxPoolSize) {
-            idleConnections.addFirst(pooledConnection);
+            connections.add(pooledConnection);
 
             if (logger.isDebugEnabled()) {
                 logger.debug(
@@ -274,10 +448,6 @@ public class Pool implements AutoCloseable, PoolMBean {
         silentCloseConnection(pooledConnection);
     }
 
-    private OceanBasePooledConnection getIdleConnection() throws InterruptedException {
-        return getIdleConnection(0, TimeUnit.NANOSECONDS);
-    }
-
     /**
      * Get an existing idle connection in pool.
      *
@@ -286,14 +456,17 @@ public class Pool implements AutoCloseable, PoolMBean {
     private OceanBasePooledConnection getIdleConnection(long timeout, TimeUnit timeUnit)
                                                                                         throws InterruptedException {
 
+        long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
         while (true) {
-            OceanBasePooledConnection item = (timeout == 0) ? idleConnections.pollFirst()
-                : idleConnections.pollFirst(timeout, timeUnit);
+            OceanBasePooledConnection item = connections.borrow(
+                Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
 
             if (item != null) {
                 OceanBaseConnection connection = item.getConnection();
                 try {
-                    if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - item.getLastUsed().get()) > options.poolValidMinDelay) {
+                    if (!options.poolBackgroundValidation
+                        && TimeUnit.NANOSECONDS.toMillis(System.nanoTime()
+                                                         - item.getLastUsed().get()) > options.poolValidMinDelay) {
 
                         // validate connection
                         if (connection.isValid(10)) { // 10 seconds timeout
@@ -312,6 +485,7 @@ public class Pool implements AutoCloseable, PoolMBean {
                     // eat
                 }
 
+                connections.remove(item);
                 totalConnection.decrementAndGet();
 
                 // validation failed
@@ -356,13 +530,24 @@ public class Pool implements AutoCloseable, PoolMBean {
                 OceanBasePooledConnection item = (OceanBasePooledConnection) event.getSource();
                 if (poolState.get() == POOL_STATE_OK) {
                     try {
-                        if (!idleConnections.contains(item)) {
+                        if (connections.isBorrowed(item)) {
+                            if (isExpired(item)) {
+                                // retire connection instead of returning it to pool
+                                connections.remove(item);
+                                totalConnection.decrementAndGet();
+                                silentCloseConnection(item);
+                                addConnectionRequest();
+                                logger.debug("connection removed from pool {} due to max lifetime",
+                                    poolTag);
+                                return;
+                            }
                             item.getConnection().reset();
-                            idleConnections.addFirst(item);
+                            connections.requite(item);
                         }
                     } catch (SQLException sqle) {
 
                         // sql exception during reset, removing connection from pool
+                        connections.remove(item);
                         totalConnection.decrementAndGet();
                         silentCloseConnection(item);
                         logger.debug("connection removed from pool {} due to error during reset",
@@ -370,6 +555,7 @@ public class Pool implements AutoCloseable, PoolMBean {
                     }
                 } else {
                     // pool is closed, should then not be render to pool, but closed.
+                    connections.remove(item);
                     try {
                         item.close();
                     } catch (SQLException sqle) {
@@ -383,11 +569,14 @@ public class Pool implements AutoCloseable, PoolMBean {
             public void connectionErrorOccurred(ConnectionEvent event) {
 
                 OceanBasePooledConnection item = ((OceanBasePooledConnection) event.getSource());
-                if (idleConnections.remove(item)) {
+                if (connections.remove(item)) {
                     totalConnection.decrementAndGet();
                 }
                 silentCloseConnection(item);
                 addConnectionRequest();
+                if (options.poolPrefill) {
+                    scheduleValidationSweep();
+                }
                 logger
                     .debug(
                         "connection {} removed from pool {} due to having throw a Connection exception (total:{}, active:{}, pending:{})",
@@ -401,14 +590,14 @@ public class Pool implements AutoCloseable, PoolMBean {
     public OceanBasePooledConnection getPooledConnection() throws SQLException {
 
         pendingRequestNumber.incrementAndGet();
+        long start = System.nanoTime();
 
         OceanBasePooledConnection pooledConnection;
 
         try {
 
-            // try to get Idle connection if any (with a very small timeout)
-            if ((pooledConnection = getIdleConnection(totalConnection.get() > 4 ? 0 : 50,
-                TimeUnit.MICROSECONDS)) != null) {
+            // try to get Idle connection if any
+            if ((pooledConnection = getIdleConnection(0, TimeUnit.NANOSECONDS)) != null) {
                 return pooledConnection;
             }
 
@@ -431,6 +620,11 @@ public class Pool implements AutoCloseable, PoolMBean {
             throw ExceptionFactory.INSTANCE.create("Thread was interrupted", "70100", interrupted);
         } finally {
             pendingRequestNumber.decrementAndGet();
+            long waitNanos = System.nanoTime() - start;
+            waitTimeHistogram.record(waitNanos);
+            if (options.useMetrics) {
+                DriverMetrics.getInstance().recordPoolWait(waitNanos);
+            }
         }
     }
 
@@ -496,12 +690,16 @@ public class Pool implements AutoCloseable, PoolMBean {
      * @throws InterruptedException if interrupted
      */
     public void close() throws InterruptedException {
-    synchronized (this) {
+    closeLock.lock();
+    try {
       Pools.remove(this);
       poolState.set(POOL_STATE_CLOSING);
       pendingRequestNumber.set(0);
 
       scheduledFuture.cancel(false);
+      if (validationFuture != null) {
+        validationFuture.cancel(false);
+      }
       connectionAppender.shutdown();
 
       try {
@@ -531,7 +729,7 @@ public class Pool implements AutoCloseable, PoolMBean {
       // loop for up to 10 seconds to close not used connection
       long start = System.nanoTime();
       do {
-        closeAll(connectionRemover, idleConnections);
+        closeAll(connectionRemover);
         if (totalConnection.get() > 0) {
           Thread.sleep(0, 10_00);
         }
@@ -539,8 +737,8 @@ public class Pool implements AutoCloseable, PoolMBean {
           && TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
 
       // after having wait for 10 seconds, force removal, even if used connections
-      if (totalConnection.get() > 0 || idleConnections.isEmpty()) {
-        closeAll(connectionRemover, idleConnections);
+      if (totalConnection.get() > 0 || connections.idleCount() == 0) {
+        closeAll(connectionRemover);
       }
 
       connectionRemover.shutdown();
@@ -550,14 +748,14 @@ public class Pool implements AutoCloseable, PoolMBean {
         // eat
       }
       connectionRemover.awaitTermination(10, TimeUnit.SECONDS);
+    } finally {
+      closeLock.unlock();
     }
   }
 
-    private void closeAll(ExecutorService connectionRemover,
-                          Collection<OceanBasePooledConnection> collection) {
-        synchronized (collection) { // synchronized mandatory to iterate Collections.synchronizedList()
-            for (OceanBasePooledConnection item : collection) {
-                collection.remove(item);
+    private void closeAll(ExecutorService connectionRemover) {
+        for (OceanBasePooledConnection item : connections.idleValues()) {
+            if (connections.removeIdle(item)) {
                 totalConnection.decrementAndGet();
                 try {
                     item.abort(connectionRemover);
@@ -645,7 +843,7 @@ public class Pool implements AutoCloseable, PoolMBean {
 
     @Override
     public long getActiveConnections() {
-        return totalConnection.get() - idleConnections.size();
+        return totalConnection.get() - connections.idleCount();
     }
 
     @Override
@@ -655,13 +853,28 @@ public class Pool implements AutoCloseable, PoolMBean {
 
     @Override
     public long getIdleConnections() {
-        return idleConnections.size();
+        return connections.idleCount();
     }
 
     public long getConnectionRequests() {
         return pendingRequestNumber.get();
     }
 
+    @Override
+    public long[] getConnectionWaitTimeHistogram() {
+        return waitTimeHistogram.getCounts();
+    }
+
+    @Override
+    public long[] getConnectionWaitTimeBoundsMicros() {
+        return waitTimeHistogram.getBoundsMicros();
+    }
+
+    @Override
+    public long getWaitingThreads() {
+        return connections.getWaitingThreads();
+    }
+
     private void registerJmx() throws Exception {
         MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
         String jmxName = poolTag.replace(":", "_");
@@ -689,7 +902,7 @@ public class Pool implements AutoCloseable, PoolMBean {
      */
     public List<Long> testGetConnectionIdleThreadIds() {
     List<Long> threadIds = new ArrayList<>();
-    for (OceanBasePooledConnection pooledConnection : idleConnections) {
+    for (OceanBasePooledConnection pooledConnection : connections.idleValues()) {
       threadIds.add(pooledConnection.getConnection().getServerThreadId());
     }
     return threadIds;
@@ -699,4 +912,9 @@ public class Pool implements AutoCloseable, PoolMBean {
     public void resetStaticGlobal() {
         globalInfo = null;
     }
+
+    /** Creates the protocol of new physical connections. */
+    interface ProtocolFactory {
+        Protocol create(UrlParser urlParser, GlobalStateInfo globalInfo) throws SQLException;
+    }
 }
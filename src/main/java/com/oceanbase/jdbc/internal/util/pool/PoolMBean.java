@@ -60,5 +60,22 @@ public interface PoolMBean {
 
     long getConnectionRequests();
 
+    /**
+     * Number of connection requests by time waited to get a connection, for buckets of
+     * getConnectionWaitTimeBoundsMicros().
+     *
+     * @return request count by wait time bucket
+     */
+    long[] getConnectionWaitTimeHistogram();
+
+    /**
+     * Upper bounds of wait time histogram buckets, in microseconds.
+     *
+     * @return bucket bounds
+     */
+    long[] getConnectionWaitTimeBoundsMicros();
+
+    long getWaitingThreads();
+
     void resetStaticGlobal();
 }
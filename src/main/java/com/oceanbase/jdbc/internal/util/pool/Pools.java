@@ -55,6 +55,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.oceanbase.jdbc.UrlParser;
 import com.oceanbase.jdbc.internal.util.scheduler.OceanBaseThreadFactory;
@@ -64,6 +65,7 @@ public class Pools {
   private static final AtomicInteger poolIndex = new AtomicInteger();
   private static final Map<UrlParser, Pool> poolMap = new ConcurrentHashMap<>();
   private static ScheduledThreadPoolExecutor poolExecutor = null;
+  private static final ReentrantLock poolLock = new ReentrantLock();
 
   /**
    * Get existing pool for a configuration. Create it if doesn't exists.
@@ -73,7 +75,8 @@ public class Pools {
    */
   public static Pool retrievePool(UrlParser urlParser) {
     if (!poolMap.containsKey(urlParser)) {
-      synchronized (poolMap) {
+      poolLock.lock();
+      try {
         if (!poolMap.containsKey(urlParser)) {
           if (poolExecutor == null) {
             poolExecutor =
@@ -84,6 +87,8 @@ public class Pools {
           poolMap.put(urlParser, pool);
           return pool;
         }
+      } finally {
+        poolLock.unlock();
       }
     }
     return poolMap.get(urlParser);
@@ -96,7 +101,8 @@ public class Pools {
    */
   public static void remove(Pool pool) {
     if (poolMap.containsKey(pool.getUrlParser())) {
-      synchronized (poolMap) {
+      poolLock.lock();
+      try {
         if (poolMap.containsKey(pool.getUrlParser())) {
           poolMap.remove(pool.getUrlParser());
 
@@ -104,13 +110,16 @@ public class Pools {
             shutdownExecutor();
           }
         }
+      } finally {
+        poolLock.unlock();
       }
     }
   }
 
   /** Close all pools. */
   public static void close() {
-    synchronized (poolMap) {
+    poolLock.lock();
+    try {
       for (Pool pool : poolMap.values()) {
         try {
           pool.close();
@@ -120,6 +129,8 @@ public class Pools {
       }
       shutdownExecutor();
       poolMap.clear();
+    } finally {
+      poolLock.unlock();
     }
   }
 
@@ -132,7 +143,8 @@ public class Pools {
     if (poolName == null) {
       return;
     }
-    synchronized (poolMap) {
+    poolLock.lock();
+    try {
       for (Pool pool : poolMap.values()) {
         if (poolName.equals(pool.getUrlParser().getOptions().poolName)) {
           try {
@@ -143,6 +155,8 @@ public class Pools {
           return;
         }
       }
+    } finally {
+      poolLock.unlock();
     }
   }
 
@@ -0,0 +1,352 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util.scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timer with O(1) schedule and cancel, for timeouts that are mostly cancelled before expiring (like
+ * query timeouts).
+ *
+ * <p>Timeouts are put in a circular array of buckets, each bucket covering one tick. A single
+ * worker thread advances one bucket per tick and hands expired timeouts to the task executor, so
+ * scheduling is only a queue insertion and cancellation only a state change, whereas a {@link
+ * ScheduledThreadPoolExecutor} has to maintain a delay heap under a lock. Timeouts expire with a
+ * precision of one tick.
+ */
+public class HashedWheelTimer {
+
+    private static final int          WORKER_INIT      = 0;
+    private static final int          WORKER_STARTED   = 1;
+    private static final int          WORKER_SHUTDOWN  = 2;
+
+    private static final int          MAX_TRANSFER     = 100_000;
+
+    private final long                tickNanos;
+    private final Bucket[]            wheel;
+    private final int                 mask;
+    private final Executor            taskExecutor;
+    private final Thread              workerThread;
+    private final AtomicInteger       workerState      = new AtomicInteger(WORKER_INIT);
+    private final CountDownLatch      startTimeLatch   = new CountDownLatch(1);
+    private final Queue<WheelTimeout> pendingTimeouts  = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private volatile long             startTime;
+
+    /**
+     * Create timer.
+     *
+     * @param tickDuration duration of a tick
+     * @param unit tick duration unit
+     * @param ticksPerWheel number of buckets, rounded up to a power of two
+     * @param threadFactory factory for the worker thread
+     * @param taskExecutor executor running expired tasks, so a slow task does not delay the wheel
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel,
+                            ThreadFactory threadFactory, Executor taskExecutor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: "
+                                               + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticksPerWheel must be in range 1-2^30: "
+                                               + ticksPerWheel);
+        }
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = size - 1;
+        tickNanos = unit.toNanos(tickDuration);
+        this.taskExecutor = taskExecutor;
+        workerThread = threadFactory.newThread(new Worker());
+    }
+
+    /**
+     * Schedule task to run after delay. Returned future can be cancelled, and waited for when task
+     * has already been handed to the executor.
+     *
+     * @param task task to run
+     * @param delay delay
+     * @param unit delay unit
+     * @return future of this timeout
+     */
+    public Future<?> newTimeout(Runnable task, long delay, TimeUnit unit) {
+        start();
+        WheelTimeout timeout = new WheelTimeout(task, System.nanoTime() + unit.toNanos(delay)
+                                                      - startTime);
+        pendingTimeouts.add(timeout);
+        if (workerState.get() == WORKER_SHUTDOWN && pendingTimeouts.remove(timeout)) {
+            throw new RejectedExecutionException("timer is stopped");
+        }
+        return timeout;
+    }
+
+    /**
+     * Number of timeouts not expired nor cancelled yet. For testing and monitoring purpose: this
+     * is not a constant time operation.
+     *
+     * @return pending timeout number
+     */
+    public int pendingTimeouts() {
+        int count = 0;
+        for (WheelTimeout timeout : pendingTimeouts) {
+            if (!timeout.isCancelled()) {
+                count++;
+            }
+        }
+        synchronized (wheel) {
+            for (Bucket bucket : wheel) {
+                count += bucket.size;
+            }
+        }
+        return count;
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            default:
+                throw new RejectedExecutionException("timer is stopped");
+        }
+
+        // wait until worker has initialized start time
+        while (startTime == 0) {
+            try {
+                startTimeLatch.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Stop timer. Timeouts not expired yet are discarded. */
+    public void stop() {
+        if (workerState.getAndSet(WORKER_SHUTDOWN) == WORKER_STARTED) {
+            workerThread.interrupt();
+        }
+    }
+
+    private final class Worker implements Runnable {
+
+        private long tick;
+
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            // 0 is used as "not started" marker
+            startTime = now == 0 ? 1 : now;
+            startTimeLatch.countDown();
+
+            while (workerState.get() == WORKER_STARTED) {
+                long deadline = waitForNextTick();
+                if (deadline < 0) {
+                    continue;
+                }
+                synchronized (wheel) {
+                    removeCancelled();
+                    transferPending();
+                    wheel[(int) (tick & mask)].expire(deadline);
+                }
+                tick++;
+            }
+            pendingTimeouts.clear();
+            cancelledTimeouts.clear();
+        }
+
+        /**
+         * Sleep until next tick.
+         *
+         * @return current time relative to start time, or -1 if interrupted
+         */
+        private long waitForNextTick() {
+            long deadline = tickNanos * (tick + 1);
+            while (true) {
+                long current = System.nanoTime() - startTime;
+                long sleepNanos = deadline - current;
+                if (sleepNanos <= 0) {
+                    return current;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException ie) {
+                    if (workerState.get() == WORKER_SHUTDOWN) {
+                        return -1;
+                    }
+                }
+            }
+        }
+
+        private void removeCancelled() {
+            WheelTimeout timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+            }
+        }
+
+        private void transferPending() {
+            for (int i = 0; i < MAX_TRANSFER; i++) {
+                WheelTimeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    return;
+                }
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+                long calculated = timeout.deadline / tickNanos;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+                // ensure a timeout already late is put in current bucket
+                long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+    }
+
+    private final class WheelTimeout extends FutureTask<Void> {
+
+        private final long   deadline;
+        private long         remainingRounds;
+        private WheelTimeout next;
+        private WheelTimeout prev;
+        private Bucket       bucket;
+
+        WheelTimeout(Runnable task, long deadline) {
+            super(task, null);
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                cancelledTimeouts.add(this);
+            }
+        }
+    }
+
+    /** Doubly linked list of timeouts, only accessed by worker thread. */
+    private final class Bucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+        private int          size;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+            size++;
+        }
+
+        void expire(long deadline) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    if (!timeout.isCancelled()) {
+                        try {
+                            taskExecutor.execute(timeout);
+                        } catch (RejectedExecutionException ree) {
+                            timeout.cancel(false);
+                        }
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            size--;
+        }
+    }
+}
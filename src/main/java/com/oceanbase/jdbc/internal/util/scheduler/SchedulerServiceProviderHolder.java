@@ -66,6 +66,7 @@ public class SchedulerServiceProviderHolder {
         private DynamicSizedSchedulerInterface dynamicSizedScheduler;
         private FixedSizedSchedulerImpl fixedSizedScheduler;
         private ScheduledThreadPoolExecutor timeoutScheduler;
+        private HashedWheelTimer timeoutTimer;
         private ThreadPoolExecutor threadPoolExecutor;
 
         @Override
@@ -109,6 +110,24 @@ public class SchedulerServiceProviderHolder {
           return timeoutScheduler;
         }
 
+        @Override
+        public HashedWheelTimer getTimeoutTimer() {
+          if (timeoutTimer == null) {
+            synchronized (this) {
+              if (timeoutTimer == null) {
+                timeoutTimer =
+                    new HashedWheelTimer(
+                        100,
+                        TimeUnit.MILLISECONDS,
+                        512,
+                        new OceanBaseThreadFactory("MariaDb-timeout-wheel"),
+                        getTimeoutScheduler());
+              }
+            }
+          }
+          return timeoutTimer;
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public ThreadPoolExecutor getBulkScheduler() {
@@ -137,6 +156,9 @@ public class SchedulerServiceProviderHolder {
             if (fixedSizedScheduler != null) {
               fixedSizedScheduler.shutdownNow();
             }
+            if (timeoutTimer != null) {
+              timeoutTimer.stop();
+            }
             if (timeoutScheduler != null) {
               timeoutScheduler.shutdownNow();
             }
@@ -146,6 +168,7 @@ public class SchedulerServiceProviderHolder {
 
             dynamicSizedScheduler = null;
             fixedSizedScheduler = null;
+            timeoutTimer = null;
             timeoutScheduler = null;
             threadPoolExecutor = null;
           }
@@ -218,6 +241,16 @@ public class SchedulerServiceProviderHolder {
     return getSchedulerProvider().getTimeoutScheduler();
   }
 
+  /**
+   * Get a timer to handle query timeouts.
+   *
+   * @return timer, or {@code null} if current provider only provides {@link
+   *     #getTimeoutScheduler()}
+   */
+  public static HashedWheelTimer getTimeoutTimer() {
+    return getSchedulerProvider().getTimeoutTimer();
+  }
+
   public static ThreadPoolExecutor getBulkScheduler() {
     return getSchedulerProvider().getBulkScheduler();
   }
@@ -252,6 +285,16 @@ public class SchedulerServiceProviderHolder {
      */
     ScheduledThreadPoolExecutor getTimeoutScheduler();
 
+    /**
+     * Timer for query timeouts, with constant time schedule and cancel, since most timeouts are
+     * cancelled when query ends.
+     *
+     * @return timer, or {@code null} to use {@link #getTimeoutScheduler()} for query timeouts
+     */
+    default HashedWheelTimer getTimeoutTimer() {
+      return null;
+    }
+
     ThreadPoolExecutor getBulkScheduler();
 
     void close();
@@ -0,0 +1,162 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.oceanbase.jdbc.internal.util.LatencyHistogram;
+
+/**
+ * Point-in-time copy of driver-wide metrics.
+ *
+ * <p>Latency histograms are named "command.phase", for example "query.send" or
+ * "execute.server_wait", and "pool.wait" for time waited to get a pooled connection. Counters
+ * are "bytes.sent", "bytes.received" and "cache.[name].hits"/"cache.[name].misses".
+ */
+public final class MetricsSnapshot {
+
+    /** Histogram of durations, sharing buckets bounds of the snapshot. */
+    public static final class Histogram {
+
+        private final long[] counts;
+        private final long   totalNanos;
+        private final long   maxNanos;
+
+        public Histogram(long[] counts, long totalNanos, long maxNanos) {
+            this.counts = counts;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Number of durations by bucket, see {@link MetricsSnapshot#getBoundsMicros()}.
+         *
+         * @return count by bucket
+         */
+        public long[] getCounts() {
+            return counts.clone();
+        }
+
+        public long getCount() {
+            long count = 0;
+            for (long bucketCount : counts) {
+                count += bucketCount;
+            }
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Duration under which a percentage of durations are, with bucket precision.
+         *
+         * @param percentile percentile, between 0 and 100
+         * @return duration in microseconds
+         */
+        public long getPercentileMicros(double percentile) {
+            return LatencyHistogram.percentileMicros(counts,
+                TimeUnit.NANOSECONDS.toMicros(maxNanos), percentile);
+        }
+    }
+
+    private final long                   timestamp;
+    private final long[]                 boundsMicros;
+    private final Map<String, Histogram> latencies;
+    private final Map<String, Long>      counters;
+
+    public MetricsSnapshot(long timestamp, long[] boundsMicros, Map<String, Histogram> latencies,
+                           Map<String, Long> counters) {
+        this.timestamp = timestamp;
+        this.boundsMicros = boundsMicros;
+        this.latencies = Collections.unmodifiableMap(latencies);
+        this.counters = Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * Snapshot time.
+     *
+     * @return time in milliseconds since epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Bucket upper bounds (inclusive) in microseconds of all histograms, last one being
+     * Long.MAX_VALUE.
+     *
+     * @return bucket bounds
+     */
+    public long[] getBoundsMicros() {
+        return boundsMicros.clone();
+    }
+
+    /**
+     * Latency histograms by name. Histograms without any recorded duration are omitted.
+     *
+     * @return histograms
+     */
+    public Map<String, Histogram> getLatencies() {
+        return latencies;
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.util;
+
+import java.lang.reflect.Constructor;
+import java.util.zip.Checksum;
+
+/**
+ * Provide CRC32C checksums with OceanBaseCRC32C semantic (initial value 0, no final xor).
+ *
+ * <p>On JDK 9+, java.util.zip.CRC32C is used: it is intrinsified by the JVM, using the CPU CRC32
+ * instructions when available. On Java 8, table-driven OceanBaseCRC32C is used.
+ */
+public final class CRC32CProvider {
+
+    private static final Constructor<?> JDK_CRC32C_CONSTRUCTOR = findJdkCrc32c();
+
+    private CRC32CProvider() {
+    }
+
+    private static Constructor<?> findJdkCrc32c() {
+        try {
+            return Class.forName("java.util.zip.CRC32C").getConstructor();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Indicate if java.util.zip.CRC32C is used.
+     *
+     * @return true if JDK implementation is available
+     */
+    public static boolean isJdkCrc32cAvailable() {
+        return JDK_CRC32C_CONSTRUCTOR != null;
+    }
+
+    /**
+     * Create a new checksum.
+     *
+     * @return checksum, with OceanBaseCRC32C semantic
+     */
+    public static Checksum newInstance() {
+        if (JDK_CRC32C_CONSTRUCTOR != null) {
+            try {
+                return new JdkCRC32C((Checksum) JDK_CRC32C_CONSTRUCTOR.newInstance());
+            } catch (Exception e) {
+                // fall back to table implementation
+            }
+        }
+        return new OceanBaseCRC32C();
+    }
+
+    /**
+     * Adapter of java.util.zip.CRC32C. JDK implementation starts with register 0xFFFFFFFF and
+     * inverts the result, while OceanBase checksum starts with register 0 and doesn't invert it.
+     * Feeding 4 bytes 0xFF right after reset clears the register, and result is inverted back.
+     */
+    static final class JdkCRC32C implements Checksum {
+
+        private static final byte[] CLEAR_REGISTER = { (byte) 0xff, (byte) 0xff, (byte) 0xff,
+                                                           (byte) 0xff };
+
+        private final Checksum      delegate;
+
+        JdkCRC32C(Checksum delegate) {
+            this.delegate = delegate;
+            reset();
+        }
+
+        @Override
+        public void update(int b) {
+            delegate.update(b);
+        }
+
+        @Override
+        public void update(byte[] b, int off, int len) {
+            delegate.update(b, off, len);
+        }
+
+        @Override
+        public long getValue() {
+            return ~delegate.getValue() & 0xffffffffL;
+        }
+
+        @Override
+        public void reset() {
+            delegate.reset();
+            delegate.update(CLEAR_REGISTER, 0, 4);
+        }
+    }
+}
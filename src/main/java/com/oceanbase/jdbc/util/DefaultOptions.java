@@ -935,7 +935,9 @@ public enum DefaultOptions {
             "useArrayBinding",
             Boolean.FALSE,
             "2.2.10",
-            "Oracle mode Use array binding to reduce network round-trips and increase performance.",
+            "Use array binding to send executeBatch rows in a few COM_STMT_EXECUTE, split by maxBatchTotalParamsNum and "
+                    + "maxAllowedPacket, to reduce network round-trips. In Oracle mode it only applies within a transaction. "
+                    + "In MySQL mode it requires OceanBase 4.0 or later, and is ignored otherwise.",
             false),
     SEND_CONNECTION_ATTRIBUTES(
             "sendConnectionAttributes",
@@ -1161,6 +1163,158 @@ public enum DefaultOptions {
             0,
             "2.4.14",
             "Maximum number of reconnects to attempt if 'autoReconnect' is 'true'.",
+            false),
+    USE_RECEIVE_BUFFER_POOL(
+            "useReceiveBufferPool",
+            Boolean.FALSE,
+            "2.4.14",
+            "Borrow the arrays of transient received packets and of packets bigger than 16M from a per-connection pool "
+                    + "of size-classed buffers instead of allocating new ones.",
+            false),
+    RECEIVE_BUFFER_POOL_SIZE(
+            "receiveBufferPoolSize",
+            16777216,
+            0,
+            "2.4.14",
+            "When 'useReceiveBufferPool' is enabled, maximum number of bytes kept in the receive buffer pool of each connection.",
+            false),
+    USE_ROW_CHUNK_STORAGE(
+            "useRowChunkStorage",
+            Boolean.FALSE,
+            "2.4.14",
+            "Store the rows of complete read-only result sets back to back in 1M chunks instead of one array per row, "
+                    + "to reduce heap footprint and garbage collection of big result sets.",
+            false),
+    USE_CLIENT_PREPARE_RESULT_CACHE(
+            "useClientPrepareResultCache",
+            Boolean.FALSE,
+            "2.4.14",
+            "Share the parsing result of client side prepared statements between all connections of the driver, "
+                    + "instead of parsing the SQL each time a statement is prepared. Queries longer than "
+                    + "'prepStmtCacheSqlLimit' are not cached.",
+            false),
+    CLIENT_PREPARE_RESULT_CACHE_SIZE(
+            "clientPrepareResultCacheSize",
+            1024,
+            1,
+            "2.4.14",
+            "When 'useClientPrepareResultCache' is enabled, maximum number of parsing results kept in the driver-wide cache.",
+            false),
+    USE_TINY_LFU_PREP_STMT_CACHE(
+            "useTinyLfuPrepStmtCache",
+            Boolean.FALSE,
+            "2.4.14",
+            "When 'cachePrepStmts' and 'useServerPrepStmts' are enabled, use a concurrent W-TinyLFU prepare statement cache "
+                    + "instead of LRU : frequently used statements stay in cache when many one-off queries are prepared.",
+            false),
+    USE_CURSOR_FETCH_PREFETCH(
+            "useCursorFetchPrefetch",
+            Boolean.FALSE,
+            "2.4.14",
+            "When 'useCursorFetch' is enabled, forward-only cursor result sets send the next fetch request as soon as "
+                    + "a batch of rows has been read, so that the next rows are transferred while the current batch is consumed.",
+            false),
+    COMPRESSION_LEVEL(
+            "compressionLevel",
+            -1,
+            -1,
+            "2.4.14",
+            "When 'useCompression' is enabled, compression level from 0 (no compression) to 9 (best compression). "
+                    + "-1 uses the default level of the algorithm. Low levels reduce CPU usage.",
+            false),
+    COMPRESSION_CODEC(
+            "compressionCodec",
+            "2.4.14",
+            "When 'useCompression' is enabled, class name of a custom "
+                    + "com.oceanbase.jdbc.internal.io.compress.CompressionCodec implementation, used instead of zlib "
+                    + "when the server advertises the capability required by the codec.",
+            false),
+    USE_BATCH_PIPELINING(
+            "useBatchPipelining",
+            Boolean.FALSE,
+            "2.4.14",
+            "When 'useBatchMultiSend' is enabled, batch commands are sent and their results read from the calling "
+                    + "thread, interleaving writes and reads so that unread results never exceed the socket receive buffer, "
+                    + "instead of reading results on the shared bulk thread pool.",
+            false),
+    CACHE_RESULT_SET_METADATA(
+            "cacheResultSetMetadata",
+            Boolean.FALSE,
+            "2.4.14",
+            "When using server prepared statements, keep the result-set column definitions of the last execution "
+                    + "with the prepared statement. Column definition packets of following executions are compared to them, "
+                    + "and identical definitions and column label index are reused instead of being parsed again.",
+            false),
+    POOL_BACKGROUND_VALIDATION(
+            "poolBackgroundValidation",
+            Boolean.FALSE,
+            "2.4.14",
+            "When using pool, validate idle connections on pool appender threads every 'poolValidMinDelay' "
+                    + "milliseconds (at least every second), instead of validating them on the borrowing thread when they "
+                    + "have not been used for 'poolValidMinDelay'.",
+            false),
+    POOL_MAX_LIFETIME(
+            "poolMaxLifetime",
+            0,
+            0,
+            "2.4.14",
+            "When using pool, maximum lifetime of a connection in seconds: older connections are closed and "
+                    + "replaced when idle. Lifetime of each connection is randomly shortened by up to 10% to avoid closing "
+                    + "all connections at the same time. 0 disables lifetime limit.",
+            false),
+    POOL_PREFILL(
+            "poolPrefill",
+            Boolean.FALSE,
+            "2.4.14",
+            "When using pool, keep 'minPoolSize' connections established in advance: they are created in parallel "
+                    + "when pool starts and refilled in parallel using 'poolRefillThreads' threads, and idle connections "
+                    + "are reserved and validated in parallel as soon as a connection error occurs, so that connections to a lost host are replaced "
+                    + "before being borrowed.",
+            false),
+    POOL_REFILL_THREADS(
+            "poolRefillThreads",
+            4,
+            1,
+            "2.4.14",
+            "When 'poolPrefill' is enabled, number of threads creating connections in parallel.",
+            false),
+    USE_NIO_SOCKET(
+            "useNioSocket",
+            Boolean.FALSE,
+            "2.4.14",
+            "Use a non-blocking NIO SocketChannel with direct buffers for TCP connections instead of "
+                    + "java.net.Socket streams. Packets of a command are sent together with a single buffer, and read "
+                    + "timeout relies on a selector. Not used with SSL, socketFactory, socksProxyHost, pipe, localSocket, "
+                    + "sharedMemory or obProxySocket. Interrupting a thread using the connection closes it.",
+            false),
+    USE_METRICS(
+            "useMetrics",
+            Boolean.TRUE,
+            "2.4.14",
+            "Collect driver-wide metrics: latency histograms by command and phase (send, server wait, receive, "
+                    + "decode), bytes sent and received, cache hit counts and pool wait time. Recording is lock-free and "
+                    + "does not need logging to be enabled.",
+            false),
+    REGISTER_METRICS_JMX(
+            "registerJmxMetrics",
+            Boolean.TRUE,
+            "2.4.14",
+            "Register driver-wide metrics as JMX MBean 'com.oceanbase.jdbc:type=Metrics'. Only used if useMetrics "
+                    + "is enabled.",
+            false),
+    METRICS_EXPORTERS(
+            "metricsExporters",
+            "2.4.14",
+            "Comma separated list of metrics exporter types. Exporters implement "
+                    + "com.oceanbase.jdbc.metrics.MetricsExporter and are registered with java.util.ServiceLoader. Each "
+                    + "exporter is started once for the driver, at first connection using it.",
+            false),
+    METRICS_EXPORT_INTERVAL(
+            "metricsExportInterval",
+            60,
+            1,
+            "2.4.14",
+            "Interval in seconds between two exports of metrics to metricsExporters.",
             false);
 
   private final String optionName;
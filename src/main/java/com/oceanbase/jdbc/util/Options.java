@@ -179,6 +179,26 @@ public class Options implements Cloneable {
     public int poolValidMinDelay = 1000;
     public boolean useResetConnection;
     public boolean useReadAheadInput = true;
+    public boolean useReceiveBufferPool;
+    public int receiveBufferPoolSize = 16777216;
+    public boolean useRowChunkStorage;
+    public boolean useClientPrepareResultCache;
+    public int clientPrepareResultCacheSize = 1024;
+    public boolean useTinyLfuPrepStmtCache;
+    public boolean useCursorFetchPrefetch;
+    public int compressionLevel = -1;
+    public String compressionCodec;
+    public boolean useBatchPipelining;
+    public boolean cacheResultSetMetadata;
+    public boolean poolBackgroundValidation;
+    public int poolMaxLifetime = 0;
+    public boolean poolPrefill;
+    public int poolRefillThreads = 4;
+    public boolean useNioSocket;
+    public boolean useMetrics = true;
+    public boolean registerJmxMetrics = true;
+    public String metricsExporters;
+    public int metricsExportInterval = 60;
 
     // MySQL sha authentication
     public String serverRsaPublicKeyFile;
@@ -739,6 +759,66 @@ public class Options implements Cloneable {
         if (maxReconnects != opt.maxReconnects) {
             return false;
         }
+        if (useReceiveBufferPool != opt.useReceiveBufferPool) {
+            return false;
+        }
+        if (receiveBufferPoolSize != opt.receiveBufferPoolSize) {
+            return false;
+        }
+        if (useRowChunkStorage != opt.useRowChunkStorage) {
+            return false;
+        }
+        if (useClientPrepareResultCache != opt.useClientPrepareResultCache) {
+            return false;
+        }
+        if (clientPrepareResultCacheSize != opt.clientPrepareResultCacheSize) {
+            return false;
+        }
+        if (useTinyLfuPrepStmtCache != opt.useTinyLfuPrepStmtCache) {
+            return false;
+        }
+        if (useCursorFetchPrefetch != opt.useCursorFetchPrefetch) {
+            return false;
+        }
+        if (compressionLevel != opt.compressionLevel) {
+            return false;
+        }
+        if (!Objects.equals(compressionCodec, opt.compressionCodec)) {
+            return false;
+        }
+        if (useBatchPipelining != opt.useBatchPipelining) {
+            return false;
+        }
+        if (cacheResultSetMetadata != opt.cacheResultSetMetadata) {
+            return false;
+        }
+        if (poolBackgroundValidation != opt.poolBackgroundValidation) {
+            return false;
+        }
+        if (poolMaxLifetime != opt.poolMaxLifetime) {
+            return false;
+        }
+        if (poolPrefill != opt.poolPrefill) {
+            return false;
+        }
+        if (poolRefillThreads != opt.poolRefillThreads) {
+            return false;
+        }
+        if (useNioSocket != opt.useNioSocket) {
+            return false;
+        }
+        if (useMetrics != opt.useMetrics) {
+            return false;
+        }
+        if (registerJmxMetrics != opt.registerJmxMetrics) {
+            return false;
+        }
+        if (!Objects.equals(metricsExporters, opt.metricsExporters)) {
+            return false;
+        }
+        if (metricsExportInterval != opt.metricsExportInterval) {
+            return false;
+        }
         return Objects.equals(minPoolSize, opt.minPoolSize);
     }
 
@@ -899,6 +979,26 @@ public class Options implements Cloneable {
         result = 31 * result + (emulateLocators ? 1 : 0);
         result = 31 * result + locatorFetchBufferSize;
         result = 31 * result + maxReconnects;
+        result = 31 * result + (useReceiveBufferPool ? 1 : 0);
+        result = 31 * result + receiveBufferPoolSize;
+        result = 31 * result + (useRowChunkStorage ? 1 : 0);
+        result = 31 * result + (useClientPrepareResultCache ? 1 : 0);
+        result = 31 * result + clientPrepareResultCacheSize;
+        result = 31 * result + (useTinyLfuPrepStmtCache ? 1 : 0);
+        result = 31 * result + (useCursorFetchPrefetch ? 1 : 0);
+        result = 31 * result + compressionLevel;
+        result = 31 * result + (compressionCodec != null ? compressionCodec.hashCode() : 0);
+        result = 31 * result + (useBatchPipelining ? 1 : 0);
+        result = 31 * result + (cacheResultSetMetadata ? 1 : 0);
+        result = 31 * result + (poolBackgroundValidation ? 1 : 0);
+        result = 31 * result + poolMaxLifetime;
+        result = 31 * result + (poolPrefill ? 1 : 0);
+        result = 31 * result + poolRefillThreads;
+        result = 31 * result + (useNioSocket ? 1 : 0);
+        result = 31 * result + (useMetrics ? 1 : 0);
+        result = 31 * result + (registerJmxMetrics ? 1 : 0);
+        result = 31 * result + (metricsExporters != null ? metricsExporters.hashCode() : 0);
+        result = 31 * result + metricsExportInterval;
         return result;
     }
 
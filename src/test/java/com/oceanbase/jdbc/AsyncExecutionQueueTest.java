@@ -0,0 +1,190 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.protocol.Protocol;
+import com.oceanbase.jdbc.util.Options;
+
+/** Asynchronous execution ordering, using a protocol that records executed queries. */
+public class AsyncExecutionQueueTest {
+
+    private final ReentrantLock      lock     = new ReentrantLock();
+    private final List<List<String>> commands = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    private OceanBaseConnection connection() throws SQLException {
+        Options options = new Options();
+        Protocol protocol = (Protocol) Proxy.newProxyInstance(Protocol.class.getClassLoader(),
+            new Class<?>[] { Protocol.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getOptions":
+                        return options;
+                    case "getLock":
+                        return lock;
+                    case "executePipelinedQueries":
+                        List<String> queries = (List<String>) args[2];
+                        commands.add(new ArrayList<>(queries));
+                        SQLException[] errors = new SQLException[queries.size()];
+                        for (int i = 0; i < queries.size(); i++) {
+                            if (queries.get(i).contains("wrong")) {
+                                errors[i] = new SQLSyntaxErrorException("wrong query", "42000");
+                            }
+                        }
+                        return errors;
+                    default:
+                        Class<?> type = method.getReturnType();
+                        if (type == boolean.class) {
+                            return false;
+                        } else if (type == int.class || type == long.class || type == short.class) {
+                            return type == long.class ? (Object) 0L : (type == short.class
+                                ? (Object) (short) 0 : (Object) 0);
+                        }
+                        return null;
+                }
+            });
+        return new OceanBaseConnection(protocol);
+    }
+
+    @Test
+    public void pipelineInSubmissionOrder() throws Exception {
+        OceanBaseConnection connection = connection();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
+        // connection busy : queries wait, then are sent together
+        lock.lock();
+        try {
+            for (int i = 0; i < 5; i++) {
+                OceanBaseStatement stmt = (OceanBaseStatement) connection.createStatement();
+                futures.add(stmt.executeAsync("SELECT " + i));
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (CompletableFuture<Boolean> future : futures) {
+            assertFalse(future.get(10, TimeUnit.SECONDS));
+        }
+
+        List<String> executed = new ArrayList<>();
+        for (List<String> command : commands) {
+            executed.addAll(command);
+        }
+        assertEquals(5, executed.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("SELECT " + i, executed.get(i));
+        }
+        assertEquals(1, commands.size());
+    }
+
+    @Test
+    public void errorOnlyFailsItsQuery() throws Exception {
+        OceanBaseConnection connection = connection();
+        CompletableFuture<Integer> first;
+        CompletableFuture<ResultSet> wrong;
+        CompletableFuture<Integer> last;
+        lock.lock();
+        try {
+            first = ((OceanBaseStatement) connection.createStatement())
+                .executeUpdateAsync("UPDATE t SET a = 1");
+            wrong = ((OceanBaseStatement) connection.createStatement())
+                .executeQueryAsync("SELECT * FROM wrong");
+            last = ((OceanBaseStatement) connection.createStatement())
+                .executeUpdateAsync("UPDATE t SET a = 2");
+        } finally {
+            lock.unlock();
+        }
+        first.get(10, TimeUnit.SECONDS);
+        last.get(10, TimeUnit.SECONDS);
+        try {
+            wrong.get(10, TimeUnit.SECONDS);
+            fail("must have thrown an error");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof SQLException);
+        }
+    }
+
+    @Test
+    public void onePendingExecutionByStatement() throws Exception {
+        OceanBaseConnection connection = connection();
+        OceanBaseStatement stmt = (OceanBaseStatement) connection.createStatement();
+        CompletableFuture<Boolean> pending;
+        CompletableFuture<Boolean> rejected;
+        lock.lock();
+        try {
+            pending = stmt.executeAsync("SELECT 1");
+            rejected = stmt.executeAsync("SELECT 2");
+        } finally {
+            lock.unlock();
+        }
+        assertFalse(pending.get(10, TimeUnit.SECONDS));
+        try {
+            rejected.get(10, TimeUnit.SECONDS);
+            fail("must have thrown an error");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof SQLException);
+        }
+        assertEquals(1, commands.size());
+    }
+}
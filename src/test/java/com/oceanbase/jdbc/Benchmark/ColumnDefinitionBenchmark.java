@@ -0,0 +1,134 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.Benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.oceanbase.jdbc.internal.ColumnType;
+import com.oceanbase.jdbc.internal.com.read.Buffer;
+import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+import com.oceanbase.jdbc.util.DefaultOptions;
+import com.oceanbase.jdbc.util.Options;
+
+/**
+ * Construction of a ColumnDefinition from a column definition packet, done for every column of
+ * every result set that is not served from a metadata cache.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ColumnDefinitionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ExecutionPlan {
+        @Param({ "true", "false" })
+        public boolean isOracleMode;
+
+        public Options options;
+        public byte[]  varcharPacket;
+        public byte[]  decimalPacket;
+
+        @Setup
+        public void setup() {
+            options = DefaultOptions.defaultValues(HaMode.NONE);
+            varcharPacket = columnPacket("CUSTOMER_NAME", ColumnType.VARCHAR.getType(), 33, 384);
+            decimalPacket = columnPacket("ORDER_AMOUNT", ColumnType.DECIMAL.getType(), 63, 22);
+        }
+
+        private static byte[] columnPacket(String name, int type, int charset, int length) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeLengthEncoded(out, "def");
+            writeLengthEncoded(out, "SALES");
+            writeLengthEncoded(out, "ORDERS");
+            writeLengthEncoded(out, "ORDERS");
+            writeLengthEncoded(out, name);
+            writeLengthEncoded(out, name);
+            out.write(0x0c);
+            out.write(charset);
+            out.write(0);
+            for (int i = 0; i < 4; i++) {
+                out.write(length >>> (8 * i));
+            }
+            out.write(type);
+            out.write(0); // flags
+            out.write(0);
+            out.write(2); // decimals
+            out.write(0); // filler
+            out.write(0);
+            return out.toByteArray();
+        }
+
+        private static void writeLengthEncoded(ByteArrayOutputStream out, String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.write(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+    }
+
+    @Benchmark
+    public ColumnDefinition varcharColumn(ExecutionPlan plan) {
+        return new ColumnDefinition(new Buffer(plan.varcharPacket), plan.isOracleMode, "UTF-8",
+            plan.options);
+    }
+
+    @Benchmark
+    public ColumnDefinition decimalColumn(ExecutionPlan plan) {
+        return new ColumnDefinition(new Buffer(plan.decimalPacket), plan.isOracleMode, "UTF-8",
+            plan.options);
+    }
+}
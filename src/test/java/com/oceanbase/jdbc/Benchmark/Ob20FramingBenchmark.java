@@ -0,0 +1,123 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.Benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Checksum;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.oceanbase.jdbc.internal.io.output.Ob20PacketOutputStream;
+import com.oceanbase.jdbc.internal.protocol.flt.OceanBaseProtocolV20;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+import com.oceanbase.jdbc.util.CRC32CProvider;
+import com.oceanbase.jdbc.util.DefaultOptions;
+import com.oceanbase.jdbc.util.OceanBaseCRC32C;
+import com.oceanbase.jdbc.util.Options;
+
+/**
+ * OceanBase 2.0 protocol framing of a command, with and without the payload checksum, and the
+ * CRC32C implementations used for that checksum.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Ob20FramingBenchmark {
+
+    @State(Scope.Thread)
+    public static class ExecutionPlan {
+        @Param({ "64", "8192", "1048576" })
+        public int                    length;
+        @Param({ "true", "false" })
+        public boolean                checksum;
+
+        public byte[]                 payload;
+        public Ob20PacketOutputStream writer;
+        public Checksum               provided = CRC32CProvider.newInstance();
+        public OceanBaseCRC32C        table    = new OceanBaseCRC32C();
+
+        @Setup
+        public void setup() {
+            payload = new byte[length];
+            new Random(0).nextBytes(payload);
+
+            Options options = DefaultOptions.defaultValues(HaMode.NONE);
+            options.enableOb20Checksum = checksum;
+            writer = new Ob20PacketOutputStream(new PacketWriteBenchmark.NullOutputStream(), 1,
+                options, new OceanBaseProtocolV20(false), null);
+        }
+    }
+
+    @Benchmark
+    public void writeCommand(ExecutionPlan plan) throws IOException {
+        plan.writer.startPacket(0);
+        plan.writer.write(plan.payload);
+        plan.writer.flush();
+    }
+
+    @Benchmark
+    public long providedCrc32c(ExecutionPlan plan) {
+        plan.provided.reset();
+        plan.provided.update(plan.payload, 0, plan.payload.length);
+        return plan.provided.getValue();
+    }
+
+    @Benchmark
+    public long tableCrc32c(ExecutionPlan plan) {
+        plan.table.reset();
+        plan.table.update(plan.payload, 0, plan.payload.length);
+        return plan.table.getValue();
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.Benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.oceanbase.jdbc.internal.io.output.StandardPacketOutputStream;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+import com.oceanbase.jdbc.util.DefaultOptions;
+import com.oceanbase.jdbc.util.Options;
+
+/**
+ * Encoding of string parameters into a MySQL packet, as done when a client prepared statement
+ * is sent. The packet stream writes to a discarding output stream, so only encoding, escaping
+ * and framing are measured.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PacketWriteBenchmark {
+
+    @State(Scope.Thread)
+    public static class ExecutionPlan {
+        @Param({ "16", "1024", "65536" })
+        public int                        length;
+        @Param({ "ascii", "quoted", "multibyte" })
+        public String                     content;
+        @Param({ "true", "false" })
+        public boolean                    noBackslashEscapes;
+
+        public String                     value;
+        public StandardPacketOutputStream writer;
+
+        @Setup
+        public void setup() {
+            String pattern;
+            if ("quoted".equals(content)) {
+                pattern = "it's a \"quoted\" \\ value ";
+            } else if ("multibyte".equals(content)) {
+                pattern = "海洋数据库 oceanbase ";
+            } else {
+                pattern = "select col from t where id = ";
+            }
+            StringBuilder sb = new StringBuilder(length);
+            while (sb.length() < length) {
+                sb.append(pattern);
+            }
+            value = sb.substring(0, length);
+
+            Options options = DefaultOptions.defaultValues(HaMode.NONE);
+            writer = new StandardPacketOutputStream(new NullOutputStream(), 1, options, null);
+        }
+    }
+
+    @Benchmark
+    public void writeEscaped(ExecutionPlan plan) throws IOException {
+        plan.writer.startPacket(0);
+        plan.writer.write(plan.value, true, plan.noBackslashEscapes);
+        plan.writer.flush();
+    }
+
+    @Benchmark
+    public void writeUnescaped(ExecutionPlan plan) throws IOException {
+        plan.writer.startPacket(0);
+        plan.writer.write(plan.value, false, plan.noBackslashEscapes);
+        plan.writer.flush();
+    }
+
+    /** Output stream dropping everything, standing for the socket. */
+    static class NullOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.Benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.oceanbase.jdbc.internal.ColumnType;
+import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.com.read.resultset.rowprotocol.BinaryRowProtocol;
+import com.oceanbase.jdbc.internal.com.read.resultset.rowprotocol.RowProtocol;
+import com.oceanbase.jdbc.internal.com.read.resultset.rowprotocol.TextRowProtocol;
+import com.oceanbase.jdbc.internal.protocol.Protocol;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+import com.oceanbase.jdbc.util.DefaultOptions;
+import com.oceanbase.jdbc.util.Options;
+
+/**
+ * Decoding of a single column from a row, for the text (COM_QUERY) and binary (COM_STMT_EXECUTE)
+ * row formats. Each invocation resets the row, so column offset parsing is part of the measure.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RowProtocolBenchmark {
+
+    private static final int INT_COLUMN       = 0;
+    private static final int BIGINT_COLUMN    = 1;
+    private static final int DOUBLE_COLUMN    = 2;
+    private static final int DECIMAL_COLUMN   = 3;
+    private static final int VARCHAR_COLUMN   = 4;
+    private static final int TIMESTAMP_COLUMN = 5;
+
+    @State(Scope.Thread)
+    public static class ExecutionPlan {
+        @Param({ "text", "binary" })
+        public String             protocol;
+
+        public ColumnDefinition[] columns;
+        public RowProtocol        row;
+        public byte[]             rowData;
+        public TimeZone           timeZone = TimeZone.getDefault();
+
+        @Setup
+        public void setup() {
+            Options options = DefaultOptions.defaultValues(HaMode.NONE);
+            columns = new ColumnDefinition[] {
+                    ColumnDefinition.create("c_int", ColumnType.INTEGER, false, "UTF-8", options),
+                    ColumnDefinition.create("c_bigint", ColumnType.BIGINT, false, "UTF-8", options),
+                    ColumnDefinition.create("c_double", ColumnType.DOUBLE, false, "UTF-8", options),
+                    ColumnDefinition.create("c_decimal", ColumnType.DECIMAL, false, "UTF-8",
+                        options),
+                    ColumnDefinition.create("c_varchar", ColumnType.VARCHAR, false, "UTF-8",
+                        options),
+                    ColumnDefinition.create("c_datetime", ColumnType.DATETIME, false, "UTF-8",
+                        options) };
+            if ("binary".equals(protocol)) {
+                row = new BinaryRowProtocol(columns, columns.length, 0, options);
+                rowData = binaryRow();
+            } else {
+                row = new TextRowProtocol(0, options);
+                rowData = textRow();
+            }
+            row.setProtocol(mysqlProtocol(options));
+        }
+
+        /** Getters only ask the protocol for the server mode and options. */
+        private static Protocol mysqlProtocol(final Options options) {
+            return (Protocol) Proxy.newProxyInstance(Protocol.class.getClassLoader(),
+                new Class<?>[] { Protocol.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if ("getOptions".equals(method.getName())) {
+                            return options;
+                        }
+                        Class<?> returnType = method.getReturnType();
+                        if (returnType == boolean.class) {
+                            return false;
+                        } else if (returnType == int.class) {
+                            return 0;
+                        } else if (returnType == long.class) {
+                            return 0L;
+                        }
+                        return null;
+                    }
+                });
+        }
+
+        private byte[] textRow() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeLengthEncoded(out, "123456");
+            writeLengthEncoded(out, "9876543210123");
+            writeLengthEncoded(out, "3.14159");
+            writeLengthEncoded(out, "12345.6789");
+            writeLengthEncoded(out, "oceanbase connector/j");
+            writeLengthEncoded(out, "2023-05-17 10:11:12");
+            return out.toByteArray();
+        }
+
+        private byte[] binaryRow() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(0x00); // packet header
+            out.write(0x00); // null bitmap, (6 + 9) / 8 bytes
+            writeLittleEndian(out, 123456, 4);
+            writeLittleEndian(out, 9876543210123L, 8);
+            writeLittleEndian(out, Double.doubleToLongBits(3.14159), 8);
+            writeLengthEncoded(out, "12345.6789");
+            writeLengthEncoded(out, "oceanbase connector/j");
+            out.write(7); // datetime without fractional seconds
+            writeLittleEndian(out, 2023, 2);
+            out.write(5);
+            out.write(17);
+            out.write(10);
+            out.write(11);
+            out.write(12);
+            return out.toByteArray();
+        }
+
+        private static void writeLengthEncoded(ByteArrayOutputStream out, String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.write(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        private static void writeLittleEndian(ByteArrayOutputStream out, long value, int length) {
+            for (int i = 0; i < length; i++) {
+                out.write((int) (value >>> (8 * i)));
+            }
+        }
+
+        RowProtocol position(int index) throws SQLException {
+            row.resetRow(rowData);
+            row.setPosition(index, null);
+            return row;
+        }
+    }
+
+    @Benchmark
+    public int getInt(ExecutionPlan plan) throws SQLException {
+        return plan.position(INT_COLUMN).getInternalInt(plan.columns[INT_COLUMN]);
+    }
+
+    @Benchmark
+    public long getLong(ExecutionPlan plan) throws SQLException {
+        return plan.position(BIGINT_COLUMN).getInternalLong(plan.columns[BIGINT_COLUMN]);
+    }
+
+    @Benchmark
+    public double getDouble(ExecutionPlan plan) throws SQLException {
+        return plan.position(DOUBLE_COLUMN).getInternalDouble(plan.columns[DOUBLE_COLUMN]);
+    }
+
+    @Benchmark
+    public BigDecimal getBigDecimal(ExecutionPlan plan) throws SQLException {
+        return plan.position(DECIMAL_COLUMN).getInternalBigDecimal(plan.columns[DECIMAL_COLUMN]);
+    }
+
+    @Benchmark
+    public String getString(ExecutionPlan plan) throws SQLException {
+        return plan.position(VARCHAR_COLUMN).getInternalString(plan.columns[VARCHAR_COLUMN], null,
+            plan.timeZone);
+    }
+
+    @Benchmark
+    public Timestamp getTimestamp(ExecutionPlan plan) throws SQLException {
+        return plan.position(TIMESTAMP_COLUMN).getInternalTimestamp(plan.columns[TIMESTAMP_COLUMN],
+            null, plan.timeZone);
+    }
+}
@@ -1455,7 +1455,7 @@ public class BlobOracleTest extends BaseOracleTest {
         InputStream stream = blob.getBinaryStream();
         ByteArrayOutputStream output = new ByteArrayOutputStream();
         byte[] buffer = new byte[1024];
-        int n ;
+        int n;
         while (-1 != (n = stream.read(buffer))) {
             output.write(buffer, 0, n);
         }
@@ -1549,7 +1549,7 @@ public class BlobOracleTest extends BaseOracleTest {
             Assert.assertEquals("aaa", rs.getString(1));
             Assert.assertEquals("aaa", rs.getString(1));
         } catch (SQLException e) {
-          fail();
+            fail();
         }
     }
 
@@ -1564,6 +1564,7 @@ public class BlobOracleTest extends BaseOracleTest {
         rs.close();
         stmt.close();
     }
+
     public void free(java.sql.Blob blob) throws SQLException {
         blob.free();
         assertEquals(0, ((com.oceanbase.jdbc.Blob) blob).length);
@@ -695,50 +695,51 @@ public class BlobTest extends BaseTest {
         rs.close();
         stmt.close();
     }
+
     public void free(java.sql.Blob blob) throws SQLException {
         blob.free();
-        assertEquals(0, ((com.oceanbase.jdbc.Blob)blob).length);
+        assertEquals(0, ((com.oceanbase.jdbc.Blob) blob).length);
         try {
             blob.length();
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB",e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
-            blob.setBytes(1,"aaaaabbbbb".getBytes());
+            blob.setBytes(1, "aaaaabbbbb".getBytes());
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB",e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             blob.getBytes(1, 5);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB",e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
-            blob.position(blob,1);
+            blob.position(blob, 1);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB",e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             blob.getBinaryStream();
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB",e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             blob.setBinaryStream(2);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB",e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             blob.truncate(3);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB",e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
     }
 }
@@ -8,7 +8,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
-public class CharsetOracleTest extends BaseOracleTest{
+public class CharsetOracleTest extends BaseOracleTest {
 
     @Test
     public void testHKSCSForDima2024062200102857062() throws SQLException {
@@ -962,10 +962,10 @@ public class ClobOracleTest extends BaseOracleTest {
             ResultSet rs = conn.prepareStatement("select * from t_lob for update").executeQuery();
             assertTrue(rs.next());
             com.oceanbase.jdbc.Clob clob = (com.oceanbase.jdbc.Clob) rs.getClob(1);
-//            clob.setString(1, "");
+            //            clob.setString(1, "");
             clob.setString(1, null);
             com.oceanbase.jdbc.Blob blob = (com.oceanbase.jdbc.Blob) rs.getBlob(2);
-//            blob.setBytes(1, "".getBytes());
+            //            blob.setBytes(1, "".getBytes());
             blob.setBytes(1, null);
             conn.setAutoCommit(true);
 
@@ -989,12 +989,12 @@ public class ClobOracleTest extends BaseOracleTest {
         assertTrue(rs.next());
         java.sql.Clob clob = rs.getClob(1);
         clob.truncate(3);
-        assertEquals("aaa",clob.getSubString(1, 3));
+        assertEquals("aaa", clob.getSubString(1, 3));
         try {
             clob.truncate(-1);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid argument: 'len' should not be < 0",e.getMessage());
+            assertEquals("Invalid argument: 'len' should not be < 0", e.getMessage());
         }
         try {
             clob.truncate(4);
@@ -1101,7 +1101,7 @@ public class ClobOracleTest extends BaseOracleTest {
     public void testClobLobLocatorV2ForAone55819451() {
         try {
             Connection conn = setConnectionOrigin("?useServerPrepStmts=true&usePieceData=true");
-            String clobTest = "t_clob" ;
+            String clobTest = "t_clob";
 
             createTable(clobTest, "c1 clob");
             PreparedStatement ps = conn.prepareStatement("insert into " + clobTest + " values(?)");
@@ -1144,7 +1144,6 @@ public class ClobOracleTest extends BaseOracleTest {
         }
     }
 
-
     @Test
     public void testTruncate() throws SQLException, IOException {
         String str = "string";
@@ -1247,7 +1246,7 @@ public class ClobOracleTest extends BaseOracleTest {
         Writer writer = clob.setCharacterStream(2);
         writer.write("abc");
         writer.flush();
-        Assert.assertEquals(" abc", clob.getSubString(1,4));
+        Assert.assertEquals(" abc", clob.getSubString(1, 4));
     }
 
     @Test
@@ -1263,60 +1262,60 @@ public class ClobOracleTest extends BaseOracleTest {
 
     public void free(java.sql.Clob clob) throws SQLException {
         clob.free();
-        assertEquals(0, ((com.oceanbase.jdbc.Clob)clob).length);
+        assertEquals(0, ((com.oceanbase.jdbc.Clob) clob).length);
         try {
-            clob.setString(3,"c");
+            clob.setString(3, "c");
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB" , e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             clob.getCharacterStream();
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB" , e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             clob.length();
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB" , e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             clob.setAsciiStream(3);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB" , e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             clob.getAsciiStream();
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB" , e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
-            clob.getSubString(1,8);
+            clob.getSubString(1, 8);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB" , e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
-            clob.position("b",1);
+            clob.position("b", 1);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB" , e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             clob.truncate(3);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB" , e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
         try {
             clob.setCharacterStream(1);
             fail();
         } catch (SQLException e) {
-            assertEquals("Invalid operation on closed LOB" , e.getMessage());
+            assertEquals("Invalid operation on closed LOB", e.getMessage());
         }
     }
 
@@ -1361,7 +1360,8 @@ public class ClobOracleTest extends BaseOracleTest {
                 }
             } catch (SQLException e) {
                 if (i == 1) {
-                    Assert.assertTrue(e.getMessage().contains(" Not supported send long data on ob oracle"));
+                    Assert.assertTrue(e.getMessage().contains(
+                        " Not supported send long data on ob oracle"));
                 }
             }
 
@@ -1390,7 +1390,7 @@ public class ClobOracleTest extends BaseOracleTest {
                 csBLob.execute();
                 fail();
             } catch (SQLException e) {
-               Assert.assertTrue(e.getMessage().contains("-5555, Incorrect number of arguments"));
+                Assert.assertTrue(e.getMessage().contains("-5555, Incorrect number of arguments"));
             }
 
             // case 5 & 15
@@ -1417,7 +1417,8 @@ public class ClobOracleTest extends BaseOracleTest {
                 }
             } catch (SQLException e) {
                 if (i == 1) {
-                    Assert.assertTrue(e.getMessage().contains(" Not supported send long data on ob oracle"));
+                    Assert.assertTrue(e.getMessage().contains(
+                        " Not supported send long data on ob oracle"));
                 }
             }
 
@@ -1467,7 +1468,8 @@ public class ClobOracleTest extends BaseOracleTest {
         stmt.execute("insert into t_clob values('aaa')");
         stmt.execute("create or replace type clob_array as table of clob");
 
-        createProcedure("p_clob", "(var out clob_array) is begin select c1 bulk collect into var FROM t_clob;end;");
+        createProcedure("p_clob",
+            "(var out clob_array) is begin select c1 bulk collect into var FROM t_clob;end;");
         CallableStatement cs = conn.prepareCall("{call p_clob(?)}");
         cs.registerOutParameter(1, Types.ARRAY, "CLOB_ARRAY");
         cs.execute();
@@ -380,13 +380,13 @@ public class ClobTest extends BaseTest {
             clob.truncate(-1);
             fail();
         } catch (StringIndexOutOfBoundsException e) {
-            assertEquals("String index out of range: -1",e.getMessage());
+            assertEquals("String index out of range: -1", e.getMessage());
         }
         try {
             clob.truncate(clob.length() + 1);
             fail();
         } catch (SQLException e) {
-            assertEquals("Cannot truncate CLOB of length 8 to length of 9.",e.getMessage());
+            assertEquals("Cannot truncate CLOB of length 8 to length of 9.", e.getMessage());
         }
         clob.truncate(clob.length());
         assertEquals("abcdefgh", clob.getSubString(1L, (int) clob.length()));
@@ -486,13 +486,14 @@ public class ClobTest extends BaseTest {
         rs.next();
         free(rs.getClob(1));
     }
+
     public void free(java.sql.Clob clob) throws SQLException {
         clob.free();
-        assertEquals(0, ((com.oceanbase.jdbc.Clob)clob).length);
+        assertEquals(0, ((com.oceanbase.jdbc.Clob) clob).length);
         assertNull(clob.getAsciiStream());
         assertNull(clob.getCharacterStream());
         assertNull(clob.getSubString(1, 1));
-        assertEquals(-1, clob.position("ab",1));
+        assertEquals(-1, clob.position("ab", 1));
         assertEquals(0, clob.length());
         try {
             clob.truncate(3);
@@ -541,12 +541,13 @@ public class ComplexOracleTest extends BaseOracleTest {
 
             Statement statement = conn.createStatement();
             String createPlSql = "CREATE OR REPLACE PROCEDURE test_cursor(a out int, p_cursor OUT sys_refcursor, b in out varchar2) "
-                    + "is BEGIN "
-                    + " open p_cursor for select * from "
-                    + refcursor1 + ";" + " a := 66; b := '99';" + "end;";
+                                 + "is BEGIN "
+                                 + " open p_cursor for select * from "
+                                 + refcursor1
+                                 + ";" + " a := 66; b := '99';" + "end;";
             statement.execute(createPlSql);
             CallableStatement csmt = conn.prepareCall("call test_cursor(?, ?, ?)",
-                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
             csmt.setFetchSize(10);
             csmt.registerOutParameter(1, Types.INTEGER);
             csmt.registerOutParameter(2, Types.REF);
@@ -854,15 +855,14 @@ public class ComplexOracleTest extends BaseOracleTest {
     }
 
     @Test
-    public void testCreateArrayOf(){
+    public void testCreateArrayOf() {
         try {
             Connection conn = sharedConnection;
             Statement stmt = conn.createStatement();
             stmt.execute("create or replace type a_type is table of varchar2(4000 byte)");
             stmt.execute("create or replace procedure my_proc_objarr (X IN a_type) is begin "
-                    + "for idx in 1..x.count loop "
-                    + "dbms_output.put_line(idx); "
-                    + "END LOOP; end");
+                         + "for idx in 1..x.count loop " + "dbms_output.put_line(idx); "
+                         + "END LOOP; end");
             CallableStatement cs = conn.prepareCall("{call my_proc_objarr(?)}");
 
             char[] varArray = new char[10];
@@ -933,8 +933,9 @@ public class ComplexOracleTest extends BaseOracleTest {
         } catch (SQLException e) {
         }
         stmt.execute("CREATE TABLE my_tt1(c1 number, c2 SDO_GEOMETRY)");
-        JDBC4ServerPreparedStatement ps = (JDBC4ServerPreparedStatement)conn.prepareStatement("insert into my_tt1 values(1, " +
-                "SDO_GEOMETRY(2001, NULL, SDO_POINT_TYPE(0, 1, NULL), NULL, NULL)) returning c2 into ?");
+        JDBC4ServerPreparedStatement ps = (JDBC4ServerPreparedStatement) conn
+            .prepareStatement("insert into my_tt1 values(1, "
+                              + "SDO_GEOMETRY(2001, NULL, SDO_POINT_TYPE(0, 1, NULL), NULL, NULL)) returning c2 into ?");
         ps.registerReturnParameter(1, Types.STRUCT, "SDO_GEOMETRY");
         ps.execute();
 
@@ -1013,18 +1014,20 @@ public class ComplexOracleTest extends BaseOracleTest {
 
         try {
             PreparedStatement ps = conn.prepareStatement("insert into t_gis2 values(2, ?)");
-            Object sdoPointType = conn.createStruct("SDO_POINT_TYPE", new Object[]{0, 1, null});
-            Object sdoGeometry = conn.createStruct("SDO_GEOMETRY", new Object[]{2001, null, sdoPointType, null, null});
+            Object sdoPointType = conn.createStruct("SDO_POINT_TYPE", new Object[] { 0, 1, null });
+            Object sdoGeometry = conn.createStruct("SDO_GEOMETRY", new Object[] { 2001, null,
+                    sdoPointType, null, null });
             ps.setObject(1, sdoGeometry);
             ps.execute();
 
-            PreparedStatement ps1 = conn.prepareStatement("select t.c2.sdo_gtype, t.c2.sdo_point, t.c2.sdo_point.y from t_gis2 t where t.c1 = 2");
+            PreparedStatement ps1 = conn
+                .prepareStatement("select t.c2.sdo_gtype, t.c2.sdo_point, t.c2.sdo_point.y from t_gis2 t where t.c1 = 2");
             ResultSet rs = ps1.executeQuery();
             assertTrue(rs.next());
             assertEquals(2001, rs.getInt(1));
             Struct struct = (Struct) rs.getObject(2);
             Object[] attributes = struct.getAttributes();
-            assertEquals(new BigDecimal(0) , attributes[0]);
+            assertEquals(new BigDecimal(0), attributes[0]);
             assertEquals(1, rs.getInt(3));
         } catch (Exception e) {
             fail();
@@ -1040,15 +1043,16 @@ public class ComplexOracleTest extends BaseOracleTest {
         stmt.execute("insert into t_gis7 values(1, SDO_GEOMETRY(2001, NULL, SDO_POINT_TYPE(10, 50, NULL), NULL, NULL))");
         stmt.execute("insert into t_gis7 values(2, sdo_geometry(2003, null, null, SDO_ELEM_INFO_ARRAY(1,1003,3), SDO_ORDINATE_ARRAY(1,1,5,7)))");
 
-        PreparedStatement ps = conn.prepareStatement("select t.c2.sdo_gtype, t.c2.sdo_srid, t.c2.sdo_point, t.c2.sdo_point.x, t.c2.sdo_point.y, t.c2.sdo_point.z from t_gis7 t where c1 = 1");
+        PreparedStatement ps = conn
+            .prepareStatement("select t.c2.sdo_gtype, t.c2.sdo_srid, t.c2.sdo_point, t.c2.sdo_point.x, t.c2.sdo_point.y, t.c2.sdo_point.z from t_gis7 t where c1 = 1");
         ResultSet rs = ps.executeQuery();
         rs.next();
         assertEquals(2001, rs.getInt(1));
         assertNull(rs.getString(2));
         Object[] point = ((Struct) rs.getObject(3)).getAttributes();
         assertEquals(3, point.length);
-        assertEquals(new BigDecimal(10) , rs.getBigDecimal(4));
-        assertEquals(new BigDecimal(50) , rs.getBigDecimal(5));
+        assertEquals(new BigDecimal(10), rs.getBigDecimal(4));
+        assertEquals(new BigDecimal(50), rs.getBigDecimal(5));
         assertNull(rs.getBigDecimal(6));
     }
 
@@ -1069,13 +1073,13 @@ public class ComplexOracleTest extends BaseOracleTest {
         stmt.execute("create or replace type obj0 force as object(c0 int)");
         stmt.execute("create or replace public synonym syn_obj0 for obj0");
         stmt.execute("create or replace procedure p1(a out syn_obj0) is begin null;end;");
-        CallableStatement cs =conn.prepareCall("call p1(?)");
+        CallableStatement cs = conn.prepareCall("call p1(?)");
         cs.registerOutParameter(1, Types.STRUCT);
         cs.execute();
         cs.close();
 
         String url = System.getProperty("DbUrl2") + synonyms;
-        Connection conn2 = DriverManager.getConnection(url, synonyms+"@oracle", synonyms);
+        Connection conn2 = DriverManager.getConnection(url, synonyms + "@oracle", synonyms);
         Statement stmt2 = conn2.createStatement();
         stmt2.execute("create or replace procedure p1(a out syn_obj0) is begin null; end;");
         CallableStatement cs2 = conn2.prepareCall("call p1(?)");
@@ -1097,9 +1101,9 @@ public class ComplexOracleTest extends BaseOracleTest {
         stmt.execute("create or replace synonym syn_obj0 for obj0");
 
         stmt.execute("create or replace procedure p1(a syn_obj0) is begin null;end;");
-        CallableStatement call =conn.prepareCall("call p1(?)");
+        CallableStatement call = conn.prepareCall("call p1(?)");
         try {
-            call.setObject(1, conn.createStruct("syn_obj0", new Object[]{1}));
+            call.setObject(1, conn.createStruct("syn_obj0", new Object[] { 1 }));
             call.execute();
         } catch (SQLException e) {
             Assert.fail();
@@ -1119,7 +1123,7 @@ public class ComplexOracleTest extends BaseOracleTest {
             //
         }
         stmt.execute("create or replace type obj0 is table of number");
-        conn.createStruct("obj0", new Object[] {1});
+        conn.createStruct("obj0", new Object[] { 1 });
 
         try {
             stmt.execute("drop type obj0 force");
@@ -1137,8 +1141,8 @@ public class ComplexOracleTest extends BaseOracleTest {
             str = "id1,id2";
         }
 
-        String sql = "create or replace procedure test_array (b out array0) is begin "
-                + "select "+ str +" bulk collect into b from t_1 ; end";
+        String sql = "create or replace procedure test_array (b out array0) is begin " + "select "
+                     + str + " bulk collect into b from t_1 ; end";
         stmt.execute(sql);
         CallableStatement cs = conn.prepareCall("{call test_array(?)}");
         cs.registerOutParameter(1, Types.ARRAY);
@@ -1159,7 +1163,7 @@ public class ComplexOracleTest extends BaseOracleTest {
 
             Object[] attrData = struct.getAttributes();
             assertEquals(2, attrData.length);
-            assertEquals(i * 2 + 1 , ((Number) attrData[0]).intValue());
+            assertEquals(i * 2 + 1, ((Number) attrData[0]).intValue());
             assertEquals(i * 2 + 2, ((Number) attrData[1]).intValue());
         }
 
@@ -1175,13 +1179,14 @@ public class ComplexOracleTest extends BaseOracleTest {
             stmt.execute("create or replace procedure p1(a tb) is begin null;end;");
             Object[] structArray = new Object[10];
             for (int i = 0; i < 10; ++i) {
-                structArray[i] = conn.createStruct("obj0", new Object[] { 1, 1});
+                structArray[i] = conn.createStruct("obj0", new Object[] { 1, 1 });
             }
             conn.createStatement().execute("create or replace type obj0 force is object(c0 int)");
             conn.createStatement().execute("create or replace type tb force is table of obj0");
-            conn.createStatement().execute("create or replace procedure p2(b out tb) is begin b:=tb(obj0(10));end;");
+            conn.createStatement().execute(
+                "create or replace procedure p2(b out tb) is begin b:=tb(obj0(10));end;");
             CallableStatement call1 = conn.prepareCall("call p2(?)");
-            call1.registerOutParameter(1,Types.ARRAY);
+            call1.registerOutParameter(1, Types.ARRAY);
             call1.execute();
 
             Array array = call1.getArray(1);
@@ -1199,7 +1204,7 @@ public class ComplexOracleTest extends BaseOracleTest {
             Object[] attrData = struct.getAttributes();
             assertEquals(1, attrData.length);
             assertEquals(10, ((Number) attrData[0]).intValue());
-        }catch (SQLException e){
+        } catch (SQLException e) {
             fail();
         }
     }
@@ -1210,16 +1215,16 @@ public class ComplexOracleTest extends BaseOracleTest {
         Statement stmt = conn.createStatement();
         stmt.execute("create or replace type obj0 force as object(c0 int)");
         stmt.execute("create or replace procedure p1(a obj0) is begin null;end;");
-        CallableStatement  cs1 = conn.prepareCall("call p1(?)");
-        cs1.setObject(1, conn.createStruct("obj0", new Object[]{1}));
+        CallableStatement cs1 = conn.prepareCall("call p1(?)");
+        cs1.setObject(1, conn.createStruct("obj0", new Object[] { 1 }));
         cs1.execute();
         cs1.close();
 
         try {
             stmt.execute("create or replace type obj0 force as object (c0 int, c1 int)");
             stmt.execute("create or replace procedure p1(a obj0) is begin null;end;");
-            CallableStatement cs2 =conn.prepareCall("call p1(?)");
-            cs2.setObject(1, conn.createStruct("obj0", new Object[]{1,2}));
+            CallableStatement cs2 = conn.prepareCall("call p1(?)");
+            cs2.setObject(1, conn.createStruct("obj0", new Object[] { 1, 2 }));
             cs2.execute();
             cs2.close();
         } catch (SQLException e) {
@@ -51,7 +51,7 @@ import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
-public class ConnectionOracleTest extends BaseOracleTest{
+public class ConnectionOracleTest extends BaseOracleTest {
 
     @Test
     public void testPoolOption() throws SQLException {
@@ -61,7 +61,6 @@ public class ConnectionOracleTest extends BaseOracleTest{
         preparedStatement.close();
     }
 
-
     @Test
     public void testProxyUser() throws SQLException {
         // user = padmin[admin]@oracle
@@ -74,7 +73,8 @@ public class ConnectionOracleTest extends BaseOracleTest{
         Assert.assertEquals("NO", rs.getString(3));
         Assert.assertEquals("PROXY MAY ACTIVATE ALL CLIENT ROLES", rs.getString(4));
 
-        ResultSet rs2 = statement.executeQuery("select sys_context('userenv', 'current_user'), sys_context('userenv','proxy_user'), sys_context('userenv','authenticated_identity'), SYS_CONTEXT ('USERENV', 'SESSION_USER')  from dual");
+        ResultSet rs2 = statement
+            .executeQuery("select sys_context('userenv', 'current_user'), sys_context('userenv','proxy_user'), sys_context('userenv','authenticated_identity'), SYS_CONTEXT ('USERENV', 'SESSION_USER')  from dual");
         rs2.next();
         Assert.assertEquals("ADMIN", rs2.getString(1));
         Assert.assertEquals("PADMIN", rs2.getString(2));
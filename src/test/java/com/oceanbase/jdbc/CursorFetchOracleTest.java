@@ -1308,7 +1308,9 @@ public class CursorFetchOracleTest extends BaseOracleTest {
         stmt.execute("insert into t1 values(1, 'aaa')");
         stmt.execute("insert into t2 values(2, 'bbb')");
 
-        PreparedStatement ps  = conn.prepareStatement("select c1, c2 from(select * from t1 union all select * from t2)", ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        PreparedStatement ps = conn.prepareStatement(
+            "select c1, c2 from(select * from t1 union all select * from t2)",
+            ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_READ_ONLY);
         ps.setFetchSize(10);
         ResultSet rs1 = ps.executeQuery();
         rs1.absolute(1);
@@ -1321,31 +1323,68 @@ public class CursorFetchOracleTest extends BaseOracleTest {
         createTable("fetchSizeTest1", "id int, test varchar(100)");
         Statement statement = conn.createStatement();
         for (int i = 0; i < 25; i++) {
-            statement.addBatch("insert into fetchSizeTest1 (id, test) values(" +i +", 'fetch_" + i + "')");
+            statement.addBatch("insert into fetchSizeTest1 (id, test) values(" + i + ", 'fetch_"
+                               + i + "')");
         }
         statement.executeBatch();
 
         PreparedStatement ps2 = conn.prepareStatement("select id, test from fetchSizeTest1");
         ResultSet resultSet = ps2.executeQuery();
         while (resultSet.next()) {
-            System.out.println(resultSet.getRow() + "\t" + resultSet.getString(1) + "\t" + resultSet.getString(2));
+            System.out.println(resultSet.getRow() + "\t" + resultSet.getString(1) + "\t"
+                               + resultSet.getString(2));
         }
     }
 
     @Test
     public void tesUseCursorOffset() throws SQLException {
         Connection conn = setConnection("&useServerPrepStmts=true&useCursorOffset=true");
-        conn.createStatement().execute("create or replace procedure get_result(v_sql in varchar2, c out sys_refcursor) is begin open c for v_sql; end;");
+        conn.createStatement()
+            .execute(
+                "create or replace procedure get_result(v_sql in varchar2, c out sys_refcursor) is begin open c for v_sql; end;");
         CallableStatement cs = conn.prepareCall("call get_result(?,?)");
         cs.setString(1, "select 1 from dual");
         cs.registerOutParameter(2, Types.REF_CURSOR);
         cs.execute();
         ResultSet rs = (ResultSet) cs.getObject(2);
-        while (rs.next()){
+        while (rs.next()) {
             Assert.assertEquals(1, rs.getInt(1));
         }
         rs.close();
         cs.close();
     }
 
+    @Test
+    public void testCursorFetchPrefetch() throws SQLException {
+        Connection conn = setConnection("&useCursorFetch=true&useServerPrepStmts=true&useCursorFetchPrefetch=true");
+        PreparedStatement ps = conn.prepareStatement("select c1, c2 from " + tableName
+                                                     + " order by c1", ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(7);
+        ResultSet rs = ps.executeQuery();
+        Statement other = conn.createStatement();
+        int count = 0;
+        while (rs.next()) {
+            count++;
+            Assert.assertEquals(count, rs.getInt(1));
+            Assert.assertEquals(count + "+string", rs.getString(2));
+            if (count % 30 == 0) {
+                // another command while a fetch is in flight
+                ResultSet rs2 = other.executeQuery("select 1 from dual");
+                Assert.assertTrue(rs2.next());
+                rs2.close();
+            }
+        }
+        Assert.assertEquals(100, count);
+
+        // close with a fetch in flight
+        rs = ps.executeQuery();
+        Assert.assertTrue(rs.next());
+        rs.close();
+        ResultSet rs3 = other.executeQuery("select count(*) from " + tableName);
+        Assert.assertTrue(rs3.next());
+        Assert.assertEquals(100, rs3.getInt(1));
+        conn.close();
+    }
+
 }
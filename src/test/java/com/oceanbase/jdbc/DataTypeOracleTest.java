@@ -914,11 +914,10 @@ public class DataTypeOracleTest extends BaseOracleTest {
 
     @Test
     public void testForAone56792504() throws SQLException {
-        createProcedure("test_col", "(ch_1 char, ch_2 varchar2, ch_3 nchar, " +
-                                                "num_1 number, num_2 long, " +
-                                                "big_1 blob, big_2 bfile, " +
-                                                "time_1 date, time_2 timestamp, " +
-                                                "re out integer) is begin select 1 into re from dual; end;");
+        createProcedure("test_col", "(ch_1 char, ch_2 varchar2, ch_3 nchar, "
+                                    + "num_1 number, num_2 long, " + "big_1 blob, big_2 bfile, "
+                                    + "time_1 date, time_2 timestamp, "
+                                    + "re out integer) is begin select 1 into re from dual; end;");
 
         Connection conn = setConnection("&compatibleOjdbcVersion=6");
         DatabaseMetaData metaData = conn.getMetaData();
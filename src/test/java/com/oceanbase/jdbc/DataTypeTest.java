@@ -98,7 +98,9 @@ public class DataTypeTest extends BaseTest {
         createTable("bitBoolTest", "d1 BOOLEAN, d2 BIT");
         createTable("testRanges", "c1 VARCHAR(32)");
         createTable("testBooleans", "c1 BINARY(3), c2 VARBINARY(3), c3 BLOB");
-        createTable("test_TextAndBlob","c1 TINYText, c2 Text, c3 MEDIUMText, c4 LONGText, c5 TINYBLOB, c6 BLOB, c7 MEDIUMBLOB, c8 LONGBLOB");
+        createTable(
+            "test_TextAndBlob",
+            "c1 TINYText, c2 Text, c3 MEDIUMText, c4 LONGText, c5 TINYBLOB, c6 BLOB, c7 MEDIUMBLOB, c8 LONGBLOB");
 
     }
 
@@ -1270,15 +1272,11 @@ public class DataTypeTest extends BaseTest {
             stmt.execute("drop table t_20221123");
         } catch (SQLException e) {
         }
-        stmt.execute("create table t_20221123 ("
-                    + "    tinyint_col TINYINT,\n"
-                    + "    smallint_col SMALLINT,\n"
-                    + "    mediumint_col MEDIUMINT,\n"
-                    + "    int_col INT,\n"
-                    + "    bigint_col BIGINT,\n"
-                    + "    decimal_col DECIMAL(10,2),\n"
-                    + "    float_col FLOAT(7,4),\n"
-                    + "    double_col DOUBLE(15,10) )");
+        stmt.execute("create table t_20221123 (" + "    tinyint_col TINYINT,\n"
+                     + "    smallint_col SMALLINT,\n" + "    mediumint_col MEDIUMINT,\n"
+                     + "    int_col INT,\n" + "    bigint_col BIGINT,\n"
+                     + "    decimal_col DECIMAL(10,2),\n" + "    float_col FLOAT(7,4),\n"
+                     + "    double_col DOUBLE(15,10) )");
         stmt.execute("insert into t_20221123 values(1.1,2.2,3.3,4.4,5.5,6.6,7.7,8.8)");
         stmt.execute("insert into t_20221123 values(0.1,0.2,0.3,0.4,0.5,0.6,0.7,0.8)");
 
@@ -1305,7 +1303,8 @@ public class DataTypeTest extends BaseTest {
 
     @Test
     public void testRangeCheckOnIntAndLong() throws SQLException {
-        PreparedStatement ps = sharedConnection.prepareStatement("select '" + Double.MAX_VALUE + "'");
+        PreparedStatement ps = sharedConnection.prepareStatement("select '" + Double.MAX_VALUE
+                                                                 + "'");
         ResultSet rs = ps.executeQuery();
         assertTrue(rs.next());
 
@@ -1334,32 +1333,32 @@ public class DataTypeTest extends BaseTest {
         ResultSet rs = stmt.executeQuery("select * from test_TextAndBlob");
         ResultSetMetaData metaData = rs.getMetaData();
 
-        assertEquals("VARCHAR",metaData.getColumnTypeName(1));
-        assertEquals("VARCHAR",metaData.getColumnTypeName(2));
-        assertEquals("VARCHAR",metaData.getColumnTypeName(3));
-        assertEquals("VARCHAR",metaData.getColumnTypeName(4));
-        assertEquals("TINYBLOB",metaData.getColumnTypeName(5));
-        assertEquals("BLOB",metaData.getColumnTypeName(6));
-        assertEquals("MEDIUMBLOB",metaData.getColumnTypeName(7));
-        assertEquals("LONGBLOB",metaData.getColumnTypeName(8));
-
-        assertEquals(-1,metaData.getColumnType(1));
-        assertEquals(-1,metaData.getColumnType(2));
-        assertEquals(-1,metaData.getColumnType(3));
-        assertEquals(-1,metaData.getColumnType(4));
-        assertEquals(-3,metaData.getColumnType(5));
-        assertEquals(-4,metaData.getColumnType(6));
-        assertEquals(-4,metaData.getColumnType(7));
-        assertEquals(-4,metaData.getColumnType(8));
-
-        assertEquals("java.lang.String",metaData.getColumnClassName(1));
-        assertEquals("java.lang.String",metaData.getColumnClassName(2));
-        assertEquals("java.lang.String",metaData.getColumnClassName(3));
-        assertEquals("java.lang.String",metaData.getColumnClassName(4));
-        assertEquals("[B",metaData.getColumnClassName(5));
-        assertEquals("[B",metaData.getColumnClassName(6));
-        assertEquals("[B",metaData.getColumnClassName(7));
-        assertEquals("[B",metaData.getColumnClassName(8));
+        assertEquals("VARCHAR", metaData.getColumnTypeName(1));
+        assertEquals("VARCHAR", metaData.getColumnTypeName(2));
+        assertEquals("VARCHAR", metaData.getColumnTypeName(3));
+        assertEquals("VARCHAR", metaData.getColumnTypeName(4));
+        assertEquals("TINYBLOB", metaData.getColumnTypeName(5));
+        assertEquals("BLOB", metaData.getColumnTypeName(6));
+        assertEquals("MEDIUMBLOB", metaData.getColumnTypeName(7));
+        assertEquals("LONGBLOB", metaData.getColumnTypeName(8));
+
+        assertEquals(-1, metaData.getColumnType(1));
+        assertEquals(-1, metaData.getColumnType(2));
+        assertEquals(-1, metaData.getColumnType(3));
+        assertEquals(-1, metaData.getColumnType(4));
+        assertEquals(-3, metaData.getColumnType(5));
+        assertEquals(-4, metaData.getColumnType(6));
+        assertEquals(-4, metaData.getColumnType(7));
+        assertEquals(-4, metaData.getColumnType(8));
+
+        assertEquals("java.lang.String", metaData.getColumnClassName(1));
+        assertEquals("java.lang.String", metaData.getColumnClassName(2));
+        assertEquals("java.lang.String", metaData.getColumnClassName(3));
+        assertEquals("java.lang.String", metaData.getColumnClassName(4));
+        assertEquals("[B", metaData.getColumnClassName(5));
+        assertEquals("[B", metaData.getColumnClassName(6));
+        assertEquals("[B", metaData.getColumnClassName(7));
+        assertEquals("[B", metaData.getColumnClassName(8));
     }
 
     @Test
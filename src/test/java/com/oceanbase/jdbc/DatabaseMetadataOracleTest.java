@@ -330,32 +330,36 @@ public class DatabaseMetadataOracleTest extends BaseOracleTest {
         stmt.execute("COMMENT ON TABLE TEST_GET_TAB IS 'This is a table remarks'");
 
         Connection conn = setConnection("&remarksReporting=false");
-        ResultSet rs = conn.getMetaData().getTables(null, conn.getMetaData().getUserName(), "TEST_GET_TAB", null);
+        ResultSet rs = conn.getMetaData().getTables(null, conn.getMetaData().getUserName(),
+            "TEST_GET_TAB", null);
         assertTrue(rs.next());
-        assertEquals("TEST",rs.getString("TABLE_SCHEM"));
-        assertEquals("TEST_GET_TAB",rs.getString("TABLE_NAME"));
+        assertEquals("TEST", rs.getString("TABLE_SCHEM"));
+        assertEquals("TEST_GET_TAB", rs.getString("TABLE_NAME"));
         assertNull(rs.getString("REMARKS"));
 
         conn = setConnection("&remarksReporting=true");
-        rs = conn.getMetaData().getTables(null, conn.getMetaData().getUserName(), "TEST_GET_TAB", null);
+        rs = conn.getMetaData().getTables(null, conn.getMetaData().getUserName(), "TEST_GET_TAB",
+            null);
         assertTrue(rs.next());
-        assertEquals("TEST",rs.getString("TABLE_SCHEM"));
-        assertEquals("TEST_GET_TAB",rs.getString("TABLE_NAME"));
-        assertEquals("This is a table remarks",rs.getString("REMARKS"));
+        assertEquals("TEST", rs.getString("TABLE_SCHEM"));
+        assertEquals("TEST_GET_TAB", rs.getString("TABLE_NAME"));
+        assertEquals("This is a table remarks", rs.getString("REMARKS"));
 
-        ((ObConnection)conn).setRemarksReporting(false);
-        rs = conn.getMetaData().getTables(null, conn.getMetaData().getUserName(), "TEST_GET_TAB", null);
+        ((ObConnection) conn).setRemarksReporting(false);
+        rs = conn.getMetaData().getTables(null, conn.getMetaData().getUserName(), "TEST_GET_TAB",
+            null);
         assertTrue(rs.next());
-        assertEquals("TEST",rs.getString("TABLE_SCHEM"));
-        assertEquals("TEST_GET_TAB",rs.getString("TABLE_NAME"));
+        assertEquals("TEST", rs.getString("TABLE_SCHEM"));
+        assertEquals("TEST_GET_TAB", rs.getString("TABLE_NAME"));
         assertNull(rs.getString("REMARKS"));
 
-        ((ObConnection)conn).setRemarksReporting(true);
-        rs = conn.getMetaData().getTables(null, conn.getMetaData().getUserName(), "TEST_GET_TAB", null);
+        ((ObConnection) conn).setRemarksReporting(true);
+        rs = conn.getMetaData().getTables(null, conn.getMetaData().getUserName(), "TEST_GET_TAB",
+            null);
         assertTrue(rs.next());
-        assertEquals("TEST",rs.getString("TABLE_SCHEM"));
-        assertEquals("TEST_GET_TAB",rs.getString("TABLE_NAME"));
-        assertEquals("This is a table remarks",rs.getString("REMARKS"));
+        assertEquals("TEST", rs.getString("TABLE_SCHEM"));
+        assertEquals("TEST_GET_TAB", rs.getString("TABLE_NAME"));
+        assertEquals("This is a table remarks", rs.getString("REMARKS"));
 
         rs.close();
         stmt.close();
@@ -1043,7 +1047,8 @@ public class DatabaseMetadataOracleTest extends BaseOracleTest {
             System.out.println("CatalogName: " + meta.getCatalogName(2));
             System.out.println("TableName: " + meta.getTableName(2));
         } catch (Exception e) {
-            Assert.assertTrue(e.getMessage().contains("ORA-00904: invalid identifier 'CREATE_TIME' in 'field list'"));
+            Assert.assertTrue(e.getMessage().contains(
+                "ORA-00904: invalid identifier 'CREATE_TIME' in 'field list'"));
         }
 
         rs = stmt.executeQuery("select \"id\", \"create_TIME\" as create_time from quote_test");
@@ -1082,22 +1087,22 @@ public class DatabaseMetadataOracleTest extends BaseOracleTest {
     @Test
     public void getSQLKeywordsTest() throws SQLException {
         assertEquals(
-                "ACCESS, ADD, ALTER, AUDIT, CLUSTER, COLUMN, COMMENT, COMPRESS, CONNECT, DATE, DROP, EXCLUSIVE, FILE, IDENTIFIED, IMMEDIATE, INCREMENT, INDEX, INITIAL, INTERSECT, LEVEL, LOCK, LONG, MAXEXTENTS, MINUS, MODE, NOAUDIT, NOCOMPRESS, NOWAIT, NUMBER, OFFLINE, ONLINE, PCTFREE, PRIOR, all_PL_SQL_reserved_ words",
-                sharedConnection.getMetaData().getSQLKeywords());
+            "ACCESS, ADD, ALTER, AUDIT, CLUSTER, COLUMN, COMMENT, COMPRESS, CONNECT, DATE, DROP, EXCLUSIVE, FILE, IDENTIFIED, IMMEDIATE, INCREMENT, INDEX, INITIAL, INTERSECT, LEVEL, LOCK, LONG, MAXEXTENTS, MINUS, MODE, NOAUDIT, NOCOMPRESS, NOWAIT, NUMBER, OFFLINE, ONLINE, PCTFREE, PRIOR, all_PL_SQL_reserved_ words",
+            sharedConnection.getMetaData().getSQLKeywords());
     }
 
     @Test
     public void getNumericFunctionsTest() throws SQLException {
         assertEquals(
-                "ABS,ACOS,ASIN,ATAN,ATAN2,CEILING,COS,EXP,FLOOR,LOG,LOG10,MOD,PI,POWER,ROUND,SIGN,SIN,SQRT,TAN,TRUNCATE",
-                sharedConnection.getMetaData().getNumericFunctions());
+            "ABS,ACOS,ASIN,ATAN,ATAN2,CEILING,COS,EXP,FLOOR,LOG,LOG10,MOD,PI,POWER,ROUND,SIGN,SIN,SQRT,TAN,TRUNCATE",
+            sharedConnection.getMetaData().getNumericFunctions());
     }
 
     @Test
     public void getStringFunctionsTest() throws SQLException {
         assertEquals(
-                "ASCII,CHAR,CHAR_LENGTH,CHARACTER_LENGTH,CONCAT,LCASE,LENGTH,LTRIM,OCTET_LENGTH,REPLACE,RTRIM,SOUNDEX,SUBSTRING,UCASE",
-                sharedConnection.getMetaData().getStringFunctions());
+            "ASCII,CHAR,CHAR_LENGTH,CHARACTER_LENGTH,CONCAT,LCASE,LENGTH,LTRIM,OCTET_LENGTH,REPLACE,RTRIM,SOUNDEX,SUBSTRING,UCASE",
+            sharedConnection.getMetaData().getStringFunctions());
     }
 
     @Test
@@ -1108,21 +1113,21 @@ public class DatabaseMetadataOracleTest extends BaseOracleTest {
     @Test
     public void getTimeDateFunctionsTest() throws SQLException {
         assertEquals(
-                "CURRENT_DATE,CURRENT_TIMESTAMP,CURDATE,EXTRACT,HOUR,MINUTE,MONTH,SECOND,YEAR",
-                sharedConnection.getMetaData().getTimeDateFunctions());
+            "CURRENT_DATE,CURRENT_TIMESTAMP,CURDATE,EXTRACT,HOUR,MINUTE,MONTH,SECOND,YEAR",
+            sharedConnection.getMetaData().getTimeDateFunctions());
     }
 
     @Test
     public void getIndexInfoTest() throws SQLException {
         String tableName2 = "getIndexInfoTest" + getRandomString(10);
         createTable(tableName2, "no INT NOT NULL ,\n" + "    product_category INT NOT NULL,\n"
-                + "    product_id INT NOT NULL,\n"
-                + "    customer_id INT NOT NULL,\n" + "    PRIMARY KEY(no)\n");
+                                + "    product_id INT NOT NULL,\n"
+                                + "    customer_id INT NOT NULL,\n" + "    PRIMARY KEY(no)\n");
 
         try {
             Connection connection = sharedConnection;
             ResultSet rs = connection.getMetaData().getIndexInfo(null, null,
-                    tableName2.toUpperCase(Locale.ROOT), false, false); // same as oracle driver ,Need to use uppercase table name
+                tableName2.toUpperCase(Locale.ROOT), false, false); // same as oracle driver ,Need to use uppercase table name
             int columnCount = rs.getMetaData().getColumnCount();
             Assert.assertEquals(13, columnCount);
             ResultSetMetaData resultSetMetaData = rs.getMetaData();
@@ -1149,7 +1154,7 @@ public class DatabaseMetadataOracleTest extends BaseOracleTest {
 
         stmt.execute("create or replace procedure testGetProcedureColumns (var1 out int, var2 int) is BEGIN var1 := var2; END;");
         ResultSet rs = conn.getMetaData().getProcedureColumns(null, null,
-                "TESTGETPROCEDURECOLUMNS", "VAR2");
+            "TESTGETPROCEDURECOLUMNS", "VAR2");
         assertTrue(rs.next());
         assertEquals("VAR2", rs.getString("COLUMN_NAME"));
         assertEquals("VAR2", rs.getObject("COLUMN_NAME"));
@@ -1171,7 +1176,8 @@ public class DatabaseMetadataOracleTest extends BaseOracleTest {
         } catch (SQLException e) {
         }
         stmt.execute("CREATE TABLE test_1111111111(FPROCDEFNAME_L1 NVARCHAR2(80), FPROCDEFVER NUMBER(10));");
-        ResultSet rs = sharedConnection.getMetaData().getColumns("test", null, "test_1111111111".toUpperCase(), null);
+        ResultSet rs = sharedConnection.getMetaData().getColumns("test", null,
+            "test_1111111111".toUpperCase(), null);
         assertTrue(rs.next());
         assertEquals("NVARCHAR2", rs.getString("TYPE_NAME"));
         assertEquals(-9, rs.getInt("DATA_TYPE"));
@@ -1292,13 +1298,15 @@ public class DatabaseMetadataOracleTest extends BaseOracleTest {
     public void testMetadataForDima2024082600104260091() throws SQLException {
         Connection conn = setConnection("&useOraclePrepareExecute=true");
         createTable("t_meta", "c1 int , c2 int, c3 int");
-        PreparedStatement ps = conn.prepareStatement("select c1 from t_meta where c2 = ? and c3 = ?");
+        PreparedStatement ps = conn
+            .prepareStatement("select c1 from t_meta where c2 = ? and c3 = ?");
         ResultSetMetaData metaData = ps.getMetaData();
         Assert.assertNotNull(metaData);
         Assert.assertEquals(1, metaData.getColumnCount());
 
         createTable("t_meta2", "c1 int , c2 int, c3 blob");
-        PreparedStatement ps2 = conn.prepareStatement("select c1 from t_meta2 where c2 = ? and c3 = ?");
+        PreparedStatement ps2 = conn
+            .prepareStatement("select c1 from t_meta2 where c2 = ? and c3 = ?");
         try {
             ps2.getMetaData();
             fail();
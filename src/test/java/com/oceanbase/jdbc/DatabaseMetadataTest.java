@@ -1421,7 +1421,7 @@ public class DatabaseMetadataTest extends BaseTest {
     }
 
     private void checkResults(Connection connection, boolean yearAsDate, boolean tinyAsBit)
-            throws SQLException {
+                                                                                           throws SQLException {
         DatabaseMetaData meta = connection.getMetaData();
         ResultSet rs = meta.getColumns(null, null, "yearTableMeta", null);
         assertTrue(rs.next());
@@ -1593,19 +1593,19 @@ public class DatabaseMetadataTest extends BaseTest {
         ResultSet rs = null;
         stmt = sharedConnection.createStatement();
         assertEquals(
-                "ACCESSIBLE,ANALYZE,ASENSITIVE,BEFORE,BIGINT,BINARY,BLOB,CALL,CHANGE,CONDITION,DATABASE,DATABASES,"
-                        + "DAY_HOUR,DAY_MICROSECOND,DAY_MINUTE,DAY_SECOND,DELAYED,DETERMINISTIC,DISTINCTROW,DIV,DUAL,EACH,"
-                        + "ELSEIF,ENCLOSED,ESCAPED,EXIT,EXPLAIN,FLOAT4,FLOAT8,FORCE,FULLTEXT,GENERAL,HIGH_PRIORITY,"
-                        + "HOUR_MICROSECOND,HOUR_MINUTE,HOUR_SECOND,IF,IGNORE,IGNORE_SERVER_IDS,INDEX,INFILE,INOUT,INT1,INT2,"
-                        + "INT3,INT4,INT8,ITERATE,KEY,KEYS,KILL,LEAVE,LIMIT,LINEAR,LINES,LOAD,LOCALTIME,LOCALTIMESTAMP,LOCK,"
-                        + "LONG,LONGBLOB,LONGTEXT,LOOP,LOW_PRIORITY,MASTER_HEARTBEAT_PERIOD,MASTER_SSL_VERIFY_SERVER_CERT,"
-                        + "MAXVALUE,MEDIUMBLOB,MEDIUMINT,MEDIUMTEXT,MIDDLEINT,MINUTE_MICROSECOND,MINUTE_SECOND,MOD,MODIFIES,"
-                        + "NO_WRITE_TO_BINLOG,OPTIMIZE,OPTIONALLY,OUT,OUTFILE,PURGE,RANGE,READ_WRITE,READS,REGEXP,RELEASE,"
-                        + "RENAME,REPEAT,REPLACE,REQUIRE,RESIGNAL,RESTRICT,RETURN,RLIKE,SCHEMAS,SECOND_MICROSECOND,SENSITIVE,"
-                        + "SEPARATOR,SHOW,SIGNAL,SLOW,SPATIAL,SPECIFIC,SQL_BIG_RESULT,SQL_CALC_FOUND_ROWS,SQL_SMALL_RESULT,"
-                        + "SQLEXCEPTION,SSL,STARTING,STRAIGHT_JOIN,TERMINATED,TINYBLOB,TINYINT,TINYTEXT,TRIGGER,UNDO,UNLOCK,"
-                        + "UNSIGNED,USE,UTC_DATE,UTC_TIME,UTC_TIMESTAMP,VARBINARY,VARCHARACTER,WHILE,XOR,YEAR_MONTH,ZEROFILL",
-                sharedConnection.getMetaData().getSQLKeywords());
+            "ACCESSIBLE,ANALYZE,ASENSITIVE,BEFORE,BIGINT,BINARY,BLOB,CALL,CHANGE,CONDITION,DATABASE,DATABASES,"
+                    + "DAY_HOUR,DAY_MICROSECOND,DAY_MINUTE,DAY_SECOND,DELAYED,DETERMINISTIC,DISTINCTROW,DIV,DUAL,EACH,"
+                    + "ELSEIF,ENCLOSED,ESCAPED,EXIT,EXPLAIN,FLOAT4,FLOAT8,FORCE,FULLTEXT,GENERAL,HIGH_PRIORITY,"
+                    + "HOUR_MICROSECOND,HOUR_MINUTE,HOUR_SECOND,IF,IGNORE,IGNORE_SERVER_IDS,INDEX,INFILE,INOUT,INT1,INT2,"
+                    + "INT3,INT4,INT8,ITERATE,KEY,KEYS,KILL,LEAVE,LIMIT,LINEAR,LINES,LOAD,LOCALTIME,LOCALTIMESTAMP,LOCK,"
+                    + "LONG,LONGBLOB,LONGTEXT,LOOP,LOW_PRIORITY,MASTER_HEARTBEAT_PERIOD,MASTER_SSL_VERIFY_SERVER_CERT,"
+                    + "MAXVALUE,MEDIUMBLOB,MEDIUMINT,MEDIUMTEXT,MIDDLEINT,MINUTE_MICROSECOND,MINUTE_SECOND,MOD,MODIFIES,"
+                    + "NO_WRITE_TO_BINLOG,OPTIMIZE,OPTIONALLY,OUT,OUTFILE,PURGE,RANGE,READ_WRITE,READS,REGEXP,RELEASE,"
+                    + "RENAME,REPEAT,REPLACE,REQUIRE,RESIGNAL,RESTRICT,RETURN,RLIKE,SCHEMAS,SECOND_MICROSECOND,SENSITIVE,"
+                    + "SEPARATOR,SHOW,SIGNAL,SLOW,SPATIAL,SPECIFIC,SQL_BIG_RESULT,SQL_CALC_FOUND_ROWS,SQL_SMALL_RESULT,"
+                    + "SQLEXCEPTION,SSL,STARTING,STRAIGHT_JOIN,TERMINATED,TINYBLOB,TINYINT,TINYTEXT,TRIGGER,UNDO,UNLOCK,"
+                    + "UNSIGNED,USE,UTC_DATE,UTC_TIME,UTC_TIMESTAMP,VARBINARY,VARCHARACTER,WHILE,XOR,YEAR_MONTH,ZEROFILL",
+            sharedConnection.getMetaData().getSQLKeywords());
     }
 
     @Test
@@ -1614,9 +1614,9 @@ public class DatabaseMetadataTest extends BaseTest {
         ResultSet rs = null;
         stmt = sharedConnection.createStatement();
         assertEquals(
-                "DIV,ABS,ACOS,ASIN,ATAN,ATAN2,CEIL,CEILING,CONV,COS,COT,CRC32,DEGREES,EXP,FLOOR,GREATEST,LEAST,LN,LOG,"
-                        + "LOG10,LOG2,MOD,OCT,PI,POW,POWER,RADIANS,RAND,ROUND,SIGN,SIN,SQRT,TAN,TRUNCATE",
-                sharedConnection.getMetaData().getNumericFunctions());
+            "DIV,ABS,ACOS,ASIN,ATAN,ATAN2,CEIL,CEILING,CONV,COS,COT,CRC32,DEGREES,EXP,FLOOR,GREATEST,LEAST,LN,LOG,"
+                    + "LOG10,LOG2,MOD,OCT,PI,POW,POWER,RADIANS,RAND,ROUND,SIGN,SIN,SQRT,TAN,TRUNCATE",
+            sharedConnection.getMetaData().getNumericFunctions());
     }
 
     @Test
@@ -1625,12 +1625,12 @@ public class DatabaseMetadataTest extends BaseTest {
         ResultSet rs = null;
         stmt = sharedConnection.createStatement();
         assertEquals(
-                "ASCII,BIN,BIT_LENGTH,CAST,CHARACTER_LENGTH,CHAR_LENGTH,CONCAT,CONCAT_WS,CONVERT,ELT,EXPORT_SET,"
-                        + "EXTRACTVALUE,FIELD,FIND_IN_SET,FORMAT,FROM_BASE64,HEX,INSTR,LCASE,LEFT,LENGTH,LIKE,LOAD_FILE,LOCATE,"
-                        + "LOWER,LPAD,LTRIM,MAKE_SET,MATCH AGAINST,MID,NOT LIKE,NOT REGEXP,OCTET_LENGTH,ORD,POSITION,QUOTE,"
-                        + "REPEAT,REPLACE,REVERSE,RIGHT,RPAD,RTRIM,SOUNDEX,SOUNDS LIKE,SPACE,STRCMP,SUBSTR,SUBSTRING,"
-                        + "SUBSTRING_INDEX,TO_BASE64,TRIM,UCASE,UNHEX,UPDATEXML,UPPER,WEIGHT_STRING",
-                sharedConnection.getMetaData().getStringFunctions());
+            "ASCII,BIN,BIT_LENGTH,CAST,CHARACTER_LENGTH,CHAR_LENGTH,CONCAT,CONCAT_WS,CONVERT,ELT,EXPORT_SET,"
+                    + "EXTRACTVALUE,FIELD,FIND_IN_SET,FORMAT,FROM_BASE64,HEX,INSTR,LCASE,LEFT,LENGTH,LIKE,LOAD_FILE,LOCATE,"
+                    + "LOWER,LPAD,LTRIM,MAKE_SET,MATCH AGAINST,MID,NOT LIKE,NOT REGEXP,OCTET_LENGTH,ORD,POSITION,QUOTE,"
+                    + "REPEAT,REPLACE,REVERSE,RIGHT,RPAD,RTRIM,SOUNDEX,SOUNDS LIKE,SPACE,STRCMP,SUBSTR,SUBSTRING,"
+                    + "SUBSTRING_INDEX,TO_BASE64,TRIM,UCASE,UNHEX,UPDATEXML,UPPER,WEIGHT_STRING",
+            sharedConnection.getMetaData().getStringFunctions());
     }
 
     @Test
@@ -1639,7 +1639,7 @@ public class DatabaseMetadataTest extends BaseTest {
         ResultSet rs = null;
         stmt = sharedConnection.createStatement();
         assertEquals("DATABASE,USER,SYSTEM_USER,SESSION_USER,LAST_INSERT_ID,VERSION",
-                sharedConnection.getMetaData().getSystemFunctions());
+            sharedConnection.getMetaData().getSystemFunctions());
     }
 
     @Test
@@ -1648,13 +1648,13 @@ public class DatabaseMetadataTest extends BaseTest {
         ResultSet rs = null;
         stmt = sharedConnection.createStatement();
         assertEquals(
-                "ADDDATE,ADDTIME,CONVERT_TZ,CURDATE,CURRENT_DATE,CURRENT_TIME,CURRENT_TIMESTAMP,CURTIME,DATEDIFF,"
-                        + "DATE_ADD,DATE_FORMAT,DATE_SUB,DAY,DAYNAME,DAYOFMONTH,DAYOFWEEK,DAYOFYEAR,EXTRACT,FROM_DAYS,"
-                        + "FROM_UNIXTIME,GET_FORMAT,HOUR,LAST_DAY,LOCALTIME,LOCALTIMESTAMP,MAKEDATE,MAKETIME,MICROSECOND,"
-                        + "MINUTE,MONTH,MONTHNAME,NOW,PERIOD_ADD,PERIOD_DIFF,QUARTER,SECOND,SEC_TO_TIME,STR_TO_DATE,SUBDATE,"
-                        + "SUBTIME,SYSDATE,TIMEDIFF,TIMESTAMPADD,TIMESTAMPDIFF,TIME_FORMAT,TIME_TO_SEC,TO_DAYS,TO_SECONDS,"
-                        + "UNIX_TIMESTAMP,UTC_DATE,UTC_TIME,UTC_TIMESTAMP,WEEK,WEEKDAY,WEEKOFYEAR,YEAR,YEARWEEK",
-                sharedConnection.getMetaData().getTimeDateFunctions());
+            "ADDDATE,ADDTIME,CONVERT_TZ,CURDATE,CURRENT_DATE,CURRENT_TIME,CURRENT_TIMESTAMP,CURTIME,DATEDIFF,"
+                    + "DATE_ADD,DATE_FORMAT,DATE_SUB,DAY,DAYNAME,DAYOFMONTH,DAYOFWEEK,DAYOFYEAR,EXTRACT,FROM_DAYS,"
+                    + "FROM_UNIXTIME,GET_FORMAT,HOUR,LAST_DAY,LOCALTIME,LOCALTIMESTAMP,MAKEDATE,MAKETIME,MICROSECOND,"
+                    + "MINUTE,MONTH,MONTHNAME,NOW,PERIOD_ADD,PERIOD_DIFF,QUARTER,SECOND,SEC_TO_TIME,STR_TO_DATE,SUBDATE,"
+                    + "SUBTIME,SYSDATE,TIMEDIFF,TIMESTAMPADD,TIMESTAMPDIFF,TIME_FORMAT,TIME_TO_SEC,TO_DAYS,TO_SECONDS,"
+                    + "UNIX_TIMESTAMP,UTC_DATE,UTC_TIME,UTC_TIMESTAMP,WEEK,WEEKDAY,WEEKOFYEAR,YEAR,YEARWEEK",
+            sharedConnection.getMetaData().getTimeDateFunctions());
     }
 
     @Test
@@ -1685,7 +1685,7 @@ public class DatabaseMetadataTest extends BaseTest {
             Assert.assertEquals("BIGINT", rsmd.getColumnTypeName(1));
             Assert.assertEquals(-5, rsmd.getColumnType(1));
             stmt.execute("update testupdate set c2 = 20  where c1 = 1",
-                    Statement.RETURN_GENERATED_KEYS);
+                Statement.RETURN_GENERATED_KEYS);
             rs = stmt.getGeneratedKeys();
             rsmd = rs.getMetaData();
             Assert.assertFalse(rs.next());
@@ -1735,7 +1735,8 @@ public class DatabaseMetadataTest extends BaseTest {
     public void fix51587128() throws Exception {
         createProcedure("testPro0", "(x int, out y int)\nBEGIN\nSELECT 1;end\n");
 
-        ResultSet rs = sharedConnection.getMetaData().getProcedureColumns(null, null, "testPro0%", "%");
+        ResultSet rs = sharedConnection.getMetaData().getProcedureColumns(null, null, "testPro0%",
+            "%");
 
         assertTrue(rs.next());
         assertEquals("testPro0", rs.getString(3));
@@ -1747,6 +1748,7 @@ public class DatabaseMetadataTest extends BaseTest {
 
         assertTrue(!rs.next());
     }
+
     @Test
     public void fix51587437() throws Exception {
         createProcedure("testPro1", "()\nBEGIN\nSELECT 1;\nEND");
@@ -1765,8 +1767,8 @@ public class DatabaseMetadataTest extends BaseTest {
     public void testGetFunctionColumns() throws Exception {
         Connection conn = sharedConnection;
         DatabaseMetaData metaData = conn.getMetaData();
-        createProcedure("testGetProcedure", "(c1 INT, Out c2 varchar(255), INOUT c3 decimal(9,2))" +
-                " COMMENT 'comment1' BEGIN SELECT 1;end");
+        createProcedure("testGetProcedure", "(c1 INT, Out c2 varchar(255), INOUT c3 decimal(9,2))"
+                                            + " COMMENT 'comment1' BEGIN SELECT 1;end");
         ResultSet rs = null;
         try {
             rs = metaData.getProcedureColumns(null, null, "`testGetProcedure`", "%");
@@ -1778,7 +1780,8 @@ public class DatabaseMetadataTest extends BaseTest {
             e.printStackTrace();
         }
 
-        createFunction("testGetFunction", "(d INT) RETURNS INT DETERMINISTIC COMMENT 'comment1' BEGIN RETURN d; END");
+        createFunction("testGetFunction",
+            "(d INT) RETURNS INT DETERMINISTIC COMMENT 'comment1' BEGIN RETURN d; END");
         try {
             rs = metaData.getFunctionColumns(null, null, "`testGetFunction`", "%");
             assertTrue(rs.next());
@@ -1805,7 +1808,7 @@ public class DatabaseMetadataTest extends BaseTest {
             stmt.execute("drop table if exists test1");
             stmt.execute("create table test1(id1 int primary key)");
             stmt.execute("create table test2(id2 int not null,"
-                    + " foreign key(id2) references test1(id1))");
+                         + " foreign key(id2) references test1(id1))");
             ResultSet rs = null;
             try {
                 rs = metaData.getImportedKeys(null, null, "`test2`");
@@ -1875,16 +1878,17 @@ public class DatabaseMetadataTest extends BaseTest {
         stmt.execute("drop table if exists test1");
         stmt.execute("create table test1(id1 int primary key)");
         stmt.execute("create table test2(id2 int not null,"
-                + " foreign key(id2) references test1(id1))");
+                     + " foreign key(id2) references test1(id1))");
         // getExportedKeys
         ResultSet exportRs = connMetaData.getExportedKeys(null, null, "test1");
         assertTrue(exportRs.next());
         assertEquals("test2", exportRs.getString("FKTABLE_NAME"));
         // getCrossReference
-        ResultSet crossReference = connMetaData.getCrossReference(null, null, "`test1`", null, null, "`test2`");
+        ResultSet crossReference = connMetaData.getCrossReference(null, null, "`test1`", null,
+            null, "`test2`");
         assertFalse(crossReference.next());
         // getTables
-        ResultSet rs = connMetaData.getTables(null, "", "%", new String[]{"TABLE"});
+        ResultSet rs = connMetaData.getTables(null, "", "%", new String[] { "TABLE" });
         ResultSetMetaData metaData2 = rs.getMetaData();
         assertTrue(rs.next());
         assertEquals("TABLE_TYPE", metaData2.getColumnLabel(4));
@@ -1906,7 +1910,7 @@ public class DatabaseMetadataTest extends BaseTest {
         assertFalse(metaData.supportsMixedCaseQuotedIdentifiers());
     }
 
-    @Test 
+    @Test
     public void testForDima2024062200102856416() throws SQLException {
         Connection connection = sharedConnection;
         createTable("`test_table`", "id INT COMMENT 'This is a test table with a comment'");
@@ -1920,7 +1924,8 @@ public class DatabaseMetadataTest extends BaseTest {
     public void testMetadataForDima2024082600104260091() throws SQLException {
         Connection conn = setConnection("&useServerPrepStmts=false");
         createTable("t_meta", "c1 int , c2 int, c3 int");
-        PreparedStatement ps = conn.prepareStatement("select c1 from t_meta where c2 = ? and c3 = ?");
+        PreparedStatement ps = conn
+            .prepareStatement("select c1 from t_meta where c2 = ? and c3 = ?");
         ResultSetMetaData metaData = ps.getMetaData();
         Assert.assertNotNull(metaData);
         Assert.assertEquals(1, metaData.getColumnCount());
@@ -1930,10 +1935,11 @@ public class DatabaseMetadataTest extends BaseTest {
         Assert.assertEquals(2, parameterMetaData.getParameterCount());
 
         createTable("t_meta2", "c1 int , c2 int, c3 blob");
-        PreparedStatement ps2 = conn.prepareStatement("select c1 from t_meta2 where c2 = ? and c3 = ?");
+        PreparedStatement ps2 = conn
+            .prepareStatement("select c1 from t_meta2 where c2 = ? and c3 = ?");
         ResultSetMetaData ps2MetaData = ps2.getMetaData();
         Assert.assertNotNull(ps2MetaData);
-        Assert.assertEquals(1, ps2MetaData.getColumnCount()); 
+        Assert.assertEquals(1, ps2MetaData.getColumnCount());
     }
 
     @Test
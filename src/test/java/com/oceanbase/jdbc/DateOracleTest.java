@@ -79,7 +79,7 @@ public class DateOracleTest extends BaseOracleTest {
             "date_test2",
             "id int not null primary key , d_from timestamp ,d_to timestamp ,timestamp_local TIMESTAMP WITH LOCAL TIME ZONE ,timestamp_timezone TIMESTAMP WITH TIME ZONE");
         createTable("timestampzerotest", "ts timestamp, dt timestamp, dd date");
-//        createTable("dtest", "d timestamp");
+        //        createTable("dtest", "d timestamp");
         createTable("dtest2", "d date");
         createTable("dtest3", "d date");
         //        createTable("dtest4", "d  time");
@@ -258,8 +258,7 @@ public class DateOracleTest extends BaseOracleTest {
 
         Date dateWithoutTime = new Date(cal.getTimeInMillis());
 
-        ResultSet rs = conn.createStatement().executeQuery(
-            "select * from timestampAsDate");
+        ResultSet rs = conn.createStatement().executeQuery("select * from timestampAsDate");
         checkResult(rs, currentTimeStamp, cal, dateWithoutTime);
 
         PreparedStatement pstmt = conn
@@ -457,7 +456,7 @@ public class DateOracleTest extends BaseOracleTest {
     public void testTimestampParamOnDateIndex() throws SQLException {
         Connection conn = setConnection("&compatibleOjdbcVersion=8");
         Statement stmt = conn.createStatement();
-        createTable("test_date_index","v0 date");
+        createTable("test_date_index", "v0 date");
         Date d = new Date(System.currentTimeMillis());
         Timestamp t = new Timestamp(d.getTime());
         t.setNanos(0);
@@ -466,20 +465,21 @@ public class DateOracleTest extends BaseOracleTest {
         } catch (SQLException e) {
         }
         PreparedStatement pstmt = conn.prepareStatement("insert into test_date_index values (?)");
-        pstmt.setDate(1,d);
+        pstmt.setDate(1, d);
         pstmt.execute();
         pstmt = conn.prepareStatement("select * from test_date_index where v0 = ?");
-        pstmt.setTimestamp(1,t);
+        pstmt.setTimestamp(1, t);
         ResultSet rs = pstmt.executeQuery();
         assertTrue(rs.next());
-        assertEquals(t,rs.getTimestamp(1));
-        assertEquals(d.toString(),rs.getDate(1).toString());
+        assertEquals(t, rs.getTimestamp(1));
+        assertEquals(d.toString(), rs.getDate(1).toString());
         pstmt = conn.prepareStatement("explain select * from test_date_index where v0 = ?");
-        pstmt.setTimestamp(1,t);
+        pstmt.setTimestamp(1, t);
         rs = pstmt.executeQuery();
         boolean hasIndex = false;
         while (rs.next()) {
-            if (rs.getString("Query Plan").contains("TEST_DATE_INDEX(TEST_TIMESTAMP_TO_DATE_INDEX)")) {
+            if (rs.getString("Query Plan")
+                .contains("TEST_DATE_INDEX(TEST_TIMESTAMP_TO_DATE_INDEX)")) {
                 hasIndex = true;
                 break;
             }
@@ -491,7 +491,7 @@ public class DateOracleTest extends BaseOracleTest {
     public void testTimestampParamCaseToDateParamOnTimestampIndex() throws SQLException {
         Connection conn = setConnection("&compatibleOjdbcVersion=8");
         Statement stmt = conn.createStatement();
-//        Statement stmt = sharedConnection.createStatement();
+        //        Statement stmt = sharedConnection.createStatement();
         createTable("test_timestamp_index", "v0 timestamp");
         Date d = new Date(System.currentTimeMillis());
         Timestamp t = new Timestamp(d.getTime());
@@ -500,21 +500,23 @@ public class DateOracleTest extends BaseOracleTest {
             stmt.execute("create index test_timestamp_on_timestamp_index on test_timestamp_index(v0)");
         } catch (SQLException e) {
         }
-        PreparedStatement pstmt = conn.prepareStatement("insert into test_timestamp_index values (?)");
-        pstmt.setDate(1,d);
+        PreparedStatement pstmt = conn
+            .prepareStatement("insert into test_timestamp_index values (?)");
+        pstmt.setDate(1, d);
         pstmt.execute();
         pstmt = conn.prepareStatement("select * from test_timestamp_index where v0 = ?");
-        pstmt.setTimestamp(1,t);
+        pstmt.setTimestamp(1, t);
         ResultSet rs = pstmt.executeQuery();
         assertTrue(rs.next());
-        assertEquals(t,rs.getTimestamp(1));
-        assertEquals(d.toString(),rs.getDate(1).toString());
+        assertEquals(t, rs.getTimestamp(1));
+        assertEquals(d.toString(), rs.getDate(1).toString());
         pstmt = conn.prepareStatement("explain select * from test_timestamp_index where v0 = ?");
-        pstmt.setTimestamp(1,t);
+        pstmt.setTimestamp(1, t);
         rs = pstmt.executeQuery();
         boolean hasIndex = false;
         while (rs.next()) {
-            if (rs.getString("Query Plan").contains("TEST_TIMESTAMP_INDEX(TEST_TIMESTAMP_ON_TIMESTAMP_INDEX)")) {
+            if (rs.getString("Query Plan").contains(
+                "TEST_TIMESTAMP_INDEX(TEST_TIMESTAMP_ON_TIMESTAMP_INDEX)")) {
                 hasIndex = true;
                 break;
             }
@@ -700,22 +702,23 @@ public class DateOracleTest extends BaseOracleTest {
     public void testForDima2024062200102855417() throws Exception {
         Connection conn = sharedConnection;
         Statement stmt = conn.createStatement();
-        createTable("basic_all_time_columns", "col1 DATE, col2 TIMESTAMP(6)," +
-                "col3 TIMESTAMP(6) WITH TIME ZONE, col4 TIMESTAMP(6) WITH LOCAL TIME ZONE, col5  INTERVAL YEAR(2) TO MONTH, col6 INTERVAL DAY(2) TO SECOND(6)");
-
-        stmt.execute("insert into basic_all_time_columns(col1,col2,col3,col4,col5,col6) values (" +
-                "    TO_DATE('2021-01-01', 'YYYY-MM-DD'),\n" +
-                "    TO_TIMESTAMP('2021-01-01 10:00:00.0', 'YYYY-MM-DD HH24:MI:SS.FF'),\n" +
-                "    TO_TIMESTAMP_TZ('2021-01-01 10:00:00.0 +00:00', 'YYYY-MM-DD HH24:MI:SS.FF TZH:TZM'),\n" +
-                "    TO_TIMESTAMP('2021-01-01 10:00:00.0', 'YYYY-MM-DD HH24:MI:SS.FF'),\n" +
-                "    INTERVAL '01-03' YEAR TO MONTH,\n" +
-                "    INTERVAL '02 03:04:05.123456' DAY TO SECOND" +
-                ")");
+        createTable(
+            "basic_all_time_columns",
+            "col1 DATE, col2 TIMESTAMP(6),"
+                    + "col3 TIMESTAMP(6) WITH TIME ZONE, col4 TIMESTAMP(6) WITH LOCAL TIME ZONE, col5  INTERVAL YEAR(2) TO MONTH, col6 INTERVAL DAY(2) TO SECOND(6)");
+
+        stmt.execute("insert into basic_all_time_columns(col1,col2,col3,col4,col5,col6) values ("
+                     + "    TO_DATE('2021-01-01', 'YYYY-MM-DD'),\n"
+                     + "    TO_TIMESTAMP('2021-01-01 10:00:00.0', 'YYYY-MM-DD HH24:MI:SS.FF'),\n"
+                     + "    TO_TIMESTAMP_TZ('2021-01-01 10:00:00.0 +00:00', 'YYYY-MM-DD HH24:MI:SS.FF TZH:TZM'),\n"
+                     + "    TO_TIMESTAMP('2021-01-01 10:00:00.0', 'YYYY-MM-DD HH24:MI:SS.FF'),\n"
+                     + "    INTERVAL '01-03' YEAR TO MONTH,\n"
+                     + "    INTERVAL '02 03:04:05.123456' DAY TO SECOND" + ")");
 
         conn = setConnection("&useServerPrepStmts=false&compatibleOjdbcVersion=6");
         PreparedStatement ps = conn.prepareStatement("select * from basic_all_time_columns");
         ResultSet rs = ps.executeQuery();
-        testAssert(rs, 6) ;
+        testAssert(rs, 6);
         rs.close();
         ps.close();
 
@@ -934,13 +934,17 @@ public class DateTest extends BaseTest {
             rs.getString(1);
             Assert.fail();
         } catch (SQLException e) {
-            Assert.assertEquals("Value '0000-00-00 00:00:00' can not be represented as java.sql.Timestamp", e.getMessage());
+            Assert.assertEquals(
+                "Value '0000-00-00 00:00:00' can not be represented as java.sql.Timestamp",
+                e.getMessage());
         }
         try {
             rs.getTimestamp(1);
             Assert.fail();
         } catch (SQLException e) {
-            Assert.assertEquals("Value '0000-00-00 00:00:00' can not be represented as java.sql.Timestamp", e.getMessage());
+            Assert.assertEquals(
+                "Value '0000-00-00 00:00:00' can not be represented as java.sql.Timestamp",
+                e.getMessage());
         }
 
         conn = setConnection("&zeroDateTimeBehavior=exception&useServerPrepStmts=true");
@@ -951,13 +955,15 @@ public class DateTest extends BaseTest {
             rs.getString(1);
             Assert.fail();
         } catch (SQLException e) {
-            Assert.assertEquals("Value '0000-00-00' can not be represented as java.sql.Timestamp", e.getMessage());
+            Assert.assertEquals("Value '0000-00-00' can not be represented as java.sql.Timestamp",
+                e.getMessage());
         }
         try {
             rs.getTimestamp(1);
             Assert.fail();
         } catch (SQLException e) {
-            Assert.assertEquals("Value '0000-00-00' can not be represented as java.sql.Timestamp", e.getMessage());
+            Assert.assertEquals("Value '0000-00-00' can not be represented as java.sql.Timestamp",
+                e.getMessage());
         }
 
         conn = setConnection("&zeroDateTimeBehavior=convertToNull");
@@ -991,7 +997,9 @@ public class DateTest extends BaseTest {
             rs.getTimestamp(1);
             Assert.fail();
         } catch (SQLException e) {
-            Assert.assertEquals("Value '0000-00-00 00:00:00' can not be represented as java.sql.Timestamp", e.getMessage());
+            Assert.assertEquals(
+                "Value '0000-00-00 00:00:00' can not be represented as java.sql.Timestamp",
+                e.getMessage());
         }
 
         conn = setConnection("&compatibleMysqlVersion=8&zeroDateTimeBehavior=exception&useServerPrepStmts=true");
@@ -1003,7 +1011,8 @@ public class DateTest extends BaseTest {
             rs.getTimestamp(1);
             Assert.fail();
         } catch (SQLException e) {
-            Assert.assertEquals("Value '0000-00-00' can not be represented as java.sql.Timestamp", e.getMessage());
+            Assert.assertEquals("Value '0000-00-00' can not be represented as java.sql.Timestamp",
+                e.getMessage());
         }
 
         conn = setConnection("&compatibleMysqlVersion=8&zeroDateTimeBehavior=convertToNull");
@@ -1238,20 +1247,17 @@ public class DateTest extends BaseTest {
         Assert.assertEquals("2024-07-11 12:22:33.123", rs.getTimestamp(2).toString());
     }
 
-
     @Test
     public void testCurTimeForDima2024072400103912260() throws SQLException {
         Connection conn1 = setConnection("&useServerPrepStmts=false");
-        PreparedStatement ps = conn1.prepareStatement(
-                " SELECT '12:12:12.123'");
+        PreparedStatement ps = conn1.prepareStatement(" SELECT '12:12:12.123'");
         ResultSet rs = ps.executeQuery();
         assertTrue(rs.next());
         Assert.assertEquals("12:12:12", rs.getTime(1).toString());
         ps.close();
 
         conn1 = setConnection("&useServerPrepStmts=true");
-        ps = conn1.prepareStatement(
-                " SELECT '12:12:12.123'");
+        ps = conn1.prepareStatement(" SELECT '12:12:12.123'");
         rs = ps.executeQuery();
         assertTrue(rs.next());
         Assert.assertEquals("12:12:12", rs.getTime(1).toString());
@@ -1262,8 +1268,10 @@ public class DateTest extends BaseTest {
     public void testForDima2024062200102855417() throws Exception {
         Connection conn = sharedConnection;
         Statement stmt = conn.createStatement();
-        createTable("basic_all_time_columns", "col1 timestamp NULL DEFAULT NULL, col2 time DEFAULT NULL," +
-                "col3 date DEFAULT NULL, col4 datetime DEFAULT NULL, col5 year(4) DEFAULT NULL");
+        createTable(
+            "basic_all_time_columns",
+            "col1 timestamp NULL DEFAULT NULL, col2 time DEFAULT NULL,"
+                    + "col3 date DEFAULT NULL, col4 datetime DEFAULT NULL, col5 year(4) DEFAULT NULL");
         stmt.execute("insert into basic_all_time_columns(`col1`,`col2`,`col3`,`col4`,`col5`) values ('0000-00-00 00:00:00','000:00:00','0000-00-00','0000-00-00 00:00:00','0000');");
         stmt.execute("insert into basic_all_time_columns(`col1`,`col2`,`col3`,`col4`,`col5`) values (NULL,NULL,NULL,NULL,NULL);");
         stmt.execute("insert into basic_all_time_columns(`col1`,`col2`,`col3`,`col4`,`col5`) values ('2023-04-20 12:00:00','234:45:34','2023-04-20','2023-04-20 12:00:00','2023');");
@@ -1271,7 +1279,7 @@ public class DateTest extends BaseTest {
         conn = setConnection("&useServerPrepStmts=false&compatibleMysqlVersion=5");
         PreparedStatement ps = conn.prepareStatement("select * from basic_all_time_columns");
         ResultSet rs = ps.executeQuery();
-        testAssert(rs, true, 5) ;
+        testAssert(rs, true, 5);
         rs.close();
         ps.close();
 
@@ -1554,7 +1562,7 @@ public class DateTest extends BaseTest {
         testContent(conn);
     }
 
-    public void  testContent(Connection conn) throws SQLException {
+    public void testContent(Connection conn) throws SQLException {
         PreparedStatement ps = conn.prepareStatement("select * from t_time");
         ResultSet rs = ps.executeQuery();
         Assert.assertTrue(rs.next());
@@ -1603,7 +1611,8 @@ public class DateTest extends BaseTest {
         Assert.assertNull(rs.getTime(3));
         Assert.assertNull(rs.getDate(3));
         Assert.assertEquals("0000-01-01T00:01", rs.getObject(1).toString());
-        rs.close();;
+        rs.close();
+        ;
         ps.close();
 
     }
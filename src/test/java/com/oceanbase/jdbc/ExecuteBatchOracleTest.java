@@ -61,25 +61,26 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
         try {
             Connection connection = setConnection("&maxBatchTotalParamsNum=300&cachePrepStmts=true&callableStmtCacheSize=1024&useOraclePrepareExecute=true&useServerPrepStmts=true&useCursorFetch=TRUE&defaultFetchSize=25000&rewriteBatchedStatements=TRUE&allowMultiQueries=TRUE&useLocalSessionState=TRUE&useUnicode=TRUE&characterEncoding=utf-8&socketTimeout=3000000&connectTimeout=60000");
             createTable("test_yw", "name varchar(20)");
-            PreparedStatement ps = connection.prepareStatement("INSERT into test_yw(name) VALUES (?)");
-            for (int i=1; i<=1000; i++) {
-                count ++;
-                ps.setString(1,"流水" + i);
+            PreparedStatement ps = connection
+                .prepareStatement("INSERT into test_yw(name) VALUES (?)");
+            for (int i = 1; i <= 1000; i++) {
+                count++;
+                ps.setString(1, "流水" + i);
                 ps.addBatch();
                 ps.executeBatch();
             }
 
-            for (int i=1; i<=1000; i++) {
-                count ++;
-                ps.setString(1,"流水" + i);
+            for (int i = 1; i <= 1000; i++) {
+                count++;
+                ps.setString(1, "流水" + i);
                 ps.addBatch();
             }
             ps.executeBatch();
             //300 300 300 100
 
-            for (int i=1; i<=91; i++) {
-                count ++;
-                ps.setString(1,"流水" + i);
+            for (int i = 1; i <= 91; i++) {
+                count++;
+                ps.setString(1, "流水" + i);
                 ps.addBatch();
             }
             ps.executeBatch();
@@ -87,7 +88,7 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
             ps.close();
             connection.close();
         } catch (Exception ex) {
-            System.out.println("for循环个数："+count);
+            System.out.println("for循环个数：" + count);
             ex.printStackTrace();
         }
     }
@@ -106,9 +107,9 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
             // conn.setAutoCommit(false);
 
             PreparedStatement ps = conn.prepareStatement("INSERT INTO t0 values (?,?,?,?)");
-            for(int j=1;j<=10;j++){
+            for (int j = 1; j <= 10; j++) {
                 //System.out.println(j);
-                for(int i=1;i<10;i++) {
+                for (int i = 1; i < 10; i++) {
                     ps.setInt(1, i);
                     ps.setInt(2, i);
                     ps.setString(3, "aa");
@@ -138,21 +139,20 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
         pstmt.executeBatch();//1 param
     }
 
-
     @Test
     public void aone53826258() {
         try {
             Connection conn = setConnection("&rewriteBatchedStatements=true&useServerPrepStmts=true");//&cachePrepStmts=true&callableStmtCacheSize=1024
-            Statement stmt=conn.createStatement();
+            Statement stmt = conn.createStatement();
             try {
                 stmt.execute("drop table t0");
-            }catch (SQLException e) {
+            } catch (SQLException e) {
             }
             stmt.execute("create table t0(c0 int)");
             stmt.execute("alter system set open_cursors=10");
 
             PreparedStatement ps;
-            for (int j=1;j<20;j++) {
+            for (int j = 1; j < 20; j++) {
                 ps = conn.prepareStatement("insert into t0 values(?)");
                 for (int i = 0; i <= j; i++) {
                     ps.setInt(1, i);
@@ -174,21 +174,22 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
         try {
             Connection connection = setConnection("&maxBatchTotalParamsNum=3&cachePrepStmts=true&rewriteBatchedStatements=TRUE&useServerPrepStmts=true&usePieceData=true");//
             createTable("test_yw", "name clob");
-            PreparedStatement ps = connection.prepareStatement("INSERT into test_yw(name) VALUES (?)");
+            PreparedStatement ps = connection
+                .prepareStatement("INSERT into test_yw(name) VALUES (?)");
             Clob clob = connection.createClob();
             clob.setString(1, "abc");
 
-            for (int i=1; i<=10; i++) {
-                count ++;
-                ps.setClob(1,clob);
+            for (int i = 1; i <= 10; i++) {
+                count++;
+                ps.setClob(1, clob);
                 ps.addBatch();
             }
             ps.executeBatch();
             //300 300 300 100
 
-            for (int i=1; i<=4; i++) {
-                count ++;
-                ps.setClob(1,clob);
+            for (int i = 1; i <= 4; i++) {
+                count++;
+                ps.setClob(1, clob);
                 ps.addBatch();
             }
             ps.executeBatch();
@@ -196,7 +197,7 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
             ps.close();
             connection.close();
         } catch (Exception ex) {
-            System.out.println("for循环个数："+count);
+            System.out.println("for循环个数：" + count);
             ex.printStackTrace();
         }
     }
@@ -214,7 +215,6 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
         stmt.execute("insert into t1 values (20, 'bbb')");
         stmt.execute("insert into t1 values (30, 'ccc')");
 
-
         PreparedStatement ps = conn.prepareStatement("update t1 set c1 = c1-?");
         ps.setInt(1, -1);
         ps.addBatch();
@@ -240,7 +240,8 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
         } catch (SQLException ignored) {
 
         }
-        PreparedStatement ps = conn.prepareStatement("CREATE TABLE t2(c1 INT ,c2 INT) PARTITION BY HASH(c1) PARTITIONS ?");
+        PreparedStatement ps = conn
+            .prepareStatement("CREATE TABLE t2(c1 INT ,c2 INT) PARTITION BY HASH(c1) PARTITIONS ?");
         ps.setInt(1, 2);
         try {
             ps.execute();
@@ -253,51 +254,28 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
     public void testExecuteBatchReForAone57343322() throws SQLException {
         Connection conn = sharedConnection;
         Statement stmt = conn.createStatement();
-        createTable("ob_tmp_t_uw_sy_amount", "product_id number(10), decision_id number(10), amount number(12,2)," +
-                "insert_time date, last_updated_observe timestamp(6), last_updated timestamp(6)");
-        stmt.execute("insert into ob_tmp_t_uw_sy_amount (product_id, decision_id, amount, insert_time, last_updated, " +
-                "last_updated_observe) values (64806, 2, 40000.00, date '2016-08-30', timestamp '2024-05-31 11:38:57.248341', null)");
-
-        String sql = "merge into OB_TMP_T_UW_SY_AMOUNT a using (\n" +
-                "  select\n" +
-                "    *\n" +
-                "  from\n" +
-                "    OB_TMP_T_UW_SY_AMOUNT\n" +
-                "  where\n" +
-                "    PRODUCT_ID = 64806\n" +
-                "    and DECISION_ID = 2\n" +
-                ") b on (\n" +
-                "  a.DECISION_ID = b.DECISION_ID\n" +
-                "  and a.PRODUCT_ID = b.PRODUCT_ID\n" +
-                ")\n" +
-                "when matched then\n" +
-                "update\n" +
-                "set\n" +
-                "  a.AMOUNT = b.AMOUNT,\n" +
-                "  a.INSERT_TIME = b.INSERT_TIME,\n" +
-                "  a.LAST_UPDATED_OBSERVE = b.LAST_UPDATED_OBSERVE,\n" +
-                "  a.LAST_UPDATED = b.LAST_UPDATED\n" +
-                "where\n" +
-                "  a.LAST_UPDATED < b.LAST_UPDATED\n" +
-                "  when not matched then\n" +
-                "insert\n" +
-                "  (\n" +
-                "    a.AMOUNT,\n" +
-                "    a.INSERT_TIME,\n" +
-                "    a.LAST_UPDATED_OBSERVE,\n" +
-                "    a.LAST_UPDATED,\n" +
-                "    a.DECISION_ID,\n" +
-                "    a.PRODUCT_ID\n" +
-                "  )\n" +
-                "values\n" +
-                "  (\n" +
-                "    b.AMOUNT,\n" +
-                "    b.INSERT_TIME,\n" +
-                "    b.LAST_UPDATED_OBSERVE,\n" +
-                "    b.LAST_UPDATED,\n" +
-                "    b.DECISION_ID,\n" +
-                "    b.PRODUCT_ID\n" +
-                "  )";
+        createTable(
+            "ob_tmp_t_uw_sy_amount",
+            "product_id number(10), decision_id number(10), amount number(12,2),"
+                    + "insert_time date, last_updated_observe timestamp(6), last_updated timestamp(6)");
+        stmt.execute("insert into ob_tmp_t_uw_sy_amount (product_id, decision_id, amount, insert_time, last_updated, "
+                     + "last_updated_observe) values (64806, 2, 40000.00, date '2016-08-30', timestamp '2024-05-31 11:38:57.248341', null)");
+
+        String sql = "merge into OB_TMP_T_UW_SY_AMOUNT a using (\n" + "  select\n" + "    *\n"
+                     + "  from\n" + "    OB_TMP_T_UW_SY_AMOUNT\n" + "  where\n"
+                     + "    PRODUCT_ID = 64806\n" + "    and DECISION_ID = 2\n" + ") b on (\n"
+                     + "  a.DECISION_ID = b.DECISION_ID\n" + "  and a.PRODUCT_ID = b.PRODUCT_ID\n"
+                     + ")\n" + "when matched then\n" + "update\n" + "set\n"
+                     + "  a.AMOUNT = b.AMOUNT,\n" + "  a.INSERT_TIME = b.INSERT_TIME,\n"
+                     + "  a.LAST_UPDATED_OBSERVE = b.LAST_UPDATED_OBSERVE,\n"
+                     + "  a.LAST_UPDATED = b.LAST_UPDATED\n" + "where\n"
+                     + "  a.LAST_UPDATED < b.LAST_UPDATED\n" + "  when not matched then\n"
+                     + "insert\n" + "  (\n" + "    a.AMOUNT,\n" + "    a.INSERT_TIME,\n"
+                     + "    a.LAST_UPDATED_OBSERVE,\n" + "    a.LAST_UPDATED,\n"
+                     + "    a.DECISION_ID,\n" + "    a.PRODUCT_ID\n" + "  )\n" + "values\n"
+                     + "  (\n" + "    b.AMOUNT,\n" + "    b.INSERT_TIME,\n"
+                     + "    b.LAST_UPDATED_OBSERVE,\n" + "    b.LAST_UPDATED,\n"
+                     + "    b.DECISION_ID,\n" + "    b.PRODUCT_ID\n" + "  )";
 
         PreparedStatement preparedStatement = conn.prepareStatement(sql);
         preparedStatement.addBatch();
@@ -329,7 +307,7 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
         Assert.assertTrue(rs.next());
         Assert.assertEquals(0, rs.getInt(1));
     }
- 
+
     @Test
     public void testReturninIntoForDima2024082600104255128() throws SQLException {
         Connection conn = setConnection("&useServerPrepStmts=true&useOraclePrepareExecute=true&useArrayBinding=true&compatibleOjdbcVersion=8");
@@ -343,13 +321,13 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
         }
         createTable("t_batch", "id  number(10) , c1 varchar(15), c2 int, c3 varchar(15) ");
         stmt.execute("create or replace trigger tri1\n" + "before insert on t_batch\n"
-                + "for each row\n" + "begin\n" + "  select  s1.nextval\n" + "  into :new.id\n"
-                + "  from dual;\n" + "end;");
+                     + "for each row\n" + "begin\n" + "  select  s1.nextval\n" + "  into :new.id\n"
+                     + "  from dual;\n" + "end;");
 
         String sql = "insert into t_batch(c1, c2, c3) values(?, ?, ?) ";
 
         conn.setAutoCommit(false);
-        PreparedStatement ps = conn.prepareStatement(sql, new int[]{1, 2, 3, 4});
+        PreparedStatement ps = conn.prepareStatement(sql, new int[] { 1, 2, 3, 4 });
 
         for (int i = 1; i <= 3; i++) {
             ps.setString(1, "aaa" + i);
@@ -379,7 +357,7 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
         }
         returnRs.close();
         ps.close();
-        stmt.close(); 
+        stmt.close();
     }
 
     @Test
@@ -387,7 +365,8 @@ public class ExecuteBatchOracleTest extends BaseOracleTest {
         createTable("t_rb", "c1 int");
         Connection conn = setConnection("&useOraclePrepareExecute=true&useArrayBinding=true&compatibleOjdbcVersion=8");
         conn.setAutoCommit(false);
-        JDBC4ServerPreparedStatement pstmt = (JDBC4ServerPreparedStatement) conn.prepareStatement("insert into t_rb values(?) returning c1 into ?");
+        JDBC4ServerPreparedStatement pstmt = (JDBC4ServerPreparedStatement) conn
+            .prepareStatement("insert into t_rb values(?) returning c1 into ?");
         try {
             for (int i = 1; i <= 35; i++) {
                 pstmt.setInt(1, i);
@@ -54,6 +54,7 @@ import static org.junit.Assert.*;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.StringReader;
 import java.lang.Thread.State;
 import java.sql.*;
 import java.util.Iterator;
@@ -454,4 +455,38 @@ public class ExecuteBatchTest extends BaseTest {
       }
     }
   }
+
+    @Test
+  public void arrayBindingBatch() throws SQLException {
+    Assume.assumeTrue(sharedOptions().useServerPrepStmts);
+    createTable("ExecuteBatchArrayBinding", "id int, test varchar(100)");
+    try (Connection connection = setConnection("&useArrayBinding=true")) {
+      try (PreparedStatement pstmt =
+          connection.prepareStatement("INSERT INTO ExecuteBatchArrayBinding VALUES (?, ?)")) {
+        for (int i = 0; i < 1000; i++) {
+          pstmt.setInt(1, i);
+          if (i == 500) {
+            // row with long data is executed on its own
+            pstmt.setCharacterStream(2, new StringReader("stream"));
+          } else {
+            pstmt.setString(2, "value" + i);
+          }
+          pstmt.addBatch();
+        }
+        int[] updateCounts = pstmt.executeBatch();
+        assertEquals(1000, updateCounts.length);
+        for (int updateCount : updateCounts) {
+          assertTrue(updateCount == 1 || updateCount == Statement.SUCCESS_NO_INFO);
+        }
+      }
+      Statement stmt = connection.createStatement();
+      ResultSet rs = stmt.executeQuery("SELECT count(*), max(id) FROM ExecuteBatchArrayBinding");
+      assertTrue(rs.next());
+      assertEquals(1000, rs.getInt(1));
+      assertEquals(999, rs.getInt(2));
+      rs = stmt.executeQuery("SELECT test FROM ExecuteBatchArrayBinding WHERE id = 500");
+      assertTrue(rs.next());
+      assertEquals("stream", rs.getString(1));
+    }
+  }
 }
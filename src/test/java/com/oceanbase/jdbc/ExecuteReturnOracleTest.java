@@ -1078,7 +1078,8 @@ public class ExecuteReturnOracleTest extends BaseOracleTest {
         createTable("testSeveralParams", "c1 int, c2 int, c3 int, c4 int");
         Connection conn = setConnectionOrigin("?useServerPrepStmts=true&useCursorFetch=true&useOraclePrepareExecute=true");
 
-        PreparedStatement ps = conn.prepareStatement("insert into testSeveralParams values(?, ?, ?, ?) returning c1, c2 into ?, ?");
+        PreparedStatement ps = conn
+            .prepareStatement("insert into testSeveralParams values(?, ?, ?, ?) returning c1, c2 into ?, ?");
         ps.setInt(1, 1);
         ps.setInt(2, 11);
         ps.setInt(3, 111);
@@ -1103,7 +1104,8 @@ public class ExecuteReturnOracleTest extends BaseOracleTest {
         System.out.println(rs.getInt(1));
         System.out.println(rs.getInt(2));
 
-        ps = conn.prepareStatement("update testSeveralParams set c1 = ?, c2 = ?, c3 = ?, c4 = ? where c1 = ? and c2 = ? returning c3, c4 into ?, ?");
+        ps = conn
+            .prepareStatement("update testSeveralParams set c1 = ?, c2 = ?, c3 = ?, c4 = ? where c1 = ? and c2 = ? returning c3, c4 into ?, ?");
         ps.setInt(1, 3);
         ps.setInt(2, 33);
         ps.setInt(3, 333);
@@ -509,7 +509,7 @@ public class LobLocatorOracleTest extends BaseOracleTest {
 
             com.oceanbase.jdbc.Blob blob = null;
             pstmtt = conn.prepareStatement("SELECT * FROM " + tableOBOracleModeBlob
-                    + " WHERE c1='112' for update;");
+                                           + " WHERE c1='112' for update;");
             rs = pstmtt.executeQuery();
             String c1 = null;
             while (rs.next()) {
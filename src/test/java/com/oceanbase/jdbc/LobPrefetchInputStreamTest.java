@@ -0,0 +1,254 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LobPrefetchInputStreamTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static byte[] lob(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        return data;
+    }
+
+    /** Reader like SUBSTRING(col, pos, len) : empty array after end. */
+    private static LobPrefetchInputStream.ChunkReader substring(byte[] data, AtomicInteger calls) {
+        return (position, amount) -> {
+            calls.incrementAndGet();
+            int from = (int) Math.min(data.length, position - 1);
+            int to = (int) Math.min(data.length, from + (long) amount);
+            return LobPrefetchInputStream.LobChunk.of(Arrays.copyOfRange(data, from, to));
+        };
+    }
+
+    @Test
+    public void readAll() throws IOException {
+        byte[] data = lob(100_000);
+        AtomicInteger calls = new AtomicInteger();
+        try (LobPrefetchInputStream in = new LobPrefetchInputStream(substring(data, calls), 1,
+            data.length, 1000, 1000, executor, 5000)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[777];
+            int len;
+            while ((len = in.read(buf, 0, buf.length)) != -1) {
+                out.write(buf, 0, len);
+            }
+            assertArrayEquals(data, out.toByteArray());
+            assertEquals(-1, in.read());
+        }
+        // length is known : no request after end
+        assertEquals(100, calls.get());
+    }
+
+    @Test
+    public void transferUnknownLength() throws IOException {
+        byte[] data = lob(50_001);
+        AtomicInteger calls = new AtomicInteger();
+        try (LobPrefetchInputStream in = new LobPrefetchInputStream(substring(data, calls), 1, -1,
+            4096, 1 << 20, executor, 5000)) {
+            assertEquals(data[0] & 0xff, in.read());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(data.length - 1, in.transferTo(Channels.newChannel(out)));
+            assertArrayEquals(Arrays.copyOfRange(data, 1, data.length), out.toByteArray());
+        }
+    }
+
+    @Test
+    public void prefetchWhileConsuming() throws Exception {
+        byte[] data = lob(3000);
+        CountDownLatch secondRequested = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        LobPrefetchInputStream.ChunkReader reader = (position, amount) -> {
+            if (calls.incrementAndGet() == 2) {
+                secondRequested.countDown();
+            }
+            return substring(data, new AtomicInteger()).read(position, amount);
+        };
+        try (LobPrefetchInputStream in = new LobPrefetchInputStream(reader, 1, data.length, 1000,
+            1000, executor, 5000)) {
+            assertEquals(data[0] & 0xff, in.read());
+            // second chunk is requested without consuming first one
+            assertTrue(secondRequested.await(5, TimeUnit.SECONDS));
+            assertEquals(999, in.available());
+        }
+    }
+
+    @Test
+    public void readOnCallingThreadByDefault() throws IOException {
+        byte[] data = lob(3000);
+        Thread caller = Thread.currentThread();
+        AtomicInteger calls = new AtomicInteger();
+        LobPrefetchInputStream.ChunkReader reader = (position, amount) -> {
+            assertSame(caller, Thread.currentThread());
+            return substring(data, calls).read(position, amount);
+        };
+        try (LobPrefetchInputStream in = new LobPrefetchInputStream(reader, 1, data.length, 1000,
+            1000)) {
+            assertEquals(data[0] & 0xff, in.read());
+            // next chunk is only read when needed
+            assertEquals(1, calls.get());
+            assertEquals(data.length - 1, in.transferTo(new ByteArrayOutputStream()));
+        }
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void prefetchTimeout() throws IOException {
+        CountDownLatch release = new CountDownLatch(1);
+        LobPrefetchInputStream.ChunkReader reader = (position, amount) -> {
+            if (position > 1) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return LobPrefetchInputStream.LobChunk.of(new byte[amount]);
+        };
+        try (LobPrefetchInputStream in = new LobPrefetchInputStream(reader, 1, -1, 10, 10, executor,
+            50)) {
+            assertEquals(10, in.read(new byte[10], 0, 10));
+            try {
+                in.read();
+                fail("must have thrown error");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().contains("Timeout"));
+            }
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void chunkSizeAdapts() throws IOException {
+        byte[] data = lob(1 << 20);
+        AtomicInteger calls = new AtomicInteger();
+        try (LobPrefetchInputStream in = new LobPrefetchInputStream(substring(data, calls), 1,
+            data.length, 1024, 64 * 1024, executor, 5000)) {
+            assertEquals(data.length, in.transferTo(new ByteArrayOutputStream()));
+            // fast reader : chunk size grows to maximum
+            assertEquals(64 * 1024, in.getChunkSize());
+        }
+        assertTrue(calls.get() < 1024);
+    }
+
+    @Test
+    public void advanceByAmountRead() throws IOException {
+        // like DBMS_LOB.READ on a multibyte CLOB : at most 3 characters of 2 bytes by chunk
+        String text = "abcdefghijklmnopq";
+        AtomicInteger calls = new AtomicInteger();
+        LobPrefetchInputStream.ChunkReader reader = (position, amount) -> {
+            calls.incrementAndGet();
+            int from = (int) position - 1;
+            if (from >= text.length()) {
+                return null;
+            }
+            int to = Math.min(text.length(), from + Math.min(3, amount));
+            byte[] data = new byte[2 * (to - from)];
+            for (int i = from; i < to; i++) {
+                data[2 * (i - from)] = 0;
+                data[2 * (i - from) + 1] = (byte) text.charAt(i);
+            }
+            return new LobPrefetchInputStream.LobChunk(data, to - from);
+        };
+        try (LobPrefetchInputStream in = new LobPrefetchInputStream(reader, 1, -1, 5, 5, executor,
+            5000)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            assertEquals(text, new String(out.toByteArray(), "UTF-16BE"));
+        }
+        assertEquals(7, calls.get());
+    }
+
+    @Test
+    public void errorIsReported() throws IOException {
+        LobPrefetchInputStream.ChunkReader reader = (position, amount) -> {
+            if (position > 1) {
+                throw new SQLException("connection lost", "08000");
+            }
+            return LobPrefetchInputStream.LobChunk.of(new byte[amount]);
+        };
+        try (LobPrefetchInputStream in = new LobPrefetchInputStream(reader, 1, -1, 10, 10, executor,
+            5000)) {
+            assertEquals(10, in.read(new byte[20], 0, 20));
+            try {
+                in.read();
+                fail("must have thrown error");
+            } catch (IOException e) {
+                assertTrue(e.getCause() instanceof SQLException);
+            }
+        }
+    }
+}
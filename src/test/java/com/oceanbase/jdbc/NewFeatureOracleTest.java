@@ -336,6 +336,49 @@ public class NewFeatureOracleTest extends BaseOracleTest {
         }
     }
 
+    /**
+     * Test case for arrayBinding with prepare-execute, the stream parameter and usePieceData=false :
+     * the row with a stream is executed on its own, other rows still use array binding.
+     */
+    @Test
+    public void testArrayBindingWithLongDataPrepareExecute() throws SQLException {
+        Assume.assumeTrue(sharedOptions().useServerPrepStmts);
+        Connection conn = setConnectionOrigin("?useArrayBinding=true&usePieceData=false"
+                                              + "&useOraclePrepareExecute=true&continueBatchOnError=true");
+        Statement stmt = conn.createStatement();
+        try {
+            stmt.execute("drop table testArrayBindingPE");
+        } catch (SQLException throwables) {
+        }
+        stmt.execute("create table testArrayBindingPE(c1 int,c2 int,c3 varchar2(200))");
+        conn.setAutoCommit(false);
+        PreparedStatement ps = conn
+            .prepareStatement("insert into testArrayBindingPE values(?,?,?)");
+        ps.setInt(1, 1);
+        ps.setInt(2, 2);
+        ps.setString(3, "value1");
+        ps.addBatch();
+        ps.setInt(1, 3);
+        ps.setInt(2, 4);
+        ps.setCharacterStream(3, new StringReader("stringvalue"));
+        ps.addBatch();
+        ps.setInt(1, 5);
+        ps.setInt(2, 6);
+        ps.setString(3, "value3");
+        ps.addBatch();
+        try {
+            ps.executeBatch();
+            Assert.fail("must have thrown exception");
+        } catch (BatchUpdateException e) {
+            Assert.assertTrue(e.getMessage().contains("Not supported send long data on ob oracle"));
+        }
+        conn.commit();
+        conn.setAutoCommit(true);
+        ResultSet rs = stmt.executeQuery("select count(*) from testArrayBindingPE");
+        Assert.assertTrue(rs.next());
+        Assert.assertEquals(2, rs.getInt(1));
+    }
+
     /**
      * Test case for arrayBinding without the stream parameters.
      */
@@ -636,12 +679,12 @@ public class NewFeatureOracleTest extends BaseOracleTest {
     }
 
     @Test
-    public void  testForAone57857839() throws SQLException, UnsupportedEncodingException {
-        Connection conn  = setConnection("&useServerPrepStmts=true&usePieceData=true");
+    public void testForAone57857839() throws SQLException, UnsupportedEncodingException {
+        Connection conn = setConnection("&useServerPrepStmts=true&usePieceData=true");
         Statement stmt = conn.createStatement();
         stmt.execute("create or replace procedure p1(c0 blob)is begin null;end;");
         conn.setAutoCommit(false);
-        Blob b= new com.oceanbase.jdbc.Blob("123".getBytes("utf-8"));
+        Blob b = new com.oceanbase.jdbc.Blob("123".getBytes("utf-8"));
         CallableStatement ps = conn.prepareCall("call p1(?)");
         ps.setBlob(1, b);
         ps.execute();
@@ -671,8 +714,8 @@ public class NewFeatureOracleTest extends BaseOracleTest {
         byte[] blobContent = s.getBytes("utf-8");
         java.sql.Blob b = new com.oceanbase.jdbc.Blob(blobContent);
 
-        for(int i=1;i<=6;i++){
-            for(int j=1;j<=2;j++){
+        for (int i = 1; i <= 6; i++) {
+            for (int j = 1; j <= 2; j++) {
                 ps.setBlob(1, b);
                 ps.setBlob(2, b);
                 ps.addBatch();
@@ -687,7 +730,6 @@ public class NewFeatureOracleTest extends BaseOracleTest {
         assertEquals(12, rs.getInt(1));
     }
 
-
     @Test
     public void testArrayBindingDeleteForAone56539864() throws SQLException {
         try {
@@ -698,11 +740,11 @@ public class NewFeatureOracleTest extends BaseOracleTest {
 
             conn.setAutoCommit(false);
             PreparedStatement ps = conn.prepareStatement("delete from t_delete where id=?");
-            ps.setInt(1,1);
+            ps.setInt(1, 1);
             ps.addBatch();
-            ps.setString(1,"2468");
+            ps.setString(1, "2468");
             ps.addBatch();
-            ps.setInt(1,3);
+            ps.setInt(1, 3);
             ps.addBatch();
             ps.executeBatch();
             conn.commit();
@@ -722,19 +764,20 @@ public class NewFeatureOracleTest extends BaseOracleTest {
     public void testArrayBindingInsertIntErrorForDima2024072400103910874() throws SQLException {
         Connection conn = setConnectionOrigin("?useServerPrepStmts=true&useArrayBinding=true&usePieceData=true");
         Statement stmt = conn.createStatement();
-        try{
+        try {
             stmt.execute("drop table t1");
-        }catch(SQLException e){}
+        } catch (SQLException e) {
+        }
 
         stmt.execute("create table t1(c1 int,c2 int)");
         conn.setAutoCommit(false);
         PreparedStatement ps = conn.prepareStatement("insert into t1 values(?,?)");
-        ps.setInt(1,1);
-        ps.setInt(2,2);
+        ps.setInt(1, 1);
+        ps.setInt(2, 2);
         ps.addBatch();
 
-        ps.setString(1,"error");
-        ps.setInt(2,2);
+        ps.setString(1, "error");
+        ps.setInt(2, 2);
         ps.addBatch();
 
         try {
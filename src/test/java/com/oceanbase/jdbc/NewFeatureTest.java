@@ -402,30 +402,41 @@ public class NewFeatureTest extends BaseTest {
         String tableName = "my_table";
         Statement stmt = conn.createStatement();
         stmt.executeUpdate("delete from " + tableName);
-        stmt.execute("LOAD DATA /*+parallel(8)*/ LOCAL INFILE './validateInfile_data.txt'/* This is a comment */ INTO TABLE /* This is a comment */" + tableName
-                + " FIELDS /* This is a comment */ TERMINATED BY ','" + " LINES TERMINATED BY '\\n'");
+        stmt.execute("LOAD DATA /*+parallel(8)*/ LOCAL INFILE './validateInfile_data.txt'/* This is a comment */ INTO TABLE /* This is a comment */"
+                     + tableName
+                     + " FIELDS /* This is a comment */ TERMINATED BY ','"
+                     + " LINES TERMINATED BY '\\n'");
         Assert.assertEquals("Records: 3  Deleted: 0  Skipped: 0  Warnings: 0",
-                ((OceanBaseStatement) stmt).getServerInfo());
+            ((OceanBaseStatement) stmt).getServerInfo());
         ResultSet rs = stmt.executeQuery("select * from " + tableName);
         assertTrue(rs.next());
-        Assert.assertEquals("1 John 25",rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
+        Assert.assertEquals("1 John 25",
+            rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
         assertTrue(rs.next());
-        Assert.assertEquals("2 Jane 30",rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
+        Assert.assertEquals("2 Jane 30",
+            rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
         assertTrue(rs.next());
-        Assert.assertEquals("3 Michael 35",rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
+        Assert.assertEquals("3 Michael 35", rs.getString("id") + " " + rs.getString("name") + " "
+                                            + rs.getInt("age"));
 
         stmt.executeUpdate("delete from " + tableName);
-        PreparedStatement pstmt = conn.prepareStatement("LOAD DATA /*+parallel(8)*/ LOCAL INFILE ?/* This is a comment */ INTO TABLE /* This is a comment */" + tableName
-                + " FIELDS /* This is a comment */ TERMINATED BY ','" + " LINES TERMINATED BY '\\n'");
-        pstmt.setString(1,"./validateInfile_data.txt");
+        PreparedStatement pstmt = conn
+            .prepareStatement("LOAD DATA /*+parallel(8)*/ LOCAL INFILE ?/* This is a comment */ INTO TABLE /* This is a comment */"
+                              + tableName
+                              + " FIELDS /* This is a comment */ TERMINATED BY ','"
+                              + " LINES TERMINATED BY '\\n'");
+        pstmt.setString(1, "./validateInfile_data.txt");
         pstmt.execute();
         rs = stmt.executeQuery("select * from " + tableName);
         assertTrue(rs.next());
-        Assert.assertEquals("1 John 25",rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
+        Assert.assertEquals("1 John 25",
+            rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
         assertTrue(rs.next());
-        Assert.assertEquals("2 Jane 30",rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
+        Assert.assertEquals("2 Jane 30",
+            rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
         assertTrue(rs.next());
-        Assert.assertEquals("3 Michael 35",rs.getString("id") + " " + rs.getString("name") + " " + rs.getInt("age"));
+        Assert.assertEquals("3 Michael 35", rs.getString("id") + " " + rs.getString("name") + " "
+                                            + rs.getInt("age"));
 
         stmt.close();
         conn.close();
@@ -435,7 +446,8 @@ public class NewFeatureTest extends BaseTest {
     public void testBlobDataRetrievalForDima2024062200102856563() throws Exception {
         Connection conn = setConnection("&emulateLocators=true");
         Statement stmt = conn.createStatement();
-        createTable("test_blob", "id varchar(10), id_card varchar(20), name longblob, primary key(id, id_card)");
+        createTable("test_blob",
+            "id varchar(10), id_card varchar(20), name longblob, primary key(id, id_card)");
         stmt.executeUpdate("insert into test_blob (id, id_card, name) values (1, '123456', 'abcdefg')");
 
         ResultSet rs = stmt.executeQuery("SELECT ID, id_card, 'NAME' AS BLOB_DATA from test_blob");
@@ -483,7 +495,8 @@ public class NewFeatureTest extends BaseTest {
         // test for locatorFetchBufferSize
         conn = setConnection("&emulateLocators=true&locatorFetchBufferSize=3");
         Statement statement = conn.createStatement();
-        ResultSet resultSet = statement.executeQuery("select id, id_card, 'NAME' AS BLOB_DATA from test_blob");
+        ResultSet resultSet = statement
+            .executeQuery("select id, id_card, 'NAME' AS BLOB_DATA from test_blob");
         Assert.assertTrue(resultSet.next());
 
         java.sql.Blob blob2 = resultSet.getBlob("BLOB_DATA");
@@ -515,7 +528,7 @@ public class NewFeatureTest extends BaseTest {
         Assert.assertTrue(Arrays.equals(bytes2, bytes));
         resultSet.close();
     }
- 
+
     @Test
     public void testInsertSetForDima2024072400103903857() throws SQLException {
         Connection conn = setConnection("&rewriteBatchedStatements=true");
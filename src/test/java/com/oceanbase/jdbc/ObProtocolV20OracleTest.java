@@ -551,7 +551,8 @@ public class ObProtocolV20OracleTest extends BaseOracleTest {
         Assert.assertFalse(rs.next());
         rs = stmt.executeQuery("show trace");
         while (rs.next()) {
-            System.out.println(rs.getString(1) + "    " + rs.getString(2) + "    " + rs.getString(3));
+            System.out.println(rs.getString(1) + "    " + rs.getString(2) + "    "
+                               + rs.getString(3));
         }
 
         stmt.execute("set ob_enable_show_trace = false");
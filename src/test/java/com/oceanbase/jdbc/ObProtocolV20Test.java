@@ -90,7 +90,8 @@ public class ObProtocolV20Test extends BaseTest {
         rs = stmt.executeQuery("show trace");
         Assert.assertTrue(rs.next());
         while (rs.next()) {
-            System.out.println(rs.getString(1) + "    " + rs.getString(2) + "    " + rs.getString(3));
+            System.out.println(rs.getString(1) + "    " + rs.getString(2) + "    "
+                               + rs.getString(3));
         }
 
         stmt.execute("set ob_enable_show_trace = false");
@@ -107,17 +108,18 @@ public class ObProtocolV20Test extends BaseTest {
         createTable(tableName, "value longblob");
         Statement stmt = conn.createStatement();
 
-        int[] array = {-2, -3};
+        int[] array = { -2, -3 };
         int dataLen[] = new int[2];
         int index = 0;
-        for(int k : array){
-            for(int i = 24; i <= 24; i++){
+        for (int k : array) {
+            for (int i = 24; i <= 24; i++) {
                 System.out.println("k is " + k + ", i is " + i + ", execute insert");
                 int maxAllowedPacketSize = (int) Math.pow(2, i) + k;
-                int DataLen = maxAllowedPacketSize - ("INSERT INTO " + tableName + " VALUES('')").length();
+                int DataLen = maxAllowedPacketSize
+                              - ("INSERT INTO " + tableName + " VALUES('')").length();
                 String s = getRandomVarchar(DataLen);
                 dataLen[index] = s.length();
-                index ++;
+                index++;
                 try {
                     stmt.executeUpdate("INSERT INTO " + tableName + " VALUES('" + s + "')");
                 } catch (SQLException se1) {
@@ -128,22 +130,23 @@ public class ObProtocolV20Test extends BaseTest {
         }
 
         ResultSet rs = stmt.executeQuery("select * from t_insert");
-        int i = 0 ;
+        int i = 0;
         while (rs.next()) {
-            String string = rs.getString(1);;
+            String string = rs.getString(1);
+            ;
             Assert.assertEquals(dataLen[i], string.length());
-            i ++;
+            i++;
         }
 
         stmt.executeUpdate("drop table " + tableName);
     }
 
-    public  String getRandomVarchar(int length){
-        String str="abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    public String getRandomVarchar(int length) {
+        String str = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
         Random random = new Random();
         StringBuilder sb = new StringBuilder();
-        for(int i = 0; i < length; i++){
-            int number=random.nextInt(62);
+        for (int i = 0; i < length; i++) {
+            int number = random.nextInt(62);
             sb.append(str.charAt(number));
         }
         return sb.toString();
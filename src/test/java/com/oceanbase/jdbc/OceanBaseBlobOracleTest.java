@@ -62,7 +62,7 @@ import java.sql.Statement;
 
 import org.junit.Test;
 
-public class OceanBaseBlobOracleTest extends BaseOracleTest{
+public class OceanBaseBlobOracleTest extends BaseOracleTest {
 
     private final byte[] bytes = new byte[] { 0, 1, 2, 3, 4, 5 };
 
@@ -325,7 +325,7 @@ public class OceanBaseBlobOracleTest extends BaseOracleTest{
         try {
             blob.truncate(-1);
         } catch (SQLException e) {
-            assertEquals("'len' should be >= 0",e.getMessage());
+            assertEquals("'len' should be >= 0", e.getMessage());
         }
         try {
             blob.truncate(4);
@@ -61,7 +61,7 @@ import java.sql.Statement;
 
 import org.junit.Test;
 
-public class OceanBaseBlobTest extends BaseTest{
+public class OceanBaseBlobTest extends BaseTest {
 
     private final byte[] bytes = new byte[] { 0, 1, 2, 3, 4, 5 };
 
@@ -322,13 +322,14 @@ public class OceanBaseBlobTest extends BaseTest{
             blob.truncate(-1);
             fail();
         } catch (SQLException e) {
-            assertEquals("\"len\" argument can not be < 1.",e.getMessage());
+            assertEquals("\"len\" argument can not be < 1.", e.getMessage());
         }
         try {
             blob.truncate(blob.length() + 1);
             fail();
         } catch (SQLException e) {
-            assertEquals("\"len\" argument can not be larger than the BLOB's length.",e.getMessage());
+            assertEquals("\"len\" argument can not be larger than the BLOB's length.",
+                e.getMessage());
         }
         blob.truncate(blob.length());
         assertArrayEquals("aaabbb".getBytes(), blob.getBytes(1L, (int) blob.length()));
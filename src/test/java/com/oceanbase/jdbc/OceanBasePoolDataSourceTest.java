@@ -566,19 +566,21 @@ public class OceanBasePoolDataSourceTest extends BaseTest {
 
         // more than maxPoolSize=2
         for (int i = 0; i < 3; i++) {
-          PooledConnection pooledConnection = null;
-          try {
-            pooledConnection = pool2.getPooledConnection();
-            if (i == 2) {
-              fail();
+            PooledConnection pooledConnection = null;
+            try {
+                pooledConnection = pool2.getPooledConnection();
+                if (i == 2) {
+                    fail();
+                }
+                Connection connection = pooledConnection.getConnection();
+                ResultSet resultSet = connection.createStatement().executeQuery("select " + i);
+                resultSet.next();
+                assertEquals(i, resultSet.getInt(1));
+            } catch (SQLException e) {
+                assertEquals(
+                    "No connection available within the specified time (option 'connectTimeout': 30,000 ms)",
+                    e.getMessage());
             }
-            Connection connection = pooledConnection.getConnection();
-            ResultSet resultSet = connection.createStatement().executeQuery("select " + i);
-            resultSet.next();
-            assertEquals(i, resultSet.getInt(1));
-          } catch (SQLException e) {
-            assertEquals("No connection available within the specified time (option 'connectTimeout': 30,000 ms)", e.getMessage());
-          }
         }
     }
 
@@ -336,6 +336,7 @@ public class OceanbaseOracleXATest extends BaseOracleTest {
         XAResource xaResource = mysqlXAConnection.getXAResource();
         xaResource.recover(XAResource.TMSTARTRSCAN);
     }
+
     @Test
     public void testForAone58086892() throws SQLException, XAException {
         Connection conn = setConnection("&useOceanBaseProtocolV20=false&useServerPrepStmts=true&useOraclePrepareExecute=true");
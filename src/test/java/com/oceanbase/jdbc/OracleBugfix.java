@@ -414,7 +414,8 @@ public class OracleBugfix extends BaseOracleTest {
             createTable(testNumberCol5, "c1 binary_float");
             createTable(testNumberCol6, "c1 binary_double");
 
-            String nameList[] = { testNumberCol1, testNumberCol2, testNumberCol3, testNumberCol4, testNumberCol5, testNumberCol6 };
+            String nameList[] = { testNumberCol1, testNumberCol2, testNumberCol3, testNumberCol4,
+                    testNumberCol5, testNumberCol6 };
             Statement statement = sharedConnection.createStatement();
             ResultSet rs = null;
             for (int i = 0; i < nameList.length; i++) {
@@ -2983,7 +2984,7 @@ public class OracleBugfix extends BaseOracleTest {
 
             createTable(clobTest3, "c1 clob, c2 clob, c3 clob, c4 clob, c5 clob, c6 clob");
             PreparedStatement ps = conn.prepareStatement("insert into " + clobTest3
-                    + " values(?, ?, ?, ?, ?, ?)");
+                                                         + " values(?, ?, ?, ?, ?, ?)");
 
             String str = "1231abcd奥星贝斯";
             ps.setCharacterStream(1, new StringReader(str));
@@ -3020,11 +3021,13 @@ public class OracleBugfix extends BaseOracleTest {
         Statement stmt = conn.createStatement();
         try {
             stmt.execute("drop table test");
-        } catch (SQLException ignore) {} finally {
+        } catch (SQLException ignore) {
+        } finally {
             stmt.execute("create table test(no_ps number, p_star number(*), p number(30),p_s number(10,5), no_p number(*,3))");
         }
 
-        ResultSet rs = stmt.executeQuery("select no_ps, p_star, p, p_s, no_p, (no_p+1), (no_ps+1), (p_s+1) from test");
+        ResultSet rs = stmt
+            .executeQuery("select no_ps, p_star, p, p_s, no_p, (no_p+1), (no_ps+1), (p_s+1) from test");
         ResultSetMetaData rsmd = rs.getMetaData();
         int columnCount = rsmd.getColumnCount();
         int i = 1;
@@ -3062,7 +3065,8 @@ public class OracleBugfix extends BaseOracleTest {
         Statement stmt = conn.createStatement();
         try {
             stmt.execute("drop table t1");
-        } catch (SQLException ignore) {} finally {
+        } catch (SQLException ignore) {
+        } finally {
             stmt.execute("create table t1(bf_c binary_float, bd_c binary_double, float_c float, var_c varchar(10));");
         }
 
@@ -3094,12 +3098,13 @@ public class OracleBugfix extends BaseOracleTest {
             stmt.execute("drop table t0");
         } catch (SQLException ignore) {
         }
-//        stmt.execute("create table t0(v0 number)");
-//        stmt.execute("create table t0(v0 number(*))");
-//        stmt.execute("create table t0(v0 number(5))");
+        //        stmt.execute("create table t0(v0 number)");
+        //        stmt.execute("create table t0(v0 number(*))");
+        //        stmt.execute("create table t0(v0 number(5))");
         stmt.execute("create table t0(v0 number(*, 0))");
 
-        ResultSet rs = stmt.executeQuery("select v0, v0+1, max(v0), sum(v0), cast(v0+to_number(5) as number) from t0 group by v0");
+        ResultSet rs = stmt
+            .executeQuery("select v0, v0+1, max(v0), sum(v0), cast(v0+to_number(5) as number) from t0 group by v0");
         ResultSetMetaData rsmd = rs.getMetaData();
         int columnCount = rsmd.getColumnCount();
         int i = 1;
@@ -3124,39 +3129,31 @@ public class OracleBugfix extends BaseOracleTest {
     @Test
     public void testCursorGetStringAndGetBytes() throws SQLException {
         Statement stmt = sharedConnection.createStatement();
-        stmt.execute("create or replace procedure abcd_test1(\n" +
-                "          var_result_info out varchar2,\n" +
-                "          value_list out sys_refcursor) IS\n" +
-                "          BEGIN\n" +
-                "              open value_list for\n" +
-                "          select\n" +
-                "            1 as usercode,\n" +
-                "            2 as username\n" +
-                "          from\n" +
-                "            dual;\n" +
-                "                var_result_info := 'asdasdasd';\n" +
-                "         \n" +
-                "          end;");
-        CallableStatement statement = sharedConnection.prepareCall("DECLARE\n"
-                + "  var_result_info varchar2(32767);\n"
-                + "  value_list sys_refcursor;\n"
-                + "BEGIN\n"
-                + "  \"ABCD_TEST1\"(var_result_info => "
-                + "var_result_info, value_list => value_list);\n"
-                + "  ? := var_result_info;\n"
-                + "  ? := value_list;\n"
-                + "END;");
+        stmt.execute("create or replace procedure abcd_test1(\n"
+                     + "          var_result_info out varchar2,\n"
+                     + "          value_list out sys_refcursor) IS\n" + "          BEGIN\n"
+                     + "              open value_list for\n" + "          select\n"
+                     + "            1 as usercode,\n" + "            2 as username\n"
+                     + "          from\n" + "            dual;\n"
+                     + "                var_result_info := 'asdasdasd';\n" + "         \n"
+                     + "          end;");
+        CallableStatement statement = sharedConnection
+            .prepareCall("DECLARE\n" + "  var_result_info varchar2(32767);\n"
+                         + "  value_list sys_refcursor;\n" + "BEGIN\n"
+                         + "  \"ABCD_TEST1\"(var_result_info => "
+                         + "var_result_info, value_list => value_list);\n"
+                         + "  ? := var_result_info;\n" + "  ? := value_list;\n" + "END;");
         statement.registerOutParameter(1, Types.VARCHAR);
         statement.registerOutParameter(2, Types.REF);
         statement.executeQuery();
-        assertEquals("asdasdasd",statement.getString(1));
+        assertEquals("asdasdasd", statement.getString(1));
         statement.getString(2);
-        assertEquals(1,statement.getBytes(2)[0]);
+        assertEquals(1, statement.getBytes(2)[0]);
         ResultSet resultSet = (ResultSet) statement.getObject(2);
         ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
         while (resultSet.next()) {
             for (int j = 1; j <= resultSetMetaData.getColumnCount(); j++) {
-                assertEquals(j+"",resultSet.getString(j));
+                assertEquals(j + "", resultSet.getString(j));
             }
         }
     }
@@ -83,7 +83,10 @@ public class OracleConnectionCompatibilityTest extends BaseOracleTest {
         try {
             connection.createStatement().executeUpdate("delete from oracle_conn__test;");
         } catch (SQLInvalidAuthorizationSpecException ex) {
-            assertTrue(ex.getMessage().contains("ORA-01456: may not perform insert/delete/update operation inside a READ ONLY transaction"));
+            assertTrue(ex
+                .getMessage()
+                .contains(
+                    "ORA-01456: may not perform insert/delete/update operation inside a READ ONLY transaction"));
         }
         connection.close();
 
@@ -237,12 +240,12 @@ public class OracleConnectionCompatibilityTest extends BaseOracleTest {
         try {
             conn.setCatalog("test");
         } catch (SQLException e) {
-            assertEquals("No operations allowed after connection closed.",e.getMessage());
+            assertEquals("No operations allowed after connection closed.", e.getMessage());
         }
         try {
             conn.getCatalog();
         } catch (SQLException e) {
-            assertEquals("No operations allowed after connection closed.",e.getMessage());
+            assertEquals("No operations allowed after connection closed.", e.getMessage());
         }
     }
 
@@ -253,39 +256,41 @@ public class OracleConnectionCompatibilityTest extends BaseOracleTest {
         try {
             conn.getSchema();
         } catch (AbstractMethodError e) {
-            assertEquals("Unimplemented method: getSchema()",e.getMessage());
+            assertEquals("Unimplemented method: getSchema()", e.getMessage());
         }
 
         try {
             conn.setSchema("name1");
         } catch (AbstractMethodError e) {
-            assertEquals("Unimplemented method: getSchema()",e.getMessage());
+            assertEquals("Unimplemented method: getSchema()", e.getMessage());
         }
 
         conn.close();
         try {
             conn.getSchema();
         } catch (AbstractMethodError e) {
-            assertEquals("Unimplemented method: getSchema()",e.getMessage());
+            assertEquals("Unimplemented method: getSchema()", e.getMessage());
         }
 
         try {
             conn.setSchema("name1");
         } catch (AbstractMethodError e) {
-            assertEquals("Unimplemented method: getSchema()",e.getMessage());
+            assertEquals("Unimplemented method: getSchema()", e.getMessage());
         }
 
         conn = setConnection("&compatibleOjdbcVersion=8");
 
         String oldSchema = conn.getSchema();
 
-        Assert.assertTrue(sharedConnection.getMetaData().getURL().split("//")[1].split("/")[1].toUpperCase().endsWith(oldSchema));
+        Assert.assertTrue(sharedConnection.getMetaData().getURL().split("//")[1].split("/")[1]
+            .toUpperCase().endsWith(oldSchema));
 
         try {
             conn.setSchema("name1");
         } catch (SQLException e) {
             assertTrue(e instanceof SQLSyntaxErrorException);
-            assertTrue(e.getMessage().contains("ORA-00600: internal error code, arguments: -5154, Unknown database "));
+            assertTrue(e.getMessage().contains(
+                "ORA-00600: internal error code, arguments: -5154, Unknown database "));
         }
 
         conn.setSchema(oldSchema.toLowerCase());
@@ -297,12 +302,12 @@ public class OracleConnectionCompatibilityTest extends BaseOracleTest {
         try {
             conn.setSchema("test");
         } catch (SQLException e) {
-            assertEquals("No operations allowed after connection closed.",e.getMessage());
+            assertEquals("No operations allowed after connection closed.", e.getMessage());
         }
         try {
             conn.getSchema();
         } catch (SQLException e) {
-            assertEquals("No operations allowed after connection closed.",e.getMessage());
+            assertEquals("No operations allowed after connection closed.", e.getMessage());
         }
     }
 }
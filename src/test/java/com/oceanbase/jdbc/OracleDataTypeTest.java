@@ -590,10 +590,8 @@ public class OracleDataTypeTest extends BaseOracleTest {
             stmt.execute("drop table t_20221123");
         } catch (SQLException e) {
         }
-        stmt.execute("create table t_20221123 ("
-                    + "    c1 int,\n"
-                    + "    c2 number,\n"
-                    + "    c3 FLOAT )");
+        stmt.execute("create table t_20221123 (" + "    c1 int,\n" + "    c2 number,\n"
+                     + "    c3 FLOAT )");
         stmt.execute("insert into t_20221123 values(1.1, 2.2, 3.3)");
         stmt.execute("insert into t_20221123 values(0.1, 0.2, 0.3)");
 
@@ -610,7 +608,8 @@ public class OracleDataTypeTest extends BaseOracleTest {
 
     @Test
     public void testFetTimeFromCharacter() throws SQLException {
-        createTable("test_get_time_from_character","v0 char(25), v1 nchar(25), v2 varchar2(50), v3 nvarchar2(50)");
+        createTable("test_get_time_from_character",
+            "v0 char(25), v1 nchar(25), v2 varchar2(50), v3 nvarchar2(50)");
         Connection conn = setConnection("&compatibleOjdbcVersion=6");
         Statement stmt = conn.createStatement();
         stmt.execute("insert into test_get_time_from_character values ('2022-12-12 10:50:30.6','2022-12-12 10:50:30.6','2022-12-12 10:50:30.6','2022-12-12 10:50:30.6')");
@@ -631,7 +630,7 @@ public class OracleDataTypeTest extends BaseOracleTest {
                 //varchar2 or nvarchar2
                 assertEquals(timestampStr.trim(), rs.getString(i));
             }
-            assertEquals(timestamp,rs.getTimestamp(i));
+            assertEquals(timestamp, rs.getTimestamp(i));
             try {
                 rs.getDate(i);
                 fail();
@@ -642,7 +641,7 @@ public class OracleDataTypeTest extends BaseOracleTest {
                 rs.getTime(i);
                 fail();
             } catch (Exception e) {
-//                assertEquals("Time format incorrect, must be HH:mm:ss", e.getMessage());
+                //                assertEquals("Time format incorrect, must be HH:mm:ss", e.getMessage());
                 assertTrue(e.getMessage().contains("incorrect, must be HH:mm:ss"));
             }
         }
@@ -671,8 +670,8 @@ public class OracleDataTypeTest extends BaseOracleTest {
             }
         }
         assertTrue(rs.next());
-        assertEquals(Time.valueOf("10:50:30"),rs.getTime(1));
-        assertEquals(Time.valueOf("10:50:30"),rs.getTime(2));
+        assertEquals(Time.valueOf("10:50:30"), rs.getTime(1));
+        assertEquals(Time.valueOf("10:50:30"), rs.getTime(2));
 
         conn = setConnection("&compatibleOjdbcVersion=8");
         stmt = conn.createStatement();
@@ -687,7 +686,7 @@ public class OracleDataTypeTest extends BaseOracleTest {
                 //varchar2 or nvarchar2
                 assertEquals(timestampStr.trim(), rs.getString(i));
             }
-            assertEquals(timestamp,rs.getTimestamp(i));
+            assertEquals(timestamp, rs.getTimestamp(i));
             try {
                 rs.getDate(i);
                 fail();
@@ -726,8 +725,8 @@ public class OracleDataTypeTest extends BaseOracleTest {
             }
         }
         assertTrue(rs.next());
-        assertEquals(Time.valueOf("10:50:30"),rs.getTime(1));
-        assertEquals(Time.valueOf("10:50:30"),rs.getTime(2));
+        assertEquals(Time.valueOf("10:50:30"), rs.getTime(1));
+        assertEquals(Time.valueOf("10:50:30"), rs.getTime(2));
     }
 
     @Test
@@ -745,17 +744,17 @@ public class OracleDataTypeTest extends BaseOracleTest {
                 rs = stmt.executeQuery("select * from t1");
             }
             rs.next();
-            Assert.assertEquals("1.2" , String.valueOf(rs.getFloat(1)));
-            Assert.assertEquals("1.2" , String.valueOf(rs.getDouble(1)));
-            Assert.assertEquals(new BigDecimal("1.2") , rs.getBigDecimal(1) );
+            Assert.assertEquals("1.2", String.valueOf(rs.getFloat(1)));
+            Assert.assertEquals("1.2", String.valueOf(rs.getDouble(1)));
+            Assert.assertEquals(new BigDecimal("1.2"), rs.getBigDecimal(1));
 
-            Assert.assertEquals("1.2" , String.valueOf(rs.getFloat(2)));
-            Assert.assertEquals("1.2000000476837158" , String.valueOf(rs.getDouble(2)));
-            Assert.assertEquals(new BigDecimal("1.2") , rs.getBigDecimal(2) );
+            Assert.assertEquals("1.2", String.valueOf(rs.getFloat(2)));
+            Assert.assertEquals("1.2000000476837158", String.valueOf(rs.getDouble(2)));
+            Assert.assertEquals(new BigDecimal("1.2"), rs.getBigDecimal(2));
 
-            Assert.assertEquals("1.2" , String.valueOf(rs.getFloat(3)));
-            Assert.assertEquals("1.2" , String.valueOf(rs.getDouble(3)));
-            Assert.assertEquals(new BigDecimal("1.2") , rs.getBigDecimal(3) );
+            Assert.assertEquals("1.2", String.valueOf(rs.getFloat(3)));
+            Assert.assertEquals("1.2", String.valueOf(rs.getDouble(3)));
+            Assert.assertEquals(new BigDecimal("1.2"), rs.getBigDecimal(3));
         }
     }
 
@@ -867,9 +866,12 @@ public class OracleDataTypeTest extends BaseOracleTest {
             }
             Assert.assertEquals("9.423372E18", String.valueOf(rs.getFloat(1)));
             Assert.assertEquals("9.423372036854776E18", String.valueOf(rs.getDouble(1)));
-            Assert.assertEquals("9423372036854775807.1733206919376", String.valueOf(rs.getBigDecimal(1)));
-            Assert.assertEquals("9423372036854775807.1733206919376", String.valueOf(rs.getString(1)));
-            Assert.assertEquals("9423372036854775807.1733206919376", String.valueOf(rs.getObject(1)));
+            Assert.assertEquals("9423372036854775807.1733206919376",
+                String.valueOf(rs.getBigDecimal(1)));
+            Assert.assertEquals("9423372036854775807.1733206919376",
+                String.valueOf(rs.getString(1)));
+            Assert.assertEquals("9423372036854775807.1733206919376",
+                String.valueOf(rs.getObject(1)));
 
             // binary_float type
             Assert.assertEquals(-1, rs.getByte(2));
@@ -196,10 +196,12 @@ public class OracleNcharNvarcharTest extends BaseOracleTest {
     public void fix52808791() throws SQLException {
         try {
             Connection conn = setConnection("&characterEncoding=gbk&nCharacterEncoding=utf8");
-            createTable("t_nchar", "id number, c1 nchar(200), c2 nvarchar2(200), c3 char(200), c4 varchar2(200)");
+            createTable("t_nchar",
+                "id number, c1 nchar(200), c2 nvarchar2(200), c3 char(200), c4 varchar2(200)");
 
             String str = "123中文abc㐀~";
-            PreparedStatement ps = conn.prepareStatement("insert into t_nchar values (1, ?, ?, ?, ?)");
+            PreparedStatement ps = conn
+                .prepareStatement("insert into t_nchar values (1, ?, ?, ?, ?)");
             ps.setNString(1, str);
             ps.setNString(2, str);
             ps.setString(3, str);
@@ -213,19 +215,19 @@ public class OracleNcharNvarcharTest extends BaseOracleTest {
 
             ResultSet rs = conn.prepareStatement("select * from t_nchar").executeQuery();
             Assert.assertTrue(rs.next());
-//            System.out.println(rs.getString(2));
-//            System.out.println(rs.getString(3));
-//            System.out.println(rs.getString(4));
-//            System.out.println(rs.getString(5));
+            //            System.out.println(rs.getString(2));
+            //            System.out.println(rs.getString(3));
+            //            System.out.println(rs.getString(4));
+            //            System.out.println(rs.getString(5));
             Assert.assertTrue(rs.getString(2).startsWith("123中文abc㐀~"));
             Assert.assertTrue(rs.getString(3).startsWith("123中文abc㐀~"));
             Assert.assertTrue(rs.getString(4).startsWith("123中文abc?~"));
             Assert.assertTrue(rs.getString(5).startsWith("123中文abc?~"));
             Assert.assertTrue(rs.next());
-//            System.out.println(rs.getString(2));
-//            System.out.println(rs.getString(3));
-//            System.out.println(rs.getString(4));
-//            System.out.println(rs.getString(5));
+            //            System.out.println(rs.getString(2));
+            //            System.out.println(rs.getString(3));
+            //            System.out.println(rs.getString(4));
+            //            System.out.println(rs.getString(5));
             Assert.assertTrue(rs.getString(2).startsWith("123中文abc?~"));
             Assert.assertTrue(rs.getString(3).startsWith("123中文abc?~"));
             Assert.assertTrue(rs.getString(4).startsWith("123中文abc?~"));
@@ -172,7 +172,7 @@ public class OracleReturningIntoTest extends BaseOracleTest {
             Connection conn = setConnectionOrigin("?useServerPrepStmts=true&usePieceData=true");
             createTable("t_return_clob", "c1 clob, c2 blob");
             JDBC4ServerPreparedStatement ps = (JDBC4ServerPreparedStatement) conn
-                    .prepareStatement("insert into t_return_clob values(?, ?) returning c1,c2 into ?,?");
+                .prepareStatement("insert into t_return_clob values(?, ?) returning c1,c2 into ?,?");
 
             ps.setCharacterStream(1, new StringReader("abc"));
             ps.setBinaryStream(2, new ByteArrayInputStream("abc".getBytes()));
@@ -158,7 +158,8 @@ public class ParameterMetaDataOracleTest extends BaseOracleTest {
         }
         stmt.execute("create table test_SimpleParameterMetaData (v0 int , v1 varchar(32) , v2 date)");
         Connection conn = setConnection("&useServerPrepStmts=false");
-        PreparedStatement pstmt = conn.prepareStatement("insert into test_SimpleParameterMetaData (v0 , v1 , v2) values (? , ? , ?)");
+        PreparedStatement pstmt = conn
+            .prepareStatement("insert into test_SimpleParameterMetaData (v0 , v1 , v2) values (? , ? , ?)");
         ParameterMetaData parameterMetaData = pstmt.getParameterMetaData();
 
         try {
@@ -113,7 +113,8 @@ public class ParameterMetaDataTest extends BaseTest {
         }
         stmt.execute("create table test_SimpleParameterMetaData (v0 int , v1 varchar(32) , v2 date)");
         Connection conn = setConnection("&useServerPrepStmts=true&generateSimpleParameterMetadata=true");
-        PreparedStatement pstmt = conn.prepareStatement("insert into test_SimpleParameterMetaData (v0 , v1 , v2) values (? , ? , ?)");
+        PreparedStatement pstmt = conn
+            .prepareStatement("insert into test_SimpleParameterMetaData (v0 , v1 , v2) values (? , ? , ?)");
         ParameterMetaData parameterMetaData = pstmt.getParameterMetaData();
         assertEquals(3, parameterMetaData.getParameterCount());
 
@@ -137,7 +138,8 @@ public class ParameterMetaDataTest extends BaseTest {
         assertEquals(0, parameterMetaData.getScale(3));
 
         conn = setConnection("&useServerPrepStmts=false&generateSimpleParameterMetadata=true");
-        pstmt = conn.prepareStatement("insert into test_SimpleParameterMetaData (v0 , v1 , v2) values (? , ? , ?)");
+        pstmt = conn
+            .prepareStatement("insert into test_SimpleParameterMetaData (v0 , v1 , v2) values (? , ? , ?)");
         parameterMetaData = pstmt.getParameterMetaData();
         assertEquals(3, parameterMetaData.getParameterCount());
         assertFalse(parameterMetaData.isSigned(1));
@@ -195,7 +195,7 @@ public class ParserTest extends BaseTest {
         Connection conn = setConnection("&rewriteBatchedStatements=true");
         createTable("test_onduplicatekeyupdateindex", "a int not null,b int, primary key (a)");
         String sql = "insert into test_onduplicatekeyupdateindex(a) with r as (select 1 as a union all select 2 as a union all select 3 as a)"
-                + " select a from r on duplicate key update b = values(a) ;";
+                     + " select a from r on duplicate key update b = values(a) ;";
         PreparedStatement pstmt = conn.prepareStatement(sql);
         pstmt.execute();
         ResultSet rs = pstmt.executeQuery("select * from test_onduplicatekeyupdateindex");
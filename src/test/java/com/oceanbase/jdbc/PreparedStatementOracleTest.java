@@ -159,16 +159,16 @@ public class PreparedStatementOracleTest extends BaseOracleTest {
         Assert.assertFalse(rs.next());
 
         try {
-            pstmt = conn.prepareStatement("insert into t1(c2) values ('test2')",
-                new int[] { 1, 3 });
+            pstmt = conn
+                .prepareStatement("insert into t1(c2) values ('test2')", new int[] { 1, 3 });
             Assert.fail();
         } catch (Exception e) {
             Assert.assertTrue(e.getMessage().contains("index 2 must be in [0, 1]"));
         }
 
         try {
-            pstmt = conn.prepareStatement("insert into t1(c2) values ('test3')",
-                new int[] { 1, 2, 3 });
+            pstmt = conn.prepareStatement("insert into t1(c2) values ('test3')", new int[] { 1, 2,
+                    3 });
             Assert.fail();
         } catch (Exception e) {
             Assert.assertTrue(e.getMessage().contains("index 2 must be in [0, 1]"));
@@ -213,16 +213,16 @@ public class PreparedStatementOracleTest extends BaseOracleTest {
         Assert.assertFalse(rs.next());
 
         try {
-            pstmt = conn.prepareStatement("insert into t1(c2) values ('test2')",
-                new String[] {"C1", "C3" });
+            pstmt = conn.prepareStatement("insert into t1(c2) values ('test2')", new String[] {
+                    "C1", "C3" });
             Assert.fail();
         } catch (Exception e) {
             Assert.assertTrue(e.getMessage().contains("Invalid parameter \"C3\""));
         }
 
         try {
-            pstmt = conn.prepareStatement("insert into t1(c2) values ('test3')",
-                new String[] {"C1", "C2", "C3" });
+            pstmt = conn.prepareStatement("insert into t1(c2) values ('test3')", new String[] {
+                    "C1", "C2", "C3" });
             Assert.fail();
         } catch (Exception e) {
             Assert.assertTrue(e.getMessage().contains("Invalid parameter \"C3\""));
@@ -321,7 +321,7 @@ public class PreparedStatementOracleTest extends BaseOracleTest {
         assertEquals("returning ... into ?,?", rs.getString(2));
 
         ps = conn.prepareStatement("INSERT INTO test_1 VALUES (2,' returning ... into ?,?')",
-                new String[] { "id", "c1" });
+            new String[] { "id", "c1" });
         ps.execute();
         rs = ps.getGeneratedKeys();
         assertTrue(rs.next());
@@ -389,16 +389,17 @@ public class PreparedStatementOracleTest extends BaseOracleTest {
         stmt.executeUpdate("INSERT INTO test(n1) VALUES(2)");
         stmt.executeUpdate("INSERT INTO test(n1) VALUES(3)");
 
-        PreparedStatement s = sharedConnection.prepareStatement("UPDATE test set n1 = n1 -? WHERE n1 = 1");
-        s.setDouble(1,-1);
+        PreparedStatement s = sharedConnection
+            .prepareStatement("UPDATE test set n1 = n1 -? WHERE n1 = 1");
+        s.setDouble(1, -1);
         int retRows = s.executeUpdate();
         System.out.println(retRows);
         Assert.assertEquals(1, retRows);
 
-//        ResultSet rs = stmt.executeQuery("select * from test");
-//        while (rs.next()) {
-//            System.out.println(rs.getString(1) + " " + rs.getString(2));
-//        }
+        //        ResultSet rs = stmt.executeQuery("select * from test");
+        //        while (rs.next()) {
+        //            System.out.println(rs.getString(1) + " " + rs.getString(2));
+        //        }
     }
 
     @Test
@@ -444,7 +445,7 @@ public class PreparedStatementOracleTest extends BaseOracleTest {
         String sql = "/*t1,t2,t3*/ -- t1\n-- t2\n-- t3\n/*t1, t2, t3*/ select 1 from dual";
         Assert.assertEquals("  select 1 from dual", Utils.trimSQLString(sql, false, false));
     }
-    
+
     @Test
     public void testcachePrepStmts() throws Exception {
         Connection conn = setConnection("&useServerPrepStmts=true&useOraclePrepareExecute=true&cachePrepStmts=true");
@@ -480,7 +481,8 @@ public class PreparedStatementOracleTest extends BaseOracleTest {
         stmt.execute("insert into testAone values('a', 'b', 'c')");
 
         // testForAone56598230 for parameterParts
-        Connection conn = setConnection("&useServerPrepStmts=false&rewriteBatchedStatements=false");;
+        Connection conn = setConnection("&useServerPrepStmts=false&rewriteBatchedStatements=false");
+        ;
         String sql = "/*comment*/select /*+index(a, b)*/* from testAone where a = ? and b = ? and c = ? ";
         PreparedStatement ps = conn.prepareStatement(sql);
         ps.setString(1, "a");
@@ -510,8 +512,10 @@ public class PreparedStatementOracleTest extends BaseOracleTest {
         // testForAone56598230 for canAggregateSemiColon
         conn = setConnection("&useServerPrepStmts=false&useOraclePrepareExecute=false&rewriteBatchedStatements=true");
         Statement statement = conn.createStatement();
-        statement.addBatch("select /*+index(kdpl_zhminx, KDPL_ZHMINX_IDX1)*/* from testAone where a = 'a';");
-        statement.addBatch("select /*+index(kdpl_zhminx, KDPL_ZHMINX_IDX1)*/* from testAone where b = 'b';");
+        statement
+            .addBatch("select /*+index(kdpl_zhminx, KDPL_ZHMINX_IDX1)*/* from testAone where a = 'a';");
+        statement
+            .addBatch("select /*+index(kdpl_zhminx, KDPL_ZHMINX_IDX1)*/* from testAone where b = 'b';");
         statement.executeBatch();
     }
 
@@ -582,7 +586,8 @@ public class PreparedStatementOracleTest extends BaseOracleTest {
                 fail();
                 ps.close();
             } catch (SQLException e) {
-                Assert.assertTrue(e.getMessage().contains("is >= to max_allowed_packet (16777216)"));
+                Assert
+                    .assertTrue(e.getMessage().contains("is >= to max_allowed_packet (16777216)"));
             }
 
             // verify if it is a new connection
@@ -593,12 +598,12 @@ public class PreparedStatementOracleTest extends BaseOracleTest {
         }
     }
 
-    public  String getRandomVarchar(int length){
-        String str="abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    public String getRandomVarchar(int length) {
+        String str = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
         Random random = new Random();
         StringBuilder sb = new StringBuilder();
-        for(int i = 0; i < length; i++){
-            int number=random.nextInt(62);
+        for (int i = 0; i < length; i++) {
+            int number = random.nextInt(62);
             sb.append(str.charAt(number));
         }
         return sb.toString();
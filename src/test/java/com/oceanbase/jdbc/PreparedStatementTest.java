@@ -244,9 +244,9 @@ public class PreparedStatementTest extends BaseTest {
         ResultSet rss = s.executeQuery("select -1.0 from dual");
         assertTrue(rss.next());
         assertEquals("DECIMAL", rss.getMetaData().getColumnTypeName(1));
-//        System.out.println("getDouble: " + rss.getDouble(1));
+        //        System.out.println("getDouble: " + rss.getDouble(1));
         assertEquals(-1.0, rss.getDouble(1), 0.01);
-//        System.out.println("getBigDecimal: " + rss.getBigDecimal(1));
+        //        System.out.println("getBigDecimal: " + rss.getBigDecimal(1));
         assertEquals(new BigDecimal(-1.0).setScale(1), rss.getBigDecimal(1));
         s.close();
 
@@ -259,9 +259,9 @@ public class PreparedStatementTest extends BaseTest {
         assertTrue(rs.next());
         assertEquals("DOUBLE", rs.getMetaData().getColumnTypeName(1));
         assertEquals(-1, rs.getInt(1));
-//        System.out.println("getDouble: " + rs.getDouble(1));
+        //        System.out.println("getDouble: " + rs.getDouble(1));
         assertEquals(-1.0, rs.getDouble(1), 0.01);
-//        System.out.println("getBigDecimal: " + rs.getBigDecimal(1));
+        //        System.out.println("getBigDecimal: " + rs.getBigDecimal(1));
         assertEquals(new BigDecimal(-1.0).setScale(31), rs.getBigDecimal(1));
         rs.close();
         pstmt.close();
@@ -700,16 +700,18 @@ public class PreparedStatementTest extends BaseTest {
 
     @Test
     public void testClearParam() throws SQLException {
-        createTable("test_clear_param","v0 int");
-        PreparedStatement pstmt = sharedConnection.prepareStatement("insert into test_clear_param values (?)");
-        pstmt.setInt(1,1);
+        createTable("test_clear_param", "v0 int");
+        PreparedStatement pstmt = sharedConnection
+            .prepareStatement("insert into test_clear_param values (?)");
+        pstmt.setInt(1, 1);
         pstmt.addBatch();
-        pstmt.setInt(1,2);
+        pstmt.setInt(1, 2);
         pstmt.addBatch();
         pstmt.executeBatch();
         pstmt.addBatch();
         pstmt.executeBatch();
-        ResultSet rs = sharedConnection.createStatement().executeQuery("select * from test_clear_param");
+        ResultSet rs = sharedConnection.createStatement().executeQuery(
+            "select * from test_clear_param");
         assertTrue(rs.next());
         assertEquals(1, rs.getInt(1));
         assertTrue(rs.next());
@@ -763,7 +765,8 @@ public class PreparedStatementTest extends BaseTest {
         pstmt.execute();
         pstmt.getGeneratedKeys();
 
-        pstmt = conn.prepareStatement("INSERT INTO test (field1) VALUES (?)", new String[] { "pk" });
+        pstmt = conn
+            .prepareStatement("INSERT INTO test (field1) VALUES (?)", new String[] { "pk" });
         pstmt.setString(1, "abc");
         pstmt.execute();
         pstmt.getGeneratedKeys();
@@ -874,7 +877,8 @@ public class PreparedStatementTest extends BaseTest {
                 fail();
                 ps.close();
             } catch (SQLException e) {
-                Assert.assertTrue(e.getMessage().contains("is >= to max_allowed_packet (16777216)"));
+                Assert
+                    .assertTrue(e.getMessage().contains("is >= to max_allowed_packet (16777216)"));
             }
 
             // verify if it is a new connection
@@ -885,15 +889,15 @@ public class PreparedStatementTest extends BaseTest {
         }
     }
 
-    public  String getRandomVarchar(int length){
-        String str="abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    public String getRandomVarchar(int length) {
+        String str = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
         Random random = new Random();
         StringBuilder sb = new StringBuilder();
-        for(int i = 0; i < length; i++){
-            int number=random.nextInt(62);
+        for (int i = 0; i < length; i++) {
+            int number = random.nextInt(62);
             sb.append(str.charAt(number));
         }
         return sb.toString();
     }
- 
+
 }
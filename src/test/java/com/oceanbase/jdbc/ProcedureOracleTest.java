@@ -63,15 +63,15 @@ public class ProcedureOracleTest extends BaseOracleTest {
                 fail();
             } catch (SQLException e) {
                 e.printStackTrace();
-//            Assert.assertTrue(e.getMessage().contains("ORA-00600: internal error code, arguments: -4007, Not supported feature or function"));
-//            // oracle: 发请求，"ORA-06575: 程序包或函数 TESTPROC 处于无效状态\n"
+                //            Assert.assertTrue(e.getMessage().contains("ORA-00600: internal error code, arguments: -4007, Not supported feature or function"));
+                //            // oracle: 发请求，"ORA-06575: 程序包或函数 TESTPROC 处于无效状态\n"
             }
             try {
                 cs.registerOutParameter(1, Types.INTEGER);
                 fail();
             } catch (SQLException e) {
                 e.printStackTrace();//无效的列索引
-//            Assert.assertEquals(e.getMessage(), "No parameter with index 1");
+                //            Assert.assertEquals(e.getMessage(), "No parameter with index 1");
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -82,17 +82,17 @@ public class ProcedureOracleTest extends BaseOracleTest {
             CallableStatement cs2 = sharedConnection.prepareCall("call testProc2(1)");
             try {
                 cs2.execute();
-//                fail(); // server has no plan to fix
+                //                fail(); // server has no plan to fix
             } catch (SQLException e) {
                 e.printStackTrace();
-//            Assert.assertEquals(e.getMessage(), "ORA-06577: 输出参数不是绑定变量\n");
+                //            Assert.assertEquals(e.getMessage(), "ORA-06577: 输出参数不是绑定变量\n");
             }
             try {
                 cs2.registerOutParameter(1, Types.INTEGER);
                 fail();
             } catch (SQLException e) {
                 e.printStackTrace();//无效的列索引
-//            Assert.assertEquals(e.getMessage(), "No parameter with index 1");
+                //            Assert.assertEquals(e.getMessage(), "No parameter with index 1");
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -108,8 +108,8 @@ public class ProcedureOracleTest extends BaseOracleTest {
             fail();
         } catch (SQLException e) {
             e.printStackTrace();
-//            Assert.assertEquals(e.getMessage(), "Missing IN or OUT parameter in index::1");
-//            // oracle: 不发请求，报错"索引中丢失  IN 或 OUT 参数:: 1"
+            //            Assert.assertEquals(e.getMessage(), "Missing IN or OUT parameter in index::1");
+            //            // oracle: 不发请求，报错"索引中丢失  IN 或 OUT 参数:: 1"
         }
         cs.registerOutParameter(1, Types.INTEGER);
         try {
@@ -117,8 +117,8 @@ public class ProcedureOracleTest extends BaseOracleTest {
             fail();
         } catch (SQLException e) {
             e.printStackTrace();
-//            Assert.assertTrue(e.getMessage().contains("ORA-00600: internal error code, arguments: -4007, Not supported feature or function"));
-//            // oracle: 发请求，"ORA-06575: 程序包或函数 TESTPROC 处于无效状态\n"
+            //            Assert.assertTrue(e.getMessage().contains("ORA-00600: internal error code, arguments: -4007, Not supported feature or function"));
+            //            // oracle: 发请求，"ORA-06575: 程序包或函数 TESTPROC 处于无效状态\n"
         }
 
         createProcedure("testProc2", "(a out int) is BEGIN SELECT 1 into a from dual; END");
@@ -128,8 +128,8 @@ public class ProcedureOracleTest extends BaseOracleTest {
             fail();
         } catch (SQLException e) {
             e.printStackTrace();
-//            Assert.assertEquals(e.getMessage(), "Missing IN or OUT parameter in index::1");
-//            // oracle: 不发请求，报错"索引中丢失  IN 或 OUT 参数:: 1"
+            //            Assert.assertEquals(e.getMessage(), "Missing IN or OUT parameter in index::1");
+            //            // oracle: 不发请求，报错"索引中丢失  IN 或 OUT 参数:: 1"
         }
         cs2.registerOutParameter(1, Types.INTEGER);
         cs2.execute();
@@ -281,9 +281,12 @@ public class ProcedureOracleTest extends BaseOracleTest {
     public void testFofAone55293893() throws SQLException {
         Connection connection = setConnection();
         Statement statement = connection.createStatement();
-        statement.execute("CREATE OR REPLACE type ty_test as object ( c1 varchar(10), c2 char(10) );");
+        statement
+            .execute("CREATE OR REPLACE type ty_test as object ( c1 varchar(10), c2 char(10) );");
 
-        createProcedure("ty_pl", "(c1 varchar, c2 char, o_ty out SYS_REFCURSOR) as begin open o_ty for SELECT ty_test(c1, c2) from (select c1 as c1, c2 as c2 from dual); end;");
+        createProcedure(
+            "ty_pl",
+            "(c1 varchar, c2 char, o_ty out SYS_REFCURSOR) as begin open o_ty for SELECT ty_test(c1, c2) from (select c1 as c1, c2 as c2 from dual); end;");
 
         CallableStatement cstmt = connection.prepareCall("call ty_pl(?, ?, ?)");
         cstmt.setString(1, "hello");
@@ -291,7 +294,7 @@ public class ProcedureOracleTest extends BaseOracleTest {
         cstmt.registerOutParameter(3, Types.REF_CURSOR);
         cstmt.execute();
 
-        ResultSet rs = (ResultSet)cstmt.getObject(3);
+        ResultSet rs = (ResultSet) cstmt.getObject(3);
         rs.next();
         Struct struct = (Struct) rs.getObject(1);
         Object[] attributes = struct.getAttributes();
@@ -300,7 +303,7 @@ public class ProcedureOracleTest extends BaseOracleTest {
         assertEquals("上海    ", attributes[1]);
     }
 
-    @Test 
+    @Test
     public void testForDima2024080100104013452() throws Exception {
         Connection conn = setConnection("&useServerPrepStmts=true&cacheCallableStmts=false");
         Statement stmt = conn.createStatement();
@@ -315,7 +318,7 @@ public class ProcedureOracleTest extends BaseOracleTest {
             fail();
         } catch (SQLException e) {
             Assert.assertTrue(e.getMessage().contains("ORA-01000: maximum open cursors exceeded"));
-        }finally {
+        } finally {
             stmt.execute("alter system set open_cursors = 50");
         }
 
@@ -330,11 +333,11 @@ public class ProcedureOracleTest extends BaseOracleTest {
             }
         } catch (SQLException e) {
             fail();
-        }finally {
+        } finally {
             stmt.execute("alter system set open_cursors = 50");
         }
     }
-    
+
     @Test
     public void testForDima2024071500103721142() throws Exception {
         Statement stmt = sharedConnection.createStatement();
@@ -475,7 +478,7 @@ public class ProcedureOracleTest extends BaseOracleTest {
             Connection conn = setConnectionOrigin("?cacheCallableStmts=true");
             for (int i = 0; i < 2; i++) {
                 CallableStatement cs = conn.prepareCall("{call pro2(?)}");
-                cs.setInt(1,2);
+                cs.setInt(1, 2);
                 cs.execute();
                 cs.close();
             }
@@ -498,9 +501,9 @@ public class ProcedureOracleTest extends BaseOracleTest {
                 cs.execute();
                 cs.close();
             }
-        }catch (Exception e){
+        } catch (Exception e) {
             fail();
-        }finally {
+        } finally {
             stmt.execute("alter system set open_cursors = 50");
         }
 
@@ -528,7 +531,7 @@ public class ProcedureOracleTest extends BaseOracleTest {
         statement.execute("create or replace procedure p1(a obj0, b out obj0)is begin b:=a;end;");
 
         CallableStatement call01 = conn.prepareCall("call p1(obj0(1,5),?)");
-        call01.registerOutParameter(1, Types.STRUCT,"OBJ0");
+        call01.registerOutParameter(1, Types.STRUCT, "OBJ0");
         call01.execute();
         Struct struct01 = (Struct) call01.getObject(1);
         Object[] attributes = struct01.getAttributes();
@@ -544,84 +547,101 @@ public class ProcedureOracleTest extends BaseOracleTest {
         Array array = null;
 
         // smallint
-        cs = conn.prepareCall("declare type tb is table of smallint; begin ? := tb(1, 2, 3); end; ");
+        cs = conn
+            .prepareCall("declare type tb is table of smallint; begin ? := tb(1, 2, 3); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
-        assertForDima2024062200102855995(array, "NUMBER", ComplexDataType.TYPE_NUMBER, BigDecimal.valueOf(1), BigDecimal.valueOf(2), BigDecimal.valueOf(3));
+        assertForDima2024062200102855995(array, "NUMBER", ComplexDataType.TYPE_NUMBER,
+            BigDecimal.valueOf(1), BigDecimal.valueOf(2), BigDecimal.valueOf(3));
 
         // int
         cs = conn.prepareCall("declare type tb is table of int; begin ? := tb(1, 2, 3); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
-        assertForDima2024062200102855995(array, "NUMBER", ComplexDataType.TYPE_NUMBER, BigDecimal.valueOf(1), BigDecimal.valueOf(2), BigDecimal.valueOf(3));
+        assertForDima2024062200102855995(array, "NUMBER", ComplexDataType.TYPE_NUMBER,
+            BigDecimal.valueOf(1), BigDecimal.valueOf(2), BigDecimal.valueOf(3));
 
         // decimal
         cs = conn.prepareCall("declare type tb is table of decimal; begin ? := tb(1, 2, 3); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
-        assertForDima2024062200102855995(array, "NUMBER", ComplexDataType.TYPE_NUMBER, BigDecimal.valueOf(1), BigDecimal.valueOf(2), BigDecimal.valueOf(3));
+        assertForDima2024062200102855995(array, "NUMBER", ComplexDataType.TYPE_NUMBER,
+            BigDecimal.valueOf(1), BigDecimal.valueOf(2), BigDecimal.valueOf(3));
 
         // date, return elem_type is 12, not 10.
-        cs = conn.prepareCall("declare type tb is table of date; begin ? := tb(to_date('2024-11-05', 'yyyy-mm-dd'), to_date('2024-11-06', 'yyyy-mm-dd')); end; ");
+        cs = conn
+            .prepareCall("declare type tb is table of date; begin ? := tb(to_date('2024-11-05', 'yyyy-mm-dd'), to_date('2024-11-06', 'yyyy-mm-dd')); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
-        assertForDima2024062200102855995(array, "DATE", ComplexDataType.TYPE_DATE, Timestamp.valueOf("2024-11-05 00:00:00"), Timestamp.valueOf("2024-11-06 00:00:00"));
+        assertForDima2024062200102855995(array, "DATE", ComplexDataType.TYPE_DATE,
+            Timestamp.valueOf("2024-11-05 00:00:00"), Timestamp.valueOf("2024-11-06 00:00:00"));
 
         // datetime
-        cs = conn.prepareCall("declare type tb is table of timestamp; begin ? := tb(to_timestamp('2024-11-05 12:23:34', 'YYYY-MM-DD HH24:MI:SS'), to_timestamp('2024-11-06 12:23:34', 'YYYY-MM-DD HH24:MI:SS')); end; ");
+        cs = conn
+            .prepareCall("declare type tb is table of timestamp; begin ? := tb(to_timestamp('2024-11-05 12:23:34', 'YYYY-MM-DD HH24:MI:SS'), to_timestamp('2024-11-06 12:23:34', 'YYYY-MM-DD HH24:MI:SS')); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
-        assertForDima2024062200102855995(array, "TIMESTAMP", ComplexDataType.TYPE_TIMESTMAP, Timestamp.valueOf("2024-11-05 12:23:34"), Timestamp.valueOf("2024-11-06 12:23:34"));
+        assertForDima2024062200102855995(array, "TIMESTAMP", ComplexDataType.TYPE_TIMESTMAP,
+            Timestamp.valueOf("2024-11-05 12:23:34"), Timestamp.valueOf("2024-11-06 12:23:34"));
 
         // char
-        cs = conn.prepareCall("declare type tb is table of char; begin ? := tb('a', 'b', 'c'); end; ");
+        cs = conn
+            .prepareCall("declare type tb is table of char; begin ? := tb('a', 'b', 'c'); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
         assertForDima2024062200102855995(array, "CHAR", ComplexDataType.TYPE_CHAR, "a", "b", "c");
 
         // varchar
-        cs = conn.prepareCall("declare type tb is table of varchar(10); begin ? := tb('a', 'b', 'c'); end; ");
+        cs = conn
+            .prepareCall("declare type tb is table of varchar(10); begin ? := tb('a', 'b', 'c'); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
-        assertForDima2024062200102855995(array, "VARCHAR2", ComplexDataType.TYPE_VARCHAR2, "a", "b", "c");
+        assertForDima2024062200102855995(array, "VARCHAR2", ComplexDataType.TYPE_VARCHAR2, "a",
+            "b", "c");
 
         // varchar2
-        cs = conn.prepareCall("declare type tb is table of varchar2(10); begin ? := tb('a', 'b', 'c'); end; ");
+        cs = conn
+            .prepareCall("declare type tb is table of varchar2(10); begin ? := tb('a', 'b', 'c'); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
-        assertForDima2024062200102855995(array, "VARCHAR2", ComplexDataType.TYPE_VARCHAR2, "a", "b", "c");
+        assertForDima2024062200102855995(array, "VARCHAR2", ComplexDataType.TYPE_VARCHAR2, "a",
+            "b", "c");
 
         // blob
-        cs = conn.prepareCall("declare type tb is table of blob; begin ? := tb(TO_BLOB('68656C6C6F'), TO_BLOB('74657874')); end; ");
+        cs = conn
+            .prepareCall("declare type tb is table of blob; begin ? := tb(TO_BLOB('68656C6C6F'), TO_BLOB('74657874')); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
         assertForDima2024062200102855995(array, "BLOB", ComplexDataType.TYPE_BLOB, "hello", "text");
 
         // clob, elem_type return 251, not 211, becaused by server's error.
-        cs = conn.prepareCall("declare type tb is table of clob; begin ? := tb(TO_CLOB('hello'), TO_CLOB('text')); end; ");
+        cs = conn
+            .prepareCall("declare type tb is table of clob; begin ? := tb(TO_CLOB('hello'), TO_CLOB('text')); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
         assertForDima2024062200102855995(array, "CLOB", ComplexDataType.TYPE_CLOB, "hello", "text");
 
         // raw
-        cs = conn.prepareCall("declare type tb is table of raw(20); begin ? := tb(UTL_RAW.CAST_TO_RAW('hello'), UTL_RAW.CAST_TO_RAW('text')); end; ");
+        cs = conn
+            .prepareCall("declare type tb is table of raw(20); begin ? := tb(UTL_RAW.CAST_TO_RAW('hello'), UTL_RAW.CAST_TO_RAW('text')); end; ");
         cs.registerOutParameter(1, Types.ARRAY);
         cs.execute();
         array = cs.getArray(1);
         assertForDima2024062200102855995(array, "RAW", ComplexDataType.TYPE_RAW, "hello", "text");
     }
 
-    public void assertForDima2024062200102855995(Array array, String typeName, int type, Object... value) throws SQLException {
+    public void assertForDima2024062200102855995(Array array, String typeName, int type,
+                                                 Object... value) throws SQLException {
         if (typeName.equals("CLOB")) {
             Assert.assertEquals("BLOB", array.getBaseTypeName());
             Assert.assertEquals(ComplexDataType.TYPE_BLOB, array.getBaseType());
@@ -639,22 +659,25 @@ public class ProcedureOracleTest extends BaseOracleTest {
             }
         }
     }
-    
+
     @Test
     public void testForDima2024110800105015106() throws SQLException {
         Connection conn = setConnection();
-        createFunction("func_1", "(a int, b int, c int) return int as v_res int; begin v_res := a + b + c; return v_res; end;  ");
+        createFunction("func_1",
+            "(a int, b int, c int) return int as v_res int; begin v_res := a + b + c; return v_res; end;  ");
         CallableStatement cs = conn.prepareCall("call ? :=test.func_1(10, 20, ?)}");
         cs.registerOutParameter(1, Types.INTEGER);
         cs.setInt(2, 30);
         cs.execute();
         Assert.assertEquals(60, cs.getInt(1));
-    } 
+    }
 
     @Test
     public void testForDima2024062200102856610() throws SQLException {
         Connection conn = sharedConnection;
-        createProcedure("t_pl1", "(b1 int default 10, p1 out int, b2 int default 5, p2 out int, p3 out int) is begin select b1, b1 - 5, b2 + 5 into p1, p2, p3 from dual; end;");
+        createProcedure(
+            "t_pl1",
+            "(b1 int default 10, p1 out int, b2 int default 5, p2 out int, p3 out int) is begin select b1, b1 - 5, b2 + 5 into p1, p2, p3 from dual; end;");
         CallableStatement cs;
         // in order
         cs = conn.prepareCall("call t_pl1(p1 => ?, p2 => ?, p3 => ?)");
@@ -688,8 +711,10 @@ public class ProcedureOracleTest extends BaseOracleTest {
         assertEquals(12, cs.getInt(2));
         assertEquals(7, cs.getInt(3));
 
-        createProcedure("str_pl", "(p1 varchar2, p2 varchar2, p3 out varchar2) is begin p3 := p1 || p2; end;");
-        CallableStatement cs2 = conn.prepareCall("call str_pl(p3 => ?, p2 => 'pl_data=>data', p1 => ?) ");
+        createProcedure("str_pl",
+            "(p1 varchar2, p2 varchar2, p3 out varchar2) is begin p3 := p1 || p2; end;");
+        CallableStatement cs2 = conn
+            .prepareCall("call str_pl(p3 => ?, p2 => 'pl_data=>data', p1 => ?) ");
         cs2.setString(2, "test_");
         cs2.registerOutParameter(1, Types.VARCHAR);
         cs2.execute();
@@ -708,7 +733,8 @@ public class ProcedureOracleTest extends BaseOracleTest {
         Statement stmt = conn.createStatement();
         stmt.execute(query);
 
-        createProcedure("pro_cur", "( b out sys_refcursor) is begin open b for select * from t_cur; end;");
+        createProcedure("pro_cur",
+            "( b out sys_refcursor) is begin open b for select * from t_cur; end;");
         CallableStatement cstmt = conn.prepareCall("{call pro_cur(?)}");
         cstmt.registerOutParameter(1, Types.REF_CURSOR);
         cstmt.executeQuery();
@@ -721,5 +747,5 @@ public class ProcedureOracleTest extends BaseOracleTest {
         }
         Assert.assertEquals(20, i);
     }
-    
+
 }
@@ -208,7 +208,8 @@ public class ProcedureTest extends BaseTest {
     @Test
     public void test() throws SQLException {
         Connection conn = setConnection("&sendConnectionAttributes=false");
-        createProcedure("calcutotal", "( in q int(11), in p decimal(10,2), out t decimal(10,2)) begin set t = q * p; end;");
+        createProcedure("calcutotal",
+            "( in q int(11), in p decimal(10,2), out t decimal(10,2)) begin set t = q * p; end;");
         CallableStatement cs = conn.prepareCall("call calcutotal(?, ?, ?)");
         cs.setInt(1, 2);
         cs.setBigDecimal(2, new BigDecimal(5));
@@ -372,17 +373,16 @@ public class ProcedureTest extends BaseTest {
         assertEquals(5, cs.getInt(2));
     }
 
-
     @Test
     public void testForAone55798407() throws SQLException {
         Connection conn = sharedConnection;
         createProcedure("testP", "(c1 int, c2 int, c3 double(5,2)) begin select 1; end");
-        CallableStatement cs =  conn.prepareCall("{call testP(?, 1, 2.6)}");
+        CallableStatement cs = conn.prepareCall("{call testP(?, 1, 2.6)}");
         cs.setInt(1, 1);
         cs.execute();
         assertEquals(1, cs.getParameterMetaData().getParameterCount());
 
-        cs =  conn.prepareCall("{call testP(1, ?, 2.6)}");
+        cs = conn.prepareCall("{call testP(1, ?, 2.6)}");
         cs.setInt(1, 1);
         cs.execute();
         assertEquals(1, cs.getParameterMetaData().getParameterCount());
@@ -392,37 +392,38 @@ public class ProcedureTest extends BaseTest {
         cs.execute();
         assertEquals(1, cs.getParameterMetaData().getParameterCount());
 
-        createFunction("testFunc", "(c1 int, c2 int, c3 double(5,2))\n returns varchar(20) begin return 'a'; end");
-        CallableStatement cs1 =  conn.prepareCall("{? = call testFunc(?, 1, 2.6)}");
+        createFunction("testFunc",
+            "(c1 int, c2 int, c3 double(5,2))\n returns varchar(20) begin return 'a'; end");
+        CallableStatement cs1 = conn.prepareCall("{? = call testFunc(?, 1, 2.6)}");
         cs1.registerOutParameter(1, Types.VARCHAR);
         cs1.setInt(2, 1);
         cs1.execute();
         assertEquals(2, cs1.getParameterMetaData().getParameterCount());
 
-        cs1 =  conn.prepareCall("{? = call testFunc(1, ?, 2.6)}");
+        cs1 = conn.prepareCall("{? = call testFunc(1, ?, 2.6)}");
         cs1.registerOutParameter(1, Types.VARCHAR);
         cs1.setInt(2, 1);
         cs1.execute();
         assertEquals(2, cs1.getParameterMetaData().getParameterCount());
 
-        cs1 =  conn.prepareCall("{? = call testFunc(1, 1, ?)}");
+        cs1 = conn.prepareCall("{? = call testFunc(1, 1, ?)}");
         cs1.registerOutParameter(1, Types.VARCHAR);
         cs1.setDouble(2, 2.6d);
         cs1.execute();
         assertEquals(2, cs1.getParameterMetaData().getParameterCount());
 
         CallableStatement cs2 = conn.prepareCall("call testP(?, 1, 2.6)");
-        cs2.setInt(1,1);
+        cs2.setInt(1, 1);
         cs2.execute();
         assertEquals(1, cs2.getParameterMetaData().getParameterCount());
 
         cs2 = conn.prepareCall("call testP(1, ?, 2.6)");
-        cs2.setInt(1,1);
+        cs2.setInt(1, 1);
         cs2.execute();
         assertEquals(1, cs2.getParameterMetaData().getParameterCount());
 
         cs2 = conn.prepareCall("call testP(1, 1, ?)");
-        cs2.setDouble(1,2.6d);
+        cs2.setDouble(1, 2.6d);
         cs2.execute();
         assertEquals(1, cs2.getParameterMetaData().getParameterCount());
     }
@@ -81,5 +81,4 @@ public class ResultSetMetaDataOracleTest extends BaseOracleTest {
             Assert.assertEquals(metaInfo.metainfos[2], metaData.getScale(i));
         }
     }
-
 }
@@ -288,39 +288,39 @@ public class ResultSetMetaDataTest extends BaseTest {
     }
   }
 
-  @Test
-  public void testLongBlob() throws SQLException {
-      Statement stmt = sharedConnection.createStatement();
-      createTable("test_column_display_size","c1 TINYBLOB, c2 BLOB, c3 MEDIUMBLOB, c4 LONGBLOB");
-      ResultSet rs = stmt.executeQuery("select * from test_column_display_size");
-      ResultSetMetaData metaData = rs.getMetaData();
-      assertEquals(255,metaData.getColumnDisplaySize(1));
-      assertEquals(65535,metaData.getColumnDisplaySize(2));
-      assertEquals(16777215,metaData.getColumnDisplaySize(3));
-      assertEquals(2147483647,metaData.getColumnDisplaySize(4));
-
-      assertEquals(-3,metaData.getColumnType(1));
-      assertEquals(-4,metaData.getColumnType(2));
-      assertEquals(-4,metaData.getColumnType(3));
-      assertEquals(-4,metaData.getColumnType(4));
-  }
+    @Test
+    public void testLongBlob() throws SQLException {
+        Statement stmt = sharedConnection.createStatement();
+        createTable("test_column_display_size", "c1 TINYBLOB, c2 BLOB, c3 MEDIUMBLOB, c4 LONGBLOB");
+        ResultSet rs = stmt.executeQuery("select * from test_column_display_size");
+        ResultSetMetaData metaData = rs.getMetaData();
+        assertEquals(255, metaData.getColumnDisplaySize(1));
+        assertEquals(65535, metaData.getColumnDisplaySize(2));
+        assertEquals(16777215, metaData.getColumnDisplaySize(3));
+        assertEquals(2147483647, metaData.getColumnDisplaySize(4));
+
+        assertEquals(-3, metaData.getColumnType(1));
+        assertEquals(-4, metaData.getColumnType(2));
+        assertEquals(-4, metaData.getColumnType(3));
+        assertEquals(-4, metaData.getColumnType(4));
+    }
 
     @Test
     public void testLongTextForAone53146546() throws SQLException {
         Statement stmt = sharedConnection.createStatement();
-        createTable("test_column_display_size","c1 TINYTEXT, c2 TEXT, c3 MEDIUMTEXT, c4 LongTEXT");
+        createTable("test_column_display_size", "c1 TINYTEXT, c2 TEXT, c3 MEDIUMTEXT, c4 LongTEXT");
         ResultSet rs = stmt.executeQuery("select * from test_column_display_size");
         ResultSetMetaData metaData = rs.getMetaData();
         // for utf8mb4
-        assertEquals(63,metaData.getColumnDisplaySize(1));
-        assertEquals(16383,metaData.getColumnDisplaySize(2));
-        assertEquals(4194303,metaData.getColumnDisplaySize(3));
-        assertEquals(536870911,metaData.getColumnDisplaySize(4));
+        assertEquals(63, metaData.getColumnDisplaySize(1));
+        assertEquals(16383, metaData.getColumnDisplaySize(2));
+        assertEquals(4194303, metaData.getColumnDisplaySize(3));
+        assertEquals(536870911, metaData.getColumnDisplaySize(4));
 
-        assertEquals(-1,metaData.getColumnType(1));
-        assertEquals(-1,metaData.getColumnType(2));
-        assertEquals(-1,metaData.getColumnType(3));
-        assertEquals(-1,metaData.getColumnType(4));
+        assertEquals(-1, metaData.getColumnType(1));
+        assertEquals(-1, metaData.getColumnType(2));
+        assertEquals(-1, metaData.getColumnType(3));
+        assertEquals(-1, metaData.getColumnType(4));
 
     }
 
@@ -426,8 +426,10 @@ public class ResultSetMetaDataTest extends BaseTest {
 
     @Test
     public void testForAone55761318() throws SQLException {
-        createTable("test55761318", "c1 DECIMAL UNSIGNED, c2 TINYINT UNSIGNED, c3 SMALLINT UNSIGNED, c4 INT UNSIGNED," +
-                " c5 FLOAT UNSIGNED, c6 DOUBLE UNSIGNED, c7 BIGINT UNSIGNED, c8 MEDIUMINT UNSIGNED");
+        createTable(
+            "test55761318",
+            "c1 DECIMAL UNSIGNED, c2 TINYINT UNSIGNED, c3 SMALLINT UNSIGNED, c4 INT UNSIGNED,"
+                    + " c5 FLOAT UNSIGNED, c6 DOUBLE UNSIGNED, c7 BIGINT UNSIGNED, c8 MEDIUMINT UNSIGNED");
         Statement stmt = sharedConnection.createStatement();
         ResultSet rs = stmt.executeQuery("select * from test55761318");
         ResultSetMetaData metaData = rs.getMetaData();
@@ -1574,11 +1574,12 @@ public class ResultSetOracleTest extends BaseOracleTest {
         try {
             stmt.execute("drop table test_scale");
         } catch (SQLException e) {
-//            e.printStackTrace();
+            //            e.printStackTrace();
         }
         stmt.execute("create table test_scale(v0 number(10, -5))");
 
-        ResultSet rs = stmt.executeQuery("select v0, v0+1, max(v0), sum(v0), cast(v0+to_number(5) as number) from test_scale group by v0");
+        ResultSet rs = stmt
+            .executeQuery("select v0, v0+1, max(v0), sum(v0), cast(v0+to_number(5) as number) from test_scale group by v0");
         ResultSetMetaData rsmd = rs.getMetaData();
 
         Assert.assertEquals(-5, rsmd.getScale(1));
@@ -1599,7 +1600,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
         Assert.assertEquals(39, rsmd.getColumnDisplaySize(4));
         Assert.assertEquals(39, rsmd.getColumnDisplaySize(5));
     }
-    
+
     public void testFindByName() throws SQLException {
         Connection conn = sharedConnection;
         Statement stmt = null;
@@ -1620,9 +1621,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
 
     @Test
     public void testNanAndInf() throws SQLException {
-        createTable(
-            "TEST_NANANDINF",
-            "tbinaryfloat binary_float, tbinarydouble binary_double");
+        createTable("TEST_NANANDINF", "tbinaryfloat binary_float, tbinarydouble binary_double");
 
         Connection conn = sharedConnection;
         Statement stmt = conn.createStatement();
@@ -1695,8 +1694,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
                 assertEquals(1, (int) rs.getObject(1, Integer.TYPE));
             } catch (Exception e) {
                 e.printStackTrace();
-                assertTrue(e.getMessage().contains(
-                        "Type class 'int' is not supported"));
+                assertTrue(e.getMessage().contains("Type class 'int' is not supported"));
             }
             try {
                 assertEquals(true, rs.getObject(1, Boolean.class));
@@ -1704,8 +1702,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
                 assertEquals(true, rs.getObject(1, Boolean.TYPE));
             } catch (Exception e) {
                 e.printStackTrace();
-                assertTrue(e.getMessage().contains(
-                        "Type class 'boolean' is not supported"));
+                assertTrue(e.getMessage().contains("Type class 'boolean' is not supported"));
             }
             try {
                 assertEquals(1, rs.getObject(1, Long.class).longValue());
@@ -1713,8 +1710,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
                 assertEquals(1, rs.getObject(1, Long.TYPE).longValue());
             } catch (Exception e) {
                 e.printStackTrace();
-                assertTrue(e.getMessage().contains(
-                        "Type class 'long' is not supported"));
+                assertTrue(e.getMessage().contains("Type class 'long' is not supported"));
             }
             try {
                 assertEquals(1, rs.getObject(1, Float.class).floatValue(), 0.0001);
@@ -1722,8 +1718,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
                 assertEquals(1, rs.getObject(1, Float.TYPE).floatValue(), 0.0001);
             } catch (Exception e) {
                 e.printStackTrace();
-                assertTrue(e.getMessage().contains(
-                        "Type class 'float' is not supported"));
+                assertTrue(e.getMessage().contains("Type class 'float' is not supported"));
             }
             try {
                 assertEquals(1, rs.getObject(1, Double.class).doubleValue(), 0.0001);
@@ -1731,8 +1726,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
                 assertEquals(1, rs.getObject(1, Double.TYPE).doubleValue(), 0.0001);
             } catch (SQLException e) {
                 e.printStackTrace();
-                assertTrue(e.getMessage().contains(
-                        "Type class 'double' is not supported"));
+                assertTrue(e.getMessage().contains("Type class 'double' is not supported"));
             }
             try {
                 assertEquals(1, rs.getObject(1, Byte.class).byteValue());
@@ -1740,8 +1734,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
                 assertEquals(1, rs.getObject(1, Byte.TYPE).byteValue());
             } catch (Exception e) {
                 e.printStackTrace();
-                assertTrue(e.getMessage().contains(
-                        "Type class 'byte' is not supported"));
+                assertTrue(e.getMessage().contains("Type class 'byte' is not supported"));
             }
             try {
                 assertEquals(1, rs.getObject(1, Short.class).shortValue());
@@ -1749,8 +1742,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
                 assertEquals(1, rs.getObject(1, Short.TYPE).shortValue());
             } catch (Exception e) {
                 e.printStackTrace();
-                assertTrue(e.getMessage().contains(
-                        "Type class 'short' is not supported"));
+                assertTrue(e.getMessage().contains("Type class 'short' is not supported"));
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -1758,7 +1750,6 @@ public class ResultSetOracleTest extends BaseOracleTest {
         }
     }
 
-
     @Test
     public void testGetCharacterStream() {
         try {
@@ -1957,7 +1948,10 @@ public class ResultSetOracleTest extends BaseOracleTest {
                 cs2.setFetchSize(Integer.MIN_VALUE);
                 fail();
             } catch (SQLException e) {
-                assertTrue(e.getMessage().contains("invalid fetch size. in Oracle mode, extendOracleResultSetClass is ineffective if useOraclePrepareExecute is set to true or usePieceData is set to true"));
+                assertTrue(e
+                    .getMessage()
+                    .contains(
+                        "invalid fetch size. in Oracle mode, extendOracleResultSetClass is ineffective if useOraclePrepareExecute is set to true or usePieceData is set to true"));
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -1982,7 +1976,7 @@ public class ResultSetOracleTest extends BaseOracleTest {
         ResultSet rs = ps2.executeQuery();
         int count = 0;
         while (rs.next()) {
-            count ++;
+            count++;
         }
         assertEquals(12, count);
     }
@@ -2032,5 +2026,5 @@ public class ResultSetOracleTest extends BaseOracleTest {
         } catch (SQLException e) {
             fail();
         }
-    } 
+    }
 }
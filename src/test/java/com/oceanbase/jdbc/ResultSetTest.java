@@ -1740,14 +1740,13 @@ public class ResultSetTest extends BaseTest {
         stmt.execute("insert into t1 value (1)");
         ResultSet rs = stmt.executeQuery("select * from t1");
         assertTrue(rs.next());
-        assertEquals(1, (int)rs.getObject(1, Integer.class));
-        assertEquals(1, (int)rs.getObject(1, int.class));
-        assertEquals(1, (int)rs.getObject(1, Integer.TYPE));
-
-        assertEquals(true,rs.getObject(1, Boolean.class));
-        assertEquals(true,rs.getObject(1, boolean.class));
-        assertEquals(true,rs.getObject(1, Boolean.TYPE));
+        assertEquals(1, (int) rs.getObject(1, Integer.class));
+        assertEquals(1, (int) rs.getObject(1, int.class));
+        assertEquals(1, (int) rs.getObject(1, Integer.TYPE));
 
+        assertEquals(true, rs.getObject(1, Boolean.class));
+        assertEquals(true, rs.getObject(1, boolean.class));
+        assertEquals(true, rs.getObject(1, Boolean.TYPE));
 
         assertEquals(1, rs.getObject(1, Long.class).longValue());
         assertEquals(1, rs.getObject(1, long.class).longValue());
@@ -1781,8 +1780,7 @@ public class ResultSetTest extends BaseTest {
             resultSet.getInt(2);
         } catch (Exception e) {
             e.printStackTrace();
-            assertTrue(e.getMessage().contains(
-                    "Can't convert empty string ('') to numeric"));
+            assertTrue(e.getMessage().contains("Can't convert empty string ('') to numeric"));
         }
     }
 
@@ -1810,7 +1808,7 @@ public class ResultSetTest extends BaseTest {
             stmt.execute("select * from dual");
             fail();
         } catch (SQLException e) {
-            assertNull( conn.getWarnings());
+            assertNull(conn.getWarnings());
             SQLWarning warnings = stmt.getWarnings();
             assertEquals("No tables used", warnings.getMessage());
         }
@@ -1858,11 +1856,13 @@ public class ResultSetTest extends BaseTest {
     }
 
     public void testContentForAone56020353(Connection conn) throws SQLException {
-        Statement stmt = conn.createStatement(ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_UPDATABLE);
+        Statement stmt = conn.createStatement(ResultSet.TYPE_SCROLL_SENSITIVE,
+            ResultSet.CONCUR_UPDATABLE);
         stmt.execute("drop table if exists test");
         stmt.execute("create table test (c1 int primary key)");
         stmt.execute("insert into test values (10)");
-        PreparedStatement ps = conn.prepareStatement("select * from test", ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_UPDATABLE);
+        PreparedStatement ps = conn.prepareStatement("select * from test",
+            ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_UPDATABLE);
         ResultSet rs = ps.executeQuery();
         rs.absolute(1);
         assertEquals(10, rs.getInt(1));
@@ -1887,5 +1887,4 @@ public class ResultSetTest extends BaseTest {
             fail();
         }
     }
-
 }
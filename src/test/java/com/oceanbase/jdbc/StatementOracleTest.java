@@ -141,36 +141,35 @@ public class StatementOracleTest extends BaseOracleTest {
         ps.executeBatch();
 
         Connection conn = setConnection("&useServerPrepStmts=true&useOraclePrepareExecute=false&maxRows=14");
-        PreparedStatement ps2 = conn.prepareStatement("select * from t_max where rownum <= 10", ResultSet.TYPE_SCROLL_INSENSITIVE,
-                ResultSet.CONCUR_READ_ONLY);
+        PreparedStatement ps2 = conn.prepareStatement("select * from t_max where rownum <= 10",
+            ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
         ResultSet rs2 = ps2.executeQuery();
         rs2.last();
         Assert.assertEquals(10, rs2.getRow());
 
-
-        PreparedStatement ps3 = conn.prepareStatement("select c1 from t_max", ResultSet.TYPE_SCROLL_INSENSITIVE,
-                ResultSet.CONCUR_READ_ONLY);
+        PreparedStatement ps3 = conn.prepareStatement("select c1 from t_max",
+            ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
         ps3.setMaxRows(4);
         ResultSet rs3 = ps3.executeQuery();
         rs3.last();
         Assert.assertEquals(4, rs3.getRow());
 
-        PreparedStatement ps4 = conn.prepareStatement("select c1 from t_max", ResultSet.TYPE_SCROLL_INSENSITIVE,
-                ResultSet.CONCUR_READ_ONLY);
+        PreparedStatement ps4 = conn.prepareStatement("select c1 from t_max",
+            ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
         ResultSet rs4 = ps4.executeQuery();
         rs4.last();
         Assert.assertEquals(14, rs4.getRow());
 
         Connection conn2 = setConnection("&useServerPrepStmts=true&useOraclePrepareExecute=false");
-        PreparedStatement ps2_1 = conn2.prepareStatement("select c1 from t_max", ResultSet.TYPE_SCROLL_INSENSITIVE,
-                ResultSet.CONCUR_READ_ONLY);
+        PreparedStatement ps2_1 = conn2.prepareStatement("select c1 from t_max",
+            ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
         ps2_1.setMaxRows(4);
         ResultSet rs2_1 = ps2_1.executeQuery();
         rs2_1.last();
         Assert.assertEquals(4, rs2_1.getRow());
 
-        PreparedStatement ps2_2 = conn2.prepareStatement("select c1 from t_max", ResultSet.TYPE_SCROLL_INSENSITIVE,
-                ResultSet.CONCUR_READ_ONLY);
+        PreparedStatement ps2_2 = conn2.prepareStatement("select c1 from t_max",
+            ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
         ResultSet rs2_2 = ps2_2.executeQuery();
         rs2_2.last();
         Assert.assertEquals(20, rs2_2.getRow());
@@ -193,7 +192,7 @@ public class StatementOracleTest extends BaseOracleTest {
 
         conn.setAutoCommit(false);
         PreparedStatement ps1 = conn
-                .prepareStatement("update t_ar set c2 = 'up' where id = ? and c1 = ?");
+            .prepareStatement("update t_ar set c2 = 'up' where id = ? and c1 = ?");
 
         ps1.setInt(1, 0);
         ps1.setString(2, "0");
@@ -308,15 +307,15 @@ public class StatementOracleTest extends BaseOracleTest {
     public void testForDima2025022600107339506() throws SQLException {
         Connection conn = setConnection("&useServerPrepStmts=true");
         Statement stmt = conn.createStatement();
-        createFunction("p_sleep", "(seconds int) return number as begin dbms_lock.sleep(seconds); return 1; end; ");
+        createFunction("p_sleep",
+            "(seconds int) return number as begin dbms_lock.sleep(seconds); return 1; end; ");
 
         try {
             stmt.setQueryTimeout(1);
             ResultSet rs = stmt.executeQuery("select p_sleep(1) from dual connect by level <= 10");
             int count = 0;
-            while (rs.next())
-            {
-                count ++;
+            while (rs.next()) {
+                count++;
             }
             Assert.assertEquals(10, count);
             fail("queryTimeout not valid");
@@ -56,7 +56,10 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
 import org.junit.Assume;
@@ -991,4 +994,39 @@ public class StatementTest extends BaseTest {
         }
     }
 
+    @Test
+    public void executeAsync() throws Exception {
+        try (Connection connection = setConnection()) {
+            OceanBaseStatement stmt1 = connection.createStatement().unwrap(OceanBaseStatement.class);
+            OceanBaseStatement stmt2 = connection.createStatement().unwrap(OceanBaseStatement.class);
+            OceanBaseStatement stmt3 = connection.createStatement().unwrap(OceanBaseStatement.class);
+            stmt1.execute("CREATE TEMPORARY TABLE executeAsync (id int)");
+
+            CompletableFuture<Integer> insert = stmt1
+                .executeUpdateAsync("INSERT INTO executeAsync VALUES (1), (2)");
+            CompletableFuture<ResultSet> wrongQuery = stmt2.executeQueryAsync("SELECT * FROM wrongTable");
+            CompletableFuture<ResultSet> select = stmt3
+                .executeQueryAsync("SELECT count(*) FROM executeAsync");
+
+            assertEquals(2, insert.get(10, TimeUnit.SECONDS).intValue());
+            try {
+                wrongQuery.get(10, TimeUnit.SECONDS);
+                fail("must have thrown an error");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof SQLException);
+            }
+            // executed after insert
+            ResultSet rs = select.get(10, TimeUnit.SECONDS);
+            assertTrue(rs.next());
+            assertEquals(2, rs.getInt(1));
+            assertSame(rs, stmt3.getResultSet());
+
+            OceanBaseConnection obConnection = connection.unwrap(OceanBaseConnection.class);
+            rs = obConnection.executeQueryAsync("SELECT 1").get(10, TimeUnit.SECONDS);
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt(1));
+            rs.close();
+            assertTrue(rs.getStatement().isClosed());
+        }
+    }
 }
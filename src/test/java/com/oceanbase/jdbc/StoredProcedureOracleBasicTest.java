@@ -480,11 +480,11 @@ public class StoredProcedureOracleBasicTest extends BaseOracleTest {
             callableStatement.setInt("p2", 10);
             try {
                 callableStatement.execute();
-//                Assert.fail();
+                //                Assert.fail();
                 Assert.assertEquals(20, callableStatement.getInt(1));
             } catch (SQLException e) {
                 e.printStackTrace();
-//                assertEquals("The number of parameter names '2' does not match the number of registered parameters in sql '3'.", e.getMessage());
+                //                assertEquals("The number of parameter names '2' does not match the number of registered parameters in sql '3'.", e.getMessage());
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -522,11 +522,11 @@ public class StoredProcedureOracleBasicTest extends BaseOracleTest {
             callableStatement.setInt("p2", 10);
             try {
                 callableStatement.execute();
-//                Assert.fail();
+                //                Assert.fail();
                 Assert.assertEquals(20, callableStatement.getInt(1));
             } catch (SQLException e) {
                 e.printStackTrace();
-//                assertEquals("The number of parameter names '2' does not match the number of registered parameters in sql '4'.", e.getMessage());
+                //                assertEquals("The number of parameter names '2' does not match the number of registered parameters in sql '4'.", e.getMessage());
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -564,10 +564,12 @@ public class StoredProcedureOracleBasicTest extends BaseOracleTest {
             callableStatement.setInt("p2", 10);
             try {
                 callableStatement.execute();
-//                Assert.fail();
+                //                Assert.fail();
                 Assert.assertEquals(20, callableStatement.getInt(1));
             } catch (SQLException e) {
-                assertEquals("The number of parameter names '2' does not match the number of registered parameters in sql '4'.", e.getMessage());
+                assertEquals(
+                    "The number of parameter names '2' does not match the number of registered parameters in sql '4'.",
+                    e.getMessage());
             }
 
         } catch (Exception e) {
@@ -649,15 +651,17 @@ public class StoredProcedureOracleBasicTest extends BaseOracleTest {
             } catch (SQLException e) {
                 //                e.printStackTrace();
             }
-            callableStatement = conn.prepareCall("create table tabletest_wrong_sql(c1 int,c2 varchar2(200))");
+            callableStatement = conn
+                .prepareCall("create table tabletest_wrong_sql(c1 int,c2 varchar2(200))");
             callableStatement.execute();
-            callableStatement = conn.prepareCall("insert into tabletest_wrong_sql values(:name2,:name2) :name3");
+            callableStatement = conn
+                .prepareCall("insert into tabletest_wrong_sql values(:name2,:name2) :name3");
             callableStatement.setInt(1, 1);
             callableStatement.setString(2, "string_val");
             callableStatement.execute();
             Assert.fail(); // The program cannot be executed to this code segment
         } catch (Throwable e) {
-//            e.printStackTrace();
+            //            e.printStackTrace();
             Assert.assertTrue(e.getMessage().contains("Missing IN or OUT parameter in index::3"));
         }
     }
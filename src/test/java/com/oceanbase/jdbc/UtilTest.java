@@ -100,9 +100,11 @@ public class UtilTest extends BaseTest {
     public void testString() throws SQLException {
         String tableName = "test";
         String sql1 = "insert /* woshilize */ into t values( 'wo',?,:name) /* c43 */ -- sfs \n";
-        Assert.assertEquals("insert  into t values( 'wo',?,?)  ", Utils.trimSQLString(sql1, false, true));
+        Assert.assertEquals("insert  into t values( 'wo',?,?)  ",
+            Utils.trimSQLString(sql1, false, true));
         String sql = "select * from testMaxRows where c2 like '%%'||:zytxtype||'%%'";
-        Assert.assertEquals("select * from testMaxRows where c2 like '%%'||?||'%%'", Utils.trimSQLString(sql, false, true));
+        Assert.assertEquals("select * from testMaxRows where c2 like '%%'||?||'%%'",
+            Utils.trimSQLString(sql, false, true));
 
         String sql2 = "{:ret = call /* sfs */testproc(?,'test',:name1,:name2)};";
         String sql3 = "insert /* c1  */ /* c2 */ into t values( 'wo','111') /* c43 */ -- sfs \n ";
@@ -359,91 +359,65 @@ public class OracleLoadBalanceFailoverTest extends BaseMultiHostTest {
 
     @Test
     public void testParseBalanceInfoJson1() throws InvalidObjectException {
-        String balanceJson = "{\n"
-                            + "    \"OBLB\" : \"ON\" ,\n"
-                            + "    \"OBLB_RETRY_ALL_DOWNS\" : 110 ,\n"
-                            + "    \"OBLB_GROUP_STRATEGY\" : \"ROTATION\" ,\n"
-                            + "    \"OBLB_STRATEGY\" : \"ROTATION\" ,\n"
-                            + "    \"OBLB_BLACKLIST\" : {\n"
-                            + "        \"REMOVE_STRATEGY\" : {\n"
-                            + "            \"NAME\" : \"TIMEOUT\" , \n"
-                            + "            \"TIMEOUT\" : 100\n"
-                            + "        } ,\n"
-                            + "        \"APPEND_STRATEGY\" : {\n"
-                            + "            \"NAME\" : \"RETRYDURATION\" , \n"
-                            + "            \"RETRYTIMES\" : 3 , \n"
-                            + "            \"DURATION\" : 100\n"
-                            + "        }\n"
-                            + "    } ,\n"
-                            + "    \"ADDRESS_LIST\" : [\n"
-                            + "        {   \n"
-                            + "            \"OBLB_BLACKLIST\" : {\n"
-                            + "                \"REMOVE_STRATEGY\" : {\n"
-                            + "                    \"NAME\" : \"TIMEOUT\" , \n"
-                            + "                    \"TIMEOUT\" : 88\n"
-                            + "                } ,\n"
-                            + "                \"APPEND_STRATEGY\" : {\n"
-                            + "                    \"NAME\" : \"RETRYDURATION\" , \n"
-                            + "                    \"RETRYTIMES\" : 5 , \n"
-                            + "                    \"DURATION\" : 200\n"
-                            + "                }\n"
-                            + "            } ,\n"
-                            + "            \"ADDRESS\" : [\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host1\" , \n"
-                            + "                    \"PORT\" : 1111\n"
-                            + "                } ,\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host2\" , \n"
-                            + "                    \"PORT\" : 2222\n"
-                            + "                }\n"
-                            + "            ]\n"
-                            + "        } , \n"
-                            + "        {\n"
-                            + "            \"OBLB_STRATEGY\" : \"RANDOM\" ,\n"
-                            + "            \"ADDRESS\" : [\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host3\" , \n"
-                            + "                    \"PORT\" : 3333\n"
-                            + "                } ,\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host4\" , \n"
-                            + "                    \"PORT\" : 4444\n"
-                            + "                }\n"
-                            + "            ]\n"
-                            + "        } , \n"
-                            + "        {\n"
-                            + "            \"OBLB_STRATEGY\" : \"SERVERAFFINITY\" ,\n"
-                            + "            \"ADDRESS\" : [\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host5\" , \n"
-                            + "                    \"PORT\" : 5555,\n"
-                            + "                    \"WEIGHT\" : 1\n"
-                            + "                } ,\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host6\" , \n"
-                            + "                    \"PORT\" : 6666,\n"
-                            + "                    \"WEIGHT\" : 10\n"
-                            + "                } ,\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host7\" , \n"
-                            + "                    \"PORT\" : 7777,\n"
-                            + "                    \"WEIGHT\" : 0\n"
-                            + "                }\n"
-                            + "            ]\n"
-                            + "        }\n"
-                            + "    ] ,\n"
-                            + "    \"CONNECT_DATA\" : {\n"
-                            + "        \"SERVICE_NAME\" : \"OBDATABASE\"\n"
-                            + "    }\n"
-                            + "}";
+        String balanceJson = "{\n" + "    \"OBLB\" : \"ON\" ,\n"
+                             + "    \"OBLB_RETRY_ALL_DOWNS\" : 110 ,\n"
+                             + "    \"OBLB_GROUP_STRATEGY\" : \"ROTATION\" ,\n"
+                             + "    \"OBLB_STRATEGY\" : \"ROTATION\" ,\n"
+                             + "    \"OBLB_BLACKLIST\" : {\n" + "        \"REMOVE_STRATEGY\" : {\n"
+                             + "            \"NAME\" : \"TIMEOUT\" , \n"
+                             + "            \"TIMEOUT\" : 100\n" + "        } ,\n"
+                             + "        \"APPEND_STRATEGY\" : {\n"
+                             + "            \"NAME\" : \"RETRYDURATION\" , \n"
+                             + "            \"RETRYTIMES\" : 3 , \n"
+                             + "            \"DURATION\" : 100\n" + "        }\n" + "    } ,\n"
+                             + "    \"ADDRESS_LIST\" : [\n" + "        {   \n"
+                             + "            \"OBLB_BLACKLIST\" : {\n"
+                             + "                \"REMOVE_STRATEGY\" : {\n"
+                             + "                    \"NAME\" : \"TIMEOUT\" , \n"
+                             + "                    \"TIMEOUT\" : 88\n" + "                } ,\n"
+                             + "                \"APPEND_STRATEGY\" : {\n"
+                             + "                    \"NAME\" : \"RETRYDURATION\" , \n"
+                             + "                    \"RETRYTIMES\" : 5 , \n"
+                             + "                    \"DURATION\" : 200\n" + "                }\n"
+                             + "            } ,\n" + "            \"ADDRESS\" : [\n"
+                             + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host1\" , \n"
+                             + "                    \"PORT\" : 1111\n" + "                } ,\n"
+                             + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host2\" , \n"
+                             + "                    \"PORT\" : 2222\n" + "                }\n"
+                             + "            ]\n" + "        } , \n" + "        {\n"
+                             + "            \"OBLB_STRATEGY\" : \"RANDOM\" ,\n"
+                             + "            \"ADDRESS\" : [\n" + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host3\" , \n"
+                             + "                    \"PORT\" : 3333\n" + "                } ,\n"
+                             + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host4\" , \n"
+                             + "                    \"PORT\" : 4444\n" + "                }\n"
+                             + "            ]\n" + "        } , \n" + "        {\n"
+                             + "            \"OBLB_STRATEGY\" : \"SERVERAFFINITY\" ,\n"
+                             + "            \"ADDRESS\" : [\n" + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host5\" , \n"
+                             + "                    \"PORT\" : 5555,\n"
+                             + "                    \"WEIGHT\" : 1\n" + "                } ,\n"
+                             + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host6\" , \n"
+                             + "                    \"PORT\" : 6666,\n"
+                             + "                    \"WEIGHT\" : 10\n" + "                } ,\n"
+                             + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host7\" , \n"
+                             + "                    \"PORT\" : 7777,\n"
+                             + "                    \"WEIGHT\" : 0\n" + "                }\n"
+                             + "            ]\n" + "        }\n" + "    ] ,\n"
+                             + "    \"CONNECT_DATA\" : {\n"
+                             + "        \"SERVICE_NAME\" : \"OBDATABASE\"\n" + "    }\n" + "}";
 
         JsonParser parsing = new JsonParser(balanceJson);
         parsing.parse();
@@ -495,66 +469,46 @@ public class OracleLoadBalanceFailoverTest extends BaseMultiHostTest {
 
     @Test
     public void testParseBalanceInfoJson2() throws InvalidObjectException {
-        String balanceJson = "{\n"
-                            + "    \"OBLB\" : \"ON\" ,\n"
-                            + "    \"ADDRESS_LIST\" : [\n"
-                            + "        {   \n"
-                            + "            \"OBLB_STRATEGY\" : \"ROTATION\" ,\n"
-                            + "            \"ADDRESS\" : [\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host1\" , \n"
-                            + "                    \"PORT\" : 1111\n"
-                            + "                } ,\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host2\" , \n"
-                            + "                    \"PORT\" : 2222\n"
-                            + "                }\n"
-                            + "            ]\n"
-                            + "        } , \n"
-                            + "        {\n"
-                            + "            \"ADDRESS\" : [\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host3\" , \n"
-                            + "                    \"PORT\" : 3333\n"
-                            + "                } ,\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host4\" , \n"
-                            + "                    \"PORT\" : 4444\n"
-                            + "                }\n"
-                            + "            ]\n"
-                            + "        } , \n"
-                            + "        {\n"
-                            + "            \"OBLB_STRATEGY\" : \"SERVERAFFINITY\" ,\n"
-                            + "            \"ADDRESS\" : [\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host5\" , \n"
-                            + "                    \"PORT\" : 5555,\n"
-                            + "                    \"WEIGHT\" : 1\n"
-                            + "                } ,\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host6\" , \n"
-                            + "                    \"PORT\" : 6666,\n"
-                            + "                    \"WEIGHT\" : 10\n"
-                            + "                } ,\n"
-                            + "                {\n"
-                            + "                    \"PROTOCOL\" : \"tcp\" , \n"
-                            + "                    \"HOST\" : \"host7\" , \n"
-                            + "                    \"PORT\" : 7777,\n"
-                            + "                    \"WEIGHT\" : 0\n"
-                            + "                }\n"
-                            + "            ]\n"
-                            + "        }\n"
-                            + "    ] ,\n"
-                            + "    \"CONNECT_DATA\" : {\n"
-                            + "        \"SERVICE_NAME\" : \"OBDATABASE\"\n"
-                            + "    }\n"
-                            + "}";
+        String balanceJson = "{\n" + "    \"OBLB\" : \"ON\" ,\n" + "    \"ADDRESS_LIST\" : [\n"
+                             + "        {   \n"
+                             + "            \"OBLB_STRATEGY\" : \"ROTATION\" ,\n"
+                             + "            \"ADDRESS\" : [\n" + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host1\" , \n"
+                             + "                    \"PORT\" : 1111\n" + "                } ,\n"
+                             + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host2\" , \n"
+                             + "                    \"PORT\" : 2222\n" + "                }\n"
+                             + "            ]\n" + "        } , \n" + "        {\n"
+                             + "            \"ADDRESS\" : [\n" + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host3\" , \n"
+                             + "                    \"PORT\" : 3333\n" + "                } ,\n"
+                             + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host4\" , \n"
+                             + "                    \"PORT\" : 4444\n" + "                }\n"
+                             + "            ]\n" + "        } , \n" + "        {\n"
+                             + "            \"OBLB_STRATEGY\" : \"SERVERAFFINITY\" ,\n"
+                             + "            \"ADDRESS\" : [\n" + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host5\" , \n"
+                             + "                    \"PORT\" : 5555,\n"
+                             + "                    \"WEIGHT\" : 1\n" + "                } ,\n"
+                             + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host6\" , \n"
+                             + "                    \"PORT\" : 6666,\n"
+                             + "                    \"WEIGHT\" : 10\n" + "                } ,\n"
+                             + "                {\n"
+                             + "                    \"PROTOCOL\" : \"tcp\" , \n"
+                             + "                    \"HOST\" : \"host7\" , \n"
+                             + "                    \"PORT\" : 7777,\n"
+                             + "                    \"WEIGHT\" : 0\n" + "                }\n"
+                             + "            ]\n" + "        }\n" + "    ] ,\n"
+                             + "    \"CONNECT_DATA\" : {\n"
+                             + "        \"SERVICE_NAME\" : \"OBDATABASE\"\n" + "    }\n" + "}";
 
         JsonParser parsing = new JsonParser(balanceJson);
         parsing.parse();
@@ -604,28 +558,21 @@ public class OracleLoadBalanceFailoverTest extends BaseMultiHostTest {
 
     @Test
     public void testEmptyAddressList() throws InvalidObjectException {
-        String balanceJson = "{\n" +
-                "            \"ADDRESS_LIST\":[\n" +
-                "\n" +
-                "            ],\n" +
-                "            \"CONNECT_DATA\":{\n" +
-                "                \"SERVICE_NAME\":\"OBDATABASE\"\n" +
-                "            },\n" +
-                "            \"OBLB\":\"ON\",\n" +
-                "            \"OBLB_BLACKLIST\":{\n" +
-                "                \"APPEND_STRATEGY\":{\n" +
-                "                    \"DURATION\":100,\n" +
-                "                    \"NAME\":\"RETRYDURATION\",\n" +
-                "                    \"RETRYTIMES\":3\n" +
-                "                },\n" +
-                "                \"REMOVE_STRATEGY\":{\n" +
-                "                    \"NAME\":\"TIMEOUT\",\n" +
-                "                    \"TIMEOUT\":50\n" +
-                "                }\n" +
-                "            },\n" +
-                "            \"OBLB_GROUP_STRATEGY\":\"ROTATION\",\n" +
-                "            \"OBLB_RETRY_ALL_DOWNS\":120\n" +
-                "        }";
+        String balanceJson = "{\n" + "            \"ADDRESS_LIST\":[\n" + "\n" + "            ],\n"
+                             + "            \"CONNECT_DATA\":{\n"
+                             + "                \"SERVICE_NAME\":\"OBDATABASE\"\n"
+                             + "            },\n" + "            \"OBLB\":\"ON\",\n"
+                             + "            \"OBLB_BLACKLIST\":{\n"
+                             + "                \"APPEND_STRATEGY\":{\n"
+                             + "                    \"DURATION\":100,\n"
+                             + "                    \"NAME\":\"RETRYDURATION\",\n"
+                             + "                    \"RETRYTIMES\":3\n" + "                },\n"
+                             + "                \"REMOVE_STRATEGY\":{\n"
+                             + "                    \"NAME\":\"TIMEOUT\",\n"
+                             + "                    \"TIMEOUT\":50\n" + "                }\n"
+                             + "            },\n"
+                             + "            \"OBLB_GROUP_STRATEGY\":\"ROTATION\",\n"
+                             + "            \"OBLB_RETRY_ALL_DOWNS\":120\n" + "        }";
 
         JsonParser parsing = new JsonParser(balanceJson);
         parsing.parse();
@@ -0,0 +1,207 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.io.input.ReadAheadBufferedStream;
+import com.oceanbase.jdbc.internal.protocol.Protocol;
+import com.oceanbase.jdbc.internal.util.PrepareStatementCache;
+import com.oceanbase.jdbc.internal.util.ServerPrepareStatementCache;
+import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
+
+/**
+ * Run blocking driver code paths from many more virtual threads than there are carrier threads.
+ * Each task blocks until a last virtual thread releases them all: if blocked tasks pinned their
+ * carrier (blocking while holding a monitor), the releasing thread would never be scheduled.
+ *
+ * <p>Skipped when virtual threads are not available (java before 21).
+ */
+public class VirtualThreadStressTest {
+
+    private static final int TASKS = 2000;
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            Assume.assumeNoException(e);
+            return null;
+        }
+    }
+
+    @Test
+    public void socketReadDoesNotPinCarrier() throws Exception {
+        ExecutorService executor = newVirtualThreadExecutor();
+        try {
+            CountDownLatch blocked = new CountDownLatch(TASKS);
+            List<BlockingQueue<byte[]>> sockets = new ArrayList<>();
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                BlockingQueue<byte[]> socket = new ArrayBlockingQueue<>(1);
+                sockets.add(socket);
+                InputStream stream = new ReadAheadBufferedStream(new QueueInputStream(socket,
+                    blocked));
+                results.add(executor.submit(() -> {
+                    byte[] value = new byte[4];
+                    int read = 0;
+                    while (read < 4) {
+                        read += stream.read(value, read, 4 - read);
+                    }
+                    return ByteBuffer.wrap(value).getInt();
+                }));
+            }
+
+            executor.submit(() -> {
+                blocked.await();
+                for (int i = 0; i < TASKS; i++) {
+                    sockets.get(i).put(ByteBuffer.allocate(4).putInt(i).array());
+                }
+                return null;
+            });
+
+            for (int i = 0; i < TASKS; i++) {
+                Assert.assertEquals(i, results.get(i).get(30, TimeUnit.SECONDS).intValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void prepareCacheEvictionDoesNotPinCarrier() throws Exception {
+        ExecutorService executor = newVirtualThreadExecutor();
+        try {
+            CountDownLatch blocked = new CountDownLatch(TASKS);
+            CountDownLatch release = new CountDownLatch(1);
+
+            // COM_STMT_CLOSE of evicted statement blocks like a socket write would
+            Protocol protocol = (Protocol) Proxy.newProxyInstance(Protocol.class.getClassLoader(),
+                new Class<?>[] { Protocol.class }, (proxy, method, args) -> {
+                    if ("forceReleasePrepareStatement".equals(method.getName())) {
+                        blocked.countDown();
+                        release.await();
+                        return true;
+                    }
+                    return null;
+                });
+
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                results.add(executor.submit(() -> {
+                    PrepareStatementCache cache = ServerPrepareStatementCache.newInstance(1,
+                        protocol, false);
+                    for (String sql : new String[] { "select 1", "select 2" }) {
+                        ServerPrepareResult result = new ServerPrepareResult(sql, 1,
+                            new ColumnDefinition[0], new ColumnDefinition[0], null);
+                        result.decrementShareCounter();
+                        cache.put(sql, result);
+                    }
+                    return null;
+                }));
+            }
+
+            executor.submit(() -> {
+                blocked.await();
+                release.countDown();
+                return null;
+            });
+
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Socket stand-in: read blocks until data is queued. */
+    private static class QueueInputStream extends InputStream {
+
+        private final BlockingQueue<byte[]> queue;
+        private final CountDownLatch        blocked;
+
+        QueueInputStream(BlockingQueue<byte[]> queue, CountDownLatch blocked) {
+            this.queue = queue;
+            this.blocked = blocked;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            blocked.countDown();
+            try {
+                byte[] data = queue.take();
+                System.arraycopy(data, 0, b, off, data.length);
+                return data.length;
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
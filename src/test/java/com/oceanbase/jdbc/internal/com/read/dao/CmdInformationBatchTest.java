@@ -0,0 +1,102 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.read.dao;
+
+import java.sql.Statement;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CmdInformationBatchTest {
+
+    @Test
+    public void arrayBindingUpdateCounts() {
+        CmdInformationBatch cmdInformation = new CmdInformationBatch(10, 1);
+        cmdInformation.setArrayBinding(true);
+        cmdInformation.addSuccessStat(4, 0);
+        cmdInformation.addArrayBindingSize(4);
+        cmdInformation.addSuccessStat(3, 0);
+        cmdInformation.addArrayBindingSize(1);
+        cmdInformation.addSuccessStat(0, 0);
+        cmdInformation.addArrayBindingSize(2);
+        cmdInformation.addSuccessStat(5, 0);
+        cmdInformation.addArrayBindingSize(3);
+
+        Assert.assertArrayEquals(new int[] { 1, 1, 1, 1, 3, 0, 0, Statement.SUCCESS_NO_INFO,
+                Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO },
+            cmdInformation.getUpdateCounts());
+        Assert.assertArrayEquals(new long[] { 1, 1, 1, 1, 3, 0, 0, Statement.SUCCESS_NO_INFO,
+                Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO },
+            cmdInformation.getLargeUpdateCounts());
+    }
+
+    @Test
+    public void arrayBindingUpdateCountsOnError() {
+        CmdInformationBatch cmdInformation = new CmdInformationBatch(6, 1);
+        cmdInformation.setArrayBinding(true);
+        cmdInformation.addSuccessStat(2, 0);
+        cmdInformation.addArrayBindingSize(2);
+        cmdInformation.addErrorStat();
+        cmdInformation.addArrayBindingSize(2);
+
+        Assert.assertArrayEquals(new int[] { 1, 1, Statement.EXECUTE_FAILED,
+                Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED },
+            cmdInformation.getUpdateCounts());
+
+        // without packet sizes, fall back to one value for the whole batch
+        cmdInformation.reset();
+        cmdInformation.setArrayBinding(true);
+        cmdInformation.addSuccessStat(6, 0);
+        Assert.assertArrayEquals(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO,
+                Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO,
+                Statement.SUCCESS_NO_INFO }, cmdInformation.getUpdateCounts());
+    }
+}
@@ -54,6 +54,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.oceanbase.jdbc.internal.ColumnType;
+import com.oceanbase.jdbc.internal.com.read.Buffer;
 
 public class ColumnDefinitionTest {
 
@@ -72,4 +73,40 @@ public class ColumnDefinitionTest {
         Assert.assertEquals(column4BytesUtf8 + column4BytesUtf8, col.getOriginalName());
         Assert.assertEquals(33, col.getCharsetNumber());
     }
+
+    /** Column definition packet of a column of table "test.t". */
+    private static byte[] columnPacket(String name, ColumnType type) {
+        byte[] arr = new byte[28 + 2 * name.length()];
+        int pos = 0;
+        for (String value : new String[] { "def", "test", "t", "t", name, name }) {
+            arr[pos++] = (byte) value.length();
+            for (int i = 0; i < value.length(); i++) {
+                arr[pos++] = (byte) value.charAt(i);
+            }
+        }
+        arr[pos++] = 0x0c;
+        arr[pos++] = 33;
+        pos += 2;
+        arr[pos] = 20;
+        pos += 4;
+        arr[pos] = (byte) type.getType();
+        return arr;
+    }
+
+    @Test
+    public void sameDefinition() {
+        byte[] packet = columnPacket("id", ColumnType.BIGINT);
+        ColumnDefinition col = new ColumnDefinition(new Buffer(packet.clone()), false, "UTF-8",
+            null);
+
+        // same packet in a larger reusable array
+        byte[] reusable = new byte[packet.length + 10];
+        System.arraycopy(packet, 0, reusable, 0, packet.length);
+        Assert.assertTrue(col.isSameDefinition(new Buffer(reusable, packet.length)));
+        Assert.assertFalse(col.isSameDefinition(new Buffer(reusable, packet.length - 1)));
+
+        Assert
+            .assertFalse(col.isSameDefinition(new Buffer(columnPacket("id", ColumnType.INTEGER))));
+        Assert.assertFalse(col.isSameDefinition(new Buffer(columnPacket("ID", ColumnType.BIGINT))));
+    }
 }
@@ -0,0 +1,151 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.read.resultset;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.ColumnType;
+import com.oceanbase.jdbc.internal.com.read.resultset.rowprotocol.BinaryRowProtocol;
+import com.oceanbase.jdbc.internal.com.read.resultset.rowprotocol.TextRowProtocol;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+import com.oceanbase.jdbc.util.DefaultOptions;
+import com.oceanbase.jdbc.util.Options;
+
+public class RowChunkStoreTest {
+
+    @Test
+    public void storeRows() {
+        RowChunkStore store = new RowChunkStore(2);
+        byte[] small = new byte[] { 1, 2, 3, 4, 5 };
+        for (int i = 0; i < 1000; i++) {
+            store.add(small, 1, 3);
+        }
+        Assert.assertEquals(1000, store.size());
+        Assert.assertSame(store.chunk(0), store.chunk(999));
+        Assert.assertEquals(3 * 999, store.offset(999));
+        Assert.assertArrayEquals(new byte[] { 2, 3, 4 }, store.copyRow(500));
+
+        // big row get its own array, next small rows continue in current chunk
+        byte[] big = new byte[RowChunkStore.CHUNK_SIZE];
+        big[big.length - 1] = 9;
+        store.add(big, 0, big.length);
+        store.add(small, 0, 5);
+        Assert.assertEquals(0, store.offset(1000));
+        Assert.assertEquals(big.length, store.length(1000));
+        Assert.assertEquals(9, store.chunk(1000)[big.length - 1]);
+        Assert.assertSame(store.chunk(0), store.chunk(1001));
+        Assert.assertEquals(3000, store.offset(1001));
+
+        // chunk full
+        byte[] half = new byte[RowChunkStore.CHUNK_SIZE / 2];
+        store.add(half, 0, half.length);
+        store.add(half, 0, half.length);
+        Assert.assertSame(store.chunk(0), store.chunk(1002));
+        Assert.assertNotSame(store.chunk(0), store.chunk(1003));
+        Assert.assertEquals(0, store.offset(1003));
+
+        store.clear();
+        Assert.assertEquals(0, store.size());
+    }
+
+    @Test
+    public void textRowView() throws Exception {
+        Options options = DefaultOptions.defaultValues(HaMode.NONE);
+        RowChunkStore store = new RowChunkStore(10);
+        store.add(new byte[] { 1, 'a', (byte) 251, 2, 'b', 'c' }, 0, 6);
+        store.add(new byte[] { 2, 'd', 'e', 1, 'f', 0 }, 0, 6);
+
+        TextRowProtocol row = new TextRowProtocol(0, options);
+        row.resetRow(store.chunk(1), store.offset(1), store.length(1));
+        row.setPosition(2, null);
+        Assert.assertEquals(0, row.length);
+        row.setPosition(1, null);
+        Assert.assertEquals("f", new String(row.buf, row.pos, row.length));
+        row.setPosition(0, null);
+        Assert.assertEquals("de", new String(row.buf, row.pos, row.length));
+
+        row.resetRow(store.chunk(0), store.offset(0), store.length(0));
+        row.setPosition(1, null);
+        Assert.assertTrue(row.lastValueWasNull());
+        row.setPosition(2, null);
+        Assert.assertEquals("bc", new String(row.buf, row.pos, row.length));
+    }
+
+    @Test
+    public void binaryRowView() throws Exception {
+        Options options = DefaultOptions.defaultValues(HaMode.NONE);
+        ColumnDefinition[] columns = new ColumnDefinition[] {
+                ColumnDefinition.create("a", ColumnType.INTEGER, false, "UTF-8", options),
+                ColumnDefinition.create("b", ColumnType.VARCHAR, false, "UTF-8", options),
+                ColumnDefinition.create("c", ColumnType.INTEGER, false, "UTF-8", options) };
+        RowChunkStore store = new RowChunkStore(10);
+        // header, null-bitmap (column b null), int
+        store.add(new byte[] { 0x00, 0x08, 7, 0, 0, 0, 8, 0, 0, 0 }, 0, 10);
+        // header, null-bitmap, int, length-encoded string, int
+        store.add(new byte[] { 0x00, 0x00, 1, 0, 0, 0, 2, 'x', 'y', 3, 0, 0, 0 }, 0, 13);
+
+        BinaryRowProtocol row = new BinaryRowProtocol(columns, columns.length, 0, options);
+        row.resetRow(store.chunk(1), store.offset(1), store.length(1));
+        row.setPosition(2, null);
+        Assert.assertEquals(3, row.buf[row.pos]);
+        row.setPosition(1, null);
+        Assert.assertEquals("xy", new String(row.buf, row.pos, row.length));
+
+        row.resetRow(store.chunk(0), store.offset(0), store.length(0));
+        row.setPosition(1, null);
+        Assert.assertTrue(row.lastValueWasNull());
+        row.setPosition(2, null);
+        Assert.assertEquals(8, row.buf[row.pos]);
+        row.setPosition(0, null);
+        Assert.assertEquals(7, row.buf[row.pos]);
+    }
+}
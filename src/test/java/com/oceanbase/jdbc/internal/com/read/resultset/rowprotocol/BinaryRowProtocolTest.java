@@ -0,0 +1,130 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.read.resultset.rowprotocol;
+
+import java.io.ByteArrayOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.ColumnType;
+import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+import com.oceanbase.jdbc.util.DefaultOptions;
+import com.oceanbase.jdbc.util.Options;
+
+public class BinaryRowProtocolTest {
+
+    /**
+     * 200 columns alternating INTEGER, VARCHAR, BIGINT and TINYINT, every 7th column null.
+     */
+    @Test
+    public void randomAccess() throws Exception {
+        Options options = DefaultOptions.defaultValues(HaMode.NONE);
+        int columnCount = 200;
+        ColumnType[] types = new ColumnType[] { ColumnType.INTEGER, ColumnType.VARCHAR,
+                ColumnType.BIGINT, ColumnType.TINYINT };
+        ColumnDefinition[] columns = new ColumnDefinition[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = ColumnDefinition.create("c" + i, types[i % 4], false, "UTF-8", options);
+        }
+
+        ByteArrayOutputStream row = new ByteArrayOutputStream();
+        row.write(0x00);
+        byte[] nullBitmap = new byte[(columnCount + 9) / 8];
+        for (int i = 0; i < columnCount; i += 7) {
+            nullBitmap[(i + 2) / 8] |= 1 << ((i + 2) % 8);
+        }
+        row.write(nullBitmap, 0, nullBitmap.length);
+        for (int i = 0; i < columnCount; i++) {
+            if (i % 7 == 0) {
+                continue;
+            }
+            switch (i % 4) {
+                case 0:
+                    row.write(new byte[] { (byte) i, 0, 0, 0 }, 0, 4);
+                    break;
+                case 1:
+                    byte[] str = ("v" + i).getBytes();
+                    row.write(str.length);
+                    row.write(str, 0, str.length);
+                    break;
+                case 2:
+                    row.write(new byte[] { (byte) i, 0, 0, 0, 0, 0, 0, 0 }, 0, 8);
+                    break;
+                default:
+                    row.write(i);
+                    break;
+            }
+        }
+
+        BinaryRowProtocol protocol = new BinaryRowProtocol(columns, columnCount, 0, options);
+        byte[] buf = row.toByteArray();
+        for (int pass = 0; pass < 2; pass++) {
+            protocol.resetRow(buf);
+            for (int j = 0; j < columnCount; j++) {
+                // reverse order, then interleaved order
+                int i = pass == 0 ? columnCount - 1 - j : (j * 37) % columnCount;
+                protocol.setPosition(i, null);
+                if (i % 7 == 0) {
+                    Assert.assertTrue(protocol.lastValueWasNull());
+                } else if (i % 4 == 1) {
+                    Assert.assertFalse(protocol.lastValueWasNull());
+                    Assert.assertEquals("v" + i, new String(protocol.buf, protocol.pos,
+                        protocol.length));
+                } else {
+                    Assert.assertFalse(protocol.lastValueWasNull());
+                    Assert.assertEquals((byte) i, protocol.buf[protocol.pos]);
+                }
+            }
+        }
+    }
+}
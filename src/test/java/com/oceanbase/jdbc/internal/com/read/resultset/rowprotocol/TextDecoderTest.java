@@ -0,0 +1,179 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.read.resultset.rowprotocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TextDecoderTest {
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static double parseDouble(String value) {
+        byte[] buf = bytes(" " + value + " ");
+        return TextDecoder.parseDouble(buf, 1, buf.length - 2);
+    }
+
+    private static float parseFloat(String value) {
+        byte[] buf = bytes(value);
+        return TextDecoder.parseFloat(buf, 0, buf.length);
+    }
+
+    @Test
+    public void doubleMatchesJdk() {
+        String[] values = { "0", "-0", "1", "-1", "0.1", "123.456", "-99999.99999",
+                "999999999999999", "0.000001", "1.5e10", "1.5E-10", "-2.5e+3", ".5", "7.",
+                "3.14159265358979", "1e22", "1e-22", "0.0000000000000000000000" };
+        for (String value : values) {
+            Assert.assertEquals(value, Double.doubleToRawLongBits(Double.parseDouble(value)),
+                Double.doubleToRawLongBits(parseDouble(value)));
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long mantissa = random.nextLong() % 1_000_000_000_000_000L;
+            int scale = random.nextInt(16);
+            String value = new java.math.BigDecimal(java.math.BigInteger.valueOf(mantissa), scale)
+                .toPlainString();
+            double decoded = parseDouble(value);
+            if (!Double.isNaN(decoded)) {
+                Assert.assertEquals(value, Double.parseDouble(value), decoded, 0d);
+            }
+        }
+    }
+
+    @Test
+    public void doubleFallback() {
+        String[] values = { "", "-", ".", "abc", "1,5", " 1", "1 ", "1e", "1e1000", "NaN",
+                "Infinity", "3.141592653589793", "1e23", "1e-23", "1.5d", "--1", "1.2.3" };
+        for (String value : values) {
+            Assert.assertTrue(value, Double.isNaN(parseDouble(value)));
+        }
+        byte[] utf16 = "12".getBytes(StandardCharsets.UTF_16BE);
+        Assert.assertTrue(Double.isNaN(TextDecoder.parseDouble(utf16, 0, utf16.length)));
+    }
+
+    @Test
+    public void floatMatchesJdk() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            int mantissa = random.nextInt(20_000_000) - 10_000_000;
+            int scale = random.nextInt(8);
+            String value = new java.math.BigDecimal(java.math.BigInteger.valueOf(mantissa), scale)
+                .toPlainString();
+            float decoded = parseFloat(value);
+            if (!Float.isNaN(decoded)) {
+                Assert.assertEquals(value, Float.parseFloat(value), decoded, 0f);
+            }
+        }
+        Assert.assertEquals(1.1f, parseFloat("1.1"), 0f);
+        Assert.assertEquals(3.4e10f, parseFloat("3.4E10"), 0f);
+        Assert.assertTrue(Float.isNaN(parseFloat("12345678")));
+        Assert.assertTrue(Float.isNaN(parseFloat("1e11")));
+    }
+
+    @Test
+    public void dateTime() {
+        int[] parts = new int[7];
+        byte[] buf = bytes("2021-03-04 05:06:07.123456");
+        Assert.assertTrue(TextDecoder.parseDateTime(buf, 0, buf.length, parts));
+        Assert.assertArrayEquals(new int[] { 2021, 3, 4, 5, 6, 7, 123456000 }, parts);
+
+        buf = bytes("1999-12-31");
+        Assert.assertTrue(TextDecoder.parseDateTime(buf, 0, buf.length, parts));
+        Assert.assertArrayEquals(new int[] { 1999, 12, 31, 0, 0, 0, 0 }, parts);
+
+        buf = bytes("1999-12-31 23:59:59");
+        Assert.assertTrue(TextDecoder.parseDateTime(buf, 0, buf.length, parts));
+        Assert.assertArrayEquals(new int[] { 1999, 12, 31, 23, 59, 59, 0 }, parts);
+
+        buf = bytes("1999-12-31 23:59:59.123456789");
+        Assert.assertTrue(TextDecoder.parseDateTime(buf, 0, buf.length, parts));
+        Assert.assertEquals(123456789, parts[6]);
+
+        String[] invalids = { "1999-12-31 23:59:59.", "19991231235959", "1999/12/31",
+                "1999-12-31T23:59:59", "1999-12-31 23:59:59.1234567890", "99-12-31", "1999-1a-31",
+                " 1999-12-31" };
+        for (String invalid : invalids) {
+            buf = bytes(invalid);
+            Assert.assertFalse(invalid, TextDecoder.parseDateTime(buf, 0, buf.length, parts));
+        }
+    }
+
+    @Test
+    public void time() {
+        int[] parts = new int[7];
+        byte[] buf = bytes("12:34:56.5");
+        Assert.assertTrue(TextDecoder.parseTime(buf, 0, buf.length, parts));
+        Assert.assertEquals(12, parts[3]);
+        Assert.assertEquals(34, parts[4]);
+        Assert.assertEquals(56, parts[5]);
+        Assert.assertEquals(500000000, parts[6]);
+
+        String[] invalids = { "-12:34:56", "838:59:59", "12:34", "12:34:56.", "12-34-56" };
+        for (String invalid : invalids) {
+            buf = bytes(invalid);
+            Assert.assertFalse(invalid, TextDecoder.parseTime(buf, 0, buf.length, parts));
+        }
+    }
+
+    @Test
+    public void zeros() {
+        Assert.assertTrue(TextDecoder.isZeros("12:00:00.000", 9));
+        Assert.assertFalse(TextDecoder.isZeros("12:00:00.010", 9));
+        Assert.assertFalse(TextDecoder.isZeros("12:00:00.", 9));
+    }
+}
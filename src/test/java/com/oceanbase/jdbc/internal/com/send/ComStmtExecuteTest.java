@@ -0,0 +1,114 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.send;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.com.send.parameters.IntParameter;
+import com.oceanbase.jdbc.internal.com.send.parameters.ParameterHolder;
+import com.oceanbase.jdbc.internal.com.send.parameters.StreamParameter;
+import com.oceanbase.jdbc.internal.com.send.parameters.StringParameter;
+
+public class ComStmtExecuteTest {
+
+    private static List<ParameterHolder[]> intRows(int size) {
+        List<ParameterHolder[]> rows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            rows.add(new ParameterHolder[] { new IntParameter(i), new IntParameter(-i) });
+        }
+        return rows;
+    }
+
+    @Test
+    public void arrayBindingEndByParameterNumber() throws Exception {
+        List<ParameterHolder[]> rows = intRows(100);
+        Assert.assertEquals(100, ComStmtExecute.arrayBindingEnd(rows, 0, 100, 2, 0, 0, false));
+        Assert.assertEquals(15, ComStmtExecute.arrayBindingEnd(rows, 0, 100, 2, 30, 0, false));
+        Assert.assertEquals(100, ComStmtExecute.arrayBindingEnd(rows, 90, 100, 2, 30, 0, false));
+        Assert.assertEquals(51, ComStmtExecute.arrayBindingEnd(rows, 50, 100, 2, 1, 0, false));
+    }
+
+    @Test
+    public void arrayBindingEndByPacketSize() throws Exception {
+        List<ParameterHolder[]> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(new ParameterHolder[] { new StringParameter(new String(new char[100]), false,
+                "UTF-8") });
+        }
+        int end = ComStmtExecute.arrayBindingEnd(rows, 0, 10, 1, 0, 1024, false);
+        Assert.assertTrue(end > 1 && end < 10);
+        Assert.assertEquals(10, ComStmtExecute.arrayBindingEnd(rows, 0, 10, 1, 0, 1 << 20, false));
+        // a single row always makes a packet, even over the limit
+        Assert.assertEquals(1, ComStmtExecute.arrayBindingEnd(rows, 0, 10, 1, 0, 10, false));
+    }
+
+    @Test
+    public void arrayBindingEndByTypeAndLongData() throws Exception {
+        List<ParameterHolder[]> rows = intRows(6);
+        rows.set(3, new ParameterHolder[] { new IntParameter(3),
+                new StringParameter("3", false, "UTF-8") });
+        Assert.assertEquals(3, ComStmtExecute.arrayBindingEnd(rows, 0, 6, 2, 0, 0, false));
+        Assert.assertEquals(4, ComStmtExecute.arrayBindingEnd(rows, 3, 6, 2, 0, 0, false));
+
+        rows = intRows(6);
+        ParameterHolder stream = new StreamParameter(new ByteArrayInputStream(new byte[10]), false);
+        rows.set(2, new ParameterHolder[] { new IntParameter(2), stream });
+        rows.set(3, new ParameterHolder[] { new IntParameter(3), stream });
+        Assert.assertEquals(2, ComStmtExecute.arrayBindingEnd(rows, 0, 6, 2, 0, 0, true));
+        Assert.assertEquals(3, ComStmtExecute.arrayBindingEnd(rows, 2, 6, 2, 0, 0, true));
+        Assert.assertEquals(4, ComStmtExecute.arrayBindingEnd(rows, 2, 6, 2, 0, 0, false));
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.send;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.ColumnType;
+import com.oceanbase.jdbc.internal.com.Packet;
+import com.oceanbase.jdbc.internal.com.send.parameters.IntParameter;
+import com.oceanbase.jdbc.internal.com.send.parameters.NullParameter;
+import com.oceanbase.jdbc.internal.com.send.parameters.ParameterHolder;
+
+public class ExecuteTemplateTest {
+
+    @Test
+    public void header() {
+        ExecuteTemplate template = new ExecuteTemplate(0);
+        byte[] header = template.header(0x01020304, Packet.CURSOR_TYPE_READ_ONLY, 1);
+        Assert.assertArrayEquals(new byte[] { Packet.COM_STMT_EXECUTE, 4, 3, 2, 1,
+                Packet.CURSOR_TYPE_READ_ONLY, 1, 0, 0, 0 }, header);
+
+        header = template.header(7, Packet.CURSOR_TYPE_NO_CURSOR, -2);
+        Assert.assertArrayEquals(new byte[] { Packet.COM_STMT_EXECUTE, 7, 0, 0, 0,
+                Packet.CURSOR_TYPE_NO_CURSOR, (byte) 0xfe, (byte) 0xff, (byte) 0xff, (byte) 0xff },
+            header);
+    }
+
+    @Test
+    public void nullBitsAndTypes() {
+        ParameterHolder[] parameters = new ParameterHolder[10];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = new IntParameter(i);
+        }
+        parameters[1] = new NullParameter(ColumnType.INTEGER);
+        parameters[9] = new NullParameter(ColumnType.INTEGER);
+        ExecuteTemplate template = new ExecuteTemplate(parameters.length);
+        ColumnType[] typeHeader = new ColumnType[parameters.length];
+
+        Assert.assertTrue(template.prepare(parameters, typeHeader));
+        Assert.assertArrayEquals(new byte[] { 0x02, 0x02 }, template.getNullBits());
+        Assert.assertTrue(template.isNull(1));
+        Assert.assertFalse(template.isNull(2));
+
+        for (int i = 0; i < parameters.length; i++) {
+            typeHeader[i] = parameters[i].getColumnType();
+        }
+        parameters[1] = new IntParameter(1);
+        Assert.assertFalse(template.prepare(parameters, typeHeader));
+        Assert.assertArrayEquals(new byte[] { 0x00, 0x02 }, template.getNullBits());
+
+        parameters[5] = new NullParameter();
+        Assert.assertTrue(template.prepare(parameters, typeHeader));
+        Assert.assertArrayEquals(new byte[] { 0x20, 0x02 }, template.getNullBits());
+    }
+}
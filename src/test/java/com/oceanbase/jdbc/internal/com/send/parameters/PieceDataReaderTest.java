@@ -0,0 +1,196 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.com.send.parameters;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class PieceDataReaderTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static byte[] readAll(PieceDataReader reader, AtomicInteger pieceCount)
+                                                                                   throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PieceDataReader.Piece piece;
+        do {
+            piece = reader.next();
+            out.write(piece.getData(), 0, piece.getLength());
+            pieceCount.incrementAndGet();
+        } while (!piece.isLast());
+        return out.toByteArray();
+    }
+
+    @Test
+    public void hexStream() throws IOException {
+        byte[] data = new byte[] { 0x00, 0x1F, (byte) 0xA5, (byte) 0xFF, 0x7E };
+        AtomicInteger pieceCount = new AtomicInteger();
+        byte[] hex = readAll(
+            PieceDataReader.ofHexStream(new ByteArrayInputStream(data), Long.MAX_VALUE, 2),
+            pieceCount);
+        assertEquals("001FA5FF7E", new String(hex, UTF8));
+        assertEquals(3, pieceCount.get());
+    }
+
+    @Test
+    public void hexStreamExactMultiple() throws IOException {
+        AtomicInteger pieceCount = new AtomicInteger();
+        byte[] hex = readAll(PieceDataReader.ofHexStream(new ByteArrayInputStream(new byte[] { 1,
+                2, 3, 4 }), Long.MAX_VALUE, 2), pieceCount);
+        assertEquals("01020304", new String(hex, UTF8));
+        // unknown length : end is only known when reading an empty piece
+        assertEquals(3, pieceCount.get());
+    }
+
+    @Test
+    public void hexStreamLength() throws IOException {
+        AtomicInteger pieceCount = new AtomicInteger();
+        byte[] hex = readAll(PieceDataReader.ofHexStream(new ByteArrayInputStream(new byte[] { 1,
+                2, 3, 4, 5, 6 }), 4, 2), pieceCount);
+        assertEquals("01020304", new String(hex, UTF8));
+        assertEquals(2, pieceCount.get());
+    }
+
+    @Test
+    public void emptyStream() throws IOException {
+        PieceDataReader reader = PieceDataReader.ofHexStream(new ByteArrayInputStream(new byte[0]),
+            Long.MAX_VALUE, 16);
+        PieceDataReader.Piece piece = reader.next();
+        assertTrue(piece.isLast());
+        assertEquals(0, piece.getLength());
+    }
+
+    @Test
+    public void readByPiece() throws IOException {
+        final AtomicInteger read = new AtomicInteger();
+        InputStream is = new FilterInputStream(new ByteArrayInputStream(new byte[10])) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int count = super.read(b, off, len);
+                if (count > 0) {
+                    read.addAndGet(count);
+                }
+                return count;
+            }
+        };
+        PieceDataReader reader = PieceDataReader.ofHexStream(is, Long.MAX_VALUE, 4);
+        assertEquals(8, reader.next().getLength());
+        // source is only read when next piece is needed
+        assertEquals(4, read.get());
+        assertEquals(8, reader.next().getLength());
+        assertEquals(8, read.get());
+        PieceDataReader.Piece last = reader.next();
+        assertTrue(last.isLast());
+        assertEquals(4, last.getLength());
+    }
+
+    @Test
+    public void readerPieces() throws IOException {
+        AtomicInteger pieceCount = new AtomicInteger();
+        byte[] utf8 = readAll(
+            PieceDataReader.ofReader(new StringReader("abcdefg"), Long.MAX_VALUE, UTF8, 3),
+            pieceCount);
+        assertEquals("abcdefg", new String(utf8, UTF8));
+        assertEquals(3, pieceCount.get());
+    }
+
+    @Test
+    public void readerSurrogatePairBetweenPieces() throws IOException {
+        // "a" + U+1F600 + "b" : surrogate pair at positions 1 and 2
+        String value = "a😀bé";
+        AtomicInteger pieceCount = new AtomicInteger();
+        byte[] utf8 = readAll(
+            PieceDataReader.ofReader(new StringReader(value), Long.MAX_VALUE, UTF8, 2), pieceCount);
+        assertArrayEquals(value.getBytes(UTF8), utf8);
+    }
+
+    @Test
+    public void readerLength() throws IOException {
+        AtomicInteger pieceCount = new AtomicInteger();
+        byte[] utf8 = readAll(PieceDataReader.ofReader(new StringReader("été 2021"), 3, UTF8, 8),
+            pieceCount);
+        assertEquals("été", new String(utf8, UTF8));
+        assertEquals(1, pieceCount.get());
+    }
+
+    @Test
+    public void readError() {
+        InputStream is = new InputStream() {
+            private int count;
+
+            @Override
+            public int read() throws IOException {
+                if (count++ >= 4) {
+                    throw new IOException("disk error");
+                }
+                return 0;
+            }
+        };
+        PieceDataReader reader = PieceDataReader.ofHexStream(is, Long.MAX_VALUE, 4);
+        try {
+            assertEquals(8, reader.next().getLength());
+            reader.next();
+            fail("must have thrown exception");
+        } catch (IOException e) {
+            assertEquals("disk error", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.failover;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.HostAddress;
+import com.oceanbase.jdbc.internal.protocol.Protocol;
+
+public class FailoverProtocolTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private SQLException       protocolError;
+    private Protocol           currentProtocol;
+    private Method             failoverMethod;
+    private Object[]           failoverArgs;
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(FailoverProtocolTest.class.getClassLoader(),
+            new Class[] { type }, handler);
+    }
+
+    private FailoverProtocol create() throws SQLException {
+        currentProtocol = stub(Protocol.class, (proxy, method, args) -> {
+            calls.add("protocol." + method.getName());
+            switch (method.getName()) {
+                case "getHostAddress":
+                    return new HostAddress("localhost", 2881);
+                case "isMasterConnection":
+                    return true;
+                case "getDatabase":
+                    return "db";
+                case "executeQuery":
+                    if (protocolError != null) {
+                        throw protocolError;
+                    }
+                    return null;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+        Listener listener = stub(Listener.class, (proxy, method, args) -> {
+            calls.add("listener." + method.getName());
+            switch (method.getName()) {
+                case "getCurrentProtocol":
+                    return currentProtocol;
+                case "invoke":
+                    return "invoked";
+                case "handleFailover":
+                    failoverMethod = (Method) args[1];
+                    failoverArgs = (Object[]) args[2];
+                    HandleErrorResult result = new HandleErrorResult(true, false);
+                    result.resultObject = "relaunched";
+                    return result;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+        FailoverProtocol protocol = new FailoverProtocol(new FailoverProxy(listener, null, null));
+        calls.clear();
+        return protocol;
+    }
+
+    @Test
+    public void delegatesToCurrentProtocol() throws SQLException {
+        FailoverProtocol protocol = create();
+        Assert.assertEquals("db", protocol.getDatabase());
+        protocol.executeQuery(true, null, "SELECT 1");
+        Assert.assertFalse(calls.contains("listener.invoke"));
+        Assert.assertTrue(calls.indexOf("listener.preExecute") < calls
+            .indexOf("protocol.executeQuery"));
+    }
+
+    @Test
+    public void connectionErrorLaunchesFailover() throws SQLException {
+        FailoverProtocol protocol = create();
+        protocolError = new SQLException("connection lost", "08S01");
+        protocol.executeQuery(true, null, "SELECT 1");
+        Assert.assertEquals("executeQuery", failoverMethod.getName());
+        Assert.assertEquals(3, failoverMethod.getParameterTypes().length);
+        Assert.assertEquals("SELECT 1", failoverArgs[2]);
+    }
+
+    @Test
+    public void otherErrorIsThrown() throws SQLException {
+        FailoverProtocol protocol = create();
+        protocolError = new SQLException("Duplicate entry", "23000", 1062);
+        try {
+            protocol.executeQuery(true, null, "INSERT INTO t VALUES (1)");
+            Assert.fail("must have thrown error");
+        } catch (SQLException e) {
+            Assert.assertEquals("23000", e.getSQLState());
+            Assert.assertEquals(1062, e.getErrorCode());
+            Assert.assertEquals("Duplicate entry", e.getMessage());
+        }
+        Assert.assertNull(failoverMethod);
+    }
+
+    @Test
+    public void noCurrentProtocol() throws SQLException {
+        FailoverProtocol protocol = create();
+        currentProtocol = null;
+        Assert.assertEquals("invoked", protocol.getDatabase());
+        Assert.assertTrue(calls.contains("listener.invoke"));
+    }
+}
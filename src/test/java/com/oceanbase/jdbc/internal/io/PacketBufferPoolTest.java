@@ -0,0 +1,168 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.com.read.Buffer;
+import com.oceanbase.jdbc.internal.io.input.StandardPacketInputStream;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+import com.oceanbase.jdbc.util.DefaultOptions;
+import com.oceanbase.jdbc.util.Options;
+
+public class PacketBufferPoolTest {
+
+    @Test
+    public void sizeClasses() {
+        Assert.assertEquals(2048, PacketBufferPool.classLength(0));
+        Assert.assertEquals(2048, PacketBufferPool.classLength(2048));
+        Assert.assertEquals(4096, PacketBufferPool.classLength(2049));
+        Assert.assertEquals(16777216, PacketBufferPool.classLength(0xffffff));
+        Assert.assertEquals(-1, PacketBufferPool.classLength(16777217));
+    }
+
+    @Test
+    public void borrowRelease() {
+        PacketBufferPool pool = new PacketBufferPool(10000);
+        byte[] arr = pool.borrow(3000);
+        Assert.assertEquals(4096, arr.length);
+        pool.release(arr);
+        Assert.assertEquals(4096, pool.getRetainedBytes());
+        Assert.assertSame(arr, pool.borrow(2500));
+        Assert.assertEquals(0, pool.getRetainedBytes());
+
+        // over retained limit
+        pool.release(new byte[8192]);
+        pool.release(new byte[4096]);
+        Assert.assertEquals(8192, pool.getRetainedBytes());
+
+        // not a size class array
+        pool.release(new byte[1000]);
+        pool.release(new byte[3000]);
+        Assert.assertEquals(8192, pool.getRetainedBytes());
+
+        pool.clear();
+        Assert.assertEquals(0, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void readPooledPackets() throws Exception {
+        Options options = DefaultOptions.defaultValues(HaMode.NONE);
+        options.useReceiveBufferPool = true;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writePacket(out, 5000, 0, (byte) 1);
+        writePacket(out, 6000, 1, (byte) 2);
+        writePacket(out, 10, 2, (byte) 3);
+
+        StandardPacketInputStream reader = new StandardPacketInputStream(new ByteArrayInputStream(
+            out.toByteArray()), 1, options, null);
+        Buffer first = reader.getPacket(true);
+        Assert.assertEquals(5000, first.limit);
+        Assert.assertEquals(8192, first.buf.length);
+        Assert.assertEquals(1, first.buf[4999]);
+
+        // reading next reusable packet give back previous array
+        Buffer second = reader.getPacket(true);
+        Assert.assertEquals(6000, second.limit);
+        Assert.assertSame(first.buf, second.buf);
+        Assert.assertEquals(2, second.buf[5999]);
+
+        byte[] row = reader.getPacketArray(false);
+        Assert.assertEquals(10, row.length);
+        Assert.assertEquals(3, row[9]);
+    }
+
+    @Test
+    public void readBigPacket() throws Exception {
+        for (boolean usePool : new boolean[] { false, true }) {
+            Options options = DefaultOptions.defaultValues(HaMode.NONE);
+            options.useReceiveBufferPool = usePool;
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writePacket(out, 0xffffff, 0, (byte) 1);
+            writePacket(out, 0xffffff, 1, (byte) 2);
+            writePacket(out, 100, 2, (byte) 3);
+            writePacket(out, 10, 3, (byte) 4);
+
+            StandardPacketInputStream reader = new StandardPacketInputStream(
+                new ByteArrayInputStream(out.toByteArray()), 1, options, null);
+            byte[] packet = reader.getPacketArray(false);
+            Assert.assertEquals(2 * 0xffffff + 100, packet.length);
+            Assert.assertEquals(1, packet[0]);
+            Assert.assertEquals(1, packet[0xffffff - 1]);
+            Assert.assertEquals(2, packet[0xffffff]);
+            Assert.assertEquals(2, packet[2 * 0xffffff - 1]);
+            Assert.assertEquals(3, packet[2 * 0xffffff]);
+            Assert.assertEquals(3, packet[packet.length - 1]);
+            Assert.assertEquals(2, reader.getLastPacketSeq());
+
+            Buffer next = reader.getPacket(true);
+            Assert.assertEquals(10, next.limit);
+            Assert.assertEquals(4, next.buf[9]);
+        }
+    }
+
+    private static void writePacket(ByteArrayOutputStream out, int length, int seq, byte value) {
+        out.write(length & 0xff);
+        out.write((length >>> 8) & 0xff);
+        out.write((length >>> 16) & 0xff);
+        out.write(seq);
+        byte[] body = new byte[length];
+        Arrays.fill(body, value);
+        out.write(body, 0, length);
+    }
+}
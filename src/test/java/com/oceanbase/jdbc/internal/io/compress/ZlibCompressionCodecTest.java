@@ -0,0 +1,134 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.io.compress;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.io.input.DecompressPacketInputStream;
+import com.oceanbase.jdbc.internal.io.output.CompressPacketOutputStream;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+import com.oceanbase.jdbc.util.DefaultOptions;
+import com.oceanbase.jdbc.util.Options;
+
+public class ZlibCompressionCodecTest {
+
+    private static byte[] compressibleData(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) ('a' + (i % 7));
+        }
+        return data;
+    }
+
+    @Test
+    public void codecReuse() throws IOException {
+        ZlibCompressionCodec codec = new ZlibCompressionCodec();
+        codec.setCompressionLevel(1);
+        Random random = new Random(1);
+        for (int length : new int[] { 10, 5000, 200000, 3 }) {
+            byte[] data = compressibleData(length);
+            data[length / 2] = (byte) random.nextInt();
+            codec.start();
+            codec.write(data, 0, length / 3);
+            codec.write(data, length / 3, length - length / 3);
+            int compressedLength = codec.finish();
+            byte[] compressed = Arrays.copyOf(codec.getBuffer(), compressedLength);
+
+            byte[] result = new byte[length];
+            codec.decompress(compressed, compressedLength, result, length);
+            Assert.assertArrayEquals(data, result);
+        }
+        codec.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void wrongLength() throws IOException {
+        ZlibCompressionCodec codec = new ZlibCompressionCodec();
+        byte[] data = compressibleData(1000);
+        codec.start();
+        codec.write(data, 0, data.length);
+        int compressedLength = codec.finish();
+        codec.decompress(codec.getBuffer(), compressedLength, new byte[2000], 2000);
+    }
+
+    @Test
+    public void packetRoundTrip() throws IOException {
+        Options options = DefaultOptions.defaultValues(HaMode.NONE);
+        options.compressionLevel = 9;
+        CompressionCodec codec = CompressionCodecFactory.create(options, 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressPacketOutputStream writer = new CompressPacketOutputStream(out, 1, options, null,
+            codec);
+
+        byte[][] commands = { compressibleData(50), compressibleData(20000), compressibleData(1000) };
+        for (byte[] command : commands) {
+            writer.startPacket(0);
+            writer.write(command);
+            writer.flush();
+        }
+        // compressible packets have been sent compressed
+        Assert.assertTrue(out.size() < 2000);
+
+        DecompressPacketInputStream reader = new DecompressPacketInputStream(
+            new ByteArrayInputStream(out.toByteArray()), 1, options, null, codec);
+        for (byte[] command : commands) {
+            Assert.assertArrayEquals(command, reader.getPacketArray(false));
+        }
+        reader.close();
+    }
+}
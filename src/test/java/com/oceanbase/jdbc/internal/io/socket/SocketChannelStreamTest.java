@@ -0,0 +1,178 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.io.socket;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SocketChannelStreamTest {
+
+    private ServerSocketChannel server;
+    private SocketChannel       client;
+    private SocketChannel       accepted;
+
+    @Before
+    public void connect() throws IOException {
+        server = ServerSocketChannel.open();
+        server.socket().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = SocketChannel.open(server.socket().getLocalSocketAddress());
+        accepted = server.accept();
+        client.configureBlocking(false);
+    }
+
+    @After
+    public void close() throws IOException {
+        client.close();
+        accepted.close();
+        server.close();
+    }
+
+    @Test
+    public void gatherWriteAndRead() throws IOException {
+        SocketChannelOutputStream out = new SocketChannelOutputStream(client);
+        List<byte[]> packets = new ArrayList<byte[]>();
+        byte[] big = new byte[100000];
+        for (int i = 0; i < big.length; i++) {
+            big[i] = (byte) i;
+        }
+        packets.add(big);
+        packets.add(new byte[] { 1, 2, 3 });
+        byte[] last = new byte[] { 4, 5, 6, 7 };
+
+        Thread reader = new Thread(() -> {
+            try {
+                ByteBuffer dst = ByteBuffer.allocate(big.length + 6);
+                while (dst.hasRemaining() && accepted.read(dst) >= 0) {
+                    // read everything sent
+                }
+                dst.flip();
+                accepted.write(dst);
+            } catch (IOException e) {
+                // checked by main thread
+            }
+        });
+        reader.start();
+        out.write(packets, last, 3);
+
+        SocketChannelInputStream in = new SocketChannelInputStream(client);
+        byte[] result = new byte[big.length + 6];
+        int read = 0;
+        while (read < result.length) {
+            int len = in.read(result, read, result.length - read);
+            assertTrue(len > 0);
+            read += len;
+        }
+        for (int i = 0; i < big.length; i++) {
+            assertEquals(big[i], result[i]);
+        }
+        assertEquals(3, result[big.length + 2]);
+        assertEquals(4, result[big.length + 3]);
+        assertEquals(6, result[big.length + 5]);
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void readTimeout() throws IOException {
+        client.socket().setSoTimeout(100);
+        SocketChannelInputStream in = new SocketChannelInputStream(client);
+        long start = System.nanoTime();
+        try {
+            in.read();
+            fail("must have thrown timeout");
+        } catch (SocketTimeoutException e) {
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(90));
+        }
+    }
+
+    @Test
+    public void closeWakesReader() throws Exception {
+        SocketChannelInputStream in = new SocketChannelInputStream(client);
+        AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            try {
+                in.read();
+            } catch (Throwable t) {
+                error.set(t);
+            }
+            done.countDown();
+        });
+        reader.start();
+        Thread.sleep(100);
+        in.close();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(error.get() instanceof IOException);
+        assertFalse(client.isOpen());
+    }
+
+    @Test
+    public void endOfStream() throws IOException {
+        accepted.close();
+        SocketChannelInputStream in = new SocketChannelInputStream(client);
+        assertEquals(-1, in.read());
+    }
+}
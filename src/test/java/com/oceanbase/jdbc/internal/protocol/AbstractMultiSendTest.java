@@ -0,0 +1,184 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.protocol;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.com.read.dao.Results;
+import com.oceanbase.jdbc.internal.com.send.parameters.ParameterHolder;
+import com.oceanbase.jdbc.internal.io.output.PacketOutputStream;
+import com.oceanbase.jdbc.internal.util.BulkStatus;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+import com.oceanbase.jdbc.internal.util.dao.PrepareResult;
+import com.oceanbase.jdbc.util.DefaultOptions;
+import com.oceanbase.jdbc.util.Options;
+
+public class AbstractMultiSendTest {
+
+    private final List<String> events = new ArrayList<String>();
+    private int                readCounter;
+
+    /** Protocol reading results of a batch of 'select n' queries, failing for the listed ones. */
+    private Protocol protocol(final Options options, final Integer... failing) {
+        return (Protocol) Proxy.newProxyInstance(Protocol.class.getClassLoader(),
+            new Class<?>[] { Protocol.class }, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    if ("getOptions".equals(method.getName())) {
+                        return options;
+                    }
+                    if ("getResult".equals(method.getName())) {
+                        int counter = readCounter++;
+                        events.add("read " + counter);
+                        if (Arrays.asList(failing).contains(counter)) {
+                            throw new SQLException("error " + counter, "42000", 1064);
+                        }
+                        return null;
+                    }
+                    return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                }
+            });
+    }
+
+    private AbstractMultiSend batch(Protocol protocol, List<String> queries) {
+        return new AbstractMultiSend(protocol, null, null, queries, null) {
+            @Override
+            public void sendCmd(PacketOutputStream writer, Results results,
+                                List<ParameterHolder[]> parametersList, List<String> queries,
+                                int paramCount, BulkStatus status, PrepareResult prepareResult) {
+                events.add("send " + status.sendCmdCounter);
+            }
+
+            @Override
+            public SQLException handleResultException(SQLException qex, Results results,
+                                                      List<ParameterHolder[]> parametersList,
+                                                      List<String> queries, int currentCounter,
+                                                      int sendCmdCounter, int paramCount,
+                                                      PrepareResult prepareResult) {
+                return new SQLException(qex.getMessage() + " for "
+                                        + queries.get(currentCounter + sendCmdCounter));
+            }
+
+            @Override
+            public int getParamCount() {
+                return -1;
+            }
+
+            @Override
+            public int getTotalExecutionNumber() {
+                return queries.size();
+            }
+        };
+    }
+
+    private static List<String> queries(int number) {
+        List<String> queries = new ArrayList<String>();
+        for (int i = 0; i < number; i++) {
+            queries.add("select " + i);
+        }
+        return queries;
+    }
+
+    private static Options pipelining(int receiveBuffer) {
+        Options options = DefaultOptions.defaultValues(HaMode.NONE);
+        options.useBatchPipelining = true;
+        options.tcpRcvBuf = receiveBuffer;
+        return options;
+    }
+
+    @Test
+    public void resultsReadWhenReceiveBufferFull() throws SQLException {
+        // 1024 bytes receive buffer : at most 4 results pending
+        batch(protocol(pipelining(1024)), queries(10)).executeBatch();
+
+        Assert.assertEquals(Arrays.asList("send 0", "send 1", "send 2", "send 3", "read 0",
+            "send 4", "read 1", "send 5", "read 2", "send 6", "read 3", "send 7", "read 4",
+            "send 8", "read 5", "send 9", "read 6", "read 7", "read 8", "read 9"), events);
+    }
+
+    @Test
+    public void continueOnError() {
+        Options options = pipelining(1024);
+        options.continueBatchOnError = true;
+        try {
+            batch(protocol(options, 2, 5), queries(8)).executeBatch();
+            Assert.fail("must have thrown error");
+        } catch (SQLException sqle) {
+            Assert.assertEquals("error 2 for select 2", sqle.getMessage());
+        }
+        Assert.assertEquals(8, readCounter);
+        Assert.assertTrue(events.contains("send 7"));
+    }
+
+    @Test
+    public void stopOnErrorReadsPendingResults() {
+        Options options = pipelining(1024);
+        options.continueBatchOnError = false;
+        try {
+            batch(protocol(options, 1), queries(20)).executeBatch();
+            Assert.fail("must have thrown error");
+        } catch (SQLException sqle) {
+            Assert.assertEquals("error 1 for select 1", sqle.getMessage());
+        }
+        // sending stops on error, but results of commands already sent are read
+        Assert.assertFalse(events.contains("send 5"));
+        Assert.assertEquals(5, readCounter);
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.util.dao.ClientPrepareResult;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics;
+
+public class ClientPrepareResultCacheTest {
+
+    @Test
+    public void hitAndMiss() {
+        ClientPrepareResultCache cache = new ClientPrepareResultCache(10);
+        String sql = "INSERT INTO t(a, b) VALUES (?, ?)";
+        ClientPrepareResult first = cache.get(sql, false, false, "UTF-8", false, false);
+        ClientPrepareResult second = cache.get(sql, false, false, "UTF-8", false, false);
+        Assert.assertSame(first, second);
+        Assert.assertEquals(2, first.getParamCount());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+
+        // each part of the key must match
+        Assert.assertNotSame(first, cache.get(sql, true, false, "UTF-8", false, false));
+        Assert.assertNotSame(first, cache.get(sql, false, true, "UTF-8", false, false));
+        Assert.assertNotSame(first, cache.get(sql, false, false, "GBK", false, false));
+        ClientPrepareResult rewritable = cache.get(sql, false, false, "UTF-8", true, false);
+        Assert.assertTrue(rewritable.isRewriteType());
+        Assert.assertEquals(2, rewritable.getParamCount());
+        Assert.assertEquals(5, cache.getMissCount());
+        Assert.assertEquals(5, cache.size());
+    }
+
+    @Test
+    public void driverMetrics() {
+        ClientPrepareResultCache cache = new ClientPrepareResultCache(10);
+        DriverMetrics metrics = DriverMetrics.getInstance();
+        long hits = metrics.getCacheHits("client_prepare");
+        long misses = metrics.getCacheMisses("client_prepare");
+        String sql = "SELECT a FROM t WHERE b = ?";
+        cache.get(sql, false, false, "UTF-8", false, false);
+        cache.get(sql, false, false, "UTF-8", false, false);
+        Assert.assertEquals(hits, metrics.getCacheHits("client_prepare"));
+        Assert.assertEquals(misses, metrics.getCacheMisses("client_prepare"));
+
+        cache.get(sql, false, false, "UTF-8", false, true);
+        Assert.assertEquals(hits + 1, metrics.getCacheHits("client_prepare"));
+        Assert.assertEquals(misses, metrics.getCacheMisses("client_prepare"));
+    }
+
+    @Test
+    public void bounded() {
+        ClientPrepareResultCache cache = new ClientPrepareResultCache(3);
+        for (int i = 0; i < 10; i++) {
+            cache
+                .get("SELECT " + i + " FROM dual WHERE a = ?", false, false, "UTF-8", false, false);
+        }
+        Assert.assertEquals(3, cache.size());
+        // oldest entries are evicted first
+        cache.get("SELECT 9 FROM dual WHERE a = ?", false, false, "UTF-8", false, false);
+        Assert.assertEquals(1, cache.getHitCount());
+        cache.get("SELECT 0 FROM dual WHERE a = ?", false, false, "UTF-8", false, false);
+        Assert.assertEquals(11, cache.getMissCount());
+
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void concurrentAccess() throws Exception {
+        final ClientPrepareResultCache cache = new ClientPrepareResultCache(16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 2000; i++) {
+                        ClientPrepareResult res = cache.get("SELECT ? FROM t" + (i % 32), false,
+                            false, "UTF-8", false, false);
+                        Assert.assertEquals(1, res.getParamCount());
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertTrue(cache.size() <= 16);
+        Assert.assertEquals(16000, cache.getHitCount() + cache.getMissCount());
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DecimalCodecTest {
+
+    private static void checkEncode(BigDecimal value) {
+        String expected = value.toPlainString();
+        Assert.assertEquals(expected, new String(DecimalCodec.encode(value),
+            StandardCharsets.US_ASCII));
+        Assert.assertEquals(expected, expected.length(), DecimalCodec.length(value));
+    }
+
+    private static BigDecimal decode(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        return DecimalCodec.decode(bytes, 0, bytes.length);
+    }
+
+    @Test
+    public void encode() {
+        String[] values = { "0", "0.00", "-0.5", "1", "-1", "123.456", "0.000123", "-0.000123",
+                "999999999999999999", "-999999999999999999", "0.999999999999999999",
+                "1234567890123456789", "-12345678901234567890.123", "1E+3", "-1.5E+10", "0E-10",
+                "1E-30" };
+        for (String value : values) {
+            checkEncode(new BigDecimal(value));
+        }
+
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            BigInteger unscaled = BigInteger.valueOf(random.nextLong() >> random.nextInt(64));
+            checkEncode(new BigDecimal(unscaled, random.nextInt(25)));
+        }
+    }
+
+    @Test
+    public void decode() {
+        String[] values = { "0", "-0", "0.00", "-0.5", "+12", "123.456", ".5", "5.", "007.10",
+                "999999999999999999", "-0.000000000000000001" };
+        for (String value : values) {
+            Assert.assertEquals(value, new BigDecimal(value), decode(value));
+        }
+
+        Random random = new Random(13);
+        for (int i = 0; i < 100_000; i++) {
+            BigDecimal value = BigDecimal.valueOf(random.nextLong() % 1_000_000_000_000_000L,
+                random.nextInt(19));
+            Assert.assertEquals(value, decode(value.toPlainString()));
+        }
+    }
+
+    @Test
+    public void decodeOtherFormat() {
+        String[] values = { "", "-", ".", "1e5", " 1", "1 ", "1.2.3", "--1", "1234567890123456789",
+                "NaN" };
+        for (String value : values) {
+            Assert.assertNull(value, decode(value));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.com.read.resultset.ColumnDefinition;
+import com.oceanbase.jdbc.internal.protocol.Protocol;
+import com.oceanbase.jdbc.internal.util.dao.ServerPrepareResult;
+
+public class TinyLfuPrepareStatementCacheTest {
+
+    private final List<Integer> released = Collections.synchronizedList(new ArrayList<Integer>());
+
+    private Protocol protocol() {
+        return (Protocol) Proxy.newProxyInstance(Protocol.class.getClassLoader(),
+            new Class<?>[] { Protocol.class }, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) {
+                    if ("forceReleasePrepareStatement".equals(method.getName())) {
+                        released.add((Integer) args[0]);
+                        return Boolean.TRUE;
+                    }
+                    return null;
+                }
+            });
+    }
+
+    private static ServerPrepareResult result(String sql, int statementId) {
+        return new ServerPrepareResult(sql, statementId, new ColumnDefinition[0],
+            new ColumnDefinition[0], null);
+    }
+
+    /** Put a statement in cache, then close the statement that prepared it. */
+    private static void putClosed(PrepareStatementCache cache, String sql, int statementId) {
+        ServerPrepareResult result = result(sql, statementId);
+        Assert.assertNull(cache.put(sql, result));
+        result.decrementShareCounter();
+    }
+
+    @Test
+    public void shareCounter() {
+        PrepareStatementCache cache = new TinyLfuPrepareStatementCache(10, protocol());
+        ServerPrepareResult first = result("SELECT ?", 1);
+        Assert.assertNull(cache.put("db-SELECT ?", first));
+        Assert.assertSame(first, cache.put("db-SELECT ?", result("SELECT ?", 2)));
+        Assert.assertEquals(2, first.getShareCounter());
+        Assert.assertSame(first, cache.get("db-SELECT ?"));
+        Assert.assertEquals(1, cache.size());
+
+        Assert.assertSame(first, cache.remove("db-SELECT ?"));
+        Assert.assertNull(cache.get("db-SELECT ?"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void hotStatementsSurviveScan() {
+        TinyLfuPrepareStatementCache cache = new TinyLfuPrepareStatementCache(50, protocol());
+        for (int i = 0; i < 10; i++) {
+            putClosed(cache, "hot" + i, i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 10; i++) {
+                Assert.assertNotNull(cache.get("hot" + i));
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            putClosed(cache, "scan" + i, 1000 + i);
+            if (i % 100 == 0) {
+                // hot statements keep being used while one-off queries scan through
+                for (int j = 0; j < 10; j++) {
+                    Assert.assertNotNull(cache.get("hot" + j));
+                }
+            }
+        }
+        Assert.assertEquals(50, cache.size());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertNotNull("hot" + i + " evicted", cache.get("hot" + i));
+            Assert.assertTrue(cache.isProtected("hot" + i));
+        }
+        Assert.assertEquals(1000 + 10 - 50, released.size());
+        Assert.assertFalse(released.contains(0));
+    }
+
+    @Test
+    public void evictedInUseNotDeallocated() {
+        PrepareStatementCache cache = new TinyLfuPrepareStatementCache(1, protocol());
+        ServerPrepareResult used = result("q1", 1);
+        cache.put("q1", used);
+        putClosed(cache, "q2", 2);
+        Assert.assertEquals(1, cache.size());
+        // q1 is still used by its statement
+        Assert.assertTrue(released.isEmpty());
+        Assert.assertNull(cache.get("q1"));
+
+        used.decrementShareCounter();
+        Assert.assertTrue(used.canBeDeallocate());
+    }
+
+    @Test
+    public void frequencySketch() {
+        TinyLfuPrepareStatementCache.FrequencySketch sketch = new TinyLfuPrepareStatementCache.FrequencySketch(
+            64);
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("a");
+        }
+        sketch.increment("b");
+        Assert.assertEquals(15, sketch.frequency("a"));
+        Assert.assertTrue(sketch.frequency("b") >= 1);
+        Assert.assertEquals(0, sketch.frequency("never seen"));
+
+        // aging halves counters
+        for (int i = 0; i < 640; i++) {
+            sketch.increment("other" + i);
+        }
+        Assert.assertTrue(sketch.frequency("a") <= 7);
+    }
+}
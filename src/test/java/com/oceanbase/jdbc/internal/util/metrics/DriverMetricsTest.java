@@ -0,0 +1,219 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util.metrics;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.com.Packet;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics.Command;
+import com.oceanbase.jdbc.internal.util.metrics.DriverMetrics.Phase;
+import com.oceanbase.jdbc.metrics.MetricsExporter;
+import com.oceanbase.jdbc.metrics.MetricsExporterLoader;
+import com.oceanbase.jdbc.metrics.MetricsSnapshot;
+
+public class DriverMetricsTest {
+
+    @Test
+    public void commandPhases() throws Exception {
+        DriverMetrics metrics = new DriverMetrics();
+        CommandTimer timer = new CommandTimer(metrics);
+
+        timer.startSend();
+        timer.command(Packet.COM_QUERY);
+        timer.endSend(100);
+        Thread.sleep(5);
+        // first packet : server wait
+        timer.afterRead(timer.beforeRead(), 50);
+        for (int i = 0; i < 3; i++) {
+            long start = timer.beforeRead();
+            assertTrue(start > 0);
+            timer.afterRead(start, 20);
+        }
+        timer.endReceive();
+
+        for (Phase phase : Phase.values()) {
+            assertEquals(1, metrics.getLatency(Command.QUERY, phase).getCount());
+        }
+        assertTrue(metrics.getLatency(Command.QUERY, Phase.SERVER_WAIT).getTotalNanos() >= 5_000_000);
+        assertEquals(0, metrics.getLatency(Command.EXECUTE, Phase.SEND).getCount());
+        assertEquals(100, metrics.getBytesSent());
+        assertEquals(110, metrics.getBytesReceived());
+    }
+
+    @Test
+    public void commandWithoutResponse() {
+        DriverMetrics metrics = new DriverMetrics();
+        CommandTimer timer = new CommandTimer(metrics);
+
+        timer.startSend();
+        timer.command(Packet.COM_STMT_SEND_LONG_DATA);
+        timer.endSend(10);
+        // no response, next command
+        timer.startSend();
+        timer.command(Packet.COM_STMT_EXECUTE);
+        timer.endSend(10);
+        assertEquals(0, timer.beforeRead());
+        timer.afterRead(0, 7);
+        // response end not signaled : phases are recorded at next command start
+        timer.startSend();
+
+        assertEquals(1, metrics.getLatency(Command.SEND_DATA, Phase.SEND).getCount());
+        assertEquals(0, metrics.getLatency(Command.SEND_DATA, Phase.SERVER_WAIT).getCount());
+        assertEquals(1, metrics.getLatency(Command.EXECUTE, Phase.SERVER_WAIT).getCount());
+        assertEquals(1, metrics.getLatency(Command.EXECUTE, Phase.DECODE).getCount());
+        assertEquals(20, metrics.getBytesSent());
+        assertEquals(7, metrics.getBytesReceived());
+    }
+
+    @Test
+    public void pipelinedCommands() {
+        DriverMetrics metrics = new DriverMetrics();
+        CommandTimer timer = new CommandTimer(metrics);
+
+        timer.startPipeline();
+        for (int i = 0; i < 3; i++) {
+            timer.startSend();
+            timer.command(Packet.COM_STMT_EXECUTE);
+            timer.endSend(10);
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, timer.beforeRead());
+            timer.afterRead(0, 7);
+            timer.endReceive();
+        }
+        timer.endPipeline();
+
+        // only bytes are recorded, responses cannot be matched with commands
+        for (Phase phase : Phase.values()) {
+            assertEquals(0, metrics.getLatency(Command.EXECUTE, phase).getCount());
+        }
+        assertEquals(30, metrics.getBytesSent());
+        assertEquals(21, metrics.getBytesReceived());
+
+        timer.startSend();
+        timer.command(Packet.COM_QUERY);
+        timer.endSend(10);
+        timer.afterRead(timer.beforeRead(), 5);
+        timer.endReceive();
+        assertEquals(1, metrics.getLatency(Command.QUERY, Phase.SERVER_WAIT).getCount());
+    }
+
+    @Test
+    public void snapshot() {
+        DriverMetrics metrics = new DriverMetrics();
+        metrics.recordLatency(Command.PREPARE, Phase.SEND, 2_000);
+        metrics.recordPoolWait(1_000_000);
+        metrics.recordCache(DriverMetrics.Cache.SERVER_PREPARE, true);
+        metrics.recordCache(DriverMetrics.Cache.SERVER_PREPARE, true);
+        metrics.recordCacheMiss(DriverMetrics.Cache.SERVER_PREPARE);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        Map<String, MetricsSnapshot.Histogram> latencies = snapshot.getLatencies();
+        assertEquals(2, latencies.size());
+        assertEquals(1, latencies.get("prepare.send").getCount());
+        assertEquals(1_000, latencies.get("pool.wait").getPercentileMicros(50));
+        assertEquals(2L, (long) snapshot.getCounters().get("cache.server_prepare.hits"));
+        assertEquals(1L, (long) snapshot.getCounters().get("cache.server_prepare.misses"));
+
+        assertArrayEquals(new String[] { "prepare.send", "pool.wait" }, metrics.getLatencyNames());
+        assertEquals(2, metrics.getCacheHits("server_prepare"));
+        assertEquals(-1, metrics.getCacheHits("unknown"));
+        assertEquals(-1, metrics.getLatencyPercentileMicros("unknown", 50));
+
+        metrics.reset();
+        assertTrue(metrics.snapshot().getLatencies().isEmpty());
+        assertEquals(0, metrics.getCacheHits("server_prepare"));
+    }
+
+    @Test
+    public void exporterThread() throws Exception {
+        DriverMetrics metrics = new DriverMetrics();
+        CountDownLatch exported = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        metrics.startExporter("TEST", new MetricsExporter() {
+            @Override
+            public String type() {
+                return "TEST";
+            }
+
+            @Override
+            public void export(MetricsSnapshot snapshot) {
+                threadName.set(Thread.currentThread().getName());
+                exported.countDown();
+            }
+        }, 1);
+        try {
+            assertTrue(exported.await(5, TimeUnit.SECONDS));
+            // not a thread of shared driver schedulers
+            assertTrue(threadName.get().startsWith("OceanBase-metrics"));
+        } finally {
+            metrics.stopExporters();
+        }
+    }
+
+    @Test
+    public void exporterLoader() throws Exception {
+        assertEquals("LOG", MetricsExporterLoader.get("LOG").type());
+        try {
+            MetricsExporterLoader.get("UNKNOWN");
+            fail("must have thrown exception");
+        } catch (java.sql.SQLException e) {
+            assertTrue(e.getMessage().contains("UNKNOWN"));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util.pool;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConnectionBagTest {
+
+    @Test
+    public void borrowAndRequite() throws Exception {
+        ConnectionBag<String> bag = new ConnectionBag<>();
+        bag.add("a");
+        bag.add("b");
+        Assert.assertEquals(2, bag.idleCount());
+
+        String first = bag.borrow(0, TimeUnit.NANOSECONDS);
+        String second = bag.borrow(0, TimeUnit.NANOSECONDS);
+        Assert.assertFalse(first.equals(second));
+        Assert.assertTrue(bag.isBorrowed(first));
+        Assert.assertNull(bag.borrow(0, TimeUnit.NANOSECONDS));
+        Assert.assertEquals(0, bag.idleCount());
+
+        // connection released by a thread is given back to the same thread first
+        bag.requite(second);
+        bag.requite(first);
+        Assert.assertEquals(first, bag.borrow(0, TimeUnit.NANOSECONDS));
+        Assert.assertEquals(second, bag.borrow(0, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void reserveAndRemove() throws Exception {
+        ConnectionBag<String> bag = new ConnectionBag<>();
+        bag.add("a");
+        Assert.assertTrue(bag.reserve("a"));
+        Assert.assertNull(bag.borrow(0, TimeUnit.NANOSECONDS));
+        bag.unreserve("a");
+
+        Assert.assertEquals("a", bag.borrow(0, TimeUnit.NANOSECONDS));
+        Assert.assertFalse(bag.reserve("a"));
+        Assert.assertFalse(bag.removeIdle("a"));
+        Assert.assertTrue(bag.remove("a"));
+        Assert.assertEquals(0, bag.size());
+
+        // removed item can't be returned
+        bag.requite("a");
+        Assert.assertNull(bag.borrow(0, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void handOffToWaiter() throws Exception {
+        final ConnectionBag<String> bag = new ConnectionBag<>();
+        bag.add("a");
+        Assert.assertEquals("a", bag.borrow(0, TimeUnit.NANOSECONDS));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> waiting = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return bag.borrow(10, TimeUnit.SECONDS);
+                }
+            });
+            while (bag.getWaitingThreads() == 0) {
+                Thread.sleep(1);
+            }
+            bag.requite("a");
+            Assert.assertEquals("a", waiting.get(5, TimeUnit.SECONDS));
+            Assert.assertTrue(bag.isBorrowed("a"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentBorrowers() throws Exception {
+        final ConnectionBag<Integer> bag = new ConnectionBag<>();
+        for (int i = 0; i < 4; i++) {
+            bag.add(i);
+        }
+        final AtomicInteger inUse = new AtomicInteger();
+        final AtomicInteger maxInUse = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            Future<?>[] futures = new Future<?>[16];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        for (int i = 0; i < 2000; i++) {
+                            Integer item = bag.borrow(10, TimeUnit.SECONDS);
+                            Assert.assertNotNull(item);
+                            int current = inUse.incrementAndGet();
+                            maxInUse.accumulateAndGet(current, Math::max);
+                            inUse.decrementAndGet();
+                            bag.requite(item);
+                        }
+                        return null;
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(maxInUse.get() <= 4);
+        Assert.assertEquals(4, bag.idleCount());
+    }
+}
@@ -0,0 +1,273 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.OceanBasePooledConnection;
+import com.oceanbase.jdbc.UrlParser;
+import com.oceanbase.jdbc.internal.protocol.Protocol;
+
+public class PoolTest {
+
+    private static final String         URL            = "jdbc:oceanbase://localhost:3306/test?"
+                                                         + "poolPrefill=true&poolRefillThreads=4"
+                                                         + "&minPoolSize=4&maxPoolSize=8"
+                                                         + "&registerJmxPool=false&connectTimeout=5000";
+
+    private final AtomicInteger         created        = new AtomicInteger();
+    private final Set<String>           connectThreads = Collections
+                                                           .synchronizedSet(new HashSet<String>());
+    private final AtomicInteger         validating     = new AtomicInteger();
+    private volatile int                generation;
+    private volatile CyclicBarrier      connectBarrier;
+    private volatile CountDownLatch     connectLatch;
+    private volatile CountDownLatch     validationLatch;
+    private ScheduledThreadPoolExecutor poolExecutor;
+    private Pool                        pool;
+
+    @Before
+    public void setUp() {
+        poolExecutor = new ScheduledThreadPoolExecutor(1);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (pool != null) {
+            pool.close();
+        }
+        poolExecutor.shutdownNow();
+    }
+
+    /**
+     * Protocol of a stub server connection: it is valid until the server 'generation' changes,
+     * i.e. until the host it was established to is lost.
+     */
+    private Protocol connect(final UrlParser urlParser) throws SQLException {
+        try {
+            if (connectBarrier != null) {
+                connectBarrier.await(5, TimeUnit.SECONDS);
+            }
+            if (connectLatch != null) {
+                connectLatch.await(5, TimeUnit.SECONDS);
+            }
+        } catch (Exception e) {
+            throw new SQLException("connection not established", "08000", e);
+        }
+        created.incrementAndGet();
+        connectThreads.add(Thread.currentThread().getName());
+
+        final int connectionGeneration = generation;
+        final AtomicBoolean closed = new AtomicBoolean();
+        final ReentrantLock lock = new ReentrantLock();
+        return (Protocol) Proxy.newProxyInstance(Protocol.class.getClassLoader(),
+            new Class<?>[] { Protocol.class }, new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    String name = method.getName();
+                    if ("getOptions".equals(name)) {
+                        return urlParser.getOptions();
+                    }
+                    if ("getUrlParser".equals(name)) {
+                        return urlParser;
+                    }
+                    if ("getLock".equals(name)) {
+                        return lock;
+                    }
+                    if ("isClosed".equals(name)) {
+                        return closed.get();
+                    }
+                    if ("closeExplicit".equals(name) || "abort".equals(name)) {
+                        closed.set(true);
+                        return null;
+                    }
+                    if ("isValid".equals(name)) {
+                        validating.incrementAndGet();
+                        if (validationLatch != null) {
+                            validationLatch.await(5, TimeUnit.SECONDS);
+                        }
+                        return connectionGeneration == generation;
+                    }
+                    Class<?> type = method.getReturnType();
+                    if (type == boolean.class) {
+                        return Boolean.FALSE;
+                    }
+                    if (type == int.class) {
+                        return 0;
+                    }
+                    return type == long.class ? 0L : null;
+                }
+            });
+    }
+
+    private Pool createPool() throws SQLException {
+        return new Pool(UrlParser.parse(URL), 0, poolExecutor, new Pool.ProtocolFactory() {
+            @Override
+            public Protocol create(UrlParser urlParser, GlobalStateInfo globalInfo)
+                                                                                   throws SQLException {
+                return connect(urlParser);
+            }
+        });
+    }
+
+    private static void waitFor(Callable<Boolean> condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.call()) {
+            Assert.assertTrue("condition not reached", System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private Callable<Boolean> total(final int expected) {
+        return new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return pool.getTotalConnections() == expected
+                       && pool.getIdleConnections() == expected;
+            }
+        };
+    }
+
+    /** Lose the host of established connections, and report an error on one of them. */
+    private void loseHost() throws SQLException {
+        generation++;
+        OceanBasePooledConnection item = pool.getPooledConnection();
+        item.fireConnectionErrorOccured(new SQLException("connection lost", "08000"));
+    }
+
+    @Test
+    public void prefill() throws Exception {
+        // each connection only completes once the 4 are being established together
+        connectBarrier = new CyclicBarrier(4);
+        pool = createPool();
+
+        Assert.assertEquals(4, pool.getTotalConnections());
+        Assert.assertEquals(4, pool.getIdleConnections());
+        Assert.assertEquals(4, created.get());
+        Assert.assertEquals(4, connectThreads.size());
+    }
+
+    @Test
+    public void validationSweepAfterConnectionError() throws Exception {
+        pool = createPool();
+        connectLatch = new CountDownLatch(1);
+        validationLatch = new CountDownLatch(1);
+        loseHost();
+
+        // the 3 idle connections are validated together, and cannot be borrowed meanwhile
+        waitFor(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return validating.get() == 3;
+            }
+        });
+        Assert.assertEquals(3, pool.getTotalConnections());
+        Assert.assertEquals(0, pool.getIdleConnections());
+
+        validationLatch.countDown();
+        connectLatch.countDown();
+        waitFor(total(4));
+        Assert.assertEquals(8, created.get());
+    }
+
+    @Test
+    public void refillToMinimumInParallel() throws Exception {
+        pool = createPool();
+        // replacements of the 4 lost connections only complete when established together
+        connectBarrier = new CyclicBarrier(4);
+        loseHost();
+
+        waitFor(total(4));
+        Assert.assertEquals(8, created.get());
+        Assert.assertEquals(3, validating.get());
+    }
+
+    @Test
+    public void staggeredLifetime() {
+        long max = TimeUnit.MINUTES.toNanos(30);
+        Assert.assertEquals(max, Pool.staggeredLifetime(max, 0));
+
+        long min = Long.MAX_VALUE;
+        for (int seed = 0; seed < 0x10000; seed += 0x100) {
+            long lifetime = Pool.staggeredLifetime(max, seed);
+            Assert.assertTrue(lifetime <= max);
+            Assert.assertTrue(lifetime > max * 9 / 10);
+            min = Math.min(min, lifetime);
+        }
+        // lifetimes are spread over the 10% window
+        Assert.assertTrue(min < max * 91 / 100);
+        Assert.assertEquals(Pool.staggeredLifetime(max, 0x12345),
+            Pool.staggeredLifetime(max, 0x2345));
+
+        // no overflow on large lifetimes
+        long large = TimeUnit.SECONDS.toNanos(Integer.MAX_VALUE);
+        Assert.assertTrue(Pool.staggeredLifetime(large, 0xffff) > 0);
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.internal.util.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HashedWheelTimerTest {
+
+    private ExecutorService  executor;
+    private HashedWheelTimer timer;
+
+    @Before
+    public void init() {
+        executor = Executors.newSingleThreadExecutor();
+        timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 8, new OceanBaseThreadFactory(
+            "test-wheel"), executor);
+    }
+
+    @After
+    public void release() {
+        timer.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void expire() throws Exception {
+        CountDownLatch latch = new CountDownLatch(2);
+        long start = System.nanoTime();
+        // second timeout needs more than one wheel round
+        timer.newTimeout(latch::countDown, 20, TimeUnit.MILLISECONDS);
+        Future<?> future = timer.newTimeout(latch::countDown, 150, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+        future.get(1, TimeUnit.SECONDS);
+        Assert.assertTrue(future.isDone());
+        Assert.assertFalse(future.isCancelled());
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(timer.newTimeout(counter::incrementAndGet, 50, TimeUnit.MILLISECONDS));
+        }
+        for (Future<?> future : futures) {
+            Assert.assertTrue(future.cancel(true));
+        }
+
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(latch::countDown, 100, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, counter.get());
+        Assert.assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    public void cancelledTimeoutsAreRemovedFromWheel() throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(timer.newTimeout(() -> {}, 1, TimeUnit.HOURS));
+        }
+        // wait for worker to put timeouts in buckets
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (timer.pendingTimeouts() != 100 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(100, timer.pendingTimeouts());
+
+        for (Future<?> future : futures) {
+            future.cancel(false);
+        }
+        while (timer.pendingTimeouts() != 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    public void stop() {
+        timer.stop();
+        try {
+            timer.newTimeout(() -> {}, 1, TimeUnit.SECONDS);
+            Assert.fail("Exception should have thrown");
+        } catch (RejectedExecutionException expected) {
+            // ignore
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ *  OceanBase Client for Java
+ *
+ *  Copyright (c) 2012-2014 Monty Program Ab.
+ *  Copyright (c) 2015-2020 MariaDB Corporation Ab.
+ *  Copyright (c) 2021 OceanBase.
+ *
+ *  This library is free software; you can redistribute it and/or modify it under
+ *  the terms of the GNU Lesser General Public License as published by the Free
+ *  Software Foundation; either version 2.1 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ *  FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ *  for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along
+ *  with this library; if not, write to Monty Program Ab info@montyprogram.com.
+ *
+ *  This particular MariaDB Client for Java file is work
+ *  derived from a Drizzle-JDBC. Drizzle-JDBC file which is covered by subject to
+ *  the following copyright and notice provisions:
+ *
+ *  Copyright (c) 2009-2011, Marcus Eriksson
+ *
+ *  Redistribution and use in source and binary forms, with or without modification,
+ *  are permitted provided that the following conditions are met:
+ *  Redistributions of source code must retain the above copyright notice, this list
+ *  of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice, this
+ *  list of conditions and the following disclaimer in the documentation and/or
+ *  other materials provided with the distribution.
+ *
+ *  Neither the name of the driver nor the names of its contributors may not be
+ *  used to endorse or promote products derived from this software without specific
+ *  prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS  AND CONTRIBUTORS "AS IS"
+ *  AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ *  IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ *  INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *  NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ *  PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ *  WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ *  ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY
+ *  OF SUCH DAMAGE.
+ */
+package com.oceanbase.jdbc.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.zip.Checksum;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.jdbc.internal.io.output.Ob20PacketOutputStream;
+import com.oceanbase.jdbc.internal.protocol.flt.OceanBaseProtocolV20;
+import com.oceanbase.jdbc.internal.util.constant.HaMode;
+
+public class CRC32CProviderTest {
+
+    @Test
+    public void sameValueAsTableImplementation() {
+        Random random = new Random(7);
+        Checksum checksum = CRC32CProvider.newInstance();
+        OceanBaseCRC32C reference = new OceanBaseCRC32C();
+        for (int length : new int[] { 0, 1, 7, 8, 31, 1000, 65537 }) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            checksum.reset();
+            reference.reset();
+
+            // incremental update, in chunks and single bytes
+            int pos = 0;
+            while (pos < length) {
+                int chunk = Math.min(length - pos, 1 + random.nextInt(100));
+                if (chunk == 1) {
+                    checksum.update(data[pos]);
+                } else {
+                    checksum.update(data, pos, chunk);
+                }
+                pos += chunk;
+            }
+            reference.update(data, 0, length);
+            Assert.assertEquals(reference.getValue(), checksum.getValue());
+        }
+    }
+
+    @Test
+    public void jdkAdapter() throws Exception {
+        if (!CRC32CProvider.isJdkCrc32cAvailable()) {
+            return;
+        }
+        Checksum jdk = (Checksum) Class.forName("java.util.zip.CRC32C").getConstructor()
+            .newInstance();
+        Checksum checksum = new CRC32CProvider.JdkCRC32C(jdk);
+        byte[] data = "select 1 from dual".getBytes("UTF-8");
+        checksum.update(data, 0, data.length);
+        OceanBaseCRC32C reference = new OceanBaseCRC32C();
+        reference.update(data, 0, data.length);
+        Assert.assertEquals(reference.getValue(), checksum.getValue());
+    }
+
+    @Test
+    public void ob20TailChecksum() throws Exception {
+        Options options = DefaultOptions.defaultValues(HaMode.NONE);
+        options.enableOb20Checksum = true;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Ob20PacketOutputStream writer = new Ob20PacketOutputStream(out, 1, options,
+            new OceanBaseProtocolV20(false), null);
+        byte[] command = new byte[5000];
+        new Random(3).nextBytes(command);
+        writer.startPacket(0);
+        writer.write(command);
+        writer.flush();
+
+        byte[] packet = out.toByteArray();
+        int payloadLength = OceanBaseProtocolV20.MYSQL_PACKET_HEADER + command.length;
+        Assert.assertEquals(OceanBaseProtocolV20.TOTAL_HEADER_LENGTH + payloadLength
+                            + OceanBaseProtocolV20.OB20_TAIL_LENGTH, packet.length);
+        OceanBaseCRC32C reference = new OceanBaseCRC32C();
+        reference.update(packet, OceanBaseProtocolV20.TOTAL_HEADER_LENGTH, payloadLength);
+        int tailPos = OceanBaseProtocolV20.TOTAL_HEADER_LENGTH + payloadLength;
+        long tail = (packet[tailPos] & 0xff) + ((packet[tailPos + 1] & 0xff) << 8)
+                    + ((packet[tailPos + 2] & 0xff) << 16)
+                    + ((long) (packet[tailPos + 3] & 0xff) << 24);
+        Assert.assertEquals(reference.getValue(), tail);
+    }
+}